@@ -73,6 +73,10 @@ import io.trino.spi.connector.ConnectorTransactionHandle;
 import io.trino.spi.connector.ConnectorViewDefinition;
 import io.trino.spi.connector.Constraint;
 import io.trino.spi.connector.ConstraintApplicationResult;
+import io.trino.spi.connector.JoinApplicationResult;
+import io.trino.spi.connector.JoinCondition;
+import io.trino.spi.connector.JoinStatistics;
+import io.trino.spi.connector.JoinType;
 import io.trino.spi.connector.LimitApplicationResult;
 import io.trino.spi.connector.MaterializedViewFreshness;
 import io.trino.spi.connector.ProjectionApplicationResult;
@@ -1320,6 +1324,43 @@ public final class MetadataManager
                         result.isTopNGuaranteed()));
     }
 
+    @Override
+    public Optional<JoinApplicationResult<TableHandle>> applyJoin(
+            Session session,
+            JoinType joinType,
+            TableHandle left,
+            TableHandle right,
+            List<JoinCondition> joinConditions,
+            Map<String, ColumnHandle> leftAssignments,
+            Map<String, ColumnHandle> rightAssignments,
+            JoinStatistics statistics)
+    {
+        if (!left.getCatalogName().equals(right.getCatalogName())) {
+            return Optional.empty();
+        }
+        CatalogName catalogName = left.getCatalogName();
+        ConnectorMetadata metadata = getMetadata(session, catalogName);
+
+        if (metadata.usesLegacyTableLayouts()) {
+            return Optional.empty();
+        }
+
+        ConnectorSession connectorSession = session.toConnectorSession(catalogName);
+        return metadata.applyJoin(
+                connectorSession,
+                joinType,
+                left.getConnectorHandle(),
+                right.getConnectorHandle(),
+                joinConditions,
+                leftAssignments,
+                rightAssignments,
+                statistics)
+                .map(result -> new JoinApplicationResult<>(
+                        new TableHandle(catalogName, result.getTableHandle(), left.getTransaction(), Optional.empty()),
+                        result.getLeftColumnHandles(),
+                        result.getRightColumnHandles()));
+    }
+
     private void verifyProjection(TableHandle table, List<ConnectorExpression> projections, List<Assignment> assignments, int expectedProjectionSize)
     {
         projections.forEach(projection -> requireNonNull(projection, "one of the projections is null"));
@@ -282,7 +282,9 @@ public class ScanFilterAndProjectOperator
                             yieldSignal,
                             outputMemoryContext,
                             page,
-                            avoidPageMaterialization))
+                            avoidPageMaterialization,
+                            // pages of the page source are not shared
+                            true))
                     .transformProcessor(processor -> mergePages(types, minOutputPageSize.toBytes(), minOutputPageRowCount, processor, localAggregatedMemoryContext))
                     .withProcessStateMonitor(state -> memoryContext.setBytes(localAggregatedMemoryContext.getBytes()));
         }
@@ -25,6 +25,7 @@ import io.trino.spi.Page;
 import io.trino.spi.block.Block;
 import io.trino.spi.block.DictionaryBlock;
 import io.trino.spi.block.DictionaryId;
+import io.trino.spi.block.LazyBlock;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.sql.gen.ExpressionProfiler;
 
@@ -109,6 +110,15 @@ public class PageProcessor
     }
 
     public WorkProcessor<Page> createWorkProcessor(ConnectorSession session, DriverYieldSignal yieldSignal, LocalMemoryContext memoryContext, Page page, boolean avoidPageMaterialization)
+    {
+        return createWorkProcessor(session, yieldSignal, memoryContext, page, avoidPageMaterialization, false);
+    }
+
+    /**
+     * @param loadSelectedPositionsOnly if true, the caller owns the lazy blocks of the page, so
+     * the columns that are not loaded by the filter can be decoded only at the selected positions
+     */
+    public WorkProcessor<Page> createWorkProcessor(ConnectorSession session, DriverYieldSignal yieldSignal, LocalMemoryContext memoryContext, Page page, boolean avoidPageMaterialization, boolean loadSelectedPositionsOnly)
     {
         // limit the scope of the dictionary ids to just one page
         dictionarySourceIdFunction.reset();
@@ -129,6 +139,9 @@ public class PageProcessor
             }
 
             if (selectedPositions.size() != page.getPositionCount()) {
+                if (loadSelectedPositionsOnly && selectedPositions.isList()) {
+                    page = getSelectedPositions(page, selectedPositions);
+                }
                 return WorkProcessor.create(new ProjectSelectedPositions(session, yieldSignal, memoryContext, page, selectedPositions, avoidPageMaterialization));
             }
         }
@@ -136,6 +149,20 @@ public class PageProcessor
         return WorkProcessor.create(new ProjectSelectedPositions(session, yieldSignal, memoryContext, page, positionsRange(0, page.getPositionCount()), avoidPageMaterialization));
     }
 
+    private static Page getSelectedPositions(Page page, SelectedPositions selectedPositions)
+    {
+        Block[] blocks = new Block[page.getChannelCount()];
+        for (int channel = 0; channel < page.getChannelCount(); channel++) {
+            Block block = page.getBlock(channel);
+            if (block instanceof LazyBlock && !block.isLoaded()) {
+                // the projections only read the selected positions
+                block = ((LazyBlock) block).getSelectedPositions(selectedPositions.getPositions(), selectedPositions.getOffset(), selectedPositions.size());
+            }
+            blocks[channel] = block;
+        }
+        return new Page(page.getPositionCount(), blocks);
+    }
+
     private class ProjectSelectedPositions
             implements WorkProcessor.Process<Page>
     {
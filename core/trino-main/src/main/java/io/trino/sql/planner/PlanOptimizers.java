@@ -130,6 +130,7 @@ import io.trino.sql.planner.iterative.rule.PushDownDereferencesThroughSort;
 import io.trino.sql.planner.iterative.rule.PushDownDereferencesThroughTopN;
 import io.trino.sql.planner.iterative.rule.PushDownDereferencesThroughTopNRanking;
 import io.trino.sql.planner.iterative.rule.PushDownDereferencesThroughWindow;
+import io.trino.sql.planner.iterative.rule.PushJoinIntoTableScan;
 import io.trino.sql.planner.iterative.rule.PushLimitIntoTableScan;
 import io.trino.sql.planner.iterative.rule.PushLimitThroughMarkDistinct;
 import io.trino.sql.planner.iterative.rule.PushLimitThroughOffset;
@@ -674,7 +675,19 @@ public class PlanOptimizers
                         ruleStats,
                         statsCalculator,
                         estimatedExchangesCostCalculator,
-                        ImmutableSet.of(new ReorderJoins(metadata, costComparator))));
+                        ImmutableSet.of(new ReorderJoins(metadata, costComparator))),
+                // Join pushdown has to see the final join order, and the resulting table scans
+                // may accept further limits, predicates and aggregations
+                new IterativeOptimizer(
+                        ruleStats,
+                        statsCalculator,
+                        estimatedExchangesCostCalculator,
+                        ImmutableSet.of(
+                                new RemoveRedundantIdentityProjections(),
+                                new PushJoinIntoTableScan(metadata),
+                                new PushLimitIntoTableScan(metadata),
+                                new PushPredicateIntoTableScan(metadata, typeOperators, typeAnalyzer),
+                                new PushAggregationIntoTableScan(metadata))));
 
         builder.add(new OptimizeMixedDistinctAggregations(metadata));
         builder.add(new IterativeOptimizer(
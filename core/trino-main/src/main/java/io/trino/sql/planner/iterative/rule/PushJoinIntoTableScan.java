@@ -0,0 +1,287 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.sql.planner.iterative.rule;
+
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.trino.Session;
+import io.trino.cost.PlanNodeStatsEstimate;
+import io.trino.matching.Capture;
+import io.trino.matching.Captures;
+import io.trino.matching.Pattern;
+import io.trino.metadata.Metadata;
+import io.trino.metadata.TableHandle;
+import io.trino.spi.connector.BasicRelationStatistics;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.JoinApplicationResult;
+import io.trino.spi.connector.JoinCondition;
+import io.trino.spi.connector.JoinStatistics;
+import io.trino.spi.connector.JoinType;
+import io.trino.spi.expression.Variable;
+import io.trino.spi.predicate.Domain;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.sql.planner.Symbol;
+import io.trino.sql.planner.TypeProvider;
+import io.trino.sql.planner.iterative.Rule;
+import io.trino.sql.planner.plan.JoinNode;
+import io.trino.sql.planner.plan.TableScanNode;
+import io.trino.sql.tree.ComparisonExpression;
+import io.trino.sql.tree.Expression;
+import io.trino.sql.tree.SymbolReference;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Verify.verify;
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+import static io.trino.SystemSessionProperties.isAllowPushdownIntoConnectors;
+import static io.trino.matching.Capture.newCapture;
+import static io.trino.sql.ExpressionUtils.extractConjuncts;
+import static io.trino.sql.planner.plan.Patterns.Join.left;
+import static io.trino.sql.planner.plan.Patterns.Join.right;
+import static io.trino.sql.planner.plan.Patterns.join;
+import static io.trino.sql.planner.plan.Patterns.tableScan;
+import static java.lang.Double.isNaN;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Replaces a join of two table scans of the same connector with a single table scan
+ * when the connector is able to perform the join itself.
+ */
+public class PushJoinIntoTableScan
+        implements Rule<JoinNode>
+{
+    private static final Capture<TableScanNode> LEFT_TABLE_SCAN = newCapture();
+    private static final Capture<TableScanNode> RIGHT_TABLE_SCAN = newCapture();
+
+    private static final Pattern<JoinNode> PATTERN = join()
+            .matching(node -> !node.isCrossJoin())
+            // dynamic filters and hash symbols are only added after this rule runs
+            .matching(node -> node.getDynamicFilters().isEmpty())
+            .matching(node -> node.getLeftHashSymbol().isEmpty() && node.getRightHashSymbol().isEmpty())
+            .with(left().matching(tableScan().capturedAs(LEFT_TABLE_SCAN)))
+            .with(right().matching(tableScan().capturedAs(RIGHT_TABLE_SCAN)));
+
+    private final Metadata metadata;
+
+    public PushJoinIntoTableScan(Metadata metadata)
+    {
+        this.metadata = requireNonNull(metadata, "metadata is null");
+    }
+
+    @Override
+    public Pattern<JoinNode> getPattern()
+    {
+        return PATTERN;
+    }
+
+    @Override
+    public boolean isEnabled(Session session)
+    {
+        return isAllowPushdownIntoConnectors(session);
+    }
+
+    @Override
+    public Result apply(JoinNode joinNode, Captures captures, Context context)
+    {
+        TableScanNode left = captures.get(LEFT_TABLE_SCAN);
+        TableScanNode right = captures.get(RIGHT_TABLE_SCAN);
+        TypeProvider types = context.getSymbolAllocator().getTypes();
+        Set<Symbol> leftSymbols = ImmutableSet.copyOf(left.getOutputSymbols());
+        Set<Symbol> rightSymbols = ImmutableSet.copyOf(right.getOutputSymbols());
+
+        ImmutableList.Builder<JoinCondition> joinConditions = ImmutableList.builder();
+        for (JoinNode.EquiJoinClause clause : joinNode.getCriteria()) {
+            joinConditions.add(new JoinCondition(
+                    JoinCondition.Operator.EQUAL,
+                    new Variable(clause.getLeft().getName(), types.get(clause.getLeft())),
+                    new Variable(clause.getRight().getName(), types.get(clause.getRight()))));
+        }
+        if (joinNode.getFilter().isPresent()) {
+            for (Expression conjunct : extractConjuncts(joinNode.getFilter().get())) {
+                Optional<JoinCondition> joinCondition = toJoinCondition(conjunct, leftSymbols, rightSymbols, types);
+                if (joinCondition.isEmpty()) {
+                    return Result.empty();
+                }
+                joinConditions.add(joinCondition.get());
+            }
+        }
+
+        Map<String, ColumnHandle> leftAssignments = toNameAssignments(left);
+        Map<String, ColumnHandle> rightAssignments = toNameAssignments(right);
+        JoinStatistics statistics = new LazyJoinStatistics(joinNode, left, right, context);
+
+        Optional<JoinApplicationResult<TableHandle>> result = metadata.applyJoin(
+                context.getSession(),
+                getJoinType(joinNode),
+                left.getTable(),
+                right.getTable(),
+                joinConditions.build(),
+                leftAssignments,
+                rightAssignments,
+                statistics);
+        if (result.isEmpty()) {
+            return Result.empty();
+        }
+
+        Map<ColumnHandle, ColumnHandle> leftColumnHandles = result.get().getLeftColumnHandles();
+        Map<ColumnHandle, ColumnHandle> rightColumnHandles = result.get().getRightColumnHandles();
+
+        ImmutableMap.Builder<Symbol, ColumnHandle> assignments = ImmutableMap.builder();
+        for (Symbol symbol : joinNode.getLeftOutputSymbols()) {
+            assignments.put(symbol, mapColumn(leftColumnHandles, left.getAssignments().get(symbol)));
+        }
+        for (Symbol symbol : joinNode.getRightOutputSymbols()) {
+            assignments.put(symbol, mapColumn(rightColumnHandles, right.getAssignments().get(symbol)));
+        }
+
+        TupleDomain<ColumnHandle> leftConstraint = deriveConstraint(
+                left.getEnforcedConstraint(),
+                leftColumnHandles,
+                joinNode.getType() == JoinNode.Type.RIGHT || joinNode.getType() == JoinNode.Type.FULL);
+        TupleDomain<ColumnHandle> rightConstraint = deriveConstraint(
+                right.getEnforcedConstraint(),
+                rightColumnHandles,
+                joinNode.getType() == JoinNode.Type.LEFT || joinNode.getType() == JoinNode.Type.FULL);
+
+        return Result.ofPlanNode(new TableScanNode(
+                joinNode.getId(),
+                result.get().getTableHandle(),
+                joinNode.getOutputSymbols(),
+                assignments.build(),
+                leftConstraint.intersect(rightConstraint),
+                false));
+    }
+
+    private static Optional<JoinCondition> toJoinCondition(Expression conjunct, Set<Symbol> leftSymbols, Set<Symbol> rightSymbols, TypeProvider types)
+    {
+        if (!(conjunct instanceof ComparisonExpression)) {
+            return Optional.empty();
+        }
+        ComparisonExpression comparison = (ComparisonExpression) conjunct;
+        if (!(comparison.getLeft() instanceof SymbolReference) || !(comparison.getRight() instanceof SymbolReference)) {
+            return Optional.empty();
+        }
+        Symbol first = Symbol.from(comparison.getLeft());
+        Symbol second = Symbol.from(comparison.getRight());
+        ComparisonExpression.Operator operator = comparison.getOperator();
+        if (rightSymbols.contains(first) && leftSymbols.contains(second)) {
+            Symbol swap = first;
+            first = second;
+            second = swap;
+            operator = operator.flip();
+        }
+        if (!leftSymbols.contains(first) || !rightSymbols.contains(second)) {
+            return Optional.empty();
+        }
+        return Optional.of(new JoinCondition(
+                JoinCondition.Operator.valueOf(operator.name()),
+                new Variable(first.getName(), types.get(first)),
+                new Variable(second.getName(), types.get(second))));
+    }
+
+    private static Map<String, ColumnHandle> toNameAssignments(TableScanNode tableScan)
+    {
+        return tableScan.getAssignments().entrySet().stream()
+                .collect(toImmutableMap(entry -> entry.getKey().getName(), Map.Entry::getValue));
+    }
+
+    private static ColumnHandle mapColumn(Map<ColumnHandle, ColumnHandle> mapping, ColumnHandle column)
+    {
+        ColumnHandle mapped = mapping.get(column);
+        verify(mapped != null, "Connector did not map column %s of the joined table", column);
+        return mapped;
+    }
+
+    private static TupleDomain<ColumnHandle> deriveConstraint(TupleDomain<ColumnHandle> constraint, Map<ColumnHandle, ColumnHandle> mapping, boolean nullable)
+    {
+        if (constraint.isNone()) {
+            // the side produces no rows; leave it to other rules
+            return TupleDomain.all();
+        }
+        TupleDomain<ColumnHandle> mapped = constraint
+                .filter((column, domain) -> mapping.containsKey(column))
+                .transform(mapping::get);
+        if (nullable) {
+            return mapped.transformDomains((column, domain) -> domain.union(Domain.onlyNull(domain.getType())));
+        }
+        return mapped;
+    }
+
+    private static JoinType getJoinType(JoinNode joinNode)
+    {
+        switch (joinNode.getType()) {
+            case INNER:
+                return JoinType.INNER;
+            case LEFT:
+                return JoinType.LEFT_OUTER;
+            case RIGHT:
+                return JoinType.RIGHT_OUTER;
+            case FULL:
+                return JoinType.FULL_OUTER;
+        }
+        throw new IllegalArgumentException("Unknown join type: " + joinNode.getType());
+    }
+
+    private static class LazyJoinStatistics
+            implements JoinStatistics
+    {
+        private final Supplier<Optional<BasicRelationStatistics>> leftStatistics;
+        private final Supplier<Optional<BasicRelationStatistics>> rightStatistics;
+        private final Supplier<Optional<BasicRelationStatistics>> joinStatistics;
+
+        public LazyJoinStatistics(JoinNode joinNode, TableScanNode left, TableScanNode right, Context context)
+        {
+            TypeProvider types = context.getSymbolAllocator().getTypes();
+            this.leftStatistics = Suppliers.memoize(() -> toBasicRelationStatistics(context.getStatsProvider().getStats(left), left.getOutputSymbols(), types));
+            this.rightStatistics = Suppliers.memoize(() -> toBasicRelationStatistics(context.getStatsProvider().getStats(right), right.getOutputSymbols(), types));
+            this.joinStatistics = Suppliers.memoize(() -> toBasicRelationStatistics(context.getStatsProvider().getStats(joinNode), joinNode.getOutputSymbols(), types));
+        }
+
+        @Override
+        public Optional<BasicRelationStatistics> getLeftStatistics()
+        {
+            return leftStatistics.get();
+        }
+
+        @Override
+        public Optional<BasicRelationStatistics> getRightStatistics()
+        {
+            return rightStatistics.get();
+        }
+
+        @Override
+        public Optional<BasicRelationStatistics> getJoinStatistics()
+        {
+            return joinStatistics.get();
+        }
+
+        private static Optional<BasicRelationStatistics> toBasicRelationStatistics(PlanNodeStatsEstimate stats, List<Symbol> symbols, TypeProvider types)
+        {
+            if (stats.isOutputRowCountUnknown()) {
+                return Optional.empty();
+            }
+            double outputSize = stats.getOutputSizeInBytes(symbols, types);
+            if (isNaN(outputSize)) {
+                return Optional.empty();
+            }
+            return Optional.of(new BasicRelationStatistics((long) stats.getOutputRowCount(), (long) outputSize));
+        }
+    }
+}
@@ -33,6 +33,10 @@ import io.trino.spi.connector.ConnectorTransactionHandle;
 import io.trino.spi.connector.ConnectorViewDefinition;
 import io.trino.spi.connector.Constraint;
 import io.trino.spi.connector.ConstraintApplicationResult;
+import io.trino.spi.connector.JoinApplicationResult;
+import io.trino.spi.connector.JoinCondition;
+import io.trino.spi.connector.JoinStatistics;
+import io.trino.spi.connector.JoinType;
 import io.trino.spi.connector.ProjectionApplicationResult;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.connector.SchemaTablePrefix;
@@ -70,6 +74,7 @@ public class MockConnector
     private final MockConnectorFactory.ApplyProjection applyProjection;
     private final MockConnectorFactory.ApplyAggregation applyAggregation;
     private final MockConnectorFactory.ApplyTopN applyTopN;
+    private final MockConnectorFactory.ApplyJoin applyJoin;
     private final MockConnectorFactory.ApplyFilter applyFilter;
     private final MockConnectorFactory.ApplyTableScanRedirect applyTableScanRedirect;
     private final BiFunction<ConnectorSession, SchemaTableName, Optional<ConnectorNewTableLayout>> getInsertLayout;
@@ -87,6 +92,7 @@ public class MockConnector
             MockConnectorFactory.ApplyProjection applyProjection,
             MockConnectorFactory.ApplyAggregation applyAggregation,
             MockConnectorFactory.ApplyTopN applyTopN,
+            MockConnectorFactory.ApplyJoin applyJoin,
             MockConnectorFactory.ApplyFilter applyFilter,
             MockConnectorFactory.ApplyTableScanRedirect applyTableScanRedirect,
             BiFunction<ConnectorSession, SchemaTableName, Optional<ConnectorNewTableLayout>> getInsertLayout,
@@ -103,6 +109,7 @@ public class MockConnector
         this.applyProjection = requireNonNull(applyProjection, "applyProjection is null");
         this.applyAggregation = requireNonNull(applyAggregation, "applyAggregation is null");
         this.applyTopN = requireNonNull(applyTopN, "applyTopN is null");
+        this.applyJoin = requireNonNull(applyJoin, "applyJoin is null");
         this.applyFilter = requireNonNull(applyFilter, "applyFilter is null");
         this.applyTableScanRedirect = requireNonNull(applyTableScanRedirect, "applyTableScanRedirection is null");
         this.getInsertLayout = requireNonNull(getInsertLayout, "getInsertLayout is null");
@@ -183,6 +190,20 @@ public class MockConnector
             return applyTopN.apply(session, handle, topNCount, sortItems, assignments);
         }
 
+        @Override
+        public Optional<JoinApplicationResult<ConnectorTableHandle>> applyJoin(
+                ConnectorSession session,
+                JoinType joinType,
+                ConnectorTableHandle left,
+                ConnectorTableHandle right,
+                List<JoinCondition> joinConditions,
+                Map<String, ColumnHandle> leftAssignments,
+                Map<String, ColumnHandle> rightAssignments,
+                JoinStatistics statistics)
+        {
+            return applyJoin.apply(session, joinType, left, right, joinConditions, leftAssignments, rightAssignments, statistics);
+        }
+
         @Override
         public Optional<ConstraintApplicationResult<ConnectorTableHandle>> applyFilter(ConnectorSession session, ConnectorTableHandle handle, Constraint constraint)
         {
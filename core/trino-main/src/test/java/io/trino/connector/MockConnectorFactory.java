@@ -31,6 +31,10 @@ import io.trino.spi.connector.ConnectorTableMetadata;
 import io.trino.spi.connector.ConnectorViewDefinition;
 import io.trino.spi.connector.Constraint;
 import io.trino.spi.connector.ConstraintApplicationResult;
+import io.trino.spi.connector.JoinApplicationResult;
+import io.trino.spi.connector.JoinCondition;
+import io.trino.spi.connector.JoinStatistics;
+import io.trino.spi.connector.JoinType;
 import io.trino.spi.connector.ProjectionApplicationResult;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.connector.SchemaTablePrefix;
@@ -66,6 +70,7 @@ public class MockConnectorFactory
     private final ApplyProjection applyProjection;
     private final ApplyAggregation applyAggregation;
     private final ApplyTopN applyTopN;
+    private final ApplyJoin applyJoin;
     private final ApplyFilter applyFilter;
     private final ApplyTableScanRedirect applyTableScanRedirect;
     private final BiFunction<ConnectorSession, SchemaTableName, Optional<ConnectorNewTableLayout>> getInsertLayout;
@@ -83,6 +88,7 @@ public class MockConnectorFactory
             ApplyProjection applyProjection,
             ApplyAggregation applyAggregation,
             ApplyTopN applyTopN,
+            ApplyJoin applyJoin,
             ApplyFilter applyFilter,
             ApplyTableScanRedirect applyTableScanRedirect,
             BiFunction<ConnectorSession, SchemaTableName, Optional<ConnectorNewTableLayout>> getInsertLayout,
@@ -99,6 +105,7 @@ public class MockConnectorFactory
         this.applyProjection = requireNonNull(applyProjection, "applyProjection is null");
         this.applyAggregation = requireNonNull(applyAggregation, "applyAggregation is null");
         this.applyTopN = requireNonNull(applyTopN, "applyTopN is null");
+        this.applyJoin = requireNonNull(applyJoin, "applyJoin is null");
         this.applyFilter = requireNonNull(applyFilter, "applyFilter is null");
         this.applyTableScanRedirect = requireNonNull(applyTableScanRedirect, "applyTableScanRedirection is null");
         this.getInsertLayout = requireNonNull(getInsertLayout, "getInsertLayout is null");
@@ -132,6 +139,7 @@ public class MockConnectorFactory
                 applyProjection,
                 applyAggregation,
                 applyTopN,
+                applyJoin,
                 applyFilter,
                 applyTableScanRedirect,
                 getInsertLayout,
@@ -178,6 +186,20 @@ public class MockConnectorFactory
                 Map<String, ColumnHandle> assignments);
     }
 
+    @FunctionalInterface
+    public interface ApplyJoin
+    {
+        Optional<JoinApplicationResult<ConnectorTableHandle>> apply(
+                ConnectorSession session,
+                JoinType joinType,
+                ConnectorTableHandle left,
+                ConnectorTableHandle right,
+                List<JoinCondition> joinConditions,
+                Map<String, ColumnHandle> leftAssignments,
+                Map<String, ColumnHandle> rightAssignments,
+                JoinStatistics statistics);
+    }
+
     @FunctionalInterface
     public interface ApplyFilter
     {
@@ -210,6 +232,7 @@ public class MockConnectorFactory
         private Supplier<Iterable<EventListener>> eventListeners = ImmutableList::of;
         private ListRoleGrants roleGrants = defaultRoleAuthorizations();
         private ApplyTopN applyTopN = (session, handle, topNCount, sortItems, assignments) -> Optional.empty();
+        private ApplyJoin applyJoin = (session, joinType, left, right, joinConditions, leftAssignments, rightAssignments, statistics) -> Optional.empty();
         private Grants<String> schemaGrants = new AllowAllGrants<>();
         private Grants<SchemaTableName> tableGrants = new AllowAllGrants<>();
         private ApplyFilter applyFilter = (session, handle, constraint) -> Optional.empty();
@@ -269,6 +292,12 @@ public class MockConnectorFactory
             return this;
         }
 
+        public Builder withApplyJoin(ApplyJoin applyJoin)
+        {
+            this.applyJoin = applyJoin;
+            return this;
+        }
+
         public Builder withApplyFilter(ApplyFilter applyFilter)
         {
             this.applyFilter = applyFilter;
@@ -332,6 +361,7 @@ public class MockConnectorFactory
                     applyProjection,
                     applyAggregation,
                     applyTopN,
+                    applyJoin,
                     applyFilter,
                     applyTableScanRedirect,
                     getInsertLayout,
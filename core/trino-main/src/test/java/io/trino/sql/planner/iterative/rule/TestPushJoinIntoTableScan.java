@@ -0,0 +1,190 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.sql.planner.iterative.rule;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.trino.Session;
+import io.trino.connector.CatalogName;
+import io.trino.connector.MockConnectorFactory;
+import io.trino.connector.MockConnectorTableHandle;
+import io.trino.metadata.TableHandle;
+import io.trino.plugin.tpch.TpchColumnHandle;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.ColumnMetadata;
+import io.trino.spi.connector.ConnectorTableHandle;
+import io.trino.spi.connector.ConnectorTransactionHandle;
+import io.trino.spi.connector.JoinApplicationResult;
+import io.trino.spi.connector.JoinCondition;
+import io.trino.spi.connector.JoinType;
+import io.trino.spi.connector.SchemaTableName;
+import io.trino.spi.expression.Variable;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.sql.planner.Symbol;
+import io.trino.sql.planner.iterative.rule.test.RuleTester;
+import io.trino.sql.planner.plan.JoinNode;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Predicates.equalTo;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.sql.planner.assertions.PlanMatchPattern.tableScan;
+import static io.trino.sql.planner.iterative.rule.test.PlanBuilder.expression;
+import static io.trino.sql.planner.iterative.rule.test.RuleTester.defaultRuleTester;
+import static io.trino.testing.TestingSession.testSessionBuilder;
+import static org.testng.Assert.assertEquals;
+
+public class TestPushJoinIntoTableScan
+{
+    private static final String MOCK_CATALOG = "mock_catalog";
+    private static final String TEST_SCHEMA = "test_schema";
+    private static final SchemaTableName LEFT_TABLE = new SchemaTableName(TEST_SCHEMA, "left_table");
+    private static final SchemaTableName RIGHT_TABLE = new SchemaTableName(TEST_SCHEMA, "right_table");
+
+    private static final TableHandle LEFT_TABLE_HANDLE = createTableHandle(new MockConnectorTableHandle(LEFT_TABLE));
+    private static final TableHandle RIGHT_TABLE_HANDLE = createTableHandle(new MockConnectorTableHandle(RIGHT_TABLE));
+    private static final ConnectorTableHandle JOINED_TABLE_HANDLE = new MockConnectorTableHandle(new SchemaTableName(TEST_SCHEMA, "joined_table"));
+
+    private static final Session MOCK_SESSION = testSessionBuilder().setCatalog(MOCK_CATALOG).setSchema(TEST_SCHEMA).build();
+
+    private static final ColumnHandle LEFT_KEY = new TpchColumnHandle("left_key", BIGINT);
+    private static final ColumnHandle LEFT_VALUE = new TpchColumnHandle("left_value", BIGINT);
+    private static final ColumnHandle RIGHT_KEY = new TpchColumnHandle("right_key", BIGINT);
+    private static final ColumnHandle RIGHT_VALUE = new TpchColumnHandle("right_value", BIGINT);
+
+    private static final ColumnHandle JOINED_LEFT_KEY = new TpchColumnHandle("joined_left_key", BIGINT);
+    private static final ColumnHandle JOINED_LEFT_VALUE = new TpchColumnHandle("joined_left_value", BIGINT);
+    private static final ColumnHandle JOINED_RIGHT_KEY = new TpchColumnHandle("joined_right_key", BIGINT);
+    private static final ColumnHandle JOINED_RIGHT_VALUE = new TpchColumnHandle("joined_right_value", BIGINT);
+
+    private static final MockConnectorFactory.ApplyJoin APPLY_JOIN =
+            (session, joinType, left, right, joinConditions, leftAssignments, rightAssignments, statistics) -> Optional.of(new JoinApplicationResult<>(
+                    JOINED_TABLE_HANDLE,
+                    ImmutableMap.of(LEFT_KEY, JOINED_LEFT_KEY, LEFT_VALUE, JOINED_LEFT_VALUE),
+                    ImmutableMap.of(RIGHT_KEY, JOINED_RIGHT_KEY, RIGHT_VALUE, JOINED_RIGHT_VALUE)));
+
+    private static TableHandle createTableHandle(ConnectorTableHandle tableHandle)
+    {
+        return new TableHandle(
+                new CatalogName(MOCK_CATALOG),
+                tableHandle,
+                new ConnectorTransactionHandle() {},
+                Optional.empty());
+    }
+
+    @Test
+    public void testPushJoinIntoTableScan()
+    {
+        try (RuleTester ruleTester = defaultRuleTester()) {
+            AtomicReference<JoinType> pushedJoinType = new AtomicReference<>();
+            AtomicReference<List<JoinCondition>> pushedConditions = new AtomicReference<>();
+            MockConnectorFactory.ApplyJoin applyJoin = (session, joinType, left, right, joinConditions, leftAssignments, rightAssignments, statistics) -> {
+                pushedJoinType.set(joinType);
+                pushedConditions.set(joinConditions);
+                return APPLY_JOIN.apply(session, joinType, left, right, joinConditions, leftAssignments, rightAssignments, statistics);
+            };
+            ruleTester.getQueryRunner().createCatalog(MOCK_CATALOG, createMockFactory(applyJoin), ImmutableMap.of());
+
+            ruleTester.assertThat(new PushJoinIntoTableScan(ruleTester.getMetadata()))
+                    .on(p -> {
+                        Symbol leftKey = p.symbol("left_key", BIGINT);
+                        Symbol leftValue = p.symbol("left_value", BIGINT);
+                        Symbol rightKey = p.symbol("right_key", BIGINT);
+                        Symbol rightValue = p.symbol("right_value", BIGINT);
+                        return p.join(
+                                JoinNode.Type.LEFT,
+                                p.tableScan(LEFT_TABLE_HANDLE, ImmutableList.of(leftKey, leftValue), ImmutableMap.of(leftKey, LEFT_KEY, leftValue, LEFT_VALUE)),
+                                p.tableScan(RIGHT_TABLE_HANDLE, ImmutableList.of(rightKey, rightValue), ImmutableMap.of(rightKey, RIGHT_KEY, rightValue, RIGHT_VALUE)),
+                                expression("right_value < left_value"),
+                                new JoinNode.EquiJoinClause(leftKey, rightKey));
+                    })
+                    .withSession(MOCK_SESSION)
+                    .matches(
+                            tableScan(
+                                    equalTo(JOINED_TABLE_HANDLE),
+                                    TupleDomain.all(),
+                                    ImmutableMap.of(
+                                            "left_key", equalTo(JOINED_LEFT_KEY),
+                                            "left_value", equalTo(JOINED_LEFT_VALUE),
+                                            "right_key", equalTo(JOINED_RIGHT_KEY),
+                                            "right_value", equalTo(JOINED_RIGHT_VALUE))));
+
+            assertEquals(pushedJoinType.get(), JoinType.LEFT_OUTER);
+            assertEquals(pushedConditions.get(), ImmutableList.of(
+                    new JoinCondition(JoinCondition.Operator.EQUAL, new Variable("left_key", BIGINT), new Variable("right_key", BIGINT)),
+                    new JoinCondition(JoinCondition.Operator.GREATER_THAN, new Variable("left_value", BIGINT), new Variable("right_value", BIGINT))));
+        }
+    }
+
+    @Test
+    public void testDoesNotFireForUnsupportedFilter()
+    {
+        try (RuleTester ruleTester = defaultRuleTester()) {
+            ruleTester.getQueryRunner().createCatalog(MOCK_CATALOG, createMockFactory(APPLY_JOIN), ImmutableMap.of());
+
+            ruleTester.assertThat(new PushJoinIntoTableScan(ruleTester.getMetadata()))
+                    .on(p -> {
+                        Symbol leftKey = p.symbol("left_key", BIGINT);
+                        Symbol leftValue = p.symbol("left_value", BIGINT);
+                        Symbol rightKey = p.symbol("right_key", BIGINT);
+                        Symbol rightValue = p.symbol("right_value", BIGINT);
+                        return p.join(
+                                JoinNode.Type.INNER,
+                                p.tableScan(LEFT_TABLE_HANDLE, ImmutableList.of(leftKey, leftValue), ImmutableMap.of(leftKey, LEFT_KEY, leftValue, LEFT_VALUE)),
+                                p.tableScan(RIGHT_TABLE_HANDLE, ImmutableList.of(rightKey, rightValue), ImmutableMap.of(rightKey, RIGHT_KEY, rightValue, RIGHT_VALUE)),
+                                expression("left_value + right_value > BIGINT '5'"),
+                                new JoinNode.EquiJoinClause(leftKey, rightKey));
+                    })
+                    .withSession(MOCK_SESSION)
+                    .doesNotFire();
+        }
+    }
+
+    @Test
+    public void testDoesNotFireWhenConnectorDeclines()
+    {
+        try (RuleTester ruleTester = defaultRuleTester()) {
+            MockConnectorFactory.ApplyJoin applyJoin = (session, joinType, left, right, joinConditions, leftAssignments, rightAssignments, statistics) -> Optional.empty();
+            ruleTester.getQueryRunner().createCatalog(MOCK_CATALOG, createMockFactory(applyJoin), ImmutableMap.of());
+
+            ruleTester.assertThat(new PushJoinIntoTableScan(ruleTester.getMetadata()))
+                    .on(p -> {
+                        Symbol leftKey = p.symbol("left_key", BIGINT);
+                        Symbol rightKey = p.symbol("right_key", BIGINT);
+                        return p.join(
+                                JoinNode.Type.INNER,
+                                p.tableScan(LEFT_TABLE_HANDLE, ImmutableList.of(leftKey), ImmutableMap.of(leftKey, LEFT_KEY)),
+                                p.tableScan(RIGHT_TABLE_HANDLE, ImmutableList.of(rightKey), ImmutableMap.of(rightKey, RIGHT_KEY)),
+                                new JoinNode.EquiJoinClause(leftKey, rightKey));
+                    })
+                    .withSession(MOCK_SESSION)
+                    .doesNotFire();
+        }
+    }
+
+    private static MockConnectorFactory createMockFactory(MockConnectorFactory.ApplyJoin applyJoin)
+    {
+        return MockConnectorFactory.builder()
+                .withListSchemaNames(connectorSession -> ImmutableList.of(TEST_SCHEMA))
+                .withListTables((connectorSession, schema) -> TEST_SCHEMA.equals(schema) ? ImmutableList.of(LEFT_TABLE, RIGHT_TABLE) : ImmutableList.of())
+                .withGetColumns(schemaTableName -> schemaTableName.equals(LEFT_TABLE)
+                        ? ImmutableList.of(new ColumnMetadata("left_key", BIGINT), new ColumnMetadata("left_value", BIGINT))
+                        : ImmutableList.of(new ColumnMetadata("right_key", BIGINT), new ColumnMetadata("right_value", BIGINT)))
+                .withApplyJoin(applyJoin)
+                .build();
+    }
+}
@@ -380,6 +380,17 @@ public class QueryAssertions
          * when pushdown capabilities are improved.
          */
         public QueryAssert isNotFullyPushedDown(Class<? extends PlanNode> retainedNode)
+        {
+            return isNotFullyPushedDown(
+                    PlanMatchPattern.node(retainedNode,
+                            PlanMatchPattern.node(TableScanNode.class)));
+        }
+
+        /**
+         * Verifies query is not fully pushed down and that the plan contains the given subplan, and verifies
+         * the results are the same as when the pushdown is fully disabled.
+         */
+        public QueryAssert isNotFullyPushedDown(PlanMatchPattern retainedSubplan)
         {
             // Compare the results with pushdown disabled, so that explicit matches() call is not needed
             verifyResultsWithPushdownDisabled();
@@ -392,9 +403,7 @@ public class QueryAssertions
                                 runner.getMetadata(),
                                 (node, sourceStats, lookup, ignore, types) -> PlanNodeStatsEstimate.unknown(),
                                 plan,
-                                PlanMatchPattern.anyTree(
-                                        PlanMatchPattern.node(retainedNode,
-                                                PlanMatchPattern.node(TableScanNode.class))));
+                                PlanMatchPattern.anyTree(retainedSubplan));
                     });
 
             return this;
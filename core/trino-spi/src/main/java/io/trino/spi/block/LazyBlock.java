@@ -276,6 +276,24 @@ public class LazyBlock
         return lazyData.getFullyLoadedBlock();
     }
 
+    /**
+     * Returns a lazy block where only the values at the selected positions are guaranteed to
+     * match this block, and the values at the other positions are unspecified.  If this block is
+     * not loaded yet and its loader is a {@link SelectiveLazyBlockLoader}, loading the returned
+     * block decodes only the selected positions, and this block is loaded with the same values.
+     * Therefore, the caller must own this block, and must not read the other positions from it.
+     *
+     * @param positions the selected positions, in increasing order
+     */
+    public Block getSelectedPositions(int[] positions, int offset, int length)
+    {
+        checkArrayRange(positions, offset, length);
+        if (!lazyData.isSelective()) {
+            return this;
+        }
+        return new LazyBlock(positionCount, new SelectedPositionsLazyBlockLoader(lazyData, positions, offset, length));
+    }
+
     public static void listenForLoads(Block block, Consumer<Block> listener)
     {
         requireNonNull(block, "block is null");
@@ -328,6 +346,29 @@ public class LazyBlock
         }
     }
 
+    private static class SelectedPositionsLazyBlockLoader
+            implements LazyBlockLoader
+    {
+        private final LazyData delegate;
+        private final int[] positions;
+        private final int offset;
+        private final int length;
+
+        public SelectedPositionsLazyBlockLoader(LazyData delegate, int[] positions, int offset, int length)
+        {
+            this.delegate = requireNonNull(delegate, "delegate is null");
+            this.positions = requireNonNull(positions, "positions is null");
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public Block load()
+        {
+            return delegate.getSelectedPositionsBlock(positions, offset, length);
+        }
+    }
+
     private static class LazyData
     {
         private final int positionsCount;
@@ -361,6 +402,20 @@ public class LazyBlock
             return block;
         }
 
+        public boolean isSelective()
+        {
+            return loader instanceof SelectiveLazyBlockLoader;
+        }
+
+        public Block getSelectedPositionsBlock(int[] positions, int offset, int length)
+        {
+            if (isSelective()) {
+                SelectiveLazyBlockLoader selectiveLoader = (SelectiveLazyBlockLoader) loader;
+                load(() -> selectiveLoader.load(positions, offset, length), false);
+            }
+            return getBlock();
+        }
+
         private void addListeners(List<Consumer<Block>> listeners)
         {
             if (isLoaded()) {
@@ -377,8 +432,12 @@ public class LazyBlock
             if (loader == null) {
                 return;
             }
+            load(loader, recursive);
+        }
 
-            block = requireNonNull(loader.load(), "loader returned null");
+        private void load(LazyBlockLoader blockLoader, boolean recursive)
+        {
+            block = requireNonNull(blockLoader.load(), "loader returned null");
             if (block.getPositionCount() != positionsCount) {
                 throw new IllegalStateException(format("Loaded block positions count (%s) doesn't match lazy block positions count (%s)", block.getPositionCount(), positionsCount));
             }
@@ -0,0 +1,32 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.spi.block;
+
+/**
+ * A {@link LazyBlockLoader} that can skip decoding the values at positions that are
+ * not needed, typically because they were removed by a filter.
+ */
+public interface SelectiveLazyBlockLoader
+        extends LazyBlockLoader
+{
+    /**
+     * Loads a lazy block where only the values at the selected positions need to be decoded.
+     * The returned block has the same position count as the block returned from {@link #load()},
+     * and the values at the selected positions are the same.  The values at the other positions
+     * are unspecified.
+     *
+     * @param positions the selected positions, in increasing order
+     */
+    Block load(int[] positions, int offset, int length);
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.spi.connector;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+public final class BasicRelationStatistics
+{
+    private final long rowCount;
+    private final long outputSizeInBytes;
+
+    public BasicRelationStatistics(long rowCount, long outputSizeInBytes)
+    {
+        this.rowCount = rowCount;
+        this.outputSizeInBytes = outputSizeInBytes;
+    }
+
+    public long getRowCount()
+    {
+        return rowCount;
+    }
+
+    public long getOutputSizeInBytes()
+    {
+        return outputSizeInBytes;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BasicRelationStatistics that = (BasicRelationStatistics) o;
+        return rowCount == that.rowCount &&
+                outputSizeInBytes == that.outputSizeInBytes;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(rowCount, outputSizeInBytes);
+    }
+
+    @Override
+    public String toString()
+    {
+        return new StringJoiner(", ", BasicRelationStatistics.class.getSimpleName() + "[", "]")
+                .add("rowCount=" + rowCount)
+                .add("outputSizeInBytes=" + outputSizeInBytes)
+                .toString();
+    }
+}
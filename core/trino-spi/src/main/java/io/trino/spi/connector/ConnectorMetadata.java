@@ -1010,6 +1010,31 @@ public interface ConnectorMetadata
         return Optional.empty();
     }
 
+    /**
+     * Attempt to push down the join of two tables of this connector into a single table scan.
+     * <p>
+     * The {@code joinConditions} are expressed over {@link Variable}s whose names are the keys of
+     * {@code leftAssignments} and {@code rightAssignments} respectively. All conditions are conjuncts
+     * and have to be satisfied for a pair of rows to be joined.
+     * <p>
+     * On success, the result maps the column handles of both sides to the column handles of the returned
+     * table handle. Connectors should return {@link Optional#empty()} if the join cannot be pushed down,
+     * e.g. because the remote system does not support the join type or estimates in {@code statistics}
+     * suggest the pushdown would not pay off.
+     */
+    default Optional<JoinApplicationResult<ConnectorTableHandle>> applyJoin(
+            ConnectorSession session,
+            JoinType joinType,
+            ConnectorTableHandle left,
+            ConnectorTableHandle right,
+            List<JoinCondition> joinConditions,
+            Map<String, ColumnHandle> leftAssignments,
+            Map<String, ColumnHandle> rightAssignments,
+            JoinStatistics statistics)
+    {
+        return Optional.empty();
+    }
+
     /**
      * Allows the connector to reject the table scan produced by the planner.
      * <p>
@@ -22,6 +22,8 @@ import java.util.Optional;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 public class TestLazyBlock
 {
@@ -50,6 +52,51 @@ public class TestLazyBlock
         assertNotificationsRecursive(5, lazyBlock, actualNotifications, expectedNotifications);
     }
 
+    @Test
+    public void testSelectedPositions()
+    {
+        List<Block> notifications = new ArrayList<>();
+        LazyBlock lazyBlock = new LazyBlock(4, new SelectiveLazyBlockLoader()
+        {
+            @Override
+            public Block load()
+            {
+                throw new AssertionError("all positions loaded");
+            }
+
+            @Override
+            public Block load(int[] positions, int offset, int length)
+            {
+                assertEquals(offset, 1);
+                assertEquals(length, 2);
+                int[] values = new int[4];
+                for (int i = offset; i < offset + length; i++) {
+                    values[positions[i]] = positions[i] + 10;
+                }
+                return new IntArrayBlock(4, Optional.empty(), values);
+            }
+        });
+        LazyBlock.listenForLoads(lazyBlock, notifications::add);
+
+        Block selectedBlock = lazyBlock.getSelectedPositions(new int[] {0, 1, 3}, 1, 2);
+        assertFalse(selectedBlock.isLoaded());
+        assertFalse(lazyBlock.isLoaded());
+
+        Block loadedBlock = selectedBlock.getLoadedBlock();
+        assertTrue(lazyBlock.isLoaded());
+        assertSame(lazyBlock.getBlock(), loadedBlock);
+        assertEquals(notifications, ImmutableList.of(loadedBlock));
+        assertEquals(loadedBlock.getInt(1, 0), 11);
+        assertEquals(loadedBlock.getInt(3, 0), 13);
+    }
+
+    @Test
+    public void testSelectedPositionsNotSelective()
+    {
+        LazyBlock lazyBlock = new LazyBlock(1, () -> createSingleValueBlock(1));
+        assertSame(lazyBlock.getSelectedPositions(new int[] {0}, 0, 1), lazyBlock);
+    }
+
     private static void assertNotificationsRecursive(int depth, Block lazyBlock, List<Block> actualNotifications, List<Block> expectedNotifications)
     {
         assertFalse(lazyBlock.isLoaded());
@@ -13,7 +13,9 @@
  */
 package io.trino.orc;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.airlift.slice.Slice;
 import io.airlift.slice.Slices;
 import io.trino.orc.stream.AbstractDiskOrcDataReader;
@@ -21,13 +23,20 @@ import io.trino.orc.stream.MemoryOrcDataReader;
 import io.trino.orc.stream.OrcDataReader;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Throwables.throwIfInstanceOf;
+import static com.google.common.base.Throwables.throwIfUnchecked;
 import static com.google.common.base.Verify.verify;
 import static io.trino.orc.OrcDataSourceUtils.getDiskRangeSlice;
 import static io.trino.orc.OrcDataSourceUtils.mergeAdjacentDiskRanges;
@@ -40,8 +49,8 @@ public abstract class AbstractOrcDataSource
     private final OrcDataSourceId id;
     private final long estimatedSize;
     private final OrcReaderOptions options;
-    private long readTimeNanos;
-    private long readBytes;
+    private final AtomicLong readTimeNanos = new AtomicLong();
+    private final AtomicLong readBytes = new AtomicLong();
 
     public AbstractOrcDataSource(OrcDataSourceId id, long estimatedSize, OrcReaderOptions options)
     {
@@ -54,6 +63,16 @@ public abstract class AbstractOrcDataSource
     protected abstract void readInternal(long position, byte[] buffer, int bufferOffset, int bufferLength)
             throws IOException;
 
+    /**
+     * Starts reading the specified disk ranges in the background, returning one future per range
+     * in the same order, or an empty list if ranges should be read synchronously when used.
+     * Implementations must read through {@link #readFully(long, int)} so read statistics are kept.
+     */
+    protected List<ListenableFuture<Slice>> readAsync(List<DiskRange> diskRanges)
+    {
+        return ImmutableList.of();
+    }
+
     @Override
     public OrcDataSourceId getId()
     {
@@ -63,13 +82,13 @@ public abstract class AbstractOrcDataSource
     @Override
     public final long getReadBytes()
     {
-        return readBytes;
+        return readBytes.get();
     }
 
     @Override
     public final long getReadTimeNanos()
     {
-        return readTimeNanos;
+        return readTimeNanos.get();
     }
 
     @Override
@@ -107,8 +126,8 @@ public abstract class AbstractOrcDataSource
 
         readInternal(position, buffer, bufferOffset, bufferLength);
 
-        readTimeNanos += System.nanoTime() - start;
-        readBytes += bufferLength;
+        readTimeNanos.addAndGet(System.nanoTime() - start);
+        readBytes.addAndGet(bufferLength);
     }
 
     @Override
@@ -155,12 +174,21 @@ public abstract class AbstractOrcDataSource
             return ImmutableMap.of();
         }
 
-        Iterable<DiskRange> mergedRanges = mergeAdjacentDiskRanges(diskRanges.values(), options.getMaxMergeDistance(), options.getMaxBufferSize());
+        List<DiskRange> mergedRanges = mergeAdjacentDiskRanges(diskRanges.values(), options.getMaxMergeDistance(), options.getMaxBufferSize());
+
+        // issue the merged ranges concurrently; each range can be used as soon as it arrives
+        List<ListenableFuture<Slice>> pendingReads = ImmutableList.of();
+        if (options.getMaxReadConcurrency() > 1 && mergedRanges.size() > 1) {
+            pendingReads = readAsync(mergedRanges);
+            verify(pendingReads.isEmpty() || pendingReads.size() == mergedRanges.size());
+        }
 
         ImmutableMap.Builder<K, OrcDataReader> slices = ImmutableMap.builder();
         if (options.isLazyReadSmallRanges()) {
-            for (DiskRange mergedRange : mergedRanges) {
-                LazyBufferLoader mergedRangeLazyLoader = new LazyBufferLoader(mergedRange);
+            for (int i = 0; i < mergedRanges.size(); i++) {
+                DiskRange mergedRange = mergedRanges.get(i);
+                Optional<ListenableFuture<Slice>> pendingRead = pendingReads.isEmpty() ? Optional.empty() : Optional.of(pendingReads.get(i));
+                LazyBufferLoader mergedRangeLazyLoader = new LazyBufferLoader(mergedRange, pendingRead);
                 for (Entry<K, DiskRange> diskRangeEntry : diskRanges.entrySet()) {
                     DiskRange diskRange = diskRangeEntry.getValue();
                     if (mergedRange.contains(diskRange)) {
@@ -171,9 +199,10 @@ public abstract class AbstractOrcDataSource
         }
         else {
             Map<DiskRange, Slice> buffers = new LinkedHashMap<>();
-            for (DiskRange mergedRange : mergedRanges) {
+            for (int i = 0; i < mergedRanges.size(); i++) {
+                DiskRange mergedRange = mergedRanges.get(i);
                 // read full range in one request
-                Slice buffer = readFully(mergedRange.getOffset(), mergedRange.getLength());
+                Slice buffer = pendingReads.isEmpty() ? readFully(mergedRange.getOffset(), mergedRange.getLength()) : getReadResult(pendingReads.get(i));
                 buffers.put(mergedRange, buffer);
             }
 
@@ -207,14 +236,33 @@ public abstract class AbstractOrcDataSource
         return id.toString();
     }
 
+    private static Slice getReadResult(ListenableFuture<Slice> pendingRead)
+            throws IOException
+    {
+        try {
+            return pendingRead.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for read");
+        }
+        catch (ExecutionException e) {
+            throwIfUnchecked(e.getCause());
+            throwIfInstanceOf(e.getCause(), IOException.class);
+            throw new IOException(e.getCause());
+        }
+    }
+
     private final class LazyBufferLoader
     {
         private final DiskRange diskRange;
+        private final Optional<ListenableFuture<Slice>> pendingRead;
         private Slice bufferSlice;
 
-        public LazyBufferLoader(DiskRange diskRange)
+        public LazyBufferLoader(DiskRange diskRange, Optional<ListenableFuture<Slice>> pendingRead)
         {
             this.diskRange = requireNonNull(diskRange, "diskRange is null");
+            this.pendingRead = requireNonNull(pendingRead, "pendingRead is null");
         }
 
         public Slice loadNestedDiskRangeBuffer(DiskRange nestedDiskRange)
@@ -232,7 +280,12 @@ public abstract class AbstractOrcDataSource
                 return;
             }
             try {
-                bufferSlice = readFully(diskRange.getOffset(), diskRange.getLength());
+                if (pendingRead.isPresent()) {
+                    bufferSlice = getReadResult(pendingRead.get());
+                }
+                else {
+                    bufferSlice = readFully(diskRange.getOffset(), diskRange.getLength());
+                }
             }
             catch (IOException e) {
                 throw new UncheckedIOException(e);
@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.orc;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs independent column writer tasks of a single {@link OrcWriter} on a shared executor.
+ * <p>
+ * The calling thread drains the task queue together with the helpers it submitted, so
+ * progress is guaranteed even if the shared executor is saturated.  The call returns only
+ * after all tasks have completed, which throttles the writer to the speed of the encoders
+ * and bounds the amount of data buffered in flight to a single chunk.
+ */
+final class ColumnWriterTaskRunner
+{
+    private final Executor executor;
+    private final int parallelism;
+    private final OrcWriterStats stats;
+
+    ColumnWriterTaskRunner(Executor executor, int parallelism, OrcWriterStats stats)
+    {
+        this.executor = requireNonNull(executor, "executor is null");
+        checkArgument(parallelism >= 1, "parallelism must be at least 1");
+        this.parallelism = parallelism;
+        this.stats = requireNonNull(stats, "stats is null");
+    }
+
+    public boolean isParallel()
+    {
+        return parallelism > 1;
+    }
+
+    public void run(List<Runnable> tasks)
+    {
+        if (parallelism == 1 || tasks.size() <= 1) {
+            tasks.forEach(Runnable::run);
+            return;
+        }
+
+        Queue<Runnable> queue = new ConcurrentLinkedQueue<>(tasks);
+        CountDownLatch remainingTasks = new CountDownLatch(tasks.size());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        int helpers = min(parallelism, tasks.size()) - 1;
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(() -> stats.recordOffloadedColumnWriterTasks(drain(queue, remainingTasks, failure)));
+            }
+            catch (RejectedExecutionException e) {
+                // the writing thread will process the remaining tasks
+                break;
+            }
+        }
+        stats.recordInlineColumnWriterTasks(drain(queue, remainingTasks, failure));
+
+        long start = System.nanoTime();
+        try {
+            remainingTasks.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for column writers", e);
+        }
+        stats.recordColumnWriterWait(System.nanoTime() - start);
+
+        Throwable throwable = failure.get();
+        if (throwable != null) {
+            throwIfUnchecked(throwable);
+            throw new RuntimeException(throwable);
+        }
+    }
+
+    private static int drain(Queue<Runnable> queue, CountDownLatch remainingTasks, AtomicReference<Throwable> failure)
+    {
+        int completed = 0;
+        Runnable task;
+        while ((task = queue.poll()) != null) {
+            try {
+                // once a task failed the writer is unusable, so skip the remaining work
+                if (failure.get() == null) {
+                    task.run();
+                    completed++;
+                }
+            }
+            catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            }
+            finally {
+                remainingTasks.countDown();
+            }
+        }
+        return completed;
+    }
+}
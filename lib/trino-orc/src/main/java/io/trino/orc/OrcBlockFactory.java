@@ -15,7 +15,7 @@ package io.trino.orc;
 
 import io.trino.spi.block.Block;
 import io.trino.spi.block.LazyBlock;
-import io.trino.spi.block.LazyBlockLoader;
+import io.trino.spi.block.SelectiveLazyBlockLoader;
 
 import java.io.IOException;
 import java.util.function.Function;
@@ -49,10 +49,20 @@ public class OrcBlockFactory
     {
         Block readBlock()
                 throws IOException;
+
+        /**
+         * Reads a block where only the values at the selected positions must be decoded.
+         * The values at the other positions are unspecified.
+         */
+        default Block readBlock(int[] positions, int offset, int length)
+                throws IOException
+        {
+            return readBlock();
+        }
     }
 
     private final class OrcBlockLoader
-            implements LazyBlockLoader
+            implements SelectiveLazyBlockLoader
     {
         private final int expectedPageId = currentPageId;
         private final OrcBlockReader blockReader;
@@ -67,13 +77,24 @@ public class OrcBlockFactory
 
         @Override
         public final Block load()
+        {
+            return load(OrcBlockReader::readBlock);
+        }
+
+        @Override
+        public Block load(int[] positions, int offset, int length)
+        {
+            return load(reader -> reader.readBlock(positions, offset, length));
+        }
+
+        private Block load(BlockRead read)
         {
             checkState(!loaded, "Already loaded");
             checkState(currentPageId == expectedPageId, "ORC reader has been advanced beyond block");
 
             loaded = true;
             try {
-                Block block = blockReader.readBlock();
+                Block block = read.read(blockReader);
                 if (loadFully) {
                     block = block.getLoadedBlock();
                 }
@@ -84,4 +105,10 @@ public class OrcBlockFactory
             }
         }
     }
+
+    private interface BlockRead
+    {
+        Block read(OrcBlockReader reader)
+                throws IOException;
+    }
 }
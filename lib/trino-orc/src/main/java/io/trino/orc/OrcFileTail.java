@@ -0,0 +1,221 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.orc;
+
+import io.airlift.slice.Slice;
+import io.trino.orc.metadata.CompressionKind;
+import io.trino.orc.metadata.ExceptionWrappingMetadataReader;
+import io.trino.orc.metadata.Footer;
+import io.trino.orc.metadata.Metadata;
+import io.trino.orc.metadata.OrcMetadataReader;
+import io.trino.orc.metadata.PostScript;
+import io.trino.orc.metadata.PostScript.HiveWriterVersion;
+import io.trino.orc.metadata.StripeInformation;
+import io.trino.orc.metadata.statistics.ColumnStatistics;
+import io.trino.orc.metadata.statistics.StripeStatistics;
+import io.trino.orc.stream.OrcChunkLoader;
+import org.openjdk.jol.info.ClassLayout;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+import static io.airlift.slice.SizeOf.SIZE_OF_BYTE;
+import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
+import static io.trino.orc.OrcDecompressor.createOrcDecompressor;
+import static io.trino.orc.metadata.PostScript.MAGIC;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The decoded tail of an ORC file: the post script, the footer and the stripe statistics.
+ * A file tail does not reference the data source it was read from, so it can be shared
+ * by all readers of the same file.
+ */
+public final class OrcFileTail
+{
+    private static final int INSTANCE_SIZE = ClassLayout.parseClass(OrcFileTail.class).instanceSize();
+    private static final int STRIPE_INFORMATION_SIZE = ClassLayout.parseClass(StripeInformation.class).instanceSize();
+    private static final int EXPECTED_FOOTER_SIZE = 16 * 1024;
+
+    private final List<Integer> version;
+    private final HiveWriterVersion hiveWriterVersion;
+    private final int bufferSize;
+    private final CompressionKind compressionKind;
+    private final Footer footer;
+    private final Metadata metadata;
+    private final long retainedSizeInBytes;
+
+    private OrcFileTail(List<Integer> version, HiveWriterVersion hiveWriterVersion, int bufferSize, CompressionKind compressionKind, Footer footer, Metadata metadata, long serializedSize)
+    {
+        this.version = requireNonNull(version, "version is null");
+        this.hiveWriterVersion = requireNonNull(hiveWriterVersion, "hiveWriterVersion is null");
+        this.bufferSize = bufferSize;
+        this.compressionKind = requireNonNull(compressionKind, "compressionKind is null");
+        this.footer = requireNonNull(footer, "footer is null");
+        this.metadata = requireNonNull(metadata, "metadata is null");
+
+        // the decoded statistics dominate the size; the types and user metadata are bounded by the serialized size
+        this.retainedSizeInBytes = INSTANCE_SIZE +
+                serializedSize +
+                (long) footer.getStripes().size() * STRIPE_INFORMATION_SIZE +
+                footer.getFileStats().map(stats -> stats.stream().mapToLong(ColumnStatistics::getRetainedSizeInBytes).sum()).orElse(0L) +
+                metadata.getStripeStatsList().stream()
+                        .flatMap(Optional::stream)
+                        .mapToLong(StripeStatistics::getRetainedSizeInBytes)
+                        .sum();
+    }
+
+    /**
+     * Reads and decodes the tail of the file, or returns empty if the file is empty.
+     */
+    public static Optional<OrcFileTail> readFrom(OrcDataSource orcDataSource)
+            throws IOException
+    {
+        // read the tail of the file, and check if the file is actually empty
+        long estimatedFileSize = orcDataSource.getEstimatedSize();
+        if (estimatedFileSize > 0 && estimatedFileSize <= MAGIC.length()) {
+            throw new OrcCorruptionException(orcDataSource.getId(), "Invalid file size %s", estimatedFileSize);
+        }
+
+        long expectedReadSize = min(estimatedFileSize, EXPECTED_FOOTER_SIZE);
+        Slice fileTail = orcDataSource.readTail(toIntExact(expectedReadSize));
+        if (fileTail.length() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(decode(orcDataSource, fileTail));
+    }
+
+    private static OrcFileTail decode(OrcDataSource orcDataSource, Slice fileTail)
+            throws IOException
+    {
+        ExceptionWrappingMetadataReader metadataReader = new ExceptionWrappingMetadataReader(orcDataSource.getId(), new OrcMetadataReader());
+
+        //
+        // Read the file tail:
+        //
+        // variable: Footer
+        // variable: Metadata
+        // variable: PostScript - contains length of footer and metadata
+        // 1 byte: postScriptSize
+
+        // get length of PostScript - last byte of the file
+        int postScriptSize = fileTail.getUnsignedByte(fileTail.length() - SIZE_OF_BYTE);
+        if (postScriptSize >= fileTail.length()) {
+            throw new OrcCorruptionException(orcDataSource.getId(), "Invalid postscript length %s", postScriptSize);
+        }
+
+        // decode the post script
+        PostScript postScript;
+        try {
+            postScript = metadataReader.readPostScript(fileTail.slice(fileTail.length() - SIZE_OF_BYTE - postScriptSize, postScriptSize).getInput());
+        }
+        catch (OrcCorruptionException e) {
+            // check if this is an ORC file and not an RCFile or something else
+            try {
+                Slice headerMagic = orcDataSource.readFully(0, MAGIC.length());
+                if (!MAGIC.equals(headerMagic)) {
+                    throw new OrcCorruptionException(orcDataSource.getId(), "Not an ORC file");
+                }
+            }
+            catch (IOException ignored) {
+                // throw original exception
+            }
+
+            throw e;
+        }
+
+        // verify this is a supported version
+        OrcReader.checkOrcVersion(orcDataSource, postScript.getVersion());
+
+        int bufferSize = toIntExact(postScript.getCompressionBlockSize());
+
+        // check compression codec is supported
+        CompressionKind compressionKind = postScript.getCompression();
+        Optional<OrcDecompressor> decompressor = createOrcDecompressor(orcDataSource.getId(), compressionKind, bufferSize);
+
+        HiveWriterVersion hiveWriterVersion = postScript.getHiveWriterVersion();
+
+        int footerSize = toIntExact(postScript.getFooterLength());
+        int metadataSize = toIntExact(postScript.getMetadataLength());
+
+        // check if extra bytes need to be read
+        Slice completeFooterSlice;
+        int completeFooterSize = footerSize + metadataSize + postScriptSize + SIZE_OF_BYTE;
+        if (completeFooterSize > fileTail.length()) {
+            // initial read was not large enough, so just read again with the correct size
+            completeFooterSlice = orcDataSource.readTail(completeFooterSize);
+        }
+        else {
+            // footer is already in the bytes in fileTail, just adjust position, length
+            completeFooterSlice = fileTail.slice(fileTail.length() - completeFooterSize, completeFooterSize);
+        }
+
+        // read metadata
+        Metadata metadata;
+        Slice metadataSlice = completeFooterSlice.slice(0, metadataSize);
+        try (InputStream metadataInputStream = new OrcInputStream(OrcChunkLoader.create(orcDataSource.getId(), metadataSlice, decompressor, newSimpleAggregatedMemoryContext()))) {
+            metadata = metadataReader.readMetadata(hiveWriterVersion, metadataInputStream);
+        }
+
+        // read footer
+        Footer footer;
+        Slice footerSlice = completeFooterSlice.slice(metadataSize, footerSize);
+        try (InputStream footerInputStream = new OrcInputStream(OrcChunkLoader.create(orcDataSource.getId(), footerSlice, decompressor, newSimpleAggregatedMemoryContext()))) {
+            footer = metadataReader.readFooter(hiveWriterVersion, footerInputStream);
+        }
+        if (footer.getTypes().size() == 0) {
+            throw new OrcCorruptionException(orcDataSource.getId(), "File has no columns");
+        }
+
+        return new OrcFileTail(postScript.getVersion(), hiveWriterVersion, bufferSize, compressionKind, footer, metadata, completeFooterSize);
+    }
+
+    public List<Integer> getVersion()
+    {
+        return version;
+    }
+
+    public HiveWriterVersion getHiveWriterVersion()
+    {
+        return hiveWriterVersion;
+    }
+
+    public int getBufferSize()
+    {
+        return bufferSize;
+    }
+
+    public CompressionKind getCompressionKind()
+    {
+        return compressionKind;
+    }
+
+    public Footer getFooter()
+    {
+        return footer;
+    }
+
+    public Metadata getMetadata()
+    {
+        return metadata;
+    }
+
+    public long getRetainedSizeInBytes()
+    {
+        return retainedSizeInBytes;
+    }
+}
@@ -29,16 +29,12 @@ import io.trino.orc.metadata.OrcColumnId;
 import io.trino.orc.metadata.OrcMetadataReader;
 import io.trino.orc.metadata.OrcType;
 import io.trino.orc.metadata.OrcType.OrcTypeKind;
-import io.trino.orc.metadata.PostScript;
 import io.trino.orc.metadata.PostScript.HiveWriterVersion;
-import io.trino.orc.stream.OrcChunkLoader;
-import io.trino.orc.stream.OrcInputStream;
 import io.trino.spi.Page;
 import io.trino.spi.type.Type;
 import org.joda.time.DateTimeZone;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -50,12 +46,9 @@ import java.util.stream.IntStream;
 
 import static com.google.common.base.Throwables.throwIfUnchecked;
 import static com.google.common.collect.ImmutableList.toImmutableList;
-import static io.airlift.slice.SizeOf.SIZE_OF_BYTE;
 import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
 import static io.trino.orc.OrcDecompressor.createOrcDecompressor;
 import static io.trino.orc.metadata.OrcColumnId.ROOT_COLUMN;
-import static io.trino.orc.metadata.PostScript.MAGIC;
-import static java.lang.Math.min;
 import static java.lang.Math.toIntExact;
 import static java.util.Locale.ENGLISH;
 import static java.util.Objects.requireNonNull;
@@ -73,7 +66,6 @@ public class OrcReader
 
     private static final int CURRENT_MAJOR_VERSION = 0;
     private static final int CURRENT_MINOR_VERSION = 12;
-    private static final int EXPECTED_FOOTER_SIZE = 16 * 1024;
 
     private final OrcDataSource orcDataSource;
     private final ExceptionWrappingMetadataReader metadataReader;
@@ -84,6 +76,7 @@ public class OrcReader
     private final Optional<OrcDecompressor> decompressor;
     private final Footer footer;
     private final Metadata metadata;
+    private final OrcFileTail fileTail;
     private final OrcColumn rootColumn;
 
     private final Optional<OrcWriteValidation> writeValidation;
@@ -94,6 +87,16 @@ public class OrcReader
         return createOrcReader(orcDataSource, options, Optional.empty());
     }
 
+    /**
+     * Creates a reader for a file whose tail was already read, for example by another reader of the same file.
+     */
+    public static OrcReader createOrcReader(OrcDataSource orcDataSource, OrcReaderOptions options, OrcFileTail fileTail)
+            throws IOException
+    {
+        orcDataSource = wrapWithCacheIfTiny(orcDataSource, options.getTinyStripeThreshold());
+        return new OrcReader(orcDataSource, options, Optional.empty(), fileTail);
+    }
+
     private static Optional<OrcReader> createOrcReader(
             OrcDataSource orcDataSource,
             OrcReaderOptions options,
@@ -102,110 +105,38 @@ public class OrcReader
     {
         orcDataSource = wrapWithCacheIfTiny(orcDataSource, options.getTinyStripeThreshold());
 
-        // read the tail of the file, and check if the file is actually empty
-        long estimatedFileSize = orcDataSource.getEstimatedSize();
-        if (estimatedFileSize > 0 && estimatedFileSize <= MAGIC.length()) {
-            throw new OrcCorruptionException(orcDataSource.getId(), "Invalid file size %s", estimatedFileSize);
-        }
-
-        long expectedReadSize = min(estimatedFileSize, EXPECTED_FOOTER_SIZE);
-        Slice fileTail = orcDataSource.readTail(toIntExact(expectedReadSize));
-        if (fileTail.length() == 0) {
+        Optional<OrcFileTail> fileTail = OrcFileTail.readFrom(orcDataSource);
+        if (fileTail.isEmpty()) {
             return Optional.empty();
         }
 
-        return Optional.of(new OrcReader(orcDataSource, options, writeValidation, fileTail));
+        return Optional.of(new OrcReader(orcDataSource, options, writeValidation, fileTail.get()));
     }
 
     private OrcReader(
             OrcDataSource orcDataSource,
             OrcReaderOptions options,
             Optional<OrcWriteValidation> writeValidation,
-            Slice fileTail)
+            OrcFileTail fileTail)
             throws IOException
     {
         this.options = requireNonNull(options, "options is null");
         this.orcDataSource = orcDataSource;
         this.metadataReader = new ExceptionWrappingMetadataReader(orcDataSource.getId(), new OrcMetadataReader());
+        this.fileTail = requireNonNull(fileTail, "fileTail is null");
 
         this.writeValidation = requireNonNull(writeValidation, "writeValidation is null");
 
-        //
-        // Read the file tail:
-        //
-        // variable: Footer
-        // variable: Metadata
-        // variable: PostScript - contains length of footer and metadata
-        // 1 byte: postScriptSize
-
-        // get length of PostScript - last byte of the file
-        int postScriptSize = fileTail.getUnsignedByte(fileTail.length() - SIZE_OF_BYTE);
-        if (postScriptSize >= fileTail.length()) {
-            throw new OrcCorruptionException(orcDataSource.getId(), "Invalid postscript length %s", postScriptSize);
-        }
-
-        // decode the post script
-        PostScript postScript;
-        try {
-            postScript = metadataReader.readPostScript(fileTail.slice(fileTail.length() - SIZE_OF_BYTE - postScriptSize, postScriptSize).getInput());
-        }
-        catch (OrcCorruptionException e) {
-            // check if this is an ORC file and not an RCFile or something else
-            try {
-                Slice headerMagic = orcDataSource.readFully(0, MAGIC.length());
-                if (!MAGIC.equals(headerMagic)) {
-                    throw new OrcCorruptionException(orcDataSource.getId(), "Not an ORC file");
-                }
-            }
-            catch (IOException ignored) {
-                // throw original exception
-            }
-
-            throw e;
-        }
-
-        // verify this is a supported version
-        checkOrcVersion(orcDataSource, postScript.getVersion());
-        validateWrite(validation -> validation.getVersion().equals(postScript.getVersion()), "Unexpected version");
-
-        this.bufferSize = toIntExact(postScript.getCompressionBlockSize());
+        validateWrite(validation -> validation.getVersion().equals(fileTail.getVersion()), "Unexpected version");
 
-        // check compression codec is supported
-        this.compressionKind = postScript.getCompression();
+        this.bufferSize = fileTail.getBufferSize();
+        this.compressionKind = fileTail.getCompressionKind();
         this.decompressor = createOrcDecompressor(orcDataSource.getId(), compressionKind, bufferSize);
         validateWrite(validation -> validation.getCompression() == compressionKind, "Unexpected compression");
 
-        this.hiveWriterVersion = postScript.getHiveWriterVersion();
-
-        int footerSize = toIntExact(postScript.getFooterLength());
-        int metadataSize = toIntExact(postScript.getMetadataLength());
-
-        // check if extra bytes need to be read
-        Slice completeFooterSlice;
-        int completeFooterSize = footerSize + metadataSize + postScriptSize + SIZE_OF_BYTE;
-        if (completeFooterSize > fileTail.length()) {
-            // initial read was not large enough, so just read again with the correct size
-            completeFooterSlice = orcDataSource.readTail(completeFooterSize);
-        }
-        else {
-            // footer is already in the bytes in fileTail, just adjust position, length
-            completeFooterSlice = fileTail.slice(fileTail.length() - completeFooterSize, completeFooterSize);
-        }
-
-        // read metadata
-        Slice metadataSlice = completeFooterSlice.slice(0, metadataSize);
-        try (InputStream metadataInputStream = new OrcInputStream(OrcChunkLoader.create(orcDataSource.getId(), metadataSlice, decompressor, newSimpleAggregatedMemoryContext()))) {
-            this.metadata = metadataReader.readMetadata(hiveWriterVersion, metadataInputStream);
-        }
-
-        // read footer
-        Slice footerSlice = completeFooterSlice.slice(metadataSize, footerSize);
-        try (InputStream footerInputStream = new OrcInputStream(OrcChunkLoader.create(orcDataSource.getId(), footerSlice, decompressor, newSimpleAggregatedMemoryContext()))) {
-            this.footer = metadataReader.readFooter(hiveWriterVersion, footerInputStream);
-        }
-        if (footer.getTypes().size() == 0) {
-            throw new OrcCorruptionException(orcDataSource.getId(), "File has no columns");
-        }
+        this.hiveWriterVersion = fileTail.getHiveWriterVersion();
+        this.metadata = fileTail.getMetadata();
+        this.footer = fileTail.getFooter();
 
         this.rootColumn = createOrcColumn("", "", new OrcColumnId(0), footer.getTypes(), orcDataSource.getId());
 
@@ -218,6 +149,11 @@ public class OrcReader
         }
     }
 
+    public OrcFileTail getFileTail()
+    {
+        return fileTail;
+    }
+
     public List<String> getColumnNames()
     {
         return footer.getTypes().get(ROOT_COLUMN).getFieldNames();
@@ -395,7 +331,7 @@ public class OrcReader
      * warn the user that we may not be able to read all of the column encodings.
      */
     // This is based on the Apache Hive ORC code
-    private static void checkOrcVersion(OrcDataSource orcDataSource, List<Integer> version)
+    static void checkOrcVersion(OrcDataSource orcDataSource, List<Integer> version)
     {
         if (version.size() >= 1) {
             int major = version.get(0);
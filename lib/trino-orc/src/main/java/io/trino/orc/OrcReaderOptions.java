@@ -15,6 +15,7 @@ package io.trino.orc;
 
 import io.airlift.units.DataSize;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static io.airlift.units.DataSize.Unit.MEGABYTE;
 import static java.util.Objects.requireNonNull;
 
@@ -28,6 +29,7 @@ public class OrcReaderOptions
     private static final DataSize DEFAULT_MAX_BLOCK_SIZE = DataSize.of(16, MEGABYTE);
     private static final boolean DEFAULT_LAZY_READ_SMALL_RANGES = true;
     private static final boolean DEFAULT_NESTED_LAZY = true;
+    private static final int DEFAULT_MAX_READ_CONCURRENCY = 1;
 
     private final boolean bloomFiltersEnabled;
 
@@ -38,6 +40,7 @@ public class OrcReaderOptions
     private final DataSize maxBlockSize;
     private final boolean lazyReadSmallRanges;
     private final boolean nestedLazy;
+    private final int maxReadConcurrency;
 
     public OrcReaderOptions()
     {
@@ -49,6 +52,7 @@ public class OrcReaderOptions
         maxBlockSize = DEFAULT_MAX_BLOCK_SIZE;
         lazyReadSmallRanges = DEFAULT_LAZY_READ_SMALL_RANGES;
         nestedLazy = DEFAULT_NESTED_LAZY;
+        maxReadConcurrency = DEFAULT_MAX_READ_CONCURRENCY;
     }
 
     private OrcReaderOptions(
@@ -59,7 +63,8 @@ public class OrcReaderOptions
             DataSize streamBufferSize,
             DataSize maxBlockSize,
             boolean lazyReadSmallRanges,
-            boolean nestedLazy)
+            boolean nestedLazy,
+            int maxReadConcurrency)
     {
         this.maxMergeDistance = requireNonNull(maxMergeDistance, "maxMergeDistance is null");
         this.maxBufferSize = requireNonNull(maxBufferSize, "maxBufferSize is null");
@@ -69,6 +74,8 @@ public class OrcReaderOptions
         this.lazyReadSmallRanges = requireNonNull(lazyReadSmallRanges, "lazyReadSmallRanges is null");
         this.bloomFiltersEnabled = bloomFiltersEnabled;
         this.nestedLazy = nestedLazy;
+        checkArgument(maxReadConcurrency >= 1, "maxReadConcurrency must be at least 1");
+        this.maxReadConcurrency = maxReadConcurrency;
     }
 
     public boolean isBloomFiltersEnabled()
@@ -111,6 +118,11 @@ public class OrcReaderOptions
         return nestedLazy;
     }
 
+    public int getMaxReadConcurrency()
+    {
+        return maxReadConcurrency;
+    }
+
     public OrcReaderOptions withBloomFiltersEnabled(boolean bloomFiltersEnabled)
     {
         return new OrcReaderOptions(
@@ -121,7 +133,8 @@ public class OrcReaderOptions
                 streamBufferSize,
                 maxBlockSize,
                 lazyReadSmallRanges,
-                nestedLazy);
+                nestedLazy,
+                maxReadConcurrency);
     }
 
     public OrcReaderOptions withMaxMergeDistance(DataSize maxMergeDistance)
@@ -134,7 +147,8 @@ public class OrcReaderOptions
                 streamBufferSize,
                 maxBlockSize,
                 lazyReadSmallRanges,
-                nestedLazy);
+                nestedLazy,
+                maxReadConcurrency);
     }
 
     public OrcReaderOptions withMaxBufferSize(DataSize maxBufferSize)
@@ -147,7 +161,8 @@ public class OrcReaderOptions
                 streamBufferSize,
                 maxBlockSize,
                 lazyReadSmallRanges,
-                nestedLazy);
+                nestedLazy,
+                maxReadConcurrency);
     }
 
     public OrcReaderOptions withTinyStripeThreshold(DataSize tinyStripeThreshold)
@@ -160,7 +175,8 @@ public class OrcReaderOptions
                 streamBufferSize,
                 maxBlockSize,
                 lazyReadSmallRanges,
-                nestedLazy);
+                nestedLazy,
+                maxReadConcurrency);
     }
 
     public OrcReaderOptions withStreamBufferSize(DataSize streamBufferSize)
@@ -173,7 +189,8 @@ public class OrcReaderOptions
                 streamBufferSize,
                 maxBlockSize,
                 lazyReadSmallRanges,
-                nestedLazy);
+                nestedLazy,
+                maxReadConcurrency);
     }
 
     public OrcReaderOptions withMaxReadBlockSize(DataSize maxBlockSize)
@@ -186,7 +203,8 @@ public class OrcReaderOptions
                 streamBufferSize,
                 maxBlockSize,
                 lazyReadSmallRanges,
-                nestedLazy);
+                nestedLazy,
+                maxReadConcurrency);
     }
 
     // TODO remove config option once efficacy is proven
@@ -201,7 +219,8 @@ public class OrcReaderOptions
                 streamBufferSize,
                 maxBlockSize,
                 lazyReadSmallRanges,
-                nestedLazy);
+                nestedLazy,
+                maxReadConcurrency);
     }
 
     // TODO remove config option once efficacy is proven
@@ -216,6 +235,21 @@ public class OrcReaderOptions
                 streamBufferSize,
                 maxBlockSize,
                 lazyReadSmallRanges,
-                nestedLazy);
+                nestedLazy,
+                maxReadConcurrency);
+    }
+
+    public OrcReaderOptions withMaxReadConcurrency(int maxReadConcurrency)
+    {
+        return new OrcReaderOptions(
+                bloomFiltersEnabled,
+                maxMergeDistance,
+                maxBufferSize,
+                tinyStripeThreshold,
+                streamBufferSize,
+                maxBlockSize,
+                lazyReadSmallRanges,
+                nestedLazy,
+                maxReadConcurrency);
     }
 }
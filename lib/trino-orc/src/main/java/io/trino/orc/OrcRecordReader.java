@@ -410,7 +410,7 @@ public class OrcRecordReader
             int columnIndex = i;
             blocks[columnIndex] = blockFactory.createBlock(
                     currentBatchSize,
-                    columnReaders[columnIndex]::readBlock,
+                    columnReaders[columnIndex],
                     false);
             listenForLoads(blocks[columnIndex], block -> blockLoaded(columnIndex, block));
         }
@@ -43,6 +43,7 @@ import io.trino.orc.stream.StreamDataOutput;
 import io.trino.orc.writer.ColumnWriter;
 import io.trino.orc.writer.SliceDictionaryColumnWriter;
 import io.trino.spi.Page;
+import io.trino.spi.block.Block;
 import io.trino.spi.type.Type;
 import org.openjdk.jol.info.ClassLayout;
 
@@ -59,6 +60,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -67,6 +69,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Verify.verify;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static io.airlift.slice.Slices.utf8Slice;
 import static io.trino.orc.OrcReader.validateFile;
 import static io.trino.orc.OrcWriterStats.FlushReason.CLOSED;
@@ -112,6 +115,7 @@ public final class OrcWriter
     private final ColumnMetadata<OrcType> orcTypes;
 
     private final List<ColumnWriter> columnWriters;
+    private final ColumnWriterTaskRunner columnWriterTaskRunner;
     private final DictionaryCompressionOptimizer dictionaryCompressionOptimizer;
     private int stripeRowCount;
     private int rowGroupRowCount;
@@ -140,6 +144,27 @@ public final class OrcWriter
             boolean validate,
             OrcWriteValidationMode validationMode,
             OrcWriterStats stats)
+    {
+        this(orcDataSink, columnNames, types, orcTypes, compression, options, writeLegacyVersion, userMetadata, validate, validationMode, stats, directExecutor());
+    }
+
+    /**
+     * @param columnWriterExecutor shared executor used to encode and compress columns in parallel,
+     * when {@link OrcWriterOptions#getWriterParallelism()} is greater than one
+     */
+    public OrcWriter(
+            OrcDataSink orcDataSink,
+            List<String> columnNames,
+            List<Type> types,
+            ColumnMetadata<OrcType> orcTypes,
+            CompressionKind compression,
+            OrcWriterOptions options,
+            boolean writeLegacyVersion,
+            Map<String, String> userMetadata,
+            boolean validate,
+            OrcWriteValidationMode validationMode,
+            OrcWriterStats stats,
+            Executor columnWriterExecutor)
     {
         this.validationBuilder = validate ? new OrcWriteValidationBuilder(validationMode, types)
                 .setStringStatisticsLimitInBytes(toIntExact(options.getMaxStringStatisticsLimit().toBytes())) : null;
@@ -164,6 +189,10 @@ public final class OrcWriter
         this.userMetadata.put(PRESTO_ORC_WRITER_VERSION_METADATA_KEY, PRESTO_ORC_WRITER_VERSION);
         this.metadataWriter = new CompressedMetadataWriter(new OrcMetadataWriter(writeLegacyVersion), compression, maxCompressionBufferSize);
         this.stats = requireNonNull(stats, "stats is null");
+        this.columnWriterTaskRunner = new ColumnWriterTaskRunner(
+                requireNonNull(columnWriterExecutor, "columnWriterExecutor is null"),
+                options.getWriterParallelism(),
+                stats);
 
         requireNonNull(columnNames, "columnNames is null");
         this.orcTypes = requireNonNull(orcTypes, "orcTypes is null");
@@ -294,10 +323,22 @@ public final class OrcWriter
         }
 
         // write chunks
+        if (columnWriterTaskRunner.isParallel()) {
+            List<Runnable> tasks = new ArrayList<>(chunk.getChannelCount());
+            for (int channel = 0; channel < chunk.getChannelCount(); channel++) {
+                ColumnWriter writer = columnWriters.get(channel);
+                Block block = chunk.getBlock(channel);
+                tasks.add(() -> writer.writeBlock(block));
+            }
+            columnWriterTaskRunner.run(tasks);
+        }
+        else {
+            for (int channel = 0; channel < chunk.getChannelCount(); channel++) {
+                columnWriters.get(channel).writeBlock(chunk.getBlock(channel));
+            }
+        }
         bufferedBytes = 0;
-        for (int channel = 0; channel < chunk.getChannelCount(); channel++) {
-            ColumnWriter writer = columnWriters.get(channel);
-            writer.writeBlock(chunk.getBlock(channel));
+        for (ColumnWriter writer : columnWriters) {
             bufferedBytes += writer.getBufferedBytes();
         }
 
@@ -386,7 +427,10 @@ public final class OrcWriter
         // convert any dictionary encoded column with a low compression ratio to direct
         dictionaryCompressionOptimizer.finalOptimize(bufferedBytes);
 
-        columnWriters.forEach(ColumnWriter::close);
+        // closing a column writer flushes and compresses its remaining buffered data
+        columnWriterTaskRunner.run(columnWriters.stream()
+                .<Runnable>map(columnWriter -> columnWriter::close)
+                .collect(toList()));
 
         List<OrcDataOutput> outputData = new ArrayList<>();
         List<Stream> allStreams = new ArrayList<>(columnWriters.size() * 3);
@@ -37,6 +37,9 @@ public class OrcWriterStats
     private final OrcWriterFlushStats dictionaryFullFlush = new OrcWriterFlushStats(DICTIONARY_FULL.name());
     private final OrcWriterFlushStats closedFlush = new OrcWriterFlushStats(CLOSED.name());
     private final AtomicLong writerSizeInBytes = new AtomicLong();
+    private final AtomicLong inlineColumnWriterTasks = new AtomicLong();
+    private final AtomicLong offloadedColumnWriterTasks = new AtomicLong();
+    private final AtomicLong columnWriterWaitNanos = new AtomicLong();
 
     public void recordStripeWritten(FlushReason flushReason, long stripeBytes, int stripeRows, int dictionaryBytes)
     {
@@ -49,6 +52,21 @@ public class OrcWriterStats
         writerSizeInBytes.addAndGet(deltaInBytes);
     }
 
+    public void recordInlineColumnWriterTasks(int tasks)
+    {
+        inlineColumnWriterTasks.addAndGet(tasks);
+    }
+
+    public void recordOffloadedColumnWriterTasks(int tasks)
+    {
+        offloadedColumnWriterTasks.addAndGet(tasks);
+    }
+
+    public void recordColumnWriterWait(long nanos)
+    {
+        columnWriterWaitNanos.addAndGet(nanos);
+    }
+
     @Managed
     @Nested
     public OrcWriterFlushStats getAllFlush()
@@ -90,6 +108,27 @@ public class OrcWriterStats
         return writerSizeInBytes.get();
     }
 
+    @Managed
+    public long getInlineColumnWriterTasks()
+    {
+        return inlineColumnWriterTasks.get();
+    }
+
+    @Managed
+    public long getOffloadedColumnWriterTasks()
+    {
+        return offloadedColumnWriterTasks.get();
+    }
+
+    /**
+     * Time writing threads were blocked waiting for column writer tasks running on the shared executor.
+     */
+    @Managed
+    public long getColumnWriterWaitNanos()
+    {
+        return columnWriterWaitNanos.get();
+    }
+
     private OrcWriterFlushStats getFlushStats(FlushReason flushReason)
     {
         switch (flushReason) {
@@ -116,6 +155,9 @@ public class OrcWriterStats
                 .add("dictionaryFullFlush", dictionaryFullFlush)
                 .add("closedFlush", closedFlush)
                 .add("writerSizeInBytes", writerSizeInBytes.get())
+                .add("inlineColumnWriterTasks", inlineColumnWriterTasks.get())
+                .add("offloadedColumnWriterTasks", offloadedColumnWriterTasks.get())
+                .add("columnWriterWaitNanos", columnWriterWaitNanos.get())
                 .toString();
     }
 }
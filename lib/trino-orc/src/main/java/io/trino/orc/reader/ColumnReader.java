@@ -13,6 +13,7 @@
  */
 package io.trino.orc.reader;
 
+import io.trino.orc.OrcBlockFactory.OrcBlockReader;
 import io.trino.orc.metadata.ColumnEncoding;
 import io.trino.orc.metadata.ColumnMetadata;
 import io.trino.orc.stream.InputStreamSources;
@@ -22,7 +23,9 @@ import java.io.IOException;
 import java.time.ZoneId;
 
 public interface ColumnReader
+        extends OrcBlockReader
 {
+    @Override
     Block readBlock()
             throws IOException;
 
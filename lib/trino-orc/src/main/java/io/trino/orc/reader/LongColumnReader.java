@@ -104,23 +104,7 @@ public class LongColumnReader
     public Block readBlock()
             throws IOException
     {
-        if (!rowGroupOpen) {
-            openRowGroup();
-        }
-
-        if (readOffset > 0) {
-            if (presentStream != null) {
-                // skip ahead the present bit reader, but count the set bits
-                // and use this as the skip size for the data reader
-                readOffset = presentStream.countBitsSet(readOffset);
-            }
-            if (readOffset > 0) {
-                if (dataStream == null) {
-                    throw new OrcCorruptionException(column.getOrcDataSourceId(), "Value is not null but data stream is missing");
-                }
-                dataStream.skip(readOffset);
-            }
-        }
+        seekToNextBatch();
 
         Block block;
         if (dataStream == null) {
@@ -153,6 +137,155 @@ public class LongColumnReader
         return block;
     }
 
+    @Override
+    public Block readBlock(int[] positions, int offset, int length)
+            throws IOException
+    {
+        // decoding runs of selected values only pays off when most values are skipped
+        if (length > nextBatchSize / 2) {
+            return readBlock();
+        }
+
+        seekToNextBatch();
+        if (dataStream == null) {
+            return readBlock();
+        }
+
+        boolean[] isNull = null;
+        if (presentStream != null) {
+            isNull = new boolean[nextBatchSize];
+            int nullCount = presentStream.getUnsetBits(nextBatchSize, isNull);
+            if (nullCount == 0) {
+                isNull = null;
+            }
+            else if (nullCount == nextBatchSize) {
+                Block block = RunLengthEncodedBlock.create(type, null, nextBatchSize);
+                readOffset = 0;
+                nextBatchSize = 0;
+                return block;
+            }
+        }
+
+        long[] values = new long[nextBatchSize];
+        int position = 0;
+        int end = offset + length;
+        for (int i = offset; i < end; ) {
+            int runStart = positions[i];
+            int runEnd = runStart + 1;
+            i++;
+            while (i < end && positions[i] == runEnd) {
+                runEnd++;
+                i++;
+            }
+
+            skipNonNullValues(isNull, position, runStart);
+            readSelectedValues(isNull, runStart, runEnd, values);
+            position = runEnd;
+        }
+        skipNonNullValues(isNull, position, nextBatchSize);
+
+        Block block = createBlock(nextBatchSize, Optional.ofNullable(isNull), values);
+
+        readOffset = 0;
+        nextBatchSize = 0;
+
+        return block;
+    }
+
+    private void skipNonNullValues(@Nullable boolean[] isNull, int start, int end)
+            throws IOException
+    {
+        int nonNullCount = countNonNull(isNull, start, end);
+        if (nonNullCount > 0) {
+            verifyNotNull(dataStream).skip(nonNullCount);
+        }
+    }
+
+    private void readSelectedValues(@Nullable boolean[] isNull, int start, int end, long[] values)
+            throws IOException
+    {
+        int nonNullCount = countNonNull(isNull, start, end);
+        if (nonNullCount == 0) {
+            return;
+        }
+        if (longNonNullValueTemp.length < nonNullCount) {
+            longNonNullValueTemp = new long[minNonNullValueSize(nonNullCount)];
+            systemMemoryContext.setBytes(sizeOf(longNonNullValueTemp));
+        }
+        verifyNotNull(dataStream).next(longNonNullValueTemp, nonNullCount);
+
+        int valueIndex = 0;
+        for (int position = start; position < end; position++) {
+            if (isNull == null || !isNull[position]) {
+                values[position] = longNonNullValueTemp[valueIndex];
+                valueIndex++;
+            }
+        }
+    }
+
+    private static int countNonNull(@Nullable boolean[] isNull, int start, int end)
+    {
+        if (isNull == null) {
+            return end - start;
+        }
+        int nonNullCount = 0;
+        for (int position = start; position < end; position++) {
+            if (!isNull[position]) {
+                nonNullCount++;
+            }
+        }
+        return nonNullCount;
+    }
+
+    private Block createBlock(int positionCount, Optional<boolean[]> isNull, long[] values)
+    {
+        if (type instanceof BigintType) {
+            return new LongArrayBlock(positionCount, isNull, values);
+        }
+        if (type instanceof TimeType) {
+            maybeTransformValues(values, positionCount);
+            return new LongArrayBlock(positionCount, isNull, values);
+        }
+        if (type instanceof IntegerType || type instanceof DateType) {
+            int[] intValues = new int[positionCount];
+            for (int position = 0; position < positionCount; position++) {
+                intValues[position] = (int) values[position];
+            }
+            return new IntArrayBlock(positionCount, isNull, intValues);
+        }
+        if (type instanceof SmallintType) {
+            short[] shortValues = new short[positionCount];
+            for (int position = 0; position < positionCount; position++) {
+                shortValues[position] = (short) values[position];
+            }
+            return new ShortArrayBlock(positionCount, isNull, shortValues);
+        }
+        throw new VerifyError("Unsupported type " + type);
+    }
+
+    private void seekToNextBatch()
+            throws IOException
+    {
+        if (!rowGroupOpen) {
+            openRowGroup();
+        }
+
+        if (readOffset > 0) {
+            if (presentStream != null) {
+                // skip ahead the present bit reader, but count the set bits
+                // and use this as the skip size for the data reader
+                readOffset = presentStream.countBitsSet(readOffset);
+            }
+            if (readOffset > 0) {
+                if (dataStream == null) {
+                    throw new OrcCorruptionException(column.getOrcDataSourceId(), "Value is not null but data stream is missing");
+                }
+                dataStream.skip(readOffset);
+            }
+            readOffset = 0;
+        }
+    }
+
     private Block readNonNullBlock()
             throws IOException
     {
@@ -16,6 +16,7 @@ package io.trino.orc.stream;
 import io.airlift.slice.Slice;
 import io.airlift.slice.Slices;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -76,7 +77,101 @@ public final class LongBitPacker
                 unpack64(buffer, offset, len, input);
                 break;
             default:
-                unpackGeneric(buffer, offset, len, bitSize, input);
+                if (bitSize <= Integer.SIZE) {
+                    unpackBuffered(buffer, offset, len, bitSize, input);
+                }
+                else {
+                    unpackGeneric(buffer, offset, len, bitSize, input);
+                }
+        }
+    }
+
+    /**
+     * Unpacks values of at most 32 bits directly into an int array.  Values of exactly 32 bits
+     * are returned as their raw two's complement bit pattern.
+     */
+    public void unpack(int[] buffer, int offset, int len, int bitSize, InputStream input)
+            throws IOException
+    {
+        checkArgument(len <= MAX_BUFFERED_POSITIONS, "Expected ORC files to have runs of at most 512 bit packed longs");
+        checkArgument(bitSize >= 1 && bitSize <= Integer.SIZE, "Invalid bit size for int unpacking: %s", bitSize);
+        switch (bitSize) {
+            case 8:
+                readFully(input, len);
+                for (int i = 0; i < len; i++) {
+                    buffer[offset + i] = 0xFF & tmp[i];
+                }
+                break;
+            case 16:
+                readFully(input, len * 2);
+                for (int i = 0; i < len; i++) {
+                    buffer[offset + i] = 0xFFFF & Short.reverseBytes(getShortUnchecked(slice, 2 * i));
+                }
+                break;
+            case 24:
+                readFully(input, len * 3);
+                for (int i = 0; i < len; i++) {
+                    // see unpack24 for why reading 4 bytes is safe
+                    buffer[offset + i] = Integer.reverseBytes(getIntUnchecked(slice, 3 * i)) >>> 8;
+                }
+                break;
+            case 32:
+                readFully(input, len * 4);
+                for (int i = 0; i < len; i++) {
+                    buffer[offset + i] = Integer.reverseBytes(getIntUnchecked(slice, 4 * i));
+                }
+                break;
+            default:
+                int byteCount = (len * bitSize + 7) / 8;
+                readFully(input, byteCount);
+                long mask = (1L << bitSize) - 1;
+                long bitBuffer = 0;
+                int bitsInBuffer = 0;
+                int byteIndex = 0;
+                for (int i = 0; i < len; i++) {
+                    while (bitsInBuffer < bitSize) {
+                        bitBuffer = (bitBuffer << 8) | (tmp[byteIndex++] & 0xFF);
+                        bitsInBuffer += 8;
+                    }
+                    bitsInBuffer -= bitSize;
+                    buffer[offset + i] = (int) ((bitBuffer >>> bitsInBuffer) & mask);
+                }
+        }
+    }
+
+    /**
+     * Reads the whole run into the temp buffer and extracts the values from a bit buffer.
+     * The bit buffer holds at most {@code bitSize + 7} bits, so this is only valid for bit
+     * sizes that leave room for one more byte in a long.
+     */
+    private void unpackBuffered(long[] buffer, int offset, int len, int bitSize, InputStream input)
+            throws IOException
+    {
+        int byteCount = (len * bitSize + 7) / 8;
+        readFully(input, byteCount);
+        long mask = (1L << bitSize) - 1;
+        long bitBuffer = 0;
+        int bitsInBuffer = 0;
+        int byteIndex = 0;
+        for (int i = 0; i < len; i++) {
+            while (bitsInBuffer < bitSize) {
+                bitBuffer = (bitBuffer << 8) | (tmp[byteIndex++] & 0xFF);
+                bitsInBuffer += 8;
+            }
+            bitsInBuffer -= bitSize;
+            buffer[offset + i] = (bitBuffer >>> bitsInBuffer) & mask;
+        }
+    }
+
+    private void readFully(InputStream input, int length)
+            throws IOException
+    {
+        for (int i = 0; i < length; ) {
+            int bytes = input.read(tmp, i, length - i);
+            if (bytes < 0) {
+                throw new EOFException("Unexpected end of bit packed stream");
+            }
+            i += bytes;
         }
     }
 
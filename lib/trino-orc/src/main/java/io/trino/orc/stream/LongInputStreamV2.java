@@ -19,6 +19,7 @@ import io.trino.orc.checkpoint.LongStreamV2Checkpoint;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 import static java.lang.Math.min;
 
@@ -41,6 +42,9 @@ public class LongInputStreamV2
     private final OrcInputStream input;
     private final boolean signed;
     private final long[] literals = new long[MAX_LITERAL_SIZE];
+    // scratch buffers for PATCHED_BASE runs, which have at most 31 patches
+    private final long[] unpackedValues = new long[MAX_LITERAL_SIZE];
+    private final long[] unpackedPatchValues = new long[32];
     private int numLiterals;
     private int used;
     private final boolean skipCorrupt;
@@ -54,37 +58,96 @@ public class LongInputStreamV2
         lastReadInputCheckpoint = input.getCheckpoint();
     }
 
-    // This comes from the Apache Hive ORC code
     private void readValues()
             throws IOException
     {
         lastReadInputCheckpoint = input.getCheckpoint();
+        numLiterals = readValues(readFirstByte(), literals, 0);
+        used = 0;
+    }
+
+    /**
+     * Decodes the next run straight into the caller's buffer, which must have room for
+     * {@link #MAX_LITERAL_SIZE} values.  The internal buffer is left empty.
+     */
+    private int readValuesInto(long[] buffer, int offset)
+            throws IOException
+    {
+        int length = readValues(readFirstByte(), buffer, offset);
+        discardBufferedValues();
+        return length;
+    }
+
+    /**
+     * Decodes the next run straight into the caller's int buffer, which must have room for
+     * {@link #MAX_LITERAL_SIZE} values.  DIRECT runs that fit in an int are unpacked without
+     * widening; all other runs are decoded as longs and narrowed.
+     */
+    private int readValuesInto(int[] buffer, int offset)
+            throws IOException
+    {
+        int firstByte = readFirstByte();
+        int length;
+        if (((firstByte >>> 6) & 0x03) == EncodingType.DIRECT.ordinal() && LongDecode.decodeBitWidth((firstByte >>> 1) & 0b1_1111) <= (signed ? Integer.SIZE : Integer.SIZE - 1)) {
+            length = readDirectValues(firstByte, buffer, offset);
+        }
+        else {
+            length = readValues(firstByte, literals, 0);
+            for (int i = 0; i < length; i++) {
+                long literal = literals[i];
+                int value = (int) literal;
+                if (literal != value) {
+                    throw new OrcCorruptionException(input.getOrcDataSourceId(), "Decoded value out of range for a 32bit number");
+                }
+                buffer[offset + i] = value;
+            }
+        }
+        discardBufferedValues();
+        return length;
+    }
+
+    private void discardBufferedValues()
+    {
+        // the next run starts at the current position, so a seek to it can reuse the (empty) buffer
+        lastReadInputCheckpoint = input.getCheckpoint();
+        numLiterals = 0;
+        used = 0;
+    }
 
-        // read the first 2 bits and determine the encoding type
+    private int readFirstByte()
+            throws IOException
+    {
         int firstByte = input.read();
         if (firstByte < 0) {
             throw new OrcCorruptionException(input.getOrcDataSourceId(), "Read past end of RLE integer");
         }
+        return firstByte;
+    }
 
+    // This comes from the Apache Hive ORC code
+    private int readValues(int firstByte, long[] buffer, int offset)
+            throws IOException
+    {
+        // the first 2 bits determine the encoding type
         int enc = (firstByte >>> 6) & 0x03;
         if (EncodingType.SHORT_REPEAT.ordinal() == enc) {
-            readShortRepeatValues(firstByte);
-        }
-        else if (EncodingType.DIRECT.ordinal() == enc) {
-            readDirectValues(firstByte);
+            return readShortRepeatValues(firstByte, buffer, offset);
         }
-        else if (EncodingType.PATCHED_BASE.ordinal() == enc) {
-            readPatchedBaseValues(firstByte);
+        if (EncodingType.DIRECT.ordinal() == enc) {
+            return readDirectValues(firstByte, buffer, offset);
         }
-        else {
-            readDeltaValues(firstByte);
+        if (EncodingType.PATCHED_BASE.ordinal() == enc) {
+            return readPatchedBaseValues(firstByte, buffer, offset);
         }
+        return readDeltaValues(firstByte, buffer, offset);
     }
 
     // This comes from the Apache Hive ORC code
-    private void readDeltaValues(int firstByte)
+    private int readDeltaValues(int firstByte, long[] buffer, int offset)
             throws IOException
     {
+        int position = offset;
+
         // extract the number of fixed bits
         int fixedBits = (firstByte >>> 1) & 0x1f;
         if (fixedBits != 0) {
@@ -99,49 +162,55 @@ public class LongInputStreamV2
         long firstVal = LongDecode.readVInt(signed, input);
 
         // store first value to result buffer
-        literals[numLiterals++] = firstVal;
+        buffer[position++] = firstVal;
 
         // if fixed bits is 0 then all values have fixed delta
-        long prevVal;
         if (fixedBits == 0) {
             // read the fixed delta value stored as vint (deltas can be negative even
             // if all number are positive)
             long fixedDelta = LongDecode.readSignedVInt(input);
 
             // add fixed deltas to adjacent values
+            long value = firstVal;
             for (int i = 0; i < length; i++) {
-                literals[numLiterals++] = literals[numLiterals - 2] + fixedDelta;
+                value += fixedDelta;
+                buffer[position++] = value;
             }
         }
         else {
             long deltaBase = LongDecode.readSignedVInt(input);
             // add delta base and first value
-            literals[numLiterals++] = firstVal + deltaBase;
-            prevVal = literals[numLiterals - 1];
+            long prevVal = firstVal + deltaBase;
+            buffer[position++] = prevVal;
             length -= 1;
 
             // write the unpacked values, add it to previous value and store final
             // value to result buffer. if the delta base value is negative then it
             // is a decreasing sequence else an increasing sequence
-            packer.unpack(literals, numLiterals, length, fixedBits, input);
-            while (length > 0) {
-                if (deltaBase < 0) {
-                    literals[numLiterals] = prevVal - literals[numLiterals];
+            packer.unpack(buffer, position, length, fixedBits, input);
+            int end = position + length;
+            if (deltaBase < 0) {
+                for (; position < end; position++) {
+                    prevVal -= buffer[position];
+                    buffer[position] = prevVal;
                 }
-                else {
-                    literals[numLiterals] = prevVal + literals[numLiterals];
+            }
+            else {
+                for (; position < end; position++) {
+                    prevVal += buffer[position];
+                    buffer[position] = prevVal;
                 }
-                prevVal = literals[numLiterals];
-                length--;
-                numLiterals++;
             }
         }
+        return position - offset;
     }
 
     // This comes from the Apache Hive ORC code
-    private void readPatchedBaseValues(int firstByte)
+    private int readPatchedBaseValues(int firstByte, long[] buffer, int offset)
             throws IOException
     {
+        int position = offset;
+
         // extract the number of fixed bits
         int fb = LongDecode.decodeBitWidth((firstByte >>> 1) & 0b1_1111);
 
@@ -179,11 +248,11 @@ public class LongInputStreamV2
         }
 
         // unpack the data blob
-        long[] unpacked = new long[length];
+        long[] unpacked = unpackedValues;
         packer.unpack(unpacked, 0, length, fb, input);
 
         // unpack the patch blob
-        long[] unpackedPatch = new long[patchListLength];
+        long[] unpackedPatch = unpackedPatchValues;
 
         if ((patchWidth + patchGapWidth) > 64 && !skipCorrupt) {
             throw new OrcCorruptionException(input.getOrcDataSourceId(), "Invalid RLEv2 encoded stream");
@@ -213,13 +282,13 @@ public class LongInputStreamV2
         actualGap += currentGap;
 
         // unpack data blob, patch it (if required), add base to get final result
-        for (int i = 0; i < unpacked.length; i++) {
+        for (int i = 0; i < length; i++) {
             if (i == actualGap) {
                 // extract the patch value
                 long patchedValue = unpacked[i] | (currentPatch << fb);
 
                 // add base to patched value
-                literals[numLiterals++] = base + patchedValue;
+                buffer[position++] = base + patchedValue;
 
                 // increment the patch to point to next entry in patch list
                 patchIndex++;
@@ -247,39 +316,64 @@ public class LongInputStreamV2
             }
             else {
                 // no patching required. add base to unpacked value to get final value
-                literals[numLiterals++] = base + unpacked[i];
+                buffer[position++] = base + unpacked[i];
             }
         }
+        return position - offset;
     }
 
     // This comes from the Apache Hive ORC code
-    private void readDirectValues(int firstByte)
+    private int readDirectValues(int firstByte, long[] buffer, int offset)
             throws IOException
     {
         // extract the number of fixed bits
         int fixedBits = LongDecode.decodeBitWidth((firstByte >>> 1) & 0b1_1111);
+        int length = readDirectRunLength(firstByte);
+        return unpackDirectValues(fixedBits, length, buffer, offset);
+    }
 
+    private int readDirectRunLength(int firstByte)
+            throws IOException
+    {
         // extract the run length
         int length = (firstByte & 0b1) << 8;
         length |= input.read();
         // runs are one off
-        length += 1;
+        return length + 1;
+    }
 
+    private int unpackDirectValues(int fixedBits, int length, long[] buffer, int offset)
+            throws IOException
+    {
         // write the unpacked values and zigzag decode to result buffer
-        packer.unpack(literals, numLiterals, length, fixedBits, input);
+        packer.unpack(buffer, offset, length, fixedBits, input);
         if (signed) {
-            for (int i = 0; i < length; i++) {
-                literals[numLiterals] = LongDecode.zigzagDecode(literals[numLiterals]);
-                numLiterals++;
+            for (int i = offset; i < offset + length; i++) {
+                buffer[i] = LongDecode.zigzagDecode(buffer[i]);
             }
         }
-        else {
-            numLiterals += length;
+        return length;
+    }
+
+    private int readDirectValues(int firstByte, int[] buffer, int offset)
+            throws IOException
+    {
+        int fixedBits = LongDecode.decodeBitWidth((firstByte >>> 1) & 0b1_1111);
+        int length = readDirectRunLength(firstByte);
+
+        packer.unpack(buffer, offset, length, fixedBits, input);
+        if (signed) {
+            for (int i = offset; i < offset + length; i++) {
+                // zigzag decoding of a value of at most 32 bits can be done in int arithmetic
+                int value = buffer[i];
+                buffer[i] = (value >>> 1) ^ -(value & 1);
+            }
         }
+        return length;
     }
 
     // This comes from the Apache Hive ORC code
-    private void readShortRepeatValues(int firstByte)
+    private int readShortRepeatValues(int firstByte, long[] buffer, int offset)
             throws IOException
     {
         // read the number of bytes occupied by the value
@@ -300,9 +394,8 @@ public class LongInputStreamV2
         }
 
         // repeat the value for length times
-        for (int i = 0; i < length; i++) {
-            literals[numLiterals++] = val;
-        }
+        Arrays.fill(buffer, offset, offset + length, val);
+        return length;
     }
 
     /**
@@ -327,8 +420,6 @@ public class LongInputStreamV2
             throws IOException
     {
         if (used == numLiterals) {
-            numLiterals = 0;
-            used = 0;
             readValues();
         }
         return literals[used++];
@@ -341,8 +432,13 @@ public class LongInputStreamV2
         int offset = 0;
         while (items > 0) {
             if (used == numLiterals) {
-                numLiterals = 0;
-                used = 0;
+                if (items >= MAX_LITERAL_SIZE) {
+                    // a whole run fits in the output, so skip the intermediate buffer
+                    int length = readValuesInto(values, offset);
+                    offset += length;
+                    items -= length;
+                    continue;
+                }
                 readValues();
             }
 
@@ -361,8 +457,12 @@ public class LongInputStreamV2
         int offset = 0;
         while (items > 0) {
             if (used == numLiterals) {
-                numLiterals = 0;
-                used = 0;
+                if (items >= MAX_LITERAL_SIZE) {
+                    int length = readValuesInto(values, offset);
+                    offset += length;
+                    items -= length;
+                    continue;
+                }
                 readValues();
             }
 
@@ -388,8 +488,6 @@ public class LongInputStreamV2
         int offset = 0;
         while (items > 0) {
             if (used == numLiterals) {
-                numLiterals = 0;
-                used = 0;
                 readValues();
             }
 
@@ -433,9 +531,25 @@ public class LongInputStreamV2
     {
         while (items > 0) {
             if (used == numLiterals) {
-                numLiterals = 0;
+                long checkpoint = input.getCheckpoint();
+                int firstByte = readFirstByte();
+                if (((firstByte >>> 6) & 0x03) == EncodingType.DIRECT.ordinal()) {
+                    int fixedBits = LongDecode.decodeBitWidth((firstByte >>> 1) & 0b1_1111);
+                    int length = readDirectRunLength(firstByte);
+                    if (length <= items) {
+                        // the values of a skipped DIRECT run are fixed width, so they do not need to be unpacked
+                        input.skipFully(((long) length * fixedBits + 7) / 8);
+                        discardBufferedValues();
+                        items -= length;
+                        continue;
+                    }
+                    numLiterals = unpackDirectValues(fixedBits, length, literals, 0);
+                }
+                else {
+                    numLiterals = readValues(firstByte, literals, 0);
+                }
+                lastReadInputCheckpoint = checkpoint;
                 used = 0;
-                readValues();
             }
             long consume = min(items, numLiterals - used);
             used += consume;
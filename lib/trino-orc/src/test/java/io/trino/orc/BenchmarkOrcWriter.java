@@ -0,0 +1,182 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.orc;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.airlift.slice.Slices;
+import io.trino.orc.metadata.CompressionKind;
+import io.trino.orc.metadata.OrcType;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.type.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.io.ByteStreams.nullOutputStream;
+import static io.trino.orc.OrcWriteValidation.OrcWriteValidationMode.BOTH;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.DoubleType.DOUBLE;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Measures rows per second written by {@link OrcWriter} for wide tables, with and
+ * without parallel column encoding.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OperationsPerInvocation(BenchmarkOrcWriter.ROWS)
+public class BenchmarkOrcWriter
+{
+    public static final int ROWS = 100_000;
+    private static final int PAGE_ROWS = 10_000;
+
+    @Param({"20", "100", "400"})
+    private int columnCount = 100;
+
+    @Param({"1", "2", "4", "8"})
+    private int writerParallelism = 1;
+
+    @Param({"NONE", "ZLIB", "ZSTD"})
+    private String compression = "ZSTD";
+
+    private final Random random = new Random(0);
+    private List<String> columnNames;
+    private List<Type> types;
+    private List<Page> pages;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup()
+    {
+        ImmutableList.Builder<String> columnNames = ImmutableList.builder();
+        ImmutableList.Builder<Type> types = ImmutableList.builder();
+        for (int column = 0; column < columnCount; column++) {
+            columnNames.add("column_" + column);
+            // mix of the most common column types in wide fact tables
+            switch (column % 3) {
+                case 0:
+                    types.add(BIGINT);
+                    break;
+                case 1:
+                    types.add(DOUBLE);
+                    break;
+                default:
+                    types.add(VARCHAR);
+            }
+        }
+        this.columnNames = columnNames.build();
+        this.types = types.build();
+
+        pages = new ArrayList<>();
+        for (int rows = 0; rows < ROWS; rows += PAGE_ROWS) {
+            pages.add(createPage(this.types, PAGE_ROWS));
+        }
+
+        executor = newCachedThreadPool();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public long writeWideTable()
+            throws IOException
+    {
+        OrcWriter writer = new OrcWriter(
+                new OutputStreamOrcDataSink(nullOutputStream()),
+                columnNames,
+                types,
+                OrcType.createRootOrcType(columnNames, types),
+                CompressionKind.valueOf(compression),
+                new OrcWriterOptions()
+                        .withWriterParallelism(writerParallelism),
+                false,
+                ImmutableMap.of(),
+                false,
+                BOTH,
+                new OrcWriterStats(),
+                executor);
+        for (Page page : pages) {
+            writer.write(page);
+        }
+        writer.close();
+        return writer.getWrittenBytes();
+    }
+
+    private Page createPage(List<Type> types, int rows)
+    {
+        Block[] blocks = new Block[types.size()];
+        for (int channel = 0; channel < types.size(); channel++) {
+            Type type = types.get(channel);
+            BlockBuilder blockBuilder = type.createBlockBuilder(null, rows);
+            for (int position = 0; position < rows; position++) {
+                if (type == BIGINT) {
+                    BIGINT.writeLong(blockBuilder, random.nextInt(1_000_000));
+                }
+                else if (type == DOUBLE) {
+                    DOUBLE.writeDouble(blockBuilder, random.nextDouble());
+                }
+                else {
+                    VARCHAR.writeSlice(blockBuilder, Slices.utf8Slice("value_" + random.nextInt(100_000)));
+                }
+            }
+            blocks[channel] = blockBuilder.build();
+        }
+        return new Page(rows, blocks);
+    }
+
+    public static void main(String[] args)
+            throws Exception
+    {
+        Options options = new OptionsBuilder()
+                .verbosity(VerboseMode.NORMAL)
+                .include(".*" + BenchmarkOrcWriter.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(options).run();
+    }
+}
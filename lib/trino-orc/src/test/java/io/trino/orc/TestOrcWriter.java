@@ -40,7 +40,9 @@ import java.io.InputStream;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
+import static io.airlift.testing.Assertions.assertGreaterThan;
 import static io.airlift.testing.Assertions.assertGreaterThanOrEqual;
 import static io.airlift.units.DataSize.Unit.MEGABYTE;
 import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
@@ -49,9 +51,12 @@ import static io.trino.orc.StripeReader.isIndexStream;
 import static io.trino.orc.TestingOrcPredicate.ORC_ROW_GROUP_SIZE;
 import static io.trino.orc.TestingOrcPredicate.ORC_STRIPE_SIZE;
 import static io.trino.orc.metadata.CompressionKind.NONE;
+import static io.trino.spi.type.BigintType.BIGINT;
 import static io.trino.spi.type.VarcharType.VARCHAR;
 import static java.lang.Math.toIntExact;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 
 public class TestOrcWriter
@@ -136,4 +141,61 @@ public class TestOrcWriter
             }
         }
     }
+
+    @Test
+    public void testParallelColumnWriters()
+            throws IOException
+    {
+        ExecutorService executor = newCachedThreadPool();
+        try {
+            TempFile tempFile = new TempFile();
+
+            List<String> columnNames = ImmutableList.of("test1", "test2", "test3", "test4", "test5", "test6");
+            List<Type> types = ImmutableList.of(VARCHAR, BIGINT, VARCHAR, BIGINT, VARCHAR, BIGINT);
+            OrcWriterStats stats = new OrcWriterStats();
+
+            OrcWriter writer = new OrcWriter(
+                    new OutputStreamOrcDataSink(new FileOutputStream(tempFile.getFile())),
+                    columnNames,
+                    types,
+                    OrcType.createRootOrcType(columnNames, types),
+                    NONE,
+                    new OrcWriterOptions()
+                            .withStripeMaxRowCount(ORC_STRIPE_SIZE)
+                            .withRowGroupMaxRowCount(ORC_ROW_GROUP_SIZE)
+                            .withWriterParallelism(4),
+                    false,
+                    ImmutableMap.of(),
+                    true,
+                    OrcWriteValidationMode.DETAILED,
+                    stats,
+                    executor);
+
+            for (int page = 0; page < 10; page++) {
+                Block[] blocks = new Block[types.size()];
+                for (int channel = 0; channel < types.size(); channel++) {
+                    BlockBuilder blockBuilder = types.get(channel).createBlockBuilder(null, 10_000);
+                    for (int position = 0; position < 10_000; position++) {
+                        if (types.get(channel) == VARCHAR) {
+                            VARCHAR.writeString(blockBuilder, "value" + (page * position + channel) % 1000);
+                        }
+                        else {
+                            BIGINT.writeLong(blockBuilder, page * position + channel);
+                        }
+                    }
+                    blocks[channel] = blockBuilder.build();
+                }
+                writer.write(new Page(blocks));
+            }
+            writer.close();
+
+            // the validation re-reads the whole file and compares it with the written data
+            writer.validate(new FileOrcDataSource(tempFile.getFile(), READER_OPTIONS));
+            assertEquals(writer.getFileRowCount(), 100_000);
+            assertGreaterThan(stats.getInlineColumnWriterTasks() + stats.getOffloadedColumnWriterTasks(), 0L);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
 }
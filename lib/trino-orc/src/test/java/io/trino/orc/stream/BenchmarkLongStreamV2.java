@@ -0,0 +1,169 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.orc.stream;
+
+import io.airlift.slice.DynamicSliceOutput;
+import io.airlift.slice.Slice;
+import io.trino.orc.OrcDataSourceId;
+import io.trino.orc.metadata.OrcColumnId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
+import static io.trino.orc.metadata.CompressionKind.NONE;
+import static io.trino.orc.metadata.Stream.StreamKind.DATA;
+
+@SuppressWarnings("MethodMayBeStatic")
+@State(Scope.Thread)
+@Fork(2)
+@Warmup(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OperationsPerInvocation(BenchmarkLongStreamV2.VALUES)
+public class BenchmarkLongStreamV2
+{
+    public static final int VALUES = 100_000;
+    private static final int BATCH_SIZE = 8192;
+    private static final OrcDataSourceId DATA_SOURCE_ID = new OrcDataSourceId("benchmark");
+
+    @Benchmark
+    public Object readLongs(BenchmarkData data)
+            throws IOException
+    {
+        LongInputStreamV2 stream = data.createStream();
+        for (int read = 0; read < VALUES; read += BATCH_SIZE) {
+            stream.next(data.longs, Math.min(BATCH_SIZE, VALUES - read));
+        }
+        return data.longs;
+    }
+
+    @Benchmark
+    public Object readInts(BenchmarkData data)
+            throws IOException
+    {
+        LongInputStreamV2 stream = data.createStream();
+        for (int read = 0; read < VALUES; read += BATCH_SIZE) {
+            stream.next(data.ints, Math.min(BATCH_SIZE, VALUES - read));
+        }
+        return data.ints;
+    }
+
+    @Benchmark
+    public long readSingleValues(BenchmarkData data)
+            throws IOException
+    {
+        LongInputStreamV2 stream = data.createStream();
+        long sum = 0;
+        for (int i = 0; i < VALUES; i++) {
+            sum += stream.next();
+        }
+        return sum;
+    }
+
+    @SuppressWarnings("FieldMayBeFinal")
+    @State(Scope.Thread)
+    public static class BenchmarkData
+    {
+        private final long[] longs = new long[BATCH_SIZE];
+        private final int[] ints = new int[BATCH_SIZE];
+
+        @Param({"SHORT_REPEAT", "DIRECT", "PATCHED_BASE", "DELTA"})
+        private String encoding = "DIRECT";
+
+        @Param({"1", "2", "3", "4", "7", "8", "12", "16", "20", "24", "28", "30"})
+        private int bits = 8;
+
+        @Param({"true", "false"})
+        private boolean signed = true;
+
+        private Slice data;
+
+        @Setup
+        public void setup()
+        {
+            Random random = new Random(0);
+            LongOutputStreamV2 output = new LongOutputStreamV2(NONE, 256 * 1024, signed, DATA);
+            long maxValue = signed ? (1L << (bits - 1)) - 1 : (1L << bits) - 1;
+            for (int i = 0; i < VALUES; i++) {
+                output.writeLong(createValue(random, i, maxValue));
+            }
+            output.close();
+            DynamicSliceOutput sliceOutput = new DynamicSliceOutput(VALUES);
+            output.getStreamDataOutput(new OrcColumnId(1)).writeData(sliceOutput);
+            data = sliceOutput.slice();
+        }
+
+        private long createValue(Random random, int position, long maxValue)
+        {
+            switch (encoding) {
+                case "SHORT_REPEAT":
+                    // runs of up to 10 equal values
+                    return ((position / 10) % 2) * Math.min(maxValue, 5);
+                case "DIRECT":
+                    return (long) (random.nextDouble() * maxValue);
+                case "PATCHED_BASE":
+                    // mostly narrow values, with an occasional full width outlier
+                    return position % 64 == 0 ? maxValue : random.nextInt(4);
+                case "DELTA":
+                    // monotonically increasing with deltas of the requested width
+                    return position * (maxValue / 2 + 1) / 1000 + random.nextInt(2);
+                default:
+                    throw new IllegalArgumentException("Unknown encoding: " + encoding);
+            }
+        }
+
+        public LongInputStreamV2 createStream()
+                throws IOException
+        {
+            OrcInputStream input = new OrcInputStream(OrcChunkLoader.create(DATA_SOURCE_ID, data, Optional.empty(), newSimpleAggregatedMemoryContext()));
+            return new LongInputStreamV2(input, signed, false);
+        }
+    }
+
+    public static void main(String[] args)
+            throws Exception
+    {
+        // assure the benchmarks are valid before running
+        BenchmarkData data = new BenchmarkData();
+        data.setup();
+        new BenchmarkLongStreamV2().readLongs(data);
+
+        Options options = new OptionsBuilder()
+                .verbosity(VerboseMode.NORMAL)
+                .include(".*" + BenchmarkLongStreamV2.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(options).run();
+    }
+}
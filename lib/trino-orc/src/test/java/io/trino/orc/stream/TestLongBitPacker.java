@@ -39,6 +39,29 @@ public class TestLongBitPacker
         }
     }
 
+    @Test
+    public void testUnpackInts()
+            throws Exception
+    {
+        LongBitPacker packer = new LongBitPacker();
+        for (int length = 0; length < LENGTHS; length++) {
+            for (int width = 1; width <= Integer.SIZE; width++) {
+                for (int offset = 0; offset < OFFSETS; offset++) {
+                    long[] expected = new long[length + offset];
+                    int[] actual = new int[length + offset];
+                    RandomByteInputStream expectedInput = new RandomByteInputStream();
+                    unpackGeneric(expected, offset, length, width, expectedInput);
+                    RandomByteInputStream actualInput = new RandomByteInputStream();
+                    packer.unpack(actual, offset, length, width, actualInput);
+                    for (int i = offset; i < length + offset; i++) {
+                        assertEquals(actual[i], (int) expected[i], format("index = %s, length = %s, width = %s, offset = %s", i, length, width, offset));
+                    }
+                    assertEquals(actualInput.getReadBytes(), expectedInput.getReadBytes(), format("Wrong number of bytes read for length = %s, width = %s, offset = %s", length, width, offset));
+                }
+            }
+        }
+    }
+
     private static void assertUnpacking(LongBitPacker packer, int length)
             throws IOException
     {
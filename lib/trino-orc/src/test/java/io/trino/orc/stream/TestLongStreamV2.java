@@ -13,21 +13,25 @@
  */
 package io.trino.orc.stream;
 
+import io.airlift.slice.DynamicSliceOutput;
 import io.airlift.slice.Slice;
 import io.trino.orc.OrcCorruptionException;
 import io.trino.orc.OrcDecompressor;
 import io.trino.orc.checkpoint.LongStreamCheckpoint;
+import io.trino.orc.metadata.OrcColumnId;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 
 import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
 import static io.trino.orc.OrcDecompressor.createOrcDecompressor;
 import static io.trino.orc.metadata.CompressionKind.SNAPPY;
 import static io.trino.orc.metadata.Stream.StreamKind.DATA;
+import static org.testng.Assert.assertEquals;
 
 public class TestLongStreamV2
         extends AbstractTestValueStream<Long, LongStreamCheckpoint, LongOutputStreamV2, LongInputStreamV2>
@@ -47,6 +51,155 @@ public class TestLongStreamV2
         testWriteValue(groups);
     }
 
+    @Test
+    public void testBulkRead()
+            throws IOException
+    {
+        Random random = new Random(42);
+        for (boolean signed : new boolean[] {true, false}) {
+            for (int bits = 1; bits <= 31; bits++) {
+                long[] values = new long[10_000];
+                for (int i = 0; i < values.length; i++) {
+                    switch ((i / 1000) % 4) {
+                        case 0:
+                            // DIRECT
+                            values[i] = randomValue(random, bits, signed);
+                            break;
+                        case 1:
+                            // SHORT_REPEAT and DELTA with a fixed delta
+                            values[i] = (i / 7) * 3L;
+                            break;
+                        case 2:
+                            // PATCHED_BASE: small values with rare outliers
+                            values[i] = i % 100 == 0 ? randomValue(random, bits, signed) : random.nextInt(8);
+                            break;
+                        default:
+                            // DELTA with varying deltas
+                            values[i] = i * 100L + random.nextInt(50);
+                    }
+                }
+                Slice slice = writeValues(values, signed);
+
+                // read with a batch size that forces both buffered and direct decoding
+                LongInputStreamV2 longStream = createValueStream(slice, signed);
+                long[] longValues = new long[values.length];
+                int offset = 0;
+                for (int batchSize : new int[] {1, 37, 512, 513, 1024, 3000}) {
+                    long[] batch = new long[batchSize];
+                    int items = Math.min(batchSize, values.length - offset);
+                    longStream.next(batch, items);
+                    System.arraycopy(batch, 0, longValues, offset, items);
+                    offset += items;
+                }
+                long[] remaining = new long[values.length - offset];
+                longStream.next(remaining, remaining.length);
+                System.arraycopy(remaining, 0, longValues, offset, remaining.length);
+                assertEquals(longValues, values, "signed=" + signed + ", bits=" + bits);
+
+                LongInputStreamV2 intStream = createValueStream(slice, signed);
+                int[] intValues = new int[values.length];
+                intStream.next(intValues, values.length);
+                for (int i = 0; i < values.length; i++) {
+                    assertEquals(intValues[i], values[i], "signed=" + signed + ", bits=" + bits + ", index=" + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testShortRead()
+            throws IOException
+    {
+        Random random = new Random(42);
+        for (boolean signed : new boolean[] {true, false}) {
+            for (int bits : new int[] {1, 7, 13, 15}) {
+                long[] values = new long[10_000];
+                for (int i = 0; i < values.length; i++) {
+                    // mostly DIRECT runs, with some SHORT_REPEAT runs in between
+                    values[i] = (i / 1000) % 3 == 2 ? 7 : randomValue(random, bits, signed);
+                }
+                LongInputStreamV2 stream = createValueStream(writeValues(values, signed), signed);
+
+                // batches both shorter and longer than a run, so runs end inside and at the edge of a batch
+                int position = 0;
+                int batch = 0;
+                int[] batchSizes = {1, 37, 512, 600, 1500};
+                while (position < values.length) {
+                    int items = Math.min(batchSizes[batch++ % batchSizes.length], values.length - position);
+                    short[] shortValues = new short[items];
+                    stream.next(shortValues, items);
+                    for (int i = 0; i < items; i++) {
+                        assertEquals(shortValues[i], values[position + i], "signed=" + signed + ", bits=" + bits + ", index=" + (position + i));
+                    }
+                    position += items;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSkip()
+            throws IOException
+    {
+        Random random = new Random(42);
+        for (boolean signed : new boolean[] {true, false}) {
+            for (int bits : new int[] {1, 7, 13, 24, 31}) {
+                long[] values = new long[10_000];
+                for (int i = 0; i < values.length; i++) {
+                    // mostly DIRECT runs, with some SHORT_REPEAT runs in between
+                    values[i] = (i / 1000) % 3 == 2 ? 7 : randomValue(random, bits, signed);
+                }
+                LongInputStreamV2 stream = createValueStream(writeValues(values, signed), signed);
+
+                // skip both whole runs and partial runs between reads
+                int position = 0;
+                while (position < values.length) {
+                    int skip = Math.min(random.nextInt(1200), values.length - position);
+                    stream.skip(skip);
+                    position += skip;
+                    int read = Math.min(random.nextInt(20), values.length - position);
+                    long[] batch = new long[read];
+                    stream.next(batch, read);
+                    for (int i = 0; i < read; i++) {
+                        assertEquals(batch[i], values[position + i], "signed=" + signed + ", bits=" + bits + ", index=" + (position + i));
+                    }
+                    position += read;
+                }
+            }
+        }
+    }
+
+    private static long randomValue(Random random, int bits, boolean signed)
+    {
+        long value = random.nextLong() & ((1L << bits) - 1);
+        if (signed) {
+            // keep the zigzag encoded value within the requested width
+            value >>= 1;
+            return random.nextBoolean() ? value : -value;
+        }
+        return value;
+    }
+
+    private static Slice writeValues(long[] values, boolean signed)
+    {
+        LongOutputStreamV2 outputStream = new LongOutputStreamV2(SNAPPY, COMPRESSION_BLOCK_SIZE, signed, DATA);
+        for (long value : values) {
+            outputStream.writeLong(value);
+        }
+        outputStream.close();
+        DynamicSliceOutput sliceOutput = new DynamicSliceOutput(1000);
+        outputStream.getStreamDataOutput(new OrcColumnId(33)).writeData(sliceOutput);
+        return sliceOutput.slice();
+    }
+
+    private static LongInputStreamV2 createValueStream(Slice slice, boolean signed)
+            throws OrcCorruptionException
+    {
+        Optional<OrcDecompressor> orcDecompressor = createOrcDecompressor(ORC_DATA_SOURCE_ID, SNAPPY, COMPRESSION_BLOCK_SIZE);
+        OrcInputStream input = new OrcInputStream(OrcChunkLoader.create(ORC_DATA_SOURCE_ID, slice, orcDecompressor, newSimpleAggregatedMemoryContext()));
+        return new LongInputStreamV2(input, signed, false);
+    }
+
     @Override
     protected LongOutputStreamV2 createValueOutputStream()
     {
@@ -63,9 +216,7 @@ public class TestLongStreamV2
     protected LongInputStreamV2 createValueStream(Slice slice)
             throws OrcCorruptionException
     {
-        Optional<OrcDecompressor> orcDecompressor = createOrcDecompressor(ORC_DATA_SOURCE_ID, SNAPPY, COMPRESSION_BLOCK_SIZE);
-        OrcInputStream input = new OrcInputStream(OrcChunkLoader.create(ORC_DATA_SOURCE_ID, slice, orcDecompressor, newSimpleAggregatedMemoryContext()));
-        return new LongInputStreamV2(input, true, false);
+        return createValueStream(slice, true);
     }
 
     @Override
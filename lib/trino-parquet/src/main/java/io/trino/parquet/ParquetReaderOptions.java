@@ -15,6 +15,7 @@ package io.trino.parquet;
 
 import io.airlift.units.DataSize;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static io.airlift.units.DataSize.Unit.MEGABYTE;
 import static java.util.Objects.requireNonNull;
 
@@ -23,11 +24,13 @@ public class ParquetReaderOptions
     private static final DataSize DEFAULT_MAX_READ_BLOCK_SIZE = DataSize.of(16, MEGABYTE);
     private static final DataSize DEFAULT_MAX_MERGE_DISTANCE = DataSize.of(1, MEGABYTE);
     private static final DataSize DEFAULT_MAX_BUFFER_SIZE = DataSize.of(8, MEGABYTE);
+    private static final int DEFAULT_MAX_READ_CONCURRENCY = 1;
 
     private final boolean ignoreStatistics;
     private final DataSize maxReadBlockSize;
     private final DataSize maxMergeDistance;
     private final DataSize maxBufferSize;
+    private final int maxReadConcurrency;
 
     public ParquetReaderOptions()
     {
@@ -35,18 +38,22 @@ public class ParquetReaderOptions
         maxReadBlockSize = DEFAULT_MAX_READ_BLOCK_SIZE;
         maxMergeDistance = DEFAULT_MAX_MERGE_DISTANCE;
         maxBufferSize = DEFAULT_MAX_BUFFER_SIZE;
+        maxReadConcurrency = DEFAULT_MAX_READ_CONCURRENCY;
     }
 
     private ParquetReaderOptions(
             boolean ignoreStatistics,
             DataSize maxReadBlockSize,
             DataSize maxMergeDistance,
-            DataSize maxBufferSize)
+            DataSize maxBufferSize,
+            int maxReadConcurrency)
     {
         this.ignoreStatistics = ignoreStatistics;
         this.maxReadBlockSize = requireNonNull(maxReadBlockSize, "maxMergeDistance is null");
         this.maxMergeDistance = requireNonNull(maxMergeDistance, "maxMergeDistance is null");
         this.maxBufferSize = requireNonNull(maxBufferSize, "maxBufferSize is null");
+        checkArgument(maxReadConcurrency >= 1, "maxReadConcurrency must be at least 1");
+        this.maxReadConcurrency = maxReadConcurrency;
     }
 
     public boolean isIgnoreStatistics()
@@ -69,13 +76,19 @@ public class ParquetReaderOptions
         return maxBufferSize;
     }
 
+    public int getMaxReadConcurrency()
+    {
+        return maxReadConcurrency;
+    }
+
     public ParquetReaderOptions withIgnoreStatistics(boolean ignoreStatistics)
     {
         return new ParquetReaderOptions(
                 ignoreStatistics,
                 maxReadBlockSize,
                 maxMergeDistance,
-                maxBufferSize);
+                maxBufferSize,
+                maxReadConcurrency);
     }
 
     public ParquetReaderOptions withMaxReadBlockSize(DataSize maxReadBlockSize)
@@ -84,7 +97,8 @@ public class ParquetReaderOptions
                 ignoreStatistics,
                 maxReadBlockSize,
                 maxMergeDistance,
-                maxBufferSize);
+                maxBufferSize,
+                maxReadConcurrency);
     }
 
     public ParquetReaderOptions withMaxMergeDistance(DataSize maxMergeDistance)
@@ -93,7 +107,8 @@ public class ParquetReaderOptions
                 ignoreStatistics,
                 maxReadBlockSize,
                 maxMergeDistance,
-                maxBufferSize);
+                maxBufferSize,
+                maxReadConcurrency);
     }
 
     public ParquetReaderOptions withMaxBufferSize(DataSize maxBufferSize)
@@ -102,6 +117,17 @@ public class ParquetReaderOptions
                 ignoreStatistics,
                 maxReadBlockSize,
                 maxMergeDistance,
-                maxBufferSize);
+                maxBufferSize,
+                maxReadConcurrency);
+    }
+
+    public ParquetReaderOptions withMaxReadConcurrency(int maxReadConcurrency)
+    {
+        return new ParquetReaderOptions(
+                ignoreStatistics,
+                maxReadBlockSize,
+                maxMergeDistance,
+                maxBufferSize,
+                maxReadConcurrency);
     }
 }
@@ -53,6 +53,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static io.trino.parquet.ParquetValidationUtils.validateParquet;
@@ -242,6 +243,12 @@ public class ParquetReader
 
     private ColumnChunk readPrimitive(PrimitiveField field)
             throws IOException
+    {
+        return readPrimitive(field, columnReader -> columnReader.readPrimitive(field));
+    }
+
+    private ColumnChunk readPrimitive(PrimitiveField field, Function<PrimitiveColumnReader, ColumnChunk> read)
+            throws IOException
     {
         ColumnDescriptor columnDescriptor = field.getDescriptor();
         int fieldId = field.getId();
@@ -259,7 +266,7 @@ public class ParquetReader
             ParquetColumnChunk columnChunk = new ParquetColumnChunk(fileCreatedBy, descriptor, data);
             columnReader.setPageReader(columnChunk.readAllPages());
         }
-        ColumnChunk columnChunk = columnReader.readPrimitive(field);
+        ColumnChunk columnChunk = read.apply(columnReader);
 
         // update max size per primitive column chunk
         long bytesPerCell = columnChunk.getBlock().getSizeInBytes() / batchSize;
@@ -297,6 +304,19 @@ public class ParquetReader
         return readColumnChunk(field).getBlock();
     }
 
+    /**
+     * Reads a block where only the values at the selected positions must be decoded.
+     * The values at the other positions are unspecified.
+     */
+    public Block readBlock(Field field, int[] positions, int offset, int length)
+            throws IOException
+    {
+        if (field instanceof PrimitiveField) {
+            return readPrimitive((PrimitiveField) field, columnReader -> columnReader.readPrimitive(field, positions, offset, length)).getBlock();
+        }
+        return readBlock(field);
+    }
+
     private ColumnChunk readColumnChunk(Field field)
             throws IOException
     {
@@ -161,20 +161,86 @@ public abstract class PrimitiveColumnReader
         IntList repetitionLevels = new IntArrayList();
         seek();
         BlockBuilder blockBuilder = field.getType().createBlockBuilder(null, nextBatchSize);
+        readPositions(blockBuilder, nextBatchSize, field.getType(), definitionLevels, repetitionLevels);
+
+        readOffset = 0;
+        nextBatchSize = 0;
+        return new ColumnChunk(blockBuilder.build(), definitionLevels.toIntArray(), repetitionLevels.toIntArray());
+    }
+
+    /**
+     * Reads a column chunk where only the values at the selected positions are decoded, and the
+     * other positions are null.  Only supported for columns that are not repeated, where every
+     * value is a separate position.
+     */
+    public ColumnChunk readPrimitive(Field field, int[] positions, int offset, int length)
+    {
+        // skipping values only pays off when most of them are not selected
+        if (columnDescriptor.getMaxRepetitionLevel() > 0 || length > nextBatchSize / 2) {
+            return readPrimitive(field);
+        }
+
+        IntList definitionLevels = new IntArrayList();
+        IntList repetitionLevels = new IntArrayList();
+        seek();
+        BlockBuilder blockBuilder = field.getType().createBlockBuilder(null, nextBatchSize);
+        int position = 0;
+        int end = offset + length;
+        for (int i = offset; i < end; ) {
+            int runStart = positions[i];
+            int runEnd = runStart + 1;
+            i++;
+            while (i < end && positions[i] == runEnd) {
+                runEnd++;
+                i++;
+            }
+
+            skipPositions(blockBuilder, runStart - position, definitionLevels, repetitionLevels);
+            readPositions(blockBuilder, runEnd - runStart, field.getType(), definitionLevels, repetitionLevels);
+            position = runEnd;
+        }
+        skipPositions(blockBuilder, nextBatchSize - position, definitionLevels, repetitionLevels);
+
+        readOffset = 0;
+        nextBatchSize = 0;
+        return new ColumnChunk(blockBuilder.build(), definitionLevels.toIntArray(), repetitionLevels.toIntArray());
+    }
+
+    private void readPositions(BlockBuilder blockBuilder, int positionCount, Type type, IntList definitionLevels, IntList repetitionLevels)
+    {
         int valueCount = 0;
-        while (valueCount < nextBatchSize) {
+        while (valueCount < positionCount) {
             if (page == null) {
                 readNextPage();
             }
-            int valuesToRead = Math.min(remainingValueCountInPage, nextBatchSize - valueCount);
-            readValues(blockBuilder, valuesToRead, field.getType(), definitionLevels, repetitionLevels);
+            int valuesToRead = Math.min(remainingValueCountInPage, positionCount - valueCount);
+            readValues(blockBuilder, valuesToRead, type, definitionLevels, repetitionLevels);
             valueCount += valuesToRead;
         }
-        checkArgument(valueCount == nextBatchSize, "valueCount %s not equals to batchSize %s", valueCount, nextBatchSize);
+        checkArgument(valueCount == positionCount, "valueCount %s not equals to positionCount %s", valueCount, positionCount);
+    }
 
-        readOffset = 0;
-        nextBatchSize = 0;
-        return new ColumnChunk(blockBuilder.build(), definitionLevels.toIntArray(), repetitionLevels.toIntArray());
+    private void skipPositions(BlockBuilder blockBuilder, int positionCount, IntList definitionLevels, IntList repetitionLevels)
+    {
+        skipPositions(positionCount);
+        for (int i = 0; i < positionCount; i++) {
+            blockBuilder.appendNull();
+            definitionLevels.add(0);
+            repetitionLevels.add(0);
+        }
+    }
+
+    private void skipPositions(int positionCount)
+    {
+        int valuePosition = 0;
+        while (valuePosition < positionCount) {
+            if (page == null) {
+                readNextPage();
+            }
+            int valuesToSkip = Math.min(remainingValueCountInPage, positionCount - valuePosition);
+            skipValues(valuesToSkip);
+            valuePosition += valuesToSkip;
+        }
     }
 
     private void readValues(BlockBuilder blockBuilder, int valuesToRead, Type type, IntList definitionLevels, IntList repetitionLevels)
@@ -223,16 +289,7 @@ public abstract class PrimitiveColumnReader
         if (readOffset == 0) {
             return;
         }
-        int valuePosition = 0;
-        while (valuePosition < readOffset) {
-            if (page == null) {
-                readNextPage();
-            }
-            int offset = Math.min(remainingValueCountInPage, readOffset - valuePosition);
-            skipValues(offset);
-            valuePosition = valuePosition + offset;
-        }
-        checkArgument(valuePosition == readOffset, "valuePosition %s must be equal to readOffset %s", valuePosition, readOffset);
+        skipPositions(readOffset);
     }
 
     private boolean readNextPage()
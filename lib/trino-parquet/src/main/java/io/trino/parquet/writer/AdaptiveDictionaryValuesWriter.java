@@ -0,0 +1,300 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.parquet.writer;
+
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.values.ValuesWriter;
+import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter;
+import org.apache.parquet.io.api.Binary;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static java.lang.Math.max;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Chooses between dictionary and direct encoding for each column chunk based on the data.
+ * <p>
+ * The first page of a column chunk is encoded both ways, and the dictionary is used only if
+ * the compressed dictionary ids plus the dictionary are smaller than the compressed direct
+ * encoding.  While the dictionary is in use, the chunk is re-evaluated after every page
+ * against the direct size estimated from the first page, and the writer switches to direct
+ * encoding for the remaining pages once the dictionary stops paying off or grows too large.
+ * Pages written before the switch keep referencing the dictionary, which is still emitted.
+ * <p>
+ * Since the direct encoding of integers is DELTA_BINARY_PACKED, sorted and clustered integer
+ * columns end up delta encoded instead of in a dictionary that only beats the plain encoding.
+ */
+class AdaptiveDictionaryValuesWriter
+        extends ValuesWriter
+{
+    private final DictionaryValuesWriter dictionaryWriter;
+    private final ValuesWriter directWriter;
+    @Nullable
+    private final ParquetCompressor compressor;
+
+    // first page of the chunk, where values are written to both writers
+    private boolean trial = true;
+    private ValuesWriter currentWriter;
+    // writer that produced the bytes of the current page
+    private ValuesWriter pageWriter;
+    private boolean dictionaryPageUsed;
+    private boolean switchToDirect;
+
+    private int pageValueCount;
+    private long chunkValueCount;
+    private long dictionaryIdBytes;
+    private double directBytesPerValue;
+    private double dictionaryIdCompressionRatio = 1.0;
+
+    public AdaptiveDictionaryValuesWriter(DictionaryValuesWriter dictionaryWriter, ValuesWriter directWriter, @Nullable ParquetCompressor compressor)
+    {
+        this.dictionaryWriter = requireNonNull(dictionaryWriter, "dictionaryWriter is null");
+        this.directWriter = requireNonNull(directWriter, "directWriter is null");
+        this.compressor = compressor;
+        this.currentWriter = dictionaryWriter;
+        this.pageWriter = dictionaryWriter;
+    }
+
+    @Override
+    public void writeInteger(int value)
+    {
+        if (trial) {
+            dictionaryWriter.writeInteger(value);
+            directWriter.writeInteger(value);
+        }
+        else {
+            currentWriter.writeInteger(value);
+        }
+        valueWritten();
+    }
+
+    @Override
+    public void writeLong(long value)
+    {
+        if (trial) {
+            dictionaryWriter.writeLong(value);
+            directWriter.writeLong(value);
+        }
+        else {
+            currentWriter.writeLong(value);
+        }
+        valueWritten();
+    }
+
+    @Override
+    public void writeFloat(float value)
+    {
+        if (trial) {
+            dictionaryWriter.writeFloat(value);
+            directWriter.writeFloat(value);
+        }
+        else {
+            currentWriter.writeFloat(value);
+        }
+        valueWritten();
+    }
+
+    @Override
+    public void writeDouble(double value)
+    {
+        if (trial) {
+            dictionaryWriter.writeDouble(value);
+            directWriter.writeDouble(value);
+        }
+        else {
+            currentWriter.writeDouble(value);
+        }
+        valueWritten();
+    }
+
+    @Override
+    public void writeBytes(Binary value)
+    {
+        if (trial) {
+            dictionaryWriter.writeBytes(value);
+            directWriter.writeBytes(value);
+        }
+        else {
+            currentWriter.writeBytes(value);
+        }
+        valueWritten();
+    }
+
+    private void valueWritten()
+    {
+        pageValueCount++;
+        if (currentWriter == dictionaryWriter && dictionaryWriter.shouldFallBack()) {
+            if (trial) {
+                // the dictionary was never used, so drop it
+                trial = false;
+                dictionaryWriter.reset();
+                dictionaryWriter.resetDictionary();
+            }
+            else {
+                dictionaryWriter.fallBackAllValuesTo(directWriter);
+            }
+            currentWriter = directWriter;
+        }
+    }
+
+    @Override
+    public BytesInput getBytes()
+    {
+        if (trial) {
+            return getTrialBytes();
+        }
+
+        pageWriter = currentWriter;
+        chunkValueCount += pageValueCount;
+        BytesInput bytes = currentWriter.getBytes();
+        if (currentWriter == dictionaryWriter) {
+            dictionaryPageUsed = true;
+            dictionaryIdBytes += bytes.size();
+            long estimatedDirectSize = (long) (chunkValueCount * directBytesPerValue);
+            long estimatedDictionaryIdSize = (long) (dictionaryIdBytes * dictionaryIdCompressionRatio);
+            if (!dictionaryWriter.isCompressionSatisfying(estimatedDirectSize, estimatedDictionaryIdSize)) {
+                switchToDirect = true;
+            }
+        }
+        return bytes;
+    }
+
+    private BytesInput getTrialBytes()
+    {
+        if (pageValueCount == 0) {
+            // nothing to decide on, keep the trial going on the next page
+            pageWriter = directWriter;
+            return directWriter.getBytes();
+        }
+
+        trial = false;
+        chunkValueCount += pageValueCount;
+
+        BytesInput dictionaryBytes = dictionaryWriter.getBytes();
+        BytesInput directBytes = directWriter.getBytes();
+        long compressedDictionaryIdSize = getCompressedSize(dictionaryBytes);
+        long compressedDirectSize = getCompressedSize(directBytes);
+        directBytesPerValue = (double) compressedDirectSize / pageValueCount;
+        dictionaryIdCompressionRatio = (double) compressedDictionaryIdSize / max(1, dictionaryBytes.size());
+
+        if (dictionaryWriter.isCompressionSatisfying(compressedDirectSize, compressedDictionaryIdSize)) {
+            currentWriter = dictionaryWriter;
+            pageWriter = dictionaryWriter;
+            dictionaryPageUsed = true;
+            dictionaryIdBytes += dictionaryBytes.size();
+            return dictionaryBytes;
+        }
+
+        dictionaryWriter.reset();
+        dictionaryWriter.resetDictionary();
+        currentWriter = directWriter;
+        pageWriter = directWriter;
+        return directBytes;
+    }
+
+    private long getCompressedSize(BytesInput bytes)
+    {
+        if (compressor == null) {
+            return bytes.size();
+        }
+        try {
+            return compressor.compress(bytes).size();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Encoding getEncoding()
+    {
+        return pageWriter.getEncoding();
+    }
+
+    @Override
+    public long getBufferedSize()
+    {
+        if (trial) {
+            return max(dictionaryWriter.getBufferedSize(), directWriter.getBufferedSize());
+        }
+        return currentWriter.getBufferedSize();
+    }
+
+    @Override
+    public void reset()
+    {
+        dictionaryWriter.reset();
+        directWriter.reset();
+        pageValueCount = 0;
+        if (switchToDirect) {
+            switchToDirect = false;
+            currentWriter = directWriter;
+        }
+        pageWriter = currentWriter;
+    }
+
+    @Override
+    public void close()
+    {
+        dictionaryWriter.close();
+        directWriter.close();
+    }
+
+    @Override
+    public DictionaryPage toDictPageAndClose()
+    {
+        if (!dictionaryPageUsed) {
+            return null;
+        }
+        return dictionaryWriter.toDictPageAndClose();
+    }
+
+    @Override
+    public void resetDictionary()
+    {
+        dictionaryWriter.resetDictionary();
+        trial = true;
+        currentWriter = dictionaryWriter;
+        pageWriter = dictionaryWriter;
+        dictionaryPageUsed = false;
+        switchToDirect = false;
+        pageValueCount = 0;
+        chunkValueCount = 0;
+        dictionaryIdBytes = 0;
+        directBytesPerValue = 0;
+        dictionaryIdCompressionRatio = 1.0;
+    }
+
+    @Override
+    public long getAllocatedSize()
+    {
+        return dictionaryWriter.getAllocatedSize() + directWriter.getAllocatedSize();
+    }
+
+    @Override
+    public String memUsageString(String prefix)
+    {
+        return String.format("%s AdaptiveDictionaryValuesWriter {%n%s%n%s%n%s}%n",
+                prefix,
+                dictionaryWriter.memUsageString(prefix + " dictionary:"),
+                directWriter.memUsageString(prefix + " direct:"),
+                prefix);
+    }
+}
@@ -33,9 +33,17 @@ import io.trino.spi.type.DecimalType;
 import io.trino.spi.type.Type;
 import io.trino.spi.type.VarbinaryType;
 import io.trino.spi.type.VarcharType;
+import org.apache.parquet.bytes.ByteBufferAllocator;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.column.values.ValuesWriter;
+import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter;
+import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter.PlainBinaryDictionaryValuesWriter;
+import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter.PlainDoubleDictionaryValuesWriter;
+import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter.PlainFixedLenArrayDictionaryValuesWriter;
+import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter.PlainFloatDictionaryValuesWriter;
+import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter.PlainIntegerDictionaryValuesWriter;
+import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter.PlainLongDictionaryValuesWriter;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.MessageType;
@@ -47,6 +55,7 @@ import java.util.List;
 import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.parquet.writer.ParquetCompressor.getCompressor;
 import static io.trino.spi.StandardErrorCode.NOT_SUPPORTED;
 import static io.trino.spi.type.BigintType.BIGINT;
 import static io.trino.spi.type.BooleanType.BOOLEAN;
@@ -63,6 +72,8 @@ import static io.trino.spi.type.TimestampWithTimeZoneType.TIMESTAMP_TZ_MILLIS;
 import static io.trino.spi.type.TinyintType.TINYINT;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
+import static org.apache.parquet.column.Encoding.PLAIN;
+import static org.apache.parquet.column.Encoding.RLE_DICTIONARY;
 
 final class ParquetWriters
 {
@@ -140,7 +151,7 @@ final class ParquetWriters
             Type trinoType = requireNonNull(trinoTypes.get(ImmutableList.copyOf(path)), "Trino type is null");
             return new PrimitiveColumnWriter(
                     columnDescriptor,
-                    getValueWriter(parquetProperties.newValuesWriter(columnDescriptor), trinoType, columnDescriptor.getPrimitiveType()),
+                    getValueWriter(createValuesWriter(columnDescriptor, parquetProperties, compressionCodecName), trinoType, columnDescriptor.getPrimitiveType()),
                     parquetProperties.newDefinitionLevelEncoder(columnDescriptor),
                     parquetProperties.newRepetitionLevelEncoder(columnDescriptor),
                     compressionCodecName,
@@ -160,6 +171,38 @@ final class ParquetWriters
         }
     }
 
+    private static ValuesWriter createValuesWriter(ColumnDescriptor columnDescriptor, ParquetProperties parquetProperties, CompressionCodecName compressionCodecName)
+    {
+        // dictionary encoding is disabled in the properties, so this is the direct encoding of the column
+        ValuesWriter directWriter = parquetProperties.newValuesWriter(columnDescriptor);
+        int maxDictionaryByteSize = parquetProperties.getDictionaryPageSizeThreshold();
+        ByteBufferAllocator allocator = parquetProperties.getAllocator();
+        DictionaryValuesWriter dictionaryWriter;
+        switch (columnDescriptor.getPrimitiveType().getPrimitiveTypeName()) {
+            case INT32:
+                dictionaryWriter = new PlainIntegerDictionaryValuesWriter(maxDictionaryByteSize, RLE_DICTIONARY, PLAIN, allocator);
+                break;
+            case INT64:
+                dictionaryWriter = new PlainLongDictionaryValuesWriter(maxDictionaryByteSize, RLE_DICTIONARY, PLAIN, allocator);
+                break;
+            case FLOAT:
+                dictionaryWriter = new PlainFloatDictionaryValuesWriter(maxDictionaryByteSize, RLE_DICTIONARY, PLAIN, allocator);
+                break;
+            case DOUBLE:
+                dictionaryWriter = new PlainDoubleDictionaryValuesWriter(maxDictionaryByteSize, RLE_DICTIONARY, PLAIN, allocator);
+                break;
+            case BINARY:
+                dictionaryWriter = new PlainBinaryDictionaryValuesWriter(maxDictionaryByteSize, RLE_DICTIONARY, PLAIN, allocator);
+                break;
+            case FIXED_LEN_BYTE_ARRAY:
+                dictionaryWriter = new PlainFixedLenArrayDictionaryValuesWriter(maxDictionaryByteSize, columnDescriptor.getPrimitiveType().getTypeLength(), RLE_DICTIONARY, PLAIN, allocator);
+                break;
+            default:
+                return directWriter;
+        }
+        return new AdaptiveDictionaryValuesWriter(dictionaryWriter, directWriter, getCompressor(compressionCodecName));
+    }
+
     private static PrimitiveValueWriter getValueWriter(ValuesWriter valuesWriter, Type type, PrimitiveType parquetType)
     {
         if (BOOLEAN.equals(type)) {
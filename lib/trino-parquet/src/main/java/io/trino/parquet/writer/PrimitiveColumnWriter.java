@@ -20,6 +20,7 @@ import io.trino.parquet.writer.repdef.DefLevelIterables;
 import io.trino.parquet.writer.repdef.RepLevelIterable;
 import io.trino.parquet.writer.repdef.RepLevelIterables;
 import io.trino.parquet.writer.valuewriter.PrimitiveValueWriter;
+import io.trino.spi.block.Block;
 import org.apache.parquet.bytes.BytesInput;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Encoding;
@@ -46,6 +47,8 @@ import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.trino.parquet.writer.ParquetCompressor.getCompressor;
 import static io.trino.parquet.writer.ParquetDataOutput.createDataOutput;
 import static io.trino.parquet.writer.repdef.RepLevelIterables.getIterator;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.Math.toIntExact;
 import static java.util.Objects.requireNonNull;
 import static org.apache.parquet.bytes.BytesInput.copy;
@@ -110,6 +113,25 @@ public class PrimitiveColumnWriter
     {
         checkState(!closed);
 
+        Block block = columnChunk.getBlock();
+        if (!columnChunk.getDefLevelIterables().isEmpty() || block.getPositionCount() == 0) {
+            // nested values can only be split at the boundaries of the parent
+            writeValues(columnChunk);
+            return;
+        }
+
+        // split large blocks, so pages stay close to the threshold regardless of the value sizes
+        long bytesPerPosition = max(1, block.getSizeInBytes() / block.getPositionCount());
+        int maxPositions = toIntExact(max(1, pageSizeThreshold / bytesPerPosition));
+        for (int offset = 0; offset < block.getPositionCount(); offset += maxPositions) {
+            int length = min(maxPositions, block.getPositionCount() - offset);
+            writeValues(new ColumnChunk(block.getRegion(offset, length)));
+        }
+    }
+
+    private void writeValues(ColumnChunk columnChunk)
+            throws IOException
+    {
         ColumnChunk current = new ColumnChunk(columnChunk.getBlock(),
                 ImmutableList.<DefLevelIterable>builder()
                         .addAll(columnChunk.getDefLevelIterables())
@@ -144,7 +166,7 @@ public class PrimitiveColumnWriter
             }
         }
 
-        if (getBufferedBytes() >= pageSizeThreshold) {
+        if (getCurrentPageBufferedBytes() >= pageSizeThreshold) {
             flushCurrentPageToBuffer();
         }
     }
@@ -283,9 +305,9 @@ public class PrimitiveColumnWriter
             dictPage.add(pageData);
             totalCompressedSize += pageHeader.size() + compressedSize;
             totalUnCompressedSize += pageHeader.size() + uncompressedSize;
-
-            primitiveValueWriter.resetDictionary();
         }
+        // the next column chunk chooses its encoding again, even if no dictionary was written for this one
+        primitiveValueWriter.resetDictionary();
         getDataStreamsCalled = true;
 
         return ImmutableList.<ParquetDataOutput>builder()
@@ -303,6 +325,13 @@ public class PrimitiveColumnWriter
                 primitiveValueWriter.getBufferedSize();
     }
 
+    private long getCurrentPageBufferedBytes()
+    {
+        return definitionLevelEncoder.getBufferedSize() +
+                repetitionLevelEncoder.getBufferedSize() +
+                primitiveValueWriter.getBufferedSize();
+    }
+
     @Override
     public long getRetainedBytes()
     {
@@ -0,0 +1,190 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.parquet.writer;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.CountingOutputStream;
+import io.airlift.slice.Slices;
+import io.trino.spi.Page;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.type.Type;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.io.ByteStreams.nullOutputStream;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.DoubleType.DOUBLE;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Measures the write throughput of {@link ParquetWriter}.  Running {@link #main} also prints
+ * the size of the written file per row for each data set.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OperationsPerInvocation(BenchmarkParquetWriter.ROWS)
+public class BenchmarkParquetWriter
+{
+    public static final int ROWS = 100_000;
+    private static final int PAGE_ROWS = 10_000;
+
+    @Param({"SORTED_BIGINT", "RANDOM_BIGINT", "LOW_CARDINALITY_BIGINT", "RANDOM_DOUBLE", "LOW_CARDINALITY_VARCHAR", "RANDOM_VARCHAR"})
+    private DataSet dataSet = DataSet.SORTED_BIGINT;
+
+    @Param({"UNCOMPRESSED", "SNAPPY", "ZSTD"})
+    private CompressionCodecName compression = CompressionCodecName.SNAPPY;
+
+    private List<Page> pages;
+
+    @Setup
+    public void setup()
+    {
+        Random random = new Random(0);
+        pages = new ArrayList<>();
+        for (int rows = 0; rows < ROWS; rows += PAGE_ROWS) {
+            BlockBuilder blockBuilder = dataSet.getType().createBlockBuilder(null, PAGE_ROWS);
+            for (int position = rows; position < rows + PAGE_ROWS; position++) {
+                dataSet.writeValue(blockBuilder, position, random);
+            }
+            pages.add(new Page(blockBuilder.build()));
+        }
+    }
+
+    @Benchmark
+    public long write()
+            throws IOException
+    {
+        CountingOutputStream output = new CountingOutputStream(nullOutputStream());
+        ParquetSchemaConverter schemaConverter = new ParquetSchemaConverter(ImmutableList.of(dataSet.getType()), ImmutableList.of("column"));
+        ParquetWriter writer = new ParquetWriter(
+                output,
+                schemaConverter.getMessageType(),
+                schemaConverter.getPrimitiveTypes(),
+                ParquetWriterOptions.builder().build(),
+                compression);
+        for (Page page : pages) {
+            writer.write(page);
+        }
+        writer.close();
+        return output.getCount();
+    }
+
+    public enum DataSet
+    {
+        SORTED_BIGINT(BIGINT) {
+            @Override
+            void writeValue(BlockBuilder blockBuilder, int position, Random random)
+            {
+                BIGINT.writeLong(blockBuilder, 1_000_000_000L + position / 8);
+            }
+        },
+        RANDOM_BIGINT(BIGINT) {
+            @Override
+            void writeValue(BlockBuilder blockBuilder, int position, Random random)
+            {
+                BIGINT.writeLong(blockBuilder, random.nextLong());
+            }
+        },
+        LOW_CARDINALITY_BIGINT(BIGINT) {
+            @Override
+            void writeValue(BlockBuilder blockBuilder, int position, Random random)
+            {
+                BIGINT.writeLong(blockBuilder, random.nextInt(100) * 1_000_000_007L);
+            }
+        },
+        RANDOM_DOUBLE(DOUBLE) {
+            @Override
+            void writeValue(BlockBuilder blockBuilder, int position, Random random)
+            {
+                DOUBLE.writeDouble(blockBuilder, random.nextDouble());
+            }
+        },
+        LOW_CARDINALITY_VARCHAR(VARCHAR) {
+            @Override
+            void writeValue(BlockBuilder blockBuilder, int position, Random random)
+            {
+                VARCHAR.writeSlice(blockBuilder, Slices.utf8Slice("category_" + random.nextInt(100)));
+            }
+        },
+        RANDOM_VARCHAR(VARCHAR) {
+            @Override
+            void writeValue(BlockBuilder blockBuilder, int position, Random random)
+            {
+                VARCHAR.writeSlice(blockBuilder, Slices.utf8Slice(Long.toHexString(random.nextLong())));
+            }
+        };
+
+        private final Type type;
+
+        DataSet(Type type)
+        {
+            this.type = type;
+        }
+
+        public Type getType()
+        {
+            return type;
+        }
+
+        abstract void writeValue(BlockBuilder blockBuilder, int position, Random random);
+    }
+
+    public static void main(String[] args)
+            throws Exception
+    {
+        // assure the benchmarks are valid before running, and report the file sizes
+        for (DataSet dataSet : DataSet.values()) {
+            for (CompressionCodecName compression : ImmutableList.of(CompressionCodecName.UNCOMPRESSED, CompressionCodecName.SNAPPY, CompressionCodecName.ZSTD)) {
+                BenchmarkParquetWriter benchmark = new BenchmarkParquetWriter();
+                benchmark.dataSet = dataSet;
+                benchmark.compression = compression;
+                benchmark.setup();
+                System.out.printf("%-24s %-12s %6.2f bytes/row%n", dataSet, compression, (double) benchmark.write() / ROWS);
+            }
+        }
+
+        Options options = new OptionsBuilder()
+                .verbosity(VerboseMode.NORMAL)
+                .include(".*" + BenchmarkParquetWriter.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.parquet.writer;
+
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.column.values.ValuesWriter;
+import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter.PlainBinaryDictionaryValuesWriter;
+import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter.PlainLongDictionaryValuesWriter;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.PrimitiveType;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+import java.util.function.LongUnaryOperator;
+
+import static org.apache.parquet.column.Encoding.DELTA_BINARY_PACKED;
+import static org.apache.parquet.column.Encoding.PLAIN;
+import static org.apache.parquet.column.Encoding.RLE_DICTIONARY;
+import static org.apache.parquet.column.ParquetProperties.WriterVersion.PARQUET_2_0;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.BINARY;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT64;
+import static org.apache.parquet.schema.Type.Repetition.REQUIRED;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+public class TestAdaptiveDictionaryValuesWriter
+{
+    private static final int PAGE_VALUES = 1000;
+    private static final ParquetProperties PROPERTIES = ParquetProperties.builder()
+            .withWriterVersion(PARQUET_2_0)
+            .withDictionaryEncoding(false)
+            .build();
+
+    @Test
+    public void testLowCardinalityUsesDictionary()
+    {
+        AdaptiveDictionaryValuesWriter writer = createBinaryWriter(1024 * 1024);
+        for (int page = 0; page < 3; page++) {
+            for (int i = 0; i < PAGE_VALUES; i++) {
+                writer.writeBytes(Binary.fromString("some_longer_value_" + (i % 10) * 7919));
+            }
+            assertEquals(writePage(writer), RLE_DICTIONARY);
+        }
+        assertNotNull(writer.toDictPageAndClose());
+    }
+
+    @Test
+    public void testSortedIntegersUseDeltaEncoding()
+    {
+        // a dictionary would beat the plain encoding, but not the delta encoding
+        AdaptiveDictionaryValuesWriter writer = createLongWriter(1024 * 1024);
+        assertEquals(writePage(writer, position -> 1_000_000 + position / 4), DELTA_BINARY_PACKED);
+        assertEquals(writePage(writer, position -> 2_000_000 + position / 4), DELTA_BINARY_PACKED);
+        assertNull(writer.toDictPageAndClose());
+    }
+
+    @Test
+    public void testSwitchToDirectWhenDictionaryStopsPayingOff()
+    {
+        Random random = new Random(42);
+        long[] distinctValues = random.longs(10).toArray();
+
+        AdaptiveDictionaryValuesWriter writer = createLongWriter(1024 * 1024);
+        assertEquals(writePage(writer, position -> distinctValues[(int) (position % distinctValues.length)]), RLE_DICTIONARY);
+
+        // unique values grow the dictionary as fast as the direct encoding
+        Encoding encoding = RLE_DICTIONARY;
+        for (int page = 0; page < 20 && encoding == RLE_DICTIONARY; page++) {
+            encoding = writePage(writer, position -> random.nextLong());
+        }
+        assertEquals(encoding, DELTA_BINARY_PACKED);
+        assertEquals(writePage(writer, position -> distinctValues[0]), DELTA_BINARY_PACKED);
+
+        // pages written before the switch still need the dictionary
+        assertNotNull(writer.toDictPageAndClose());
+    }
+
+    @Test
+    public void testSwitchToDirectWhenDictionaryIsFull()
+    {
+        AdaptiveDictionaryValuesWriter writer = createLongWriter(1024);
+        assertEquals(writePage(writer, position -> (position % 10) * 1_000_000_007L), RLE_DICTIONARY);
+        assertEquals(writePage(writer, position -> position * 1_000_003), DELTA_BINARY_PACKED);
+        assertNotNull(writer.toDictPageAndClose());
+    }
+
+    @Test
+    public void testEncodingChosenPerColumnChunk()
+    {
+        AdaptiveDictionaryValuesWriter writer = createLongWriter(1024 * 1024);
+        assertEquals(writePage(writer, position -> position), DELTA_BINARY_PACKED);
+        assertNull(writer.toDictPageAndClose());
+        writer.resetDictionary();
+
+        assertEquals(writePage(writer, position -> ((position * 7919) % 10) * 1_000_000_007L), RLE_DICTIONARY);
+        assertNotNull(writer.toDictPageAndClose());
+        writer.resetDictionary();
+    }
+
+    @Test
+    public void testEmptyPageKeepsTrial()
+    {
+        AdaptiveDictionaryValuesWriter writer = createBinaryWriter(1024 * 1024);
+        writer.getBytes();
+        writer.reset();
+
+        for (int i = 0; i < PAGE_VALUES; i++) {
+            writer.writeBytes(Binary.fromString("value_" + (i % 3)));
+        }
+        assertEquals(writePage(writer), RLE_DICTIONARY);
+    }
+
+    private static AdaptiveDictionaryValuesWriter createLongWriter(int maxDictionaryByteSize)
+    {
+        ColumnDescriptor descriptor = createColumnDescriptor(new PrimitiveType(REQUIRED, INT64, "test"));
+        return new AdaptiveDictionaryValuesWriter(
+                new PlainLongDictionaryValuesWriter(maxDictionaryByteSize, RLE_DICTIONARY, PLAIN, PROPERTIES.getAllocator()),
+                PROPERTIES.newValuesWriter(descriptor),
+                null);
+    }
+
+    private static AdaptiveDictionaryValuesWriter createBinaryWriter(int maxDictionaryByteSize)
+    {
+        ColumnDescriptor descriptor = createColumnDescriptor(new PrimitiveType(REQUIRED, BINARY, "test"));
+        return new AdaptiveDictionaryValuesWriter(
+                new PlainBinaryDictionaryValuesWriter(maxDictionaryByteSize, RLE_DICTIONARY, PLAIN, PROPERTIES.getAllocator()),
+                PROPERTIES.newValuesWriter(descriptor),
+                null);
+    }
+
+    private static ColumnDescriptor createColumnDescriptor(PrimitiveType type)
+    {
+        return new ColumnDescriptor(new String[] {"test"}, type, 0, 0);
+    }
+
+    private static Encoding writePage(AdaptiveDictionaryValuesWriter writer, LongUnaryOperator values)
+    {
+        for (int position = 0; position < PAGE_VALUES; position++) {
+            writer.writeLong(values.applyAsLong(position));
+        }
+        return writePage(writer);
+    }
+
+    private static Encoding writePage(ValuesWriter writer)
+    {
+        writer.getBytes();
+        Encoding encoding = writer.getEncoding();
+        writer.reset();
+        return encoding;
+    }
+}
@@ -43,6 +43,15 @@ public final class ColumnData
         return offset[position];
     }
 
+    /**
+     * Offsets of the values in the slice, with the end of the last value at index {@link #rowCount()}.
+     * The array is owned by this object and may be shared with the blocks decoded from it.
+     */
+    public int[] getOffsets()
+    {
+        return offset;
+    }
+
     public int getLength(int position)
     {
         return offset[position + 1] - offset[position];
@@ -23,4 +23,13 @@ public interface ColumnEncoding
 
     Block decodeColumn(ColumnData columnData)
             throws RcFileCorruptionException;
+
+    /**
+     * Returns true if blocks returned from {@link #decodeColumn} may share the memory of the
+     * {@link ColumnData} slice, in which case the reader must not reuse the buffer backing it.
+     */
+    default boolean isColumnDataRetained()
+    {
+        return false;
+    }
 }
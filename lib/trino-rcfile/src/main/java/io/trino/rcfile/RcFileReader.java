@@ -650,7 +650,8 @@ public class RcFileReader
                 throws IOException
         {
             if (compressed) {
-                if (decompressedBuffer.length < uncompressedDataSize) {
+                // blocks from the previous row group may still reference the buffer
+                if (decompressedBuffer.length < uncompressedDataSize || encoding.isColumnDataRetained()) {
                     decompressedBuffer = new byte[uncompressedDataSize];
                 }
                 Slice buffer = Slices.wrappedBuffer(decompressedBuffer, 0, uncompressedDataSize);
@@ -19,8 +19,11 @@ import io.trino.rcfile.ColumnData;
 import io.trino.rcfile.EncodeOutput;
 import io.trino.spi.block.Block;
 import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.block.VariableWidthBlock;
 import io.trino.spi.type.Type;
 
+import java.util.Optional;
+
 import static io.trino.rcfile.RcFileDecoderUtils.decodeVIntSize;
 import static io.trino.rcfile.RcFileDecoderUtils.readVInt;
 import static io.trino.rcfile.RcFileDecoderUtils.writeVInt;
@@ -64,21 +67,24 @@ public class BinaryEncoding
     @Override
     public Block decodeColumn(ColumnData columnData)
     {
+        // values are stored back to back without any framing, so the block can use the column data directly
         int size = columnData.rowCount();
-        BlockBuilder builder = type.createBlockBuilder(null, size);
-
-        Slice slice = columnData.getSlice();
+        boolean[] valueIsNull = null;
         for (int i = 0; i < size; i++) {
-            int length = columnData.getLength(i);
-            if (length > 0) {
-                int offset = columnData.getOffset(i);
-                type.writeSlice(builder, slice, offset, length);
-            }
-            else {
-                builder.appendNull();
+            if (columnData.getLength(i) == 0) {
+                if (valueIsNull == null) {
+                    valueIsNull = new boolean[size];
+                }
+                valueIsNull[i] = true;
             }
         }
-        return builder.build();
+        return new VariableWidthBlock(size, columnData.getSlice(), columnData.getOffsets(), Optional.ofNullable(valueIsNull));
+    }
+
+    @Override
+    public boolean isColumnDataRetained()
+    {
+        return true;
     }
 
     @Override
@@ -19,8 +19,13 @@ import io.trino.rcfile.ColumnData;
 import io.trino.rcfile.EncodeOutput;
 import io.trino.spi.block.Block;
 import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.block.VariableWidthBlock;
 import io.trino.spi.type.Type;
 
+import javax.annotation.Nullable;
+
+import java.util.Optional;
+
 import static io.airlift.slice.Slices.EMPTY_SLICE;
 import static io.trino.rcfile.RcFileDecoderUtils.calculateTruncationLength;
 import static io.trino.rcfile.RcFileDecoderUtils.decodeVIntSize;
@@ -69,6 +74,11 @@ public class StringEncoding
     @Override
     public Block decodeColumn(ColumnData columnData)
     {
+        Block block = tryDecodeColumnInPlace(columnData);
+        if (block != null) {
+            return block;
+        }
+
         int size = columnData.rowCount();
         BlockBuilder builder = type.createBlockBuilder(null, size);
 
@@ -92,6 +102,43 @@ public class StringEncoding
         return builder.build();
     }
 
+    /**
+     * Wraps the column data in a block without copying, which is possible unless a value is
+     * the empty string marker or must be truncated to the declared length of the type.
+     * Returns null if the values must be rewritten.
+     */
+    @Nullable
+    private Block tryDecodeColumnInPlace(ColumnData columnData)
+    {
+        int size = columnData.rowCount();
+        Slice slice = columnData.getSlice();
+        boolean[] valueIsNull = null;
+        for (int i = 0; i < size; i++) {
+            int length = columnData.getLength(i);
+            if (length == 0) {
+                if (valueIsNull == null) {
+                    valueIsNull = new boolean[size];
+                }
+                valueIsNull[i] = true;
+                continue;
+            }
+            int offset = columnData.getOffset(i);
+            if (length == 1 && slice.getByte(offset) == HIVE_EMPTY_STRING_BYTE) {
+                return null;
+            }
+            if (calculateTruncationLength(type, slice, offset, length) != length) {
+                return null;
+            }
+        }
+        return new VariableWidthBlock(size, slice, columnData.getOffsets(), Optional.ofNullable(valueIsNull));
+    }
+
+    @Override
+    public boolean isColumnDataRetained()
+    {
+        return true;
+    }
+
     @Override
     public int getValueOffset(Slice slice, int offset)
     {
@@ -20,6 +20,8 @@ import io.trino.rcfile.RcFileEncoding;
 import io.trino.spi.type.TimestampType;
 import io.trino.spi.type.Type;
 
+import javax.annotation.Nullable;
+
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -83,6 +85,30 @@ public class TextRcFileEncoding
         this.lastColumnTakesRest = lastColumnTakesRest;
     }
 
+    public Slice getNullSequence()
+    {
+        return nullSequence;
+    }
+
+    /**
+     * Returns the separators of each nesting level, where the first separator delimits the top level fields.
+     */
+    public byte[] getSeparators()
+    {
+        return separators.clone();
+    }
+
+    @Nullable
+    public Byte getEscapeByte()
+    {
+        return escapeByte;
+    }
+
+    public boolean isLastColumnTakesRest()
+    {
+        return lastColumnTakesRest;
+    }
+
     @Override
     public ColumnEncoding booleanEncoding(Type type)
     {
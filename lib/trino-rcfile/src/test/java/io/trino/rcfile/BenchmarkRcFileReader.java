@@ -0,0 +1,167 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.rcfile;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.airlift.slice.DynamicSliceOutput;
+import io.airlift.slice.Slice;
+import io.airlift.slice.Slices;
+import io.airlift.units.DataSize;
+import io.trino.rcfile.binary.BinaryRcFileEncoding;
+import io.trino.rcfile.text.TextRcFileEncoding;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.type.Type;
+import org.apache.hadoop.io.compress.SnappyCodec;
+import org.joda.time.DateTimeZone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.VarbinaryType.VARBINARY;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@SuppressWarnings("MethodMayBeStatic")
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OperationsPerInvocation(BenchmarkRcFileReader.ROWS)
+public class BenchmarkRcFileReader
+{
+    public static final int ROWS = 1_000_000;
+
+    private static final RcFileCodecFactory CODEC_FACTORY = new AircompressorCodecFactory(new HadoopCodecFactory(BenchmarkRcFileReader.class.getClassLoader()));
+
+    @Param({"BINARY", "TEXT"})
+    private String format = "BINARY";
+
+    @Param({"varchar", "varbinary", "bigint"})
+    private String type = "varchar";
+
+    @Param({"NONE", "SNAPPY"})
+    private String compression = "NONE";
+
+    private Type columnType;
+    private RcFileEncoding encoding;
+    private Slice data;
+
+    @Setup
+    public void setup()
+            throws IOException
+    {
+        columnType = getType(type);
+        encoding = format.equals("BINARY") ? new BinaryRcFileEncoding(DateTimeZone.UTC) : new TextRcFileEncoding();
+
+        Random random = new Random(0);
+        BlockBuilder blockBuilder = columnType.createBlockBuilder(null, ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            if (columnType == BIGINT) {
+                BIGINT.writeLong(blockBuilder, random.nextLong());
+            }
+            else {
+                columnType.writeSlice(blockBuilder, Slices.utf8Slice("value_" + random.nextInt(1_000_000)));
+            }
+        }
+
+        DynamicSliceOutput output = new DynamicSliceOutput(ROWS * 16);
+        RcFileWriter writer = new RcFileWriter(
+                output,
+                ImmutableList.of(columnType),
+                encoding,
+                compression.equals("NONE") ? Optional.empty() : Optional.of(SnappyCodec.class.getName()),
+                CODEC_FACTORY,
+                ImmutableMap.of(),
+                false);
+        writer.write(new Page(blockBuilder.build()));
+        writer.close();
+        data = output.slice();
+    }
+
+    @Benchmark
+    public long readColumn()
+            throws IOException
+    {
+        long positions = 0;
+        try (RcFileReader reader = new RcFileReader(
+                new MemoryRcFileDataSource(new RcFileDataSourceId("benchmark"), data),
+                encoding,
+                ImmutableMap.of(0, columnType),
+                CODEC_FACTORY,
+                0,
+                data.length(),
+                DataSize.of(8, MEGABYTE))) {
+            while (reader.advance() >= 0) {
+                Block block = reader.readBlock(0);
+                positions += block.getPositionCount();
+            }
+        }
+        return positions;
+    }
+
+    private static Type getType(String type)
+    {
+        switch (type) {
+            case "varchar":
+                return VARCHAR;
+            case "varbinary":
+                return VARBINARY;
+            case "bigint":
+                return BIGINT;
+            default:
+                throw new IllegalArgumentException("Unsupported type: " + type);
+        }
+    }
+
+    public static void main(String[] args)
+            throws Exception
+    {
+        // assure the benchmarks are valid before running
+        BenchmarkRcFileReader benchmark = new BenchmarkRcFileReader();
+        benchmark.setup();
+        benchmark.readColumn();
+
+        Options options = new OptionsBuilder()
+                .verbosity(VerboseMode.NORMAL)
+                .include(".*" + BenchmarkRcFileReader.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(options).run();
+    }
+}
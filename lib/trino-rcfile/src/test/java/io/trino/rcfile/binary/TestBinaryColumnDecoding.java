@@ -0,0 +1,134 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.rcfile.binary;
+
+import io.airlift.slice.DynamicSliceOutput;
+import io.airlift.slice.Slice;
+import io.trino.rcfile.ColumnData;
+import io.trino.rcfile.ColumnEncoding;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.VariableWidthBlock;
+import io.trino.spi.type.Type;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static io.airlift.slice.Slices.utf8Slice;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.CharType.createCharType;
+import static io.trino.spi.type.VarbinaryType.VARBINARY;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static io.trino.spi.type.VarcharType.createVarcharType;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class TestBinaryColumnDecoding
+{
+    // stand-in for the single byte Hive writes for an empty string
+    private static final String EMPTY_STRING_MARKER = "<empty>";
+
+    @Test
+    public void testStringDecodedInPlace()
+    {
+        ColumnData columnData = createColumnData("alice", null, "bob", "carol");
+        Block block = new StringEncoding(VARCHAR).decodeColumn(columnData);
+
+        assertTrue(block instanceof VariableWidthBlock);
+        assertSame(block.getSlice(0, 0, 0).getBase(), columnData.getSlice().getBase());
+        assertValues(VARCHAR, block, "alice", null, "bob", "carol");
+    }
+
+    @Test
+    public void testStringWithEmptyValue()
+    {
+        // the empty string marker must be rewritten, so the values are copied
+        ColumnData columnData = createColumnData("alice", EMPTY_STRING_MARKER, "bob");
+        Block block = new StringEncoding(VARCHAR).decodeColumn(columnData);
+
+        assertNotSame(block.getSlice(0, 0, 0).getBase(), columnData.getSlice().getBase());
+        assertValues(VARCHAR, block, "alice", "", "bob");
+    }
+
+    @Test
+    public void testStringTruncation()
+    {
+        assertValues(createVarcharType(3), new StringEncoding(createVarcharType(3)).decodeColumn(createColumnData("ab", "abcdef")), "ab", "abc");
+        assertValues(createCharType(4), new StringEncoding(createCharType(4)).decodeColumn(createColumnData("ab  ", "abcd")), "ab", "abcd");
+
+        // values within the declared length are not copied
+        ColumnData columnData = createColumnData("ab", "abc");
+        Block block = new StringEncoding(createVarcharType(3)).decodeColumn(columnData);
+        assertSame(block.getSlice(0, 0, 0).getBase(), columnData.getSlice().getBase());
+        assertValues(createVarcharType(3), block, "ab", "abc");
+    }
+
+    @Test
+    public void testBinaryDecodedInPlace()
+    {
+        ColumnData columnData = createColumnData(null, "abc", null, "de");
+        Block block = new BinaryEncoding(VARBINARY).decodeColumn(columnData);
+
+        assertSame(block.getSlice(1, 0, 0).getBase(), columnData.getSlice().getBase());
+        assertValues(VARBINARY, block, null, "abc", null, "de");
+
+        assertFalse(new BinaryEncoding(VARBINARY).decodeColumn(createColumnData("a", "b")).mayHaveNull());
+    }
+
+    @Test
+    public void testColumnDataRetained()
+    {
+        assertTrue(new StringEncoding(VARCHAR).isColumnDataRetained());
+        assertTrue(new BinaryEncoding(VARBINARY).isColumnDataRetained());
+        assertFalse(((ColumnEncoding) new LongEncoding(BIGINT)).isColumnDataRetained());
+    }
+
+    private static ColumnData createColumnData(String... values)
+    {
+        // the raw column layout, where a null is stored as an empty value
+        DynamicSliceOutput output = new DynamicSliceOutput(64);
+        int[] offsets = new int[values.length + 1];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                if (values[i].equals(EMPTY_STRING_MARKER)) {
+                    output.writeByte(0xbf);
+                }
+                else {
+                    output.writeBytes(utf8Slice(values[i]));
+                }
+            }
+            offsets[i + 1] = output.size();
+        }
+        return new ColumnData(offsets, output.slice());
+    }
+
+    private static void assertValues(Type type, Block block, String... expected)
+    {
+        List<String> expectedValues = Arrays.asList(expected);
+        assertEquals(block.getPositionCount(), expectedValues.size());
+        for (int position = 0; position < expectedValues.size(); position++) {
+            String value = expectedValues.get(position);
+            if (value == null) {
+                assertTrue(block.isNull(position));
+            }
+            else {
+                Slice slice = type.getSlice(block, position);
+                assertEquals(slice, utf8Slice(value));
+            }
+        }
+    }
+}
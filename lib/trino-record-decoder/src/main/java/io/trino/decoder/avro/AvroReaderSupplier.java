@@ -25,5 +25,14 @@ public interface AvroReaderSupplier<T>
     interface Factory
     {
         <T> AvroReaderSupplier<T> create(Schema schema);
+
+        /**
+         * Creates a supplier of readers that decode records of {@code schema} into {@code projectedSchema},
+         * a subset of its fields. Suppliers that cannot project fall back to reading the full schema.
+         */
+        default <T> AvroReaderSupplier<T> create(Schema schema, Schema projectedSchema)
+        {
+            return create(schema);
+        }
     }
 }
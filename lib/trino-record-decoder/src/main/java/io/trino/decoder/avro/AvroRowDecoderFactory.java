@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static io.trino.decoder.avro.AvroSchemaProjection.projectSchema;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
@@ -57,7 +58,8 @@ public class AvroRowDecoderFactory
         String dataSchema = requireNonNull(decoderParams.get(DATA_SCHEMA), format("%s cannot be null", DATA_SCHEMA));
         Schema parsedSchema = (new Schema.Parser()).parse(dataSchema);
         if (parsedSchema.getType().equals(Schema.Type.RECORD)) {
-            AvroReaderSupplier<GenericRecord> avroReaderSupplier = avroReaderSupplierFactory.create(parsedSchema);
+            Schema projectedSchema = projectSchema(parsedSchema, columns);
+            AvroReaderSupplier<GenericRecord> avroReaderSupplier = avroReaderSupplierFactory.create(parsedSchema, projectedSchema);
             AvroDeserializer<GenericRecord> dataDecoder = avroDeserializerFactory.create(avroReaderSupplier);
             return new GenericRecordRowDecoder(dataDecoder, columns);
         }
@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.decoder.avro;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ListMultimap;
+import io.trino.decoder.DecoderColumnHandle;
+import org.apache.avro.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.ImmutableListMultimap.toImmutableListMultimap;
+
+/**
+ * Derives a reader schema that only contains the record fields referenced by column mappings.
+ * Reading with such a schema lets the Avro resolving decoder skip unmapped fields in the
+ * serialized data instead of materializing them into the decoded record.
+ */
+final class AvroSchemaProjection
+{
+    private AvroSchemaProjection() {}
+
+    public static Schema projectSchema(Schema schema, Set<DecoderColumnHandle> columns)
+    {
+        ImmutableList.Builder<List<String>> paths = ImmutableList.builder();
+        for (DecoderColumnHandle column : columns) {
+            if (column.getMapping() == null) {
+                return schema;
+            }
+            paths.add(ImmutableList.copyOf(Splitter.on('/').omitEmptyStrings().split(column.getMapping())));
+        }
+        Schema projected = project(schema, paths.build());
+
+        // a named type can only be defined once, so a schema that uses a record in several places
+        // may not have a consistent projection; keep reading with the full schema in that case
+        if (!new Schema.Parser().parse(projected.toString()).equals(projected)) {
+            return schema;
+        }
+        return projected;
+    }
+
+    private static Schema project(Schema schema, List<List<String>> paths)
+    {
+        if (paths.stream().anyMatch(List::isEmpty)) {
+            return schema;
+        }
+
+        switch (schema.getType()) {
+            case RECORD:
+                return projectRecord(schema, paths);
+            case UNION:
+                return Schema.createUnion(schema.getTypes().stream()
+                        .map(type -> project(type, paths))
+                        .collect(toImmutableList()));
+            default:
+                return schema;
+        }
+    }
+
+    private static Schema projectRecord(Schema schema, List<List<String>> paths)
+    {
+        ListMultimap<String, List<String>> fieldPaths = paths.stream()
+                .collect(toImmutableListMultimap(path -> path.get(0), path -> path.subList(1, path.size())));
+
+        List<Schema.Field> fields = new ArrayList<>();
+        for (Schema.Field field : schema.getFields()) {
+            if (fieldPaths.containsKey(field.name())) {
+                fields.add(new Schema.Field(field, project(field.schema(), fieldPaths.get(field.name()))));
+            }
+        }
+
+        Schema record = Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(), schema.isError(), fields);
+        schema.getAliases().forEach(record::addAlias);
+        schema.getObjectProps().forEach(record::addProp);
+        return record;
+    }
+}
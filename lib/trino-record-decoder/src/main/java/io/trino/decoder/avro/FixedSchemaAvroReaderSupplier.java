@@ -26,7 +26,12 @@ public class FixedSchemaAvroReaderSupplier<T>
 
     public FixedSchemaAvroReaderSupplier(Schema schema)
     {
-        avroReader = new GenericDatumReader<>(schema);
+        this(schema, schema);
+    }
+
+    public FixedSchemaAvroReaderSupplier(Schema schema, Schema projectedSchema)
+    {
+        avroReader = new GenericDatumReader<>(schema, projectedSchema);
     }
 
     @Override
@@ -43,5 +48,11 @@ public class FixedSchemaAvroReaderSupplier<T>
         {
             return new FixedSchemaAvroReaderSupplier<>(schema);
         }
+
+        @Override
+        public <T> AvroReaderSupplier<T> create(Schema schema, Schema projectedSchema)
+        {
+            return new FixedSchemaAvroReaderSupplier<>(schema, projectedSchema);
+        }
     }
 }
@@ -13,16 +13,22 @@
  */
 package io.trino.decoder.json;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.google.common.base.Splitter;
-import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableList;
 import io.trino.decoder.DecoderColumnHandle;
 import io.trino.decoder.FieldValueProvider;
 import io.trino.decoder.RowDecoder;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -31,6 +37,10 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * JSON specific row decoder.
+ * <p>
+ * The column mappings are compiled into a tree of field paths, and each message is decoded in a single
+ * pass over its tokens. Only the values that are mapped to a column are materialized as {@link JsonNode}s,
+ * all other content is skipped without building a tree for it.
  */
 public class JsonRowDecoder
         implements RowDecoder
@@ -38,45 +48,96 @@ public class JsonRowDecoder
     public static final String NAME = "json";
 
     private final ObjectMapper objectMapper;
-    private final Map<DecoderColumnHandle, JsonFieldDecoder> fieldDecoders;
+    private final List<DecoderColumnHandle> columns;
+    private final List<JsonFieldDecoder> fieldDecoders;
+    private final List<List<String>> columnPaths;
+    private final PathNode root = new PathNode(0);
 
     JsonRowDecoder(ObjectMapper objectMapper, Map<DecoderColumnHandle, JsonFieldDecoder> fieldDecoders)
     {
         this.objectMapper = requireNonNull(objectMapper, "objectMapper is null");
-        this.fieldDecoders = ImmutableMap.copyOf(fieldDecoders);
+        this.columns = ImmutableList.copyOf(fieldDecoders.keySet());
+        this.fieldDecoders = ImmutableList.copyOf(fieldDecoders.values());
+
+        ImmutableList.Builder<List<String>> columnPaths = ImmutableList.builder();
+        for (int column = 0; column < columns.size(); column++) {
+            DecoderColumnHandle columnHandle = columns.get(column);
+            String mapping = columnHandle.getMapping();
+            checkState(mapping != null, "No mapping for %s", columnHandle.getName());
+
+            List<String> path = ImmutableList.copyOf(Splitter.on('/').omitEmptyStrings().split(mapping));
+            columnPaths.add(path);
+            root.add(path, column);
+        }
+        this.columnPaths = columnPaths.build();
     }
 
     @Override
     public Optional<Map<DecoderColumnHandle, FieldValueProvider>> decodeRow(byte[] data,
             Map<String, String> dataMap)
     {
-        JsonNode tree;
-        try {
-            tree = objectMapper.readTree(data);
+        JsonNode[] values = new JsonNode[columns.size()];
+        try (JsonParser parser = objectMapper.getFactory().createParser(data)) {
+            if (parser.nextToken() != null) {
+                decodeValue(parser, root, values);
+            }
         }
-        catch (Exception e) {
+        catch (IOException | RuntimeException e) {
             return Optional.empty();
         }
 
         Map<DecoderColumnHandle, FieldValueProvider> decodedRow = new HashMap<>();
-
-        for (Map.Entry<DecoderColumnHandle, JsonFieldDecoder> entry : fieldDecoders.entrySet()) {
-            DecoderColumnHandle columnHandle = entry.getKey();
-            JsonFieldDecoder decoder = entry.getValue();
-            JsonNode node = locateNode(tree, columnHandle);
-            decodedRow.put(columnHandle, decoder.decode(node));
+        for (int column = 0; column < columns.size(); column++) {
+            JsonNode value = values[column] == null ? MissingNode.getInstance() : values[column];
+            decodedRow.put(columns.get(column), fieldDecoders.get(column).decode(value));
         }
-
         return Optional.of(decodedRow);
     }
 
-    private static JsonNode locateNode(JsonNode tree, DecoderColumnHandle columnHandle)
+    /**
+     * Decodes the value the parser is positioned at, leaving the parser on its last token.
+     */
+    private void decodeValue(JsonParser parser, PathNode node, JsonNode[] values)
+            throws IOException
     {
-        String mapping = columnHandle.getMapping();
-        checkState(mapping != null, "No mapping for %s", columnHandle.getName());
+        if (!node.columns.isEmpty()) {
+            // a column maps this value as a whole, so its content is needed anyway
+            JsonNode value = parser.readValueAsTree();
+            if (value == null) {
+                value = NullNode.getInstance();
+            }
+            for (int column : node.columns) {
+                values[column] = value;
+            }
+            for (int column : node.nestedColumns) {
+                List<String> path = columnPaths.get(column);
+                values[column] = locateNode(value, path.subList(node.depth, path.size()));
+            }
+            return;
+        }
+
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
 
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            PathNode child = node.children.get(parser.getCurrentName());
+            parser.nextToken();
+            if (child == null) {
+                parser.skipChildren();
+                continue;
+            }
+            // like a parsed tree, keep the last of repeated fields
+            child.clear(values);
+            decodeValue(parser, child, values);
+        }
+    }
+
+    private static JsonNode locateNode(JsonNode tree, List<String> path)
+    {
         JsonNode currentNode = tree;
-        for (String pathElement : Splitter.on('/').omitEmptyStrings().split(mapping)) {
+        for (String pathElement : path) {
             if (!currentNode.has(pathElement)) {
                 return MissingNode.getInstance();
             }
@@ -84,4 +145,40 @@ public class JsonRowDecoder
         }
         return currentNode;
     }
+
+    private static class PathNode
+    {
+        private final int depth;
+        private final Map<String, PathNode> children = new HashMap<>();
+        // columns mapped to this path
+        private final List<Integer> columns = new ArrayList<>();
+        // columns mapped to paths below this one
+        private final List<Integer> nestedColumns = new ArrayList<>();
+
+        public PathNode(int depth)
+        {
+            this.depth = depth;
+        }
+
+        public void add(List<String> path, int column)
+        {
+            if (path.size() == depth) {
+                columns.add(column);
+                return;
+            }
+            nestedColumns.add(column);
+            children.computeIfAbsent(path.get(depth), name -> new PathNode(depth + 1))
+                    .add(path, column);
+        }
+
+        public void clear(JsonNode[] values)
+        {
+            for (int column : columns) {
+                values[column] = null;
+            }
+            for (int column : nestedColumns) {
+                values[column] = null;
+            }
+        }
+    }
 }
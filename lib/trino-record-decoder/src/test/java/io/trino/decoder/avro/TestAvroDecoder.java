@@ -518,6 +518,67 @@ public class TestAvroDecoder
         checkValue(decodedRow, row, 98247748);
     }
 
+    @Test
+    public void testProjectedSchema()
+    {
+        Schema nestedSchema = SchemaBuilder.record("Nested").fields()
+                .optionalLong("id")
+                .optionalString("name")
+                .endRecord();
+        Schema schema = SchemaBuilder.record("projected_schema")
+                .namespace("io.trino.decoder.avro")
+                .fields()
+                .name("nested").type(nestedSchema).noDefault()
+                .requiredString("skipped")
+                .requiredLong("value")
+                .endRecord();
+
+        DecoderTestColumnHandle idColumn = new DecoderTestColumnHandle(0, "id", BIGINT, "nested/id", null, null, false, false, false);
+        DecoderTestColumnHandle valueColumn = new DecoderTestColumnHandle(1, "value", BIGINT, "value", null, null, false, false, false);
+
+        Schema projectedSchema = AvroSchemaProjection.projectSchema(schema, ImmutableSet.of(idColumn, valueColumn));
+        assertEquals(projectedSchema.getFullName(), schema.getFullName());
+        assertEquals(projectedSchema.getFields().size(), 2);
+        assertEquals(projectedSchema.getField("nested").schema().getFields().size(), 1);
+        assertNotNull(projectedSchema.getField("nested").schema().getField("id"));
+        assertNotNull(projectedSchema.getField("value"));
+
+        GenericData.Record nestedRecord = new GenericRecordBuilder(nestedSchema)
+                .set("id", 98247748L)
+                .set("name", "unused")
+                .build();
+        byte[] avroData = buildAvroData(schema, ImmutableMap.of("nested", nestedRecord, "skipped", "a string that is not decoded", "value", 42L));
+
+        Map<DecoderColumnHandle, FieldValueProvider> decodedRow = decodeRow(
+                avroData,
+                ImmutableSet.of(idColumn, valueColumn),
+                ImmutableMap.of(DATA_SCHEMA, schema.toString()));
+
+        assertEquals(decodedRow.size(), 2);
+        checkValue(decodedRow, idColumn, 98247748);
+        checkValue(decodedRow, valueColumn, 42);
+    }
+
+    @Test
+    public void testProjectedSchemaWithSharedRecord()
+    {
+        Schema nestedSchema = SchemaBuilder.record("Nested").fields()
+                .optionalLong("id")
+                .optionalString("name")
+                .endRecord();
+        Schema schema = SchemaBuilder.record("shared_schema")
+                .namespace("io.trino.decoder.avro")
+                .fields()
+                .name("first").type(nestedSchema).noDefault()
+                .name("second").type(nestedSchema).noDefault()
+                .endRecord();
+
+        // the named record can not be projected differently for each of the fields
+        DecoderTestColumnHandle firstColumn = new DecoderTestColumnHandle(0, "first", BIGINT, "first/id", null, null, false, false, false);
+        DecoderTestColumnHandle secondColumn = new DecoderTestColumnHandle(1, "second", VARCHAR, "second/name", null, null, false, false, false);
+        assertEquals(AvroSchemaProjection.projectSchema(schema, ImmutableSet.of(firstColumn, secondColumn)), schema);
+    }
+
     @Test
     public void testNonExistentFieldsAreNull()
     {
@@ -0,0 +1,158 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.decoder.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import io.airlift.json.ObjectMapperProvider;
+import io.trino.decoder.DecoderColumnHandle;
+import io.trino.decoder.DecoderTestColumnHandle;
+import io.trino.decoder.FieldValueProvider;
+import io.trino.decoder.RowDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static io.trino.spi.type.BigintType.BIGINT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@SuppressWarnings("MethodMayBeStatic")
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1000, timeUnit = MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OperationsPerInvocation(BenchmarkJsonRowDecoder.ROWS)
+public class BenchmarkJsonRowDecoder
+{
+    public static final int ROWS = 10_000;
+    private static final int FIELDS = 32;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapperProvider().get();
+
+    @Param({"1", "4", "32"})
+    private int mappedFields = 4;
+
+    private List<byte[]> messages;
+    private List<DecoderColumnHandle> columns;
+    private RowDecoder rowDecoder;
+
+    @Setup
+    public void setup()
+    {
+        Random random = new Random(0);
+        ImmutableList.Builder<byte[]> messages = ImmutableList.builder();
+        for (int row = 0; row < ROWS; row++) {
+            StringBuilder message = new StringBuilder("{");
+            for (int field = 0; field < FIELDS; field++) {
+                if (field > 0) {
+                    message.append(',');
+                }
+                message.append("\"field_").append(field).append("\":");
+                if (field % 2 == 0) {
+                    message.append(random.nextLong());
+                }
+                else {
+                    message.append("{\"value\":").append(random.nextLong())
+                            .append(",\"text\":\"value_").append(random.nextInt(1_000_000)).append("\"}");
+                }
+            }
+            messages.add(message.append('}').toString().getBytes(UTF_8));
+        }
+        this.messages = messages.build();
+
+        ImmutableList.Builder<DecoderColumnHandle> columns = ImmutableList.builder();
+        for (int field = 0; field < mappedFields; field++) {
+            String mapping = field % 2 == 0 ? "field_" + field : "field_" + field + "/value";
+            columns.add(new DecoderTestColumnHandle(field, "column_" + field, BIGINT, mapping, null, null, false, false, false));
+        }
+        this.columns = columns.build();
+        rowDecoder = new JsonRowDecoderFactory(OBJECT_MAPPER).create(emptyMap(), ImmutableSet.copyOf(this.columns));
+    }
+
+    @Benchmark
+    public long decodeRow()
+    {
+        long sum = 0;
+        for (byte[] message : messages) {
+            Map<DecoderColumnHandle, FieldValueProvider> decodedRow = rowDecoder.decodeRow(message)
+                    .orElseThrow(AssertionError::new);
+            for (DecoderColumnHandle column : columns) {
+                sum += decodedRow.get(column).getLong();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long readTree()
+            throws IOException
+    {
+        // the approach the row decoder used before: parse the whole message and walk the tree for every column
+        long sum = 0;
+        for (byte[] message : messages) {
+            JsonNode tree = OBJECT_MAPPER.readTree(message);
+            for (DecoderColumnHandle column : columns) {
+                JsonNode node = tree;
+                for (String pathElement : column.getMapping().split("/")) {
+                    node = node.path(pathElement);
+                }
+                sum += node.asLong();
+            }
+        }
+        return sum;
+    }
+
+    public static void main(String[] args)
+            throws Exception
+    {
+        // assure the benchmarks are valid before running
+        BenchmarkJsonRowDecoder benchmark = new BenchmarkJsonRowDecoder();
+        benchmark.setup();
+        if (benchmark.decodeRow() != benchmark.readTree()) {
+            throw new AssertionError("decoders disagree");
+        }
+
+        Options options = new OptionsBuilder()
+                .verbosity(VerboseMode.NORMAL)
+                .include(".*" + BenchmarkJsonRowDecoder.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(options).run();
+    }
+}
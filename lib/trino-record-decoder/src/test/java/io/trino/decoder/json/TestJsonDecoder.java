@@ -133,6 +133,44 @@ public class TestJsonDecoder
         checkValue(decodedRow.get(), column4, 2342);
     }
 
+    @Test
+    public void testNestedAndRepeatedFields()
+    {
+        byte[] json = ("{\"skipped\":{\"a\":[1,{\"b\":2}]},\"outer\":{\"inner\":1,\"other\":\"x\"}," +
+                "\"value\":1,\"value\":2,\"scalar\":3,\"outer\":{\"inner\":4}}").getBytes(StandardCharsets.UTF_8);
+
+        DecoderTestColumnHandle column1 = new DecoderTestColumnHandle(0, "column1", createVarcharType(100), "outer", null, null, false, false, false);
+        DecoderTestColumnHandle column2 = new DecoderTestColumnHandle(1, "column2", BIGINT, "outer/inner", null, null, false, false, false);
+        DecoderTestColumnHandle column3 = new DecoderTestColumnHandle(2, "column3", createVarcharType(100), "outer/other", null, null, false, false, false);
+        DecoderTestColumnHandle column4 = new DecoderTestColumnHandle(3, "column4", BIGINT, "value", null, null, false, false, false);
+        DecoderTestColumnHandle column5 = new DecoderTestColumnHandle(4, "column5", BIGINT, "scalar/nested", null, null, false, false, false);
+
+        Set<DecoderColumnHandle> columns = ImmutableSet.of(column1, column2, column3, column4, column5);
+        RowDecoder rowDecoder = DECODER_FACTORY.create(emptyMap(), columns);
+
+        Map<DecoderColumnHandle, FieldValueProvider> decodedRow = rowDecoder.decodeRow(json)
+                .orElseThrow(AssertionError::new);
+
+        assertEquals(decodedRow.size(), columns.size());
+
+        // the last occurrence of a repeated field wins, as when the whole document is parsed into a tree
+        checkValue(decodedRow, column1, "{\"inner\":4}");
+        checkValue(decodedRow, column2, 4);
+        checkIsNull(decodedRow, column3);
+        checkValue(decodedRow, column4, 2);
+        checkIsNull(decodedRow, column5);
+    }
+
+    @Test
+    public void testMalformed()
+    {
+        DecoderTestColumnHandle column = new DecoderTestColumnHandle(0, "column", BIGINT, "value", null, null, false, false, false);
+        RowDecoder rowDecoder = DECODER_FACTORY.create(emptyMap(), ImmutableSet.of(column));
+
+        assertTrue(rowDecoder.decodeRow("{\"value\":1,".getBytes(StandardCharsets.UTF_8)).isEmpty());
+        assertTrue(rowDecoder.decodeRow("{\"other\":[1,2}".getBytes(StandardCharsets.UTF_8)).isEmpty());
+    }
+
     @Test
     public void testSupportedDataTypeValidation()
     {
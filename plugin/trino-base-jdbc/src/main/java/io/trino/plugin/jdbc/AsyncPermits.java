@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+
+/**
+ * A fair semaphore whose waiters are handed a future instead of being blocked, so that a driver
+ * waiting for a permit can yield its thread through {@code isBlocked()}.
+ */
+@ThreadSafe
+final class AsyncPermits
+{
+    @GuardedBy("this")
+    private final Queue<SettableFuture<Void>> waiters = new ArrayDeque<>();
+    @GuardedBy("this")
+    private int available;
+
+    public AsyncPermits(int permits)
+    {
+        checkArgument(permits > 0, "permits must be positive");
+        this.available = permits;
+    }
+
+    /**
+     * Returns a future that completes once a permit is granted, in the order of the requests.  The future
+     * must be passed to {@link #release(ListenableFuture)} when the permit is no longer needed, or to
+     * withdraw the request if it is not done yet.
+     */
+    public synchronized ListenableFuture<Void> acquire()
+    {
+        // permits are only available while no one is waiting
+        if (available > 0) {
+            available--;
+            return immediateFuture(null);
+        }
+        SettableFuture<Void> waiter = SettableFuture.create();
+        waiters.add(waiter);
+        return waiter;
+    }
+
+    public void release(ListenableFuture<Void> permit)
+    {
+        if (permit.cancel(false)) {
+            // the request is withdrawn before the permit was granted
+            return;
+        }
+        while (true) {
+            SettableFuture<Void> waiter;
+            synchronized (this) {
+                waiter = waiters.poll();
+                if (waiter == null) {
+                    available++;
+                    return;
+                }
+            }
+            // complete the waiter outside of the lock, as it runs the listeners of the future;
+            // a waiter that has been cancelled in the meantime passes the permit on
+            if (waiter.set(null)) {
+                return;
+            }
+        }
+    }
+}
@@ -22,14 +22,18 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import io.airlift.log.Logger;
+import io.airlift.units.DataSize;
 import io.airlift.units.Duration;
 import io.trino.spi.TrinoException;
+import io.trino.spi.connector.BasicRelationStatistics;
 import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ColumnMetadata;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplitSource;
 import io.trino.spi.connector.ConnectorTableMetadata;
 import io.trino.spi.connector.FixedSplitSource;
+import io.trino.spi.connector.JoinStatistics;
+import io.trino.spi.connector.JoinType;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.connector.TableNotFoundException;
 import io.trino.spi.predicate.TupleDomain;
@@ -69,6 +73,9 @@ import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static io.trino.plugin.jdbc.JdbcErrorCode.JDBC_ERROR;
+import static io.trino.plugin.jdbc.JdbcMetadataSessionProperties.getJoinPushdownAutomaticMaxJoinToTablesRatio;
+import static io.trino.plugin.jdbc.JdbcMetadataSessionProperties.getJoinPushdownAutomaticMaxTableSize;
+import static io.trino.plugin.jdbc.JdbcMetadataSessionProperties.getJoinPushdownStrategy;
 import static io.trino.plugin.jdbc.PredicatePushdownController.DISABLE_PUSHDOWN;
 import static io.trino.plugin.jdbc.StandardColumnMappings.bigintWriteFunction;
 import static io.trino.plugin.jdbc.StandardColumnMappings.booleanWriteFunction;
@@ -105,6 +112,7 @@ import static java.lang.String.format;
 import static java.lang.String.join;
 import static java.sql.DatabaseMetaData.columnNoNulls;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.nCopies;
 import static java.util.Locale.ENGLISH;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -427,12 +435,69 @@ public abstract class BaseJdbcClient
         return new QueryBuilder(this).buildSql(
                 session,
                 connection,
-                table.getRemoteTableName(),
+                table.getRelationHandle(),
                 table.getGroupingSets(),
                 columns,
-                table.getConstraint(),
+                table.getConstraint().intersect(split.getRangePredicate()),
                 split.getAdditionalPredicate(),
-                tryApplyLimit(table.getLimit()));
+                tryApplyTopN(table.getSortOrder(), table.getLimit()));
+    }
+
+    @Override
+    public Optional<JdbcJoinRelationHandle> implementJoin(
+            ConnectorSession session,
+            JoinType joinType,
+            JdbcTableHandle left,
+            JdbcTableHandle right,
+            List<JdbcJoinCondition> joinConditions,
+            JoinStatistics statistics)
+    {
+        if (!isSupportedJoinType(session, joinType)) {
+            return Optional.empty();
+        }
+        for (JdbcJoinCondition joinCondition : joinConditions) {
+            if (!isSupportedJoinCondition(session, joinCondition)) {
+                return Optional.empty();
+            }
+        }
+        if (!isJoinPushdownBeneficial(session, statistics)) {
+            return Optional.empty();
+        }
+        return Optional.of(new JdbcJoinRelationHandle(joinType, left, right, joinConditions));
+    }
+
+    protected boolean isSupportedJoinType(ConnectorSession session, JoinType joinType)
+    {
+        return false;
+    }
+
+    protected boolean isSupportedJoinCondition(ConnectorSession session, JdbcJoinCondition joinCondition)
+    {
+        return false;
+    }
+
+    private static boolean isJoinPushdownBeneficial(ConnectorSession session, JoinStatistics statistics)
+    {
+        if (getJoinPushdownStrategy(session) == JoinPushdownStrategy.EAGER) {
+            return true;
+        }
+
+        // without estimates the remote join may well produce more data than both tables together
+        Optional<BasicRelationStatistics> leftStatistics = statistics.getLeftStatistics();
+        Optional<BasicRelationStatistics> rightStatistics = statistics.getRightStatistics();
+        Optional<BasicRelationStatistics> joinStatistics = statistics.getJoinStatistics();
+        if (leftStatistics.isEmpty() || rightStatistics.isEmpty() || joinStatistics.isEmpty()) {
+            return false;
+        }
+
+        long leftSize = leftStatistics.get().getOutputSizeInBytes();
+        long rightSize = rightStatistics.get().getOutputSizeInBytes();
+        Optional<DataSize> maxTableSize = getJoinPushdownAutomaticMaxTableSize(session);
+        if (maxTableSize.isPresent() && (leftSize > maxTableSize.get().toBytes() || rightSize > maxTableSize.get().toBytes())) {
+            return false;
+        }
+
+        return joinStatistics.get().getOutputSizeInBytes() < getJoinPushdownAutomaticMaxJoinToTablesRatio(session) * (leftSize + rightSize);
     }
 
     @Override
@@ -723,6 +788,25 @@ public abstract class BaseJdbcClient
                         .collect(joining(",")));
     }
 
+    /**
+     * Builds an INSERT statement writing {@code rows} rows with a single VALUES clause, for use with {@link MultiRowInsertPageWriter}.
+     */
+    protected String buildMultiRowInsertSql(JdbcOutputTableHandle handle, List<WriteFunction> columnWriters, int rows)
+    {
+        checkArgument(handle.getColumnNames().size() == columnWriters.size(), "handle and columnWriters mismatch: %s, %s", handle, columnWriters);
+        checkArgument(rows > 0, "rows must be greater than zero");
+        String row = columnWriters.stream()
+                .map(WriteFunction::getBindExpression)
+                .collect(joining(",", "(", ")"));
+        return format(
+                "INSERT INTO %s (%s) VALUES %s",
+                quoted(handle.getCatalogName(), handle.getSchemaName(), handle.getTemporaryTableName()),
+                handle.getColumnNames().stream()
+                        .map(this::quoted)
+                        .collect(joining(", ")),
+                String.join(", ", nCopies(rows, row)));
+    }
+
     @Override
     public Connection getConnection(ConnectorSession session, JdbcOutputTableHandle handle)
             throws SQLException
@@ -940,6 +1024,16 @@ public abstract class BaseJdbcClient
                 .orElseGet(Function::identity);
     }
 
+    protected Function<String, String> tryApplyTopN(Optional<List<JdbcSortItem>> sortOrder, OptionalLong limit)
+    {
+        if (sortOrder.isEmpty()) {
+            return tryApplyLimit(limit);
+        }
+        TopNFunction topNFunction = topNFunction()
+                .orElseThrow(() -> new TrinoException(JDBC_ERROR, "Sort order is present without topNFunction()"));
+        return sql -> topNFunction.apply(sql, sortOrder.get(), limit.orElseThrow());
+    }
+
     @Override
     public boolean supportsLimit()
     {
@@ -957,6 +1051,23 @@ public abstract class BaseJdbcClient
         throw new TrinoException(JDBC_ERROR, "limitFunction() is implemented without isLimitGuaranteed()");
     }
 
+    @Override
+    public boolean supportsTopN(ConnectorSession session, JdbcTableHandle handle, List<JdbcSortItem> sortOrder)
+    {
+        return topNFunction().isPresent();
+    }
+
+    protected Optional<TopNFunction> topNFunction()
+    {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean isTopNGuaranteed(ConnectorSession session)
+    {
+        throw new TrinoException(JDBC_ERROR, "topNFunction() is implemented without isTopNGuaranteed()");
+    }
+
     @Override
     public String quoted(String name)
     {
@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.collect.ImmutableList;
+import io.airlift.slice.Slice;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.type.Type;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes every row as a separate parameter set of a JDBC batch. This works with any driver, but most drivers send
+ * the rows of a batch one by one, so prefer a dialect specific {@link JdbcPageWriter} for large writes.
+ */
+public class BatchInsertPageWriter
+        implements JdbcPageWriter
+{
+    private final PreparedStatement statement;
+    private final List<Type> columnTypes;
+    private final List<WriteFunction> columnWriters;
+    private final int batchSize;
+    private int bufferedRows;
+
+    public BatchInsertPageWriter(PreparedStatement statement, List<Type> columnTypes, List<WriteFunction> columnWriters, int batchSize)
+    {
+        this.statement = requireNonNull(statement, "statement is null");
+        this.columnTypes = ImmutableList.copyOf(requireNonNull(columnTypes, "columnTypes is null"));
+        this.columnWriters = ImmutableList.copyOf(requireNonNull(columnWriters, "columnWriters is null"));
+        checkArgument(columnTypes.size() == columnWriters.size(), "columnTypes and columnWriters mismatch: %s, %s", columnTypes, columnWriters);
+        checkArgument(batchSize > 0, "batchSize must be greater than zero");
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public long appendPage(Page page)
+            throws SQLException
+    {
+        long writtenRows = 0;
+        for (int position = 0; position < page.getPositionCount(); position++) {
+            setRowParameters(statement, 1, page, position, columnTypes, columnWriters);
+            statement.addBatch();
+            bufferedRows++;
+
+            if (bufferedRows >= batchSize) {
+                writtenRows += flush();
+            }
+        }
+        return writtenRows;
+    }
+
+    @Override
+    public long flush()
+            throws SQLException
+    {
+        if (bufferedRows == 0) {
+            return 0;
+        }
+        statement.executeBatch();
+        int writtenRows = bufferedRows;
+        bufferedRows = 0;
+        return writtenRows;
+    }
+
+    @Override
+    public void close()
+            throws SQLException
+    {
+        statement.close();
+    }
+
+    /**
+     * Binds the values of the row at {@code position} of the page to consecutive parameters of the statement, starting at {@code firstParameterIndex}.
+     */
+    static void setRowParameters(PreparedStatement statement, int firstParameterIndex, Page page, int position, List<Type> columnTypes, List<WriteFunction> columnWriters)
+            throws SQLException
+    {
+        for (int channel = 0; channel < page.getChannelCount(); channel++) {
+            Block block = page.getBlock(channel);
+            int parameterIndex = firstParameterIndex + channel;
+
+            WriteFunction writeFunction = columnWriters.get(channel);
+            if (block.isNull(position)) {
+                writeFunction.setNull(statement, parameterIndex);
+                continue;
+            }
+
+            Type type = columnTypes.get(channel);
+            Class<?> javaType = type.getJavaType();
+            if (javaType == boolean.class) {
+                ((BooleanWriteFunction) writeFunction).set(statement, parameterIndex, type.getBoolean(block, position));
+            }
+            else if (javaType == long.class) {
+                ((LongWriteFunction) writeFunction).set(statement, parameterIndex, type.getLong(block, position));
+            }
+            else if (javaType == double.class) {
+                ((DoubleWriteFunction) writeFunction).set(statement, parameterIndex, type.getDouble(block, position));
+            }
+            else if (javaType == Slice.class) {
+                ((SliceWriteFunction) writeFunction).set(statement, parameterIndex, type.getSlice(block, position));
+            }
+            else {
+                ((ObjectWriteFunction) writeFunction).set(statement, parameterIndex, type.getObject(block, position));
+            }
+        }
+    }
+}
@@ -27,6 +27,8 @@ import io.trino.spi.connector.ColumnMetadata;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplitSource;
 import io.trino.spi.connector.ConnectorTableMetadata;
+import io.trino.spi.connector.JoinStatistics;
+import io.trino.spi.connector.JoinType;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.connector.SystemTable;
 import io.trino.spi.connector.TableScanRedirectApplicationResult;
@@ -170,6 +172,18 @@ public class CachingJdbcClient
         return delegate.implementAggregation(session, aggregate, assignments);
     }
 
+    @Override
+    public Optional<JdbcJoinRelationHandle> implementJoin(
+            ConnectorSession session,
+            JoinType joinType,
+            JdbcTableHandle left,
+            JdbcTableHandle right,
+            List<JdbcJoinCondition> joinConditions,
+            JoinStatistics statistics)
+    {
+        return delegate.implementJoin(session, joinType, left, right, joinConditions, statistics);
+    }
+
     @Override
     public ConnectorSplitSource getSplits(ConnectorSession session, JdbcTableHandle tableHandle)
     {
@@ -209,6 +223,18 @@ public class CachingJdbcClient
         return delegate.isLimitGuaranteed(session);
     }
 
+    @Override
+    public boolean supportsTopN(ConnectorSession session, JdbcTableHandle handle, List<JdbcSortItem> sortOrder)
+    {
+        return delegate.supportsTopN(session, handle, sortOrder);
+    }
+
+    @Override
+    public boolean isTopNGuaranteed(ConnectorSession session)
+    {
+        return delegate.isTopNGuaranteed(session);
+    }
+
     @Override
     public Optional<JdbcTableHandle> getTableHandle(ConnectorSession session, SchemaTableName schemaTableName)
     {
@@ -264,6 +290,13 @@ public class CachingJdbcClient
         return delegate.buildInsertSql(handle, columnWriters);
     }
 
+    @Override
+    public JdbcPageWriter createPageWriter(ConnectorSession session, Connection connection, JdbcOutputTableHandle handle, List<WriteFunction> columnWriters, int batchSize)
+            throws SQLException
+    {
+        return delegate.createPageWriter(session, connection, handle, columnWriters, batchSize);
+    }
+
     @Override
     public Connection getConnection(ConnectorSession session, JdbcOutputTableHandle handle)
             throws SQLException
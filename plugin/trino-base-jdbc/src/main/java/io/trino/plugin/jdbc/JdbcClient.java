@@ -20,6 +20,8 @@ import io.trino.spi.connector.ColumnMetadata;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplitSource;
 import io.trino.spi.connector.ConnectorTableMetadata;
+import io.trino.spi.connector.JoinStatistics;
+import io.trino.spi.connector.JoinType;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.connector.SystemTable;
 import io.trino.spi.connector.TableScanRedirectApplicationResult;
@@ -76,6 +78,21 @@ public interface JdbcClient
         return Optional.empty();
     }
 
+    /**
+     * Decides whether the join of {@code left} and {@code right} should be evaluated by the remote database.
+     * Both handles project their columns under names unique within the join, and the conditions refer to those columns.
+     */
+    default Optional<JdbcJoinRelationHandle> implementJoin(
+            ConnectorSession session,
+            JoinType joinType,
+            JdbcTableHandle left,
+            JdbcTableHandle right,
+            List<JdbcJoinCondition> joinConditions,
+            JoinStatistics statistics)
+    {
+        return Optional.empty();
+    }
+
     ConnectorSplitSource getSplits(ConnectorSession session, JdbcTableHandle tableHandle);
 
     Connection getConnection(ConnectorSession session, JdbcSplit split)
@@ -94,6 +111,16 @@ public interface JdbcClient
 
     boolean isLimitGuaranteed(ConnectorSession session);
 
+    default boolean supportsTopN(ConnectorSession session, JdbcTableHandle handle, List<JdbcSortItem> sortOrder)
+    {
+        return false;
+    }
+
+    default boolean isTopNGuaranteed(ConnectorSession session)
+    {
+        throw new TrinoException(NOT_SUPPORTED, "This connector does not support TopN pushdown");
+    }
+
     default void setColumnComment(ConnectorSession session, JdbcTableHandle handle, JdbcColumnHandle column, Optional<String> comment)
     {
         throw new TrinoException(NOT_SUPPORTED, "This connector does not support setting column comments");
@@ -123,6 +150,12 @@ public interface JdbcClient
 
     String buildInsertSql(JdbcOutputTableHandle handle, List<WriteFunction> columnWriters);
 
+    default JdbcPageWriter createPageWriter(ConnectorSession session, Connection connection, JdbcOutputTableHandle handle, List<WriteFunction> columnWriters, int batchSize)
+            throws SQLException
+    {
+        return new BatchInsertPageWriter(connection.prepareStatement(buildInsertSql(handle, columnWriters)), handle.getColumnTypes(), columnWriters, batchSize);
+    }
+
     Connection getConnection(ConnectorSession session, JdbcOutputTableHandle handle)
             throws SQLException;
 
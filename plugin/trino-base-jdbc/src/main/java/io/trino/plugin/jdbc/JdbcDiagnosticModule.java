@@ -18,12 +18,14 @@ import com.google.inject.Key;
 import com.google.inject.Module;
 import com.google.inject.Provider;
 import com.google.inject.Provides;
+import com.google.inject.Scopes;
 import com.google.inject.Singleton;
 import io.airlift.log.Logger;
 import io.trino.plugin.base.CatalogName;
 import io.trino.plugin.base.jmx.MBeanServerModule;
 import io.trino.plugin.base.util.LoggingInvocationHandler;
 import io.trino.plugin.base.util.LoggingInvocationHandler.ReflectiveParameterNamesProvider;
+import io.trino.plugin.jdbc.jmx.JdbcWriteStats;
 import io.trino.plugin.jdbc.jmx.StatisticsAwareConnectionFactory;
 import io.trino.plugin.jdbc.jmx.StatisticsAwareJdbcClient;
 import org.weakref.jmx.guice.MBeanModule;
@@ -46,6 +48,9 @@ public class JdbcDiagnosticModule
                 .as(generator -> generator.generatedNameOf(JdbcClient.class, catalogName.get().toString()));
         newExporter(binder).export(Key.get(ConnectionFactory.class, StatsCollecting.class))
                 .as(generator -> generator.generatedNameOf(ConnectionFactory.class, catalogName.get().toString()));
+        binder.bind(JdbcWriteStats.class).in(Scopes.SINGLETON);
+        newExporter(binder).export(JdbcWriteStats.class)
+                .as(generator -> generator.generatedNameOf(JdbcWriteStats.class, catalogName.get().toString()));
     }
 
     @Provides
@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.trino.spi.connector.JoinCondition;
+
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Join condition between a column of the left and a column of the right side of a {@link JdbcJoinRelationHandle}.
+ */
+public final class JdbcJoinCondition
+{
+    private final JdbcColumnHandle leftColumn;
+    private final JoinCondition.Operator operator;
+    private final JdbcColumnHandle rightColumn;
+
+    @JsonCreator
+    public JdbcJoinCondition(
+            @JsonProperty("leftColumn") JdbcColumnHandle leftColumn,
+            @JsonProperty("operator") JoinCondition.Operator operator,
+            @JsonProperty("rightColumn") JdbcColumnHandle rightColumn)
+    {
+        this.leftColumn = requireNonNull(leftColumn, "leftColumn is null");
+        this.operator = requireNonNull(operator, "operator is null");
+        this.rightColumn = requireNonNull(rightColumn, "rightColumn is null");
+    }
+
+    @JsonProperty
+    public JdbcColumnHandle getLeftColumn()
+    {
+        return leftColumn;
+    }
+
+    @JsonProperty
+    public JoinCondition.Operator getOperator()
+    {
+        return operator;
+    }
+
+    @JsonProperty
+    public JdbcColumnHandle getRightColumn()
+    {
+        return rightColumn;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        JdbcJoinCondition that = (JdbcJoinCondition) o;
+        return leftColumn.equals(that.leftColumn) &&
+                operator == that.operator &&
+                rightColumn.equals(that.rightColumn);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(leftColumn, operator, rightColumn);
+    }
+
+    @Override
+    public String toString()
+    {
+        return leftColumn.getColumnName() + " " + operator.getValue() + " " + rightColumn.getColumnName();
+    }
+}
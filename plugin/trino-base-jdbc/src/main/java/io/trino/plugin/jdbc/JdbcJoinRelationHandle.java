@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
+import io.trino.spi.connector.JoinType;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Join of two relations evaluated by the remote database. Both sides project their columns
+ * under names that are unique within the join, so the joined relation exposes them unqualified.
+ */
+public final class JdbcJoinRelationHandle
+        extends JdbcRelationHandle
+{
+    private final JoinType joinType;
+    private final JdbcTableHandle left;
+    private final JdbcTableHandle right;
+    private final List<JdbcJoinCondition> joinConditions;
+
+    @JsonCreator
+    public JdbcJoinRelationHandle(
+            @JsonProperty("joinType") JoinType joinType,
+            @JsonProperty("left") JdbcTableHandle left,
+            @JsonProperty("right") JdbcTableHandle right,
+            @JsonProperty("joinConditions") List<JdbcJoinCondition> joinConditions)
+    {
+        this.joinType = requireNonNull(joinType, "joinType is null");
+        this.left = requireNonNull(left, "left is null");
+        this.right = requireNonNull(right, "right is null");
+        this.joinConditions = ImmutableList.copyOf(requireNonNull(joinConditions, "joinConditions is null"));
+        checkArgument(left.getColumns().isPresent(), "left columns are not present");
+        checkArgument(right.getColumns().isPresent(), "right columns are not present");
+        checkArgument(left.getLimit().isEmpty() && right.getLimit().isEmpty(), "join sides cannot have a limit");
+    }
+
+    @JsonProperty
+    public JoinType getJoinType()
+    {
+        return joinType;
+    }
+
+    @JsonProperty
+    public JdbcTableHandle getLeft()
+    {
+        return left;
+    }
+
+    @JsonProperty
+    public JdbcTableHandle getRight()
+    {
+        return right;
+    }
+
+    @JsonProperty
+    public List<JdbcJoinCondition> getJoinConditions()
+    {
+        return joinConditions;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        JdbcJoinRelationHandle that = (JdbcJoinRelationHandle) o;
+        return joinType == that.joinType &&
+                left.equals(that.left) &&
+                right.equals(that.right) &&
+                joinConditions.equals(that.joinConditions);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(joinType, left, right, joinConditions);
+    }
+
+    @Override
+    public String toString()
+    {
+        return joinType + " join(" + left + ", " + right + ") on " + joinConditions;
+    }
+}
@@ -35,13 +35,19 @@ import io.trino.spi.connector.ConnectorTableMetadata;
 import io.trino.spi.connector.ConnectorTableProperties;
 import io.trino.spi.connector.Constraint;
 import io.trino.spi.connector.ConstraintApplicationResult;
+import io.trino.spi.connector.JoinApplicationResult;
+import io.trino.spi.connector.JoinCondition;
+import io.trino.spi.connector.JoinStatistics;
+import io.trino.spi.connector.JoinType;
 import io.trino.spi.connector.LimitApplicationResult;
 import io.trino.spi.connector.ProjectionApplicationResult;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.connector.SchemaTablePrefix;
+import io.trino.spi.connector.SortItem;
 import io.trino.spi.connector.SystemTable;
 import io.trino.spi.connector.TableNotFoundException;
 import io.trino.spi.connector.TableScanRedirectApplicationResult;
+import io.trino.spi.connector.TopNApplicationResult;
 import io.trino.spi.expression.ConnectorExpression;
 import io.trino.spi.expression.Variable;
 import io.trino.spi.predicate.Domain;
@@ -52,11 +58,13 @@ import io.trino.spi.statistics.TableStatistics;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.google.common.base.Functions.identity;
@@ -65,6 +73,8 @@ import static com.google.common.base.Verify.verify;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static io.trino.plugin.jdbc.JdbcMetadataSessionProperties.isAggregationPushdownEnabled;
+import static io.trino.plugin.jdbc.JdbcMetadataSessionProperties.isJoinPushdownEnabled;
+import static io.trino.plugin.jdbc.JdbcMetadataSessionProperties.isTopNPushdownEnabled;
 import static io.trino.spi.StandardErrorCode.PERMISSION_DENIED;
 import static java.util.Objects.requireNonNull;
 
@@ -72,6 +82,7 @@ public class JdbcMetadata
         implements ConnectorMetadata
 {
     private static final String SYNTHETIC_COLUMN_NAME_PREFIX = "_presto_generated_";
+    private static final SchemaTableName JOIN_TABLE_NAME = new SchemaTableName("_generated", "_generated_join");
 
     private final JdbcClient jdbcClient;
     private final boolean allowDropTable;
@@ -114,6 +125,11 @@ public class JdbcMetadata
     {
         JdbcTableHandle handle = (JdbcTableHandle) table;
 
+        if (handle.getLimit().isPresent()) {
+            // handle's limit is applied before the constraint would be, so the constraint cannot be pushed below it
+            return Optional.empty();
+        }
+
         if (handle.getGroupingSets().isPresent()) {
             if (constraint.getSummary().isNone()) {
                 return Optional.empty();
@@ -166,10 +182,10 @@ public class JdbcMetadata
         }
 
         handle = new JdbcTableHandle(
-                handle.getSchemaTableName(),
-                handle.getRemoteTableName(),
+                handle.getRelationHandle(),
                 newDomain,
                 handle.getGroupingSets(),
+                handle.getSortOrder(),
                 handle.getLimit(),
                 handle.getColumns());
 
@@ -195,10 +211,10 @@ public class JdbcMetadata
 
         return Optional.of(new ProjectionApplicationResult<>(
                 new JdbcTableHandle(
-                        handle.getSchemaTableName(),
-                        handle.getRemoteTableName(),
+                        handle.getRelationHandle(),
                         handle.getConstraint(),
                         handle.getGroupingSets(),
+                        handle.getSortOrder(),
                         handle.getLimit(),
                         Optional.of(newColumns)),
                 projections,
@@ -280,14 +296,14 @@ public class JdbcMetadata
         }
 
         handle = new JdbcTableHandle(
-                handle.getSchemaTableName(),
-                handle.getRemoteTableName(),
+                handle.getRelationHandle(),
                 handle.getConstraint(),
                 Optional.of(groupingSets.stream()
                         .map(groupingSet -> groupingSet.stream()
                                 .map(JdbcColumnHandle.class::cast)
                                 .collect(toImmutableList()))
                         .collect(toImmutableList())),
+                Optional.empty(), // sort order
                 OptionalLong.empty(), // limit
                 Optional.of(newColumns.build()));
 
@@ -308,20 +324,191 @@ public class JdbcMetadata
         }
 
         handle = new JdbcTableHandle(
-                handle.getSchemaTableName(),
-                handle.getRemoteTableName(),
+                handle.getRelationHandle(),
                 handle.getConstraint(),
                 handle.getGroupingSets(),
+                handle.getSortOrder(),
                 OptionalLong.of(limit),
                 handle.getColumns());
 
         return Optional.of(new LimitApplicationResult<>(handle, jdbcClient.isLimitGuaranteed(session)));
     }
 
+    @Override
+    public Optional<TopNApplicationResult<ConnectorTableHandle>> applyTopN(
+            ConnectorSession session,
+            ConnectorTableHandle table,
+            long topNCount,
+            List<SortItem> sortItems,
+            Map<String, ColumnHandle> assignments)
+    {
+        if (!isTopNPushdownEnabled(session)) {
+            return Optional.empty();
+        }
+
+        JdbcTableHandle handle = (JdbcTableHandle) table;
+
+        if (handle.getLimit().isPresent()) {
+            // handle's limit (and sort order, if any) is applied before the TopN would be, so the TopN cannot be combined with it
+            return Optional.empty();
+        }
+
+        ImmutableList.Builder<JdbcSortItem> sortOrder = ImmutableList.builder();
+        for (SortItem sortItem : sortItems) {
+            JdbcColumnHandle column = (JdbcColumnHandle) assignments.get(sortItem.getName());
+            if (column == null) {
+                return Optional.empty();
+            }
+            sortOrder.add(new JdbcSortItem(column, sortItem.getSortOrder()));
+        }
+        List<JdbcSortItem> jdbcSortOrder = sortOrder.build();
+
+        if (!jdbcClient.supportsTopN(session, handle, jdbcSortOrder)) {
+            // JDBC client implementation prevents TopN pushdown for the given table and sort items
+            return Optional.empty();
+        }
+
+        handle = new JdbcTableHandle(
+                handle.getRelationHandle(),
+                handle.getConstraint(),
+                handle.getGroupingSets(),
+                Optional.of(jdbcSortOrder),
+                OptionalLong.of(topNCount),
+                handle.getColumns());
+
+        return Optional.of(new TopNApplicationResult<>(handle, jdbcClient.isTopNGuaranteed(session)));
+    }
+
+    @Override
+    public Optional<JoinApplicationResult<ConnectorTableHandle>> applyJoin(
+            ConnectorSession session,
+            JoinType joinType,
+            ConnectorTableHandle left,
+            ConnectorTableHandle right,
+            List<JoinCondition> joinConditions,
+            Map<String, ColumnHandle> leftAssignments,
+            Map<String, ColumnHandle> rightAssignments,
+            JoinStatistics statistics)
+    {
+        if (!isJoinPushdownEnabled(session)) {
+            return Optional.empty();
+        }
+
+        JdbcTableHandle leftHandle = (JdbcTableHandle) left;
+        JdbcTableHandle rightHandle = (JdbcTableHandle) right;
+
+        if (leftHandle.getLimit().isPresent() || rightHandle.getLimit().isPresent()) {
+            // handle's limit is applied after the join, so a side with a limit cannot take part in it
+            return Optional.empty();
+        }
+
+        // Both sides are rendered as subqueries which project their columns under names unique within the join
+        AtomicInteger syntheticNextIdentifier = new AtomicInteger(1);
+        Map<JdbcColumnHandle, JdbcColumnHandle> leftProjections = projectJoinSide(leftAssignments, syntheticNextIdentifier);
+        Map<JdbcColumnHandle, JdbcColumnHandle> rightProjections = projectJoinSide(rightAssignments, syntheticNextIdentifier);
+
+        ImmutableList.Builder<JdbcJoinCondition> jdbcJoinConditions = ImmutableList.builder();
+        for (JoinCondition joinCondition : joinConditions) {
+            Optional<JdbcColumnHandle> leftColumn = getJoinConditionColumn(joinCondition.getLeftExpression(), leftAssignments, leftProjections);
+            Optional<JdbcColumnHandle> rightColumn = getJoinConditionColumn(joinCondition.getRightExpression(), rightAssignments, rightProjections);
+            if (leftColumn.isEmpty() || rightColumn.isEmpty()) {
+                return Optional.empty();
+            }
+            jdbcJoinConditions.add(new JdbcJoinCondition(leftColumn.get(), joinCondition.getOperator(), rightColumn.get()));
+        }
+
+        Optional<JdbcJoinRelationHandle> joinRelation = jdbcClient.implementJoin(
+                session,
+                joinType,
+                withColumns(leftHandle, ImmutableList.copyOf(leftProjections.values())),
+                withColumns(rightHandle, ImmutableList.copyOf(rightProjections.values())),
+                jdbcJoinConditions.build(),
+                statistics);
+        if (joinRelation.isEmpty()) {
+            return Optional.empty();
+        }
+
+        boolean leftNullable = joinType == JoinType.RIGHT_OUTER || joinType == JoinType.FULL_OUTER;
+        boolean rightNullable = joinType == JoinType.LEFT_OUTER || joinType == JoinType.FULL_OUTER;
+        ImmutableList.Builder<JdbcColumnHandle> joinedColumns = ImmutableList.builder();
+        ImmutableMap.Builder<ColumnHandle, ColumnHandle> leftColumnHandles = ImmutableMap.builder();
+        ImmutableMap.Builder<ColumnHandle, ColumnHandle> rightColumnHandles = ImmutableMap.builder();
+        leftProjections.forEach((column, projection) -> {
+            JdbcColumnHandle joinedColumn = toJoinedColumn(projection, leftNullable);
+            joinedColumns.add(joinedColumn);
+            leftColumnHandles.put(column, joinedColumn);
+        });
+        rightProjections.forEach((column, projection) -> {
+            JdbcColumnHandle joinedColumn = toJoinedColumn(projection, rightNullable);
+            joinedColumns.add(joinedColumn);
+            rightColumnHandles.put(column, joinedColumn);
+        });
+
+        return Optional.of(new JoinApplicationResult<>(
+                new JdbcTableHandle(
+                        joinRelation.get(),
+                        TupleDomain.all(),
+                        Optional.empty(),
+                        Optional.empty(),
+                        OptionalLong.empty(),
+                        Optional.of(joinedColumns.build())),
+                leftColumnHandles.build(),
+                rightColumnHandles.build()));
+    }
+
+    private Map<JdbcColumnHandle, JdbcColumnHandle> projectJoinSide(Map<String, ColumnHandle> assignments, AtomicInteger syntheticNextIdentifier)
+    {
+        Map<JdbcColumnHandle, JdbcColumnHandle> projections = new LinkedHashMap<>();
+        for (ColumnHandle columnHandle : assignments.values()) {
+            JdbcColumnHandle column = (JdbcColumnHandle) columnHandle;
+            if (!projections.containsKey(column)) {
+                projections.put(column, JdbcColumnHandle.builderFrom(column)
+                        .setExpression(Optional.of(column.toSqlExpression(jdbcClient::quoted)))
+                        .setColumnName(SYNTHETIC_COLUMN_NAME_PREFIX + syntheticNextIdentifier.getAndIncrement())
+                        .build());
+            }
+        }
+        return projections;
+    }
+
+    private static Optional<JdbcColumnHandle> getJoinConditionColumn(ConnectorExpression expression, Map<String, ColumnHandle> assignments, Map<JdbcColumnHandle, JdbcColumnHandle> projections)
+    {
+        if (!(expression instanceof Variable)) {
+            return Optional.empty();
+        }
+        ColumnHandle column = assignments.get(((Variable) expression).getName());
+        if (column == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(projections.get((JdbcColumnHandle) column));
+    }
+
+    private static JdbcTableHandle withColumns(JdbcTableHandle handle, List<JdbcColumnHandle> columns)
+    {
+        return new JdbcTableHandle(
+                handle.getRelationHandle(),
+                handle.getConstraint(),
+                handle.getGroupingSets(),
+                handle.getSortOrder(),
+                handle.getLimit(),
+                Optional.of(columns));
+    }
+
+    private static JdbcColumnHandle toJoinedColumn(JdbcColumnHandle projection, boolean nullable)
+    {
+        return JdbcColumnHandle.builderFrom(projection)
+                .setExpression(Optional.empty())
+                .setNullable(projection.isNullable() || nullable)
+                .build();
+    }
+
     @Override
     public Optional<TableScanRedirectApplicationResult> applyTableScanRedirect(ConnectorSession session, ConnectorTableHandle table)
     {
         JdbcTableHandle tableHandle = (JdbcTableHandle) table;
+        if (!tableHandle.isNamedRelation()) {
+            return Optional.empty();
+        }
         return jdbcClient.getTableScanRedirection(session, tableHandle);
     }
 
@@ -346,6 +533,9 @@ public class JdbcMetadata
         for (JdbcColumnHandle column : jdbcClient.getColumns(session, handle)) {
             columnMetadata.add(column.getColumnMetadata());
         }
+        if (!handle.isNamedRelation()) {
+            return new ConnectorTableMetadata(JOIN_TABLE_NAME, columnMetadata.build());
+        }
         return new ConnectorTableMetadata(handle.getSchemaTableName(), columnMetadata.build(), jdbcClient.getTableProperties(session, handle));
     }
 
@@ -507,6 +697,9 @@ public class JdbcMetadata
     public TableStatistics getTableStatistics(ConnectorSession session, ConnectorTableHandle tableHandle, Constraint constraint)
     {
         JdbcTableHandle handle = (JdbcTableHandle) tableHandle;
+        if (!handle.isNamedRelation()) {
+            return TableStatistics.empty();
+        }
         return jdbcClient.getTableStatistics(session, handle, constraint.getSummary());
     }
 
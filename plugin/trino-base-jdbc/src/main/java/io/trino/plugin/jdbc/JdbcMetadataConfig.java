@@ -16,8 +16,13 @@ package io.trino.plugin.jdbc;
 import io.airlift.configuration.Config;
 import io.airlift.configuration.ConfigDescription;
 import io.airlift.configuration.LegacyConfig;
+import io.airlift.units.DataSize;
 
+import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import java.util.Optional;
 
 public class JdbcMetadataConfig
 {
@@ -29,6 +34,13 @@ public class JdbcMetadataConfig
     // Use 32 as compaction threshold as it provides reasonable balance
     // between performance and pushdown capabilities
     private int domainCompactionThreshold = 32;
+    private boolean joinPushdownEnabled = true;
+    private JoinPushdownStrategy joinPushdownStrategy = JoinPushdownStrategy.AUTOMATIC;
+    private DataSize joinPushdownAutomaticMaxTableSize;
+    // Pushing down a join which produces more data than its inputs moves the cost of
+    // transferring that data from the remote database to Trino; allow some slack for estimation errors
+    private double joinPushdownAutomaticMaxJoinToTablesRatio = 1.25;
+    private boolean topNPushdownEnabled = true;
 
     public boolean isAllowDropTable()
     {
@@ -70,4 +82,71 @@ public class JdbcMetadataConfig
         this.domainCompactionThreshold = domainCompactionThreshold;
         return this;
     }
+
+    public boolean isJoinPushdownEnabled()
+    {
+        return joinPushdownEnabled;
+    }
+
+    @Config("join-pushdown.enabled")
+    @ConfigDescription("Enable join pushdown")
+    public JdbcMetadataConfig setJoinPushdownEnabled(boolean joinPushdownEnabled)
+    {
+        this.joinPushdownEnabled = joinPushdownEnabled;
+        return this;
+    }
+
+    @NotNull
+    public JoinPushdownStrategy getJoinPushdownStrategy()
+    {
+        return joinPushdownStrategy;
+    }
+
+    @Config("join-pushdown.strategy")
+    @ConfigDescription("Join pushdown strategy")
+    public JdbcMetadataConfig setJoinPushdownStrategy(JoinPushdownStrategy joinPushdownStrategy)
+    {
+        this.joinPushdownStrategy = joinPushdownStrategy;
+        return this;
+    }
+
+    public Optional<DataSize> getJoinPushdownAutomaticMaxTableSize()
+    {
+        return Optional.ofNullable(joinPushdownAutomaticMaxTableSize);
+    }
+
+    @Config("join-pushdown.automatic.max-table-size")
+    @ConfigDescription("Maximum table size to be considered for join pushdown")
+    public JdbcMetadataConfig setJoinPushdownAutomaticMaxTableSize(DataSize joinPushdownAutomaticMaxTableSize)
+    {
+        this.joinPushdownAutomaticMaxTableSize = joinPushdownAutomaticMaxTableSize;
+        return this;
+    }
+
+    @DecimalMin("0")
+    public double getJoinPushdownAutomaticMaxJoinToTablesRatio()
+    {
+        return joinPushdownAutomaticMaxJoinToTablesRatio;
+    }
+
+    @Config("join-pushdown.automatic.max-join-to-tables-ratio")
+    @ConfigDescription("If estimated join output size is greater than or equal to ratio * sum of table sizes, then join pushdown will not be performed")
+    public JdbcMetadataConfig setJoinPushdownAutomaticMaxJoinToTablesRatio(double joinPushdownAutomaticMaxJoinToTablesRatio)
+    {
+        this.joinPushdownAutomaticMaxJoinToTablesRatio = joinPushdownAutomaticMaxJoinToTablesRatio;
+        return this;
+    }
+
+    public boolean isTopNPushdownEnabled()
+    {
+        return topNPushdownEnabled;
+    }
+
+    @Config("topn-pushdown.enabled")
+    @ConfigDescription("Enable TopN pushdown")
+    public JdbcMetadataConfig setTopNPushdownEnabled(boolean topNPushdownEnabled)
+    {
+        this.topNPushdownEnabled = topNPushdownEnabled;
+        return this;
+    }
 }
@@ -14,6 +14,7 @@
 package io.trino.plugin.jdbc;
 
 import com.google.common.collect.ImmutableList;
+import io.airlift.units.DataSize;
 import io.trino.spi.TrinoException;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.session.PropertyMetadata;
@@ -23,8 +24,11 @@ import javax.inject.Inject;
 import java.util.List;
 import java.util.Optional;
 
+import static io.trino.plugin.base.session.PropertyMetadataUtil.dataSizeProperty;
 import static io.trino.spi.StandardErrorCode.INVALID_SESSION_PROPERTY;
 import static io.trino.spi.session.PropertyMetadata.booleanProperty;
+import static io.trino.spi.session.PropertyMetadata.doubleProperty;
+import static io.trino.spi.session.PropertyMetadata.enumProperty;
 import static io.trino.spi.session.PropertyMetadata.integerProperty;
 import static java.lang.String.format;
 
@@ -33,6 +37,11 @@ public class JdbcMetadataSessionProperties
 {
     public static final String AGGREGATION_PUSHDOWN_ENABLED = "aggregation_pushdown_enabled";
     public static final String DOMAIN_COMPACTION_THRESHOLD = "domain_compaction_threshold";
+    public static final String JOIN_PUSHDOWN_ENABLED = "join_pushdown_enabled";
+    public static final String JOIN_PUSHDOWN_STRATEGY = "join_pushdown_strategy";
+    public static final String JOIN_PUSHDOWN_AUTOMATIC_MAX_TABLE_SIZE = "join_pushdown_automatic_max_table_size";
+    public static final String JOIN_PUSHDOWN_AUTOMATIC_MAX_JOIN_TO_TABLES_RATIO = "join_pushdown_automatic_max_join_to_tables_ratio";
+    public static final String TOPN_PUSHDOWN_ENABLED = "topn_pushdown_enabled";
 
     private final List<PropertyMetadata<?>> properties;
 
@@ -52,6 +61,32 @@ public class JdbcMetadataSessionProperties
                         jdbcMetadataConfig.getDomainCompactionThreshold(),
                         value -> validateDomainCompactionThreshold(value, maxDomainCompactionThreshold),
                         false))
+                .add(booleanProperty(
+                        JOIN_PUSHDOWN_ENABLED,
+                        "Enable join pushdown",
+                        jdbcMetadataConfig.isJoinPushdownEnabled(),
+                        false))
+                .add(enumProperty(
+                        JOIN_PUSHDOWN_STRATEGY,
+                        "Join pushdown strategy",
+                        JoinPushdownStrategy.class,
+                        jdbcMetadataConfig.getJoinPushdownStrategy(),
+                        false))
+                .add(dataSizeProperty(
+                        JOIN_PUSHDOWN_AUTOMATIC_MAX_TABLE_SIZE,
+                        "Maximum table size to be considered for join pushdown",
+                        jdbcMetadataConfig.getJoinPushdownAutomaticMaxTableSize().orElse(null),
+                        false))
+                .add(doubleProperty(
+                        JOIN_PUSHDOWN_AUTOMATIC_MAX_JOIN_TO_TABLES_RATIO,
+                        "If estimated join output size is greater than or equal to ratio * sum of table sizes, then join pushdown will not be performed",
+                        jdbcMetadataConfig.getJoinPushdownAutomaticMaxJoinToTablesRatio(),
+                        false))
+                .add(booleanProperty(
+                        TOPN_PUSHDOWN_ENABLED,
+                        "Enable TopN pushdown",
+                        jdbcMetadataConfig.isTopNPushdownEnabled(),
+                        false))
                 .build();
     }
 
@@ -71,6 +106,31 @@ public class JdbcMetadataSessionProperties
         return session.getProperty(DOMAIN_COMPACTION_THRESHOLD, Integer.class);
     }
 
+    public static boolean isJoinPushdownEnabled(ConnectorSession session)
+    {
+        return session.getProperty(JOIN_PUSHDOWN_ENABLED, Boolean.class);
+    }
+
+    public static JoinPushdownStrategy getJoinPushdownStrategy(ConnectorSession session)
+    {
+        return session.getProperty(JOIN_PUSHDOWN_STRATEGY, JoinPushdownStrategy.class);
+    }
+
+    public static Optional<DataSize> getJoinPushdownAutomaticMaxTableSize(ConnectorSession session)
+    {
+        return Optional.ofNullable(session.getProperty(JOIN_PUSHDOWN_AUTOMATIC_MAX_TABLE_SIZE, DataSize.class));
+    }
+
+    public static double getJoinPushdownAutomaticMaxJoinToTablesRatio(ConnectorSession session)
+    {
+        return session.getProperty(JOIN_PUSHDOWN_AUTOMATIC_MAX_JOIN_TO_TABLES_RATIO, Double.class);
+    }
+
+    public static boolean isTopNPushdownEnabled(ConnectorSession session)
+    {
+        return session.getProperty(TOPN_PUSHDOWN_ENABLED, Boolean.class);
+    }
+
     private static void validateDomainCompactionThreshold(int domainCompactionThreshold, Optional<Integer> maxDomainCompactionThreshold)
     {
         if (domainCompactionThreshold < 1) {
@@ -14,18 +14,19 @@
 package io.trino.plugin.jdbc;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.airlift.slice.Slice;
+import io.trino.plugin.jdbc.jmx.JdbcWriteStats;
 import io.trino.spi.Page;
 import io.trino.spi.TrinoException;
-import io.trino.spi.block.Block;
 import io.trino.spi.connector.ConnectorPageSink;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.type.Type;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.SQLNonTransientException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -33,139 +34,209 @@ import java.util.concurrent.CompletableFuture;
 import static com.google.common.base.MoreObjects.firstNonNull;
 import static com.google.common.base.Verify.verify;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.Futures.nonCancellationPropagating;
+import static io.airlift.concurrent.MoreFutures.toCompletableFuture;
 import static io.trino.plugin.jdbc.JdbcErrorCode.JDBC_ERROR;
 import static io.trino.plugin.jdbc.JdbcErrorCode.JDBC_NON_TRANSIENT_ERROR;
 import static io.trino.spi.StandardErrorCode.NOT_SUPPORTED;
+import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
 public class JdbcPageSink
         implements ConnectorPageSink
 {
-    private final Connection connection;
-    private final PreparedStatement statement;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
 
-    private final List<Type> columnTypes;
-    private final List<WriteFunction> columnWriters;
-    private int batchSize;
+    private final ConnectorSession session;
+    private final JdbcOutputTableHandle handle;
+    private final JdbcClient jdbcClient;
+    private final int batchSize;
+    private final JdbcWriteLimiter writeLimiter;
+    private final JdbcWriteStats writeStats;
+    // pages that are not handed to the page writer yet
+    private final List<Page> pendingPages = new ArrayList<>();
+    private long pendingRows;
+    private long pendingBytes;
+
+    // held while a batch is written when the writers are limited, otherwise until the sink is finished
+    private ListenableFuture<Void> writePermit;
+    // the write of a batch that waits for the permit
+    private CompletableFuture<?> deferredWrite = completedFuture(null);
+    private RuntimeException deferredWriteFailure;
+    private boolean aborted;
+
+    private Connection connection;
+    private JdbcPageWriter pageWriter;
 
     public JdbcPageSink(ConnectorSession session, JdbcOutputTableHandle handle, JdbcClient jdbcClient)
     {
-        try {
-            connection = jdbcClient.getConnection(session, handle);
-        }
-        catch (SQLException e) {
-            throw new TrinoException(JDBC_ERROR, e);
-        }
+        this(session, handle, jdbcClient, DEFAULT_BATCH_SIZE, JdbcWriteLimiter.unlimited(), new JdbcWriteStats());
+    }
 
-        try {
-            connection.setAutoCommit(false);
-        }
-        catch (SQLException e) {
-            closeWithSuppression(connection, e);
-            throw new TrinoException(JDBC_ERROR, e);
-        }
+    public JdbcPageSink(ConnectorSession session, JdbcOutputTableHandle handle, JdbcClient jdbcClient, int batchSize, JdbcWriteLimiter writeLimiter, JdbcWriteStats writeStats)
+    {
+        this.session = requireNonNull(session, "session is null");
+        this.handle = requireNonNull(handle, "handle is null");
+        this.jdbcClient = requireNonNull(jdbcClient, "jdbcClient is null");
+        this.batchSize = batchSize;
+        this.writeLimiter = requireNonNull(writeLimiter, "writeLimiter is null");
+        this.writeStats = requireNonNull(writeStats, "writeStats is null");
+    }
 
-        columnTypes = handle.getColumnTypes();
+    @Override
+    public long getSystemMemoryUsage()
+    {
+        return pendingBytes;
+    }
 
-        if (handle.getJdbcColumnTypes().isEmpty()) {
-            columnWriters = columnTypes.stream()
-                    .map(type -> {
-                        WriteMapping writeMapping = jdbcClient.toWriteMapping(session, type);
-                        WriteFunction writeFunction = writeMapping.getWriteFunction();
-                        verify(
-                                type.getJavaType() == writeFunction.getJavaType(),
-                                "Trino type %s is not compatible with write function %s accepting %s",
-                                type,
-                                writeFunction,
-                                writeFunction.getJavaType());
-                        return writeMapping;
-                    })
-                    .map(WriteMapping::getWriteFunction)
-                    .collect(toImmutableList());
+    @Override
+    public synchronized CompletableFuture<?> appendPage(Page page)
+    {
+        throwIfDeferredWriteFailed();
+        pendingPages.add(page);
+        pendingRows += page.getPositionCount();
+        pendingBytes += page.getRetainedSizeInBytes();
+        if (pendingRows < batchSize) {
+            return NOT_BLOCKED;
         }
-        else {
-            columnWriters = handle.getJdbcColumnTypes().get().stream()
-                    .map(typeHandle -> jdbcClient.toColumnMapping(session, connection, typeHandle)
-                            .orElseThrow(() -> new TrinoException(NOT_SUPPORTED, "Underlying type is not supported for INSERT: " + typeHandle)))
-                    .map(ColumnMapping::getWriteFunction)
-                    .collect(toImmutableList());
+
+        if (acquireWritePermit()) {
+            writeBatch();
+            return NOT_BLOCKED;
         }
+        // The batch is written as soon as the permit is granted rather than with the next page. The next page may only
+        // arrive once the sinks fed by the same exchange make progress, and they may be waiting for this permit.
+        deferredWrite = toCompletableFuture(nonCancellationPropagating(writePermit))
+                .thenRunAsync(this::writeDeferredBatch, writeLimiter.getDeferredWriteExecutor());
+        return deferredWrite;
+    }
 
-        try {
-            statement = connection.prepareStatement(jdbcClient.buildInsertSql(handle, columnWriters));
+    @Override
+    public synchronized CompletableFuture<Collection<Slice>> finish()
+    {
+        if (!deferredWrite.isDone()) {
+            // the driver may finish the sink while a batch is waiting for the permit
+            return deferredWrite.handle((ignored, throwable) -> null)
+                    .thenCompose(ignored -> finish());
         }
-        catch (SQLException e) {
-            closeWithSuppression(connection, e);
-            throw new TrinoException(JDBC_ERROR, e);
+        throwIfDeferredWriteFailed();
+        if (pendingPages.isEmpty() && pageWriter == null) {
+            // all rows are committed already
+            return completedFuture(ImmutableList.of());
         }
+        if (!acquireWritePermit()) {
+            return toCompletableFuture(nonCancellationPropagating(writePermit))
+                    .thenApplyAsync(ignored -> commit(), writeLimiter.getDeferredWriteExecutor());
+        }
+        return completedFuture(commit());
     }
 
-    @Override
-    public CompletableFuture<?> appendPage(Page page)
+    private synchronized Collection<Slice> commit()
     {
-        try {
-            for (int position = 0; position < page.getPositionCount(); position++) {
-                for (int channel = 0; channel < page.getChannelCount(); channel++) {
-                    appendColumn(page, position, channel);
-                }
+        verify(!aborted, "page sink is aborted");
+        writePendingPages();
+        commitWriter();
+        // the committer does not need any additional info
+        return ImmutableList.of();
+    }
 
-                statement.addBatch();
-                batchSize++;
+    @SuppressWarnings("unused")
+    @Override
+    public synchronized void abort()
+    {
+        aborted = true;
+        pendingPages.clear();
+        pendingRows = 0;
+        pendingBytes = 0;
+        if (pageWriter == null) {
+            // no connection is open, only withdraw the request for the permit
+            releaseWritePermit();
+            return;
+        }
 
-                if (batchSize >= 1000) {
-                    statement.executeBatch();
-                    connection.commit();
-                    connection.setAutoCommit(false);
-                    batchSize = 0;
-                }
+        // rollback and close
+        try (Connection connection = this.connection;
+                JdbcPageWriter pageWriter = this.pageWriter) {
+            // skip rollback if implicitly closed due to an error
+            if (!connection.isClosed()) {
+                connection.rollback();
             }
         }
         catch (SQLException e) {
             throw new TrinoException(JDBC_ERROR, e);
         }
-        return NOT_BLOCKED;
+        finally {
+            closeWriter();
+        }
     }
 
-    private void appendColumn(Page page, int position, int channel)
-            throws SQLException
+    private boolean acquireWritePermit()
     {
-        Block block = page.getBlock(channel);
-        int parameterIndex = channel + 1;
+        if (writePermit == null) {
+            writePermit = writeLimiter.acquire();
+        }
+        return writePermit.isDone();
+    }
 
-        WriteFunction writeFunction = columnWriters.get(channel);
-        if (block.isNull(position)) {
-            writeFunction.setNull(statement, parameterIndex);
+    private synchronized void writeDeferredBatch()
+    {
+        if (aborted) {
             return;
         }
+        try {
+            writeBatch();
+        }
+        catch (RuntimeException e) {
+            // reported to the driver with the next page or when the sink is finished
+            deferredWriteFailure = e;
+        }
+    }
 
-        Type type = columnTypes.get(channel);
-        Class<?> javaType = type.getJavaType();
-        if (javaType == boolean.class) {
-            ((BooleanWriteFunction) writeFunction).set(statement, parameterIndex, type.getBoolean(block, position));
+    private void writeBatch()
+    {
+        writePendingPages();
+        if (writeLimiter.isLimited()) {
+            // A limited sink holds a connection only while it writes a batch. Waiting for the next batch with the permit
+            // held could block the sinks fed by the same exchange, and with them the input of this one.
+            commitWriter();
         }
-        else if (javaType == long.class) {
-            ((LongWriteFunction) writeFunction).set(statement, parameterIndex, type.getLong(block, position));
+    }
+
+    private void writePendingPages()
+    {
+        if (pageWriter == null) {
+            openWriter();
         }
-        else if (javaType == double.class) {
-            ((DoubleWriteFunction) writeFunction).set(statement, parameterIndex, type.getDouble(block, position));
+        for (Page page : pendingPages) {
+            writePage(page);
         }
-        else if (javaType == Slice.class) {
-            ((SliceWriteFunction) writeFunction).set(statement, parameterIndex, type.getSlice(block, position));
+        pendingPages.clear();
+        pendingRows = 0;
+        pendingBytes = 0;
+    }
+
+    private void openWriter()
+    {
+        verify(writePermit != null && writePermit.isDone(), "write permit is not granted");
+        writeStats.writerStarted();
+        try {
+            pageWriter = createPageWriter();
         }
-        else {
-            ((ObjectWriteFunction) writeFunction).set(statement, parameterIndex, type.getObject(block, position));
+        catch (RuntimeException e) {
+            connection = null;
+            writeStats.writerFinished();
+            releaseWritePermit();
+            throw e;
         }
     }
 
-    @Override
-    public CompletableFuture<Collection<Slice>> finish()
+    private void commitWriter()
     {
         // commit and close
         try (Connection connection = this.connection;
-                PreparedStatement statement = this.statement) {
-            if (batchSize > 0) {
-                statement.executeBatch();
-                connection.commit();
+                JdbcPageWriter pageWriter = this.pageWriter) {
+            if (pageWriter.flush() > 0) {
+                writeStats.getCommit().wrap(connection::commit);
             }
         }
         catch (SQLNonTransientException e) {
@@ -182,20 +253,94 @@ public class JdbcPageSink
             }
             throw new TrinoException(JDBC_ERROR, "Failed to insert data: " + firstNonNull(e.getMessage(), e), e);
         }
-        // the committer does not need any additional info
-        return completedFuture(ImmutableList.of());
+        finally {
+            closeWriter();
+        }
     }
 
-    @SuppressWarnings("unused")
-    @Override
-    public void abort()
+    private void closeWriter()
     {
-        // rollback and close
-        try (Connection connection = this.connection;
-                PreparedStatement statement = this.statement) {
-            // skip rollback if implicitly closed due to an error
-            if (!connection.isClosed()) {
-                connection.rollback();
+        connection = null;
+        pageWriter = null;
+        writeStats.writerFinished();
+        releaseWritePermit();
+    }
+
+    private void releaseWritePermit()
+    {
+        if (writePermit != null) {
+            // withdraws the request if the permit is not granted yet
+            writeLimiter.release(writePermit);
+            writePermit = null;
+        }
+    }
+
+    private void throwIfDeferredWriteFailed()
+    {
+        if (deferredWriteFailure != null) {
+            throw deferredWriteFailure;
+        }
+    }
+
+    private JdbcPageWriter createPageWriter()
+    {
+        try {
+            connection = jdbcClient.getConnection(session, handle);
+        }
+        catch (SQLException e) {
+            throw new TrinoException(JDBC_ERROR, e);
+        }
+
+        try {
+            connection.setAutoCommit(false);
+        }
+        catch (SQLException e) {
+            closeWithSuppression(connection, e);
+            throw new TrinoException(JDBC_ERROR, e);
+        }
+
+        List<Type> columnTypes = handle.getColumnTypes();
+        List<WriteFunction> columnWriters;
+        if (handle.getJdbcColumnTypes().isEmpty()) {
+            columnWriters = columnTypes.stream()
+                    .map(type -> {
+                        WriteMapping writeMapping = jdbcClient.toWriteMapping(session, type);
+                        WriteFunction writeFunction = writeMapping.getWriteFunction();
+                        verify(
+                                type.getJavaType() == writeFunction.getJavaType(),
+                                "Trino type %s is not compatible with write function %s accepting %s",
+                                type,
+                                writeFunction,
+                                writeFunction.getJavaType());
+                        return writeMapping;
+                    })
+                    .map(WriteMapping::getWriteFunction)
+                    .collect(toImmutableList());
+        }
+        else {
+            columnWriters = handle.getJdbcColumnTypes().get().stream()
+                    .map(typeHandle -> jdbcClient.toColumnMapping(session, connection, typeHandle)
+                            .orElseThrow(() -> new TrinoException(NOT_SUPPORTED, "Underlying type is not supported for INSERT: " + typeHandle)))
+                    .map(ColumnMapping::getWriteFunction)
+                    .collect(toImmutableList());
+        }
+
+        try {
+            return jdbcClient.createPageWriter(session, connection, handle, columnWriters, batchSize);
+        }
+        catch (SQLException e) {
+            closeWithSuppression(connection, e);
+            throw new TrinoException(JDBC_ERROR, e);
+        }
+    }
+
+    private void writePage(Page page)
+    {
+        try {
+            long writtenRows = writeStats.getAppendPage().wrap(() -> pageWriter.appendPage(page));
+            writeStats.pageAppended(page.getPositionCount(), page.getSizeInBytes());
+            if (writtenRows > 0) {
+                writeStats.getCommit().wrap(connection::commit);
             }
         }
         catch (SQLException e) {
@@ -13,6 +13,7 @@
  */
 package io.trino.plugin.jdbc;
 
+import io.trino.plugin.jdbc.jmx.JdbcWriteStats;
 import io.trino.spi.connector.ConnectorInsertTableHandle;
 import io.trino.spi.connector.ConnectorOutputTableHandle;
 import io.trino.spi.connector.ConnectorPageSink;
@@ -28,22 +29,33 @@ public class JdbcPageSinkProvider
         implements ConnectorPageSinkProvider
 {
     private final JdbcClient jdbcClient;
+    private final int batchSize;
+    private final JdbcWriteLimiter writeLimiter;
+    private final JdbcWriteStats writeStats;
 
-    @Inject
     public JdbcPageSinkProvider(JdbcClient jdbcClient)
+    {
+        this(jdbcClient, new JdbcWriteConfig(), JdbcWriteLimiter.unlimited(), new JdbcWriteStats());
+    }
+
+    @Inject
+    public JdbcPageSinkProvider(JdbcClient jdbcClient, JdbcWriteConfig config, JdbcWriteLimiter writeLimiter, JdbcWriteStats writeStats)
     {
         this.jdbcClient = requireNonNull(jdbcClient, "jdbcClient is null");
+        this.batchSize = requireNonNull(config, "config is null").getBatchSize();
+        this.writeLimiter = requireNonNull(writeLimiter, "writeLimiter is null");
+        this.writeStats = requireNonNull(writeStats, "writeStats is null");
     }
 
     @Override
     public ConnectorPageSink createPageSink(ConnectorTransactionHandle transactionHandle, ConnectorSession session, ConnectorOutputTableHandle tableHandle)
     {
-        return new JdbcPageSink(session, (JdbcOutputTableHandle) tableHandle, jdbcClient);
+        return new JdbcPageSink(session, (JdbcOutputTableHandle) tableHandle, jdbcClient, batchSize, writeLimiter, writeStats);
     }
 
     @Override
     public ConnectorPageSink createPageSink(ConnectorTransactionHandle transactionHandle, ConnectorSession session, ConnectorInsertTableHandle tableHandle)
     {
-        return new JdbcPageSink(session, (JdbcOutputTableHandle) tableHandle, jdbcClient);
+        return new JdbcPageSink(session, (JdbcOutputTableHandle) tableHandle, jdbcClient, batchSize, writeLimiter, writeStats);
     }
 }
@@ -0,0 +1,363 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.VerifyException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.airlift.log.Logger;
+import io.airlift.slice.Slice;
+import io.airlift.units.DataSize;
+import io.trino.spi.Page;
+import io.trino.spi.PageBuilder;
+import io.trino.spi.TrinoException;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.type.FixedWidthType;
+import io.trino.spi.type.Type;
+import io.trino.spi.type.VarcharType;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.google.common.base.Verify.verify;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.Futures.nonCancellationPropagating;
+import static io.airlift.concurrent.MoreFutures.toCompletableFuture;
+import static io.trino.plugin.jdbc.JdbcErrorCode.JDBC_ERROR;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads the rows of a {@link JdbcSplit} directly into blocks, without going through a {@link io.trino.spi.connector.RecordCursor}.
+ * The query is only executed once the {@link JdbcReadLimiter} grants a permit, which the page source waits for through
+ * {@link #isBlocked()}.  The connection and the permit are released as soon as the result set is drained.
+ */
+public class JdbcPageSource
+        implements ConnectorPageSource
+{
+    private static final Logger log = Logger.get(JdbcPageSource.class);
+
+    private static final int ROWS_PER_REQUEST = 4096;
+
+    @VisibleForTesting
+    static final int MIN_FETCH_SIZE = 100;
+    @VisibleForTesting
+    static final int MAX_FETCH_SIZE = 10_000;
+
+    // estimates of the size of a value, used when the type does not tell
+    private static final int MAX_BOUNDED_VARCHAR_SIZE = 256;
+    private static final int VARIABLE_WIDTH_SIZE = 64;
+
+    private final List<Type> types;
+    private final ReadFunction[] readFunctions;
+    private final BooleanReadFunction[] booleanReadFunctions;
+    private final DoubleReadFunction[] doubleReadFunctions;
+    private final LongReadFunction[] longReadFunctions;
+    private final SliceReadFunction[] sliceReadFunctions;
+    private final ObjectReadFunction[] objectReadFunctions;
+
+    private final JdbcClient jdbcClient;
+    private final JdbcReadLimiter readLimiter;
+    private final ConnectorSession session;
+    private final JdbcSplit split;
+    private final JdbcTableHandle table;
+    private final List<JdbcColumnHandle> columnHandles;
+    private final DataSize maxFetchMemory;
+    private final PageBuilder pageBuilder;
+
+    private ListenableFuture<Void> readPermit;
+    private Connection connection;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+    private boolean finished;
+    private boolean closed;
+
+    private long readTimeNanos;
+    private long completedBytes;
+
+    public JdbcPageSource(
+            JdbcClient jdbcClient,
+            JdbcReadLimiter readLimiter,
+            ConnectorSession session,
+            JdbcSplit split,
+            JdbcTableHandle table,
+            List<JdbcColumnHandle> columnHandles,
+            DataSize maxFetchMemory)
+    {
+        this.jdbcClient = requireNonNull(jdbcClient, "jdbcClient is null");
+        this.readLimiter = requireNonNull(readLimiter, "readLimiter is null");
+        this.session = requireNonNull(session, "session is null");
+        this.split = requireNonNull(split, "split is null");
+        this.table = requireNonNull(table, "table is null");
+        this.columnHandles = ImmutableList.copyOf(requireNonNull(columnHandles, "columnHandles is null"));
+        this.maxFetchMemory = requireNonNull(maxFetchMemory, "maxFetchMemory is null");
+
+        this.types = columnHandles.stream()
+                .map(JdbcColumnHandle::getColumnType)
+                .collect(toImmutableList());
+        this.pageBuilder = new PageBuilder(types);
+
+        readFunctions = new ReadFunction[columnHandles.size()];
+        booleanReadFunctions = new BooleanReadFunction[columnHandles.size()];
+        doubleReadFunctions = new DoubleReadFunction[columnHandles.size()];
+        longReadFunctions = new LongReadFunction[columnHandles.size()];
+        sliceReadFunctions = new SliceReadFunction[columnHandles.size()];
+        objectReadFunctions = new ObjectReadFunction[columnHandles.size()];
+    }
+
+    private void execute()
+    {
+        long start = System.nanoTime();
+        try {
+            connection = jdbcClient.getConnection(session, split);
+
+            for (int i = 0; i < columnHandles.size(); i++) {
+                JdbcColumnHandle columnHandle = columnHandles.get(i);
+                ColumnMapping columnMapping = jdbcClient.toColumnMapping(session, connection, columnHandle.getJdbcTypeHandle())
+                        .orElseThrow(() -> new VerifyException("Unsupported column type"));
+                verify(
+                        columnHandle.getColumnType().equals(columnMapping.getType()),
+                        "Type mismatch: column handle has type %s but %s is mapped to %s",
+                        columnHandle.getColumnType(), columnHandle.getJdbcTypeHandle(), columnMapping.getType());
+                Class<?> javaType = columnMapping.getType().getJavaType();
+                ReadFunction readFunction = columnMapping.getReadFunction();
+                readFunctions[i] = readFunction;
+
+                if (javaType == boolean.class) {
+                    booleanReadFunctions[i] = (BooleanReadFunction) readFunction;
+                }
+                else if (javaType == double.class) {
+                    doubleReadFunctions[i] = (DoubleReadFunction) readFunction;
+                }
+                else if (javaType == long.class) {
+                    longReadFunctions[i] = (LongReadFunction) readFunction;
+                }
+                else if (javaType == Slice.class) {
+                    sliceReadFunctions[i] = (SliceReadFunction) readFunction;
+                }
+                else {
+                    objectReadFunctions[i] = (ObjectReadFunction) readFunction;
+                }
+            }
+
+            statement = jdbcClient.buildSql(session, connection, split, table, columnHandles);
+            // A positive fetch size means the client reads the results in batches (a zero or negative one
+            // means all rows at once or streaming), so size the batches to the memory they take instead of a fixed row count
+            if (statement.getFetchSize() > 0) {
+                statement.setFetchSize(getFetchSize(types, maxFetchMemory));
+            }
+            log.debug("Executing: %s", statement.toString());
+            resultSet = statement.executeQuery();
+        }
+        catch (SQLException | RuntimeException e) {
+            throw handleSqlException(e);
+        }
+        finally {
+            readTimeNanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public long getCompletedBytes()
+    {
+        return completedBytes;
+    }
+
+    @Override
+    public long getReadTimeNanos()
+    {
+        return readTimeNanos;
+    }
+
+    @Override
+    public boolean isFinished()
+    {
+        return closed || (finished && pageBuilder.isEmpty());
+    }
+
+    @Override
+    public CompletableFuture<?> isBlocked()
+    {
+        if (closed || finished || hasReadPermit()) {
+            return NOT_BLOCKED;
+        }
+        // the permit is released, or the request withdrawn, by this page source only
+        return toCompletableFuture(nonCancellationPropagating(readPermit));
+    }
+
+    private boolean hasReadPermit()
+    {
+        if (readPermit == null) {
+            readPermit = readLimiter.acquire(split);
+        }
+        return readPermit.isDone();
+    }
+
+    @Override
+    public Page getNextPage()
+    {
+        if (!finished && !closed) {
+            if (resultSet == null) {
+                if (!hasReadPermit()) {
+                    return null;
+                }
+                execute();
+            }
+
+            long start = System.nanoTime();
+            try {
+                for (int i = 0; i < ROWS_PER_REQUEST && !pageBuilder.isFull(); i++) {
+                    if (!resultSet.next()) {
+                        finished = true;
+                        // let the next split of the scan read while the remaining rows are consumed
+                        releaseResources();
+                        break;
+                    }
+
+                    pageBuilder.declarePosition();
+                    for (int column = 0; column < types.size(); column++) {
+                        BlockBuilder output = pageBuilder.getBlockBuilder(column);
+                        if (readFunctions[column].isNull(resultSet, column + 1)) {
+                            output.appendNull();
+                        }
+                        else {
+                            writeValue(types.get(column), output, column);
+                        }
+                    }
+                }
+            }
+            catch (SQLException | RuntimeException e) {
+                throw handleSqlException(e);
+            }
+            finally {
+                readTimeNanos += System.nanoTime() - start;
+            }
+        }
+
+        // only return a page if the buffer is full or we are finishing
+        if ((finished && !pageBuilder.isEmpty()) || pageBuilder.isFull()) {
+            Page page = pageBuilder.build();
+            pageBuilder.reset();
+            completedBytes += page.getSizeInBytes();
+            return page;
+        }
+
+        return null;
+    }
+
+    private void writeValue(Type type, BlockBuilder output, int column)
+            throws SQLException
+    {
+        Class<?> javaType = type.getJavaType();
+        if (javaType == boolean.class) {
+            type.writeBoolean(output, booleanReadFunctions[column].readBoolean(resultSet, column + 1));
+        }
+        else if (javaType == long.class) {
+            type.writeLong(output, longReadFunctions[column].readLong(resultSet, column + 1));
+        }
+        else if (javaType == double.class) {
+            type.writeDouble(output, doubleReadFunctions[column].readDouble(resultSet, column + 1));
+        }
+        else if (javaType == Slice.class) {
+            Slice slice = sliceReadFunctions[column].readSlice(resultSet, column + 1);
+            type.writeSlice(output, slice, 0, slice.length());
+        }
+        else {
+            type.writeObject(output, objectReadFunctions[column].readObject(resultSet, column + 1));
+        }
+    }
+
+    @Override
+    public long getSystemMemoryUsage()
+    {
+        return pageBuilder.getRetainedSizeInBytes();
+    }
+
+    @Override
+    public void close()
+    {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        releaseResources();
+    }
+
+    private void releaseResources()
+    {
+        // use try with resources to close everything properly
+        try (Connection connection = this.connection;
+                Statement statement = this.statement;
+                ResultSet resultSet = this.resultSet) {
+            if (connection != null) {
+                jdbcClient.abortReadConnection(connection);
+            }
+        }
+        catch (SQLException | RuntimeException e) {
+            // ignore exception from close
+        }
+        finally {
+            connection = null;
+            statement = null;
+            resultSet = null;
+            if (readPermit != null) {
+                readLimiter.release(split, readPermit);
+                readPermit = null;
+            }
+        }
+    }
+
+    @VisibleForTesting
+    static int getFetchSize(List<Type> types, DataSize maxFetchMemory)
+    {
+        long rowSize = 0;
+        for (Type type : types) {
+            if (type instanceof FixedWidthType) {
+                rowSize += ((FixedWidthType) type).getFixedSize();
+            }
+            else if (type instanceof VarcharType && !((VarcharType) type).isUnbounded()) {
+                rowSize += min(((VarcharType) type).getBoundedLength(), MAX_BOUNDED_VARCHAR_SIZE);
+            }
+            else {
+                rowSize += VARIABLE_WIDTH_SIZE;
+            }
+        }
+        long fetchSize = maxFetchMemory.toBytes() / max(rowSize, 1);
+        return toIntExact(max(MIN_FETCH_SIZE, min(MAX_FETCH_SIZE, fetchSize)));
+    }
+
+    private RuntimeException handleSqlException(Exception e)
+    {
+        try {
+            close();
+        }
+        catch (Exception closeException) {
+            // Self-suppression not permitted
+            if (e != closeException) {
+                e.addSuppressed(closeException);
+            }
+        }
+        return new TrinoException(JDBC_ERROR, e);
+    }
+}
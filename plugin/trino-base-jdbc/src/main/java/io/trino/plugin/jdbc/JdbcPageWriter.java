@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import io.trino.spi.Page;
+
+import java.sql.SQLException;
+
+/**
+ * Writes the rows received by a {@link JdbcPageSink} to the remote database.
+ * Implementations may buffer rows between calls, but must have written all of them once {@link #flush()} returns.
+ */
+public interface JdbcPageWriter
+        extends AutoCloseable
+{
+    /**
+     * @return number of rows written to the remote database by this call, not counting the rows which were only buffered
+     */
+    long appendPage(Page page)
+            throws SQLException;
+
+    /**
+     * @return number of rows written to the remote database by this call
+     */
+    long flush()
+            throws SQLException;
+
+    @Override
+    void close()
+            throws SQLException;
+}
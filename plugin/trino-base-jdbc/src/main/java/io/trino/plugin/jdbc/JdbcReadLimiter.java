@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.inject.Inject;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Verify.verify;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Caps the number of splits of a range-partitioned scan that are read concurrently on this node,
+ * so that such scans do not open more connections than the remote database can serve.
+ * Readers wait for a permit through {@link io.trino.spi.connector.ConnectorPageSource#isBlocked()},
+ * so that waiting does not hold on to a driver thread.
+ * <p>
+ * Permits are not shared between scans. A split holds its permit until its result set is drained,
+ * which may depend on other scans of the same query making progress, e.g. both sides of a partitioned
+ * self-join. Were the permits shared, the splits of one side could hold all of them while waiting for the other
+ * side, and the query would never finish. Splits that are not part of a range-partitioned scan are not limited.
+ */
+@ThreadSafe
+public class JdbcReadLimiter
+{
+    private final Optional<Integer> maxConcurrentReads;
+    @GuardedBy("this")
+    private final Map<String, ScanPermits> scans = new HashMap<>();
+
+    @Inject
+    public JdbcReadLimiter(JdbcSplitConfig config)
+    {
+        this(config.getMaxConcurrentReads());
+    }
+
+    private JdbcReadLimiter(Optional<Integer> maxConcurrentReads)
+    {
+        this.maxConcurrentReads = requireNonNull(maxConcurrentReads, "maxConcurrentReads is null");
+    }
+
+    public static JdbcReadLimiter unlimited()
+    {
+        return new JdbcReadLimiter(Optional.empty());
+    }
+
+    /**
+     * Returns a future that completes once the caller may open a connection to read the split.
+     * The future must be passed to {@link #release(JdbcSplit, ListenableFuture)} once the split is read.
+     */
+    public ListenableFuture<Void> acquire(JdbcSplit split)
+    {
+        if (maxConcurrentReads.isEmpty() || split.getScanId().isEmpty()) {
+            return immediateFuture(null);
+        }
+        AsyncPermits permits;
+        synchronized (this) {
+            ScanPermits scan = scans.computeIfAbsent(split.getScanId().get(), ignored -> new ScanPermits(maxConcurrentReads.get()));
+            scan.readers++;
+            permits = scan.permits;
+        }
+        return permits.acquire();
+    }
+
+    public void release(JdbcSplit split, ListenableFuture<Void> permit)
+    {
+        if (maxConcurrentReads.isEmpty() || split.getScanId().isEmpty()) {
+            return;
+        }
+        AsyncPermits permits;
+        synchronized (this) {
+            ScanPermits scan = scans.get(split.getScanId().get());
+            verify(scan != null, "No permits for scan %s", split.getScanId().get());
+            scan.readers--;
+            if (scan.readers == 0) {
+                scans.remove(split.getScanId().get());
+            }
+            permits = scan.permits;
+        }
+        permits.release(permit);
+    }
+
+    private static class ScanPermits
+    {
+        private final AsyncPermits permits;
+        // splits of the scan that acquired a permit, or wait for one, and have not released it yet
+        private int readers;
+
+        public ScanPermits(int maxConcurrentReads)
+        {
+            this.permits = new AsyncPermits(maxConcurrentReads);
+        }
+    }
+}
@@ -17,7 +17,9 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableList;
 import io.trino.spi.HostAddress;
+import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ConnectorSplit;
+import io.trino.spi.predicate.TupleDomain;
 
 import java.util.List;
 import java.util.Optional;
@@ -28,12 +30,23 @@ public class JdbcSplit
         implements ConnectorSplit
 {
     private final Optional<String> additionalPredicate;
+    private final TupleDomain<ColumnHandle> rangePredicate;
+    private final Optional<String> scanId;
+
+    public JdbcSplit(Optional<String> additionalPredicate)
+    {
+        this(additionalPredicate, TupleDomain.all(), Optional.empty());
+    }
 
     @JsonCreator
     public JdbcSplit(
-            @JsonProperty("additionalPredicate") Optional<String> additionalPredicate)
+            @JsonProperty("additionalPredicate") Optional<String> additionalPredicate,
+            @JsonProperty("rangePredicate") TupleDomain<ColumnHandle> rangePredicate,
+            @JsonProperty("scanId") Optional<String> scanId)
     {
         this.additionalPredicate = requireNonNull(additionalPredicate, "additionalPredicate is null");
+        this.rangePredicate = requireNonNull(rangePredicate, "rangePredicate is null");
+        this.scanId = requireNonNull(scanId, "scanId is null");
     }
 
     @JsonProperty
@@ -42,6 +55,25 @@ public class JdbcSplit
         return additionalPredicate;
     }
 
+    /**
+     * Value range of the table's range partitioning column covered by this split.
+     * It is applied in addition to the table constraint.
+     */
+    @JsonProperty
+    public TupleDomain<ColumnHandle> getRangePredicate()
+    {
+        return rangePredicate;
+    }
+
+    /**
+     * Identifies the scan the split belongs to, when the scan is divided into several splits.
+     */
+    @JsonProperty
+    public Optional<String> getScanId()
+    {
+        return scanId;
+    }
+
     @Override
     public boolean isRemotelyAccessible()
     {
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import io.airlift.configuration.Config;
+import io.airlift.configuration.ConfigDescription;
+import io.airlift.units.DataSize;
+import io.airlift.units.MaxDataSize;
+import io.airlift.units.MinDataSize;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Strings.nullToEmpty;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+
+public class JdbcSplitConfig
+{
+    private int maxSplitsPerScan = 1;
+    private List<RangePartitioningColumn> rangePartitioningColumns = ImmutableList.of();
+    private Integer maxConcurrentReads;
+    private DataSize maxFetchMemory = DataSize.of(8, MEGABYTE);
+
+    @Min(1)
+    public int getMaxSplitsPerScan()
+    {
+        return maxSplitsPerScan;
+    }
+
+    @Config("split.max-splits-per-scan")
+    @ConfigDescription("Maximum number of range splits generated for a scan of a table with a range partitioning column")
+    public JdbcSplitConfig setMaxSplitsPerScan(int maxSplitsPerScan)
+    {
+        this.maxSplitsPerScan = maxSplitsPerScan;
+        return this;
+    }
+
+    @NotNull
+    public List<RangePartitioningColumn> getRangePartitioningColumns()
+    {
+        return rangePartitioningColumns;
+    }
+
+    @Config("split.range-partitioning-columns")
+    @ConfigDescription("Comma separated list of schema.table:column[:lower:upper] entries used to split table scans into ranges")
+    public JdbcSplitConfig setRangePartitioningColumns(String rangePartitioningColumns)
+    {
+        this.rangePartitioningColumns = Splitter.on(',').omitEmptyStrings().trimResults().splitToList(nullToEmpty(rangePartitioningColumns)).stream()
+                .map(RangePartitioningColumn::parse)
+                .collect(toImmutableList());
+        return this;
+    }
+
+    public Optional<@Min(1) Integer> getMaxConcurrentReads()
+    {
+        return Optional.ofNullable(maxConcurrentReads);
+    }
+
+    @Config("split.max-concurrent-reads")
+    @ConfigDescription("Maximum number of splits of a range-partitioned scan read concurrently on a single node")
+    public JdbcSplitConfig setMaxConcurrentReads(Integer maxConcurrentReads)
+    {
+        this.maxConcurrentReads = maxConcurrentReads;
+        return this;
+    }
+
+    @NotNull
+    @MinDataSize("64kB")
+    @MaxDataSize("1GB")
+    public DataSize getMaxFetchMemory()
+    {
+        return maxFetchMemory;
+    }
+
+    @Config("split.max-fetch-memory")
+    @ConfigDescription("Approximate memory used by a single fetch of rows from the remote database, used to size the JDBC fetch size")
+    public JdbcSplitConfig setMaxFetchMemory(DataSize maxFetchMemory)
+    {
+        this.maxFetchMemory = maxFetchMemory;
+        return this;
+    }
+}
@@ -13,26 +13,73 @@
  */
 package io.trino.plugin.jdbc;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import io.airlift.log.Logger;
+import io.trino.spi.TrinoException;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplitManager;
 import io.trino.spi.connector.ConnectorSplitSource;
 import io.trino.spi.connector.ConnectorTableHandle;
 import io.trino.spi.connector.ConnectorTransactionHandle;
 import io.trino.spi.connector.DynamicFilter;
+import io.trino.spi.connector.FixedSplitSource;
+import io.trino.spi.connector.SchemaTableName;
+import io.trino.spi.predicate.Domain;
+import io.trino.spi.predicate.Range;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.predicate.ValueSet;
+import io.trino.spi.type.Type;
 
 import javax.inject.Inject;
 
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.trino.plugin.jdbc.JdbcErrorCode.JDBC_ERROR;
+import static io.trino.plugin.jdbc.JdbcSplitSessionProperties.getMaxSplitsPerScan;
+import static io.trino.spi.StandardErrorCode.CONFIGURATION_INVALID;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.DateType.DATE;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.SmallintType.SMALLINT;
+import static io.trino.spi.type.TinyintType.TINYINT;
+import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
+import static java.util.UUID.randomUUID;
 
 public class JdbcSplitManager
         implements ConnectorSplitManager
 {
+    private static final Logger log = Logger.get(JdbcSplitManager.class);
+
+    private static final Set<Type> RANGE_PARTITIONING_TYPES = ImmutableSet.of(BIGINT, INTEGER, SMALLINT, TINYINT, DATE);
+
     private final JdbcClient jdbcClient;
+    private final Map<SchemaTableName, RangePartitioningColumn> rangePartitioningColumns;
 
-    @Inject
     public JdbcSplitManager(JdbcClient jdbcClient)
+    {
+        this(jdbcClient, new JdbcSplitConfig());
+    }
+
+    @Inject
+    public JdbcSplitManager(JdbcClient jdbcClient, JdbcSplitConfig config)
     {
         this.jdbcClient = requireNonNull(jdbcClient, "client is null");
+        this.rangePartitioningColumns = ImmutableMap.copyOf(Maps.uniqueIndex(config.getRangePartitioningColumns(), RangePartitioningColumn::getSchemaTableName));
     }
 
     @Override
@@ -43,6 +90,153 @@ public class JdbcSplitManager
             SplitSchedulingStrategy splitSchedulingStrategy,
             DynamicFilter dynamicFilter)
     {
-        return jdbcClient.getSplits(session, (JdbcTableHandle) table);
+        JdbcTableHandle tableHandle = (JdbcTableHandle) table;
+        int maxSplits = getMaxSplitsPerScan(session);
+        if (maxSplits > 1) {
+            Optional<List<JdbcSplit>> rangeSplits = getRangeSplits(session, tableHandle, maxSplits);
+            if (rangeSplits.isPresent()) {
+                return new FixedSplitSource(rangeSplits.get());
+            }
+        }
+        return jdbcClient.getSplits(session, tableHandle);
+    }
+
+    private Optional<List<JdbcSplit>> getRangeSplits(ConnectorSession session, JdbcTableHandle table, int maxSplits)
+    {
+        // Pushed down aggregations and limits have to be evaluated over the whole relation
+        if (!table.isNamedRelation() || table.getGroupingSets().isPresent() || table.getLimit().isPresent() || table.getConstraint().isNone()) {
+            return Optional.empty();
+        }
+        RangePartitioningColumn partitioning = rangePartitioningColumns.get(table.getSchemaTableName());
+        if (partitioning == null) {
+            return Optional.empty();
+        }
+
+        Optional<JdbcColumnHandle> column = jdbcClient.getColumns(session, table).stream()
+                .filter(handle -> handle.getColumnName().equalsIgnoreCase(partitioning.getColumnName()))
+                .findFirst();
+        if (column.isEmpty() || !RANGE_PARTITIONING_TYPES.contains(column.get().getColumnType())) {
+            log.warn("Range partitioning column %s of table %s does not exist or is not of an integer or date type", partitioning.getColumnName(), table.getSchemaTableName());
+            return Optional.empty();
+        }
+
+        Optional<ColumnBounds> bounds;
+        if (partitioning.getLowerBound().isPresent()) {
+            Type type = column.get().getColumnType();
+            bounds = Optional.of(new ColumnBounds(
+                    parseBound(type, partitioning.getLowerBound().get()),
+                    parseBound(type, partitioning.getUpperBound().get())));
+        }
+        else {
+            bounds = getColumnBounds(session, table, column.get());
+        }
+
+        return bounds
+                .map(columnBounds -> getSplitBoundaries(columnBounds.getLow(), columnBounds.getHigh(), maxSplits))
+                .filter(boundaries -> !boundaries.isEmpty())
+                .map(boundaries -> createRangeSplits(column.get(), boundaries, randomUUID().toString()));
+    }
+
+    private Optional<ColumnBounds> getColumnBounds(ConnectorSession session, JdbcTableHandle table, JdbcColumnHandle column)
+    {
+        List<JdbcColumnHandle> aggregates = ImmutableList.of(
+                JdbcColumnHandle.builderFrom(column)
+                        .setExpression(Optional.of(format("min(%s)", jdbcClient.quoted(column.getColumnName()))))
+                        .setColumnName("_min")
+                        .build(),
+                JdbcColumnHandle.builderFrom(column)
+                        .setExpression(Optional.of(format("max(%s)", jdbcClient.quoted(column.getColumnName()))))
+                        .setColumnName("_max")
+                        .build());
+
+        JdbcSplit split = new JdbcSplit(Optional.empty());
+        try (Connection connection = jdbcClient.getConnection(session, split);
+                PreparedStatement statement = jdbcClient.buildSql(session, connection, split, table, aggregates);
+                ResultSet resultSet = statement.executeQuery()) {
+            ReadFunction readFunction = jdbcClient.toColumnMapping(session, connection, column.getJdbcTypeHandle())
+                    .orElseThrow(() -> new TrinoException(JDBC_ERROR, "Unsupported range partitioning column type: " + column.getJdbcTypeHandle()))
+                    .getReadFunction();
+            if (!(readFunction instanceof LongReadFunction) || !resultSet.next() || readFunction.isNull(resultSet, 1) || readFunction.isNull(resultSet, 2)) {
+                // empty table or no way to read the bounds
+                return Optional.empty();
+            }
+            LongReadFunction longReadFunction = (LongReadFunction) readFunction;
+            return Optional.of(new ColumnBounds(longReadFunction.readLong(resultSet, 1), longReadFunction.readLong(resultSet, 2)));
+        }
+        catch (SQLException e) {
+            throw new TrinoException(JDBC_ERROR, e);
+        }
+    }
+
+    private static long parseBound(Type type, String value)
+    {
+        try {
+            if (type.equals(DATE)) {
+                return LocalDate.parse(value).toEpochDay();
+            }
+            return Long.parseLong(value);
+        }
+        catch (NumberFormatException | DateTimeParseException e) {
+            throw new TrinoException(CONFIGURATION_INVALID, format("Invalid bound for range partitioning column of type %s: %s", type, value), e);
+        }
+    }
+
+    /**
+     * Returns at most {@code maxSplits - 1} increasing values dividing {@code [low, high]} into ranges of similar width.
+     */
+    @VisibleForTesting
+    static List<Long> getSplitBoundaries(long low, long high, int maxSplits)
+    {
+        if (high <= low) {
+            return ImmutableList.of();
+        }
+        BigInteger lowValue = BigInteger.valueOf(low);
+        BigInteger width = BigInteger.valueOf(high).subtract(lowValue).add(BigInteger.ONE);
+        int splitCount = width.min(BigInteger.valueOf(maxSplits)).intValueExact();
+        ImmutableList.Builder<Long> boundaries = ImmutableList.builder();
+        for (int i = 1; i < splitCount; i++) {
+            boundaries.add(lowValue.add(width.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(splitCount))).longValueExact());
+        }
+        return boundaries.build();
+    }
+
+    private static List<JdbcSplit> createRangeSplits(JdbcColumnHandle column, List<Long> boundaries, String scanId)
+    {
+        Type type = column.getColumnType();
+        ImmutableList.Builder<JdbcSplit> splits = ImmutableList.builder();
+        // The outermost ranges are unbounded, so that values outside of stale bounds are not lost. Nulls are read by the first split.
+        splits.add(createRangeSplit(column, Domain.create(ValueSet.ofRanges(Range.lessThan(type, boundaries.get(0))), true), scanId));
+        for (int i = 1; i < boundaries.size(); i++) {
+            splits.add(createRangeSplit(column, Domain.create(ValueSet.ofRanges(Range.range(type, boundaries.get(i - 1), true, boundaries.get(i), false)), false), scanId));
+        }
+        splits.add(createRangeSplit(column, Domain.create(ValueSet.ofRanges(Range.greaterThanOrEqual(type, boundaries.get(boundaries.size() - 1))), false), scanId));
+        return splits.build();
+    }
+
+    private static JdbcSplit createRangeSplit(JdbcColumnHandle column, Domain domain, String scanId)
+    {
+        return new JdbcSplit(Optional.empty(), TupleDomain.withColumnDomains(ImmutableMap.of(column, domain)), Optional.of(scanId));
+    }
+
+    private static final class ColumnBounds
+    {
+        private final long low;
+        private final long high;
+
+        public ColumnBounds(long low, long high)
+        {
+            this.low = low;
+            this.high = high;
+        }
+
+        public long getLow()
+        {
+            return low;
+        }
+
+        public long getHigh()
+        {
+            return high;
+        }
     }
 }
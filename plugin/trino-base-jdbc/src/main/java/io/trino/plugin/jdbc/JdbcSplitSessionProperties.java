@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.spi.TrinoException;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.session.PropertyMetadata;
+
+import javax.inject.Inject;
+
+import java.util.List;
+
+import static io.trino.spi.StandardErrorCode.INVALID_SESSION_PROPERTY;
+import static io.trino.spi.session.PropertyMetadata.integerProperty;
+import static java.lang.String.format;
+
+public class JdbcSplitSessionProperties
+        implements SessionPropertiesProvider
+{
+    public static final String MAX_SPLITS_PER_SCAN = "max_splits_per_scan";
+
+    private final List<PropertyMetadata<?>> properties;
+
+    @Inject
+    public JdbcSplitSessionProperties(JdbcSplitConfig jdbcSplitConfig)
+    {
+        properties = ImmutableList.of(
+                integerProperty(
+                        MAX_SPLITS_PER_SCAN,
+                        "Maximum number of range splits generated for a table scan",
+                        jdbcSplitConfig.getMaxSplitsPerScan(),
+                        value -> {
+                            if (value < 1) {
+                                throw new TrinoException(INVALID_SESSION_PROPERTY, format("Maximum splits per scan (%s) must be greater than 0", value));
+                            }
+                        },
+                        false));
+    }
+
+    @Override
+    public List<PropertyMetadata<?>> getSessionProperties()
+    {
+        return properties;
+    }
+
+    public static int getMaxSplitsPerScan(ConnectorSession session)
+    {
+        return session.getProperty(MAX_SPLITS_PER_SCAN, Integer.class);
+    }
+}
@@ -30,19 +30,22 @@ import java.util.Optional;
 import java.util.OptionalLong;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static java.util.Objects.requireNonNull;
 
 public final class JdbcTableHandle
         implements ConnectorTableHandle
 {
-    private final SchemaTableName schemaTableName;
-    private final RemoteTableName remoteTableName;
+    private final JdbcRelationHandle relationHandle;
     private final TupleDomain<ColumnHandle> constraint;
 
     // semantically aggregation is applied after constraint
     private final Optional<List<List<JdbcColumnHandle>>> groupingSets;
 
+    // semantically sort order is applied after aggregation, together with the limit
+    private final Optional<List<JdbcSortItem>> sortOrder;
+
     // semantically limit is applied after aggregation
     private final OptionalLong limit;
 
@@ -62,64 +65,100 @@ public final class JdbcTableHandle
                 remoteTableName,
                 TupleDomain.all(),
                 Optional.empty(),
+                Optional.empty(),
                 OptionalLong.empty(),
                 Optional.empty());
     }
 
+    public JdbcTableHandle(
+            SchemaTableName schemaTableName,
+            RemoteTableName remoteTableName,
+            TupleDomain<ColumnHandle> constraint,
+            Optional<List<List<JdbcColumnHandle>>> groupingSets,
+            Optional<List<JdbcSortItem>> sortOrder,
+            OptionalLong limit,
+            Optional<List<JdbcColumnHandle>> columns)
+    {
+        this(new JdbcNamedRelationHandle(schemaTableName, remoteTableName), constraint, groupingSets, sortOrder, limit, columns);
+    }
+
     @JsonCreator
     public JdbcTableHandle(
-            @JsonProperty("schemaTableName") SchemaTableName schemaTableName,
-            @JsonProperty("remoteTableName") RemoteTableName remoteTableName,
+            @JsonProperty("relationHandle") JdbcRelationHandle relationHandle,
             @JsonProperty("constraint") TupleDomain<ColumnHandle> constraint,
             @JsonProperty("groupingSets") Optional<List<List<JdbcColumnHandle>>> groupingSets,
+            @JsonProperty("sortOrder") Optional<List<JdbcSortItem>> sortOrder,
             @JsonProperty("limit") OptionalLong limit,
             @JsonProperty("columns") Optional<List<JdbcColumnHandle>> columns)
     {
-        this.schemaTableName = requireNonNull(schemaTableName, "schemaTableName is null");
-        this.remoteTableName = requireNonNull(remoteTableName, "remoteTable is null");
+        this.relationHandle = requireNonNull(relationHandle, "relationHandle is null");
         this.constraint = requireNonNull(constraint, "constraint is null");
 
         requireNonNull(groupingSets, "groupingSets is null");
         checkArgument(groupingSets.isEmpty() || !groupingSets.get().isEmpty(), "Global aggregation should be represented by [[]]");
         this.groupingSets = groupingSets.map(JdbcTableHandle::copy);
 
+        requireNonNull(sortOrder, "sortOrder is null");
+        checkArgument(sortOrder.isEmpty() || limit.isPresent(), "limit should be present when sortOrder is present");
+        this.sortOrder = sortOrder.map(ImmutableList::copyOf);
+
         this.limit = requireNonNull(limit, "limit is null");
 
         requireNonNull(columns, "columns is null");
         checkArgument(groupingSets.isEmpty() || columns.isPresent(), "columns should be present when groupingSets is present");
+        checkArgument(relationHandle instanceof JdbcNamedRelationHandle || columns.isPresent(), "columns should be present for a join");
         this.columns = columns.map(ImmutableList::copyOf);
     }
 
     @JsonProperty
+    public JdbcRelationHandle getRelationHandle()
+    {
+        return relationHandle;
+    }
+
+    @JsonIgnore
+    public boolean isNamedRelation()
+    {
+        return relationHandle instanceof JdbcNamedRelationHandle;
+    }
+
+    @JsonIgnore
+    public JdbcNamedRelationHandle getRequiredNamedRelation()
+    {
+        checkState(isNamedRelation(), "The table handle does not represent a named relation: %s", this);
+        return (JdbcNamedRelationHandle) relationHandle;
+    }
+
+    @JsonIgnore
     public SchemaTableName getSchemaTableName()
     {
-        return schemaTableName;
+        return getRequiredNamedRelation().getSchemaTableName();
     }
 
-    @JsonProperty
+    @JsonIgnore
     public RemoteTableName getRemoteTableName()
     {
-        return remoteTableName;
+        return getRequiredNamedRelation().getRemoteTableName();
     }
 
     @Deprecated
     @Nullable
     public String getCatalogName()
     {
-        return remoteTableName.getCatalogName().orElse(null);
+        return getRemoteTableName().getCatalogName().orElse(null);
     }
 
     @Deprecated
     @Nullable
     public String getSchemaName()
     {
-        return remoteTableName.getSchemaName().orElse(null);
+        return getRemoteTableName().getSchemaName().orElse(null);
     }
 
     @Deprecated
     public String getTableName()
     {
-        return remoteTableName.getTableName();
+        return getRemoteTableName().getTableName();
     }
 
     @JsonProperty
@@ -134,6 +173,12 @@ public final class JdbcTableHandle
         return groupingSets;
     }
 
+    @JsonProperty
+    public Optional<List<JdbcSortItem>> getSortOrder()
+    {
+        return sortOrder;
+    }
+
     @JsonProperty
     public OptionalLong getLimit()
     {
@@ -149,7 +194,7 @@ public final class JdbcTableHandle
     @JsonIgnore
     public boolean isSynthetic()
     {
-        return !constraint.isAll() || groupingSets.isPresent() || limit.isPresent();
+        return !isNamedRelation() || !constraint.isAll() || groupingSets.isPresent() || sortOrder.isPresent() || limit.isPresent();
     }
 
     @Override
@@ -162,9 +207,10 @@ public final class JdbcTableHandle
             return false;
         }
         JdbcTableHandle o = (JdbcTableHandle) obj;
-        return Objects.equals(this.schemaTableName, o.schemaTableName) &&
+        return Objects.equals(this.relationHandle, o.relationHandle) &&
                 Objects.equals(this.constraint, o.constraint) &&
                 Objects.equals(this.groupingSets, o.groupingSets) &&
+                Objects.equals(this.sortOrder, o.sortOrder) &&
                 Objects.equals(this.limit, o.limit) &&
                 Objects.equals(this.columns, o.columns);
     }
@@ -172,15 +218,15 @@ public final class JdbcTableHandle
     @Override
     public int hashCode()
     {
-        return Objects.hash(schemaTableName, constraint, groupingSets, limit, columns);
+        return Objects.hash(relationHandle, constraint, groupingSets, sortOrder, limit, columns);
     }
 
     @Override
     public String toString()
     {
         StringBuilder builder = new StringBuilder();
-        builder.append(schemaTableName).append(" ");
-        builder.append(remoteTableName);
+        builder.append(relationHandle);
+        sortOrder.ifPresent(value -> builder.append(" sortOrder=").append(value));
         limit.ifPresent(value -> builder.append(" limit=").append(value));
         columns.ifPresent(value -> builder.append(" columns=").append(value));
         groupingSets.ifPresent(value -> builder.append(" groupingSets=").append(value));
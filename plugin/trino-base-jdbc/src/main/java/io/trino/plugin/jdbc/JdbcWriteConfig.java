@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import io.airlift.configuration.Config;
+import io.airlift.configuration.ConfigDescription;
+
+import javax.validation.constraints.Min;
+
+import java.util.Optional;
+
+public class JdbcWriteConfig
+{
+    private int batchSize = 1000;
+    private Integer maxConcurrentWriters;
+
+    @Min(1)
+    public int getBatchSize()
+    {
+        return batchSize;
+    }
+
+    @Config("insert.batch-size")
+    @ConfigDescription("Maximum number of rows written to the remote database in a single batch")
+    public JdbcWriteConfig setBatchSize(int batchSize)
+    {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Optional<@Min(1) Integer> getMaxConcurrentWriters()
+    {
+        return Optional.ofNullable(maxConcurrentWriters);
+    }
+
+    @Config("insert.max-concurrent-writers")
+    @ConfigDescription("Maximum number of page sinks of this catalog writing concurrently on a single node")
+    public JdbcWriteConfig setMaxConcurrentWriters(Integer maxConcurrentWriters)
+    {
+        this.maxConcurrentWriters = maxConcurrentWriters;
+        return this;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static io.airlift.concurrent.Threads.daemonThreadsNamed;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+
+/**
+ * Caps the number of page sinks of a catalog that write concurrently on this node,
+ * so that a wide insert does not open more connections than the remote database can serve.
+ * Page sinks wait for a permit through the futures returned by {@link io.trino.spi.connector.ConnectorPageSink#appendPage},
+ * so that waiting does not hold on to a driver thread.
+ * <p>
+ * When the writers are limited, a page sink holds a permit, and a connection, only while it writes and commits a batch of rows.
+ * The page sinks of a task are fed by the same local exchange, so a sink that held on to its permit while waiting for more input
+ * could wait for a sink that waits for that permit.
+ */
+public class JdbcWriteLimiter
+{
+    private final Optional<AsyncPermits> permits;
+    // writes the batches of page sinks that are granted a permit after they have been blocked
+    private final ExecutorService deferredWriteExecutor = newCachedThreadPool(daemonThreadsNamed("jdbc-deferred-write-%s"));
+
+    @Inject
+    public JdbcWriteLimiter(JdbcWriteConfig config)
+    {
+        this(config.getMaxConcurrentWriters());
+    }
+
+    private JdbcWriteLimiter(Optional<Integer> maxConcurrentWriters)
+    {
+        this.permits = maxConcurrentWriters.map(AsyncPermits::new);
+    }
+
+    public static JdbcWriteLimiter unlimited()
+    {
+        return new JdbcWriteLimiter(Optional.empty());
+    }
+
+    @PreDestroy
+    public void shutdown()
+    {
+        deferredWriteExecutor.shutdownNow();
+    }
+
+    /**
+     * Returns a future that completes once the caller may open a connection to write.
+     * The future must be passed to {@link #release(ListenableFuture)} once the connection is committed or rolled back.
+     */
+    public ListenableFuture<Void> acquire()
+    {
+        return permits.map(AsyncPermits::acquire)
+                .orElseGet(() -> immediateFuture(null));
+    }
+
+    public void release(ListenableFuture<Void> permit)
+    {
+        permits.ifPresent(value -> value.release(permit));
+    }
+
+    public boolean isLimited()
+    {
+        return permits.isPresent();
+    }
+
+    public Executor getDeferredWriteExecutor()
+    {
+        return deferredWriteExecutor;
+    }
+}
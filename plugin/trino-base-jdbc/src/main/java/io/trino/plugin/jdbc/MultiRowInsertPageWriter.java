@@ -0,0 +1,176 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.spi.Page;
+import io.trino.spi.type.Type;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.plugin.jdbc.BatchInsertPageWriter.setRowParameters;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writes rows with {@code INSERT ... VALUES (...), (...), ...} statements, each carrying as many rows as the
+ * batch size and the parameter and statement size limits of the remote database allow, so that a batch takes a single round trip.
+ */
+public class MultiRowInsertPageWriter
+        implements JdbcPageWriter
+{
+    private final Connection connection;
+    private final IntFunction<String> insertSql;
+    private final List<Type> columnTypes;
+    private final List<WriteFunction> columnWriters;
+    private final int rowsPerStatement;
+    private final long maxStatementBytes;
+
+    private final Page[] bufferedPages;
+    private final int[] bufferedPositions;
+    private int bufferedRows;
+    private long bufferedBytes;
+
+    // statement for a full batch, reused across batches
+    private PreparedStatement fullBatchStatement;
+
+    /**
+     * @param insertSql provides the INSERT statement for the given number of rows
+     * @param maxParameters maximum number of bind parameters the remote database accepts in a single statement
+     */
+    public MultiRowInsertPageWriter(
+            Connection connection,
+            IntFunction<String> insertSql,
+            List<Type> columnTypes,
+            List<WriteFunction> columnWriters,
+            int batchSize,
+            int maxParameters)
+    {
+        this(connection, insertSql, columnTypes, columnWriters, batchSize, maxParameters, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param insertSql provides the INSERT statement for the given number of rows
+     * @param maxParameters maximum number of bind parameters the remote database accepts in a single statement
+     * @param maxStatementBytes maximum estimated size of the values written by a single statement; a larger row is written on its own
+     */
+    public MultiRowInsertPageWriter(
+            Connection connection,
+            IntFunction<String> insertSql,
+            List<Type> columnTypes,
+            List<WriteFunction> columnWriters,
+            int batchSize,
+            int maxParameters,
+            long maxStatementBytes)
+    {
+        this.connection = requireNonNull(connection, "connection is null");
+        this.insertSql = requireNonNull(insertSql, "insertSql is null");
+        this.columnTypes = ImmutableList.copyOf(requireNonNull(columnTypes, "columnTypes is null"));
+        this.columnWriters = ImmutableList.copyOf(requireNonNull(columnWriters, "columnWriters is null"));
+        checkArgument(!columnTypes.isEmpty(), "columnTypes is empty");
+        checkArgument(columnTypes.size() == columnWriters.size(), "columnTypes and columnWriters mismatch: %s, %s", columnTypes, columnWriters);
+        checkArgument(batchSize > 0, "batchSize must be greater than zero");
+        checkArgument(maxParameters >= columnTypes.size(), "maxParameters is less than the number of columns: %s", maxParameters);
+        checkArgument(maxStatementBytes > 0, "maxStatementBytes must be greater than zero");
+        this.rowsPerStatement = max(1, min(batchSize, maxParameters / columnTypes.size()));
+        this.maxStatementBytes = maxStatementBytes;
+        this.bufferedPages = new Page[rowsPerStatement];
+        this.bufferedPositions = new int[rowsPerStatement];
+    }
+
+    @Override
+    public long appendPage(Page page)
+            throws SQLException
+    {
+        long writtenRows = 0;
+        for (int position = 0; position < page.getPositionCount(); position++) {
+            long rowBytes = getEstimatedRowBytes(page, position);
+            if (bufferedRows > 0 && bufferedBytes + rowBytes > maxStatementBytes) {
+                writtenRows += flush();
+            }
+
+            bufferedPages[bufferedRows] = page;
+            bufferedPositions[bufferedRows] = position;
+            bufferedRows++;
+            bufferedBytes += rowBytes;
+
+            if (bufferedRows == rowsPerStatement) {
+                writtenRows += flush();
+            }
+        }
+        return writtenRows;
+    }
+
+    @Override
+    public long flush()
+            throws SQLException
+    {
+        if (bufferedRows == 0) {
+            return 0;
+        }
+
+        if (bufferedRows == rowsPerStatement) {
+            if (fullBatchStatement == null) {
+                fullBatchStatement = connection.prepareStatement(insertSql.apply(rowsPerStatement));
+            }
+            executeInsert(fullBatchStatement);
+        }
+        else {
+            try (PreparedStatement statement = connection.prepareStatement(insertSql.apply(bufferedRows))) {
+                executeInsert(statement);
+            }
+        }
+
+        int writtenRows = bufferedRows;
+        // do not retain the pages once their rows are written
+        Arrays.fill(bufferedPages, 0, bufferedRows, null);
+        bufferedRows = 0;
+        bufferedBytes = 0;
+        return writtenRows;
+    }
+
+    private static long getEstimatedRowBytes(Page page, int position)
+    {
+        long bytes = 0;
+        for (int channel = 0; channel < page.getChannelCount(); channel++) {
+            bytes += page.getBlock(channel).getEstimatedDataSizeForStats(position);
+        }
+        return bytes;
+    }
+
+    private void executeInsert(PreparedStatement statement)
+            throws SQLException
+    {
+        for (int row = 0; row < bufferedRows; row++) {
+            setRowParameters(statement, row * columnTypes.size() + 1, bufferedPages[row], bufferedPositions[row], columnTypes, columnWriters);
+        }
+        statement.executeUpdate();
+    }
+
+    @Override
+    public void close()
+            throws SQLException
+    {
+        if (fullBatchStatement != null) {
+            fullBatchStatement.close();
+        }
+    }
+}
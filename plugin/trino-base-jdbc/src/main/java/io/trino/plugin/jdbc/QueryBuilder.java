@@ -20,6 +20,7 @@ import io.airlift.log.Logger;
 import io.airlift.slice.Slice;
 import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.connector.JoinType;
 import io.trino.spi.predicate.Domain;
 import io.trino.spi.predicate.Range;
 import io.trino.spi.predicate.TupleDomain;
@@ -91,10 +92,40 @@ public class QueryBuilder
             Function<String, String> sqlFunction)
             throws SQLException
     {
-        String sql = "SELECT " + getProjection(columns);
-        sql += " FROM " + getRelation(remoteTableName);
+        List<BoundValue> accumulator = new ArrayList<>();
+        String sql = prepareQuery(session, connection, getRelation(remoteTableName), groupingSets, columns, tupleDomain, additionalPredicate, accumulator);
+        return prepareStatement(connection, sqlFunction.apply(sql), accumulator);
+    }
 
+    public PreparedStatement buildSql(
+            ConnectorSession session,
+            Connection connection,
+            JdbcRelationHandle relationHandle,
+            Optional<List<List<JdbcColumnHandle>>> groupingSets,
+            List<JdbcColumnHandle> columns,
+            TupleDomain<ColumnHandle> tupleDomain,
+            Optional<String> additionalPredicate,
+            Function<String, String> sqlFunction)
+            throws SQLException
+    {
         List<BoundValue> accumulator = new ArrayList<>();
+        String relation = getRelation(session, connection, relationHandle, accumulator);
+        String sql = prepareQuery(session, connection, relation, groupingSets, columns, tupleDomain, additionalPredicate, accumulator);
+        return prepareStatement(connection, sqlFunction.apply(sql), accumulator);
+    }
+
+    private String prepareQuery(
+            ConnectorSession session,
+            Connection connection,
+            String relation,
+            Optional<List<List<JdbcColumnHandle>>> groupingSets,
+            List<JdbcColumnHandle> columns,
+            TupleDomain<ColumnHandle> tupleDomain,
+            Optional<String> additionalPredicate,
+            List<BoundValue> accumulator)
+    {
+        String sql = "SELECT " + getProjection(columns);
+        sql += " FROM " + relation;
 
         List<String> clauses = toConjuncts(client, session, connection, tupleDomain, accumulator);
         if (additionalPredicate.isPresent()) {
@@ -108,8 +139,12 @@ public class QueryBuilder
         }
 
         sql += getGroupBy(groupingSets);
+        return sql;
+    }
 
-        String query = sqlFunction.apply(sql);
+    private PreparedStatement prepareStatement(Connection connection, String query, List<BoundValue> accumulator)
+            throws SQLException
+    {
         log.debug("Preparing query: %s", query);
         PreparedStatement statement = client.getPreparedStatement(connection, query);
 
@@ -144,6 +179,66 @@ public class QueryBuilder
         return client.quoted(remoteTableName);
     }
 
+    private String getRelation(ConnectorSession session, Connection connection, JdbcRelationHandle relationHandle, List<BoundValue> accumulator)
+    {
+        if (relationHandle instanceof JdbcNamedRelationHandle) {
+            return getRelation(((JdbcNamedRelationHandle) relationHandle).getRemoteTableName());
+        }
+        if (relationHandle instanceof JdbcJoinRelationHandle) {
+            return getJoinRelation(session, connection, (JdbcJoinRelationHandle) relationHandle, accumulator);
+        }
+        throw new IllegalArgumentException("Unsupported relation: " + relationHandle);
+    }
+
+    private String getJoinRelation(ConnectorSession session, Connection connection, JdbcJoinRelationHandle join, List<BoundValue> accumulator)
+    {
+        // Parameters are bound in the order they appear in the query text, so the sides have to be rendered left to right
+        String left = getJoinSide(session, connection, join.getLeft(), accumulator);
+        String right = getJoinSide(session, connection, join.getRight(), accumulator);
+        return format(
+                "(SELECT * FROM (%s) l %s (%s) r ON %s) o",
+                left,
+                getJoinType(join.getJoinType()),
+                right,
+                join.getJoinConditions().stream()
+                        .map(condition -> format(
+                                "l.%s %s r.%s",
+                                client.quoted(condition.getLeftColumn().getColumnName()),
+                                condition.getOperator().getValue(),
+                                client.quoted(condition.getRightColumn().getColumnName())))
+                        .collect(joining(" AND ")));
+    }
+
+    private String getJoinSide(ConnectorSession session, Connection connection, JdbcTableHandle side, List<BoundValue> accumulator)
+    {
+        verify(side.getLimit().isEmpty(), "Join side cannot have a limit: %s", side);
+        String relation = getRelation(session, connection, side.getRelationHandle(), accumulator);
+        return prepareQuery(
+                session,
+                connection,
+                relation,
+                side.getGroupingSets(),
+                side.getColumns().orElseThrow(() -> new VerifyException("Join side columns are not present: " + side)),
+                side.getConstraint(),
+                Optional.empty(),
+                accumulator);
+    }
+
+    private static String getJoinType(JoinType joinType)
+    {
+        switch (joinType) {
+            case INNER:
+                return "INNER JOIN";
+            case LEFT_OUTER:
+                return "LEFT JOIN";
+            case RIGHT_OUTER:
+                return "RIGHT JOIN";
+            case FULL_OUTER:
+                return "FULL JOIN";
+        }
+        throw new IllegalArgumentException("Unsupported join type: " + joinType);
+    }
+
     protected String getProjection(List<JdbcColumnHandle> columns)
     {
         if (columns.isEmpty()) {
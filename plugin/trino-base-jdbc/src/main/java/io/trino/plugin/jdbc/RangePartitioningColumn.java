@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.base.Splitter;
+import io.trino.spi.connector.SchemaTableName;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Locale.ENGLISH;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Column used to split reads of a table into contiguous value ranges, optionally with
+ * explicit bounds. When bounds are not given, they are taken from the remote table.
+ */
+public final class RangePartitioningColumn
+{
+    private final SchemaTableName schemaTableName;
+    private final String columnName;
+    private final Optional<String> lowerBound;
+    private final Optional<String> upperBound;
+
+    public RangePartitioningColumn(SchemaTableName schemaTableName, String columnName, Optional<String> lowerBound, Optional<String> upperBound)
+    {
+        this.schemaTableName = requireNonNull(schemaTableName, "schemaTableName is null");
+        this.columnName = requireNonNull(columnName, "columnName is null");
+        this.lowerBound = requireNonNull(lowerBound, "lowerBound is null");
+        this.upperBound = requireNonNull(upperBound, "upperBound is null");
+        checkArgument(lowerBound.isPresent() == upperBound.isPresent(), "Both or none of the bounds must be provided");
+    }
+
+    /**
+     * Parses {@code schema.table:column} or {@code schema.table:column:lower:upper}.
+     */
+    public static RangePartitioningColumn parse(String value)
+    {
+        List<String> parts = Splitter.on(':').trimResults().splitToList(value);
+        checkArgument(parts.size() == 2 || parts.size() == 4, "Invalid range partitioning column, expected schema.table:column[:lower:upper]: %s", value);
+        List<String> table = Splitter.on('.').trimResults().splitToList(parts.get(0));
+        checkArgument(table.size() == 2 && !table.get(0).isEmpty() && !table.get(1).isEmpty(), "Invalid table name in range partitioning column: %s", value);
+        checkArgument(!parts.get(1).isEmpty(), "Invalid column name in range partitioning column: %s", value);
+        return new RangePartitioningColumn(
+                new SchemaTableName(table.get(0).toLowerCase(ENGLISH), table.get(1).toLowerCase(ENGLISH)),
+                parts.get(1),
+                parts.size() == 4 ? Optional.of(parts.get(2)) : Optional.empty(),
+                parts.size() == 4 ? Optional.of(parts.get(3)) : Optional.empty());
+    }
+
+    public SchemaTableName getSchemaTableName()
+    {
+        return schemaTableName;
+    }
+
+    public String getColumnName()
+    {
+        return columnName;
+    }
+
+    public Optional<String> getLowerBound()
+    {
+        return lowerBound;
+    }
+
+    public Optional<String> getUpperBound()
+    {
+        return upperBound;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RangePartitioningColumn that = (RangePartitioningColumn) o;
+        return schemaTableName.equals(that.schemaTableName) &&
+                columnName.equals(that.columnName) &&
+                lowerBound.equals(that.lowerBound) &&
+                upperBound.equals(that.upperBound);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(schemaTableName, columnName, lowerBound, upperBound);
+    }
+
+    @Override
+    public String toString()
+    {
+        return toStringHelper(this)
+                .add("schemaTableName", schemaTableName)
+                .add("columnName", columnName)
+                .add("lowerBound", lowerBound.orElse(null))
+                .add("upperBound", upperBound.orElse(null))
+                .omitNullValues()
+                .toString();
+    }
+}
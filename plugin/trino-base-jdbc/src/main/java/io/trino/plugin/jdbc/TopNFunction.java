@@ -0,0 +1,26 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import java.util.List;
+
+/**
+ * Renders a TopN over the given query, i.e. orders its rows by the sort items and keeps the first {@code limit} of them.
+ * Implementations must order NULLs as requested by each {@link JdbcSortItem}, which often differs from the remote database default.
+ */
+@FunctionalInterface
+public interface TopNFunction
+{
+    String apply(String query, List<JdbcSortItem> sortItems, long limit);
+}
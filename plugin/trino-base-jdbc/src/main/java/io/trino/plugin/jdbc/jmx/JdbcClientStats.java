@@ -24,6 +24,7 @@ public final class JdbcClientStats
     private final JdbcApiStats beginInsertTable = new JdbcApiStats();
     private final JdbcApiStats buildInsertSql = new JdbcApiStats();
     private final JdbcApiStats buildSql = new JdbcApiStats();
+    private final JdbcApiStats createPageWriter = new JdbcApiStats();
     private final JdbcApiStats commitCreateTable = new JdbcApiStats();
     private final JdbcApiStats createSchema = new JdbcApiStats();
     private final JdbcApiStats createTable = new JdbcApiStats();
@@ -49,6 +50,7 @@ public final class JdbcClientStats
     private final JdbcApiStats getColumnMappings = new JdbcApiStats();
     private final JdbcApiStats toWriteMapping = new JdbcApiStats();
     private final JdbcApiStats implementAggregation = new JdbcApiStats();
+    private final JdbcApiStats implementJoin = new JdbcApiStats();
     private final JdbcApiStats getTableScanRedirection = new JdbcApiStats();
 
     @Managed
@@ -86,6 +88,13 @@ public final class JdbcClientStats
         return buildInsertSql;
     }
 
+    @Managed
+    @Nested
+    public JdbcApiStats getCreatePageWriter()
+    {
+        return createPageWriter;
+    }
+
     @Managed
     @Nested
     public JdbcApiStats getBuildSql()
@@ -268,6 +277,13 @@ public final class JdbcClientStats
         return implementAggregation;
     }
 
+    @Managed
+    @Nested
+    public JdbcApiStats getImplementJoin()
+    {
+        return implementJoin;
+    }
+
     @Managed
     @Nested
     public JdbcApiStats getGetTableScanRedirection()
@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc.jmx;
+
+import io.airlift.stats.CounterStat;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput of the page sinks of a catalog. The rates of the written rows and bytes counters give the write throughput,
+ * the time stats show how much of it is spent waiting for the remote database.
+ */
+@ThreadSafe
+public class JdbcWriteStats
+{
+    private final CounterStat writtenRows = new CounterStat();
+    private final CounterStat writtenBytes = new CounterStat();
+    private final JdbcApiStats appendPage = new JdbcApiStats();
+    private final JdbcApiStats commit = new JdbcApiStats();
+    private final AtomicInteger activeWriters = new AtomicInteger();
+
+    public void writerStarted()
+    {
+        activeWriters.incrementAndGet();
+    }
+
+    public void writerFinished()
+    {
+        activeWriters.decrementAndGet();
+    }
+
+    public void pageAppended(long rows, long bytes)
+    {
+        writtenRows.update(rows);
+        writtenBytes.update(bytes);
+    }
+
+    @Managed
+    public int getActiveWriters()
+    {
+        return activeWriters.get();
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getWrittenRows()
+    {
+        return writtenRows;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getWrittenBytes()
+    {
+        return writtenBytes;
+    }
+
+    @Managed
+    @Nested
+    public JdbcApiStats getAppendPage()
+    {
+        return appendPage;
+    }
+
+    @Managed
+    @Nested
+    public JdbcApiStats getCommit()
+    {
+        return commit;
+    }
+}
@@ -17,7 +17,11 @@ import io.trino.plugin.jdbc.ColumnMapping;
 import io.trino.plugin.jdbc.JdbcClient;
 import io.trino.plugin.jdbc.JdbcColumnHandle;
 import io.trino.plugin.jdbc.JdbcExpression;
+import io.trino.plugin.jdbc.JdbcJoinCondition;
+import io.trino.plugin.jdbc.JdbcJoinRelationHandle;
 import io.trino.plugin.jdbc.JdbcOutputTableHandle;
+import io.trino.plugin.jdbc.JdbcPageWriter;
+import io.trino.plugin.jdbc.JdbcSortItem;
 import io.trino.plugin.jdbc.JdbcSplit;
 import io.trino.plugin.jdbc.JdbcTableHandle;
 import io.trino.plugin.jdbc.JdbcTypeHandle;
@@ -30,6 +34,8 @@ import io.trino.spi.connector.ColumnMetadata;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplitSource;
 import io.trino.spi.connector.ConnectorTableMetadata;
+import io.trino.spi.connector.JoinStatistics;
+import io.trino.spi.connector.JoinType;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.connector.SystemTable;
 import io.trino.spi.connector.TableScanRedirectApplicationResult;
@@ -138,6 +144,18 @@ public final class StatisticsAwareJdbcClient
         return stats.getImplementAggregation().wrap(() -> delegate().implementAggregation(session, aggregate, assignments));
     }
 
+    @Override
+    public Optional<JdbcJoinRelationHandle> implementJoin(
+            ConnectorSession session,
+            JoinType joinType,
+            JdbcTableHandle left,
+            JdbcTableHandle right,
+            List<JdbcJoinCondition> joinConditions,
+            JoinStatistics statistics)
+    {
+        return stats.getImplementJoin().wrap(() -> delegate().implementJoin(session, joinType, left, right, joinConditions, statistics));
+    }
+
     @Override
     public ConnectorSplitSource getSplits(ConnectorSession session, JdbcTableHandle layoutHandle)
     {
@@ -243,6 +261,13 @@ public final class StatisticsAwareJdbcClient
         return stats.getBuildInsertSql().wrap(() -> delegate().buildInsertSql(handle, columnWriters));
     }
 
+    @Override
+    public JdbcPageWriter createPageWriter(ConnectorSession session, Connection connection, JdbcOutputTableHandle handle, List<WriteFunction> columnWriters, int batchSize)
+            throws SQLException
+    {
+        return stats.getCreatePageWriter().wrap(() -> delegate().createPageWriter(session, connection, handle, columnWriters, batchSize));
+    }
+
     @Override
     public Connection getConnection(ConnectorSession session, JdbcOutputTableHandle handle)
             throws SQLException
@@ -275,6 +300,18 @@ public final class StatisticsAwareJdbcClient
         return delegate().isLimitGuaranteed(session);
     }
 
+    @Override
+    public boolean supportsTopN(ConnectorSession session, JdbcTableHandle handle, List<JdbcSortItem> sortOrder)
+    {
+        return delegate().supportsTopN(session, handle, sortOrder);
+    }
+
+    @Override
+    public boolean isTopNGuaranteed(ConnectorSession session)
+    {
+        return delegate().isTopNGuaranteed(session);
+    }
+
     @Override
     public void createSchema(ConnectorSession session, String schemaName)
     {
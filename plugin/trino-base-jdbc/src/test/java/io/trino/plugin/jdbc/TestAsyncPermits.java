@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class TestAsyncPermits
+{
+    @Test
+    public void testWaitersAreGrantedInOrder()
+    {
+        AsyncPermits permits = new AsyncPermits(1);
+        ListenableFuture<Void> first = permits.acquire();
+        ListenableFuture<Void> second = permits.acquire();
+        ListenableFuture<Void> third = permits.acquire();
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+        assertFalse(third.isDone());
+
+        permits.release(first);
+        assertTrue(second.isDone());
+        assertFalse(third.isDone());
+
+        permits.release(second);
+        assertTrue(third.isDone());
+
+        permits.release(third);
+        assertTrue(permits.acquire().isDone());
+    }
+
+    @Test
+    public void testWithdrawnRequest()
+    {
+        AsyncPermits permits = new AsyncPermits(1);
+        ListenableFuture<Void> first = permits.acquire();
+        ListenableFuture<Void> second = permits.acquire();
+        ListenableFuture<Void> third = permits.acquire();
+
+        // releasing a request that was not granted yet does not return a permit
+        permits.release(second);
+        assertFalse(third.isDone());
+
+        // the permit skips the withdrawn request
+        permits.release(first);
+        assertTrue(third.isDone());
+        assertFalse(permits.acquire().isDone());
+    }
+
+    @Test
+    public void testMultiplePermits()
+    {
+        AsyncPermits permits = new AsyncPermits(2);
+        ListenableFuture<Void> first = permits.acquire();
+        ListenableFuture<Void> second = permits.acquire();
+        ListenableFuture<Void> third = permits.acquire();
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertFalse(third.isDone());
+
+        permits.release(second);
+        assertTrue(third.isDone());
+    }
+}
@@ -26,8 +26,12 @@ import io.trino.spi.connector.ConnectorTableHandle;
 import io.trino.spi.connector.ConnectorTableMetadata;
 import io.trino.spi.connector.Constraint;
 import io.trino.spi.connector.ConstraintApplicationResult;
+import io.trino.spi.connector.LimitApplicationResult;
 import io.trino.spi.connector.SchemaTableName;
+import io.trino.spi.connector.SortItem;
+import io.trino.spi.connector.SortOrder;
 import io.trino.spi.connector.TableNotFoundException;
+import io.trino.spi.connector.TopNApplicationResult;
 import io.trino.spi.predicate.Domain;
 import io.trino.spi.predicate.TupleDomain;
 import io.trino.testing.TestingConnectorSession;
@@ -38,6 +42,7 @@ import org.testng.annotations.Test;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.function.Function;
 
 import static io.airlift.slice.Slices.utf8Slice;
@@ -353,6 +358,42 @@ public class TestJdbcMetadata
         assertThat(filterResult).isEmpty();
     }
 
+    @Test
+    public void testApplyTopN()
+    {
+        ConnectorSession session = TestingConnectorSession.builder()
+                .setPropertyMetadata(new JdbcMetadataSessionProperties(new JdbcMetadataConfig(), Optional.empty()).getSessionProperties())
+                .build();
+        Map<String, ColumnHandle> columnHandles = metadata.getColumnHandles(session, tableHandle);
+        JdbcColumnHandle valueColumn = (JdbcColumnHandle) columnHandles.get("value");
+
+        Optional<TopNApplicationResult<ConnectorTableHandle>> topNResult = metadata.applyTopN(
+                session,
+                tableHandle,
+                2,
+                ImmutableList.of(new SortItem("value", SortOrder.DESC_NULLS_LAST)),
+                ImmutableMap.of("value", valueColumn));
+        assertThat(topNResult).isPresent();
+        assertTrue(topNResult.get().isTopNGuaranteed());
+        JdbcTableHandle topNTable = (JdbcTableHandle) topNResult.get().getHandle();
+        assertEquals(topNTable.getSortOrder(), Optional.of(ImmutableList.of(new JdbcSortItem(valueColumn, SortOrder.DESC_NULLS_LAST))));
+        assertEquals(topNTable.getLimit(), OptionalLong.of(2));
+
+        // a smaller limit keeps the pushed down sort order
+        Optional<LimitApplicationResult<ConnectorTableHandle>> limitResult = metadata.applyLimit(session, topNTable, 1);
+        assertThat(limitResult).isPresent();
+        assertEquals(((JdbcTableHandle) limitResult.get().getHandle()).getSortOrder(), topNTable.getSortOrder());
+
+        // neither another TopN nor a filter can be applied below the pushed down TopN
+        assertThat(metadata.applyTopN(session, topNTable, 1, ImmutableList.of(new SortItem("value", SortOrder.ASC_NULLS_FIRST)), ImmutableMap.of("value", valueColumn))).isEmpty();
+        assertThat(metadata.applyFilter(session, topNTable, new Constraint(TupleDomain.withColumnDomains(ImmutableMap.of(valueColumn, Domain.singleValue(BIGINT, 1L)))))).isEmpty();
+
+        ConnectorSession topNPushdownDisabled = TestingConnectorSession.builder()
+                .setPropertyMetadata(new JdbcMetadataSessionProperties(new JdbcMetadataConfig().setTopNPushdownEnabled(false), Optional.empty()).getSessionProperties())
+                .build();
+        assertThat(metadata.applyTopN(topNPushdownDisabled, tableHandle, 2, ImmutableList.of(new SortItem("value", SortOrder.DESC_NULLS_LAST)), ImmutableMap.of("value", valueColumn))).isEmpty();
+    }
+
     private JdbcTableHandle applyCountAggregation(ConnectorSession session, ConnectorTableHandle tableHandle, List<List<ColumnHandle>> groupByColumns)
     {
         Optional<AggregationApplicationResult<ConnectorTableHandle>> aggResult = metadata.applyAggregation(
@@ -14,6 +14,7 @@
 package io.trino.plugin.jdbc;
 
 import com.google.common.collect.ImmutableMap;
+import io.airlift.units.DataSize;
 import org.testng.annotations.Test;
 
 import java.util.Map;
@@ -21,6 +22,7 @@ import java.util.Map;
 import static io.airlift.configuration.testing.ConfigAssertions.assertFullMapping;
 import static io.airlift.configuration.testing.ConfigAssertions.assertRecordedDefaults;
 import static io.airlift.configuration.testing.ConfigAssertions.recordDefaults;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
 
 public class TestJdbcMetadataConfig
 {
@@ -30,7 +32,12 @@ public class TestJdbcMetadataConfig
         assertRecordedDefaults(recordDefaults(JdbcMetadataConfig.class)
                 .setAllowDropTable(false)
                 .setAggregationPushdownEnabled(true)
-                .setDomainCompactionThreshold(32));
+                .setDomainCompactionThreshold(32)
+                .setJoinPushdownEnabled(true)
+                .setJoinPushdownStrategy(JoinPushdownStrategy.AUTOMATIC)
+                .setJoinPushdownAutomaticMaxTableSize(null)
+                .setJoinPushdownAutomaticMaxJoinToTablesRatio(1.25)
+                .setTopNPushdownEnabled(true));
     }
 
     @Test
@@ -40,12 +47,22 @@ public class TestJdbcMetadataConfig
                 .put("allow-drop-table", "true")
                 .put("aggregation-pushdown.enabled", "false")
                 .put("domain-compaction-threshold", "42")
+                .put("join-pushdown.enabled", "false")
+                .put("join-pushdown.strategy", "EAGER")
+                .put("join-pushdown.automatic.max-table-size", "10MB")
+                .put("join-pushdown.automatic.max-join-to-tables-ratio", "2.0")
+                .put("topn-pushdown.enabled", "false")
                 .build();
 
         JdbcMetadataConfig expected = new JdbcMetadataConfig()
                 .setAllowDropTable(true)
                 .setAggregationPushdownEnabled(false)
-                .setDomainCompactionThreshold(42);
+                .setDomainCompactionThreshold(42)
+                .setJoinPushdownEnabled(false)
+                .setJoinPushdownStrategy(JoinPushdownStrategy.EAGER)
+                .setJoinPushdownAutomaticMaxTableSize(DataSize.of(10, MEGABYTE))
+                .setJoinPushdownAutomaticMaxJoinToTablesRatio(2.0)
+                .setTopNPushdownEnabled(false);
 
         assertFullMapping(properties, expected);
     }
@@ -0,0 +1,291 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.airlift.slice.Slice;
+import io.trino.plugin.jdbc.jmx.JdbcWriteStats;
+import io.trino.spi.Page;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.type.Type;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+import static io.airlift.slice.Slices.utf8Slice;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.VarcharType.createVarcharType;
+import static io.trino.testing.TestingConnectorSession.SESSION;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.IntStream.range;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+@Test(singleThreaded = true)
+public class TestJdbcPageSink
+{
+    private static final List<Type> COLUMN_TYPES = ImmutableList.of(BIGINT, createVarcharType(16));
+
+    private TestingDatabase database;
+    private JdbcOutputTableHandle outputHandle;
+
+    @BeforeMethod
+    public void setUp()
+            throws Exception
+    {
+        database = new TestingDatabase();
+        try (Statement statement = database.getConnection().createStatement()) {
+            statement.execute("CREATE TABLE example.write_target(id bigint, name varchar(16))");
+        }
+        outputHandle = new JdbcOutputTableHandle(
+                null,
+                "example",
+                "write_target",
+                ImmutableList.of("id", "name"),
+                COLUMN_TYPES,
+                Optional.empty(),
+                "write_target");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown()
+            throws Exception
+    {
+        database.close();
+    }
+
+    @Test
+    public void testMultiRowInsert()
+            throws Exception
+    {
+        assertWrites(database.getJdbcClient());
+    }
+
+    @Test
+    public void testBatchInsert()
+            throws Exception
+    {
+        JdbcClient jdbcClient = database.getJdbcClient();
+        assertWrites(new ForwardingJdbcClient()
+        {
+            @Override
+            protected JdbcClient delegate()
+            {
+                return jdbcClient;
+            }
+
+            @Override
+            public JdbcPageWriter createPageWriter(ConnectorSession session, Connection connection, JdbcOutputTableHandle handle, List<WriteFunction> columnWriters, int batchSize)
+                    throws SQLException
+            {
+                return new BatchInsertPageWriter(connection.prepareStatement(buildInsertSql(handle, columnWriters)), handle.getColumnTypes(), columnWriters, batchSize);
+            }
+        });
+    }
+
+    @Test
+    public void testMultiRowInsertWithStatementSizeLimit()
+            throws Exception
+    {
+        BaseJdbcClient jdbcClient = (BaseJdbcClient) database.getJdbcClient();
+        assertWrites(new ForwardingJdbcClient()
+        {
+            @Override
+            protected JdbcClient delegate()
+            {
+                return jdbcClient;
+            }
+
+            @Override
+            public JdbcPageWriter createPageWriter(ConnectorSession session, Connection connection, JdbcOutputTableHandle handle, List<WriteFunction> columnWriters, int batchSize)
+            {
+                // a statement fits two rows, so that statements end before a batch is complete
+                return new MultiRowInsertPageWriter(
+                        connection,
+                        rows -> jdbcClient.buildMultiRowInsertSql(handle, columnWriters, rows),
+                        handle.getColumnTypes(),
+                        columnWriters,
+                        batchSize,
+                        Integer.MAX_VALUE,
+                        40);
+            }
+        });
+    }
+
+    @Test
+    public void testWriteLimit()
+            throws Exception
+    {
+        JdbcWriteLimiter writeLimiter = new JdbcWriteLimiter(new JdbcWriteConfig().setMaxConcurrentWriters(1));
+        try {
+            JdbcWriteStats writeStats = new JdbcWriteStats();
+            JdbcPageSink pageSink = createPageSink(writeLimiter, writeStats);
+
+            // rows are buffered until a batch is complete
+            assertTrue(pageSink.appendPage(createPage(0, 2)).isDone());
+            assertEquals(writeStats.getActiveWriters(), 0);
+            assertTrue(pageSink.getSystemMemoryUsage() > 0);
+
+            // the batch is written while another writer holds the only permit
+            ListenableFuture<Void> otherWriter = writeLimiter.acquire();
+            CompletableFuture<?> blocked = pageSink.appendPage(createPage(2, 2));
+            assertFalse(blocked.isDone());
+
+            // the driver may finish the sink while it waits, the rows are written once the permit is granted
+            CompletableFuture<Collection<Slice>> finished = pageSink.finish();
+            assertFalse(finished.isDone());
+
+            writeLimiter.release(otherWriter);
+            blocked.get(10, SECONDS);
+            finished.get(10, SECONDS);
+
+            assertEquals(writeStats.getActiveWriters(), 0);
+            assertEquals(pageSink.getSystemMemoryUsage(), 0);
+            assertEquals(readTarget(), range(0, 4).boxed().collect(toImmutableMap(Long::valueOf, id -> "name " + id)));
+        }
+        finally {
+            writeLimiter.shutdown();
+        }
+    }
+
+    @Test(timeOut = 60_000)
+    public void testMoreWritersThanPermits()
+            throws Exception
+    {
+        JdbcWriteLimiter writeLimiter = new JdbcWriteLimiter(new JdbcWriteConfig().setMaxConcurrentWriters(1));
+        try {
+            JdbcWriteStats writeStats = new JdbcWriteStats();
+            List<JdbcPageSink> pageSinks = ImmutableList.of(
+                    createPageSink(writeLimiter, writeStats),
+                    createPageSink(writeLimiter, writeStats),
+                    createPageSink(writeLimiter, writeStats));
+
+            // Pages are handed to the sinks in turns, like a local exchange does, and a sink receives a page only after it
+            // is unblocked. A sink holding on to its permit until it is finished would block the next sink forever.
+            int rows = 0;
+            for (int page = 0; page < 30; page++) {
+                CompletableFuture<?> blocked = pageSinks.get(page % pageSinks.size()).appendPage(createPage(rows, 2));
+                blocked.get(10, SECONDS);
+                rows += 2;
+                // no connection is held between batches
+                assertEquals(writeStats.getActiveWriters(), 0);
+            }
+            for (JdbcPageSink pageSink : pageSinks) {
+                pageSink.finish().get(10, SECONDS);
+            }
+
+            assertEquals(writeStats.getActiveWriters(), 0);
+            assertEquals(readTarget(), range(0, rows).boxed().collect(toImmutableMap(Long::valueOf, id -> "name " + id)));
+        }
+        finally {
+            writeLimiter.shutdown();
+        }
+    }
+
+    @Test
+    public void testAbortWhileWaitingForWritePermit()
+            throws Exception
+    {
+        JdbcWriteLimiter writeLimiter = new JdbcWriteLimiter(new JdbcWriteConfig().setMaxConcurrentWriters(1));
+        try {
+            JdbcWriteStats writeStats = new JdbcWriteStats();
+            JdbcPageSink aborted = createPageSink(writeLimiter, writeStats);
+            JdbcPageSink waiting = createPageSink(writeLimiter, writeStats);
+
+            ListenableFuture<Void> otherWriter = writeLimiter.acquire();
+            assertFalse(aborted.appendPage(createPage(0, 3)).isDone());
+            CompletableFuture<?> blocked = waiting.appendPage(createPage(3, 3));
+            assertFalse(blocked.isDone());
+
+            // the aborted sink never opens a connection and gives up its place in the queue
+            aborted.abort();
+            assertEquals(writeStats.getActiveWriters(), 0);
+            assertFalse(blocked.isDone());
+
+            writeLimiter.release(otherWriter);
+            blocked.get(10, SECONDS);
+            waiting.finish().get(10, SECONDS);
+
+            assertEquals(writeStats.getActiveWriters(), 0);
+            assertEquals(readTarget().keySet(), ImmutableSet.of(3L, 4L, 5L));
+        }
+        finally {
+            writeLimiter.shutdown();
+        }
+    }
+
+    private JdbcPageSink createPageSink(JdbcWriteLimiter writeLimiter, JdbcWriteStats writeStats)
+    {
+        return new JdbcPageSink(SESSION, outputHandle, database.getJdbcClient(), 3, writeLimiter, writeStats);
+    }
+
+    private void assertWrites(JdbcClient jdbcClient)
+            throws Exception
+    {
+        JdbcWriteStats writeStats = new JdbcWriteStats();
+        // the batch size does not divide the number of rows, so that the last statement carries fewer rows
+        JdbcPageSink pageSink = new JdbcPageSink(SESSION, outputHandle, jdbcClient, 3, JdbcWriteLimiter.unlimited(), writeStats);
+        // the connection is opened with the first batch
+        assertEquals(writeStats.getActiveWriters(), 0);
+        pageSink.appendPage(createPage(0, 7));
+        assertEquals(writeStats.getActiveWriters(), 1);
+        pageSink.appendPage(createPage(7, 1));
+        pageSink.finish().get();
+
+        assertEquals(writeStats.getActiveWriters(), 0);
+        assertEquals(writeStats.getWrittenRows().getTotalCount(), 8);
+        assertTrue(writeStats.getWrittenBytes().getTotalCount() > 0);
+        assertEquals(readTarget(), range(0, 8).boxed().collect(toImmutableMap(Long::valueOf, id -> "name " + id)));
+    }
+
+    private static Page createPage(int start, int rows)
+    {
+        BlockBuilder ids = BIGINT.createBlockBuilder(null, rows);
+        BlockBuilder names = COLUMN_TYPES.get(1).createBlockBuilder(null, rows);
+        for (int id = start; id < start + rows; id++) {
+            BIGINT.writeLong(ids, id);
+            COLUMN_TYPES.get(1).writeSlice(names, utf8Slice("name " + id));
+        }
+        return new Page(ids.build(), names.build());
+    }
+
+    private Map<Long, String> readTarget()
+            throws SQLException
+    {
+        ImmutableMap.Builder<Long, String> rows = ImmutableMap.builder();
+        try (Statement statement = database.getConnection().createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT id, name FROM example.write_target ORDER BY id")) {
+            while (resultSet.next()) {
+                rows.put(resultSet.getLong(1), resultSet.getString(2));
+            }
+        }
+        return rows.build();
+    }
+}
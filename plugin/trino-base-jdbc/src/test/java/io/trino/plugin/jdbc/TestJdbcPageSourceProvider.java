@@ -0,0 +1,219 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.airlift.units.DataSize;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.connector.ConnectorTransactionHandle;
+import io.trino.spi.connector.SchemaTableName;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.testing.TestingConnectorSession;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+
+import static io.airlift.units.DataSize.Unit.KILOBYTE;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+import static io.trino.plugin.jdbc.JdbcPageSource.MAX_FETCH_SIZE;
+import static io.trino.plugin.jdbc.JdbcPageSource.MIN_FETCH_SIZE;
+import static io.trino.plugin.jdbc.JdbcPageSource.getFetchSize;
+import static io.trino.spi.connector.DynamicFilter.EMPTY;
+import static io.trino.spi.connector.SortOrder.DESC_NULLS_LAST;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static io.trino.spi.type.VarcharType.createVarcharType;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestJdbcPageSourceProvider
+{
+    private static final ConnectorSession SESSION = TestingConnectorSession.builder()
+            .setPropertyMetadata(new JdbcMetadataSessionProperties(new JdbcMetadataConfig(), Optional.empty()).getSessionProperties())
+            .build();
+
+    private TestingDatabase database;
+    private JdbcPageSourceProvider pageSourceProvider;
+    private JdbcSplit split;
+
+    private JdbcTableHandle table;
+    private JdbcColumnHandle textColumn;
+    private JdbcColumnHandle valueColumn;
+
+    @BeforeClass
+    public void setUp()
+            throws Exception
+    {
+        database = new TestingDatabase();
+        pageSourceProvider = new JdbcPageSourceProvider(database.getJdbcClient(), JdbcReadLimiter.unlimited(), new JdbcSplitConfig());
+        table = database.getTableHandle(SESSION, new SchemaTableName("example", "numbers"));
+        split = database.getSplit(SESSION, table);
+
+        Map<String, JdbcColumnHandle> columns = database.getColumnHandles(SESSION, table);
+        textColumn = columns.get("text");
+        valueColumn = columns.get("value");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown()
+            throws Exception
+    {
+        database.close();
+    }
+
+    @Test
+    public void testGetPageSource()
+    {
+        assertEquals(readAll(table), ImmutableMap.<String, Long>builder()
+                .put("one", 1L)
+                .put("two", 2L)
+                .put("three", 3L)
+                .put("ten", 10L)
+                .put("eleven", 11L)
+                .put("twelve", 12L)
+                .build());
+    }
+
+    @Test
+    public void testTopN()
+    {
+        JdbcTableHandle topNTable = new JdbcTableHandle(
+                table.getSchemaTableName(),
+                table.getRemoteTableName(),
+                TupleDomain.all(),
+                Optional.empty(),
+                Optional.of(ImmutableList.of(new JdbcSortItem(valueColumn, DESC_NULLS_LAST))),
+                OptionalLong.of(2),
+                Optional.empty());
+
+        assertEquals(ImmutableList.copyOf(readAll(topNTable).entrySet()), ImmutableList.of(
+                Map.entry("twelve", 12L),
+                Map.entry("eleven", 11L)));
+    }
+
+    @Test
+    public void testReadLimit()
+            throws IOException
+    {
+        JdbcReadLimiter readLimiter = new JdbcReadLimiter(new JdbcSplitConfig().setMaxConcurrentReads(1));
+        JdbcPageSourceProvider limitedPageSourceProvider = new JdbcPageSourceProvider(database.getJdbcClient(), readLimiter, new JdbcSplitConfig());
+        JdbcSplit scanSplit = createScanSplit("scan");
+        try (ConnectorPageSource first = createPageSource(limitedPageSourceProvider, scanSplit);
+                ConnectorPageSource second = createPageSource(limitedPageSourceProvider, scanSplit);
+                ConnectorPageSource third = createPageSource(limitedPageSourceProvider, scanSplit);
+                ConnectorPageSource otherScan = createPageSource(limitedPageSourceProvider, createScanSplit("other scan"));
+                ConnectorPageSource notPartitioned = createPageSource(limitedPageSourceProvider, split)) {
+            assertTrue(first.isBlocked().isDone());
+            assertFalse(second.isBlocked().isDone());
+            CompletableFuture<?> thirdBlocked = third.isBlocked();
+            assertFalse(thirdBlocked.isDone());
+            // the query is not executed before the permit is granted
+            assertNull(third.getNextPage());
+            assertFalse(third.isFinished());
+
+            // scans do not wait for each other's permits, e.g. the sides of a self-join
+            assertTrue(otherScan.isBlocked().isDone());
+            assertEquals(countRows(otherScan), 6);
+            assertTrue(notPartitioned.isBlocked().isDone());
+
+            // closing a waiting page source withdraws its request
+            second.close();
+
+            // the permit is released once the result set is drained, before the page source is closed
+            assertEquals(countRows(first), 6);
+            assertTrue(thirdBlocked.isDone());
+            assertEquals(countRows(third), 6);
+        }
+
+        try (ConnectorPageSource pageSource = createPageSource(limitedPageSourceProvider, scanSplit)) {
+            assertTrue(pageSource.isBlocked().isDone());
+        }
+    }
+
+    @Test
+    public void testFetchSize()
+    {
+        // 8 bytes per row
+        assertEquals(getFetchSize(ImmutableList.of(BIGINT), DataSize.of(8, KILOBYTE)), 1024);
+        // bounded varchar is estimated by its length
+        assertEquals(getFetchSize(ImmutableList.of(BIGINT, createVarcharType(120)), DataSize.of(64, KILOBYTE)), 512);
+        assertEquals(getFetchSize(ImmutableList.of(BIGINT, VARCHAR), DataSize.of(1, MEGABYTE)), MAX_FETCH_SIZE);
+        assertEquals(getFetchSize(ImmutableList.of(VARCHAR, VARCHAR), DataSize.of(1, KILOBYTE)), MIN_FETCH_SIZE);
+        assertEquals(getFetchSize(ImmutableList.of(), DataSize.of(1, KILOBYTE)), 1024);
+    }
+
+    private JdbcSplit createScanSplit(String scanId)
+    {
+        return new JdbcSplit(split.getAdditionalPredicate(), split.getRangePredicate(), Optional.of(scanId));
+    }
+
+    private ConnectorPageSource createPageSource(JdbcPageSourceProvider pageSourceProvider, JdbcSplit split)
+    {
+        return pageSourceProvider.createPageSource(new JdbcTransactionHandle(), SESSION, split, table, ImmutableList.of(textColumn, valueColumn), EMPTY);
+    }
+
+    private static int countRows(ConnectorPageSource pageSource)
+    {
+        int rows = 0;
+        while (!pageSource.isFinished()) {
+            assertTrue(pageSource.isBlocked().isDone());
+            Page page = pageSource.getNextPage();
+            if (page != null) {
+                rows += page.getPositionCount();
+            }
+        }
+        return rows;
+    }
+
+    private Map<String, Long> readAll(JdbcTableHandle tableHandle)
+    {
+        ConnectorTransactionHandle transaction = new JdbcTransactionHandle();
+        List<ColumnHandle> columns = ImmutableList.of(textColumn, valueColumn);
+        Map<String, Long> data = new LinkedHashMap<>();
+        try (ConnectorPageSource pageSource = pageSourceProvider.createPageSource(transaction, SESSION, split, tableHandle, columns, EMPTY)) {
+            while (!pageSource.isFinished()) {
+                Page page = pageSource.getNextPage();
+                if (page == null) {
+                    continue;
+                }
+                Block textBlock = page.getBlock(0);
+                Block valueBlock = page.getBlock(1);
+                for (int position = 0; position < page.getPositionCount(); position++) {
+                    data.put(VARCHAR.getSlice(textBlock, position).toStringUtf8(), BIGINT.getLong(valueBlock, position));
+                }
+            }
+            assertTrue(pageSource.getCompletedBytes() > 0);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return data;
+    }
+}
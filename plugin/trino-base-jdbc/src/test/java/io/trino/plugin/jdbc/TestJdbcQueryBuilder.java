@@ -20,6 +20,9 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multiset;
 import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.connector.JoinCondition;
+import io.trino.spi.connector.JoinType;
+import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.predicate.Domain;
 import io.trino.spi.predicate.Range;
 import io.trino.spi.predicate.SortedRangeSet;
@@ -46,6 +49,7 @@ import java.time.LocalTime;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.function.Function;
 import java.util.stream.LongStream;
 
@@ -609,6 +613,69 @@ public class TestJdbcQueryBuilder
         }
     }
 
+    @Test
+    public void testJoin()
+            throws SQLException
+    {
+        JdbcColumnHandle leftKey = new JdbcColumnHandle(Optional.of("\"col_0\""), "l_0", JDBC_BIGINT, BIGINT, true, Optional.empty());
+        JdbcColumnHandle rightKey = new JdbcColumnHandle(Optional.of("\"col_0\""), "r_0", JDBC_BIGINT, BIGINT, true, Optional.empty());
+        JdbcColumnHandle rightValue = new JdbcColumnHandle(Optional.of("\"col_2\""), "r_2", JDBC_BOOLEAN, BOOLEAN, true, Optional.empty());
+
+        JdbcTableHandle left = new JdbcTableHandle(
+                new SchemaTableName("test", "test_table"),
+                TEST_TABLE,
+                TupleDomain.withColumnDomains(ImmutableMap.of(this.columns.get(0), Domain.create(ValueSet.ofRanges(Range.lessThan(BIGINT, 3L)), false))),
+                Optional.empty(),
+                Optional.empty(),
+                OptionalLong.empty(),
+                Optional.of(ImmutableList.of(leftKey)));
+        JdbcTableHandle right = new JdbcTableHandle(
+                new SchemaTableName("test", "test_table"),
+                TEST_TABLE,
+                TupleDomain.all(),
+                Optional.empty(),
+                Optional.empty(),
+                OptionalLong.empty(),
+                Optional.of(ImmutableList.of(rightKey, rightValue)));
+        JdbcJoinRelationHandle join = new JdbcJoinRelationHandle(
+                JoinType.INNER,
+                left,
+                right,
+                ImmutableList.of(new JdbcJoinCondition(leftKey, JoinCondition.Operator.EQUAL, rightKey)));
+
+        List<JdbcColumnHandle> projectedColumns = ImmutableList.of(
+                new JdbcColumnHandle("l_0", JDBC_BIGINT, BIGINT),
+                new JdbcColumnHandle("r_2", JDBC_BOOLEAN, BOOLEAN));
+
+        Connection connection = database.getConnection();
+        try (PreparedStatement preparedStatement = new QueryBuilder(jdbcClient).buildSql(
+                SESSION,
+                connection,
+                join,
+                Optional.empty(),
+                projectedColumns,
+                TupleDomain.all(),
+                Optional.empty(),
+                identity())) {
+            assertThat(lastQuery).isEqualTo("" +
+                    "SELECT \"l_0\" AS \"l_0\", \"r_2\" AS \"r_2\" " +
+                    "FROM (SELECT * FROM " +
+                    "(SELECT \"col_0\" AS \"l_0\" FROM \"test_table\" WHERE \"col_0\" < ?) l " +
+                    "INNER JOIN " +
+                    "(SELECT \"col_0\" AS \"r_0\", \"col_2\" AS \"r_2\" FROM \"test_table\") r " +
+                    "ON l.\"l_0\" = r.\"r_0\") o");
+
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                Multiset<List<Object>> actual = read(resultSet);
+                assertThat(actual)
+                        .isEqualTo(ImmutableMultiset.of(
+                                ImmutableList.of(0L, true),
+                                ImmutableList.of(1L, false),
+                                ImmutableList.of(2L, true)));
+            }
+        }
+    }
+
     private static long toPrestoTimestamp(int year, int month, int day, int hour, int minute, int second)
     {
         return sqlTimestampOf(3, year, month, day, hour, minute, second, 0).getMillis() * MICROSECONDS_PER_MILLISECOND;
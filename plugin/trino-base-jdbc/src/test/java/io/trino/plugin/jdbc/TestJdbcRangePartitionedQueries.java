@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.trino.Session;
+import io.trino.testing.AbstractTestQueryFramework;
+import io.trino.testing.QueryRunner;
+import org.testng.annotations.Test;
+
+import static io.trino.SystemSessionProperties.JOIN_DISTRIBUTION_TYPE;
+import static io.trino.plugin.jdbc.H2QueryRunner.createH2QueryRunner;
+import static io.trino.tpch.TpchTable.ORDERS;
+
+public class TestJdbcRangePartitionedQueries
+        extends AbstractTestQueryFramework
+{
+    @Override
+    protected QueryRunner createQueryRunner()
+            throws Exception
+    {
+        return createH2QueryRunner(
+                ImmutableList.of(ORDERS),
+                ImmutableMap.<String, String>builder()
+                        .putAll(TestingH2JdbcModule.createProperties())
+                        .put("split.range-partitioning-columns", "tpch.orders:orderkey")
+                        .put("split.max-splits-per-scan", "16")
+                        // fewer permits than splits of a scan
+                        .put("split.max-concurrent-reads", "2")
+                        .build());
+    }
+
+    @Test
+    public void testRangePartitionedScan()
+    {
+        assertQuery("SELECT count(*), sum(orderkey) FROM orders");
+        assertQuery("SELECT orderkey, custkey FROM orders WHERE orderkey BETWEEN 100 AND 200");
+    }
+
+    @Test(timeOut = 60_000)
+    public void testPartitionedSelfJoin()
+    {
+        // each side of the join waits for the other one to drain its splits, so the sides must not wait for each other's read permits
+        Session session = Session.builder(getSession())
+                .setSystemProperty(JOIN_DISTRIBUTION_TYPE, "PARTITIONED")
+                .build();
+        assertQuery(session, "SELECT count(*), sum(a.totalprice) FROM orders a JOIN orders b ON a.orderkey = b.orderkey");
+        assertQuery(session, "SELECT count(*) FROM orders a JOIN orders b ON a.custkey = b.custkey AND a.orderkey <> b.orderkey");
+    }
+}
@@ -189,6 +189,7 @@ public class TestJdbcRecordSetProvider
                 jdbcTableHandle.getRemoteTableName(),
                 domain,
                 Optional.empty(),
+                Optional.empty(),
                 OptionalLong.empty(),
                 Optional.empty());
 
@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.airlift.units.DataSize;
+import io.trino.spi.connector.SchemaTableName;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static io.airlift.configuration.testing.ConfigAssertions.assertFullMapping;
+import static io.airlift.configuration.testing.ConfigAssertions.assertRecordedDefaults;
+import static io.airlift.configuration.testing.ConfigAssertions.recordDefaults;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestJdbcSplitConfig
+{
+    @Test
+    public void testDefaults()
+    {
+        assertRecordedDefaults(recordDefaults(JdbcSplitConfig.class)
+                .setMaxSplitsPerScan(1)
+                .setRangePartitioningColumns(null)
+                .setMaxConcurrentReads(null)
+                .setMaxFetchMemory(DataSize.of(8, MEGABYTE)));
+    }
+
+    @Test
+    public void testExplicitPropertyMappings()
+    {
+        Map<String, String> properties = new ImmutableMap.Builder<String, String>()
+                .put("split.max-splits-per-scan", "16")
+                .put("split.range-partitioning-columns", "sales.orders:order_id, sales.events:event_date:2020-01-01:2021-01-01")
+                .put("split.max-concurrent-reads", "8")
+                .put("split.max-fetch-memory", "32MB")
+                .build();
+
+        JdbcSplitConfig expected = new JdbcSplitConfig()
+                .setMaxSplitsPerScan(16)
+                .setRangePartitioningColumns("sales.orders:order_id,sales.events:event_date:2020-01-01:2021-01-01")
+                .setMaxConcurrentReads(8)
+                .setMaxFetchMemory(DataSize.of(32, MEGABYTE));
+
+        assertFullMapping(properties, expected);
+    }
+
+    @Test
+    public void testRangePartitioningColumns()
+    {
+        JdbcSplitConfig config = new JdbcSplitConfig()
+                .setRangePartitioningColumns("Sales.Orders:Order_Id, sales.events:event_date:2020-01-01:2021-01-01");
+        assertThat(config.getRangePartitioningColumns()).isEqualTo(ImmutableList.of(
+                new RangePartitioningColumn(new SchemaTableName("sales", "orders"), "Order_Id", Optional.empty(), Optional.empty()),
+                new RangePartitioningColumn(new SchemaTableName("sales", "events"), "event_date", Optional.of("2020-01-01"), Optional.of("2021-01-01"))));
+
+        assertThatThrownBy(() -> new JdbcSplitConfig().setRangePartitioningColumns("orders:order_id"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid table name in range partitioning column: orders:order_id");
+        assertThatThrownBy(() -> new JdbcSplitConfig().setRangePartitioningColumns("sales.orders:order_id:1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid range partitioning column, expected schema.table:column[:lower:upper]: sales.orders:order_id:1");
+    }
+}
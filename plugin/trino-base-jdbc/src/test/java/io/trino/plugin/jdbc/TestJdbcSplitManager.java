@@ -0,0 +1,171 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.connector.ConnectorSplitSource;
+import io.trino.spi.connector.ConnectorTransactionHandle;
+import io.trino.spi.connector.RecordCursor;
+import io.trino.spi.connector.SchemaTableName;
+import io.trino.spi.predicate.Domain;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.session.PropertyMetadata;
+import io.trino.testing.TestingConnectorSession;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.airlift.concurrent.MoreFutures.getFutureValue;
+import static io.trino.spi.connector.ConnectorSplitManager.SplitSchedulingStrategy.UNGROUPED_SCHEDULING;
+import static io.trino.spi.connector.DynamicFilter.EMPTY;
+import static io.trino.spi.connector.NotPartitionedPartitionHandle.NOT_PARTITIONED;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestJdbcSplitManager
+{
+    private static final ConnectorSession SESSION = TestingConnectorSession.builder()
+            .setPropertyMetadata(ImmutableList.<PropertyMetadata<?>>builder()
+                    .addAll(new JdbcMetadataSessionProperties(new JdbcMetadataConfig(), Optional.empty()).getSessionProperties())
+                    .addAll(new JdbcSplitSessionProperties(new JdbcSplitConfig().setMaxSplitsPerScan(3)).getSessionProperties())
+                    .build())
+            .build();
+
+    private TestingDatabase database;
+    private JdbcClient jdbcClient;
+    private JdbcTableHandle table;
+    private JdbcColumnHandle valueColumn;
+
+    @BeforeClass
+    public void setUp()
+            throws Exception
+    {
+        database = new TestingDatabase();
+        jdbcClient = database.getJdbcClient();
+        table = database.getTableHandle(SESSION, new SchemaTableName("example", "numbers"));
+        valueColumn = database.getColumnHandles(SESSION, table).get("value");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown()
+            throws Exception
+    {
+        database.close();
+        database = null;
+    }
+
+    @Test
+    public void testSplitBoundaries()
+    {
+        assertThat(JdbcSplitManager.getSplitBoundaries(1, 12, 3)).containsExactly(5L, 9L);
+        assertThat(JdbcSplitManager.getSplitBoundaries(1, 2, 3)).containsExactly(2L);
+        assertThat(JdbcSplitManager.getSplitBoundaries(5, 5, 3)).isEmpty();
+        assertThat(JdbcSplitManager.getSplitBoundaries(Long.MIN_VALUE, Long.MAX_VALUE, 2)).containsExactly(0L);
+    }
+
+    @Test
+    public void testRangeSplitsFromColumnBounds()
+    {
+        List<JdbcSplit> splits = getSplits(new JdbcSplitConfig().setRangePartitioningColumns("example.numbers:value"), table);
+        assertThat(splits).hasSize(3);
+        assertThat(splits.get(0).getRangePredicate().getDomains().orElseThrow().get(valueColumn).isNullAllowed()).isTrue();
+        assertThat(readValues(splits.get(0), table)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(readValues(splits.get(1), table)).isEmpty();
+        assertThat(readValues(splits.get(2), table)).containsExactlyInAnyOrder(10L, 11L, 12L);
+
+        // the splits of a scan share its read permits, other scans of the table get their own
+        assertThat(splits).extracting(JdbcSplit::getScanId).containsOnly(splits.get(0).getScanId());
+        assertThat(splits.get(0).getScanId()).isPresent();
+        assertThat(getSplits(new JdbcSplitConfig().setRangePartitioningColumns("example.numbers:value"), table).get(0).getScanId())
+                .isNotEqualTo(splits.get(0).getScanId());
+    }
+
+    @Test
+    public void testRangeSplitsFromExplicitBounds()
+    {
+        List<JdbcSplit> splits = getSplits(new JdbcSplitConfig().setRangePartitioningColumns("example.numbers:value:0:5"), table);
+        assertThat(splits).hasSize(3);
+        // values above the configured upper bound are read by the last split
+        assertThat(readValues(splits.get(0), table)).containsExactlyInAnyOrder(1L);
+        assertThat(readValues(splits.get(1), table)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(readValues(splits.get(2), table)).containsExactlyInAnyOrder(10L, 11L, 12L);
+    }
+
+    @Test
+    public void testRangeSplitsWithTableConstraint()
+    {
+        JdbcTableHandle constrainedTable = new JdbcTableHandle(
+                table.getSchemaTableName(),
+                table.getRemoteTableName(),
+                TupleDomain.withColumnDomains(ImmutableMap.of(valueColumn, Domain.singleValue(BIGINT, 11L))),
+                Optional.empty(),
+                Optional.empty(),
+                OptionalLong.empty(),
+                Optional.empty());
+        // min and max of the constrained relation are equal, so the table is not split
+        assertThat(getSplits(new JdbcSplitConfig().setRangePartitioningColumns("example.numbers:value"), constrainedTable))
+                .hasSize(1)
+                .allMatch(split -> split.getRangePredicate().isAll());
+    }
+
+    @Test
+    public void testNoRangeSplits()
+    {
+        // table without range partitioning column
+        assertThat(getSplits(new JdbcSplitConfig(), table)).hasSize(1);
+        // column of an unsupported type
+        assertThat(getSplits(new JdbcSplitConfig().setRangePartitioningColumns("example.numbers:text"), table)).hasSize(1);
+        // limit is evaluated over the whole table
+        JdbcTableHandle limitedTable = new JdbcTableHandle(
+                table.getSchemaTableName(),
+                table.getRemoteTableName(),
+                TupleDomain.all(),
+                Optional.empty(),
+                Optional.empty(),
+                OptionalLong.of(2),
+                Optional.empty());
+        assertThat(getSplits(new JdbcSplitConfig().setRangePartitioningColumns("example.numbers:value"), limitedTable)).hasSize(1);
+    }
+
+    private List<JdbcSplit> getSplits(JdbcSplitConfig config, JdbcTableHandle table)
+    {
+        JdbcSplitManager splitManager = new JdbcSplitManager(jdbcClient, config);
+        ConnectorSplitSource splitSource = splitManager.getSplits(new JdbcTransactionHandle(), SESSION, table, UNGROUPED_SCHEDULING, EMPTY);
+        return getFutureValue(splitSource.getNextBatch(NOT_PARTITIONED, 1000)).getSplits().stream()
+                .map(JdbcSplit.class::cast)
+                .collect(toImmutableList());
+    }
+
+    private Set<Long> readValues(JdbcSplit split, JdbcTableHandle table)
+    {
+        ConnectorTransactionHandle transaction = new JdbcTransactionHandle();
+        JdbcRecordSetProvider recordSetProvider = new JdbcRecordSetProvider(jdbcClient);
+        ImmutableSet.Builder<Long> values = ImmutableSet.builder();
+        try (RecordCursor cursor = recordSetProvider.getRecordSet(transaction, SESSION, split, table, ImmutableList.of(valueColumn)).cursor()) {
+            while (cursor.advanceNextPosition()) {
+                values.add(cursor.getLong(0));
+            }
+        }
+        return values.build();
+    }
+}
@@ -25,6 +25,7 @@ import io.trino.spi.type.VarcharType;
 
 import java.sql.Connection;
 import java.sql.Types;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -60,10 +61,15 @@ import static io.trino.spi.type.SmallintType.SMALLINT;
 import static io.trino.spi.type.TimeType.TIME_MILLIS;
 import static io.trino.spi.type.TimestampType.TIMESTAMP_MILLIS;
 import static io.trino.spi.type.TinyintType.TINYINT;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
 
 class TestingH2JdbcClient
         extends BaseJdbcClient
 {
+    // H2 itself does not limit the number of parameters, keep the statements reasonably small
+    private static final int MAX_PARAMETERS = 1000;
+
     private static final JdbcTypeHandle BIGINT_TYPE_HANDLE = new JdbcTypeHandle(Types.BIGINT, Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
 
     public TestingH2JdbcClient(BaseJdbcConfig config, ConnectionFactory connectionFactory)
@@ -84,6 +90,39 @@ class TestingH2JdbcClient
                 .rewrite(session, aggregate, assignments);
     }
 
+    @Override
+    protected Optional<TopNFunction> topNFunction()
+    {
+        return Optional.of((query, sortItems, limit) -> {
+            String orderBy = sortItems.stream()
+                    .map(sortItem -> format(
+                            "%s %s NULLS %s",
+                            sortItem.getColumn().toSqlExpression(this::quoted),
+                            sortItem.getSortOrder().isAscending() ? "ASC" : "DESC",
+                            sortItem.getSortOrder().isNullsFirst() ? "FIRST" : "LAST"))
+                    .collect(joining(", "));
+            return format("%s ORDER BY %s LIMIT %s", query, orderBy, limit);
+        });
+    }
+
+    @Override
+    public boolean isTopNGuaranteed(ConnectorSession session)
+    {
+        return true;
+    }
+
+    @Override
+    public JdbcPageWriter createPageWriter(ConnectorSession session, Connection connection, JdbcOutputTableHandle handle, List<WriteFunction> columnWriters, int batchSize)
+    {
+        return new MultiRowInsertPageWriter(
+                connection,
+                rows -> buildMultiRowInsertSql(handle, columnWriters, rows),
+                handle.getColumnTypes(),
+                columnWriters,
+                batchSize,
+                MAX_PARAMETERS);
+    }
+
     @Override
     public Optional<ColumnMapping> toColumnMapping(ConnectorSession session, Connection connection, JdbcTypeHandle typeHandle)
     {
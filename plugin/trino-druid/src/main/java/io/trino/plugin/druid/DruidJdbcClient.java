@@ -171,7 +171,7 @@ public class DruidJdbcClient
                         new RemoteTableName(Optional.empty(), table.getRemoteTableName().getSchemaName(), table.getRemoteTableName().getTableName()),
                         table.getGroupingSets(),
                         columns,
-                        table.getConstraint(),
+                        table.getConstraint().intersect(split.getRangePredicate()),
                         split.getAdditionalPredicate(),
                         tryApplyLimit(table.getLimit()));
     }
@@ -154,6 +154,7 @@ public class BackgroundHiveSplitLoader
     private final DirectoryLister directoryLister;
     private final int loaderConcurrency;
     private final boolean recursiveDirWalkerEnabled;
+    private final int recursiveDirListingConcurrency;
     private final boolean ignoreAbsentPartitions;
     private final boolean optimizeSymlinkListing;
     private final Executor executor;
@@ -199,6 +200,7 @@ public class BackgroundHiveSplitLoader
             Executor executor,
             int loaderConcurrency,
             boolean recursiveDirWalkerEnabled,
+            int recursiveDirListingConcurrency,
             boolean ignoreAbsentPartitions,
             boolean optimizeSymlinkListing,
             Optional<ValidWriteIdList> validWriteIds)
@@ -217,6 +219,7 @@ public class BackgroundHiveSplitLoader
         this.namenodeStats = namenodeStats;
         this.directoryLister = directoryLister;
         this.recursiveDirWalkerEnabled = recursiveDirWalkerEnabled;
+        this.recursiveDirListingConcurrency = recursiveDirListingConcurrency;
         this.ignoreAbsentPartitions = ignoreAbsentPartitions;
         this.optimizeSymlinkListing = optimizeSymlinkListing;
         this.executor = executor;
@@ -544,7 +547,7 @@ public class BackgroundHiveSplitLoader
                 // list all files in the partition
                 List<LocatedFileStatus> files = new ArrayList<>();
                 try {
-                    Iterators.addAll(files, new HiveFileIterator(table, readPath, fs, directoryLister, namenodeStats, FAIL, ignoreAbsentPartitions));
+                    Iterators.addAll(files, new HiveFileIterator(table, partition.getPartition(), readPath, fs, directoryLister, namenodeStats, FAIL, ignoreAbsentPartitions, executor, 1));
                 }
                 catch (HiveFileIterator.NestedDirectoryNotAllowedException e) {
                     // Fail here to be on the safe side. This seems to be the same as what Hive does
@@ -568,7 +571,7 @@ public class BackgroundHiveSplitLoader
         }
 
         for (Path readPath : readPaths) {
-            fileIterators.addLast(createInternalHiveSplitIterator(readPath, fs, splitFactory, splittable, acidInfoBuilder.build()));
+            fileIterators.addLast(createInternalHiveSplitIterator(partition.getPartition(), readPath, fs, splitFactory, splittable, acidInfoBuilder.build()));
         }
 
         if (!fileStatusOriginalFiles.isEmpty()) {
@@ -733,9 +736,20 @@ public class BackgroundHiveSplitLoader
                 .anyMatch(name -> name.equals("UseFileSplitsFromInputFormat"));
     }
 
-    private Iterator<InternalHiveSplit> createInternalHiveSplitIterator(Path path, FileSystem fileSystem, InternalHiveSplitFactory splitFactory, boolean splittable, Optional<AcidInfo> acidInfo)
+    private Iterator<InternalHiveSplit> createInternalHiveSplitIterator(Optional<Partition> partition, Path path, FileSystem fileSystem, InternalHiveSplitFactory splitFactory, boolean splittable, Optional<AcidInfo> acidInfo)
     {
-        return Streams.stream(new HiveFileIterator(table, path, fileSystem, directoryLister, namenodeStats, recursiveDirWalkerEnabled ? RECURSE : IGNORED, ignoreAbsentPartitions))
+        HiveFileIterator fileIterator = new HiveFileIterator(
+                table,
+                partition,
+                path,
+                fileSystem,
+                directoryLister,
+                namenodeStats,
+                recursiveDirWalkerEnabled ? RECURSE : IGNORED,
+                ignoreAbsentPartitions,
+                executor,
+                recursiveDirWalkerEnabled ? recursiveDirListingConcurrency : 1);
+        return Streams.stream(fileIterator)
                 .map(status -> splitFactory.createInternalHiveSplit(status, OptionalInt.empty(), splittable, acidInfo))
                 .filter(Optional::isPresent)
                 .map(Optional::get)
@@ -17,7 +17,9 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.Weigher;
 import com.google.common.collect.ImmutableList;
+import io.airlift.log.Logger;
 import io.airlift.units.Duration;
+import io.trino.plugin.hive.metastore.Partition;
 import io.trino.plugin.hive.metastore.Table;
 import io.trino.spi.connector.SchemaTablePrefix;
 import org.apache.hadoop.fs.FileSystem;
@@ -32,34 +34,74 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.joining;
 
 public class CachingDirectoryLister
         implements DirectoryLister
 {
-    private final Cache<Path, List<LocatedFileStatus>> cache;
+    private static final Logger log = Logger.get(CachingDirectoryLister.class);
+
+    // Hive and Trino update these parameters when files of a partition or table are added or removed
+    private static final List<String> LISTING_VERSION_PARAMETERS = ImmutableList.of("transient_lastDdlTime", "numFiles", "totalSize");
+
+    private final Cache<Path, CachedListing> cache;
     private final List<SchemaTablePrefix> tablePrefixes;
+    private final Optional<Duration> refreshInterval;
+    private final Executor refreshExecutor;
+    private final Set<Path> refreshingPaths = ConcurrentHashMap.newKeySet();
+    private final AtomicLong outdatedCount = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
 
     @Inject
+    public CachingDirectoryLister(HiveConfig hiveClientConfig, ExecutorService executorService)
+    {
+        this(
+                hiveClientConfig.getFileStatusCacheExpireAfterWrite(),
+                hiveClientConfig.getFileStatusCacheMaxSize(),
+                hiveClientConfig.getFileStatusCacheTables(),
+                hiveClientConfig.getFileStatusCacheRefreshInterval(),
+                executorService);
+    }
+
     public CachingDirectoryLister(HiveConfig hiveClientConfig)
     {
         this(hiveClientConfig.getFileStatusCacheExpireAfterWrite(), hiveClientConfig.getFileStatusCacheMaxSize(), hiveClientConfig.getFileStatusCacheTables());
     }
 
     public CachingDirectoryLister(Duration expireAfterWrite, long maxSize, List<String> tables)
+    {
+        this(expireAfterWrite, maxSize, tables, Optional.empty(), directExecutor());
+    }
+
+    public CachingDirectoryLister(Duration expireAfterWrite, long maxSize, List<String> tables, Optional<Duration> refreshInterval, Executor refreshExecutor)
     {
         this.cache = CacheBuilder.newBuilder()
                 .maximumWeight(maxSize)
-                .weigher((Weigher<Path, List<LocatedFileStatus>>) (key, value) -> value.size())
+                // count the entry itself, so that listings of empty directories are bounded as well
+                .weigher((Weigher<Path, CachedListing>) (key, value) -> value.getFiles().size() + 1)
                 .expireAfterWrite(expireAfterWrite.toMillis(), TimeUnit.MILLISECONDS)
                 .recordStats()
                 .build();
         this.tablePrefixes = tables.stream()
                 .map(CachingDirectoryLister::parseTableName)
                 .collect(toImmutableList());
+        this.refreshInterval = requireNonNull(refreshInterval, "refreshInterval is null");
+        this.refreshExecutor = requireNonNull(refreshExecutor, "refreshExecutor is null");
     }
 
     private static SchemaTablePrefix parseTableName(String tableName)
@@ -81,19 +123,79 @@ public class CachingDirectoryLister
     public RemoteIterator<LocatedFileStatus> list(FileSystem fs, Table table, Path path)
             throws IOException
     {
-        List<LocatedFileStatus> files = cache.getIfPresent(path);
-        if (files != null) {
-            return simpleRemoteIterator(files);
+        // without a partition, the version of the listing is unknown and any cached listing is used
+        return list(fs, table, Optional.empty(), path);
+    }
+
+    @Override
+    public RemoteIterator<LocatedFileStatus> list(FileSystem fs, Table table, Optional<Partition> partition, Path path)
+            throws IOException
+    {
+        Optional<String> version = partition.isPresent() || table.getPartitionColumns().isEmpty() ? getListingVersion(table, partition) : Optional.empty();
+
+        CachedListing cachedListing = cache.getIfPresent(path);
+        if (cachedListing != null) {
+            if (version.isEmpty() || cachedListing.getVersion().equals(version)) {
+                refreshIfStale(fs, path, cachedListing);
+                return simpleRemoteIterator(cachedListing.getFiles());
+            }
+            // the partition was modified after the directory was listed
+            outdatedCount.incrementAndGet();
+            cache.asMap().remove(path, cachedListing);
         }
         RemoteIterator<LocatedFileStatus> iterator = fs.listLocatedStatus(path);
 
         if (tablePrefixes.stream().noneMatch(prefix -> prefix.matches(table.getSchemaTableName()))) {
             return iterator;
         }
-        return cachingRemoteIterator(iterator, path);
+        return cachingRemoteIterator(iterator, path, version);
     }
 
-    private RemoteIterator<LocatedFileStatus> cachingRemoteIterator(RemoteIterator<LocatedFileStatus> iterator, Path path)
+    private static Optional<String> getListingVersion(Table table, Optional<Partition> partition)
+    {
+        Map<String, String> parameters = partition.map(Partition::getParameters).orElseGet(table::getParameters);
+        if (LISTING_VERSION_PARAMETERS.stream().noneMatch(parameters::containsKey)) {
+            return Optional.empty();
+        }
+        return Optional.of(LISTING_VERSION_PARAMETERS.stream()
+                .map(parameters::get)
+                .map(String::valueOf)
+                .collect(joining(",")));
+    }
+
+    private void refreshIfStale(FileSystem fs, Path path, CachedListing cachedListing)
+    {
+        if (refreshInterval.isEmpty() || cachedListing.getAgeMillis() < refreshInterval.get().toMillis() || !refreshingPaths.add(path)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    ImmutableList.Builder<LocatedFileStatus> files = ImmutableList.builder();
+                    RemoteIterator<LocatedFileStatus> iterator = fs.listLocatedStatus(path);
+                    while (iterator.hasNext()) {
+                        files.add(iterator.next());
+                    }
+                    // only replace the listing that was refreshed, it may have been invalidated meanwhile
+                    if (cache.asMap().replace(path, cachedListing, new CachedListing(files.build(), cachedListing.getVersion()))) {
+                        refreshCount.incrementAndGet();
+                    }
+                }
+                catch (IOException | RuntimeException e) {
+                    log.debug(e, "Failed to refresh listing of %s", path);
+                    cache.asMap().remove(path, cachedListing);
+                }
+                finally {
+                    refreshingPaths.remove(path);
+                }
+            });
+        }
+        catch (RejectedExecutionException e) {
+            refreshingPaths.remove(path);
+        }
+    }
+
+    private RemoteIterator<LocatedFileStatus> cachingRemoteIterator(RemoteIterator<LocatedFileStatus> iterator, Path path, Optional<String> version)
     {
         return new RemoteIterator<>()
         {
@@ -105,7 +207,7 @@ public class CachingDirectoryLister
             {
                 boolean hasNext = iterator.hasNext();
                 if (!hasNext) {
-                    cache.put(path, ImmutableList.copyOf(files));
+                    cache.put(path, new CachedListing(ImmutableList.copyOf(files), version));
                 }
                 return hasNext;
             }
@@ -176,4 +278,44 @@ public class CachingDirectoryLister
     {
         return cache.stats().requestCount();
     }
+
+    @Managed
+    public long getOutdatedCount()
+    {
+        return outdatedCount.get();
+    }
+
+    @Managed
+    public long getRefreshCount()
+    {
+        return refreshCount.get();
+    }
+
+    private static class CachedListing
+    {
+        private final List<LocatedFileStatus> files;
+        private final Optional<String> version;
+        private final long listedNanos = System.nanoTime();
+
+        public CachedListing(List<LocatedFileStatus> files, Optional<String> version)
+        {
+            this.files = requireNonNull(files, "files is null");
+            this.version = requireNonNull(version, "version is null");
+        }
+
+        public List<LocatedFileStatus> getFiles()
+        {
+            return files;
+        }
+
+        public Optional<String> getVersion()
+        {
+            return version;
+        }
+
+        public long getAgeMillis()
+        {
+            return NANOSECONDS.toMillis(System.nanoTime() - listedNanos);
+        }
+    }
 }
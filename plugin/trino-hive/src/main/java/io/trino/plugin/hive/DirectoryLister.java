@@ -13,6 +13,7 @@
  */
 package io.trino.plugin.hive;
 
+import io.trino.plugin.hive.metastore.Partition;
 import io.trino.plugin.hive.metastore.Table;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.LocatedFileStatus;
@@ -20,9 +21,21 @@ import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.RemoteIterator;
 
 import java.io.IOException;
+import java.util.Optional;
 
 public interface DirectoryLister
 {
     RemoteIterator<LocatedFileStatus> list(FileSystem fs, Table table, Path path)
             throws IOException;
+
+    /**
+     * Lists a directory of the given partition, or of the table when the partition is absent.
+     * The metastore parameters of the partition or table let implementations detect that a
+     * previous listing of the directory is outdated.
+     */
+    default RemoteIterator<LocatedFileStatus> list(FileSystem fs, Table table, Optional<Partition> partition, Path path)
+            throws IOException
+    {
+        return list(fs, table, path);
+    }
 }
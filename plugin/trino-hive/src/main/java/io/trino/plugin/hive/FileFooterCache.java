@@ -0,0 +1,186 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import io.airlift.units.DataSize;
+import io.trino.orc.OrcDataSource;
+import io.trino.orc.OrcFileTail;
+import io.trino.orc.OrcReader;
+import io.trino.orc.OrcReaderOptions;
+import io.trino.parquet.ParquetDataSource;
+import io.trino.parquet.reader.MetadataReader;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.weakref.jmx.Managed;
+
+import javax.inject.Inject;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Worker wide cache of decoded file footers, shared by all ORC and Parquet readers of the
+ * Hive and Iceberg connectors.  A file is identified by its path, length and modification
+ * time, so a rewritten file is never served a stale footer.  The cache is bounded by the
+ * retained size of the cached footers.
+ */
+public class FileFooterCache
+{
+    // rough per column chunk cost of the Parquet metadata objects, excluding statistics values
+    private static final long PARQUET_COLUMN_CHUNK_SIZE = 512;
+    private static final long PARQUET_BLOCK_SIZE = 128;
+
+    private final Cache<FooterKey, Object> cache;
+    private final boolean enabled;
+    private final FileFormatDataSourceStats stats;
+
+    @Inject
+    public FileFooterCache(HiveConfig config, FileFormatDataSourceStats stats)
+    {
+        this(config.getFileFooterCacheMaxSize(), stats);
+    }
+
+    public FileFooterCache(DataSize maxSize, FileFormatDataSourceStats stats)
+    {
+        this.stats = requireNonNull(stats, "stats is null");
+        this.enabled = maxSize.toBytes() > 0;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Weigher<FooterKey, Object>) (key, value) -> (int) min(getRetainedSizeInBytes(value), Integer.MAX_VALUE))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<OrcReader> createOrcReader(OrcDataSource dataSource, OrcReaderOptions options, long modificationTime)
+            throws IOException
+    {
+        if (!enabled) {
+            return OrcReader.createOrcReader(dataSource, options);
+        }
+        FooterKey key = new FooterKey(dataSource.getId().toString(), dataSource.getEstimatedSize(), modificationTime);
+        Object cached = cache.getIfPresent(key);
+        if (cached instanceof OrcFileTail) {
+            stats.footerCacheHit();
+            return Optional.of(OrcReader.createOrcReader(dataSource, options, (OrcFileTail) cached));
+        }
+        stats.footerCacheMiss();
+        Optional<OrcReader> reader = OrcReader.createOrcReader(dataSource, options);
+        reader.ifPresent(orcReader -> cache.put(key, orcReader.getFileTail()));
+        return reader;
+    }
+
+    public ParquetMetadata readParquetFooter(ParquetDataSource dataSource, long modificationTime)
+            throws IOException
+    {
+        if (!enabled) {
+            return MetadataReader.readFooter(dataSource);
+        }
+        FooterKey key = new FooterKey(dataSource.getId().toString(), dataSource.getEstimatedSize(), modificationTime);
+        Object cached = cache.getIfPresent(key);
+        if (cached instanceof ParquetMetadata) {
+            stats.footerCacheHit();
+            return (ParquetMetadata) cached;
+        }
+        stats.footerCacheMiss();
+        ParquetMetadata metadata = MetadataReader.readFooter(dataSource);
+        cache.put(key, metadata);
+        return metadata;
+    }
+
+    @Managed
+    public void flushCache()
+    {
+        cache.invalidateAll();
+    }
+
+    @Managed
+    public long getSize()
+    {
+        return cache.size();
+    }
+
+    private static long getRetainedSizeInBytes(Object footer)
+    {
+        if (footer instanceof OrcFileTail) {
+            return ((OrcFileTail) footer).getRetainedSizeInBytes();
+        }
+        long size = 0;
+        for (BlockMetaData block : ((ParquetMetadata) footer).getBlocks()) {
+            size += PARQUET_BLOCK_SIZE;
+            for (ColumnChunkMetaData column : block.getColumns()) {
+                size += PARQUET_COLUMN_CHUNK_SIZE;
+                Statistics<?> statistics = column.getStatistics();
+                if (statistics != null && statistics.hasNonNullValue()) {
+                    size += statistics.getMinBytes().length + statistics.getMaxBytes().length;
+                }
+            }
+        }
+        return size;
+    }
+
+    private static final class FooterKey
+    {
+        private final String path;
+        private final long length;
+        private final long modificationTime;
+
+        private FooterKey(String path, long length, long modificationTime)
+        {
+            this.path = requireNonNull(path, "path is null");
+            this.length = length;
+            this.modificationTime = modificationTime;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FooterKey other = (FooterKey) o;
+            return length == other.length &&
+                    modificationTime == other.modificationTime &&
+                    path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(path, length, modificationTime);
+        }
+
+        @Override
+        public String toString()
+        {
+            return toStringHelper(this)
+                    .add("path", path)
+                    .add("length", length)
+                    .add("modificationTime", modificationTime)
+                    .toString();
+        }
+    }
+}
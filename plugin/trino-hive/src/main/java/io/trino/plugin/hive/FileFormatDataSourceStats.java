@@ -13,6 +13,7 @@
  */
 package io.trino.plugin.hive;
 
+import io.airlift.stats.CounterStat;
 import io.airlift.stats.DistributionStat;
 import io.airlift.stats.TimeStat;
 import org.weakref.jmx.Managed;
@@ -29,6 +30,8 @@ public class FileFormatDataSourceStats
     private final TimeStat time100KBto1MB = new TimeStat(MILLISECONDS);
     private final TimeStat time1MBto10MB = new TimeStat(MILLISECONDS);
     private final TimeStat time10MBPlus = new TimeStat(MILLISECONDS);
+    private final CounterStat footerCacheHits = new CounterStat();
+    private final CounterStat footerCacheMisses = new CounterStat();
 
     @Managed
     @Nested
@@ -93,4 +96,36 @@ public class FileFormatDataSourceStats
     {
         maxCombinedBytesPerRow.add(bytes);
     }
+
+    @Managed
+    @Nested
+    public CounterStat getFooterCacheHits()
+    {
+        return footerCacheHits;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getFooterCacheMisses()
+    {
+        return footerCacheMisses;
+    }
+
+    @Managed
+    public double getFooterCacheHitRate()
+    {
+        long hits = footerCacheHits.getTotalCount();
+        long total = hits + footerCacheMisses.getTotalCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public void footerCacheHit()
+    {
+        footerCacheHits.update(1);
+    }
+
+    public void footerCacheMiss()
+    {
+        footerCacheMisses.update(1);
+    }
 }
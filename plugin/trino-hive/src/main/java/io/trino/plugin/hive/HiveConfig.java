@@ -23,6 +23,7 @@ import io.airlift.units.DataSize;
 import io.airlift.units.Duration;
 import io.airlift.units.MaxDataSize;
 import io.airlift.units.MinDataSize;
+import io.airlift.units.MinDuration;
 import io.trino.plugin.hive.HiveSessionProperties.InsertExistingPartitionsBehavior;
 import org.joda.time.DateTimeZone;
 
@@ -71,6 +72,7 @@ public class HiveConfig
     private DataSize writerSortBufferSize = DataSize.of(64, MEGABYTE);
     private boolean forceLocalScheduling;
     private boolean recursiveDirWalkerEnabled;
+    private int recursiveDirListingConcurrency = 4;
     private boolean ignoreAbsentPartitions;
 
     private int maxConcurrentFileRenames = 20;
@@ -120,12 +122,17 @@ public class HiveConfig
     private boolean s3SelectPushdownEnabled;
     private int s3SelectPushdownMaxConnections = 500;
 
+    private boolean textNativeReaderEnabled;
+
+    private DataSize fileFooterCacheMaxSize = DataSize.of(128, MEGABYTE);
+
     private boolean isTemporaryStagingDirectoryEnabled = true;
     private String temporaryStagingDirectoryPath = "/tmp/presto-${USER}";
 
     private Duration fileStatusCacheExpireAfterWrite = new Duration(1, MINUTES);
     private long fileStatusCacheMaxSize = 1000 * 1000;
     private List<String> fileStatusCacheTables = ImmutableList.of();
+    private Optional<Duration> fileStatusCacheRefreshInterval = Optional.empty();
     private boolean translateHiveViews;
 
     private Optional<Duration> hiveTransactionHeartbeatInterval = Optional.empty();
@@ -137,6 +144,9 @@ public class HiveConfig
 
     private boolean projectionPushdownEnabled = true;
 
+    private boolean statisticsAggregationPushdownEnabled;
+    private int statisticsAggregationPushdownMaxFiles = 1000;
+
     private Duration dynamicFilteringProbeBlockingTimeout = new Duration(0, MINUTES);
 
     private HiveTimestampPrecision timestampPrecision = HiveTimestampPrecision.DEFAULT_PRECISION;
@@ -291,6 +301,20 @@ public class HiveConfig
         return recursiveDirWalkerEnabled;
     }
 
+    @Min(1)
+    public int getRecursiveDirListingConcurrency()
+    {
+        return recursiveDirListingConcurrency;
+    }
+
+    @Config("hive.recursive-directories.listing-concurrency")
+    @ConfigDescription("Maximum number of nested directories of a partition listed concurrently when hive.recursive-directories is enabled")
+    public HiveConfig setRecursiveDirListingConcurrency(int recursiveDirListingConcurrency)
+    {
+        this.recursiveDirListingConcurrency = recursiveDirListingConcurrency;
+        return this;
+    }
+
     public boolean isIgnoreAbsentPartitions()
     {
         return ignoreAbsentPartitions;
@@ -725,6 +749,20 @@ public class HiveConfig
         return this;
     }
 
+    @NotNull
+    public Optional<@MinDuration("1ms") Duration> getFileStatusCacheRefreshInterval()
+    {
+        return fileStatusCacheRefreshInterval;
+    }
+
+    @Config("hive.file-status-cache-refresh-interval")
+    @ConfigDescription("Age after which a cached directory listing is refreshed in the background while still being served")
+    public HiveConfig setFileStatusCacheRefreshInterval(Duration fileStatusCacheRefreshInterval)
+    {
+        this.fileStatusCacheRefreshInterval = Optional.ofNullable(fileStatusCacheRefreshInterval);
+        return this;
+    }
+
     public boolean isSkipDeletionForAlter()
     {
         return skipDeletionForAlter;
@@ -869,6 +907,33 @@ public class HiveConfig
         return this;
     }
 
+    public boolean isTextNativeReaderEnabled()
+    {
+        return textNativeReaderEnabled;
+    }
+
+    @Config("hive.text.native-reader.enabled")
+    @ConfigDescription("Read TEXTFILE, CSV and JSON tables with the native reader instead of the Hive SerDe")
+    public HiveConfig setTextNativeReaderEnabled(boolean textNativeReaderEnabled)
+    {
+        this.textNativeReaderEnabled = textNativeReaderEnabled;
+        return this;
+    }
+
+    @NotNull
+    public DataSize getFileFooterCacheMaxSize()
+    {
+        return fileFooterCacheMaxSize;
+    }
+
+    @Config("hive.file-footer-cache.max-size")
+    @ConfigDescription("Maximum retained size of the decoded ORC and Parquet file footers cached on each worker")
+    public HiveConfig setFileFooterCacheMaxSize(DataSize fileFooterCacheMaxSize)
+    {
+        this.fileFooterCacheMaxSize = fileFooterCacheMaxSize;
+        return this;
+    }
+
     @Min(1)
     public int getS3SelectPushdownMaxConnections()
     {
@@ -987,6 +1052,33 @@ public class HiveConfig
         return this;
     }
 
+    public boolean isStatisticsAggregationPushdownEnabled()
+    {
+        return statisticsAggregationPushdownEnabled;
+    }
+
+    @Config("hive.statistics-aggregation-pushdown-enabled")
+    @ConfigDescription("Answer COUNT, MIN and MAX aggregations without a row filter from ORC and Parquet file statistics")
+    public HiveConfig setStatisticsAggregationPushdownEnabled(boolean statisticsAggregationPushdownEnabled)
+    {
+        this.statisticsAggregationPushdownEnabled = statisticsAggregationPushdownEnabled;
+        return this;
+    }
+
+    @Min(1)
+    public int getStatisticsAggregationPushdownMaxFiles()
+    {
+        return statisticsAggregationPushdownMaxFiles;
+    }
+
+    @Config("hive.statistics-aggregation-pushdown-max-files")
+    @ConfigDescription("Maximum number of files whose footers are read during planning to answer an aggregation from file statistics")
+    public HiveConfig setStatisticsAggregationPushdownMaxFiles(int statisticsAggregationPushdownMaxFiles)
+    {
+        this.statisticsAggregationPushdownMaxFiles = statisticsAggregationPushdownMaxFiles;
+        return this;
+    }
+
     @NotNull
     public Duration getDynamicFilteringProbeBlockingTimeout()
     {
@@ -43,10 +43,13 @@ import io.trino.plugin.hive.metastore.Partition;
 import io.trino.plugin.hive.metastore.PrincipalPrivileges;
 import io.trino.plugin.hive.metastore.SemiTransactionalHiveMetastore;
 import io.trino.plugin.hive.metastore.SortingColumn;
+import io.trino.plugin.hive.metastore.Storage;
 import io.trino.plugin.hive.metastore.StorageFormat;
 import io.trino.plugin.hive.metastore.Table;
 import io.trino.plugin.hive.security.AccessControlMetadata;
+import io.trino.plugin.hive.statistics.FileStatisticsAggregator;
 import io.trino.plugin.hive.statistics.HiveStatisticsProvider;
+import io.trino.plugin.hive.statistics.StatisticsAggregate;
 import io.trino.plugin.hive.util.HiveBucketing;
 import io.trino.plugin.hive.util.HiveUtil;
 import io.trino.plugin.hive.util.HiveWriteUtils;
@@ -54,6 +57,8 @@ import io.trino.spi.ErrorType;
 import io.trino.spi.StandardErrorCode;
 import io.trino.spi.TrinoException;
 import io.trino.spi.block.Block;
+import io.trino.spi.connector.AggregateFunction;
+import io.trino.spi.connector.AggregationApplicationResult;
 import io.trino.spi.connector.Assignment;
 import io.trino.spi.connector.CatalogSchemaName;
 import io.trino.spi.connector.ColumnHandle;
@@ -82,6 +87,7 @@ import io.trino.spi.connector.SystemTable;
 import io.trino.spi.connector.TableNotFoundException;
 import io.trino.spi.connector.ViewNotFoundException;
 import io.trino.spi.expression.ConnectorExpression;
+import io.trino.spi.expression.Constant;
 import io.trino.spi.expression.Variable;
 import io.trino.spi.predicate.Domain;
 import io.trino.spi.predicate.NullableValue;
@@ -93,6 +99,7 @@ import io.trino.spi.security.TrinoPrincipal;
 import io.trino.spi.statistics.ColumnStatisticMetadata;
 import io.trino.spi.statistics.ColumnStatisticType;
 import io.trino.spi.statistics.ComputedStatistics;
+import io.trino.spi.statistics.Estimate;
 import io.trino.spi.statistics.TableStatisticType;
 import io.trino.spi.statistics.TableStatistics;
 import io.trino.spi.statistics.TableStatisticsMetadata;
@@ -167,6 +174,7 @@ import static io.trino.plugin.hive.HiveErrorCode.HIVE_INVALID_METADATA;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_UNKNOWN_ERROR;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_UNSUPPORTED_FORMAT;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_WRITER_CLOSE_ERROR;
+import static io.trino.plugin.hive.HivePartition.UNPARTITIONED_ID;
 import static io.trino.plugin.hive.HivePartitionManager.extractPartitionValues;
 import static io.trino.plugin.hive.HiveSessionProperties.getCompressionCodec;
 import static io.trino.plugin.hive.HiveSessionProperties.getHiveStorageFormat;
@@ -178,6 +186,7 @@ import static io.trino.plugin.hive.HiveSessionProperties.isOptimizedMismatchedBu
 import static io.trino.plugin.hive.HiveSessionProperties.isProjectionPushdownEnabled;
 import static io.trino.plugin.hive.HiveSessionProperties.isRespectTableFormat;
 import static io.trino.plugin.hive.HiveSessionProperties.isSortedWritingEnabled;
+import static io.trino.plugin.hive.HiveSessionProperties.isStatisticsAggregationPushdownEnabled;
 import static io.trino.plugin.hive.HiveSessionProperties.isStatisticsEnabled;
 import static io.trino.plugin.hive.HiveTableProperties.ANALYZE_COLUMNS_PROPERTY;
 import static io.trino.plugin.hive.HiveTableProperties.AVRO_SCHEMA_URL;
@@ -318,6 +327,7 @@ public class HiveMetadata
     private final boolean hideDeltaLakeTables;
     private final String prestoVersion;
     private final HiveStatisticsProvider hiveStatisticsProvider;
+    private final FileStatisticsAggregator statisticsAggregator;
     private final AccessControlMetadata accessControlMetadata;
 
     public HiveMetadata(
@@ -334,6 +344,7 @@ public class HiveMetadata
             JsonCodec<PartitionUpdate> partitionUpdateCodec,
             String trinoVersion,
             HiveStatisticsProvider hiveStatisticsProvider,
+            FileStatisticsAggregator statisticsAggregator,
             AccessControlMetadata accessControlMetadata)
     {
         this.catalogName = requireNonNull(catalogName, "catalogName is null");
@@ -349,6 +360,7 @@ public class HiveMetadata
         this.hideDeltaLakeTables = hideDeltaLakeTables;
         this.prestoVersion = requireNonNull(trinoVersion, "trinoVersion is null");
         this.hiveStatisticsProvider = requireNonNull(hiveStatisticsProvider, "hiveStatisticsProvider is null");
+        this.statisticsAggregator = requireNonNull(statisticsAggregator, "statisticsAggregator is null");
         this.accessControlMetadata = requireNonNull(accessControlMetadata, "accessControlMetadata is null");
     }
 
@@ -746,6 +758,11 @@ public class HiveMetadata
     @Override
     public TableStatistics getTableStatistics(ConnectorSession session, ConnectorTableHandle tableHandle, Constraint constraint)
     {
+        if (((HiveTableHandle) tableHandle).isAggregatedFromStatistics()) {
+            return TableStatistics.builder()
+                    .setRowCount(Estimate.of(1))
+                    .build();
+        }
         if (!isStatisticsEnabled(session)) {
             return TableStatistics.empty();
         }
@@ -2114,6 +2131,9 @@ public class HiveMetadata
     {
         HiveTableHandle handle = (HiveTableHandle) tableHandle;
         checkArgument(handle.getAnalyzePartitionValues().isEmpty() || constraint.getSummary().isAll(), "Analyze should not have a constraint");
+        if (handle.isAggregatedFromStatistics()) {
+            return Optional.empty();
+        }
 
         HivePartitionResult partitionResult = partitionManager.getPartitions(metastore, new HiveIdentity(session), handle, constraint);
         HiveTableHandle newHandle = partitionManager.applyPartitionResult(handle, partitionResult, constraint.getPredicateColumns());
@@ -2214,6 +2234,107 @@ public class HiveMetadata
         return Optional.of(new ProjectionApplicationResult<>(handle, newProjections, outputAssignments));
     }
 
+    @Override
+    public Optional<AggregationApplicationResult<ConnectorTableHandle>> applyAggregation(
+            ConnectorSession session,
+            ConnectorTableHandle handle,
+            List<AggregateFunction> aggregates,
+            Map<String, ColumnHandle> assignments,
+            List<List<ColumnHandle>> groupingSets)
+    {
+        HiveTableHandle hiveTable = (HiveTableHandle) handle;
+        if (!isStatisticsAggregationPushdownEnabled(session) ||
+                hiveTable.isAggregatedFromStatistics() ||
+                !groupingSets.equals(ImmutableList.of(ImmutableList.of())) ||
+                hiveTable.getAnalyzePartitionValues().isPresent() ||
+                hiveTable.getBucketFilter().isPresent() ||
+                hiveTable.getTransaction().isTransactional()) {
+            return Optional.empty();
+        }
+
+        // only predicates on partition keys are fully answered by the partitions being aggregated
+        Optional<Map<HiveColumnHandle, Domain>> domains = hiveTable.getCompactEffectivePredicate().getDomains();
+        if (domains.isEmpty() || !domains.get().keySet().stream().allMatch(HiveColumnHandle::isPartitionKey)) {
+            return Optional.empty();
+        }
+
+        ImmutableList.Builder<StatisticsAggregate> statisticsAggregates = ImmutableList.builder();
+        for (AggregateFunction aggregate : aggregates) {
+            Optional<StatisticsAggregate> statisticsAggregate = StatisticsAggregate.fromAggregateFunction(aggregate, assignments);
+            if (statisticsAggregate.isEmpty()) {
+                return Optional.empty();
+            }
+            statisticsAggregates.add(statisticsAggregate.get());
+        }
+
+        HiveIdentity identity = new HiveIdentity(session);
+        Table table = metastore.getTable(identity, hiveTable.getSchemaName(), hiveTable.getTableName())
+                .orElseThrow(() -> new TableNotFoundException(hiveTable.getSchemaTableName()));
+        if (isTransactionalTable(table.getParameters())) {
+            return Optional.empty();
+        }
+        Optional<List<Storage>> storages = getPartitionStorages(identity, table, partitionManager.getOrLoadPartitions(metastore, identity, hiveTable));
+        if (storages.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<StatisticsAggregate> results = statisticsAggregates.build();
+        HdfsContext context = new HdfsContext(session, hiveTable.getSchemaName(), hiveTable.getTableName());
+        if (!statisticsAggregator.aggregate(session, context, storages.get(), results)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new AggregationApplicationResult<>(
+                hiveTable.withAggregatedFromStatistics(),
+                results.stream()
+                        .map(result -> new Constant(result.getResult(), result.getType()))
+                        .collect(toImmutableList()),
+                ImmutableList.of(),
+                ImmutableMap.of()));
+    }
+
+    private Optional<List<Storage>> getPartitionStorages(HiveIdentity identity, Table table, List<HivePartition> partitions)
+    {
+        ImmutableList.Builder<Storage> storages = ImmutableList.builder();
+        List<String> partitionNames = new ArrayList<>();
+        for (HivePartition partition : partitions) {
+            if (partition.getPartitionId().equals(UNPARTITIONED_ID)) {
+                storages.add(table.getStorage());
+            }
+            else {
+                partitionNames.add(partition.getPartitionId());
+            }
+        }
+        if (partitionNames.isEmpty()) {
+            return Optional.of(storages.build());
+        }
+
+        Map<String, Optional<Partition>> partitionsByName = metastore.getPartitionsByNames(identity, table.getDatabaseName(), table.getTableName(), partitionNames);
+        for (String partitionName : partitionNames) {
+            Optional<Partition> partition = partitionsByName.getOrDefault(partitionName, Optional.empty());
+            // partitions with a schema different from the table would need coercions the statistics do not reflect
+            if (partition.isEmpty() || !hasSameColumns(partition.get().getColumns(), table.getDataColumns())) {
+                return Optional.empty();
+            }
+            storages.add(partition.get().getStorage());
+        }
+        return Optional.of(storages.build());
+    }
+
+    private static boolean hasSameColumns(List<Column> partitionColumns, List<Column> tableColumns)
+    {
+        if (partitionColumns.size() != tableColumns.size()) {
+            return false;
+        }
+        for (int i = 0; i < partitionColumns.size(); i++) {
+            if (!partitionColumns.get(i).getName().equals(tableColumns.get(i).getName()) ||
+                    !partitionColumns.get(i).getType().equals(tableColumns.get(i).getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private HiveColumnHandle createProjectedColumnHandle(HiveColumnHandle column, List<Integer> indices)
     {
         HiveType oldHiveType = column.getHiveType();
@@ -2340,7 +2461,8 @@ public class HiveMetadata
                 hiveTable.getAnalyzePartitionValues(),
                 hiveTable.getAnalyzeColumnNames(),
                 Optional.empty(),
-                hiveTable.getTransaction());
+                hiveTable.getTransaction(),
+                hiveTable.isAggregatedFromStatistics());
     }
 
     @VisibleForTesting
@@ -21,6 +21,7 @@ import io.trino.plugin.hive.metastore.HiveMetastore;
 import io.trino.plugin.hive.metastore.MetastoreConfig;
 import io.trino.plugin.hive.metastore.SemiTransactionalHiveMetastore;
 import io.trino.plugin.hive.security.AccessControlMetadataFactory;
+import io.trino.plugin.hive.statistics.FileStatisticsAggregator;
 import io.trino.plugin.hive.statistics.MetastoreHiveStatisticsProvider;
 import io.trino.spi.type.TypeManager;
 
@@ -49,6 +50,7 @@ public class HiveMetadataFactory
     private final HiveMetastore metastore;
     private final HdfsEnvironment hdfsEnvironment;
     private final HivePartitionManager partitionManager;
+    private final FileStatisticsAggregator statisticsAggregator;
     private final TypeManager typeManager;
     private final LocationService locationService;
     private final JsonCodec<PartitionUpdate> partitionUpdateCodec;
@@ -69,6 +71,7 @@ public class HiveMetadataFactory
             HiveMetastore metastore,
             HdfsEnvironment hdfsEnvironment,
             HivePartitionManager partitionManager,
+            FileStatisticsAggregator statisticsAggregator,
             ExecutorService executorService,
             @ForHiveTransactionHeartbeats ScheduledExecutorService heartbeatService,
             TypeManager typeManager,
@@ -82,6 +85,7 @@ public class HiveMetadataFactory
                 metastore,
                 hdfsEnvironment,
                 partitionManager,
+                statisticsAggregator,
                 hiveConfig.getMaxConcurrentFileRenames(),
                 hiveConfig.getMaxConcurrentMetastoreDrops(),
                 hiveConfig.getMaxConcurrentMetastoreUpdates(),
@@ -107,6 +111,7 @@ public class HiveMetadataFactory
             HiveMetastore metastore,
             HdfsEnvironment hdfsEnvironment,
             HivePartitionManager partitionManager,
+            FileStatisticsAggregator statisticsAggregator,
             int maxConcurrentFileRenames,
             int maxConcurrentMetastoreDrops,
             int maxConcurrentMetastoreUpdates,
@@ -138,6 +143,7 @@ public class HiveMetadataFactory
         this.metastore = requireNonNull(metastore, "metastore is null");
         this.hdfsEnvironment = requireNonNull(hdfsEnvironment, "hdfsEnvironment is null");
         this.partitionManager = requireNonNull(partitionManager, "partitionManager is null");
+        this.statisticsAggregator = requireNonNull(statisticsAggregator, "statisticsAggregator is null");
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
         this.locationService = requireNonNull(locationService, "locationService is null");
         this.partitionUpdateCodec = requireNonNull(partitionUpdateCodec, "partitionUpdateCodec is null");
@@ -185,6 +191,7 @@ public class HiveMetadataFactory
                 partitionUpdateCodec,
                 trinoVersion,
                 new MetastoreHiveStatisticsProvider(metastore),
+                statisticsAggregator,
                 accessControlMetadataFactory.create(metastore));
     }
 }
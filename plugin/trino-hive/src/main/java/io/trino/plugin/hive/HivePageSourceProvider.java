@@ -30,6 +30,8 @@ import io.trino.plugin.hive.acid.AcidTransaction;
 import io.trino.plugin.hive.orc.OrcFileWriterFactory;
 import io.trino.plugin.hive.orc.OrcPageSource;
 import io.trino.plugin.hive.util.HiveBucketing.BucketingVersion;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
 import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ConnectorPageSource;
 import io.trino.spi.connector.ConnectorPageSourceProvider;
@@ -39,6 +41,7 @@ import io.trino.spi.connector.ConnectorTableHandle;
 import io.trino.spi.connector.ConnectorTransactionHandle;
 import io.trino.spi.connector.DynamicFilter;
 import io.trino.spi.connector.EmptyPageSource;
+import io.trino.spi.connector.FixedPageSource;
 import io.trino.spi.connector.RecordCursor;
 import io.trino.spi.connector.RecordPageSource;
 import io.trino.spi.predicate.TupleDomain;
@@ -77,6 +80,7 @@ import static io.trino.plugin.hive.orc.OrcTypeToHiveTypeTranslator.fromOrcTypeTo
 import static io.trino.plugin.hive.util.HiveBucketing.HiveBucketFilter;
 import static io.trino.plugin.hive.util.HiveBucketing.getHiveBucketFilter;
 import static io.trino.plugin.hive.util.HiveUtil.getPrefilledColumnValue;
+import static io.trino.spi.predicate.Utils.nativeValueToBlock;
 import static java.util.Objects.requireNonNull;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
@@ -136,6 +140,14 @@ public class HivePageSourceProvider
         HiveTableHandle hiveTable = (HiveTableHandle) tableHandle;
         HiveSplit hiveSplit = (HiveSplit) split;
 
+        if (hiveTable.isAggregatedFromStatistics()) {
+            // the aggregation was answered from file statistics during planning, only the row it is projected from is needed
+            Block[] blocks = columns.stream()
+                    .map(column -> nativeValueToBlock(((HiveColumnHandle) column).getType(), null))
+                    .toArray(Block[]::new);
+            return new FixedPageSource(ImmutableList.of(new Page(1, blocks)));
+        }
+
         if (shouldSkipBucket(hiveTable, hiveSplit, dynamicFilter)) {
             return new EmptyPageSource();
         }
@@ -259,6 +271,7 @@ public class HivePageSourceProvider
                     start,
                     length,
                     estimatedFileSize,
+                    fileModifiedTime,
                     schema,
                     desiredColumns,
                     effectivePredicate,
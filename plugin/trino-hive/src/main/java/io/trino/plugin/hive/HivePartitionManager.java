@@ -192,7 +192,8 @@ public class HivePartitionManager
                 handle.getAnalyzePartitionValues(),
                 handle.getAnalyzeColumnNames(),
                 Optionals.combine(handle.getConstraintColumns(), columns, Sets::union),
-                handle.getTransaction());
+                handle.getTransaction(),
+                handle.isAggregatedFromStatistics());
     }
 
     public List<HivePartition> getOrLoadPartitions(SemiTransactionalHiveMetastore metastore, HiveIdentity identity, HiveTableHandle table)
@@ -39,6 +39,7 @@ import static io.trino.spi.session.PropertyMetadata.enumProperty;
 import static io.trino.spi.session.PropertyMetadata.integerProperty;
 import static io.trino.spi.session.PropertyMetadata.stringProperty;
 import static io.trino.spi.type.DoubleType.DOUBLE;
+import static io.trino.spi.type.IntegerType.INTEGER;
 import static io.trino.spi.type.VarcharType.VARCHAR;
 import static java.lang.String.format;
 import static java.util.Locale.ENGLISH;
@@ -57,6 +58,7 @@ public final class HiveSessionProperties
     private static final String ORC_MAX_READ_BLOCK_SIZE = "orc_max_read_block_size";
     private static final String ORC_LAZY_READ_SMALL_RANGES = "orc_lazy_read_small_ranges";
     private static final String ORC_NESTED_LAZY_ENABLED = "orc_nested_lazy_enabled";
+    private static final String ORC_MAX_READ_CONCURRENCY = "orc_max_read_concurrency";
     private static final String ORC_STRING_STATISTICS_LIMIT = "orc_string_statistics_limit";
     private static final String ORC_OPTIMIZED_WRITER_VALIDATE = "orc_optimized_writer_validate";
     private static final String ORC_OPTIMIZED_WRITER_VALIDATE_PERCENTAGE = "orc_optimized_writer_validate_percentage";
@@ -74,6 +76,7 @@ public final class HiveSessionProperties
     private static final String PARQUET_USE_COLUMN_NAME = "parquet_use_column_names";
     private static final String PARQUET_IGNORE_STATISTICS = "parquet_ignore_statistics";
     private static final String PARQUET_MAX_READ_BLOCK_SIZE = "parquet_max_read_block_size";
+    private static final String PARQUET_MAX_READ_CONCURRENCY = "parquet_max_read_concurrency";
     private static final String PARQUET_WRITER_BLOCK_SIZE = "parquet_writer_block_size";
     private static final String PARQUET_WRITER_PAGE_SIZE = "parquet_writer_page_size";
     private static final String MAX_SPLIT_SIZE = "max_split_size";
@@ -86,11 +89,13 @@ public final class HiveSessionProperties
     private static final String COLLECT_COLUMN_STATISTICS_ON_WRITE = "collect_column_statistics_on_write";
     private static final String OPTIMIZE_MISMATCHED_BUCKET_COUNT = "optimize_mismatched_bucket_count";
     private static final String S3_SELECT_PUSHDOWN_ENABLED = "s3_select_pushdown_enabled";
+    private static final String TEXT_NATIVE_READER_ENABLED = "text_native_reader_enabled";
     private static final String TEMPORARY_STAGING_DIRECTORY_ENABLED = "temporary_staging_directory_enabled";
     private static final String TEMPORARY_STAGING_DIRECTORY_PATH = "temporary_staging_directory_path";
     private static final String IGNORE_ABSENT_PARTITIONS = "ignore_absent_partitions";
     private static final String QUERY_PARTITION_FILTER_REQUIRED = "query_partition_filter_required";
     private static final String PROJECTION_PUSHDOWN_ENABLED = "projection_pushdown_enabled";
+    private static final String STATISTICS_AGGREGATION_PUSHDOWN_ENABLED = "statistics_aggregation_pushdown_enabled";
     private static final String TIMESTAMP_PRECISION = "timestamp_precision";
     private static final String PARQUET_OPTIMIZED_WRITER_ENABLED = "experimental_parquet_optimized_writer_enabled";
     private static final String DYNAMIC_FILTERING_PROBE_BLOCKING_TIMEOUT = "dynamic_filtering_probe_blocking_timeout";
@@ -192,6 +197,10 @@ public final class HiveSessionProperties
                         "Experimental: ORC: Lazily read nested data",
                         orcReaderConfig.isNestedLazy(),
                         false),
+                readConcurrencyProperty(
+                        ORC_MAX_READ_CONCURRENCY,
+                        "ORC: Maximum number of concurrent reads of a single file",
+                        orcReaderConfig.getMaxReadConcurrency()),
                 dataSizeProperty(
                         ORC_STRING_STATISTICS_LIMIT,
                         "ORC: Maximum size of string statistics; drop if exceeding",
@@ -292,6 +301,10 @@ public final class HiveSessionProperties
                         "Parquet: Maximum size of a block to read",
                         parquetReaderConfig.getMaxReadBlockSize(),
                         false),
+                readConcurrencyProperty(
+                        PARQUET_MAX_READ_CONCURRENCY,
+                        "Parquet: Maximum number of concurrent reads of a single file",
+                        parquetReaderConfig.getMaxReadConcurrency()),
                 dataSizeProperty(
                         PARQUET_WRITER_BLOCK_SIZE,
                         "Parquet: Writer block size",
@@ -352,6 +365,11 @@ public final class HiveSessionProperties
                         "S3 Select pushdown enabled",
                         hiveConfig.isS3SelectPushdownEnabled(),
                         false),
+                booleanProperty(
+                        TEXT_NATIVE_READER_ENABLED,
+                        "Read TEXTFILE, CSV and JSON tables with the native reader",
+                        hiveConfig.isTextNativeReaderEnabled(),
+                        false),
                 booleanProperty(
                         TEMPORARY_STAGING_DIRECTORY_ENABLED,
                         "Should use temporary staging directory for write operations",
@@ -377,6 +395,11 @@ public final class HiveSessionProperties
                         "Projection push down enabled for hive",
                         hiveConfig.isProjectionPushdownEnabled(),
                         false),
+                booleanProperty(
+                        STATISTICS_AGGREGATION_PUSHDOWN_ENABLED,
+                        "Answer COUNT, MIN and MAX aggregations from ORC and Parquet file statistics",
+                        hiveConfig.isStatisticsAggregationPushdownEnabled(),
+                        false),
                 enumProperty(
                         TIMESTAMP_PRECISION,
                         "Precision for timestamp columns in Hive tables",
@@ -470,6 +493,11 @@ public final class HiveSessionProperties
         return session.getProperty(ORC_NESTED_LAZY_ENABLED, Boolean.class);
     }
 
+    public static int getOrcMaxReadConcurrency(ConnectorSession session)
+    {
+        return session.getProperty(ORC_MAX_READ_CONCURRENCY, Integer.class);
+    }
+
     public static DataSize getOrcStringStatisticsLimit(ConnectorSession session)
     {
         return session.getProperty(ORC_STRING_STATISTICS_LIMIT, DataSize.class);
@@ -575,6 +603,11 @@ public final class HiveSessionProperties
         return session.getProperty(PARQUET_MAX_READ_BLOCK_SIZE, DataSize.class);
     }
 
+    public static int getParquetMaxReadConcurrency(ConnectorSession session)
+    {
+        return session.getProperty(PARQUET_MAX_READ_CONCURRENCY, Integer.class);
+    }
+
     public static DataSize getParquetWriterBlockSize(ConnectorSession session)
     {
         return session.getProperty(PARQUET_WRITER_BLOCK_SIZE, DataSize.class);
@@ -610,6 +643,11 @@ public final class HiveSessionProperties
         return session.getProperty(S3_SELECT_PUSHDOWN_ENABLED, Boolean.class);
     }
 
+    public static boolean isTextNativeReaderEnabled(ConnectorSession session)
+    {
+        return session.getProperty(TEXT_NATIVE_READER_ENABLED, Boolean.class);
+    }
+
     public static boolean isStatisticsEnabled(ConnectorSession session)
     {
         return session.getProperty(STATISTICS_ENABLED, Boolean.class);
@@ -664,6 +702,11 @@ public final class HiveSessionProperties
         return session.getProperty(PROJECTION_PUSHDOWN_ENABLED, Boolean.class);
     }
 
+    public static boolean isStatisticsAggregationPushdownEnabled(ConnectorSession session)
+    {
+        return session.getProperty(STATISTICS_AGGREGATION_PUSHDOWN_ENABLED, Boolean.class);
+    }
+
     public static HiveTimestampPrecision getTimestampPrecision(ConnectorSession session)
     {
         return session.getProperty(TIMESTAMP_PRECISION, HiveTimestampPrecision.class);
@@ -688,4 +731,23 @@ public final class HiveSessionProperties
     {
         return session.getProperty(LEGACY_HIVE_VIEW_TRANSLATION, Boolean.class);
     }
+
+    private static PropertyMetadata<Integer> readConcurrencyProperty(String name, String description, int defaultValue)
+    {
+        return new PropertyMetadata<>(
+                name,
+                description,
+                INTEGER,
+                Integer.class,
+                defaultValue,
+                false,
+                value -> {
+                    int intValue = (int) value;
+                    if (intValue < 1) {
+                        throw new TrinoException(INVALID_SESSION_PROPERTY, format("%s must be at least 1: %s", name, intValue));
+                    }
+                    return intValue;
+                },
+                value -> value);
+    }
 }
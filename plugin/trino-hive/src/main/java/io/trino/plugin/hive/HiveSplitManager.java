@@ -49,6 +49,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Properties;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
@@ -103,6 +105,7 @@ public class HiveSplitManager
     private final int splitLoaderConcurrency;
     private final int maxSplitsPerSecond;
     private final boolean recursiveDfsWalkerEnabled;
+    private final int recursiveDirListingConcurrency;
     private final CounterStat highMemorySplitSourceCounter;
     private final TypeManager typeManager;
 
@@ -134,6 +137,7 @@ public class HiveSplitManager
                 hiveConfig.getSplitLoaderConcurrency(),
                 hiveConfig.getMaxSplitsPerSecond(),
                 hiveConfig.getRecursiveDirWalkerEnabled(),
+                hiveConfig.getRecursiveDirListingConcurrency(),
                 typeManager);
     }
 
@@ -153,6 +157,7 @@ public class HiveSplitManager
             int splitLoaderConcurrency,
             @Nullable Integer maxSplitsPerSecond,
             boolean recursiveDfsWalkerEnabled,
+            int recursiveDirListingConcurrency,
             TypeManager typeManager)
     {
         this.metastoreProvider = requireNonNull(metastoreProvider, "metastore is null");
@@ -171,6 +176,7 @@ public class HiveSplitManager
         this.splitLoaderConcurrency = splitLoaderConcurrency;
         this.maxSplitsPerSecond = firstNonNull(maxSplitsPerSecond, Integer.MAX_VALUE);
         this.recursiveDfsWalkerEnabled = recursiveDfsWalkerEnabled;
+        this.recursiveDirListingConcurrency = recursiveDirListingConcurrency;
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
     }
 
@@ -196,6 +202,30 @@ public class HiveSplitManager
             throw new HiveNotReadableException(tableName, Optional.empty(), tableNotReadable);
         }
 
+        if (hiveTable.isAggregatedFromStatistics()) {
+            // the aggregation was answered from file statistics during planning, a single split produces the row it is projected from
+            return new FixedSplitSource(ImmutableList.of(new HiveSplit(
+                    tableName.getSchemaName(),
+                    tableName.getTableName(),
+                    UNPARTITIONED_ID,
+                    table.getStorage().getLocation(),
+                    0,
+                    0,
+                    0,
+                    0,
+                    new Properties(),
+                    ImmutableList.of(),
+                    ImmutableList.of(),
+                    OptionalInt.empty(),
+                    0,
+                    false,
+                    TableToPartitionMapping.empty(),
+                    Optional.empty(),
+                    Optional.empty(),
+                    false,
+                    Optional.empty())));
+        }
+
         // get partitions
         List<HivePartition> partitions = partitionManager.getOrLoadPartitions(metastore, new HiveIdentity(session), hiveTable);
 
@@ -236,6 +266,7 @@ public class HiveSplitManager
                 executor,
                 concurrency,
                 recursiveDfsWalkerEnabled,
+                recursiveDirListingConcurrency,
                 !hiveTable.getPartitionColumns().isEmpty() && isIgnoreAbsentPartitions(session),
                 isOptimizeSymlinkListing(session),
                 metastore.getValidWriteIds(session, hiveTable)
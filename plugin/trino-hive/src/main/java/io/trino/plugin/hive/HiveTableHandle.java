@@ -53,6 +53,7 @@ public class HiveTableHandle
     private final Optional<Set<String>> analyzeColumnNames;
     private final Optional<Set<ColumnHandle>> constraintColumns;
     private final AcidTransaction transaction;
+    private final boolean aggregatedFromStatistics;
 
     @JsonCreator
     public HiveTableHandle(
@@ -66,7 +67,8 @@ public class HiveTableHandle
             @JsonProperty("bucketFilter") Optional<HiveBucketFilter> bucketFilter,
             @JsonProperty("analyzePartitionValues") Optional<List<List<String>>> analyzePartitionValues,
             @JsonProperty("analyzeColumnNames") Optional<Set<String>> analyzeColumnNames,
-            @JsonProperty("transaction") AcidTransaction transaction)
+            @JsonProperty("transaction") AcidTransaction transaction,
+            @JsonProperty("aggregatedFromStatistics") boolean aggregatedFromStatistics)
     {
         this(
                 schemaName,
@@ -82,7 +84,8 @@ public class HiveTableHandle
                 analyzePartitionValues,
                 analyzeColumnNames,
                 Optional.empty(),
-                transaction);
+                transaction,
+                aggregatedFromStatistics);
     }
 
     public HiveTableHandle(
@@ -107,7 +110,8 @@ public class HiveTableHandle
                 Optional.empty(),
                 Optional.empty(),
                 Optional.empty(),
-                NO_ACID_TRANSACTION);
+                NO_ACID_TRANSACTION,
+                false);
     }
 
     public HiveTableHandle(
@@ -124,7 +128,8 @@ public class HiveTableHandle
             Optional<List<List<String>>> analyzePartitionValues,
             Optional<Set<String>> analyzeColumnNames,
             Optional<Set<ColumnHandle>> constraintColumns,
-            AcidTransaction transaction)
+            AcidTransaction transaction,
+            boolean aggregatedFromStatistics)
     {
         this.schemaName = requireNonNull(schemaName, "schemaName is null");
         this.tableName = requireNonNull(tableName, "tableName is null");
@@ -140,6 +145,7 @@ public class HiveTableHandle
         this.analyzeColumnNames = requireNonNull(analyzeColumnNames, "analyzeColumnNames is null").map(ImmutableSet::copyOf);
         this.constraintColumns = requireNonNull(constraintColumns, "constraintColumns is null");
         this.transaction = requireNonNull(transaction, "transaction is null");
+        this.aggregatedFromStatistics = aggregatedFromStatistics;
     }
 
     public HiveTableHandle withAnalyzePartitionValues(List<List<String>> analyzePartitionValues)
@@ -158,7 +164,8 @@ public class HiveTableHandle
                 Optional.of(analyzePartitionValues),
                 analyzeColumnNames,
                 constraintColumns,
-                transaction);
+                transaction,
+                aggregatedFromStatistics);
     }
 
     public HiveTableHandle withAnalyzeColumnNames(Set<String> analyzeColumnNames)
@@ -177,7 +184,8 @@ public class HiveTableHandle
                 analyzePartitionValues,
                 Optional.of(analyzeColumnNames),
                 constraintColumns,
-                transaction);
+                transaction,
+                aggregatedFromStatistics);
     }
 
     public HiveTableHandle withTransaction(AcidTransaction transaction)
@@ -196,7 +204,28 @@ public class HiveTableHandle
                 analyzePartitionValues,
                 analyzeColumnNames,
                 constraintColumns,
-                transaction);
+                transaction,
+                aggregatedFromStatistics);
+    }
+
+    public HiveTableHandle withAggregatedFromStatistics()
+    {
+        return new HiveTableHandle(
+                schemaName,
+                tableName,
+                tableParameters,
+                partitionColumns,
+                dataColumns,
+                partitions,
+                compactEffectivePredicate,
+                enforcedConstraint,
+                Optional.empty(),
+                Optional.empty(),
+                analyzePartitionValues,
+                analyzeColumnNames,
+                constraintColumns,
+                transaction,
+                true);
     }
 
     @JsonProperty
@@ -286,6 +315,16 @@ public class HiveTableHandle
         return constraintColumns;
     }
 
+    /**
+     * The aggregation over this table was answered from file statistics during planning, so the
+     * table reads as a single row without columns.
+     */
+    @JsonProperty
+    public boolean isAggregatedFromStatistics()
+    {
+        return aggregatedFromStatistics;
+    }
+
     public SchemaTableName getSchemaTableName()
     {
         return new SchemaTableName(schemaName, tableName);
@@ -337,7 +376,8 @@ public class HiveTableHandle
                 Objects.equals(bucketHandle, that.bucketHandle) &&
                 Objects.equals(bucketFilter, that.bucketFilter) &&
                 Objects.equals(analyzePartitionValues, that.analyzePartitionValues) &&
-                Objects.equals(transaction, that.transaction);
+                Objects.equals(transaction, that.transaction) &&
+                aggregatedFromStatistics == that.aggregatedFromStatistics;
     }
 
     @Override
@@ -354,7 +394,8 @@ public class HiveTableHandle
                 bucketHandle,
                 bucketFilter,
                 analyzePartitionValues,
-                transaction);
+                transaction,
+                aggregatedFromStatistics);
     }
 
     @Override
@@ -364,6 +405,9 @@ public class HiveTableHandle
         builder.append(schemaName).append(":").append(tableName);
         bucketHandle.ifPresent(bucket ->
                 builder.append(" bucket=").append(bucket.getReadBucketCount()));
+        if (aggregatedFromStatistics) {
+            builder.append(" aggregatedFromStatistics");
+        }
         return builder.toString();
     }
 }
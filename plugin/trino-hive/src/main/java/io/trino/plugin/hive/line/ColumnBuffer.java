@@ -0,0 +1,137 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.line;
+
+import io.airlift.slice.DynamicSliceOutput;
+import io.airlift.slice.Slice;
+import io.airlift.slice.Slices;
+import io.trino.rcfile.ColumnData;
+import io.trino.rcfile.ColumnEncoding;
+import io.trino.rcfile.RcFileCorruptionException;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.VariableWidthBlock;
+import org.openjdk.jol.info.ClassLayout;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static io.airlift.slice.SizeOf.sizeOf;
+
+/**
+ * Accumulates the raw bytes of one column for a batch of lines, so the whole batch
+ * can be decoded with a single vectorized {@link ColumnEncoding#decodeColumn} call.
+ */
+final class ColumnBuffer
+{
+    private static final int INSTANCE_SIZE = ClassLayout.parseClass(ColumnBuffer.class).instanceSize();
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final DynamicSliceOutput data = new DynamicSliceOutput(64 * 1024);
+    private int[] offsets = new int[INITIAL_CAPACITY + 1];
+    private boolean[] nulls = new boolean[INITIAL_CAPACITY];
+    private boolean hasNull;
+    private int positionCount;
+
+    public int getPositionCount()
+    {
+        return positionCount;
+    }
+
+    public long getDataSize()
+    {
+        return data.size();
+    }
+
+    public void append(byte[] bytes, int offset, int length)
+    {
+        ensureCapacity();
+        data.writeBytes(bytes, offset, length);
+        positionCount++;
+        offsets[positionCount] = data.size();
+    }
+
+    public void append(Slice slice)
+    {
+        ensureCapacity();
+        data.writeBytes(slice);
+        positionCount++;
+        offsets[positionCount] = data.size();
+    }
+
+    /**
+     * Appends a null that is tracked outside of the data, which is only honored by {@link #toVariableWidthBlock()}.
+     */
+    public void appendNull()
+    {
+        ensureCapacity();
+        nulls[positionCount] = true;
+        hasNull = true;
+        positionCount++;
+        offsets[positionCount] = data.size();
+    }
+
+    /**
+     * Decodes the buffered values with the encoding, and resets the buffer.
+     */
+    public Block decode(ColumnEncoding encoding)
+            throws RcFileCorruptionException
+    {
+        Slice slice = data.slice();
+        if (encoding.isColumnDataRetained()) {
+            // the buffer is reused for the next batch
+            slice = Slices.copyOf(slice);
+        }
+        Block block = encoding.decodeColumn(new ColumnData(Arrays.copyOf(offsets, positionCount + 1), slice));
+        reset();
+        return block;
+    }
+
+    /**
+     * Returns the buffered values as a varchar compatible block, and resets the buffer.
+     */
+    public Block toVariableWidthBlock()
+    {
+        Block block = new VariableWidthBlock(
+                positionCount,
+                Slices.copyOf(data.slice()),
+                Arrays.copyOf(offsets, positionCount + 1),
+                hasNull ? Optional.of(Arrays.copyOf(nulls, positionCount)) : Optional.empty());
+        reset();
+        return block;
+    }
+
+    public long getRetainedSizeInBytes()
+    {
+        return INSTANCE_SIZE + data.getRetainedSize() + sizeOf(offsets) + sizeOf(nulls);
+    }
+
+    private void reset()
+    {
+        data.reset();
+        if (hasNull) {
+            Arrays.fill(nulls, 0, positionCount, false);
+            hasNull = false;
+        }
+        positionCount = 0;
+    }
+
+    private void ensureCapacity()
+    {
+        if (positionCount == nulls.length) {
+            int newCapacity = nulls.length * 2;
+            offsets = Arrays.copyOf(offsets, newCapacity + 1);
+            nulls = Arrays.copyOf(nulls, newCapacity);
+        }
+    }
+}
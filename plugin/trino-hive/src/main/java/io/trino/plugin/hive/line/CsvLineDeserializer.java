@@ -0,0 +1,172 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.line;
+
+import io.trino.plugin.hive.HiveColumnHandle;
+import io.trino.spi.block.Block;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.airlift.slice.SizeOf.sizeOf;
+
+/**
+ * Deserializes lines in the format of the Hive {@code OpenCSVSerde}, following the parsing rules of the
+ * opencsv {@code CSVParser} it is built on. All columns are unbounded varchar, fields missing at the end
+ * of the line are null, and a field with an unterminated quote is dropped like the SerDe does when the
+ * quoted value does not end on the same line.
+ */
+public class CsvLineDeserializer
+        implements LineDeserializer
+{
+    private final byte separator;
+    private final byte quote;
+    private final byte escape;
+
+    private final ColumnBuffer[] buffers;
+    // buffer of each Hive column index, or null when the column is not projected
+    private final ColumnBuffer[] fieldBuffers;
+
+    private byte[] value = new byte[1024];
+    private int valueLength;
+
+    public CsvLineDeserializer(List<HiveColumnHandle> columns, byte separator, byte quote, byte escape)
+    {
+        checkArgument(separator != quote && separator != escape && quote != escape, "The separator, quote, and escape characters must be different");
+        this.separator = separator;
+        this.quote = quote;
+        this.escape = escape;
+
+        int maxColumnIndex = -1;
+        for (HiveColumnHandle column : columns) {
+            checkArgument(column.isBaseColumn(), "Column is not a base column: %s", column);
+            maxColumnIndex = Math.max(maxColumnIndex, column.getBaseHiveColumnIndex());
+        }
+        this.fieldBuffers = new ColumnBuffer[maxColumnIndex + 1];
+        this.buffers = new ColumnBuffer[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            HiveColumnHandle column = columns.get(i);
+            checkArgument(fieldBuffers[column.getBaseHiveColumnIndex()] == null, "Column is projected more than once: %s", column);
+            buffers[i] = new ColumnBuffer();
+            fieldBuffers[column.getBaseHiveColumnIndex()] = buffers[i];
+        }
+    }
+
+    @Override
+    public void deserialize(byte[] bytes, int offset, int length)
+    {
+        int end = offset + length;
+        int field = 0;
+        boolean inQuotes = false;
+        boolean inField = false;
+        valueLength = 0;
+        for (int position = offset; position < end; position++) {
+            byte current = bytes[position];
+            if (current == escape) {
+                if ((inQuotes || inField) && position + 1 < end && (bytes[position + 1] == quote || bytes[position + 1] == escape)) {
+                    appendValue(bytes[position + 1]);
+                    position++;
+                }
+            }
+            else if (current == quote) {
+                if ((inQuotes || inField) && position + 1 < end && bytes[position + 1] == quote) {
+                    appendValue(quote);
+                    position++;
+                }
+                else {
+                    // a quote in the middle of a field, like a,bc"d"ef,g
+                    if (position - offset > 2 && bytes[position - 1] != separator && position + 1 < end && bytes[position + 1] != separator) {
+                        if (valueLength > 0 && isAllWhitespace(value, valueLength)) {
+                            valueLength = 0;
+                        }
+                        else {
+                            appendValue(current);
+                        }
+                    }
+                    inQuotes = !inQuotes;
+                }
+                inField = !inField;
+            }
+            else if (current == separator && !inQuotes) {
+                endField(field);
+                field++;
+                inField = false;
+            }
+            else {
+                appendValue(current);
+                inField = true;
+            }
+        }
+        if (!inQuotes) {
+            endField(field);
+            field++;
+        }
+
+        // fields missing at the end of the line are null
+        for (; field < fieldBuffers.length; field++) {
+            ColumnBuffer buffer = fieldBuffers[field];
+            if (buffer != null) {
+                buffer.appendNull();
+            }
+        }
+    }
+
+    @Override
+    public Block[] build()
+    {
+        Block[] blocks = new Block[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            blocks[i] = buffers[i].toVariableWidthBlock();
+        }
+        return blocks;
+    }
+
+    @Override
+    public long getRetainedSizeInBytes()
+    {
+        long size = sizeOf(value);
+        for (ColumnBuffer buffer : buffers) {
+            size += buffer.getRetainedSizeInBytes();
+        }
+        return size;
+    }
+
+    private void endField(int field)
+    {
+        if (field < fieldBuffers.length && fieldBuffers[field] != null) {
+            fieldBuffers[field].append(value, 0, valueLength);
+        }
+        valueLength = 0;
+    }
+
+    private void appendValue(byte current)
+    {
+        if (valueLength == value.length) {
+            value = Arrays.copyOf(value, value.length * 2);
+        }
+        value[valueLength] = current;
+        valueLength++;
+    }
+
+    private static boolean isAllWhitespace(byte[] bytes, int length)
+    {
+        for (int i = 0; i < length; i++) {
+            if (!Character.isWhitespace(bytes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.line;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.common.collect.ImmutableMap;
+import io.airlift.slice.Slice;
+import io.airlift.slice.Slices;
+import io.trino.plugin.hive.HiveColumnHandle;
+import io.trino.rcfile.ColumnEncoding;
+import io.trino.rcfile.RcFileCorruptionException;
+import io.trino.rcfile.text.TextRcFileEncoding;
+import io.trino.spi.TrinoException;
+import io.trino.spi.block.Block;
+import io.trino.spi.type.BooleanType;
+import io.trino.spi.type.CharType;
+import io.trino.spi.type.DateType;
+import io.trino.spi.type.DecimalType;
+import io.trino.spi.type.DoubleType;
+import io.trino.spi.type.RealType;
+import io.trino.spi.type.TimestampType;
+import io.trino.spi.type.Type;
+import io.trino.spi.type.VarcharType;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.plugin.hive.HiveErrorCode.HIVE_BAD_DATA;
+import static io.trino.rcfile.text.TextRcFileEncoding.DEFAULT_SEPARATORS;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.SmallintType.SMALLINT;
+import static io.trino.spi.type.TinyintType.TINYINT;
+import static java.util.Locale.ENGLISH;
+
+/**
+ * Deserializes lines in the format of the Hive {@code JsonSerDe}: each line is a JSON object whose keys
+ * are matched case insensitively to the column names. The scalar values are buffered as text and decoded
+ * with the RCFile text encodings. Keys of columns that are not projected are skipped without being parsed.
+ */
+public class JsonLineDeserializer
+        implements LineDeserializer
+{
+    // JSON text is valid UTF-8, so this byte never occurs in a value
+    private static final Slice NULL_SEQUENCE = Slices.wrappedBuffer((byte) 0xFF);
+    private static final TextRcFileEncoding TEXT_ENCODING = new TextRcFileEncoding(NULL_SEQUENCE, DEFAULT_SEPARATORS, null, false);
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final Map<String, Integer> columnIndexes;
+    private final ColumnEncoding[] encodings;
+    private final ColumnBuffer[] buffers;
+    private final Slice[] values;
+
+    public JsonLineDeserializer(List<HiveColumnHandle> columns)
+    {
+        ImmutableMap.Builder<String, Integer> columnIndexes = ImmutableMap.builder();
+        this.encodings = new ColumnEncoding[columns.size()];
+        this.buffers = new ColumnBuffer[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            HiveColumnHandle column = columns.get(i);
+            checkArgument(column.isBaseColumn(), "Column is not a base column: %s", column);
+            checkArgument(isSupportedType(column.getType()), "Unsupported column type: %s", column.getType());
+            columnIndexes.put(column.getBaseColumnName().toLowerCase(ENGLISH), i);
+            encodings[i] = TEXT_ENCODING.getEncoding(column.getType());
+            buffers[i] = new ColumnBuffer();
+        }
+        this.columnIndexes = columnIndexes.build();
+        this.values = new Slice[columns.size()];
+    }
+
+    public static boolean isSupportedType(Type type)
+    {
+        return type instanceof BooleanType ||
+                type.equals(TINYINT) ||
+                type.equals(SMALLINT) ||
+                type.equals(INTEGER) ||
+                type.equals(BIGINT) ||
+                type instanceof RealType ||
+                type instanceof DoubleType ||
+                type instanceof DecimalType ||
+                type instanceof VarcharType ||
+                type instanceof CharType ||
+                type instanceof DateType ||
+                type instanceof TimestampType;
+    }
+
+    @Override
+    public void deserialize(byte[] bytes, int offset, int length)
+            throws IOException
+    {
+        Arrays.fill(values, null);
+        try (JsonParser parser = jsonFactory.createParser(bytes, offset, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new TrinoException(HIVE_BAD_DATA, "Start token not found where expected in JSON line");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Integer column = columnIndexes.get(parser.getCurrentName().toLowerCase(ENGLISH));
+                JsonToken token = parser.nextToken();
+                if (column == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    throw new TrinoException(HIVE_BAD_DATA, "Unexpected nested value in JSON line for primitive column: " + parser.getCurrentName());
+                }
+                // the last value of a duplicate key wins
+                values[column] = token == JsonToken.VALUE_NULL ? NULL_SEQUENCE : Slices.utf8Slice(parser.getText());
+            }
+        }
+        catch (JsonProcessingException e) {
+            throw new TrinoException(HIVE_BAD_DATA, "Invalid JSON line: " + e.getOriginalMessage(), e);
+        }
+
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i].append(values[i] == null ? NULL_SEQUENCE : values[i]);
+        }
+    }
+
+    @Override
+    public Block[] build()
+            throws RcFileCorruptionException
+    {
+        Block[] blocks = new Block[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            blocks[i] = buffers[i].decode(encodings[i]);
+        }
+        return blocks;
+    }
+
+    @Override
+    public long getRetainedSizeInBytes()
+    {
+        long size = 0;
+        for (ColumnBuffer buffer : buffers) {
+            size += buffer.getRetainedSizeInBytes();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.line;
+
+import io.trino.rcfile.RcFileCorruptionException;
+import io.trino.spi.block.Block;
+
+import java.io.IOException;
+
+/**
+ * Splits lines of a text file into fields, and decodes the buffered fields of a batch of lines into blocks.
+ */
+public interface LineDeserializer
+{
+    /**
+     * Buffers the fields of the line in {@code bytes[offset, offset + length)}.
+     */
+    void deserialize(byte[] bytes, int offset, int length)
+            throws IOException;
+
+    /**
+     * Returns the blocks of the lines buffered since the last call, in the order of the projected columns.
+     */
+    Block[] build()
+            throws RcFileCorruptionException;
+
+    long getRetainedSizeInBytes();
+}
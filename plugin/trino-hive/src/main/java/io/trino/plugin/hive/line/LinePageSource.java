@@ -0,0 +1,170 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.line;
+
+import com.google.common.io.CountingInputStream;
+import io.trino.plugin.hive.HiveColumnHandle;
+import io.trino.rcfile.RcFileCorruptionException;
+import io.trino.spi.Page;
+import io.trino.spi.TrinoException;
+import io.trino.spi.block.Block;
+import io.trino.spi.connector.ConnectorPageSource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static io.trino.plugin.hive.HiveErrorCode.HIVE_BAD_DATA;
+import static io.trino.plugin.hive.HiveErrorCode.HIVE_CURSOR_ERROR;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads a split of a line based text file in batches of lines, decoding each column of a
+ * batch in one pass instead of deserializing the file row by row through a Hive SerDe.
+ */
+public class LinePageSource
+        implements ConnectorPageSource
+{
+    private static final int MAX_BATCH_SIZE = 8 * 1024;
+    private static final long MAX_BATCH_BYTES = 8 * 1024 * 1024;
+
+    private final String id;
+    private final LineReader lineReader;
+    private final LineDeserializer deserializer;
+    private final CountingInputStream countingInput;
+    private final List<HiveColumnHandle> columns;
+    private int headerLinesToSkip;
+
+    private long readTimeNanos;
+    private boolean closed;
+
+    /**
+     * @param countingInput the raw file stream, before decompression, used to report the completed bytes
+     * @param headerCount the number of header lines to skip, when the split starts at the beginning of the file
+     */
+    public LinePageSource(String id, LineReader lineReader, LineDeserializer deserializer, CountingInputStream countingInput, List<HiveColumnHandle> columns, int headerCount)
+    {
+        this.id = requireNonNull(id, "id is null");
+        this.lineReader = requireNonNull(lineReader, "lineReader is null");
+        this.deserializer = requireNonNull(deserializer, "deserializer is null");
+        this.countingInput = requireNonNull(countingInput, "countingInput is null");
+        this.columns = requireNonNull(columns, "columns is null");
+        this.headerLinesToSkip = headerCount;
+    }
+
+    @Override
+    public long getCompletedBytes()
+    {
+        return countingInput.getCount();
+    }
+
+    @Override
+    public long getReadTimeNanos()
+    {
+        return readTimeNanos;
+    }
+
+    @Override
+    public boolean isFinished()
+    {
+        return closed;
+    }
+
+    @Override
+    public Page getNextPage()
+    {
+        long start = System.nanoTime();
+        try {
+            while (headerLinesToSkip > 0) {
+                headerLinesToSkip--;
+                if (!lineReader.readLine()) {
+                    close();
+                    return null;
+                }
+            }
+
+            int positionCount = 0;
+            long batchBytes = 0;
+            while (positionCount < MAX_BATCH_SIZE && batchBytes < MAX_BATCH_BYTES && lineReader.readLine()) {
+                deserializer.deserialize(lineReader.getBuffer(), lineReader.getLineOffset(), lineReader.getLineLength());
+                batchBytes += lineReader.getLineLength();
+                positionCount++;
+            }
+
+            if (positionCount == 0) {
+                close();
+                return null;
+            }
+
+            Block[] blocks = deserializer.build();
+            return new Page(positionCount, blocks);
+        }
+        catch (TrinoException e) {
+            closeWithSuppression(e);
+            throw e;
+        }
+        catch (RcFileCorruptionException e) {
+            closeWithSuppression(e);
+            throw new TrinoException(HIVE_BAD_DATA, format("Corrupted text file: %s", id), e);
+        }
+        catch (IOException | RuntimeException e) {
+            closeWithSuppression(e);
+            throw new TrinoException(HIVE_CURSOR_ERROR, format("Failed to read text file: %s", id), e);
+        }
+        finally {
+            readTimeNanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        lineReader.close();
+    }
+
+    @Override
+    public String toString()
+    {
+        return toStringHelper(this)
+                .add("id", id)
+                .add("columns", columns)
+                .toString();
+    }
+
+    @Override
+    public long getSystemMemoryUsage()
+    {
+        return lineReader.getRetainedSizeInBytes() + deserializer.getRetainedSizeInBytes();
+    }
+
+    private void closeWithSuppression(Throwable throwable)
+    {
+        requireNonNull(throwable, "throwable is null");
+        try {
+            close();
+        }
+        catch (Exception e) {
+            if (e != throwable) {
+                throwable.addSuppressed(e);
+            }
+        }
+    }
+}
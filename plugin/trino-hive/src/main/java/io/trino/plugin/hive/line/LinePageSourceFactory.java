@@ -0,0 +1,275 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.line;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.CountingInputStream;
+import io.trino.plugin.hive.AcidInfo;
+import io.trino.plugin.hive.HdfsEnvironment;
+import io.trino.plugin.hive.HiveColumnHandle;
+import io.trino.plugin.hive.HivePageSourceFactory;
+import io.trino.plugin.hive.ReaderColumns;
+import io.trino.plugin.hive.ReaderPageSource;
+import io.trino.plugin.hive.acid.AcidTransaction;
+import io.trino.rcfile.text.TextRcFileEncoding;
+import io.trino.spi.TrinoException;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.connector.EmptyPageSource;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.type.Type;
+import io.trino.spi.type.VarcharType;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hdfs.BlockMissingException;
+import org.apache.hadoop.hive.serde2.OpenCSVSerde;
+import org.apache.hadoop.hive.serde2.lazy.LazySimpleSerDe;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.apache.hadoop.io.compress.SplittableCompressionCodec;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.TextInputFormat;
+import org.apache.hive.hcatalog.data.JsonSerDe;
+
+import javax.inject.Inject;
+
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Properties;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Strings.nullToEmpty;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.trino.plugin.hive.HiveErrorCode.HIVE_CANNOT_OPEN_SPLIT;
+import static io.trino.plugin.hive.HiveErrorCode.HIVE_MISSING_DATA;
+import static io.trino.plugin.hive.HivePageSourceProvider.projectBaseColumns;
+import static io.trino.plugin.hive.HiveSessionProperties.isS3SelectPushdownEnabled;
+import static io.trino.plugin.hive.HiveSessionProperties.isTextNativeReaderEnabled;
+import static io.trino.plugin.hive.ReaderPageSource.noProjectionAdaptation;
+import static io.trino.plugin.hive.rcfile.RcFilePageSourceFactory.createTextVectorEncoding;
+import static io.trino.plugin.hive.util.ConfigurationUtils.toJobConf;
+import static io.trino.plugin.hive.util.HiveUtil.configureCompressionCodecs;
+import static io.trino.plugin.hive.util.HiveUtil.getDeserializerClassName;
+import static io.trino.plugin.hive.util.HiveUtil.getFooterCount;
+import static io.trino.plugin.hive.util.HiveUtil.getHeaderCount;
+import static io.trino.plugin.hive.util.HiveUtil.getInputFormatName;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.apache.hadoop.hive.serde.serdeConstants.LIST_COLUMNS;
+import static org.apache.hadoop.hive.serde.serdeConstants.SERIALIZATION_ENCODING;
+
+/**
+ * Creates page sources for the line based text formats of {@code TextInputFormat}, namely the
+ * {@code LazySimpleSerDe}, {@code OpenCSVSerde} and {@code JsonSerDe} formats. Files that use a feature
+ * this reader does not implement are left to the SerDe based record cursor.
+ */
+public class LinePageSourceFactory
+        implements HivePageSourceFactory
+{
+    private static final String TEXT_RECORD_DELIMITER = "textinputformat.record.delimiter";
+    private static final Set<String> SUPPORTED_SERDES = ImmutableSet.of(
+            LazySimpleSerDe.class.getName(),
+            OpenCSVSerde.class.getName(),
+            JsonSerDe.class.getName());
+
+    private final HdfsEnvironment hdfsEnvironment;
+
+    @Inject
+    public LinePageSourceFactory(HdfsEnvironment hdfsEnvironment)
+    {
+        this.hdfsEnvironment = requireNonNull(hdfsEnvironment, "hdfsEnvironment is null");
+    }
+
+    @Override
+    public Optional<ReaderPageSource> createPageSource(
+            Configuration configuration,
+            ConnectorSession session,
+            Path path,
+            long start,
+            long length,
+            long estimatedFileSize,
+            long fileModifiedTime,
+            Properties schema,
+            List<HiveColumnHandle> columns,
+            TupleDomain<HiveColumnHandle> effectivePredicate,
+            Optional<AcidInfo> acidInfo,
+            OptionalInt bucketNumber,
+            boolean originalFile,
+            AcidTransaction transaction)
+    {
+        if (!isTextNativeReaderEnabled(session) ||
+                // S3 Select pushdown is implemented by a record cursor
+                isS3SelectPushdownEnabled(session) ||
+                !getInputFormatName(schema).equals(TextInputFormat.class.getName()) ||
+                !SUPPORTED_SERDES.contains(getDeserializerClassName(schema)) ||
+                getFooterCount(schema) > 0 ||
+                schema.getProperty(TEXT_RECORD_DELIMITER) != null ||
+                !UTF_8.name().equalsIgnoreCase(schema.getProperty(SERIALIZATION_ENCODING, UTF_8.name()))) {
+            return Optional.empty();
+        }
+
+        checkArgument(acidInfo.isEmpty(), "Acid is not supported");
+
+        List<HiveColumnHandle> projectedReaderColumns = columns;
+        Optional<ReaderColumns> readerProjections = projectBaseColumns(columns);
+        if (readerProjections.isPresent()) {
+            projectedReaderColumns = readerProjections.get().get().stream()
+                    .map(HiveColumnHandle.class::cast)
+                    .collect(toImmutableList());
+        }
+
+        Optional<LineDeserializer> deserializer = createDeserializer(schema, projectedReaderColumns);
+        if (deserializer.isEmpty()) {
+            return Optional.empty();
+        }
+
+        JobConf jobConf = toJobConf(configuration);
+        configureCompressionCodecs(jobConf);
+        CompressionCodec codec = new CompressionCodecFactory(jobConf).getCodec(path);
+        if (codec instanceof SplittableCompressionCodec) {
+            // splits of these files start at compressed block boundaries, which the line reader does not track
+            return Optional.empty();
+        }
+
+        if (length <= 0) {
+            return Optional.of(noProjectionAdaptation(new EmptyPageSource()));
+        }
+
+        FSDataInputStream inputStream;
+        try {
+            FileSystem fileSystem = hdfsEnvironment.getFileSystem(session.getUser(), path, configuration);
+            inputStream = hdfsEnvironment.doAs(session.getUser(), () -> fileSystem.open(path));
+        }
+        catch (Exception e) {
+            if (nullToEmpty(e.getMessage()).trim().equals("Filesystem closed") ||
+                    e instanceof FileNotFoundException) {
+                throw new TrinoException(HIVE_CANNOT_OPEN_SPLIT, e);
+            }
+            throw new TrinoException(HIVE_CANNOT_OPEN_SPLIT, splitError(e, path, start, length), e);
+        }
+
+        try {
+            LineReader lineReader;
+            CountingInputStream countingInput;
+            if (codec == null) {
+                inputStream.seek(start);
+                countingInput = new CountingInputStream(inputStream);
+                lineReader = new LineReader(path.toString(), countingInput, start, start + length);
+            }
+            else {
+                // a compressed file is not splittable, so it is always read as a whole
+                checkArgument(start == 0, "Compressed text file split does not start at the beginning of the file: %s", path);
+                countingInput = new CountingInputStream(inputStream);
+                InputStream decompressedInput = codec.createInputStream(countingInput);
+                lineReader = new LineReader(path.toString(), decompressedInput, 0, Long.MAX_VALUE);
+            }
+
+            int headerCount = start == 0 ? getHeaderCount(schema) : 0;
+            ConnectorPageSource pageSource = new LinePageSource(path.toString(), lineReader, deserializer.get(), countingInput, projectedReaderColumns, headerCount);
+            return Optional.of(new ReaderPageSource(pageSource, readerProjections));
+        }
+        catch (Throwable e) {
+            try {
+                inputStream.close();
+            }
+            catch (Exception ignored) {
+            }
+            if (e instanceof TrinoException) {
+                throw (TrinoException) e;
+            }
+            String message = splitError(e, path, start, length);
+            if (e instanceof BlockMissingException) {
+                throw new TrinoException(HIVE_MISSING_DATA, message, e);
+            }
+            throw new TrinoException(HIVE_CANNOT_OPEN_SPLIT, message, e);
+        }
+    }
+
+    private static Optional<LineDeserializer> createDeserializer(Properties schema, List<HiveColumnHandle> columns)
+    {
+        String deserializerClassName = getDeserializerClassName(schema);
+        if (deserializerClassName.equals(LazySimpleSerDe.class.getName())) {
+            TextRcFileEncoding encoding = createTextVectorEncoding(schema);
+            for (HiveColumnHandle column : columns) {
+                try {
+                    encoding.getEncoding(column.getType());
+                }
+                catch (TrinoException e) {
+                    return Optional.empty();
+                }
+            }
+            String columnNames = schema.getProperty(LIST_COLUMNS, "");
+            int tableColumnCount = columnNames.isEmpty() ? 0 : Splitter.on(',').splitToList(columnNames).size();
+            return Optional.of(new TextLineDeserializer(columns, tableColumnCount, encoding));
+        }
+        if (deserializerClassName.equals(OpenCSVSerde.class.getName())) {
+            for (HiveColumnHandle column : columns) {
+                Type type = column.getType();
+                if (!(type instanceof VarcharType) || !((VarcharType) type).isUnbounded()) {
+                    return Optional.empty();
+                }
+            }
+            Optional<Byte> separator = getCsvByte(schema, OpenCSVSerde.SEPARATORCHAR, ',');
+            Optional<Byte> quote = getCsvByte(schema, OpenCSVSerde.QUOTECHAR, '"');
+            Optional<Byte> escape = getCsvByte(schema, OpenCSVSerde.ESCAPECHAR, '"');
+            if (separator.isEmpty() || quote.isEmpty() || escape.isEmpty()) {
+                return Optional.empty();
+            }
+            if (separator.get().equals(quote.get()) || separator.get().equals(escape.get()) || quote.get().equals(escape.get())) {
+                // the SerDe rejects these, so leave it to the SerDe to report
+                return Optional.empty();
+            }
+            return Optional.of(new CsvLineDeserializer(columns, separator.get(), quote.get(), escape.get()));
+        }
+        if (deserializerClassName.equals(JsonSerDe.class.getName())) {
+            for (HiveColumnHandle column : columns) {
+                if (!JsonLineDeserializer.isSupportedType(column.getType())) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(new JsonLineDeserializer(columns));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the CSV character of the property, or empty when it is not a single byte in UTF-8.
+     */
+    private static Optional<Byte> getCsvByte(Properties schema, String key, char defaultValue)
+    {
+        String value = schema.getProperty(key);
+        char character = (value == null || value.isEmpty()) ? defaultValue : value.charAt(0);
+        // the SerDe replaces the default escape character of the writer with the default of the parser
+        if (key.equals(OpenCSVSerde.ESCAPECHAR) && character == '"') {
+            character = '\\';
+        }
+        if (character >= 0x80) {
+            return Optional.empty();
+        }
+        return Optional.of((byte) character);
+    }
+
+    private static String splitError(Throwable t, Path path, long start, long length)
+    {
+        return format("Error opening Hive split %s (offset=%s, length=%s): %s", path, start, length, t.getMessage());
+    }
+}
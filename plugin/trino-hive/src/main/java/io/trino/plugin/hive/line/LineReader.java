@@ -0,0 +1,220 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.line;
+
+import io.trino.spi.TrinoException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import static io.airlift.slice.SizeOf.sizeOf;
+import static io.trino.plugin.hive.HiveErrorCode.HIVE_BAD_DATA;
+import static java.lang.Math.min;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Splits a text file into lines terminated by {@code \n}, {@code \r} or {@code \r\n}, following the
+ * split semantics of the Hadoop {@code LineRecordReader}: a split that does not start at the beginning
+ * of the file skips its first (partial) line, and reads every line that starts at or before the end
+ * of the split.
+ */
+public final class LineReader
+        implements Closeable
+{
+    private static final VarHandle LONG_HANDLE = MethodHandles.byteArrayViewVarHandle(long[].class, LITTLE_ENDIAN);
+    private static final long NEWLINES = 0x0A0A0A0A_0A0A0A0AL;
+    private static final long CARRIAGE_RETURNS = 0x0D0D0D0D_0D0D0D0DL;
+    private static final long LOW_BITS = 0x01010101_01010101L;
+    private static final long HIGH_BITS = 0x80808080_80808080L;
+
+    private static final int INITIAL_BUFFER_SIZE = 1024 * 1024;
+    private static final int MAX_LINE_LENGTH = Integer.MAX_VALUE - 16;
+
+    private final String id;
+    private final InputStream input;
+    private final long end;
+    private boolean skipFirstLine;
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    // file position of the first byte in the buffer
+    private long bufferPosition;
+    private int bufferStart;
+    private int bufferEnd;
+    private boolean endOfInput;
+
+    private int lineStart;
+    private int lineLength;
+
+    /**
+     * @param input the file contents, positioned at {@code start}
+     * @param end the position after which lines belong to the next split
+     */
+    public LineReader(String id, InputStream input, long start, long end)
+    {
+        this.id = requireNonNull(id, "id is null");
+        this.input = requireNonNull(input, "input is null");
+        this.bufferPosition = start;
+        this.end = end;
+        this.skipFirstLine = start != 0;
+    }
+
+    /**
+     * Advances to the next line of the split, and returns false at the end of the split.
+     */
+    public boolean readLine()
+            throws IOException
+    {
+        if (skipFirstLine) {
+            // the previous split reads the line that contains the split start
+            skipFirstLine = false;
+            if (!nextLine()) {
+                return false;
+            }
+        }
+        if (bufferPosition + bufferStart > end) {
+            return false;
+        }
+        return nextLine();
+    }
+
+    public byte[] getBuffer()
+    {
+        return buffer;
+    }
+
+    public int getLineOffset()
+    {
+        return lineStart;
+    }
+
+    public int getLineLength()
+    {
+        return lineLength;
+    }
+
+    public long getRetainedSizeInBytes()
+    {
+        return sizeOf(buffer);
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        input.close();
+    }
+
+    private boolean nextLine()
+            throws IOException
+    {
+        int scanPosition = bufferStart;
+        while (true) {
+            int lineEnd = findLineEnd(buffer, scanPosition, bufferEnd);
+            if (lineEnd >= 0) {
+                // a \r at the end of the buffer may be followed by a \n
+                if (buffer[lineEnd] == '\n' || lineEnd + 1 < bufferEnd || endOfInput) {
+                    lineStart = bufferStart;
+                    lineLength = lineEnd - bufferStart;
+                    int next = lineEnd + 1;
+                    if (buffer[lineEnd] == '\r' && next < bufferEnd && buffer[next] == '\n') {
+                        next++;
+                    }
+                    bufferStart = next;
+                    return true;
+                }
+                scanPosition = lineEnd;
+            }
+            else {
+                scanPosition = bufferEnd;
+            }
+
+            if (endOfInput) {
+                if (bufferStart == bufferEnd) {
+                    return false;
+                }
+                // last line without a terminator
+                lineStart = bufferStart;
+                lineLength = bufferEnd - bufferStart;
+                bufferStart = bufferEnd;
+                return true;
+            }
+
+            int consumed = bufferStart;
+            fillBuffer();
+            scanPosition -= consumed;
+        }
+    }
+
+    private void fillBuffer()
+            throws IOException
+    {
+        // move the partial line to the start of the buffer
+        int remaining = bufferEnd - bufferStart;
+        System.arraycopy(buffer, bufferStart, buffer, 0, remaining);
+        bufferPosition += bufferStart;
+        bufferStart = 0;
+        bufferEnd = remaining;
+
+        if (bufferEnd == buffer.length) {
+            if (buffer.length >= MAX_LINE_LENGTH) {
+                throw new TrinoException(HIVE_BAD_DATA, "Line too long in text file: " + id);
+            }
+            byte[] newBuffer = new byte[(int) min((long) buffer.length * 2, MAX_LINE_LENGTH)];
+            System.arraycopy(buffer, 0, newBuffer, 0, bufferEnd);
+            buffer = newBuffer;
+        }
+
+        int bytesRead = input.read(buffer, bufferEnd, buffer.length - bufferEnd);
+        if (bytesRead < 0) {
+            endOfInput = true;
+        }
+        else {
+            bufferEnd += bytesRead;
+        }
+    }
+
+    /**
+     * Returns the position of the first {@code \n} or {@code \r} in the range, or -1 if there is none.
+     */
+    static int findLineEnd(byte[] bytes, int start, int end)
+    {
+        int position = start;
+        // test eight bytes at a time for a zero byte after xor with the terminators
+        while (position + Long.BYTES <= end) {
+            long value = (long) LONG_HANDLE.get(bytes, position);
+            long matches = zeroBytes(value ^ NEWLINES) | zeroBytes(value ^ CARRIAGE_RETURNS);
+            if (matches != 0) {
+                // only bytes above a matching byte can be false positives, so the lowest match is exact
+                return position + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+            position += Long.BYTES;
+        }
+        for (; position < end; position++) {
+            byte value = bytes[position];
+            if (value == '\n' || value == '\r') {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private static long zeroBytes(long value)
+    {
+        return (value - LOW_BITS) & ~value & HIGH_BITS;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.line;
+
+import io.trino.plugin.hive.HiveColumnHandle;
+import io.trino.rcfile.ColumnEncoding;
+import io.trino.rcfile.RcFileCorruptionException;
+import io.trino.rcfile.text.TextRcFileEncoding;
+import io.trino.spi.block.Block;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Deserializes lines in the format of the Hive {@code LazySimpleSerDe}: top level fields are delimited by
+ * the first separator and decoded with the RCFile text encodings, which handle nested separators,
+ * escapes and the null sequence.
+ */
+public class TextLineDeserializer
+        implements LineDeserializer
+{
+    private final byte separator;
+    private final boolean escaped;
+    private final byte escapeByte;
+    private final boolean lastColumnTakesRest;
+    private final byte[] nullSequence;
+
+    private final ColumnEncoding[] encodings;
+    private final ColumnBuffer[] buffers;
+    // buffer of each Hive column index, or null when the column is not projected
+    private final ColumnBuffer[] fieldBuffers;
+    private final int tableColumnCount;
+
+    /**
+     * @param columns the projected base columns
+     * @param tableColumnCount the number of columns declared in the table schema
+     */
+    public TextLineDeserializer(List<HiveColumnHandle> columns, int tableColumnCount, TextRcFileEncoding encoding)
+    {
+        this.separator = encoding.getSeparators()[0];
+        this.escaped = encoding.getEscapeByte() != null;
+        this.escapeByte = escaped ? encoding.getEscapeByte() : 0;
+        this.lastColumnTakesRest = encoding.isLastColumnTakesRest();
+        this.nullSequence = encoding.getNullSequence().getBytes();
+        this.tableColumnCount = tableColumnCount;
+
+        int maxColumnIndex = -1;
+        for (HiveColumnHandle column : columns) {
+            checkArgument(column.isBaseColumn(), "Column is not a base column: %s", column);
+            maxColumnIndex = Math.max(maxColumnIndex, column.getBaseHiveColumnIndex());
+        }
+        this.fieldBuffers = new ColumnBuffer[maxColumnIndex + 1];
+        this.encodings = new ColumnEncoding[columns.size()];
+        this.buffers = new ColumnBuffer[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            HiveColumnHandle column = columns.get(i);
+            encodings[i] = encoding.getEncoding(column.getType());
+            checkArgument(fieldBuffers[column.getBaseHiveColumnIndex()] == null, "Column is projected more than once: %s", column);
+            buffers[i] = new ColumnBuffer();
+            fieldBuffers[column.getBaseHiveColumnIndex()] = buffers[i];
+        }
+    }
+
+    @Override
+    public void deserialize(byte[] bytes, int offset, int length)
+    {
+        int end = offset + length;
+        int fieldStart = offset;
+        int field = 0;
+        // stop after the last projected field, as the remaining fields are never read
+        while (field < fieldBuffers.length) {
+            int fieldEnd;
+            if (lastColumnTakesRest && field == tableColumnCount - 1) {
+                fieldEnd = end;
+            }
+            else {
+                fieldEnd = findSeparator(bytes, fieldStart, end);
+            }
+
+            ColumnBuffer buffer = fieldBuffers[field];
+            if (buffer != null) {
+                buffer.append(bytes, fieldStart, fieldEnd - fieldStart);
+            }
+            field++;
+
+            if (fieldEnd == end) {
+                break;
+            }
+            fieldStart = fieldEnd + 1;
+        }
+
+        // fields missing at the end of the line are null
+        for (; field < fieldBuffers.length; field++) {
+            ColumnBuffer buffer = fieldBuffers[field];
+            if (buffer != null) {
+                buffer.append(nullSequence, 0, nullSequence.length);
+            }
+        }
+    }
+
+    @Override
+    public Block[] build()
+            throws RcFileCorruptionException
+    {
+        Block[] blocks = new Block[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            blocks[i] = buffers[i].decode(encodings[i]);
+        }
+        return blocks;
+    }
+
+    @Override
+    public long getRetainedSizeInBytes()
+    {
+        long size = 0;
+        for (ColumnBuffer buffer : buffers) {
+            size += buffer.getRetainedSizeInBytes();
+        }
+        return size;
+    }
+
+    private int findSeparator(byte[] bytes, int start, int end)
+    {
+        for (int position = start; position < end; position++) {
+            byte value = bytes[position];
+            if (value == separator) {
+                return position;
+            }
+            if (escaped && value == escapeByte) {
+                // the escaped byte is never a separator
+                position++;
+            }
+        }
+        return end;
+    }
+}
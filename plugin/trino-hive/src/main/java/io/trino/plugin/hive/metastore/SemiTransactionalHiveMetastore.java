@@ -105,6 +105,7 @@ import static io.trino.spi.StandardErrorCode.ALREADY_EXISTS;
 import static io.trino.spi.StandardErrorCode.NOT_SUPPORTED;
 import static io.trino.spi.StandardErrorCode.TRANSACTION_CONFLICT;
 import static io.trino.spi.security.PrincipalType.USER;
+import static java.lang.Math.max;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -138,6 +139,8 @@ public class SemiTransactionalHiveMetastore
     @GuardedBy("this")
     private final List<DeclaredIntentionToWrite> declaredIntentionsToWrite = new ArrayList<>();
     @GuardedBy("this")
+    private final List<ReplacedFiles> replacedFiles = new ArrayList<>();
+    @GuardedBy("this")
     private ExclusiveOperation bufferedExclusiveOperation;
     @GuardedBy("this")
     private State state = State.EMPTY;
@@ -573,6 +576,33 @@ public class SemiTransactionalHiveMetastore
         return currentHiveTransaction.isPresent() && currentHiveTransaction.get().getTransaction().isAcidTransactionRunning();
     }
 
+    /**
+     * Replaces data files whose rows were rewritten into files inserted in this transaction.  On commit, the files
+     * are renamed to hidden names once the inserted files are in place, and are restored if the commit fails after
+     * that.  They are deleted only after the point of no return.  The file count and on-disk size of the table, or of
+     * the partition if one is given, are adjusted by the given deltas.
+     */
+    public synchronized void replaceFilesOnCommit(
+            ConnectorSession session,
+            String databaseName,
+            String tableName,
+            Optional<String> partitionName,
+            List<Path> files,
+            long fileCountDelta,
+            long onDiskDataSizeDelta)
+    {
+        setShared();
+        replacedFiles.add(new ReplacedFiles(
+                new HdfsContext(session, databaseName, tableName),
+                new HiveIdentity(session),
+                new SchemaTableName(databaseName, tableName),
+                partitionName,
+                session.getQueryId(),
+                files,
+                fileCountDelta,
+                onDiskDataSizeDelta));
+    }
+
     public synchronized void truncateUnpartitionedTable(ConnectorSession session, String databaseName, String tableName)
     {
         checkReadable();
@@ -1300,6 +1330,9 @@ public class SemiTransactionalHiveMetastore
             // Wait for all renames submitted for "INSERT_EXISTING" action to finish
             committer.waitForAsyncRenames();
 
+            // Replaced files are hidden only once the files that replace them are in place
+            committer.prepareReplaceFiles(replacedFiles);
+
             // At this point, all file system operations, whether asynchronously issued or not, have completed successfully.
             // We are moving on to metastore operations now.
 
@@ -1308,11 +1341,13 @@ public class SemiTransactionalHiveMetastore
             committer.executeAlterPartitionOperations();
             committer.executeAddPartitionOperations(transaction);
             committer.executeUpdateStatisticsOperations(transaction);
+            committer.executeAdjustStatisticsOperations(transaction);
         }
         catch (Throwable t) {
             log.warn("Rolling back due to metastore commit failure: %s", t.getMessage());
             committer.cancelUnstartedAsyncRenames();
 
+            committer.undoAdjustStatisticsOperations(transaction);
             committer.undoUpdateStatisticsOperations(transaction);
             committer.undoAddPartitionOperations();
             committer.undoAddTableOperations();
@@ -1379,6 +1414,7 @@ public class SemiTransactionalHiveMetastore
         private final Map<SchemaTableName, PartitionAdder> partitionAdders = new HashMap<>();
         private final List<AlterPartitionOperation> alterPartitionOperations = new ArrayList<>();
         private final List<UpdateStatisticsOperation> updateStatisticsOperations = new ArrayList<>();
+        private final List<AdjustFileStatisticsOperation> adjustStatisticsOperations = new ArrayList<>();
         private final List<IrreversibleMetastoreOperation> metastoreDeleteOperations = new ArrayList<>();
 
         private final AcidTransaction transaction;
@@ -1769,6 +1805,28 @@ public class SemiTransactionalHiveMetastore
                     true));
         }
 
+        private void prepareReplaceFiles(List<ReplacedFiles> replacedFiles)
+        {
+            for (ReplacedFiles replaced : replacedFiles) {
+                deleteOnly = false;
+                HdfsContext context = replaced.getContext();
+                for (Path file : replaced.getFiles()) {
+                    // The hidden name is skipped by readers, and does not start with the query id, so that the
+                    // clean up of the write paths on abort leaves the file to be renamed back.
+                    Path hiddenPath = new Path(file.getParent(), "_temp_" + replaced.getQueryId() + "_" + file.getName());
+                    renameDirectory(context, hdfsEnvironment, file, hiddenPath, () ->
+                            renameTasksForAbort.add(new DirectoryRenameTask(context, hiddenPath, file)));
+                    deletionTasksForFinish.add(new DirectoryDeletionTask(context, hiddenPath));
+                }
+                adjustStatisticsOperations.add(new AdjustFileStatisticsOperation(
+                        replaced.getIdentity(),
+                        replaced.getTableName(),
+                        replaced.getPartitionName(),
+                        replaced.getFileCountDelta(),
+                        replaced.getOnDiskDataSizeDelta()));
+            }
+        }
+
         private void executeCleanupTasksForAbort(Collection<DeclaredIntentionToWrite> declaredIntentionsToWrite)
         {
             Set<String> queryIds = declaredIntentionsToWrite.stream()
@@ -1901,6 +1959,14 @@ public class SemiTransactionalHiveMetastore
             }
         }
 
+        private void executeAdjustStatisticsOperations(AcidTransaction transaction)
+        {
+            // the adjustments are relative, so they are applied one at a time after the statistics updates of the inserts
+            for (AdjustFileStatisticsOperation operation : adjustStatisticsOperations) {
+                operation.run(delegate, transaction);
+            }
+        }
+
         private void undoAddPartitionOperations()
         {
             for (PartitionAdder partitionAdder : partitionAdders.values()) {
@@ -1950,6 +2016,18 @@ public class SemiTransactionalHiveMetastore
             }
         }
 
+        private void undoAdjustStatisticsOperations(AcidTransaction transaction)
+        {
+            for (AdjustFileStatisticsOperation operation : adjustStatisticsOperations) {
+                try {
+                    operation.undo(delegate, transaction);
+                }
+                catch (Throwable throwable) {
+                    logCleanupFailure(throwable, "failed to rollback: %s", operation.getDescription());
+                }
+            }
+        }
+
         private void undoUpdateStatisticsOperations(AcidTransaction transaction)
         {
             ImmutableList.Builder<CompletableFuture<?>> undoUpdateFutures = ImmutableList.builder();
@@ -3163,6 +3241,150 @@ public class SemiTransactionalHiveMetastore
         }
     }
 
+    private static class AdjustFileStatisticsOperation
+    {
+        private final HiveIdentity identity;
+        private final SchemaTableName tableName;
+        private final Optional<String> partitionName;
+        private final long fileCountDelta;
+        private final long onDiskDataSizeDelta;
+
+        private boolean done;
+
+        public AdjustFileStatisticsOperation(HiveIdentity identity, SchemaTableName tableName, Optional<String> partitionName, long fileCountDelta, long onDiskDataSizeDelta)
+        {
+            this.identity = requireNonNull(identity, "identity is null");
+            this.tableName = requireNonNull(tableName, "tableName is null");
+            this.partitionName = requireNonNull(partitionName, "partitionName is null");
+            this.fileCountDelta = fileCountDelta;
+            this.onDiskDataSizeDelta = onDiskDataSizeDelta;
+        }
+
+        public void run(HiveMetastoreClosure metastore, AcidTransaction transaction)
+        {
+            update(metastore, transaction, statistics -> adjust(statistics, fileCountDelta, onDiskDataSizeDelta));
+            done = true;
+        }
+
+        public void undo(HiveMetastoreClosure metastore, AcidTransaction transaction)
+        {
+            if (!done) {
+                return;
+            }
+            update(metastore, transaction, statistics -> adjust(statistics, -fileCountDelta, -onDiskDataSizeDelta));
+        }
+
+        public String getDescription()
+        {
+            if (partitionName.isPresent()) {
+                return format("adjust file statistics of partition %s %s", tableName, partitionName.get());
+            }
+            return format("adjust file statistics of table %s", tableName);
+        }
+
+        private void update(HiveMetastoreClosure metastore, AcidTransaction transaction, Function<PartitionStatistics, PartitionStatistics> update)
+        {
+            if (partitionName.isPresent()) {
+                metastore.updatePartitionStatistics(identity, tableName.getSchemaName(), tableName.getTableName(), partitionName.get(), update);
+            }
+            else {
+                metastore.updateTableStatistics(identity, tableName.getSchemaName(), tableName.getTableName(), update, transaction);
+            }
+        }
+
+        private static PartitionStatistics adjust(PartitionStatistics statistics, long fileCountDelta, long onDiskDataSizeDelta)
+        {
+            HiveBasicStatistics basicStatistics = statistics.getBasicStatistics();
+            return new PartitionStatistics(
+                    new HiveBasicStatistics(
+                            adjust(basicStatistics.getFileCount(), fileCountDelta),
+                            basicStatistics.getRowCount(),
+                            basicStatistics.getInMemoryDataSizeInBytes(),
+                            adjust(basicStatistics.getOnDiskDataSizeInBytes(), onDiskDataSizeDelta)),
+                    statistics.getColumnStatistics());
+        }
+
+        private static OptionalLong adjust(OptionalLong value, long delta)
+        {
+            if (value.isEmpty()) {
+                return value;
+            }
+            return OptionalLong.of(max(value.getAsLong() + delta, 0));
+        }
+    }
+
+    private static class ReplacedFiles
+    {
+        private final HdfsContext context;
+        private final HiveIdentity identity;
+        private final SchemaTableName tableName;
+        private final Optional<String> partitionName;
+        private final String queryId;
+        private final List<Path> files;
+        private final long fileCountDelta;
+        private final long onDiskDataSizeDelta;
+
+        public ReplacedFiles(
+                HdfsContext context,
+                HiveIdentity identity,
+                SchemaTableName tableName,
+                Optional<String> partitionName,
+                String queryId,
+                List<Path> files,
+                long fileCountDelta,
+                long onDiskDataSizeDelta)
+        {
+            this.context = requireNonNull(context, "context is null");
+            this.identity = requireNonNull(identity, "identity is null");
+            this.tableName = requireNonNull(tableName, "tableName is null");
+            this.partitionName = requireNonNull(partitionName, "partitionName is null");
+            this.queryId = requireNonNull(queryId, "queryId is null");
+            this.files = ImmutableList.copyOf(requireNonNull(files, "files is null"));
+            this.fileCountDelta = fileCountDelta;
+            this.onDiskDataSizeDelta = onDiskDataSizeDelta;
+        }
+
+        public HdfsContext getContext()
+        {
+            return context;
+        }
+
+        public HiveIdentity getIdentity()
+        {
+            return identity;
+        }
+
+        public SchemaTableName getTableName()
+        {
+            return tableName;
+        }
+
+        public Optional<String> getPartitionName()
+        {
+            return partitionName;
+        }
+
+        public String getQueryId()
+        {
+            return queryId;
+        }
+
+        public List<Path> getFiles()
+        {
+            return files;
+        }
+
+        public long getFileCountDelta()
+        {
+            return fileCountDelta;
+        }
+
+        public long getOnDiskDataSizeDelta()
+        {
+            return onDiskDataSizeDelta;
+        }
+    }
+
     private static class PartitionAdder
     {
         private final HiveIdentity identity;
@@ -0,0 +1,205 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.orc;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import org.openjdk.jol.info.ClassLayout;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import java.util.Arrays;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static io.airlift.slice.SizeOf.sizeOf;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable set of deleted ACID row ids, stored as a sorted array of row ids for every
+ * original transaction.  The set is shared by all splits of a bucket file, so lookups
+ * are done through a per-split {@link Cursor}.
+ */
+public final class DeletedRowIds
+{
+    private static final int INSTANCE_SIZE = ClassLayout.parseClass(DeletedRowIds.class).instanceSize();
+
+    public static final DeletedRowIds EMPTY = new DeletedRowIds(new long[0], new int[] {0}, new long[0]);
+
+    // sorted distinct original transactions
+    private final long[] originalTransactions;
+    // row ids of originalTransactions[i] are at rowIds[offsets[i]] until rowIds[offsets[i + 1]]
+    private final int[] offsets;
+    // sorted distinct row ids of each original transaction
+    private final long[] rowIds;
+
+    private DeletedRowIds(long[] originalTransactions, int[] offsets, long[] rowIds)
+    {
+        this.originalTransactions = requireNonNull(originalTransactions, "originalTransactions is null");
+        this.offsets = requireNonNull(offsets, "offsets is null");
+        this.rowIds = requireNonNull(rowIds, "rowIds is null");
+    }
+
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    public boolean isEmpty()
+    {
+        return rowIds.length == 0;
+    }
+
+    public int size()
+    {
+        return rowIds.length;
+    }
+
+    public long getRetainedSizeInBytes()
+    {
+        return INSTANCE_SIZE + sizeOf(originalTransactions) + sizeOf(offsets) + sizeOf(rowIds);
+    }
+
+    public Cursor cursor()
+    {
+        return new Cursor();
+    }
+
+    @Override
+    public String toString()
+    {
+        return toStringHelper(this)
+                .add("originalTransactions", originalTransactions.length)
+                .add("rowIds", rowIds.length)
+                .toString();
+    }
+
+    /**
+     * Looks up row ids by walking forward over the sorted row ids, so checking the rows of a
+     * file in order costs time linear in the number of rows and deleted rows.  Row ids that
+     * are not in order are still supported, but are found with a search from the start.
+     */
+    @NotThreadSafe
+    public final class Cursor
+    {
+        private boolean hasTransaction;
+        private long currentTransaction;
+        private int start;
+        private int end;
+        private int position;
+
+        private Cursor() {}
+
+        public boolean isDeleted(long originalTransaction, long rowId)
+        {
+            if (!hasTransaction || originalTransaction != currentTransaction) {
+                seekTransaction(originalTransaction);
+            }
+            if (position > start && rowIds[position - 1] >= rowId) {
+                // row ids are not in order, so start over
+                position = start;
+            }
+            position = advance(position, rowId);
+            return position < end && rowIds[position] == rowId;
+        }
+
+        private void seekTransaction(long originalTransaction)
+        {
+            int index = Arrays.binarySearch(originalTransactions, originalTransaction);
+            if (index >= 0) {
+                start = offsets[index];
+                end = offsets[index + 1];
+            }
+            else {
+                start = 0;
+                end = 0;
+            }
+            position = start;
+            currentTransaction = originalTransaction;
+            hasTransaction = true;
+        }
+
+        /**
+         * Returns the first position at or after {@code from} with a row id that is not less than {@code rowId}.
+         */
+        private int advance(int from, long rowId)
+        {
+            // gallop forward, so long gaps between the looked up row ids are skipped in logarithmic time
+            int low = from;
+            int step = 1;
+            while (low < end && rowIds[low] < rowId) {
+                int next = low + step;
+                if (next >= end || rowIds[next] >= rowId) {
+                    int index = Arrays.binarySearch(rowIds, low + 1, Math.min(next, end), rowId);
+                    return index >= 0 ? index : -index - 1;
+                }
+                low = next;
+                step <<= 1;
+            }
+            return low;
+        }
+    }
+
+    public static class Builder
+    {
+        private final Long2ObjectOpenHashMap<LongArrayList> rowIdsByTransaction = new Long2ObjectOpenHashMap<>();
+
+        private Builder() {}
+
+        public Builder add(long originalTransaction, long rowId)
+        {
+            LongArrayList rowIds = rowIdsByTransaction.get(originalTransaction);
+            if (rowIds == null) {
+                rowIds = new LongArrayList();
+                rowIdsByTransaction.put(originalTransaction, rowIds);
+            }
+            rowIds.add(rowId);
+            return this;
+        }
+
+        public DeletedRowIds build()
+        {
+            if (rowIdsByTransaction.isEmpty()) {
+                return EMPTY;
+            }
+
+            long[] originalTransactions = rowIdsByTransaction.keySet().toLongArray();
+            Arrays.sort(originalTransactions);
+
+            int totalRowIds = 0;
+            for (LongArrayList rowIds : rowIdsByTransaction.values()) {
+                totalRowIds += rowIds.size();
+            }
+
+            int[] offsets = new int[originalTransactions.length + 1];
+            long[] rowIds = new long[totalRowIds];
+            int size = 0;
+            for (int i = 0; i < originalTransactions.length; i++) {
+                LongArrayList transactionRowIds = rowIdsByTransaction.get(originalTransactions[i]);
+                long[] elements = transactionRowIds.elements();
+                LongArrays.quickSort(elements, 0, transactionRowIds.size());
+
+                // the same row can be deleted by multiple delete deltas
+                for (int j = 0; j < transactionRowIds.size(); j++) {
+                    if (size == offsets[i] || rowIds[size - 1] != elements[j]) {
+                        rowIds[size] = elements[j];
+                        size++;
+                    }
+                }
+                offsets[i + 1] = size;
+            }
+            return new DeletedRowIds(originalTransactions, offsets, size == rowIds.length ? rowIds : Arrays.copyOf(rowIds, size));
+        }
+    }
+}
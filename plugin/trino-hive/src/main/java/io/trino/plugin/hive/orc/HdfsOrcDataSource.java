@@ -13,17 +13,25 @@
  */
 package io.trino.plugin.hive.orc;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.airlift.slice.Slice;
 import io.trino.orc.AbstractOrcDataSource;
+import io.trino.orc.DiskRange;
 import io.trino.orc.OrcDataSourceId;
 import io.trino.orc.OrcReaderOptions;
 import io.trino.plugin.hive.FileFormatDataSourceStats;
+import io.trino.plugin.hive.util.ConcurrentRangeReader;
 import io.trino.plugin.hive.util.FSDataInputStreamTail;
 import io.trino.spi.TrinoException;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.hdfs.BlockMissingException;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_FILESYSTEM_ERROR;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_MISSING_DATA;
@@ -36,6 +44,7 @@ public class HdfsOrcDataSource
 {
     private final FSDataInputStream inputStream;
     private final FileFormatDataSourceStats stats;
+    private final Optional<ConcurrentRangeReader> rangeReader;
 
     public HdfsOrcDataSource(
             OrcDataSourceId id,
@@ -43,16 +52,40 @@ public class HdfsOrcDataSource
             OrcReaderOptions options,
             FSDataInputStream inputStream,
             FileFormatDataSourceStats stats)
+    {
+        this(id, size, options, inputStream, stats, Optional.empty());
+    }
+
+    public HdfsOrcDataSource(
+            OrcDataSourceId id,
+            long size,
+            OrcReaderOptions options,
+            FSDataInputStream inputStream,
+            FileFormatDataSourceStats stats,
+            Executor readExecutor)
+    {
+        this(id, size, options, inputStream, stats, Optional.of(new ConcurrentRangeReader(readExecutor, options.getMaxReadConcurrency())));
+    }
+
+    private HdfsOrcDataSource(
+            OrcDataSourceId id,
+            long size,
+            OrcReaderOptions options,
+            FSDataInputStream inputStream,
+            FileFormatDataSourceStats stats,
+            Optional<ConcurrentRangeReader> rangeReader)
     {
         super(id, size, options);
         this.inputStream = requireNonNull(inputStream, "inputStream is null");
         this.stats = requireNonNull(stats, "stats is null");
+        this.rangeReader = requireNonNull(rangeReader, "rangeReader is null");
     }
 
     @Override
     public void close()
             throws IOException
     {
+        rangeReader.ifPresent(ConcurrentRangeReader::close);
         inputStream.close();
     }
 
@@ -68,6 +101,22 @@ public class HdfsOrcDataSource
         return tailSlice;
     }
 
+    @Override
+    protected List<ListenableFuture<Slice>> readAsync(List<DiskRange> diskRanges)
+    {
+        if (rangeReader.isEmpty()) {
+            return ImmutableList.of();
+        }
+        return rangeReader.get().read(diskRanges, diskRange -> {
+            try {
+                return readFully(diskRange.getOffset(), diskRange.getLength());
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     @Override
     protected void readInternal(long position, byte[] buffer, int bufferOffset, int bufferLength)
     {
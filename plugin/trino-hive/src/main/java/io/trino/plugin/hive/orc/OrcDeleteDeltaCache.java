@@ -0,0 +1,186 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.orc;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.airlift.units.DataSize;
+import io.airlift.units.Duration;
+import org.apache.hadoop.fs.FileStatus;
+import org.weakref.jmx.Managed;
+
+import javax.inject.Inject;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Worker wide cache of the deleted row ids of ACID bucket files.  All splits of a bucket file,
+ * and all queries of a user reading it with the same delete deltas, share one copy of the deleted
+ * row ids.  The same delete delta paths come back with other contents when a table is dropped and
+ * created again at the same location, so the files are identified by their length and modification
+ * time as well.  The cache is bounded by the retained size of the cached row ids.
+ */
+public class OrcDeleteDeltaCache
+{
+    private final Cache<CacheKey, DeletedRowIds> cache;
+    private final boolean enabled;
+
+    @Inject
+    public OrcDeleteDeltaCache(OrcReaderConfig config)
+    {
+        this(config.getDeleteDeltaCacheSize(), config.getDeleteDeltaCacheTtl());
+    }
+
+    public OrcDeleteDeltaCache(DataSize maxSize, Duration ttl)
+    {
+        this.enabled = maxSize.toBytes() > 0 && ttl.toMillis() > 0;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Weigher<CacheKey, DeletedRowIds>) (key, value) -> (int) min(value.getRetainedSizeInBytes(), Integer.MAX_VALUE))
+                .expireAfterWrite(ttl.toMillis(), MILLISECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @param user the user whose identity the delete delta files are read with
+     * @param deleteDeltaFiles the existing delete delta files of a bucket file
+     */
+    public DeletedRowIds get(String user, List<FileStatus> deleteDeltaFiles, Supplier<DeletedRowIds> loader)
+    {
+        if (!enabled) {
+            return loader.get();
+        }
+        List<DeleteDeltaFile> files = deleteDeltaFiles.stream()
+                .map(file -> new DeleteDeltaFile(file.getPath().toString(), file.getLen(), file.getModificationTime()))
+                .collect(toImmutableList());
+        CacheKey key = new CacheKey(user, files);
+        try {
+            // concurrent splits of the same bucket file wait for a single load
+            return cache.get(key, loader::get);
+        }
+        catch (ExecutionException | UncheckedExecutionException e) {
+            throwIfUnchecked(e.getCause());
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    @Managed
+    public void flushCache()
+    {
+        cache.invalidateAll();
+    }
+
+    @Managed
+    public long getSize()
+    {
+        return cache.size();
+    }
+
+    @Managed
+    public Double getHitRate()
+    {
+        return cache.stats().hitRate();
+    }
+
+    @Managed
+    public long getHitCount()
+    {
+        return cache.stats().hitCount();
+    }
+
+    @Managed
+    public long getMissCount()
+    {
+        return cache.stats().missCount();
+    }
+
+    private static class CacheKey
+    {
+        private final String user;
+        private final List<DeleteDeltaFile> files;
+
+        public CacheKey(String user, List<DeleteDeltaFile> files)
+        {
+            this.user = requireNonNull(user, "user is null");
+            this.files = requireNonNull(files, "files is null");
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return user.equals(other.user) &&
+                    files.equals(other.files);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(user, files);
+        }
+    }
+
+    private static class DeleteDeltaFile
+    {
+        private final String path;
+        private final long length;
+        private final long modificationTime;
+
+        public DeleteDeltaFile(String path, long length, long modificationTime)
+        {
+            this.path = requireNonNull(path, "path is null");
+            this.length = length;
+            this.modificationTime = modificationTime;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DeleteDeltaFile other = (DeleteDeltaFile) o;
+            return length == other.length &&
+                    modificationTime == other.modificationTime &&
+                    path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(path, length, modificationTime);
+        }
+    }
+}
@@ -13,7 +13,7 @@
  */
 package io.trino.plugin.hive.orc;
 
-import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableList;
 import io.trino.orc.OrcCorruptionException;
 import io.trino.plugin.hive.AcidInfo;
 import io.trino.plugin.hive.HdfsEnvironment;
@@ -34,11 +34,9 @@ import javax.annotation.concurrent.NotThreadSafe;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.util.Objects;
+import java.util.List;
 import java.util.OptionalLong;
-import java.util.Set;
 
-import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Verify.verify;
 import static io.trino.plugin.hive.BackgroundHiveSplitLoader.hasAttemptId;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_BAD_DATA;
@@ -58,9 +56,11 @@ public class OrcDeletedRows
     private final Configuration configuration;
     private final HdfsEnvironment hdfsEnvironment;
     private final AcidInfo acidInfo;
+    private final OrcDeleteDeltaCache deleteDeltaCache;
 
+    private boolean deletedRowsLoaded;
     @Nullable
-    private Set<RowId> deletedRows;
+    private DeletedRowIds.Cursor deletedRows;
 
     public OrcDeletedRows(
             String sourceFileName,
@@ -68,7 +68,8 @@ public class OrcDeletedRows
             String sessionUser,
             Configuration configuration,
             HdfsEnvironment hdfsEnvironment,
-            AcidInfo acidInfo)
+            AcidInfo acidInfo,
+            OrcDeleteDeltaCache deleteDeltaCache)
     {
         this.sourceFileName = requireNonNull(sourceFileName, "sourceFileName is null");
         this.pageSourceFactory = requireNonNull(pageSourceFactory, "pageSourceFactory is null");
@@ -76,6 +77,7 @@ public class OrcDeletedRows
         this.configuration = requireNonNull(configuration, "configuration is null");
         this.hdfsEnvironment = requireNonNull(hdfsEnvironment, "hdfsEnvironment is null");
         this.acidInfo = requireNonNull(acidInfo, "acidInfo is null");
+        this.deleteDeltaCache = requireNonNull(deleteDeltaCache, "deleteDeltaCache is null");
     }
 
     public MaskDeletedRowsFunction getMaskDeletedRowsFunction(Page sourcePage, OptionalLong startRowId)
@@ -158,8 +160,8 @@ public class OrcDeletedRows
         private void loadValidPositions()
         {
             verify(sourcePage != null, "sourcePage is null");
-            Set<RowId> deletedRows = getDeletedRows();
-            if (deletedRows.isEmpty()) {
+            DeletedRowIds.Cursor deletedRows = getDeletedRows();
+            if (deletedRows == null) {
                 this.positionCount = sourcePage.getPositionCount();
                 this.sourcePage = null;
                 return;
@@ -167,65 +169,89 @@ public class OrcDeletedRows
 
             int[] validPositions = new int[sourcePage.getPositionCount()];
             int validPositionsIndex = 0;
-            for (int position = 0; position < sourcePage.getPositionCount(); position++) {
-                RowId rowId = getRowId(position);
-                if (!deletedRows.contains(rowId)) {
-                    validPositions[validPositionsIndex] = position;
-                    validPositionsIndex++;
-                }
-            }
-            this.positionCount = validPositionsIndex;
-            this.validPositions = validPositions;
-            this.sourcePage = null;
-        }
-
-        private RowId getRowId(int position)
-        {
-            long originalTransaction;
-            long row;
             if (startRowId.isPresent()) {
                 // original transaction ID is always 0 for original file row delete delta.
-                originalTransaction = 0;
-                // In case of original files, calculate row ID is start row ID of the page + current position in the page
-                row = startRowId.getAsLong() + position;
+                // In case of original files, row ID is start row ID of the page + current position in the page
+                for (int position = 0; position < sourcePage.getPositionCount(); position++) {
+                    if (!deletedRows.isDeleted(0, startRowId.getAsLong() + position)) {
+                        validPositions[validPositionsIndex] = position;
+                        validPositionsIndex++;
+                    }
+                }
             }
             else {
-                originalTransaction = BIGINT.getLong(sourcePage.getBlock(ORIGINAL_TRANSACTION_INDEX), position);
-                row = BIGINT.getLong(sourcePage.getBlock(ROW_ID_INDEX), position);
+                Block originalTransactions = sourcePage.getBlock(ORIGINAL_TRANSACTION_INDEX);
+                Block rowIds = sourcePage.getBlock(ROW_ID_INDEX);
+                for (int position = 0; position < sourcePage.getPositionCount(); position++) {
+                    if (!deletedRows.isDeleted(BIGINT.getLong(originalTransactions, position), BIGINT.getLong(rowIds, position))) {
+                        validPositions[validPositionsIndex] = position;
+                        validPositionsIndex++;
+                    }
+                }
             }
-            return new RowId(originalTransaction, row);
+            this.positionCount = validPositionsIndex;
+            this.validPositions = validPositions;
+            this.sourcePage = null;
         }
     }
 
-    private Set<RowId> getDeletedRows()
+    /**
+     * Returns a cursor over the deleted rows of the file, or null if no rows were deleted.
+     * Rows of ACID files are sorted by row id, so the cursor is kept across pages.
+     */
+    @Nullable
+    private DeletedRowIds.Cursor getDeletedRows()
     {
-        if (deletedRows != null) {
-            return deletedRows;
+        if (!deletedRowsLoaded) {
+            List<FileStatus> deleteDeltaFiles = getDeleteDeltaFiles();
+            DeletedRowIds deletedRowIds = deleteDeltaFiles.isEmpty() ? DeletedRowIds.EMPTY : deleteDeltaCache.get(sessionUser, deleteDeltaFiles, () -> loadDeletedRows(deleteDeltaFiles));
+            deletedRows = deletedRowIds.isEmpty() ? null : deletedRowIds.cursor();
+            deletedRowsLoaded = true;
         }
+        return deletedRows;
+    }
 
-        ImmutableSet.Builder<RowId> deletedRowsBuilder = ImmutableSet.builder();
+    /**
+     * Returns the status of the delete delta files that exist for the source file, which identifies their contents.
+     */
+    private List<FileStatus> getDeleteDeltaFiles()
+    {
+        ImmutableList.Builder<FileStatus> deleteDeltaFiles = ImmutableList.builder();
         for (AcidInfo.DeleteDeltaInfo deleteDeltaInfo : acidInfo.getDeleteDeltas()) {
             Path path = createPath(acidInfo, deleteDeltaInfo, sourceFileName);
-
             try {
                 FileSystem fileSystem = hdfsEnvironment.getFileSystem(sessionUser, path, configuration);
-                FileStatus fileStatus = hdfsEnvironment.doAs(sessionUser, () -> fileSystem.getFileStatus(path));
+                deleteDeltaFiles.add(hdfsEnvironment.doAs(sessionUser, () -> fileSystem.getFileStatus(path)));
+            }
+            catch (FileNotFoundException ignored) {
+                // source file does not have a delete delta file in this location
+            }
+            catch (IOException e) {
+                throw new TrinoException(HIVE_CURSOR_ERROR, "Failed to read ORC delete delta file: " + path, e);
+            }
+        }
+        return deleteDeltaFiles.build();
+    }
 
-                try (ConnectorPageSource pageSource = pageSourceFactory.createPageSource(fileStatus.getPath(), fileStatus.getLen()).orElseGet(() -> new EmptyPageSource())) {
-                    while (!pageSource.isFinished()) {
-                        Page page = pageSource.getNextPage();
-                        if (page != null) {
-                            for (int i = 0; i < page.getPositionCount(); i++) {
-                                long originalTransaction = BIGINT.getLong(page.getBlock(ORIGINAL_TRANSACTION_INDEX), i);
-                                long row = BIGINT.getLong(page.getBlock(ROW_ID_INDEX), i);
-                                deletedRowsBuilder.add(new RowId(originalTransaction, row));
-                            }
+    private DeletedRowIds loadDeletedRows(List<FileStatus> deleteDeltaFiles)
+    {
+        DeletedRowIds.Builder deletedRowsBuilder = DeletedRowIds.builder();
+        for (FileStatus fileStatus : deleteDeltaFiles) {
+            Path path = fileStatus.getPath();
+            try (ConnectorPageSource pageSource = pageSourceFactory.createPageSource(fileStatus.getPath(), fileStatus.getLen()).orElseGet(() -> new EmptyPageSource())) {
+                while (!pageSource.isFinished()) {
+                    Page page = pageSource.getNextPage();
+                    if (page != null) {
+                        Block originalTransactions = page.getBlock(ORIGINAL_TRANSACTION_INDEX);
+                        Block rowIds = page.getBlock(ROW_ID_INDEX);
+                        for (int i = 0; i < page.getPositionCount(); i++) {
+                            deletedRowsBuilder.add(BIGINT.getLong(originalTransactions, i), BIGINT.getLong(rowIds, i));
                         }
                     }
                 }
             }
             catch (FileNotFoundException ignored) {
-                // source file does not have a delete delta file in this location
+                // the delete delta file was removed after it was listed
             }
             catch (TrinoException e) {
                 throw e;
@@ -237,8 +263,7 @@ public class OrcDeletedRows
                 throw new TrinoException(HIVE_CURSOR_ERROR, "Failed to read ORC delete delta file: " + path, e);
             }
         }
-        deletedRows = deletedRowsBuilder.build();
-        return deletedRows;
+        return deletedRowsBuilder.build();
     }
 
     private static Path createPath(AcidInfo acidInfo, AcidInfo.DeleteDeltaInfo deleteDeltaInfo, String fileName)
@@ -257,47 +282,4 @@ public class OrcDeletedRows
         }
         return new Path(directory, fileName);
     }
-
-    private static class RowId
-    {
-        private final long originalTransaction;
-        private final long rowId;
-
-        public RowId(long originalTransaction, long rowId)
-        {
-            this.originalTransaction = originalTransaction;
-            this.rowId = rowId;
-        }
-
-        @Override
-        public boolean equals(Object o)
-        {
-            if (this == o) {
-                return true;
-            }
-
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-
-            RowId other = (RowId) o;
-            return originalTransaction == other.originalTransaction &&
-                    rowId == other.rowId;
-        }
-
-        @Override
-        public int hashCode()
-        {
-            return Objects.hash(originalTransaction, rowId);
-        }
-
-        @Override
-        public String toString()
-        {
-            return toStringHelper(this)
-                    .add("originalTransaction", originalTransaction)
-                    .add("rowId", rowId)
-                    .toString();
-        }
-    }
 }
@@ -14,6 +14,7 @@
 package io.trino.plugin.hive.orc;
 
 import com.google.common.collect.ImmutableMap;
+import io.airlift.concurrent.BoundedExecutor;
 import io.trino.orc.OrcDataSink;
 import io.trino.orc.OrcDataSource;
 import io.trino.orc.OrcDataSourceId;
@@ -50,8 +51,11 @@ import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Properties;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static io.trino.orc.metadata.OrcType.createRootOrcType;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_UNSUPPORTED_FORMAT;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_WRITER_OPEN_ERROR;
@@ -85,6 +89,7 @@ public class OrcFileWriterFactory
     private final OrcWriterStats stats = new OrcWriterStats();
     private final OrcWriterOptions orcWriterOptions;
     private final boolean writeLegacyVersion;
+    private final Executor encoderExecutor;
 
     @Inject
     public OrcFileWriterFactory(
@@ -93,7 +98,8 @@ public class OrcFileWriterFactory
             NodeVersion nodeVersion,
             OrcWriterConfig orcWriterConfig,
             FileFormatDataSourceStats readStats,
-            OrcWriterConfig config)
+            OrcWriterConfig config,
+            ExecutorService executorService)
     {
         this(
                 hdfsEnvironment,
@@ -101,7 +107,8 @@ public class OrcFileWriterFactory
                 nodeVersion,
                 requireNonNull(orcWriterConfig, "orcWriterConfig is null").isUseLegacyVersion(),
                 readStats,
-                requireNonNull(config, "config is null").toOrcWriterOptions());
+                requireNonNull(config, "config is null").toOrcWriterOptions(),
+                new BoundedExecutor(requireNonNull(executorService, "executorService is null"), config.getEncoderThreads()));
     }
 
     public OrcFileWriterFactory(
@@ -111,6 +118,18 @@ public class OrcFileWriterFactory
             boolean writeLegacyVersion,
             FileFormatDataSourceStats readStats,
             OrcWriterOptions orcWriterOptions)
+    {
+        this(hdfsEnvironment, typeManager, nodeVersion, writeLegacyVersion, readStats, orcWriterOptions, directExecutor());
+    }
+
+    public OrcFileWriterFactory(
+            HdfsEnvironment hdfsEnvironment,
+            TypeManager typeManager,
+            NodeVersion nodeVersion,
+            boolean writeLegacyVersion,
+            FileFormatDataSourceStats readStats,
+            OrcWriterOptions orcWriterOptions,
+            Executor encoderExecutor)
     {
         this.hdfsEnvironment = requireNonNull(hdfsEnvironment, "hdfsEnvironment is null");
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
@@ -118,6 +137,7 @@ public class OrcFileWriterFactory
         this.writeLegacyVersion = writeLegacyVersion;
         this.readStats = requireNonNull(readStats, "stats is null");
         this.orcWriterOptions = requireNonNull(orcWriterOptions, "orcWriterOptions is null");
+        this.encoderExecutor = requireNonNull(encoderExecutor, "encoderExecutor is null");
     }
 
     @Managed
@@ -220,7 +240,8 @@ public class OrcFileWriterFactory
                             .build(),
                     validationInputFactory,
                     getOrcOptimizedWriterValidateMode(session),
-                    stats));
+                    stats,
+                    encoderExecutor));
         }
         catch (IOException e) {
             throw new TrinoException(HIVE_WRITER_OPEN_ERROR, "Error creating ORC file", e);
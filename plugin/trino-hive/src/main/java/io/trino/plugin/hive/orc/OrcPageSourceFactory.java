@@ -27,6 +27,7 @@ import io.trino.orc.TupleDomainOrcPredicate;
 import io.trino.orc.TupleDomainOrcPredicate.TupleDomainOrcPredicateBuilder;
 import io.trino.orc.metadata.OrcType.OrcTypeKind;
 import io.trino.plugin.hive.AcidInfo;
+import io.trino.plugin.hive.FileFooterCache;
 import io.trino.plugin.hive.FileFormatDataSourceStats;
 import io.trino.plugin.hive.HdfsEnvironment;
 import io.trino.plugin.hive.HiveColumnHandle;
@@ -63,6 +64,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -71,6 +74,7 @@ import static com.google.common.base.Strings.nullToEmpty;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static com.google.common.collect.Maps.uniqueIndex;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
 import static io.trino.orc.OrcReader.INITIAL_BATCH_SIZE;
 import static io.trino.orc.OrcReader.ProjectedLayout.createProjectedLayout;
@@ -88,6 +92,7 @@ import static io.trino.plugin.hive.HiveSessionProperties.getOrcLazyReadSmallRang
 import static io.trino.plugin.hive.HiveSessionProperties.getOrcMaxBufferSize;
 import static io.trino.plugin.hive.HiveSessionProperties.getOrcMaxMergeDistance;
 import static io.trino.plugin.hive.HiveSessionProperties.getOrcMaxReadBlockSize;
+import static io.trino.plugin.hive.HiveSessionProperties.getOrcMaxReadConcurrency;
 import static io.trino.plugin.hive.HiveSessionProperties.getOrcStreamBufferSize;
 import static io.trino.plugin.hive.HiveSessionProperties.getOrcTinyStripeThreshold;
 import static io.trino.plugin.hive.HiveSessionProperties.isOrcBloomFiltersEnabled;
@@ -114,11 +119,21 @@ public class OrcPageSourceFactory
     private final HdfsEnvironment hdfsEnvironment;
     private final FileFormatDataSourceStats stats;
     private final DateTimeZone legacyTimeZone;
+    private final OrcDeleteDeltaCache deleteDeltaCache;
+    private final FileFooterCache footerCache;
+    private final Executor readExecutor;
 
     @Inject
-    public OrcPageSourceFactory(OrcReaderConfig config, HdfsEnvironment hdfsEnvironment, FileFormatDataSourceStats stats, HiveConfig hiveConfig)
+    public OrcPageSourceFactory(
+            OrcReaderConfig config,
+            HdfsEnvironment hdfsEnvironment,
+            FileFormatDataSourceStats stats,
+            HiveConfig hiveConfig,
+            OrcDeleteDeltaCache deleteDeltaCache,
+            FileFooterCache footerCache,
+            ExecutorService executorService)
     {
-        this(config.toOrcReaderOptions(), hdfsEnvironment, stats, requireNonNull(hiveConfig, "hiveConfig is null").getOrcLegacyDateTimeZone());
+        this(config.toOrcReaderOptions(), hdfsEnvironment, stats, requireNonNull(hiveConfig, "hiveConfig is null").getOrcLegacyDateTimeZone(), deleteDeltaCache, footerCache, executorService);
     }
 
     public OrcPageSourceFactory(
@@ -126,11 +141,26 @@ public class OrcPageSourceFactory
             HdfsEnvironment hdfsEnvironment,
             FileFormatDataSourceStats stats,
             DateTimeZone legacyTimeZone)
+    {
+        this(orcReaderOptions, hdfsEnvironment, stats, legacyTimeZone, new OrcDeleteDeltaCache(new OrcReaderConfig()), new FileFooterCache(new HiveConfig(), stats), directExecutor());
+    }
+
+    public OrcPageSourceFactory(
+            OrcReaderOptions orcReaderOptions,
+            HdfsEnvironment hdfsEnvironment,
+            FileFormatDataSourceStats stats,
+            DateTimeZone legacyTimeZone,
+            OrcDeleteDeltaCache deleteDeltaCache,
+            FileFooterCache footerCache,
+            Executor readExecutor)
     {
         this.orcReaderOptions = requireNonNull(orcReaderOptions, "orcReaderOptions is null");
         this.hdfsEnvironment = requireNonNull(hdfsEnvironment, "hdfsEnvironment is null");
         this.stats = requireNonNull(stats, "stats is null");
         this.legacyTimeZone = legacyTimeZone;
+        this.deleteDeltaCache = requireNonNull(deleteDeltaCache, "deleteDeltaCache is null");
+        this.footerCache = requireNonNull(footerCache, "footerCache is null");
+        this.readExecutor = requireNonNull(readExecutor, "readExecutor is null");
     }
 
     @Override
@@ -141,6 +171,7 @@ public class OrcPageSourceFactory
             long start,
             long length,
             long estimatedFileSize,
+            long fileModifiedTime,
             Properties schema,
             List<HiveColumnHandle> columns,
             TupleDomain<HiveColumnHandle> effectivePredicate,
@@ -176,6 +207,7 @@ public class OrcPageSourceFactory
                 start,
                 length,
                 estimatedFileSize,
+                fileModifiedTime,
                 readerColumnHandles,
                 columns,
                 isUseOrcColumnNames(session),
@@ -190,12 +222,16 @@ public class OrcPageSourceFactory
                         .withMaxReadBlockSize(getOrcMaxReadBlockSize(session))
                         .withLazyReadSmallRanges(getOrcLazyReadSmallRanges(session))
                         .withNestedLazy(isOrcNestedLazy(session))
-                        .withBloomFiltersEnabled(isOrcBloomFiltersEnabled(session)),
+                        .withBloomFiltersEnabled(isOrcBloomFiltersEnabled(session))
+                        .withMaxReadConcurrency(getOrcMaxReadConcurrency(session)),
                 acidInfo,
                 bucketNumber,
                 originalFile,
                 transaction,
-                stats);
+                stats,
+                deleteDeltaCache,
+                footerCache,
+                readExecutor);
 
         return Optional.of(new ReaderPageSource(orcPageSource, readerColumns));
     }
@@ -208,6 +244,7 @@ public class OrcPageSourceFactory
             long start,
             long length,
             long estimatedFileSize,
+            long fileModifiedTime,
             List<HiveColumnHandle> columns,
             List<HiveColumnHandle> projections,
             boolean useOrcColumnNames,
@@ -219,7 +256,10 @@ public class OrcPageSourceFactory
             OptionalInt bucketNumber,
             boolean originalFile,
             AcidTransaction transaction,
-            FileFormatDataSourceStats stats)
+            FileFormatDataSourceStats stats,
+            OrcDeleteDeltaCache deleteDeltaCache,
+            FileFooterCache footerCache,
+            Executor readExecutor)
     {
         for (HiveColumnHandle column : columns) {
             checkArgument(column.getColumnType() == REGULAR, "column type must be regular: %s", column);
@@ -237,7 +277,8 @@ public class OrcPageSourceFactory
                     estimatedFileSize,
                     options,
                     inputStream,
-                    stats);
+                    stats,
+                    readExecutor);
         }
         catch (Exception e) {
             if (nullToEmpty(e.getMessage()).trim().equals("Filesystem closed") ||
@@ -249,7 +290,7 @@ public class OrcPageSourceFactory
 
         AggregatedMemoryContext systemMemoryUsage = newSimpleAggregatedMemoryContext();
         try {
-            Optional<OrcReader> optionalOrcReader = OrcReader.createOrcReader(orcDataSource, options);
+            Optional<OrcReader> optionalOrcReader = footerCache.createOrcReader(orcDataSource, options, fileModifiedTime);
             if (optionalOrcReader.isEmpty()) {
                 return new EmptyPageSource();
             }
@@ -375,7 +416,8 @@ public class OrcPageSourceFactory
                             sessionUser,
                             configuration,
                             hdfsEnvironment,
-                            info));
+                            info,
+                            deleteDeltaCache));
 
             Optional<Long> originalFileRowId = acidInfo
                     .filter(OrcPageSourceFactory::hasOriginalFilesAndDeleteDeltas)
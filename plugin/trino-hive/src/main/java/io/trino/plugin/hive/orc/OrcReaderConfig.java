@@ -16,13 +16,19 @@ package io.trino.plugin.hive.orc;
 import io.airlift.configuration.Config;
 import io.airlift.configuration.ConfigDescription;
 import io.airlift.units.DataSize;
+import io.airlift.units.Duration;
 import io.trino.orc.OrcReaderOptions;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
+import java.util.concurrent.TimeUnit;
+
 public class OrcReaderConfig
 {
     private boolean useColumnNames;
+    private DataSize deleteDeltaCacheSize = DataSize.of(256, DataSize.Unit.MEGABYTE);
+    private Duration deleteDeltaCacheTtl = new Duration(10, TimeUnit.MINUTES);
 
     private OrcReaderOptions options = new OrcReaderOptions();
 
@@ -152,4 +158,46 @@ public class OrcReaderConfig
         options = options.withNestedLazy(nestedLazy);
         return this;
     }
+
+    @Min(1)
+    public int getMaxReadConcurrency()
+    {
+        return options.getMaxReadConcurrency();
+    }
+
+    @Config("hive.orc.max-read-concurrency")
+    @ConfigDescription("Maximum number of concurrent reads of a single ORC file")
+    public OrcReaderConfig setMaxReadConcurrency(int maxReadConcurrency)
+    {
+        options = options.withMaxReadConcurrency(maxReadConcurrency);
+        return this;
+    }
+
+    @NotNull
+    public DataSize getDeleteDeltaCacheSize()
+    {
+        return deleteDeltaCacheSize;
+    }
+
+    @Config("hive.orc.delete-delta-cache-size")
+    @ConfigDescription("Maximum size of the deleted row ids of transactional tables cached on a worker")
+    public OrcReaderConfig setDeleteDeltaCacheSize(DataSize deleteDeltaCacheSize)
+    {
+        this.deleteDeltaCacheSize = deleteDeltaCacheSize;
+        return this;
+    }
+
+    @NotNull
+    public Duration getDeleteDeltaCacheTtl()
+    {
+        return deleteDeltaCacheTtl;
+    }
+
+    @Config("hive.orc.delete-delta-cache-ttl")
+    @ConfigDescription("Time after which the cached deleted row ids of transactional tables are read again")
+    public OrcReaderConfig setDeleteDeltaCacheTtl(Duration deleteDeltaCacheTtl)
+    {
+        this.deleteDeltaCacheTtl = deleteDeltaCacheTtl;
+        return this;
+    }
 }
@@ -22,6 +22,7 @@ import io.trino.orc.OrcWriterOptions;
 
 import javax.validation.constraints.DecimalMax;
 import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
 @DefunctConfig("hive.orc.optimized-writer.enabled")
@@ -34,6 +35,7 @@ public class OrcWriterConfig
     private boolean useLegacyVersion;
     private double validationPercentage;
     private OrcWriteValidationMode validationMode = OrcWriteValidationMode.BOTH;
+    private int encoderThreads = Runtime.getRuntime().availableProcessors();
 
     public OrcWriterOptions toOrcWriterOptions()
     {
@@ -137,6 +139,34 @@ public class OrcWriterConfig
         return this;
     }
 
+    @Min(1)
+    public int getWriterParallelism()
+    {
+        return options.getWriterParallelism();
+    }
+
+    @Config("hive.orc.writer.parallelism")
+    @ConfigDescription("Maximum number of threads used to encode and compress the columns of a single ORC file")
+    public OrcWriterConfig setWriterParallelism(int writerParallelism)
+    {
+        options = options.withWriterParallelism(writerParallelism);
+        return this;
+    }
+
+    @Min(1)
+    public int getEncoderThreads()
+    {
+        return encoderThreads;
+    }
+
+    @Config("hive.orc.writer.encoder-threads")
+    @ConfigDescription("Size of the thread pool shared by all ORC writers for parallel column encoding")
+    public OrcWriterConfig setEncoderThreads(int encoderThreads)
+    {
+        this.encoderThreads = encoderThreads;
+        return this;
+    }
+
     public boolean isUseLegacyVersion()
     {
         return useLegacyVersion;
@@ -15,6 +15,7 @@ package io.trino.plugin.hive.parquet;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.airlift.slice.Slice;
 import io.airlift.slice.Slices;
 import io.airlift.units.DataSize;
@@ -24,6 +25,7 @@ import io.trino.parquet.ParquetDataSource;
 import io.trino.parquet.ParquetDataSourceId;
 import io.trino.parquet.ParquetReaderOptions;
 import io.trino.plugin.hive.FileFormatDataSourceStats;
+import io.trino.plugin.hive.util.ConcurrentRangeReader;
 import io.trino.plugin.hive.util.FSDataInputStreamTail;
 import io.trino.spi.TrinoException;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -33,10 +35,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Verify.verify;
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static io.airlift.concurrent.MoreFutures.getFutureValue;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_FILESYSTEM_ERROR;
+import static java.lang.Math.min;
 import static java.lang.Math.toIntExact;
 import static java.lang.String.format;
 import static java.util.Comparator.comparingLong;
@@ -48,10 +56,11 @@ public class HdfsParquetDataSource
     private final ParquetDataSourceId id;
     private final long estimatedSize;
     private final FSDataInputStream inputStream;
-    private long readTimeNanos;
-    private long readBytes;
+    private final AtomicLong readTimeNanos = new AtomicLong();
+    private final AtomicLong readBytes = new AtomicLong();
     private final FileFormatDataSourceStats stats;
     private final ParquetReaderOptions options;
+    private final Optional<ConcurrentRangeReader> rangeReader;
 
     public HdfsParquetDataSource(
             ParquetDataSourceId id,
@@ -59,12 +68,35 @@ public class HdfsParquetDataSource
             FSDataInputStream inputStream,
             FileFormatDataSourceStats stats,
             ParquetReaderOptions options)
+    {
+        this(id, estimatedSize, inputStream, stats, options, Optional.empty());
+    }
+
+    public HdfsParquetDataSource(
+            ParquetDataSourceId id,
+            long estimatedSize,
+            FSDataInputStream inputStream,
+            FileFormatDataSourceStats stats,
+            ParquetReaderOptions options,
+            Executor readExecutor)
+    {
+        this(id, estimatedSize, inputStream, stats, options, Optional.of(new ConcurrentRangeReader(readExecutor, options.getMaxReadConcurrency())));
+    }
+
+    private HdfsParquetDataSource(
+            ParquetDataSourceId id,
+            long estimatedSize,
+            FSDataInputStream inputStream,
+            FileFormatDataSourceStats stats,
+            ParquetReaderOptions options,
+            Optional<ConcurrentRangeReader> rangeReader)
     {
         this.id = requireNonNull(id, "id is null");
         this.estimatedSize = estimatedSize;
         this.inputStream = inputStream;
         this.stats = stats;
         this.options = requireNonNull(options, "options is null");
+        this.rangeReader = requireNonNull(rangeReader, "rangeReader is null");
     }
 
     @Override
@@ -76,13 +108,13 @@ public class HdfsParquetDataSource
     @Override
     public final long getReadBytes()
     {
-        return readBytes;
+        return readBytes.get();
     }
 
     @Override
     public long getReadTimeNanos()
     {
-        return readTimeNanos;
+        return readTimeNanos.get();
     }
 
     @Override
@@ -95,6 +127,7 @@ public class HdfsParquetDataSource
     public void close()
             throws IOException
     {
+        rangeReader.ifPresent(ConcurrentRangeReader::close);
         inputStream.close();
     }
 
@@ -113,8 +146,8 @@ public class HdfsParquetDataSource
         }
         long currentReadTimeNanos = System.nanoTime() - start;
 
-        readTimeNanos += currentReadTimeNanos;
-        readBytes += tailSlice.length();
+        readTimeNanos.addAndGet(currentReadTimeNanos);
+        readBytes.addAndGet(tailSlice.length());
         return tailSlice;
     }
 
@@ -128,7 +161,7 @@ public class HdfsParquetDataSource
 
     private void readFully(long position, byte[] buffer, int bufferOffset, int bufferLength)
     {
-        readBytes += bufferLength;
+        readBytes.addAndGet(bufferLength);
 
         long start = System.nanoTime();
         try {
@@ -143,7 +176,7 @@ public class HdfsParquetDataSource
         }
         long currentReadTimeNanos = System.nanoTime() - start;
 
-        readTimeNanos += currentReadTimeNanos;
+        readTimeNanos.addAndGet(currentReadTimeNanos);
         stats.readDataBytesPerSecond(bufferLength, currentReadTimeNanos);
     }
 
@@ -188,11 +221,17 @@ public class HdfsParquetDataSource
             return ImmutableMap.of();
         }
 
-        Iterable<DiskRange> mergedRanges = mergeAdjacentDiskRanges(diskRanges.values(), options.getMaxMergeDistance(), options.getMaxBufferSize());
+        List<DiskRange> mergedRanges = mergeAdjacentDiskRanges(diskRanges.values(), options.getMaxMergeDistance(), options.getMaxBufferSize());
+
+        // the plan covers all row groups of the split, so merged ranges are read ahead
+        // of use within a window of the read concurrency, instead of all at once
+        boolean readAhead = rangeReader.isPresent() && options.getMaxReadConcurrency() > 1 && mergedRanges.size() > 1;
+        List<ReferenceCountedReader> mergedRangeLoaders = new ArrayList<>(mergedRanges.size());
 
         ImmutableMap.Builder<K, ChunkReader> slices = ImmutableMap.builder();
         for (DiskRange mergedRange : mergedRanges) {
-            ReferenceCountedReader mergedRangeLoader = new ReferenceCountedReader(mergedRange);
+            ReferenceCountedReader mergedRangeLoader = new ReferenceCountedReader(mergedRange, readAhead ? mergedRangeLoaders : ImmutableList.of(), mergedRangeLoaders.size());
+            mergedRangeLoaders.add(mergedRangeLoader);
 
             for (Map.Entry<K, DiskRange> diskRangeEntry : diskRanges.entrySet()) {
                 DiskRange diskRange = diskRangeEntry.getValue();
@@ -233,7 +272,7 @@ public class HdfsParquetDataSource
 
         ImmutableMap.Builder<K, ChunkReader> slices = ImmutableMap.builder();
         for (Map.Entry<K, DiskRange> entry : diskRanges.entrySet()) {
-            slices.put(entry.getKey(), new ReferenceCountedReader(entry.getValue()));
+            slices.put(entry.getKey(), new ReferenceCountedReader(entry.getValue(), ImmutableList.of(), 0));
         }
         return slices.build();
     }
@@ -277,12 +316,18 @@ public class HdfsParquetDataSource
             implements ChunkReader
     {
         private final DiskRange range;
+        // merged ranges of the same plan in offset order, or empty if ranges are only read when used
+        private final List<ReferenceCountedReader> readAheadRanges;
+        private final int readAheadIndex;
+        private ListenableFuture<Slice> pendingRead;
         private Slice data;
         private int referenceCount = 1;
 
-        public ReferenceCountedReader(DiskRange range)
+        public ReferenceCountedReader(DiskRange range, List<ReferenceCountedReader> readAheadRanges, int readAheadIndex)
         {
             this.range = range;
+            this.readAheadRanges = readAheadRanges;
+            this.readAheadIndex = readAheadIndex;
         }
 
         public void addReference()
@@ -297,9 +342,16 @@ public class HdfsParquetDataSource
             checkState(referenceCount > 0, "Chunk reader is already closed");
 
             if (data == null) {
-                byte[] buffer = new byte[range.getLength()];
-                readFully(range.getOffset(), buffer, 0, buffer.length);
-                data = Slices.wrappedBuffer(buffer);
+                startReadAhead();
+                if (pendingRead != null) {
+                    data = getFutureValue(pendingRead);
+                    pendingRead = null;
+                }
+                else {
+                    byte[] buffer = new byte[range.getLength()];
+                    readFully(range.getOffset(), buffer, 0, buffer.length);
+                    data = Slices.wrappedBuffer(buffer);
+                }
             }
 
             return data;
@@ -313,6 +365,25 @@ public class HdfsParquetDataSource
             referenceCount--;
             if (referenceCount == 0) {
                 data = null;
+                if (pendingRead != null) {
+                    pendingRead.cancel(false);
+                    pendingRead = null;
+                }
+            }
+        }
+
+        private void startReadAhead()
+        {
+            int end = min(readAheadIndex + options.getMaxReadConcurrency(), readAheadRanges.size());
+            for (int i = readAheadIndex; i < end; i++) {
+                readAheadRanges.get(i).startRead();
+            }
+        }
+
+        private void startRead()
+        {
+            if (referenceCount > 0 && data == null && pendingRead == null) {
+                pendingRead = getOnlyElement(rangeReader.orElseThrow().read(ImmutableList.of(range), diskRange -> readFully(diskRange.getOffset(), diskRange.getLength())));
             }
         }
     }
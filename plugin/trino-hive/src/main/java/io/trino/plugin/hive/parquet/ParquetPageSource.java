@@ -21,8 +21,8 @@ import io.trino.spi.Page;
 import io.trino.spi.TrinoException;
 import io.trino.spi.block.Block;
 import io.trino.spi.block.LazyBlock;
-import io.trino.spi.block.LazyBlockLoader;
 import io.trino.spi.block.RunLengthEncodedBlock;
+import io.trino.spi.block.SelectiveLazyBlockLoader;
 import io.trino.spi.connector.ConnectorPageSource;
 import io.trino.spi.type.Type;
 
@@ -142,7 +142,7 @@ public class ParquetPageSource
     }
 
     private final class ParquetBlockLoader
-            implements LazyBlockLoader
+            implements SelectiveLazyBlockLoader
     {
         private final int expectedBatchId = batchId;
         private final Field field;
@@ -155,13 +155,24 @@ public class ParquetPageSource
 
         @Override
         public final Block load()
+        {
+            return load(() -> parquetReader.readBlock(field));
+        }
+
+        @Override
+        public Block load(int[] positions, int offset, int length)
+        {
+            return load(() -> parquetReader.readBlock(field, positions, offset, length));
+        }
+
+        private Block load(BlockReader reader)
         {
             checkState(!loaded, "Already loaded");
             checkState(batchId == expectedBatchId);
 
             Block block;
             try {
-                block = parquetReader.readBlock(field);
+                block = reader.read();
             }
             catch (ParquetCorruptionException e) {
                 throw new TrinoException(HIVE_BAD_DATA, e);
@@ -174,4 +185,10 @@ public class ParquetPageSource
             return block;
         }
     }
+
+    private interface BlockReader
+    {
+        Block read()
+                throws IOException;
+    }
 }
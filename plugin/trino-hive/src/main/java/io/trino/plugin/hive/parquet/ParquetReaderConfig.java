@@ -19,6 +19,7 @@ import io.airlift.configuration.LegacyConfig;
 import io.airlift.units.DataSize;
 import io.trino.parquet.ParquetReaderOptions;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
 public class ParquetReaderConfig
@@ -90,6 +91,20 @@ public class ParquetReaderConfig
         return this;
     }
 
+    @Min(1)
+    public int getMaxReadConcurrency()
+    {
+        return options.getMaxReadConcurrency();
+    }
+
+    @Config("parquet.max-read-concurrency")
+    @ConfigDescription("Maximum number of concurrent reads of a single Parquet file")
+    public ParquetReaderConfig setMaxReadConcurrency(int maxReadConcurrency)
+    {
+        options = options.withMaxReadConcurrency(maxReadConcurrency);
+        return this;
+    }
+
     public ParquetReaderOptions toParquetReaderOptions()
     {
         return options;
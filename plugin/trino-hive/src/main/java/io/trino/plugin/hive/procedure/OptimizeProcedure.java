@@ -0,0 +1,446 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.procedure;
+
+import com.google.common.collect.ImmutableList;
+import io.airlift.json.JsonCodec;
+import io.airlift.slice.Slice;
+import io.airlift.slice.Slices;
+import io.airlift.units.DataSize;
+import io.trino.plugin.hive.HdfsEnvironment;
+import io.trino.plugin.hive.HdfsEnvironment.HdfsContext;
+import io.trino.plugin.hive.HiveInsertTableHandle;
+import io.trino.plugin.hive.HiveMetadata;
+import io.trino.plugin.hive.HivePartitionKey;
+import io.trino.plugin.hive.HiveSplit;
+import io.trino.plugin.hive.HiveTableHandle;
+import io.trino.plugin.hive.HiveTransactionHandle;
+import io.trino.plugin.hive.PartitionUpdate;
+import io.trino.plugin.hive.TableToPartitionMapping;
+import io.trino.plugin.hive.TransactionalMetadataFactory;
+import io.trino.plugin.hive.authentication.HiveIdentity;
+import io.trino.plugin.hive.metastore.Column;
+import io.trino.plugin.hive.metastore.Partition;
+import io.trino.plugin.hive.metastore.SemiTransactionalHiveMetastore;
+import io.trino.plugin.hive.metastore.Table;
+import io.trino.spi.Page;
+import io.trino.spi.TrinoException;
+import io.trino.spi.classloader.ThreadContextClassLoader;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.ConnectorAccessControl;
+import io.trino.spi.connector.ConnectorPageSink;
+import io.trino.spi.connector.ConnectorPageSinkProvider;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.connector.ConnectorPageSourceProvider;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.connector.DynamicFilter;
+import io.trino.spi.connector.SchemaTableName;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.procedure.Procedure;
+import io.trino.spi.procedure.Procedure.Argument;
+import io.trino.spi.type.ArrayType;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Properties;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.airlift.concurrent.MoreFutures.getFutureValue;
+import static io.trino.plugin.hive.HiveErrorCode.HIVE_FILESYSTEM_ERROR;
+import static io.trino.plugin.hive.HivePartition.UNPARTITIONED_ID;
+import static io.trino.plugin.hive.LocationHandle.WriteMode.STAGE_AND_MOVE_TO_TARGET_DIRECTORY;
+import static io.trino.plugin.hive.HiveSessionProperties.InsertExistingPartitionsBehavior.APPEND;
+import static io.trino.plugin.hive.HiveSessionProperties.getInsertExistingPartitionsBehavior;
+import static io.trino.plugin.hive.metastore.MetastoreUtil.getHiveSchema;
+import static io.trino.spi.StandardErrorCode.INVALID_PROCEDURE_ARGUMENT;
+import static io.trino.spi.StandardErrorCode.NOT_SUPPORTED;
+import static io.trino.spi.block.MethodHandleUtil.methodHandle;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.apache.hadoop.hive.metastore.utils.FileUtils.makePartName;
+import static org.apache.hadoop.hive.ql.io.AcidUtils.isTransactionalTable;
+
+/**
+ * A procedure that merges the small files of a table into files of up to the given size.  It can be
+ * invoked for a subset of partitions (e.g. {@code CALL system.optimize('schema', 'some_table', ARRAY[ARRAY['x', '7']])})
+ * or for the entire table ({@code CALL system.optimize('schema', 'some_table')}).  The rows are rewritten
+ * through the regular insert path into a staging directory.  When the insert commits, the new files are moved
+ * into place, the replaced files are hidden and the file statistics are adjusted; the replaced files are only
+ * deleted once the commit can no longer fail, and are restored otherwise.
+ */
+public class OptimizeProcedure
+        implements Provider<Procedure>
+{
+    private static final MethodHandle OPTIMIZE = methodHandle(
+            OptimizeProcedure.class,
+            "optimize",
+            ConnectorSession.class,
+            ConnectorAccessControl.class,
+            String.class,
+            String.class,
+            List.class,
+            String.class);
+
+    private final TransactionalMetadataFactory hiveMetadataFactory;
+    private final HdfsEnvironment hdfsEnvironment;
+    private final ConnectorPageSourceProvider pageSourceProvider;
+    private final ConnectorPageSinkProvider pageSinkProvider;
+    private final JsonCodec<PartitionUpdate> partitionUpdateCodec;
+
+    @Inject
+    public OptimizeProcedure(
+            TransactionalMetadataFactory hiveMetadataFactory,
+            HdfsEnvironment hdfsEnvironment,
+            ConnectorPageSourceProvider pageSourceProvider,
+            ConnectorPageSinkProvider pageSinkProvider,
+            JsonCodec<PartitionUpdate> partitionUpdateCodec)
+    {
+        this.hiveMetadataFactory = requireNonNull(hiveMetadataFactory, "hiveMetadataFactory is null");
+        this.hdfsEnvironment = requireNonNull(hdfsEnvironment, "hdfsEnvironment is null");
+        this.pageSourceProvider = requireNonNull(pageSourceProvider, "pageSourceProvider is null");
+        this.pageSinkProvider = requireNonNull(pageSinkProvider, "pageSinkProvider is null");
+        this.partitionUpdateCodec = requireNonNull(partitionUpdateCodec, "partitionUpdateCodec is null");
+    }
+
+    @Override
+    public Procedure get()
+    {
+        return new Procedure(
+                "system",
+                "optimize",
+                ImmutableList.of(
+                        new Argument("schema_name", VARCHAR),
+                        new Argument("table_name", VARCHAR),
+                        new Argument("partition_values", new ArrayType(new ArrayType(VARCHAR)), false, null),
+                        new Argument("file_size_threshold", VARCHAR, false, null)),
+                OPTIMIZE.bindTo(this));
+    }
+
+    public void optimize(ConnectorSession session, ConnectorAccessControl accessControl, String schema, String table, List<?> partitionValues, String fileSizeThreshold)
+    {
+        try (ThreadContextClassLoader ignored = new ThreadContextClassLoader(getClass().getClassLoader())) {
+            doOptimize(session, accessControl, schema, table, partitionValues, fileSizeThreshold);
+        }
+    }
+
+    private void doOptimize(ConnectorSession session, ConnectorAccessControl accessControl, String schema, String table, List<?> partitionValues, String fileSizeThreshold)
+    {
+        SchemaTableName schemaTableName = new SchemaTableName(schema, table);
+        HiveMetadata hiveMetadata = (HiveMetadata) hiveMetadataFactory.create();
+        HiveTableHandle tableHandle = hiveMetadata.getTableHandle(session, schemaTableName);
+        if (tableHandle == null) {
+            throw new TrinoException(INVALID_PROCEDURE_ARGUMENT, format("Table '%s' does not exist", schemaTableName));
+        }
+
+        accessControl.checkCanInsertIntoTable(null, schemaTableName);
+        accessControl.checkCanDeleteFromTable(null, schemaTableName);
+
+        long maxFileSize = parseFileSizeThreshold(fileSizeThreshold);
+        SemiTransactionalHiveMetastore metastore = hiveMetadata.getMetastore();
+        HiveIdentity identity = new HiveIdentity(session);
+        Table hiveTable = metastore.getTable(identity, schema, table)
+                .orElseThrow(() -> new TrinoException(INVALID_PROCEDURE_ARGUMENT, format("Table '%s' does not exist", schemaTableName)));
+        if (isTransactionalTable(hiveTable.getParameters())) {
+            throw new TrinoException(NOT_SUPPORTED, "Optimizing transactional tables is not supported");
+        }
+        if (tableHandle.getBucketHandle().isPresent()) {
+            // files of a bucketed table can not be combined across buckets, and existing buckets can not be appended to
+            throw new TrinoException(NOT_SUPPORTED, "Optimizing bucketed tables is not supported");
+        }
+        if (getInsertExistingPartitionsBehavior(session) != APPEND) {
+            throw new TrinoException(NOT_SUPPORTED, "Optimizing requires the insert_existing_partitions_behavior session property to be APPEND");
+        }
+
+        List<Optional<Partition>> partitions = getPartitions(metastore, identity, hiveTable, partitionValues);
+
+        HiveInsertTableHandle insertHandle = hiveMetadata.beginInsert(session, tableHandle);
+        try {
+            if (insertHandle.getLocationHandle().getWriteMode() != STAGE_AND_MOVE_TO_TARGET_DIRECTORY) {
+                // files written directly into the partition would be read together with the files they replace before the commit
+                throw new TrinoException(NOT_SUPPORTED, "Optimizing requires writes to be staged in a temporary directory");
+            }
+
+            List<ColumnHandle> columns = ImmutableList.copyOf(insertHandle.getInputColumns());
+            List<String> partitionColumns = hiveTable.getPartitionColumns().stream()
+                    .map(Column::getName)
+                    .collect(toImmutableList());
+            HdfsContext context = new HdfsContext(session, schema, table);
+            ImmutableList.Builder<Slice> fragments = ImmutableList.builder();
+            for (Optional<Partition> partition : partitions) {
+                if (partition.isPresent() && !hasTableColumns(partition.get(), hiveTable)) {
+                    // rows of partitions with a different schema would need to be coerced while rewriting
+                    continue;
+                }
+                Path location = new Path(partition.map(value -> value.getStorage().getLocation()).orElse(hiveTable.getStorage().getLocation()));
+                List<Path> replacedFiles = new ArrayList<>();
+                long fileCountDelta = 0;
+                long onDiskDataSizeDelta = 0;
+                for (List<FileStatus> files : groupSmallFiles(context, location, maxFileSize)) {
+                    for (PartitionUpdate partitionUpdate : rewriteFiles(session, tableHandle, insertHandle, columns, hiveTable, partition, files)) {
+                        fragments.add(withoutStatistics(partitionUpdate));
+                        fileCountDelta += partitionUpdate.getFileNames().size();
+                        onDiskDataSizeDelta += partitionUpdate.getOnDiskDataSizeInBytes();
+                    }
+                    for (FileStatus file : files) {
+                        replacedFiles.add(file.getPath());
+                        fileCountDelta--;
+                        onDiskDataSizeDelta -= file.getLen();
+                    }
+                }
+                if (!replacedFiles.isEmpty()) {
+                    Optional<String> partitionName = partition.map(value -> makePartName(partitionColumns, value.getValues()));
+                    metastore.replaceFilesOnCommit(session, schema, table, partitionName, replacedFiles, fileCountDelta, onDiskDataSizeDelta);
+                }
+            }
+
+            hiveMetadata.finishInsert(session, insertHandle, fragments.build(), ImmutableList.of());
+        }
+        catch (RuntimeException e) {
+            // removes the staging directory of the insert
+            hiveMetadata.rollback();
+            throw e;
+        }
+        hiveMetadata.commit();
+    }
+
+    private static long parseFileSizeThreshold(String fileSizeThreshold)
+    {
+        if (fileSizeThreshold == null) {
+            return DataSize.of(128, DataSize.Unit.MEGABYTE).toBytes();
+        }
+        try {
+            return DataSize.valueOf(fileSizeThreshold).toBytes();
+        }
+        catch (IllegalArgumentException e) {
+            throw new TrinoException(INVALID_PROCEDURE_ARGUMENT, format("Invalid file size threshold '%s'", fileSizeThreshold), e);
+        }
+    }
+
+    private static List<Optional<Partition>> getPartitions(SemiTransactionalHiveMetastore metastore, HiveIdentity identity, Table table, List<?> partitionValues)
+    {
+        List<String> partitionColumns = table.getPartitionColumns().stream()
+                .map(Column::getName)
+                .collect(toImmutableList());
+        if (partitionColumns.isEmpty()) {
+            if (partitionValues != null) {
+                throw new TrinoException(INVALID_PROCEDURE_ARGUMENT, "Cannot specify partition values for an unpartitioned table");
+            }
+            return ImmutableList.of(Optional.empty());
+        }
+
+        List<String> partitionNames;
+        if (partitionValues == null) {
+            partitionNames = metastore.getPartitionNamesByFilter(identity, table.getDatabaseName(), table.getTableName(), partitionColumns, TupleDomain.all())
+                    .orElseThrow(() -> new TrinoException(INVALID_PROCEDURE_ARGUMENT, format("Table '%s' does not exist", table.getSchemaTableName())));
+        }
+        else {
+            partitionNames = partitionValues.stream()
+                    .map(OptimizeProcedure::validateParameterType)
+                    .map(values -> {
+                        if (values.size() != partitionColumns.size()) {
+                            throw new TrinoException(
+                                    INVALID_PROCEDURE_ARGUMENT,
+                                    format("Partition values %s don't match the number of partition columns (%s)", values, partitionColumns.size()));
+                        }
+                        return makePartName(partitionColumns, values);
+                    })
+                    .collect(toImmutableList());
+        }
+
+        Map<String, Optional<Partition>> partitionsByName = metastore.getPartitionsByNames(identity, table.getDatabaseName(), table.getTableName(), partitionNames);
+        ImmutableList.Builder<Optional<Partition>> partitions = ImmutableList.builder();
+        for (String partitionName : partitionNames) {
+            Optional<Partition> partition = partitionsByName.getOrDefault(partitionName, Optional.empty());
+            if (partition.isEmpty()) {
+                throw new TrinoException(INVALID_PROCEDURE_ARGUMENT, format("Partition '%s' does not exist", partitionName));
+            }
+            partitions.add(partition);
+        }
+        return partitions.build();
+    }
+
+    private static List<String> validateParameterType(Object param)
+    {
+        if (param == null) {
+            throw new TrinoException(INVALID_PROCEDURE_ARGUMENT, "Null partition value");
+        }
+
+        if (param instanceof List) {
+            return ((List<?>) param)
+                    .stream()
+                    .map(String.class::cast)
+                    .collect(toImmutableList());
+        }
+
+        throw new TrinoException(INVALID_PROCEDURE_ARGUMENT, "Partition value must be an array");
+    }
+
+    private static boolean hasTableColumns(Partition partition, Table table)
+    {
+        List<Column> partitionColumns = partition.getColumns();
+        List<Column> tableColumns = table.getDataColumns();
+        if (partitionColumns.size() != tableColumns.size()) {
+            return false;
+        }
+        for (int i = 0; i < partitionColumns.size(); i++) {
+            if (!partitionColumns.get(i).getName().equals(tableColumns.get(i).getName()) ||
+                    !partitionColumns.get(i).getType().equals(tableColumns.get(i).getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Groups the files smaller than the maximum size into groups of at least two files, whose total size is at most the maximum size.
+     */
+    private List<List<FileStatus>> groupSmallFiles(HdfsContext context, Path location, long maxFileSize)
+    {
+        List<FileStatus> smallFiles = new ArrayList<>();
+        try {
+            FileSystem fileSystem = hdfsEnvironment.getFileSystem(context, location);
+            FileStatus[] files = hdfsEnvironment.doAs(context.getIdentity().getUser(), () -> fileSystem.listStatus(location));
+            for (FileStatus file : files) {
+                // Hive ignores files starting with _ and . as well
+                String fileName = file.getPath().getName();
+                if (file.isFile() && !fileName.startsWith("_") && !fileName.startsWith(".") && file.getLen() < maxFileSize) {
+                    smallFiles.add(file);
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new TrinoException(HIVE_FILESYSTEM_ERROR, "Failed to list files of " + location, e);
+        }
+        smallFiles.sort(Comparator.comparingLong(FileStatus::getLen));
+
+        ImmutableList.Builder<List<FileStatus>> groups = ImmutableList.builder();
+        List<FileStatus> group = new ArrayList<>();
+        long groupSize = 0;
+        for (FileStatus file : smallFiles) {
+            if (!group.isEmpty() && groupSize + file.getLen() > maxFileSize) {
+                if (group.size() > 1) {
+                    groups.add(ImmutableList.copyOf(group));
+                }
+                group.clear();
+                groupSize = 0;
+            }
+            group.add(file);
+            groupSize += file.getLen();
+        }
+        if (group.size() > 1) {
+            groups.add(ImmutableList.copyOf(group));
+        }
+        return groups.build();
+    }
+
+    /**
+     * Writes the rows of the files into a single new file of the partition, and returns the updates describing it.
+     */
+    private List<PartitionUpdate> rewriteFiles(
+            ConnectorSession session,
+            HiveTableHandle tableHandle,
+            HiveInsertTableHandle insertHandle,
+            List<ColumnHandle> columns,
+            Table table,
+            Optional<Partition> partition,
+            List<FileStatus> files)
+    {
+        HiveTransactionHandle transaction = new HiveTransactionHandle();
+        ConnectorPageSink pageSink = pageSinkProvider.createPageSink(transaction, session, insertHandle);
+        try {
+            for (FileStatus file : files) {
+                HiveSplit split = createSplit(table, partition, file);
+                try (ConnectorPageSource pageSource = pageSourceProvider.createPageSource(transaction, session, split, tableHandle, columns, DynamicFilter.EMPTY)) {
+                    while (!pageSource.isFinished()) {
+                        Page page = pageSource.getNextPage();
+                        if (page != null) {
+                            getFutureValue(pageSink.appendPage(page.getLoadedPage()));
+                        }
+                    }
+                }
+            }
+            return getFutureValue(pageSink.finish()).stream()
+                    .map(fragment -> partitionUpdateCodec.fromJson(fragment.getBytes()))
+                    .collect(toImmutableList());
+        }
+        catch (IOException e) {
+            pageSink.abort();
+            throw new TrinoException(HIVE_FILESYSTEM_ERROR, "Failed to rewrite files of " + table.getSchemaTableName(), e);
+        }
+        catch (RuntimeException e) {
+            pageSink.abort();
+            throw e;
+        }
+    }
+
+    private Slice withoutStatistics(PartitionUpdate partitionUpdate)
+    {
+        // the rows are moved rather than added, so only the file statistics change, which are adjusted when the replaced files are hidden
+        return Slices.wrappedBuffer(partitionUpdateCodec.toJsonBytes(new PartitionUpdate(
+                partitionUpdate.getName(),
+                partitionUpdate.getUpdateMode(),
+                partitionUpdate.getWritePath(),
+                partitionUpdate.getTargetPath(),
+                partitionUpdate.getFileNames(),
+                0,
+                0,
+                0)));
+    }
+
+    private static HiveSplit createSplit(Table table, Optional<Partition> partition, FileStatus file)
+    {
+        Properties schema = partition.map(value -> getHiveSchema(value, table)).orElseGet(() -> getHiveSchema(table));
+        List<HivePartitionKey> partitionKeys = new ArrayList<>();
+        if (partition.isPresent()) {
+            for (int i = 0; i < table.getPartitionColumns().size(); i++) {
+                partitionKeys.add(new HivePartitionKey(table.getPartitionColumns().get(i).getName(), partition.get().getValues().get(i)));
+            }
+        }
+        return new HiveSplit(
+                table.getDatabaseName(),
+                table.getTableName(),
+                partition.map(value -> makePartName(
+                        table.getPartitionColumns().stream().map(Column::getName).collect(toImmutableList()),
+                        value.getValues())).orElse(UNPARTITIONED_ID),
+                file.getPath().toString(),
+                0,
+                file.getLen(),
+                file.getLen(),
+                file.getModificationTime(),
+                schema,
+                partitionKeys,
+                ImmutableList.of(),
+                OptionalInt.empty(),
+                0,
+                false,
+                TableToPartitionMapping.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                false,
+                Optional.empty());
+    }
+}
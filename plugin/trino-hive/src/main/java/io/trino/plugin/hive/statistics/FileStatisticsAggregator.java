@@ -0,0 +1,350 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.statistics;
+
+import io.trino.orc.OrcColumn;
+import io.trino.orc.OrcDataSource;
+import io.trino.orc.OrcDataSourceId;
+import io.trino.orc.OrcReader;
+import io.trino.orc.OrcReaderOptions;
+import io.trino.orc.metadata.ColumnMetadata;
+import io.trino.orc.metadata.OrcType;
+import io.trino.orc.metadata.OrcType.OrcTypeKind;
+import io.trino.orc.metadata.statistics.ColumnStatistics;
+import io.trino.orc.metadata.statistics.DateStatistics;
+import io.trino.orc.metadata.statistics.DecimalStatistics;
+import io.trino.orc.metadata.statistics.IntegerStatistics;
+import io.trino.parquet.ParquetDataSource;
+import io.trino.parquet.ParquetDataSourceId;
+import io.trino.parquet.ParquetReaderOptions;
+import io.trino.plugin.hive.FileFooterCache;
+import io.trino.plugin.hive.FileFormatDataSourceStats;
+import io.trino.plugin.hive.HdfsEnvironment;
+import io.trino.plugin.hive.HdfsEnvironment.HdfsContext;
+import io.trino.plugin.hive.HiveColumnHandle;
+import io.trino.plugin.hive.HiveConfig;
+import io.trino.plugin.hive.HiveStorageFormat;
+import io.trino.plugin.hive.metastore.Storage;
+import io.trino.plugin.hive.metastore.StorageFormat;
+import io.trino.plugin.hive.orc.HdfsOrcDataSource;
+import io.trino.plugin.hive.parquet.HdfsParquetDataSource;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.type.DecimalType;
+import io.trino.spi.type.Type;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+
+import javax.inject.Inject;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.trino.plugin.hive.HiveColumnHandle.ColumnType.REGULAR;
+import static io.trino.plugin.hive.HiveSessionProperties.isUseOrcColumnNames;
+import static io.trino.plugin.hive.HiveSessionProperties.isUseParquetColumnNames;
+import static io.trino.plugin.hive.HiveStorageFormat.ORC;
+import static io.trino.plugin.hive.HiveStorageFormat.PARQUET;
+import static io.trino.plugin.hive.parquet.ParquetPageSourceFactory.getParquetType;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.DateType.DATE;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.SmallintType.SMALLINT;
+import static io.trino.spi.type.TinyintType.TINYINT;
+import static java.util.Locale.ENGLISH;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Answers {@link StatisticsAggregate}s from the footers of the ORC and Parquet files of a table.
+ * Any file, column or statistic that can not give an exact answer makes the whole computation
+ * fail, and the query then reads the data instead.
+ */
+public class FileStatisticsAggregator
+{
+    private final HdfsEnvironment hdfsEnvironment;
+    private final FileFormatDataSourceStats stats;
+    private final FileFooterCache footerCache;
+    private final int maxFiles;
+
+    @Inject
+    public FileStatisticsAggregator(HdfsEnvironment hdfsEnvironment, FileFormatDataSourceStats stats, FileFooterCache footerCache, HiveConfig hiveConfig)
+    {
+        this.hdfsEnvironment = requireNonNull(hdfsEnvironment, "hdfsEnvironment is null");
+        this.stats = requireNonNull(stats, "stats is null");
+        this.footerCache = requireNonNull(footerCache, "footerCache is null");
+        this.maxFiles = requireNonNull(hiveConfig, "hiveConfig is null").getStatisticsAggregationPushdownMaxFiles();
+    }
+
+    /**
+     * Adds the statistics of all data files stored in the given partition storages to the aggregates.
+     *
+     * @return false if the aggregates can not be answered exactly from file statistics, in which
+     * case their values must be discarded
+     */
+    public boolean aggregate(ConnectorSession session, HdfsContext context, List<Storage> storages, List<StatisticsAggregate> aggregates)
+    {
+        for (StatisticsAggregate aggregate : aggregates) {
+            if (aggregate.getColumn().isPresent()) {
+                HiveColumnHandle column = (HiveColumnHandle) aggregate.getColumn().get();
+                if (!column.isBaseColumn() || column.getColumnType() != REGULAR) {
+                    return false;
+                }
+            }
+        }
+
+        try {
+            return hdfsEnvironment.doAs(session.getUser(), () -> {
+                int files = 0;
+                for (Storage storage : storages) {
+                    Optional<HiveStorageFormat> format = getStorageFormat(storage.getStorageFormat());
+                    if (format.isEmpty()) {
+                        return false;
+                    }
+                    Path directory = new Path(storage.getLocation());
+                    FileSystem fileSystem = hdfsEnvironment.getFileSystem(context, directory);
+                    for (FileStatus file : fileSystem.listStatus(directory)) {
+                        // Hive ignores files starting with _ and . as well
+                        String fileName = file.getPath().getName();
+                        if (fileName.startsWith("_") || fileName.startsWith(".")) {
+                            continue;
+                        }
+                        files++;
+                        if (file.isDirectory() || files > maxFiles) {
+                            return false;
+                        }
+                        boolean added = (format.get() == ORC)
+                                ? addOrcFile(session, fileSystem, file, aggregates)
+                                : addParquetFile(session, fileSystem, file, aggregates);
+                        if (!added) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            });
+        }
+        catch (FileNotFoundException e) {
+            // a missing partition location is reported when the data is read
+            return false;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean addOrcFile(ConnectorSession session, FileSystem fileSystem, FileStatus file, List<StatisticsAggregate> aggregates)
+            throws IOException
+    {
+        // per HIVE-13040 and ORC-162, empty files are allowed
+        if (file.getLen() == 0) {
+            return true;
+        }
+
+        OrcReaderOptions options = new OrcReaderOptions();
+        FSDataInputStream inputStream = fileSystem.open(file.getPath());
+        try (OrcDataSource dataSource = new HdfsOrcDataSource(new OrcDataSourceId(file.getPath().toString()), file.getLen(), options, inputStream, stats)) {
+            Optional<OrcReader> reader = footerCache.createOrcReader(dataSource, options, file.getModificationTime());
+            if (reader.isEmpty()) {
+                return true;
+            }
+            long rowCount = reader.get().getFooter().getNumberOfRows();
+            Optional<ColumnMetadata<ColumnStatistics>> fileStats = reader.get().getFooter().getFileStats();
+            ColumnMetadata<OrcType> types = reader.get().getFooter().getTypes();
+            List<OrcColumn> fileColumns = reader.get().getRootColumn().getNestedColumns();
+            Map<String, OrcColumn> fileColumnsByName = new HashMap<>();
+            for (OrcColumn fileColumn : fileColumns) {
+                fileColumnsByName.put(fileColumn.getColumnName().toLowerCase(ENGLISH), fileColumn);
+            }
+
+            for (StatisticsAggregate aggregate : aggregates) {
+                if (aggregate.getColumn().isEmpty()) {
+                    aggregate.add(rowCount, 0, 0, 0);
+                    continue;
+                }
+                HiveColumnHandle column = (HiveColumnHandle) aggregate.getColumn().get();
+                OrcColumn fileColumn;
+                if (isUseOrcColumnNames(session)) {
+                    fileColumn = fileColumnsByName.get(column.getBaseColumnName().toLowerCase(ENGLISH));
+                }
+                else {
+                    fileColumn = column.getBaseHiveColumnIndex() < fileColumns.size() ? fileColumns.get(column.getBaseHiveColumnIndex()) : null;
+                }
+                if (fileColumn == null) {
+                    // columns missing from the file are read as nulls
+                    aggregate.add(rowCount, 0, 0, 0);
+                    continue;
+                }
+                if (fileStats.isEmpty() || !isExactOrcType(column.getType(), types.get(fileColumn.getColumnId()))) {
+                    return false;
+                }
+                ColumnStatistics columnStatistics = fileStats.get().get(fileColumn.getColumnId());
+                if (!addOrcColumnStatistics(aggregate, rowCount, columnStatistics)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static boolean isExactOrcType(Type type, OrcType orcType)
+    {
+        OrcTypeKind kind = orcType.getOrcTypeKind();
+        if (type instanceof DecimalType) {
+            DecimalType decimalType = (DecimalType) type;
+            return kind == OrcTypeKind.DECIMAL &&
+                    orcType.getPrecision().equals(Optional.of(decimalType.getPrecision())) &&
+                    orcType.getScale().equals(Optional.of(decimalType.getScale()));
+        }
+        return (type.equals(TINYINT) && kind == OrcTypeKind.BYTE) ||
+                (type.equals(SMALLINT) && kind == OrcTypeKind.SHORT) ||
+                (type.equals(INTEGER) && kind == OrcTypeKind.INT) ||
+                (type.equals(BIGINT) && kind == OrcTypeKind.LONG) ||
+                (type.equals(DATE) && kind == OrcTypeKind.DATE);
+    }
+
+    private static boolean addOrcColumnStatistics(StatisticsAggregate aggregate, long rowCount, ColumnStatistics statistics)
+    {
+        if (statistics == null || !statistics.hasNumberOfValues()) {
+            return false;
+        }
+        long nonNullCount = statistics.getNumberOfValues();
+        if (aggregate.getKind() == StatisticsAggregate.Kind.COUNT || nonNullCount == 0) {
+            aggregate.add(rowCount, nonNullCount, 0, 0);
+            return true;
+        }
+
+        Type type = aggregate.getType();
+        if (type instanceof DecimalType) {
+            DecimalStatistics decimalStatistics = statistics.getDecimalStatistics();
+            if (decimalStatistics == null || decimalStatistics.getMin() == null || decimalStatistics.getMax() == null) {
+                return false;
+            }
+            int scale = ((DecimalType) type).getScale();
+            aggregate.add(rowCount, nonNullCount, unscaledValue(decimalStatistics.getMin(), scale), unscaledValue(decimalStatistics.getMax(), scale));
+            return true;
+        }
+        if (type.equals(DATE)) {
+            DateStatistics dateStatistics = statistics.getDateStatistics();
+            if (dateStatistics == null || dateStatistics.getMin() == null || dateStatistics.getMax() == null) {
+                return false;
+            }
+            aggregate.add(rowCount, nonNullCount, dateStatistics.getMin(), dateStatistics.getMax());
+            return true;
+        }
+        IntegerStatistics integerStatistics = statistics.getIntegerStatistics();
+        if (integerStatistics == null || integerStatistics.getMin() == null || integerStatistics.getMax() == null) {
+            return false;
+        }
+        aggregate.add(rowCount, nonNullCount, integerStatistics.getMin(), integerStatistics.getMax());
+        return true;
+    }
+
+    private static long unscaledValue(BigDecimal value, int scale)
+    {
+        return value.setScale(scale).unscaledValue().longValueExact();
+    }
+
+    private boolean addParquetFile(ConnectorSession session, FileSystem fileSystem, FileStatus file, List<StatisticsAggregate> aggregates)
+            throws IOException
+    {
+        if (file.getLen() == 0) {
+            return false;
+        }
+
+        FSDataInputStream inputStream = fileSystem.open(file.getPath());
+        try (ParquetDataSource dataSource = new HdfsParquetDataSource(new ParquetDataSourceId(file.getPath().toString()), file.getLen(), inputStream, stats, new ParquetReaderOptions())) {
+            ParquetMetadata parquetMetadata = footerCache.readParquetFooter(dataSource, file.getModificationTime());
+            for (StatisticsAggregate aggregate : aggregates) {
+                if (aggregate.getColumn().isEmpty()) {
+                    for (BlockMetaData block : parquetMetadata.getBlocks()) {
+                        aggregate.add(block.getRowCount(), 0, 0, 0);
+                    }
+                    continue;
+                }
+                HiveColumnHandle column = (HiveColumnHandle) aggregate.getColumn().get();
+                Optional<org.apache.parquet.schema.Type> field = getParquetType(parquetMetadata.getFileMetaData().getSchema(), isUseParquetColumnNames(session), column);
+                if (field.isEmpty()) {
+                    // columns missing from the file are read as nulls
+                    continue;
+                }
+                if (!field.get().isPrimitive() ||
+                        field.get().isRepetition(org.apache.parquet.schema.Type.Repetition.REPEATED) ||
+                        !isExactParquetType(column.getType(), field.get().asPrimitiveType())) {
+                    return false;
+                }
+                ColumnPath path = ColumnPath.get(field.get().getName());
+                for (BlockMetaData block : parquetMetadata.getBlocks()) {
+                    Optional<ColumnChunkMetaData> columnChunk = block.getColumns().stream()
+                            .filter(chunk -> chunk.getPath().equals(path))
+                            .findFirst();
+                    if (columnChunk.isEmpty() || !addParquetColumnStatistics(aggregate, block.getRowCount(), columnChunk.get().getStatistics())) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    private static boolean isExactParquetType(Type type, PrimitiveType parquetType)
+    {
+        PrimitiveTypeName typeName = parquetType.getPrimitiveTypeName();
+        OriginalType originalType = parquetType.getOriginalType();
+        return (type.equals(INTEGER) && typeName == PrimitiveTypeName.INT32 && (originalType == null || originalType == OriginalType.INT_32)) ||
+                (type.equals(BIGINT) && typeName == PrimitiveTypeName.INT64 && (originalType == null || originalType == OriginalType.INT_64)) ||
+                (type.equals(DATE) && typeName == PrimitiveTypeName.INT32 && originalType == OriginalType.DATE);
+    }
+
+    private static boolean addParquetColumnStatistics(StatisticsAggregate aggregate, long rowCount, Statistics<?> statistics)
+    {
+        if (statistics == null || statistics.isEmpty() || !statistics.isNumNullsSet()) {
+            return false;
+        }
+        long nonNullCount = rowCount - statistics.getNumNulls();
+        if (aggregate.getKind() == StatisticsAggregate.Kind.COUNT || nonNullCount == 0) {
+            aggregate.add(rowCount, nonNullCount, 0, 0);
+            return true;
+        }
+        if (!statistics.hasNonNullValue() || !(statistics.genericGetMin() instanceof Number) || !(statistics.genericGetMax() instanceof Number)) {
+            return false;
+        }
+        aggregate.add(rowCount, nonNullCount, ((Number) statistics.genericGetMin()).longValue(), ((Number) statistics.genericGetMax()).longValue());
+        return true;
+    }
+
+    private static Optional<HiveStorageFormat> getStorageFormat(StorageFormat storageFormat)
+    {
+        for (HiveStorageFormat format : List.of(ORC, PARQUET)) {
+            if (format.getSerDe().equals(storageFormat.getSerDeNullable()) && format.getInputFormat().equals(storageFormat.getInputFormatNullable())) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
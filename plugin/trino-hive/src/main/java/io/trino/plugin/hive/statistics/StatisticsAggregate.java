@@ -0,0 +1,162 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.statistics;
+
+import io.trino.spi.connector.AggregateFunction;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.expression.Variable;
+import io.trino.spi.type.DecimalType;
+import io.trino.spi.type.Type;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.DateType.DATE;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.SmallintType.SMALLINT;
+import static io.trino.spi.type.TinyintType.TINYINT;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A global {@code count(*)}, {@code count(column)}, {@code min(column)} or {@code max(column)}
+ * aggregate computed from per file statistics instead of the rows.  Only types whose statistics
+ * are exact (integers, dates and short decimals) are supported, all represented as {@code long}.
+ */
+public final class StatisticsAggregate
+{
+    public enum Kind
+    {
+        COUNT_ALL,
+        COUNT,
+        MIN,
+        MAX,
+    }
+
+    private final Kind kind;
+    private final Optional<ColumnHandle> column;
+    private final Type type;
+
+    private long count;
+    private boolean hasValue;
+    private long value;
+
+    private StatisticsAggregate(Kind kind, Optional<ColumnHandle> column, Type type)
+    {
+        this.kind = requireNonNull(kind, "kind is null");
+        this.column = requireNonNull(column, "column is null");
+        this.type = requireNonNull(type, "type is null");
+    }
+
+    public static Optional<StatisticsAggregate> fromAggregateFunction(AggregateFunction function, Map<String, ColumnHandle> assignments)
+    {
+        if (function.getFilter().isPresent()) {
+            return Optional.empty();
+        }
+        String name = function.getFunctionName();
+        if (name.equals("count") && function.getInputs().isEmpty()) {
+            return Optional.of(new StatisticsAggregate(Kind.COUNT_ALL, Optional.empty(), BIGINT));
+        }
+        if (function.getInputs().size() != 1 || !(function.getInputs().get(0) instanceof Variable)) {
+            return Optional.empty();
+        }
+        Variable input = (Variable) function.getInputs().get(0);
+        ColumnHandle column = assignments.get(input.getName());
+        if (column == null) {
+            return Optional.empty();
+        }
+        if (name.equals("count") && !function.isDistinct()) {
+            return Optional.of(new StatisticsAggregate(Kind.COUNT, Optional.of(column), BIGINT));
+        }
+        if ((name.equals("min") || name.equals("max")) && isSupportedType(input.getType()) && input.getType().equals(function.getOutputType())) {
+            return Optional.of(new StatisticsAggregate(name.equals("min") ? Kind.MIN : Kind.MAX, Optional.of(column), input.getType()));
+        }
+        return Optional.empty();
+    }
+
+    public static boolean isSupportedType(Type type)
+    {
+        return type.equals(TINYINT) ||
+                type.equals(SMALLINT) ||
+                type.equals(INTEGER) ||
+                type.equals(BIGINT) ||
+                type.equals(DATE) ||
+                (type instanceof DecimalType && ((DecimalType) type).isShort());
+    }
+
+    public Kind getKind()
+    {
+        return kind;
+    }
+
+    /**
+     * The aggregated column, absent for {@code count(*)}.
+     */
+    public Optional<ColumnHandle> getColumn()
+    {
+        return column;
+    }
+
+    public Type getType()
+    {
+        return type;
+    }
+
+    /**
+     * @param rowCount the number of rows in a file
+     * @param nonNullCount the number of non null values of the column in the file, ignored for {@code count(*)}
+     * @param min the minimum non null value, ignored unless this is {@code min(column)}
+     * @param max the maximum non null value, ignored unless this is {@code max(column)}
+     */
+    public void add(long rowCount, long nonNullCount, long min, long max)
+    {
+        switch (kind) {
+            case COUNT_ALL:
+                count += rowCount;
+                return;
+            case COUNT:
+                count += nonNullCount;
+                return;
+            case MIN:
+                if (nonNullCount > 0 && (!hasValue || min < value)) {
+                    value = min;
+                    hasValue = true;
+                }
+                return;
+            case MAX:
+                if (nonNullCount > 0 && (!hasValue || max > value)) {
+                    value = max;
+                    hasValue = true;
+                }
+                return;
+        }
+        throw new IllegalStateException("Unknown kind: " + kind);
+    }
+
+    /**
+     * @return the aggregate value in the native representation of {@link #getType()}, or null
+     */
+    public Object getResult()
+    {
+        switch (kind) {
+            case COUNT_ALL:
+            case COUNT:
+                return count;
+            case MIN:
+            case MAX:
+                return hasValue ? value : null;
+        }
+        throw new IllegalStateException("Unknown kind: " + kind);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.util;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import io.airlift.concurrent.BoundedExecutor;
+import io.airlift.slice.Slice;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Issues positional reads of a single file concurrently, with at most {@code maxConcurrency}
+ * reads in flight. Reads are started in the order the ranges are given, so callers passing
+ * ranges sorted by offset get the leading ranges first and can use them while the remaining
+ * ranges are still being read.
+ */
+public class ConcurrentRangeReader
+        implements Closeable
+{
+    private final Executor executor;
+    private final Set<ListenableFuture<Slice>> pendingReads = ConcurrentHashMap.newKeySet();
+
+    public ConcurrentRangeReader(Executor executor, int maxConcurrency)
+    {
+        requireNonNull(executor, "executor is null");
+        checkArgument(maxConcurrency >= 1, "maxConcurrency must be at least 1");
+        this.executor = new BoundedExecutor(executor, maxConcurrency);
+    }
+
+    public <R> List<ListenableFuture<Slice>> read(List<R> ranges, Function<R, Slice> reader)
+    {
+        ImmutableList.Builder<ListenableFuture<Slice>> futures = ImmutableList.builder();
+        for (R range : ranges) {
+            ListenableFutureTask<Slice> task = ListenableFutureTask.create(() -> reader.apply(range));
+            pendingReads.add(task);
+            task.addListener(() -> pendingReads.remove(task), directExecutor());
+            executor.execute(task);
+            futures.add(task);
+        }
+        return futures.build();
+    }
+
+    /**
+     * Cancels reads that have not started yet. Reads already in progress are allowed to finish,
+     * as interrupting a positional read may close the underlying stream.
+     */
+    @Override
+    public void close()
+    {
+        for (ListenableFuture<Slice> pendingRead : pendingReads) {
+            pendingRead.cancel(false);
+        }
+    }
+}
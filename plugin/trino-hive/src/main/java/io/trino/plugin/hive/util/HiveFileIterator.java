@@ -14,9 +14,13 @@
 package io.trino.plugin.hive.util;
 
 import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
 import io.airlift.stats.TimeStat;
 import io.trino.plugin.hive.DirectoryLister;
 import io.trino.plugin.hive.NamenodeStats;
+import io.trino.plugin.hive.metastore.Partition;
 import io.trino.plugin.hive.metastore.Table;
 import io.trino.spi.TrinoException;
 import org.apache.hadoop.fs.FileSystem;
@@ -28,8 +32,16 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static io.airlift.concurrent.MoreFutures.getFutureValue;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_FILESYSTEM_ERROR;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_FILE_NOT_FOUND;
 import static java.util.Collections.emptyIterator;
@@ -46,12 +58,16 @@ public class HiveFileIterator
     }
 
     private final Deque<Path> paths = new ArrayDeque<>();
+    private final Map<Path, ListenableFuture<List<LocatedFileStatus>>> nestedListings = new HashMap<>();
     private final Table table;
+    private final Optional<Partition> partition;
     private final FileSystem fileSystem;
     private final DirectoryLister directoryLister;
     private final NamenodeStats namenodeStats;
     private final NestedDirectoryPolicy nestedDirectoryPolicy;
     private final boolean ignoreAbsentPartitions;
+    private final Executor listingExecutor;
+    private final int listingConcurrency;
 
     private Iterator<LocatedFileStatus> remoteIterator = emptyIterator();
 
@@ -64,13 +80,32 @@ public class HiveFileIterator
             NestedDirectoryPolicy nestedDirectoryPolicy,
             boolean ignoreAbsentPartitions)
     {
+        this(table, Optional.empty(), path, fileSystem, directoryLister, namenodeStats, nestedDirectoryPolicy, ignoreAbsentPartitions, directExecutor(), 1);
+    }
+
+    public HiveFileIterator(
+            Table table,
+            Optional<Partition> partition,
+            Path path,
+            FileSystem fileSystem,
+            DirectoryLister directoryLister,
+            NamenodeStats namenodeStats,
+            NestedDirectoryPolicy nestedDirectoryPolicy,
+            boolean ignoreAbsentPartitions,
+            Executor listingExecutor,
+            int listingConcurrency)
+    {
+        checkArgument(listingConcurrency >= 1, "listingConcurrency must be at least 1");
         paths.addLast(requireNonNull(path, "path is null"));
         this.table = requireNonNull(table, "table is null");
+        this.partition = requireNonNull(partition, "partition is null");
         this.fileSystem = requireNonNull(fileSystem, "fileSystem is null");
         this.directoryLister = requireNonNull(directoryLister, "directoryLister is null");
         this.namenodeStats = requireNonNull(namenodeStats, "namenodeStats is null");
         this.nestedDirectoryPolicy = requireNonNull(nestedDirectoryPolicy, "nestedDirectoryPolicy is null");
         this.ignoreAbsentPartitions = ignoreAbsentPartitions;
+        this.listingExecutor = requireNonNull(listingExecutor, "listingExecutor is null");
+        this.listingConcurrency = listingConcurrency;
     }
 
     @Override
@@ -104,7 +139,36 @@ public class HiveFileIterator
             if (paths.isEmpty()) {
                 return endOfData();
             }
-            remoteIterator = getLocatedFileStatusRemoteIterator(paths.removeFirst());
+            Path path = paths.removeFirst();
+            ListenableFuture<List<LocatedFileStatus>> nestedListing = nestedListings.remove(path);
+            listNestedDirectoriesAhead();
+            if (nestedListing == null || nestedListing.cancel(false)) {
+                // not listed ahead, or the listing has not started yet
+                remoteIterator = getLocatedFileStatusRemoteIterator(path);
+            }
+            else {
+                remoteIterator = getFutureValue(nestedListing).iterator();
+            }
+        }
+    }
+
+    /**
+     * Starts listing the next nested directories in the background, so that a partition
+     * with many nested directories is not listed one directory at a time.
+     */
+    private void listNestedDirectoriesAhead()
+    {
+        if (listingConcurrency == 1) {
+            return;
+        }
+        Iterator<Path> iterator = paths.iterator();
+        for (int i = 0; i < listingConcurrency && iterator.hasNext(); i++) {
+            Path path = iterator.next();
+            if (!nestedListings.containsKey(path)) {
+                ListenableFutureTask<List<LocatedFileStatus>> task = ListenableFutureTask.create(() -> ImmutableList.copyOf(getLocatedFileStatusRemoteIterator(path)));
+                nestedListings.put(path, task);
+                listingExecutor.execute(task);
+            }
         }
     }
 
@@ -114,7 +178,7 @@ public class HiveFileIterator
             if (ignoreAbsentPartitions && !exists(path)) {
                 return emptyIterator();
             }
-            return new FileStatusIterator(table, path, fileSystem, directoryLister, namenodeStats);
+            return new FileStatusIterator(table, partition, path, fileSystem, directoryLister, namenodeStats);
         }
     }
 
@@ -142,12 +206,12 @@ public class HiveFileIterator
         private final NamenodeStats namenodeStats;
         private final RemoteIterator<LocatedFileStatus> fileStatusIterator;
 
-        private FileStatusIterator(Table table, Path path, FileSystem fileSystem, DirectoryLister directoryLister, NamenodeStats namenodeStats)
+        private FileStatusIterator(Table table, Optional<Partition> partition, Path path, FileSystem fileSystem, DirectoryLister directoryLister, NamenodeStats namenodeStats)
         {
             this.path = path;
             this.namenodeStats = namenodeStats;
             try {
-                this.fileStatusIterator = directoryLister.list(fileSystem, table, path);
+                this.fileStatusIterator = directoryLister.list(fileSystem, table, partition, path);
             }
             catch (IOException e) {
                 throw processException(e);
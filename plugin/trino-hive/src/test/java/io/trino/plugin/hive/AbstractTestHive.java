@@ -58,6 +58,7 @@ import io.trino.plugin.hive.rcfile.RcFilePageSource;
 import io.trino.plugin.hive.s3.HiveS3Config;
 import io.trino.plugin.hive.s3.TrinoS3ConfigurationInitializer;
 import io.trino.plugin.hive.security.SqlStandardAccessControlMetadata;
+import io.trino.plugin.hive.statistics.FileStatisticsAggregator;
 import io.trino.spi.Page;
 import io.trino.spi.TrinoException;
 import io.trino.spi.block.Block;
@@ -768,6 +769,7 @@ public abstract class AbstractTestHive
                 metastoreClient,
                 hdfsEnvironment,
                 partitionManager,
+                new FileStatisticsAggregator(hdfsEnvironment, new FileFormatDataSourceStats(), new FileFooterCache(hiveConfig, new FileFormatDataSourceStats()), hiveConfig),
                 10,
                 10,
                 10,
@@ -803,6 +805,7 @@ public abstract class AbstractTestHive
                 hiveConfig.getSplitLoaderConcurrency(),
                 hiveConfig.getMaxSplitsPerSecond(),
                 false,
+                1,
                 TYPE_MANAGER);
         pageSinkProvider = new HivePageSinkProvider(
                 getDefaultHiveFileWriterFactories(hiveConfig, hdfsEnvironment),
@@ -40,6 +40,7 @@ import io.trino.plugin.hive.metastore.thrift.TestingMetastoreLocator;
 import io.trino.plugin.hive.metastore.thrift.ThriftHiveMetastore;
 import io.trino.plugin.hive.metastore.thrift.ThriftMetastoreConfig;
 import io.trino.plugin.hive.security.SqlStandardAccessControlMetadata;
+import io.trino.plugin.hive.statistics.FileStatisticsAggregator;
 import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ColumnMetadata;
 import io.trino.spi.connector.ConnectorMetadata;
@@ -204,6 +205,7 @@ public abstract class AbstractTestHiveFileSystem
                 metastoreClient,
                 hdfsEnvironment,
                 hivePartitionManager,
+                new FileStatisticsAggregator(hdfsEnvironment, new FileFormatDataSourceStats(), new FileFooterCache(config, new FileFormatDataSourceStats()), config),
                 newDirectExecutorService(),
                 heartbeatService,
                 TYPE_MANAGER,
@@ -228,6 +230,7 @@ public abstract class AbstractTestHiveFileSystem
                 config.getSplitLoaderConcurrency(),
                 config.getMaxSplitsPerSecond(),
                 config.getRecursiveDirWalkerEnabled(),
+                config.getRecursiveDirListingConcurrency(),
                 TYPE_MANAGER);
         TypeOperators typeOperators = new TypeOperators();
         BlockTypeOperators blockTypeOperators = new BlockTypeOperators(typeOperators);
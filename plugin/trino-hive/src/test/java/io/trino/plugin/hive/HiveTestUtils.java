@@ -25,6 +25,8 @@ import io.trino.plugin.hive.azure.HiveAzureConfig;
 import io.trino.plugin.hive.azure.TrinoAzureConfigurationInitializer;
 import io.trino.plugin.hive.gcs.GoogleGcsConfigurationInitializer;
 import io.trino.plugin.hive.gcs.HiveGcsConfig;
+import io.trino.plugin.hive.line.LinePageSourceFactory;
+import io.trino.plugin.hive.orc.OrcDeleteDeltaCache;
 import io.trino.plugin.hive.orc.OrcFileWriterFactory;
 import io.trino.plugin.hive.orc.OrcPageSourceFactory;
 import io.trino.plugin.hive.orc.OrcReaderConfig;
@@ -63,6 +65,7 @@ import java.util.List;
 import java.util.Set;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.MoreExecutors.newDirectExecutorService;
 import static io.airlift.units.DataSize.Unit.MEGABYTE;
 import static io.trino.metadata.MetadataManager.createTestMetadataManager;
 import static io.trino.spi.function.InvocationConvention.InvocationArgumentConvention.NULL_FLAG;
@@ -135,10 +138,12 @@ public final class HiveTestUtils
     public static Set<HivePageSourceFactory> getDefaultHivePageSourceFactories(HdfsEnvironment hdfsEnvironment, HiveConfig hiveConfig)
     {
         FileFormatDataSourceStats stats = new FileFormatDataSourceStats();
+        FileFooterCache footerCache = new FileFooterCache(hiveConfig, stats);
         return ImmutableSet.<HivePageSourceFactory>builder()
                 .add(new RcFilePageSourceFactory(TYPE_MANAGER, hdfsEnvironment, stats, hiveConfig))
-                .add(new OrcPageSourceFactory(new OrcReaderConfig(), hdfsEnvironment, stats, hiveConfig))
-                .add(new ParquetPageSourceFactory(hdfsEnvironment, stats, new ParquetReaderConfig(), hiveConfig))
+                .add(new OrcPageSourceFactory(new OrcReaderConfig(), hdfsEnvironment, stats, hiveConfig, new OrcDeleteDeltaCache(new OrcReaderConfig()), footerCache, newDirectExecutorService()))
+                .add(new ParquetPageSourceFactory(hdfsEnvironment, stats, new ParquetReaderConfig(), hiveConfig, footerCache, newDirectExecutorService()))
+                .add(new LinePageSourceFactory(hdfsEnvironment))
                 .build();
     }
 
@@ -165,7 +170,8 @@ public final class HiveTestUtils
                 new NodeVersion("test_version"),
                 new OrcWriterConfig(),
                 new FileFormatDataSourceStats(),
-                new OrcWriterConfig());
+                new OrcWriterConfig(),
+                newDirectExecutorService());
     }
 
     public static List<Type> getTypes(List<? extends ColumnHandle> columnHandles)
@@ -541,6 +541,7 @@ public class TestBackgroundHiveSplitLoader
                 executor,
                 threads,
                 false,
+                1,
                 false,
                 true,
                 Optional.empty());
@@ -965,6 +966,7 @@ public class TestBackgroundHiveSplitLoader
                 executor,
                 2,
                 false,
+                1,
                 false,
                 true,
                 validWriteIds);
@@ -997,6 +999,7 @@ public class TestBackgroundHiveSplitLoader
                 executor,
                 2,
                 false,
+                1,
                 false,
                 true,
                 Optional.empty());
@@ -1023,6 +1026,7 @@ public class TestBackgroundHiveSplitLoader
                 directExecutor(),
                 2,
                 false,
+                1,
                 false,
                 true,
                 Optional.empty());
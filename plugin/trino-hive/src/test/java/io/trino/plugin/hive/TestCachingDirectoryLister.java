@@ -0,0 +1,229 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
+import io.airlift.units.Duration;
+import io.trino.plugin.hive.metastore.Column;
+import io.trino.plugin.hive.metastore.Partition;
+import io.trino.plugin.hive.metastore.Table;
+import io.trino.plugin.hive.util.HiveFileIterator;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.LocatedFileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RawLocalFileSystem;
+import org.apache.hadoop.fs.RemoteIterator;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.io.MoreFiles.deleteRecursively;
+import static com.google.common.io.RecursiveDeleteOption.ALLOW_INSECURE;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static io.airlift.concurrent.Threads.daemonThreadsNamed;
+import static io.trino.plugin.hive.HiveStorageFormat.TEXTFILE;
+import static io.trino.plugin.hive.HiveType.HIVE_STRING;
+import static io.trino.plugin.hive.metastore.StorageFormat.fromHiveStorageFormat;
+import static io.trino.plugin.hive.util.HiveFileIterator.NestedDirectoryPolicy.RECURSE;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.apache.hadoop.hive.metastore.TableType.MANAGED_TABLE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+@Test(singleThreaded = true)
+public class TestCachingDirectoryLister
+{
+    private static final Column PARTITION_COLUMN = new Column("ds", HIVE_STRING, Optional.empty());
+
+    private File tempDirectory;
+    private Path partitionPath;
+    private CountingFileSystem fileSystem;
+
+    @BeforeMethod
+    public void setUp()
+            throws IOException
+    {
+        tempDirectory = Files.createTempDirectory("test_caching_directory_lister").toFile();
+        File partitionDirectory = new File(tempDirectory, "ds=2021-01-01");
+        assertTrue(partitionDirectory.mkdir());
+        Files.write(new File(partitionDirectory, "file1").toPath(), new byte[] {1});
+        partitionPath = new Path(partitionDirectory.toURI());
+        fileSystem = new CountingFileSystem();
+        fileSystem.initialize(fileSystem.getUri(), new Configuration(false));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown()
+            throws IOException
+    {
+        fileSystem.close();
+        deleteRecursively(tempDirectory.toPath(), ALLOW_INSECURE);
+    }
+
+    @Test
+    public void testListingIsReplacedWhenPartitionChanges()
+            throws IOException
+    {
+        CachingDirectoryLister lister = new CachingDirectoryLister(new Duration(5, MINUTES), 1000, ImmutableList.of("*"));
+        Table table = table();
+
+        assertEquals(list(lister, table, partition("1")), 1);
+        assertEquals(list(lister, table, partition("1")), 1);
+        assertEquals(fileSystem.getListingCount(), 1);
+
+        // a file added without a metastore change is not visible until the listing expires
+        Files.write(new File(tempDirectory, "ds=2021-01-01/file2").toPath(), new byte[] {2});
+        assertEquals(list(lister, table, partition("1")), 1);
+        assertEquals(fileSystem.getListingCount(), 1);
+
+        // the metastore update of the partition invalidates the cached listing
+        assertEquals(list(lister, table, partition("2")), 2);
+        assertEquals(fileSystem.getListingCount(), 2);
+        assertEquals(lister.getOutdatedCount(), 1);
+
+        // listings without a partition use any cached listing
+        assertEquals(Iterators.size(toIterator(lister.list(fileSystem, table, partitionPath))), 2);
+        assertEquals(fileSystem.getListingCount(), 2);
+    }
+
+    @Test
+    public void testStaleListingIsRefreshed()
+            throws Exception
+    {
+        CachingDirectoryLister lister = new CachingDirectoryLister(new Duration(5, MINUTES), 1000, ImmutableList.of("*"), Optional.of(new Duration(100, MILLISECONDS)), directExecutor());
+        Table table = table();
+
+        assertEquals(list(lister, table, partition("1")), 1);
+        Files.write(new File(tempDirectory, "ds=2021-01-01/file2").toPath(), new byte[] {2});
+        MILLISECONDS.sleep(200);
+
+        // the cached listing is returned, and refreshed for the following queries
+        assertEquals(list(lister, table, partition("1")), 1);
+        assertEquals(lister.getRefreshCount(), 1);
+        assertEquals(list(lister, table, partition("1")), 2);
+        assertEquals(fileSystem.getListingCount(), 2);
+    }
+
+    @Test
+    public void testNestedDirectoriesListedAhead()
+            throws IOException
+    {
+        for (int directory = 0; directory < 10; directory++) {
+            File nestedDirectory = new File(tempDirectory, "ds=2021-01-01/nested" + directory);
+            assertTrue(nestedDirectory.mkdir());
+            for (int file = 0; file < 3; file++) {
+                Files.write(new File(nestedDirectory, "file" + file).toPath(), new byte[] {1});
+            }
+        }
+        CachingDirectoryLister lister = new CachingDirectoryLister(new Duration(5, MINUTES), 1000, ImmutableList.of());
+        ExecutorService executor = newCachedThreadPool(daemonThreadsNamed("test-nested-listing-%s"));
+        try {
+            List<Path> sequential = listRecursively(lister, directExecutor(), 1);
+            List<Path> concurrent = listRecursively(lister, executor, 4);
+            assertEquals(sequential.size(), 31);
+            assertEquals(concurrent, sequential);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Path> listRecursively(DirectoryLister lister, Executor executor, int concurrency)
+    {
+        HiveFileIterator iterator = new HiveFileIterator(table(), Optional.of(partition("1")), partitionPath, fileSystem, lister, new NamenodeStats(), RECURSE, false, executor, concurrency);
+        List<Path> paths = new ArrayList<>();
+        iterator.forEachRemaining(status -> paths.add(status.getPath()));
+        return paths;
+    }
+
+    private int list(DirectoryLister lister, Table table, Partition partition)
+            throws IOException
+    {
+        return Iterators.size(toIterator(lister.list(fileSystem, table, Optional.of(partition), partitionPath)));
+    }
+
+    private static Iterator<LocatedFileStatus> toIterator(RemoteIterator<LocatedFileStatus> iterator)
+            throws IOException
+    {
+        List<LocatedFileStatus> files = new ArrayList<>();
+        while (iterator.hasNext()) {
+            files.add(iterator.next());
+        }
+        return files.iterator();
+    }
+
+    private Table table()
+    {
+        Table.Builder tableBuilder = Table.builder();
+        tableBuilder.getStorageBuilder()
+                .setStorageFormat(fromHiveStorageFormat(TEXTFILE))
+                .setLocation(tempDirectory.toURI().toString());
+        return tableBuilder
+                .setDatabaseName("test_dbname")
+                .setOwner("testOwner")
+                .setTableName("test_table")
+                .setTableType(MANAGED_TABLE.toString())
+                .setDataColumns(ImmutableList.of(new Column("col1", HIVE_STRING, Optional.empty())))
+                .setPartitionColumns(ImmutableList.of(PARTITION_COLUMN))
+                .build();
+    }
+
+    private Partition partition(String lastDdlTime)
+    {
+        return Partition.builder()
+                .setDatabaseName("test_dbname")
+                .setTableName("test_table")
+                .setColumns(ImmutableList.of(new Column("col1", HIVE_STRING, Optional.empty())))
+                .setValues(ImmutableList.of("2021-01-01"))
+                .withStorage(storage -> storage
+                        .setStorageFormat(fromHiveStorageFormat(TEXTFILE))
+                        .setLocation(partitionPath.toString()))
+                .setParameters(ImmutableMap.of("transient_lastDdlTime", lastDdlTime))
+                .build();
+    }
+
+    private static class CountingFileSystem
+            extends RawLocalFileSystem
+    {
+        private final AtomicInteger listingCount = new AtomicInteger();
+
+        public int getListingCount()
+        {
+            return listingCount.get();
+        }
+
+        @Override
+        public RemoteIterator<LocatedFileStatus> listLocatedStatus(Path path)
+                throws IOException
+        {
+            listingCount.incrementAndGet();
+            return super.listLocatedStatus(path);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive;
+
+import io.airlift.units.DataSize;
+import io.trino.orc.FileOrcDataSource;
+import io.trino.orc.OrcDataSource;
+import io.trino.orc.OrcReader;
+import io.trino.orc.OrcReaderOptions;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+public class TestFileFooterCache
+{
+    private static final File ORC_FILE = new File(TestFileFooterCache.class.getClassLoader().getResource("nationFile25kRowsSortedOnNationKey/bucket_00000").getPath());
+
+    @Test
+    public void testOrcFileTailIsCached()
+            throws IOException
+    {
+        FileFormatDataSourceStats stats = new FileFormatDataSourceStats();
+        FileFooterCache cache = new FileFooterCache(DataSize.of(1, MEGABYTE), stats);
+
+        OrcReader first = createOrcReader(cache, 1);
+        assertStats(stats, 0, 1);
+        assertEquals(cache.getSize(), 1);
+
+        OrcReader second = createOrcReader(cache, 1);
+        assertStats(stats, 1, 1);
+        assertSame(second.getFileTail(), first.getFileTail());
+        assertEquals(second.getFooter().getNumberOfRows(), first.getFooter().getNumberOfRows());
+
+        // a rewritten file must not be served the old footer
+        createOrcReader(cache, 2);
+        assertStats(stats, 1, 2);
+        assertEquals(cache.getSize(), 2);
+
+        cache.flushCache();
+        createOrcReader(cache, 1);
+        assertStats(stats, 1, 3);
+        assertEquals(stats.getFooterCacheHitRate(), 0.25);
+    }
+
+    @Test
+    public void testDisabled()
+            throws IOException
+    {
+        FileFormatDataSourceStats stats = new FileFormatDataSourceStats();
+        FileFooterCache cache = new FileFooterCache(DataSize.ofBytes(0), stats);
+
+        createOrcReader(cache, 1);
+        createOrcReader(cache, 1);
+        assertStats(stats, 0, 0);
+        assertEquals(cache.getSize(), 0);
+    }
+
+    private static OrcReader createOrcReader(FileFooterCache cache, long modificationTime)
+            throws IOException
+    {
+        OrcReaderOptions options = new OrcReaderOptions();
+        try (OrcDataSource dataSource = new FileOrcDataSource(ORC_FILE, options)) {
+            return cache.createOrcReader(dataSource, options, modificationTime).orElseThrow();
+        }
+    }
+
+    private static void assertStats(FileFormatDataSourceStats stats, long hits, long misses)
+    {
+        assertEquals(stats.getFooterCacheHits().getTotalCount(), hits);
+        assertEquals(stats.getFooterCacheMisses().getTotalCount(), misses);
+    }
+}
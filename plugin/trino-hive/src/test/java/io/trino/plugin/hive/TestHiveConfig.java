@@ -56,6 +56,7 @@ public class TestHiveConfig
                 .setMaxConcurrentMetastoreDrops(20)
                 .setMaxConcurrentMetastoreUpdates(20)
                 .setRecursiveDirWalkerEnabled(false)
+                .setRecursiveDirListingConcurrency(4)
                 .setIgnoreAbsentPartitions(false)
                 .setHiveStorageFormat(HiveStorageFormat.ORC)
                 .setHiveCompressionCodec(HiveCompressionCodec.GZIP)
@@ -86,9 +87,12 @@ public class TestHiveConfig
                 .setCollectColumnStatisticsOnWrite(true)
                 .setS3SelectPushdownEnabled(false)
                 .setS3SelectPushdownMaxConnections(500)
+                .setTextNativeReaderEnabled(false)
+                .setFileFooterCacheMaxSize(DataSize.of(128, Unit.MEGABYTE))
                 .setTemporaryStagingDirectoryEnabled(true)
                 .setTemporaryStagingDirectoryPath("/tmp/presto-${USER}")
                 .setFileStatusCacheExpireAfterWrite(new Duration(1, TimeUnit.MINUTES))
+                .setFileStatusCacheRefreshInterval(null)
                 .setFileStatusCacheMaxSize(1000 * 1000)
                 .setFileStatusCacheTables("")
                 .setTranslateHiveViews(false)
@@ -98,6 +102,8 @@ public class TestHiveConfig
                 .setQueryPartitionFilterRequired(false)
                 .setPartitionUseColumnNames(false)
                 .setProjectionPushdownEnabled(true)
+                .setStatisticsAggregationPushdownEnabled(false)
+                .setStatisticsAggregationPushdownMaxFiles(1000)
                 .setDynamicFilteringProbeBlockingTimeout(new Duration(0, TimeUnit.MINUTES))
                 .setTimestampPrecision(HiveTimestampPrecision.DEFAULT_PRECISION)
                 .setOptimizeSymlinkListing(true)
@@ -124,6 +130,7 @@ public class TestHiveConfig
                 .put("hive.domain-compaction-threshold", "42")
                 .put("hive.writer-sort-buffer-size", "13MB")
                 .put("hive.recursive-directories", "true")
+                .put("hive.recursive-directories.listing-concurrency", "16")
                 .put("hive.ignore-absent-partitions", "true")
                 .put("hive.storage-format", "SEQUENCEFILE")
                 .put("hive.compression-codec", "NONE")
@@ -158,11 +165,14 @@ public class TestHiveConfig
                 .put("hive.collect-column-statistics-on-write", "false")
                 .put("hive.s3select-pushdown.enabled", "true")
                 .put("hive.s3select-pushdown.max-connections", "1234")
+                .put("hive.text.native-reader.enabled", "true")
+                .put("hive.file-footer-cache.max-size", "16MB")
                 .put("hive.temporary-staging-directory-enabled", "false")
                 .put("hive.temporary-staging-directory-path", "updated")
                 .put("hive.file-status-cache-tables", "foo.bar1, foo.bar2")
                 .put("hive.file-status-cache-size", "1000")
                 .put("hive.file-status-cache-expire-time", "30m")
+                .put("hive.file-status-cache-refresh-interval", "5m")
                 .put("hive.translate-hive-views", "true")
                 .put("hive.transaction-heartbeat-interval", "10s")
                 .put("hive.transaction-heartbeat-threads", "10")
@@ -170,6 +180,8 @@ public class TestHiveConfig
                 .put("hive.query-partition-filter-required", "true")
                 .put("hive.partition-use-column-names", "true")
                 .put("hive.projection-pushdown-enabled", "false")
+                .put("hive.statistics-aggregation-pushdown-enabled", "true")
+                .put("hive.statistics-aggregation-pushdown-max-files", "20")
                 .put("hive.dynamic-filtering-probe-blocking-timeout", "10s")
                 .put("hive.timestamp-precision", "NANOSECONDS")
                 .put("hive.optimize-symlink-listing", "false")
@@ -197,6 +209,7 @@ public class TestHiveConfig
                 .setMaxConcurrentMetastoreDrops(100)
                 .setMaxConcurrentMetastoreUpdates(100)
                 .setRecursiveDirWalkerEnabled(true)
+                .setRecursiveDirListingConcurrency(16)
                 .setIgnoreAbsentPartitions(true)
                 .setHiveStorageFormat(HiveStorageFormat.SEQUENCEFILE)
                 .setHiveCompressionCodec(HiveCompressionCodec.NONE)
@@ -227,11 +240,14 @@ public class TestHiveConfig
                 .setCollectColumnStatisticsOnWrite(false)
                 .setS3SelectPushdownEnabled(true)
                 .setS3SelectPushdownMaxConnections(1234)
+                .setTextNativeReaderEnabled(true)
+                .setFileFooterCacheMaxSize(DataSize.of(16, Unit.MEGABYTE))
                 .setTemporaryStagingDirectoryEnabled(false)
                 .setTemporaryStagingDirectoryPath("updated")
                 .setFileStatusCacheTables("foo.bar1,foo.bar2")
                 .setFileStatusCacheMaxSize(1000)
                 .setFileStatusCacheExpireAfterWrite(new Duration(30, TimeUnit.MINUTES))
+                .setFileStatusCacheRefreshInterval(new Duration(5, TimeUnit.MINUTES))
                 .setTranslateHiveViews(true)
                 .setHiveTransactionHeartbeatInterval(new Duration(10, TimeUnit.SECONDS))
                 .setHiveTransactionHeartbeatThreads(10)
@@ -239,6 +255,8 @@ public class TestHiveConfig
                 .setQueryPartitionFilterRequired(true)
                 .setPartitionUseColumnNames(true)
                 .setProjectionPushdownEnabled(false)
+                .setStatisticsAggregationPushdownEnabled(true)
+                .setStatisticsAggregationPushdownMaxFiles(20)
                 .setDynamicFilteringProbeBlockingTimeout(new Duration(10, TimeUnit.SECONDS))
                 .setTimestampPrecision(HiveTimestampPrecision.NANOSECONDS)
                 .setOptimizeSymlinkListing(false)
@@ -20,6 +20,7 @@ import io.airlift.compress.lzo.LzoCodec;
 import io.airlift.compress.lzo.LzopCodec;
 import io.trino.orc.OrcReaderOptions;
 import io.trino.orc.OrcWriterOptions;
+import io.trino.plugin.hive.line.LinePageSourceFactory;
 import io.trino.plugin.hive.orc.OrcFileWriterFactory;
 import io.trino.plugin.hive.orc.OrcPageSourceFactory;
 import io.trino.plugin.hive.orc.OrcReaderConfig;
@@ -107,6 +108,7 @@ public class TestHiveFileFormats
     private static final FileFormatDataSourceStats STATS = new FileFormatDataSourceStats();
     private static final ConnectorSession PARQUET_SESSION = getHiveSession(createParquetHiveConfig(false));
     private static final ConnectorSession PARQUET_SESSION_USE_NAME = getHiveSession(createParquetHiveConfig(true));
+    private static final ConnectorSession TEXT_NATIVE_READER_SESSION = getHiveSession(new HiveConfig().setTextNativeReaderEnabled(true));
 
     @DataProvider(name = "rowCount")
     public static Object[][] rowCountProvider()
@@ -141,7 +143,9 @@ public class TestHiveFileFormats
                 .withColumns(testColumns)
                 .withRowsCount(rowCount)
                 .withFileSizePadding(fileSizePadding)
-                .isReadableByRecordCursor(createGenericHiveRecordCursorProvider(HDFS_ENVIRONMENT));
+                .isReadableByRecordCursor(createGenericHiveRecordCursorProvider(HDFS_ENVIRONMENT))
+                .withSession(TEXT_NATIVE_READER_SESSION)
+                .isReadableByPageSource(new LinePageSourceFactory(HDFS_ENVIRONMENT));
     }
 
     @Test(dataProvider = "validRowAndFileSizePadding")
@@ -174,7 +178,9 @@ public class TestHiveFileFormats
                 .withColumns(testColumns)
                 .withRowsCount(rowCount)
                 .withFileSizePadding(fileSizePadding)
-                .isReadableByRecordCursor(createGenericHiveRecordCursorProvider(HDFS_ENVIRONMENT));
+                .isReadableByRecordCursor(createGenericHiveRecordCursorProvider(HDFS_ENVIRONMENT))
+                .withSession(TEXT_NATIVE_READER_SESSION)
+                .isReadableByPageSource(new LinePageSourceFactory(HDFS_ENVIRONMENT));
     }
 
     @Test
@@ -186,7 +192,9 @@ public class TestHiveFileFormats
                         new TestColumn("t_null_string", javaStringObjectInspector, null, utf8Slice("")), // null was converted to empty string!
                         new TestColumn("t_string", javaStringObjectInspector, "test", utf8Slice("test"))))
                 .withRowsCount(2)
-                .isReadableByRecordCursor(createGenericHiveRecordCursorProvider(HDFS_ENVIRONMENT));
+                .isReadableByRecordCursor(createGenericHiveRecordCursorProvider(HDFS_ENVIRONMENT))
+                .withSession(TEXT_NATIVE_READER_SESSION)
+                .isReadableByPageSource(new LinePageSourceFactory(HDFS_ENVIRONMENT));
     }
 
     @Test(dataProvider = "validRowAndFileSizePadding")
@@ -218,6 +226,28 @@ public class TestHiveFileFormats
                 .isReadableByRecordCursor(createGenericHiveRecordCursorProvider(HDFS_ENVIRONMENT));
     }
 
+    @Test(dataProvider = "validRowAndFileSizePadding")
+    public void testJsonPageSource(int rowCount, long fileSizePadding)
+            throws Exception
+    {
+        List<TestColumn> testColumns = TEST_COLUMNS.stream()
+                // the native reader only supports primitive columns
+                .filter(column -> column.getObjectInspector().getCategory() == ObjectInspector.Category.PRIMITIVE)
+                // binary is not supported
+                .filter(column -> !column.getName().equals("t_binary"))
+                // decimal(38) is broken or not supported
+                .filter(column -> !column.getName().equals("t_decimal_precision_38"))
+                .collect(toList());
+
+        assertThatFileFormat(JSON)
+                .withColumns(testColumns)
+                .withRowsCount(rowCount)
+                .withFileSizePadding(fileSizePadding)
+                .isReadableByRecordCursor(createGenericHiveRecordCursorProvider(HDFS_ENVIRONMENT))
+                .withSession(TEXT_NATIVE_READER_SESSION)
+                .isReadableByPageSource(new LinePageSourceFactory(HDFS_ENVIRONMENT));
+    }
+
     @Test(dataProvider = "validRowAndFileSizePadding")
     public void testRcTextPageSource(int rowCount, long fileSizePadding)
             throws Exception
@@ -678,7 +708,9 @@ public class TestHiveFileFormats
                 .withWriteColumns(writeColumns)
                 .withReadColumns(readColumns)
                 .withRowsCount(rowCount)
-                .isReadableByRecordCursorPageSource(createGenericHiveRecordCursorProvider(HDFS_ENVIRONMENT));
+                .isReadableByRecordCursorPageSource(createGenericHiveRecordCursorProvider(HDFS_ENVIRONMENT))
+                .withSession(TEXT_NATIVE_READER_SESSION)
+                .isReadableByPageSource(new LinePageSourceFactory(HDFS_ENVIRONMENT));
     }
 
     @Test(dataProvider = "rowCount")
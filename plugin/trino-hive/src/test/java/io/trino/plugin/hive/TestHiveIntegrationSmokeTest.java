@@ -24,6 +24,7 @@ import io.airlift.units.Duration;
 import io.trino.Session;
 import io.trino.cost.StatsAndCosts;
 import io.trino.execution.QueryInfo;
+import io.trino.execution.warnings.WarningCollector;
 import io.trino.metadata.InsertTableHandle;
 import io.trino.metadata.Metadata;
 import io.trino.metadata.QualifiedObjectName;
@@ -40,6 +41,7 @@ import io.trino.spi.type.TimestampType;
 import io.trino.spi.type.Type;
 import io.trino.spi.type.VarcharType;
 import io.trino.sql.planner.Plan;
+import io.trino.sql.planner.plan.AggregationNode;
 import io.trino.sql.planner.plan.ExchangeNode;
 import io.trino.sql.planner.planprinter.IoPlanPrinter.ColumnConstraint;
 import io.trino.sql.planner.planprinter.IoPlanPrinter.EstimatedStatsAndCost;
@@ -7261,6 +7263,95 @@ public class TestHiveIntegrationSmokeTest
         assertUpdate("DROP TABLE test_prune_failure");
     }
 
+    @Test
+    public void testStatisticsAggregationPushdown()
+    {
+        for (HiveStorageFormat format : ImmutableList.of(HiveStorageFormat.ORC, HiveStorageFormat.PARQUET)) {
+            String tableName = "test_statistics_aggregation_" + format.name().toLowerCase(ENGLISH);
+            assertUpdate(format("CREATE TABLE %s (b bigint, i integer, d date, dec decimal(10, 2), dbl double, v varchar, p varchar) " +
+                    "WITH (format = '%s', partitioned_by = ARRAY['p'])", tableName, format));
+
+            // no files yet
+            assertStatisticsAggregation(format("SELECT count(*), count(b), min(b), max(b) FROM %s", tableName), true);
+
+            // each insert writes separate files, some of them with only nulls in a column
+            assertUpdate(format("INSERT INTO %s VALUES (1, 10, DATE '2020-01-01', 1.25, 1.5, 'a', 'x'), (NULL, 20, NULL, NULL, NULL, NULL, 'x')", tableName), 2);
+            assertUpdate(format("INSERT INTO %s VALUES (-5, NULL, DATE '2019-06-30', -3.50, -0.5, 'B', 'y'), (7, -2, DATE '2021-12-31', 0.01, 2.5, 'c', 'y')", tableName), 2);
+            assertUpdate(format("INSERT INTO %s VALUES (NULL, NULL, NULL, NULL, NULL, NULL, 'z')", tableName), 1);
+
+            // integer and date statistics are exact
+            assertStatisticsAggregation(format("SELECT count(*), count(b), count(i), count(d) FROM %s", tableName), true);
+            assertStatisticsAggregation(format("SELECT min(b), max(b), min(i), max(i), min(d), max(d) FROM %s", tableName), true);
+            assertStatisticsAggregation(format("SELECT count(*), min(b), max(d) FROM %s WHERE p = 'y'", tableName), true);
+            assertStatisticsAggregation(format("SELECT count(b), max(i) FROM %s WHERE p = 'z'", tableName), true);
+
+            // short decimal statistics are only used from ORC files
+            assertStatisticsAggregation(format("SELECT min(dec), max(dec) FROM %s", tableName), format == HiveStorageFormat.ORC);
+
+            // statistics of floating point and varchar columns are not exact, and are not used even for count
+            assertStatisticsAggregation(format("SELECT min(dbl), max(dbl) FROM %s", tableName), false);
+            assertStatisticsAggregation(format("SELECT min(v), max(v) FROM %s", tableName), false);
+            assertStatisticsAggregation(format("SELECT count(dbl) FROM %s", tableName), false);
+            assertStatisticsAggregation(format("SELECT count(*), min(v) FROM %s", tableName), false);
+
+            // predicates on data columns are not answered by file statistics
+            assertStatisticsAggregation(format("SELECT count(*), min(b) FROM %s WHERE b > 0", tableName), false);
+            assertStatisticsAggregation(format("SELECT count(*) FROM %s WHERE p = 'x' AND i = 10", tableName), false);
+
+            // other aggregations and grouping
+            assertStatisticsAggregation(format("SELECT sum(b) FROM %s", tableName), false);
+            assertStatisticsAggregation(format("SELECT count(DISTINCT b) FROM %s", tableName), false);
+            assertStatisticsAggregation(format("SELECT p, count(*) FROM %s GROUP BY p", tableName), false);
+
+            // partitions written before a column was added have a different schema
+            assertUpdate(format("ALTER TABLE %s ADD COLUMN added bigint", tableName));
+            assertStatisticsAggregation(format("SELECT count(*), count(added), min(added) FROM %s", tableName), false);
+
+            assertUpdate("DROP TABLE " + tableName);
+        }
+    }
+
+    @Test
+    public void testStatisticsAggregationPushdownWithMissingStatistics()
+    {
+        // files of an unpartitioned table written before a column was added are read as nulls
+        assertUpdate("CREATE TABLE test_statistics_aggregation_added_column (b bigint) WITH (format = 'ORC')");
+        assertUpdate("INSERT INTO test_statistics_aggregation_added_column VALUES 1, 2, NULL", 3);
+        assertUpdate("ALTER TABLE test_statistics_aggregation_added_column ADD COLUMN added bigint");
+        assertUpdate("INSERT INTO test_statistics_aggregation_added_column VALUES (3, 30), (4, NULL)", 2);
+        assertStatisticsAggregation("SELECT count(*), count(b), count(added), min(added), max(added) FROM test_statistics_aggregation_added_column", true);
+        assertUpdate("DROP TABLE test_statistics_aggregation_added_column");
+
+        // text files do not have statistics
+        assertUpdate("CREATE TABLE test_statistics_aggregation_text (b bigint, d date) WITH (format = 'TEXTFILE')");
+        assertUpdate("INSERT INTO test_statistics_aggregation_text VALUES (1, DATE '2020-01-01'), (NULL, NULL), (3, DATE '2021-01-01')", 3);
+        assertStatisticsAggregation("SELECT count(*), count(b), min(b), max(d) FROM test_statistics_aggregation_text", false);
+        assertUpdate("DROP TABLE test_statistics_aggregation_text");
+
+        // Parquet files without rows have no row groups to take statistics from
+        assertUpdate("CREATE TABLE test_statistics_aggregation_empty (b bigint) WITH (format = 'PARQUET')");
+        assertUpdate("INSERT INTO test_statistics_aggregation_empty SELECT 1 WHERE false", 0);
+        assertStatisticsAggregation("SELECT count(*), min(b) FROM test_statistics_aggregation_empty", true);
+        assertUpdate("DROP TABLE test_statistics_aggregation_empty");
+    }
+
+    private void assertStatisticsAggregation(@Language("SQL") String sql, boolean pushedDown)
+    {
+        Session pushdownEnabled = Session.builder(getSession())
+                .setCatalogSessionProperty(catalog, "statistics_aggregation_pushdown_enabled", "true")
+                .build();
+        Session pushdownDisabled = Session.builder(getSession())
+                .setCatalogSessionProperty(catalog, "statistics_aggregation_pushdown_enabled", "false")
+                .build();
+
+        QueryRunner.MaterializedResultWithPlan result = getDistributedQueryRunner().executeWithPlan(pushdownEnabled, sql, WarningCollector.NOOP);
+        assertEqualsIgnoreOrder(result.getMaterializedResult(), computeActual(pushdownDisabled, sql), sql);
+        boolean aggregated = searchFrom(result.getQueryPlan().getRoot())
+                .where(AggregationNode.class::isInstance)
+                .matches();
+        assertEquals(aggregated, !pushedDown, sql);
+    }
+
     @Test
     public void testTemporaryStagingDirectorySessionProperties()
     {
@@ -41,6 +41,8 @@ public class TestOrcWriterConfig
                 .setStringStatisticsLimit(DataSize.ofBytes(64))
                 .setMaxCompressionBufferSize(DataSize.of(256, KILOBYTE))
                 .setDefaultBloomFilterFpp(0.05)
+                .setWriterParallelism(1)
+                .setEncoderThreads(Runtime.getRuntime().availableProcessors())
                 .setUseLegacyVersion(false)
                 .setValidationPercentage(0.0)
                 .setValidationMode(OrcWriteValidationMode.BOTH));
@@ -58,6 +60,8 @@ public class TestOrcWriterConfig
                 .put("hive.orc.writer.string-statistics-limit", "17MB")
                 .put("hive.orc.writer.max-compression-buffer-size", "19MB")
                 .put("hive.orc.default-bloom-filter-fpp", "0.96")
+                .put("hive.orc.writer.parallelism", "4")
+                .put("hive.orc.writer.encoder-threads", "7")
                 .put("hive.orc.writer.use-legacy-version-number", "true")
                 .put("hive.orc.writer.validation-percentage", "0.16")
                 .put("hive.orc.writer.validation-mode", "DETAILED")
@@ -72,6 +76,8 @@ public class TestOrcWriterConfig
                 .setStringStatisticsLimit(DataSize.of(17, MEGABYTE))
                 .setMaxCompressionBufferSize(DataSize.of(19, MEGABYTE))
                 .setDefaultBloomFilterFpp(0.96)
+                .setWriterParallelism(4)
+                .setEncoderThreads(7)
                 .setUseLegacyVersion(true)
                 .setValidationPercentage(0.16)
                 .setValidationMode(OrcWriteValidationMode.DETAILED);
@@ -18,10 +18,12 @@ import io.airlift.slice.Slices;
 import io.airlift.units.DataSize;
 import io.trino.hadoop.HadoopNative;
 import io.trino.plugin.hive.HiveCompressionCodec;
+import io.trino.plugin.hive.HiveConfig;
 import io.trino.spi.Page;
 import io.trino.spi.PageBuilder;
 import io.trino.spi.block.BlockBuilder;
 import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.type.ArrayType;
 import io.trino.spi.type.Type;
 import io.trino.tpch.OrderColumn;
@@ -60,7 +62,7 @@ import static com.google.common.io.MoreFiles.deleteRecursively;
 import static com.google.common.io.RecursiveDeleteOption.ALLOW_INSECURE;
 import static io.airlift.units.DataSize.Unit.MEGABYTE;
 import static io.trino.plugin.hive.HiveTestUtils.HDFS_ENVIRONMENT;
-import static io.trino.plugin.hive.HiveTestUtils.SESSION;
+import static io.trino.plugin.hive.HiveTestUtils.getHiveSession;
 import static io.trino.plugin.hive.HiveTestUtils.mapType;
 import static io.trino.spi.type.BigintType.BIGINT;
 import static io.trino.spi.type.DateType.DATE;
@@ -82,6 +84,8 @@ import static java.util.stream.Collectors.toList;
 public class BenchmarkHiveFileFormat
 {
     private static final long MIN_DATA_SIZE = DataSize.of(50, MEGABYTE).toBytes();
+    // the native text reader is compared with the Hive SerDe, so it is enabled although it is off by default
+    private static final ConnectorSession SESSION = getHiveSession(new HiveConfig().setTextNativeReaderEnabled(true));
 
     static {
         HadoopNative.requireHadoopNative();
@@ -112,10 +116,12 @@ public class BenchmarkHiveFileFormat
             "TRINO_RCTEXT",
             "TRINO_ORC",
             "TRINO_PARQUET",
+            "TRINO_TEXTFILE",
             "HIVE_RCBINARY",
             "HIVE_RCTEXT",
             "HIVE_ORC",
-            "HIVE_PARQUET"})
+            "HIVE_PARQUET",
+            "HIVE_TEXTFILE"})
     private FileFormat fileFormat;
 
     private TestData data;
@@ -141,7 +147,7 @@ public class BenchmarkHiveFileFormat
         data = dataSet.createTestData(fileFormat);
 
         targetDir.mkdirs();
-        dataFile = new File(targetDir, UUID.randomUUID().toString());
+        dataFile = new File(targetDir, UUID.randomUUID() + getCompressionSuffix(compression));
         writeData(dataFile);
     }
 
@@ -191,13 +197,28 @@ public class BenchmarkHiveFileFormat
     public File write(CompressionCounter counter)
             throws IOException
     {
-        File targetFile = new File(targetDir, UUID.randomUUID().toString());
+        File targetFile = new File(targetDir, UUID.randomUUID() + getCompressionSuffix(compression));
         writeData(targetFile);
         counter.inputSize += data.getSize();
         counter.outputSize += targetFile.length();
         return targetFile;
     }
 
+    private static String getCompressionSuffix(HiveCompressionCodec compression)
+    {
+        // text files are only recognized as compressed by their extension
+        return compression.getCodec()
+                .map(codec -> {
+                    try {
+                        return codec.getConstructor().newInstance().getDefaultExtension();
+                    }
+                    catch (ReflectiveOperationException e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .orElse("");
+    }
+
     private void writeData(File targetFile)
             throws IOException
     {
@@ -44,6 +44,7 @@ import io.trino.plugin.hive.HiveTypeName;
 import io.trino.plugin.hive.ReaderPageSource;
 import io.trino.plugin.hive.RecordFileWriter;
 import io.trino.plugin.hive.TableToPartitionMapping;
+import io.trino.plugin.hive.line.LinePageSourceFactory;
 import io.trino.plugin.hive.orc.OrcPageSourceFactory;
 import io.trino.plugin.hive.parquet.ParquetPageSourceFactory;
 import io.trino.plugin.hive.parquet.ParquetReaderConfig;
@@ -214,6 +215,31 @@ public enum FileFormat
         }
     },
 
+    TRINO_TEXTFILE {
+        @Override
+        public HiveStorageFormat getFormat()
+        {
+            return HiveStorageFormat.TEXTFILE;
+        }
+
+        @Override
+        public Optional<HivePageSourceFactory> getHivePageSourceFactory(HdfsEnvironment hdfsEnvironment)
+        {
+            return Optional.of(new LinePageSourceFactory(hdfsEnvironment));
+        }
+
+        @Override
+        public FormatWriter createFileFormatWriter(
+                ConnectorSession session,
+                File targetFile,
+                List<String> columnNames,
+                List<Type> columnTypes,
+                HiveCompressionCodec compressionCodec)
+        {
+            return new RecordFormatWriter(targetFile, columnNames, columnTypes, compressionCodec, HiveStorageFormat.TEXTFILE, session);
+        }
+    },
+
     HIVE_RCBINARY {
         @Override
         public HiveStorageFormat getFormat()
@@ -312,6 +338,31 @@ public enum FileFormat
         {
             return new RecordFormatWriter(targetFile, columnNames, columnTypes, compressionCodec, HiveStorageFormat.PARQUET, session);
         }
+    },
+
+    HIVE_TEXTFILE {
+        @Override
+        public HiveStorageFormat getFormat()
+        {
+            return HiveStorageFormat.TEXTFILE;
+        }
+
+        @Override
+        public Optional<HiveRecordCursorProvider> getHiveRecordCursorProvider(HdfsEnvironment hdfsEnvironment)
+        {
+            return Optional.of(createGenericHiveRecordCursorProvider(hdfsEnvironment));
+        }
+
+        @Override
+        public FormatWriter createFileFormatWriter(
+                ConnectorSession session,
+                File targetFile,
+                List<String> columnNames,
+                List<Type> columnTypes,
+                HiveCompressionCodec compressionCodec)
+        {
+            return new RecordFormatWriter(targetFile, columnNames, columnTypes, compressionCodec, HiveStorageFormat.TEXTFILE, session);
+        }
     };
 
     public boolean supportsDate()
@@ -471,6 +522,7 @@ public enum FileFormat
                         0,
                         targetFile.length(),
                         targetFile.length(),
+                        0,
                         schema,
                         readColumns,
                         TupleDomain.all(),
@@ -0,0 +1,187 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.line;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.plugin.hive.HiveColumnHandle;
+import io.trino.plugin.hive.HiveType;
+import io.trino.rcfile.text.TextRcFileEncoding;
+import io.trino.spi.block.Block;
+import io.trino.spi.type.Type;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static io.airlift.slice.Slices.utf8Slice;
+import static io.trino.plugin.hive.HiveColumnHandle.ColumnType.REGULAR;
+import static io.trino.plugin.hive.HiveColumnHandle.createBaseColumn;
+import static io.trino.plugin.hive.HiveErrorCode.HIVE_BAD_DATA;
+import static io.trino.plugin.hive.HiveType.HIVE_INT;
+import static io.trino.plugin.hive.HiveType.HIVE_STRING;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static io.trino.testing.TestingConnectorSession.SESSION;
+import static io.trino.testing.assertions.TrinoExceptionAssert.assertTrinoExceptionThrownBy;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+
+public class TestLineDeserializers
+{
+    @Test
+    public void testCsv()
+            throws IOException
+    {
+        List<HiveColumnHandle> columns = ImmutableList.of(column("a", 0, VARCHAR, HIVE_STRING), column("b", 1, VARCHAR, HIVE_STRING), column("c", 2, VARCHAR, HIVE_STRING));
+        LineDeserializer deserializer = new CsvLineDeserializer(columns, (byte) ',', (byte) '"', (byte) '\\');
+
+        assertRows(
+                deserializer,
+                columns,
+                ImmutableList.of(
+                        "x,y,z",
+                        "\"x,1\",\"y\"\"2\",\"z\\\"3\"",
+                        "x,,",
+                        "x",
+                        "",
+                        "\"x\"y,\"unterminated",
+                        "x,y,z,extra"),
+                new Object[][] {
+                        {"x", "y", "z"},
+                        {"x,1", "y\"2", "z\"3"},
+                        {"x", "", ""},
+                        {"x", null, null},
+                        {"", null, null},
+                        {"xy", null, null},
+                        {"x", "y", "z"}});
+    }
+
+    @Test
+    public void testCsvProjection()
+            throws IOException
+    {
+        List<HiveColumnHandle> columns = ImmutableList.of(column("c", 2, VARCHAR, HIVE_STRING), column("a", 0, VARCHAR, HIVE_STRING));
+        LineDeserializer deserializer = new CsvLineDeserializer(columns, (byte) '\t', (byte) '\'', (byte) '\\');
+
+        assertRows(
+                deserializer,
+                columns,
+                ImmutableList.of("1\t2\t3", "'4\t'\t5\t'6'"),
+                new Object[][] {{"3", "1"}, {"6", "4\t"}});
+    }
+
+    @Test
+    public void testText()
+            throws IOException
+    {
+        List<HiveColumnHandle> columns = ImmutableList.of(column("b", 1, INTEGER, HIVE_INT), column("a", 0, VARCHAR, HIVE_STRING));
+        LineDeserializer deserializer = new TextLineDeserializer(columns, 3, new TextRcFileEncoding());
+
+        assertRows(
+                deserializer,
+                columns,
+                ImmutableList.of("x\u00011\u0001ignored", "y", "\\N\u0001\\N", "\u0001"),
+                new Object[][] {
+                        {1, "x"},
+                        {null, "y"},
+                        {null, null},
+                        {null, ""}});
+    }
+
+    @Test
+    public void testTextLastColumnTakesRest()
+            throws IOException
+    {
+        TextRcFileEncoding encoding = new TextRcFileEncoding(utf8Slice("\\N"), new byte[] {','}, (byte) '\\', true);
+        List<HiveColumnHandle> columns = ImmutableList.of(column("a", 0, VARCHAR, HIVE_STRING), column("b", 1, VARCHAR, HIVE_STRING));
+        LineDeserializer deserializer = new TextLineDeserializer(columns, 2, encoding);
+
+        assertRows(
+                deserializer,
+                columns,
+                ImmutableList.of("x\\,y,z,rest", "x"),
+                new Object[][] {
+                        {"x,y", "z,rest"},
+                        {"x", null}});
+    }
+
+    @Test
+    public void testJson()
+            throws IOException
+    {
+        List<HiveColumnHandle> columns = ImmutableList.of(column("name", 0, VARCHAR, HIVE_STRING), column("value", 1, INTEGER, HIVE_INT));
+        LineDeserializer deserializer = new JsonLineDeserializer(columns);
+
+        assertRows(
+                deserializer,
+                columns,
+                ImmutableList.of(
+                        "{\"name\": \"x\", \"value\": 1}",
+                        "{\"VALUE\": 2, \"other\": {\"nested\": [1, 2]}, \"Name\": \"y\"}",
+                        "{\"name\": null}",
+                        "{\"name\": \"a\", \"name\": \"b\", \"value\": \"3\"}",
+                        "{}"),
+                new Object[][] {
+                        {"x", 1},
+                        {"y", 2},
+                        {null, null},
+                        {"b", 3},
+                        {null, null}});
+
+        assertTrinoExceptionThrownBy(() -> deserialize(deserializer, "[1, 2]"))
+                .hasErrorCode(HIVE_BAD_DATA);
+        assertTrinoExceptionThrownBy(() -> deserialize(deserializer, "{\"name\": {\"x\": 1}}"))
+                .hasErrorCode(HIVE_BAD_DATA);
+        assertTrinoExceptionThrownBy(() -> deserialize(deserializer, "{\"name\": "))
+                .hasErrorCode(HIVE_BAD_DATA);
+    }
+
+    private static void assertRows(LineDeserializer deserializer, List<HiveColumnHandle> columns, List<String> lines, Object[][] expected)
+            throws IOException
+    {
+        for (String line : lines) {
+            deserialize(deserializer, line);
+        }
+        Block[] blocks = deserializer.build();
+
+        List<List<Object>> actual = new ArrayList<>();
+        for (int position = 0; position < lines.size(); position++) {
+            List<Object> row = new ArrayList<>();
+            for (int column = 0; column < blocks.length; column++) {
+                row.add(columns.get(column).getType().getObjectValue(SESSION, blocks[column], position));
+            }
+            actual.add(row);
+        }
+        List<List<Object>> expectedRows = new ArrayList<>();
+        for (Object[] row : expected) {
+            expectedRows.add(Arrays.asList(row));
+        }
+        assertEquals(actual, expectedRows);
+    }
+
+    private static void deserialize(LineDeserializer deserializer, String line)
+            throws IOException
+    {
+        byte[] bytes = ("#" + line).getBytes(UTF_8);
+        deserializer.deserialize(bytes, 1, bytes.length - 1);
+    }
+
+    private static HiveColumnHandle column(String name, int index, Type type, HiveType hiveType)
+    {
+        return createBaseColumn(name, index, hiveType, type, REGULAR, Optional.empty());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.line;
+
+import com.google.common.collect.ImmutableList;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+
+public class TestLineReader
+{
+    @Test
+    public void testLineTerminators()
+            throws IOException
+    {
+        assertEquals(readLines("a\nbb\rccc\r\ndddd", 0, 100), ImmutableList.of("a", "bb", "ccc", "dddd"));
+        assertEquals(readLines("a\n\nb\n", 0, 100), ImmutableList.of("a", "", "b"));
+        assertEquals(readLines("\r\n\r\n", 0, 100), ImmutableList.of("", ""));
+        assertEquals(readLines("", 0, 100), ImmutableList.of());
+        assertEquals(readLines("a\r", 0, 100), ImmutableList.of("a"));
+    }
+
+    @Test
+    public void testLongLines()
+            throws IOException
+    {
+        // lines longer than the initial buffer, and terminators in each position of a word
+        String first = "x".repeat(3 * 1024 * 1024 + 5);
+        String second = "y".repeat(17);
+        assertEquals(readLines(first + "\r\n" + second + "\n" + first, 0, Long.MAX_VALUE), ImmutableList.of(first, second, first));
+
+        for (int length = 0; length < 20; length++) {
+            String line = "z".repeat(length);
+            assertEquals(readLines(line + "\r" + line + "\n" + line, 0, Long.MAX_VALUE), ImmutableList.of(line, line, line));
+        }
+    }
+
+    @Test
+    public void testSplits()
+            throws IOException
+    {
+        String data = "alpha\nbeta\r\ngamma\rdelta\n\nepsilon\nzeta";
+        List<String> expected = readLines(data, 0, Long.MAX_VALUE);
+
+        // every line is read by exactly one split, for any split boundaries
+        for (int boundary = 1; boundary < data.length(); boundary++) {
+            for (int secondBoundary = boundary + 1; secondBoundary <= data.length(); secondBoundary++) {
+                ImmutableList<String> lines = ImmutableList.<String>builder()
+                        .addAll(readLines(data, 0, boundary))
+                        .addAll(readLines(data, boundary, secondBoundary - boundary))
+                        .addAll(readLines(data, secondBoundary, data.length() - secondBoundary))
+                        .build();
+                assertEquals(lines, expected, "boundaries " + boundary + ", " + secondBoundary);
+            }
+        }
+    }
+
+    @Test
+    public void testFindLineEnd()
+    {
+        byte[] bytes = "0123456789abcdef\r0123456789\n".getBytes(UTF_8);
+        assertEquals(LineReader.findLineEnd(bytes, 0, bytes.length), 16);
+        assertEquals(LineReader.findLineEnd(bytes, 17, bytes.length), 27);
+        assertEquals(LineReader.findLineEnd(bytes, 0, 16), -1);
+        // bytes with the high bit set are not line terminators
+        byte[] highBits = {(byte) 0x8A, (byte) 0x8D, (byte) 0xFF, 0x0B, 0x0C, 0x0E, (byte) 0x80, 0x00, 0x0A};
+        assertEquals(LineReader.findLineEnd(highBits, 0, highBits.length), 8);
+    }
+
+    private static List<String> readLines(String data, long start, long length)
+            throws IOException
+    {
+        byte[] bytes = data.getBytes(UTF_8);
+        int offset = (int) start;
+        ImmutableList.Builder<String> lines = ImmutableList.builder();
+        try (LineReader lineReader = new LineReader("test", new ByteArrayInputStream(bytes, offset, bytes.length - offset), start, start + Math.min(length, bytes.length))) {
+            while (lineReader.readLine()) {
+                lines.add(new String(lineReader.getBuffer(), lineReader.getLineOffset(), lineReader.getLineLength(), UTF_8));
+            }
+        }
+        return lines.build();
+    }
+}
@@ -15,31 +15,44 @@ package io.trino.plugin.hive.metastore;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.trino.plugin.hive.HiveBasicStatistics;
 import io.trino.plugin.hive.HiveBucketProperty;
 import io.trino.plugin.hive.HiveMetastoreClosure;
 import io.trino.plugin.hive.HiveType;
 import io.trino.plugin.hive.PartitionStatistics;
 import io.trino.plugin.hive.acid.AcidTransaction;
 import io.trino.plugin.hive.authentication.HiveIdentity;
+import io.trino.spi.TrinoException;
 import org.apache.hadoop.fs.Path;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.google.common.io.MoreFiles.deleteRecursively;
+import static com.google.common.io.RecursiveDeleteOption.ALLOW_INSECURE;
 import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static io.trino.plugin.hive.HiveBasicStatistics.createEmptyStatistics;
 import static io.trino.plugin.hive.HiveTestUtils.HDFS_ENVIRONMENT;
 import static io.trino.plugin.hive.util.HiveBucketing.BucketingVersion.BUCKETING_V1;
 import static io.trino.testing.TestingConnectorSession.SESSION;
+import static java.nio.file.Files.createTempDirectory;
 import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.concurrent.Executors.newScheduledThreadPool;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
 public class TestSemiTransactionalHiveMetastore
@@ -123,6 +136,141 @@ public class TestSemiTransactionalHiveMetastore
                 newScheduledThreadPool(1));
     }
 
+    @Test
+    public void testReplaceFilesOnCommit()
+            throws Exception
+    {
+        java.nio.file.Path directory = createTempDirectory("replace-files");
+        try {
+            Path first = createFile(directory, "first", 100);
+            Path second = createFile(directory, "second", 50);
+            Path kept = createFile(directory, "kept", 10);
+            StatisticsHiveMetastore hiveMetastore = new StatisticsHiveMetastore(new HiveBasicStatistics(3, 30, 600, 160));
+            SemiTransactionalHiveMetastore metastore = getSemiTransactionalHiveMetastore(hiveMetastore);
+
+            metastore.replaceFilesOnCommit(SESSION, "database", "table", Optional.empty(), ImmutableList.of(first, second), -1, -60);
+            metastore.commit();
+
+            assertEquals(listFileNames(directory), ImmutableSet.of(kept.getName()));
+            assertEquals(hiveMetastore.getTableStatistics().getBasicStatistics(), new HiveBasicStatistics(2, 30, 600, 100));
+        }
+        finally {
+            deleteRecursively(directory, ALLOW_INSECURE);
+        }
+    }
+
+    @Test
+    public void testReplaceFilesRestoredWhenRenameFails()
+            throws Exception
+    {
+        java.nio.file.Path directory = createTempDirectory("replace-files");
+        try {
+            Path first = createFile(directory, "first", 100);
+            Path missing = new Path(directory.toUri().toString(), "missing");
+            StatisticsHiveMetastore hiveMetastore = new StatisticsHiveMetastore(new HiveBasicStatistics(2, 30, 600, 100));
+            SemiTransactionalHiveMetastore metastore = getSemiTransactionalHiveMetastore(hiveMetastore);
+
+            metastore.replaceFilesOnCommit(SESSION, "database", "table", Optional.empty(), ImmutableList.of(first, missing), -1, -50);
+            assertThatThrownBy(metastore::commit)
+                    .isInstanceOf(TrinoException.class)
+                    .hasMessageContaining("Failed to rename");
+
+            assertEquals(listFileNames(directory), ImmutableSet.of(first.getName()));
+            assertEquals(hiveMetastore.getTableStatistics().getBasicStatistics(), new HiveBasicStatistics(2, 30, 600, 100));
+        }
+        finally {
+            deleteRecursively(directory, ALLOW_INSECURE);
+        }
+    }
+
+    @Test
+    public void testReplaceFilesRestoredWhenStatisticsUpdateFails()
+            throws Exception
+    {
+        java.nio.file.Path directory = createTempDirectory("replace-files");
+        try {
+            Path first = createFile(directory, "first", 100);
+            Path second = createFile(directory, "second", 50);
+            StatisticsHiveMetastore hiveMetastore = new StatisticsHiveMetastore(new HiveBasicStatistics(2, 30, 600, 150));
+            hiveMetastore.failUpdates();
+            SemiTransactionalHiveMetastore metastore = getSemiTransactionalHiveMetastore(hiveMetastore);
+
+            metastore.replaceFilesOnCommit(SESSION, "database", "table", Optional.empty(), ImmutableList.of(first, second), -1, -60);
+            assertThatThrownBy(metastore::commit)
+                    .isInstanceOf(UnsupportedOperationException.class);
+
+            assertEquals(listFileNames(directory), ImmutableSet.of(first.getName(), second.getName()));
+            assertEquals(hiveMetastore.getTableStatistics().getBasicStatistics(), new HiveBasicStatistics(2, 30, 600, 150));
+        }
+        finally {
+            deleteRecursively(directory, ALLOW_INSECURE);
+        }
+    }
+
+    private static SemiTransactionalHiveMetastore getSemiTransactionalHiveMetastore(HiveMetastore hiveMetastore)
+    {
+        return new SemiTransactionalHiveMetastore(HDFS_ENVIRONMENT,
+                new HiveMetastoreClosure(hiveMetastore),
+                directExecutor(),
+                directExecutor(),
+                directExecutor(),
+                false,
+                false,
+                Optional.empty(),
+                newScheduledThreadPool(1));
+    }
+
+    private static Path createFile(java.nio.file.Path directory, String name, int size)
+            throws IOException
+    {
+        java.nio.file.Path file = directory.resolve(name);
+        Files.write(file, new byte[size]);
+        return new Path(file.toUri().toString());
+    }
+
+    private static Set<String> listFileNames(java.nio.file.Path directory)
+            throws IOException
+    {
+        try (Stream<java.nio.file.Path> files = Files.list(directory)) {
+            return files
+                    .map(file -> file.getFileName().toString())
+                    // checksum files written by the local file system
+                    .filter(name -> !name.startsWith("."))
+                    .collect(toImmutableSet());
+        }
+    }
+
+    private static class StatisticsHiveMetastore
+            extends UnimplementedHiveMetastore
+    {
+        private PartitionStatistics tableStatistics;
+        private boolean failUpdates;
+
+        public StatisticsHiveMetastore(HiveBasicStatistics basicStatistics)
+        {
+            this.tableStatistics = new PartitionStatistics(basicStatistics, ImmutableMap.of());
+        }
+
+        public void failUpdates()
+        {
+            failUpdates = true;
+        }
+
+        public PartitionStatistics getTableStatistics()
+        {
+            return tableStatistics;
+        }
+
+        @Override
+        public synchronized void updateTableStatistics(HiveIdentity identity, String databaseName, String tableName, Function<PartitionStatistics, PartitionStatistics> update, AcidTransaction transaction)
+        {
+            if (failUpdates) {
+                throw new UnsupportedOperationException("statistics can not be updated");
+            }
+            tableStatistics = update.apply(tableStatistics);
+        }
+    }
+
     private static class TestingHiveMetastore
             extends UnimplementedHiveMetastore
     {
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.orc;
+
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class TestDeletedRowIds
+{
+    @Test
+    public void testEmpty()
+    {
+        DeletedRowIds deletedRowIds = DeletedRowIds.builder().build();
+        assertTrue(deletedRowIds.isEmpty());
+        assertFalse(deletedRowIds.cursor().isDeleted(0, 0));
+    }
+
+    @Test
+    public void testDuplicates()
+    {
+        DeletedRowIds deletedRowIds = DeletedRowIds.builder()
+                .add(3, 7)
+                .add(3, 7)
+                .add(1, 7)
+                .build();
+        assertEquals(deletedRowIds.size(), 2);
+
+        DeletedRowIds.Cursor cursor = deletedRowIds.cursor();
+        assertTrue(cursor.isDeleted(1, 7));
+        assertFalse(cursor.isDeleted(2, 7));
+        assertTrue(cursor.isDeleted(3, 7));
+        assertFalse(cursor.isDeleted(3, 8));
+    }
+
+    @Test
+    public void testLookups()
+    {
+        Random random = new Random(42);
+        DeletedRowIds.Builder builder = DeletedRowIds.builder();
+        Set<List<Long>> expected = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            long originalTransaction = random.nextInt(5);
+            long rowId = random.nextInt(100_000);
+            builder.add(originalTransaction, rowId);
+            expected.add(List.of(originalTransaction, rowId));
+        }
+        DeletedRowIds deletedRowIds = builder.build();
+        assertEquals(deletedRowIds.size(), expected.size());
+
+        // rows in file order
+        DeletedRowIds.Cursor cursor = deletedRowIds.cursor();
+        for (long originalTransaction = 0; originalTransaction < 6; originalTransaction++) {
+            for (long rowId = 0; rowId < 100_000; rowId += 1 + random.nextInt(3)) {
+                assertEquals(cursor.isDeleted(originalTransaction, rowId), expected.contains(List.of(originalTransaction, rowId)));
+            }
+        }
+
+        // rows in random order
+        cursor = deletedRowIds.cursor();
+        for (int i = 0; i < 10_000; i++) {
+            long originalTransaction = random.nextInt(6);
+            long rowId = random.nextInt(100_000);
+            assertEquals(cursor.isDeleted(originalTransaction, rowId), expected.contains(List.of(originalTransaction, rowId)));
+        }
+    }
+}
@@ -14,6 +14,8 @@
 package io.trino.plugin.hive.orc;
 
 import com.google.common.collect.ImmutableSet;
+import io.airlift.units.DataSize;
+import io.airlift.units.Duration;
 import io.trino.orc.OrcReaderOptions;
 import io.trino.plugin.hive.AcidInfo;
 import io.trino.plugin.hive.FileFormatDataSourceStats;
@@ -28,15 +30,26 @@ import org.apache.hadoop.mapred.JobConf;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import static com.google.common.io.MoreFiles.deleteRecursively;
+import static com.google.common.io.RecursiveDeleteOption.ALLOW_INSECURE;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
 import static io.trino.plugin.hive.HiveTestUtils.HDFS_ENVIRONMENT;
 import static io.trino.plugin.hive.HiveTestUtils.SESSION;
 import static io.trino.spi.type.BigintType.BIGINT;
 import static io.trino.testing.MaterializedResult.resultBuilder;
+import static java.nio.file.Files.createTempDirectory;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.concurrent.TimeUnit.HOURS;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 public class TestOrcDeletedRows
 {
@@ -144,7 +157,77 @@ public class TestOrcDeletedRows
         acidInfoBuilder.addDeleteDelta(deleteDeltaPath);
     }
 
+    @Test
+    public void testDeletedRowsSharedBetweenSplits()
+    {
+        AcidInfo.Builder acidInfoBuilder = AcidInfo.builder(partitionDirectory);
+        addDeleteDelta(acidInfoBuilder, 4L, 4L, OptionalInt.of(0), partitionDirectory);
+        addDeleteDelta(acidInfoBuilder, 7L, 7L, OptionalInt.of(0), partitionDirectory);
+        AcidInfo acidInfo = acidInfoBuilder.build().orElseThrow();
+
+        OrcDeleteDeltaCache deleteDeltaCache = new OrcDeleteDeltaCache(DataSize.of(1, MEGABYTE), new Duration(1, HOURS));
+        for (int split = 0; split < 3; split++) {
+            OrcDeletedRows deletedRows = createOrcDeletedRows(acidInfo, "bucket_00000", deleteDeltaCache);
+            Page testPage = createTestPage(0, 10);
+            assertEquals(deletedRows.getMaskDeletedRowsFunction(testPage, OptionalLong.empty()).getPositionCount(), 8);
+        }
+        assertEquals(deleteDeltaCache.getMissCount(), 1);
+        assertEquals(deleteDeltaCache.getHitCount(), 2);
+    }
+
+    @Test
+    public void testDeleteDeltaReplacedAtSameLocation()
+            throws IOException
+    {
+        // a table dropped and created again at the same location reuses the delete delta paths
+        java.nio.file.Path directory = createTempDirectory("delete-delta");
+        try {
+            copyDirectory(new File(partitionDirectory.toUri()).toPath(), directory);
+            Path tableDirectory = new Path(directory.toUri());
+            AcidInfo.Builder acidInfoBuilder = AcidInfo.builder(tableDirectory);
+            addDeleteDelta(acidInfoBuilder, 4L, 4L, OptionalInt.of(0), tableDirectory);
+            addDeleteDelta(acidInfoBuilder, 7L, 7L, OptionalInt.of(0), tableDirectory);
+            AcidInfo acidInfo = acidInfoBuilder.build().orElseThrow();
+
+            OrcDeleteDeltaCache deleteDeltaCache = new OrcDeleteDeltaCache(DataSize.of(1, MEGABYTE), new Duration(1, HOURS));
+            assertEquals(createOrcDeletedRows(acidInfo, "bucket_00000", deleteDeltaCache).getMaskDeletedRowsFunction(createTestPage(0, 10), OptionalLong.empty()).getPositionCount(), 8);
+
+            // the second delete delta now deletes the same row as the first one
+            java.nio.file.Path replaced = directory.resolve("delete_delta_0000007_0000007_0000/bucket_00000");
+            Files.copy(directory.resolve("delete_delta_0000004_0000004_0000/bucket_00000"), replaced, REPLACE_EXISTING);
+            assertTrue(replaced.toFile().setLastModified(replaced.toFile().lastModified() - 60_000));
+
+            assertEquals(createOrcDeletedRows(acidInfo, "bucket_00000", deleteDeltaCache).getMaskDeletedRowsFunction(createTestPage(0, 10), OptionalLong.empty()).getPositionCount(), 9);
+            assertEquals(deleteDeltaCache.getMissCount(), 2);
+            assertEquals(deleteDeltaCache.getHitCount(), 0);
+        }
+        finally {
+            deleteRecursively(directory, ALLOW_INSECURE);
+        }
+    }
+
+    private static void copyDirectory(java.nio.file.Path source, java.nio.file.Path target)
+            throws IOException
+    {
+        try (Stream<java.nio.file.Path> files = Files.walk(source)) {
+            for (java.nio.file.Path file : (Iterable<java.nio.file.Path>) files::iterator) {
+                java.nio.file.Path copy = target.resolve(source.relativize(file).toString());
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(copy);
+                }
+                else {
+                    Files.copy(file, copy);
+                }
+            }
+        }
+    }
+
     private static OrcDeletedRows createOrcDeletedRows(AcidInfo acidInfo, String sourceFileName)
+    {
+        return createOrcDeletedRows(acidInfo, sourceFileName, new OrcDeleteDeltaCache(DataSize.of(1, MEGABYTE), new Duration(1, HOURS)));
+    }
+
+    private static OrcDeletedRows createOrcDeletedRows(AcidInfo acidInfo, String sourceFileName, OrcDeleteDeltaCache deleteDeltaCache)
     {
         JobConf configuration = new JobConf(new Configuration(false));
         OrcDeleteDeltaPageSourceFactory pageSourceFactory = new OrcDeleteDeltaPageSourceFactory(
@@ -160,7 +243,8 @@ public class TestOrcDeletedRows
                 "test",
                 configuration,
                 HDFS_ENVIRONMENT,
-                acidInfo);
+                acidInfo,
+                deleteDeltaCache);
     }
 
     private Page createTestPage(int originalTransactionStart, int originalTransactionEnd)
@@ -17,6 +17,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import io.trino.plugin.hive.AcidInfo;
+import io.trino.plugin.hive.FileFooterCache;
 import io.trino.plugin.hive.FileFormatDataSourceStats;
 import io.trino.plugin.hive.HiveColumnHandle;
 import io.trino.plugin.hive.HiveConfig;
@@ -48,6 +49,7 @@ import java.util.function.LongPredicate;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.MoreExecutors.newDirectExecutorService;
 import static io.trino.plugin.hive.HiveColumnHandle.ColumnType.REGULAR;
 import static io.trino.plugin.hive.HiveColumnHandle.createBaseColumn;
 import static io.trino.plugin.hive.HiveStorageFormat.ORC;
@@ -74,11 +76,15 @@ public class TestOrcPageSourceFactory
 {
     // This file has the contains the TPC-H nation table which each row repeated 1000 times
     private static final File TEST_FILE = new File(TestOrcPageSourceFactory.class.getClassLoader().getResource("nationFile25kRowsSortedOnNationKey/bucket_00000").getPath());
+    private static final FileFormatDataSourceStats STATS = new FileFormatDataSourceStats();
     private static final HivePageSourceFactory PAGE_SOURCE_FACTORY = new OrcPageSourceFactory(
             new OrcReaderConfig(),
             HDFS_ENVIRONMENT,
-            new FileFormatDataSourceStats(),
-            new HiveConfig());
+            STATS,
+            new HiveConfig(),
+            new OrcDeleteDeltaCache(new OrcReaderConfig()),
+            new FileFooterCache(new HiveConfig(), STATS),
+            newDirectExecutorService());
 
     @Test
     public void testFullFileRead()
@@ -195,6 +201,7 @@ public class TestOrcPageSourceFactory
                 0,
                 fileSize,
                 fileSize,
+                0,
                 createSchema(),
                 columnHandles,
                 tupleDomain,
@@ -16,9 +16,11 @@ package io.trino.plugin.hive.orc;
 import com.google.common.collect.ImmutableMap;
 import io.airlift.units.DataSize;
 import io.airlift.units.DataSize.Unit;
+import io.airlift.units.Duration;
 import org.testng.annotations.Test;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static io.airlift.configuration.testing.ConfigAssertions.assertFullMapping;
 import static io.airlift.configuration.testing.ConfigAssertions.assertRecordedDefaults;
@@ -38,7 +40,10 @@ public class TestOrcReaderConfig
                 .setTinyStripeThreshold(DataSize.of(8, Unit.MEGABYTE))
                 .setMaxBlockSize(DataSize.of(16, Unit.MEGABYTE))
                 .setLazyReadSmallRanges(true)
-                .setNestedLazy(true));
+                .setNestedLazy(true)
+                .setMaxReadConcurrency(1)
+                .setDeleteDeltaCacheSize(DataSize.of(256, Unit.MEGABYTE))
+                .setDeleteDeltaCacheTtl(new Duration(10, TimeUnit.MINUTES)));
     }
 
     @Test
@@ -54,6 +59,9 @@ public class TestOrcReaderConfig
                 .put("hive.orc.max-read-block-size", "66kB")
                 .put("hive.orc.lazy-read-small-ranges", "false")
                 .put("hive.orc.nested-lazy", "false")
+                .put("hive.orc.max-read-concurrency", "8")
+                .put("hive.orc.delete-delta-cache-size", "77MB")
+                .put("hive.orc.delete-delta-cache-ttl", "3h")
                 .build();
 
         OrcReaderConfig expected = new OrcReaderConfig()
@@ -65,7 +73,10 @@ public class TestOrcReaderConfig
                 .setTinyStripeThreshold(DataSize.of(61, Unit.KILOBYTE))
                 .setMaxBlockSize(DataSize.of(66, Unit.KILOBYTE))
                 .setLazyReadSmallRanges(false)
-                .setNestedLazy(false);
+                .setNestedLazy(false)
+                .setMaxReadConcurrency(8)
+                .setDeleteDeltaCacheSize(DataSize.of(77, Unit.MEGABYTE))
+                .setDeleteDeltaCacheTtl(new Duration(3, TimeUnit.HOURS));
 
         assertFullMapping(properties, expected);
     }
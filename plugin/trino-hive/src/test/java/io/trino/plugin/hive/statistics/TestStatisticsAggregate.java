@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.statistics;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.trino.plugin.hive.HiveColumnHandle;
+import io.trino.spi.connector.AggregateFunction;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.expression.Variable;
+import io.trino.spi.type.Type;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.trino.plugin.hive.HiveColumnHandle.ColumnType.REGULAR;
+import static io.trino.plugin.hive.HiveColumnHandle.createBaseColumn;
+import static io.trino.plugin.hive.HiveType.HIVE_DOUBLE;
+import static io.trino.plugin.hive.HiveType.HIVE_LONG;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.DoubleType.DOUBLE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestStatisticsAggregate
+{
+    private static final HiveColumnHandle BIGINT_COLUMN = createBaseColumn("bigint_column", 0, HIVE_LONG, BIGINT, REGULAR, Optional.empty());
+    private static final HiveColumnHandle DOUBLE_COLUMN = createBaseColumn("double_column", 1, HIVE_DOUBLE, DOUBLE, REGULAR, Optional.empty());
+    private static final Map<String, ColumnHandle> ASSIGNMENTS = ImmutableMap.of(
+            "bigint_column", BIGINT_COLUMN,
+            "double_column", DOUBLE_COLUMN);
+
+    @Test
+    public void testCountAll()
+    {
+        StatisticsAggregate aggregate = fromAggregateFunction(new AggregateFunction("count", BIGINT, List.of(), List.of(), false, Optional.empty()));
+        assertEquals(aggregate.getKind(), StatisticsAggregate.Kind.COUNT_ALL);
+        assertTrue(aggregate.getColumn().isEmpty());
+
+        aggregate.add(10, 0, 0, 0);
+        aggregate.add(5, 0, 0, 0);
+        assertEquals(aggregate.getResult(), 15L);
+    }
+
+    @Test
+    public void testCount()
+    {
+        StatisticsAggregate aggregate = fromAggregateFunction(aggregateFunction("count", BIGINT_COLUMN, BIGINT));
+        assertEquals(aggregate.getKind(), StatisticsAggregate.Kind.COUNT);
+        assertEquals(aggregate.getColumn(), Optional.of(BIGINT_COLUMN));
+
+        aggregate.add(10, 7, 0, 0);
+        aggregate.add(5, 0, 0, 0);
+        assertEquals(aggregate.getResult(), 7L);
+
+        // count of a column of any type is accepted here; Iceberg answers it from null counts alone, while
+        // Hive also requires the file column type to match the table column type exactly
+        assertTrue(StatisticsAggregate.fromAggregateFunction(aggregateFunction("count", DOUBLE_COLUMN, BIGINT), ASSIGNMENTS).isPresent());
+    }
+
+    @Test
+    public void testMinMax()
+    {
+        StatisticsAggregate min = fromAggregateFunction(aggregateFunction("min", BIGINT_COLUMN, BIGINT));
+        StatisticsAggregate max = fromAggregateFunction(aggregateFunction("max", BIGINT_COLUMN, BIGINT));
+        for (StatisticsAggregate aggregate : ImmutableList.of(min, max)) {
+            assertNull(aggregate.getResult());
+            aggregate.add(10, 10, 3, 42);
+            // bounds of files with only nulls are ignored
+            aggregate.add(10, 0, -100, 100);
+            aggregate.add(10, 4, -7, 12);
+        }
+        assertEquals(min.getResult(), -7L);
+        assertEquals(max.getResult(), 42L);
+    }
+
+    @Test
+    public void testUnsupported()
+    {
+        // inexact statistics
+        assertTrue(StatisticsAggregate.fromAggregateFunction(aggregateFunction("min", DOUBLE_COLUMN, DOUBLE), ASSIGNMENTS).isEmpty());
+        // other functions
+        assertTrue(StatisticsAggregate.fromAggregateFunction(aggregateFunction("sum", BIGINT_COLUMN, BIGINT), ASSIGNMENTS).isEmpty());
+        // distinct count
+        assertTrue(StatisticsAggregate.fromAggregateFunction(
+                new AggregateFunction("count", BIGINT, List.of(new Variable("bigint_column", BIGINT)), List.of(), true, Optional.empty()),
+                ASSIGNMENTS).isEmpty());
+        // filtered aggregation
+        assertTrue(StatisticsAggregate.fromAggregateFunction(
+                new AggregateFunction("count", BIGINT, List.of(), List.of(), false, Optional.of(new Variable("bigint_column", BIGINT))),
+                ASSIGNMENTS).isEmpty());
+    }
+
+    private static AggregateFunction aggregateFunction(String name, HiveColumnHandle column, Type outputType)
+    {
+        return new AggregateFunction(name, outputType, List.of(new Variable(column.getName(), column.getType())), List.of(), false, Optional.empty());
+    }
+
+    private static StatisticsAggregate fromAggregateFunction(AggregateFunction function)
+    {
+        return StatisticsAggregate.fromAggregateFunction(function, ASSIGNMENTS).orElseThrow();
+    }
+}
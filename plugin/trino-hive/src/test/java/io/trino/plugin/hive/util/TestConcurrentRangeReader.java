@@ -0,0 +1,281 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.util;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.airlift.slice.Slice;
+import io.airlift.slice.Slices;
+import io.airlift.units.DataSize;
+import io.trino.orc.OrcDataSourceId;
+import io.trino.orc.OrcReaderOptions;
+import io.trino.orc.stream.OrcDataReader;
+import io.trino.parquet.ChunkReader;
+import io.trino.parquet.DiskRange;
+import io.trino.parquet.ParquetDataSourceId;
+import io.trino.parquet.ParquetReaderOptions;
+import io.trino.plugin.hive.FileFormatDataSourceStats;
+import io.trino.plugin.hive.orc.HdfsOrcDataSource;
+import io.trino.plugin.hive.parquet.HdfsParquetDataSource;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FSInputStream;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RawLocalFileSystem;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.airlift.concurrent.MoreFutures.getFutureValue;
+import static io.airlift.concurrent.Threads.daemonThreadsNamed;
+import static io.airlift.testing.Closeables.closeAll;
+import static io.airlift.units.DataSize.Unit.BYTE;
+import static java.util.Arrays.copyOfRange;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.testng.Assert.assertEquals;
+
+public class TestConcurrentRangeReader
+{
+    private static final int RANGE_COUNT = 8;
+    private static final int RANGE_LENGTH = 100;
+    private static final int RANGE_STRIDE = 1000;
+    private static final long READ_LATENCY_MILLIS = 50;
+
+    private ExecutorService executor;
+    private File tempRoot;
+    private Path tempFile;
+    private RawLocalFileSystem fs;
+    private byte[] fileData;
+
+    @BeforeClass
+    public void setUp()
+            throws Exception
+    {
+        executor = newCachedThreadPool(daemonThreadsNamed("TestConcurrentRangeReader-%s"));
+        fs = new RawLocalFileSystem();
+        fs.initialize(fs.getUri(), new Configuration(false));
+        tempRoot = Files.createTempDirectory("test_concurrent_range_reader").toFile();
+        File file = new File(tempRoot, "data");
+        fileData = new byte[RANGE_COUNT * RANGE_STRIDE];
+        for (int i = 0; i < fileData.length; i++) {
+            fileData[i] = (byte) (i % 251);
+        }
+        Files.write(file.toPath(), fileData);
+        tempFile = new Path(file.toURI());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown()
+            throws Exception
+    {
+        executor.shutdownNow();
+        closeAll(
+                () -> fs.delete(new Path(tempRoot.toURI()), true),
+                fs);
+    }
+
+    @Test(timeOut = 10_000)
+    public void testConcurrencyIsBounded()
+            throws Exception
+    {
+        try (LatencyInjectingInputStream input = openFile()) {
+            ConcurrentRangeReader reader = new ConcurrentRangeReader(executor, 3);
+            List<Integer> ranges = ImmutableList.of(0, 1, 2, 3, 4, 5, 6, 7);
+            List<ListenableFuture<Slice>> futures = reader.read(ranges, range -> input.readRange(range * RANGE_STRIDE, RANGE_LENGTH));
+
+            assertEquals(futures.size(), ranges.size());
+            for (int range : ranges) {
+                assertRange(getFutureValue(futures.get(range)), range);
+            }
+            assertEquals(input.getReadCount(), ranges.size());
+            assertThat(input.getMaxConcurrentReads()).isBetween(2, 3);
+        }
+    }
+
+    @Test(timeOut = 10_000)
+    public void testOrcStripeRangesAreReadConcurrently()
+            throws Exception
+    {
+        LatencyInjectingInputStream input = openFile();
+        OrcReaderOptions options = new OrcReaderOptions()
+                .withMaxMergeDistance(DataSize.of(0, BYTE))
+                .withMaxReadConcurrency(4);
+        try (HdfsOrcDataSource dataSource = new HdfsOrcDataSource(new OrcDataSourceId("test"), fileData.length, options, new FSDataInputStream(input), new FileFormatDataSourceStats(), executor)) {
+            ImmutableMap.Builder<Integer, io.trino.orc.DiskRange> diskRanges = ImmutableMap.builder();
+            for (int range = 0; range < RANGE_COUNT; range++) {
+                diskRanges.put(range, new io.trino.orc.DiskRange(range * RANGE_STRIDE, RANGE_LENGTH));
+            }
+            Map<Integer, OrcDataReader> readers = dataSource.readFully(diskRanges.build());
+
+            for (int range = 0; range < RANGE_COUNT; range++) {
+                assertRange(readers.get(range).seekBuffer(0), range);
+            }
+            assertEquals(input.getReadCount(), RANGE_COUNT);
+            assertThat(input.getMaxConcurrentReads()).isBetween(2, 4);
+            assertEquals(dataSource.getReadBytes(), RANGE_COUNT * RANGE_LENGTH);
+        }
+    }
+
+    @Test(timeOut = 10_000)
+    public void testParquetRangesAreReadAhead()
+            throws Exception
+    {
+        LatencyInjectingInputStream input = openFile();
+        ParquetReaderOptions options = new ParquetReaderOptions()
+                .withMaxMergeDistance(DataSize.of(0, BYTE))
+                .withMaxReadConcurrency(3);
+        try (HdfsParquetDataSource dataSource = new HdfsParquetDataSource(new ParquetDataSourceId("test"), fileData.length, new FSDataInputStream(input), new FileFormatDataSourceStats(), options, executor)) {
+            ImmutableMap.Builder<Integer, DiskRange> diskRanges = ImmutableMap.builder();
+            for (int range = 0; range < RANGE_COUNT; range++) {
+                diskRanges.put(range, new DiskRange(range * RANGE_STRIDE, RANGE_LENGTH));
+            }
+            Map<Integer, ChunkReader> readers = dataSource.planRead(diskRanges.build());
+            // nothing is read until the first chunk is used
+            assertEquals(input.getReadCount(), 0);
+
+            for (int range = 0; range < RANGE_COUNT; range++) {
+                assertRange(readers.get(range).read(), range);
+                readers.get(range).free();
+            }
+            assertEquals(input.getReadCount(), RANGE_COUNT);
+            assertThat(input.getMaxConcurrentReads()).isBetween(2, 3);
+            assertEquals(dataSource.getReadBytes(), RANGE_COUNT * RANGE_LENGTH);
+        }
+    }
+
+    private LatencyInjectingInputStream openFile()
+            throws IOException
+    {
+        return new LatencyInjectingInputStream(fs.open(tempFile), READ_LATENCY_MILLIS);
+    }
+
+    private void assertRange(Slice slice, int range)
+    {
+        assertEquals(slice.getBytes(), copyOfRange(fileData, range * RANGE_STRIDE, range * RANGE_STRIDE + RANGE_LENGTH));
+    }
+
+    /**
+     * Delays every positional read to simulate an object store, and tracks how many reads overlap.
+     */
+    private static class LatencyInjectingInputStream
+            extends FSInputStream
+    {
+        private final FSDataInputStream delegate;
+        private final long latencyMillis;
+        private final AtomicInteger readCount = new AtomicInteger();
+        private final AtomicInteger concurrentReads = new AtomicInteger();
+        private final AtomicInteger maxConcurrentReads = new AtomicInteger();
+
+        public LatencyInjectingInputStream(FSDataInputStream delegate, long latencyMillis)
+        {
+            this.delegate = delegate;
+            this.latencyMillis = latencyMillis;
+        }
+
+        public int getReadCount()
+        {
+            return readCount.get();
+        }
+
+        public int getMaxConcurrentReads()
+        {
+            return maxConcurrentReads.get();
+        }
+
+        public Slice readRange(long position, int length)
+        {
+            byte[] buffer = new byte[length];
+            try {
+                readFully(position, buffer, 0, length);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return Slices.wrappedBuffer(buffer);
+        }
+
+        @Override
+        public void readFully(long position, byte[] buffer, int offset, int length)
+                throws IOException
+        {
+            readCount.incrementAndGet();
+            maxConcurrentReads.accumulateAndGet(concurrentReads.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(latencyMillis);
+                delegate.readFully(position, buffer, offset, length);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+            finally {
+                concurrentReads.decrementAndGet();
+            }
+        }
+
+        @Override
+        public int read(long position, byte[] buffer, int offset, int length)
+                throws IOException
+        {
+            readFully(position, buffer, offset, length);
+            return length;
+        }
+
+        @Override
+        public void seek(long position)
+                throws IOException
+        {
+            delegate.seek(position);
+        }
+
+        @Override
+        public long getPos()
+                throws IOException
+        {
+            return delegate.getPos();
+        }
+
+        @Override
+        public boolean seekToNewSource(long targetPosition)
+        {
+            return false;
+        }
+
+        @Override
+        public int read()
+                throws IOException
+        {
+            return delegate.read();
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            delegate.close();
+        }
+    }
+}
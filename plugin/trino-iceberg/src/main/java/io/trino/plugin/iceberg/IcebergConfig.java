@@ -14,18 +14,28 @@
 package io.trino.plugin.iceberg;
 
 import io.airlift.configuration.Config;
+import io.airlift.configuration.ConfigDescription;
+import io.airlift.units.DataSize;
+import io.airlift.units.Duration;
 import io.trino.plugin.hive.HiveCompressionCodec;
 import org.apache.iceberg.FileFormat;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
 import static io.trino.plugin.hive.HiveCompressionCodec.GZIP;
 import static io.trino.plugin.iceberg.IcebergFileFormat.ORC;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 public class IcebergConfig
 {
     private IcebergFileFormat fileFormat = ORC;
     private HiveCompressionCodec compressionCodec = GZIP;
+    private boolean statisticsAggregationPushdownEnabled;
+    private Duration dynamicFilteringWaitTimeout = new Duration(0, SECONDS);
+    private int manifestReaderThreads = 8;
+    private DataSize manifestCacheMaxSize = DataSize.of(256, MEGABYTE);
 
     @NotNull
     public FileFormat getFileFormat()
@@ -52,4 +62,58 @@ public class IcebergConfig
         this.compressionCodec = compressionCodec;
         return this;
     }
+
+    public boolean isStatisticsAggregationPushdownEnabled()
+    {
+        return statisticsAggregationPushdownEnabled;
+    }
+
+    @Config("iceberg.statistics-aggregation-pushdown-enabled")
+    public IcebergConfig setStatisticsAggregationPushdownEnabled(boolean statisticsAggregationPushdownEnabled)
+    {
+        this.statisticsAggregationPushdownEnabled = statisticsAggregationPushdownEnabled;
+        return this;
+    }
+
+    @NotNull
+    public Duration getDynamicFilteringWaitTimeout()
+    {
+        return dynamicFilteringWaitTimeout;
+    }
+
+    @Config("iceberg.dynamic-filtering.wait-timeout")
+    @ConfigDescription("Duration to wait for completion of dynamic filters during split generation")
+    public IcebergConfig setDynamicFilteringWaitTimeout(Duration dynamicFilteringWaitTimeout)
+    {
+        this.dynamicFilteringWaitTimeout = dynamicFilteringWaitTimeout;
+        return this;
+    }
+
+    @Min(1)
+    public int getManifestReaderThreads()
+    {
+        return manifestReaderThreads;
+    }
+
+    @Config("iceberg.manifest-reader-threads")
+    @ConfigDescription("Number of threads reading the manifests of a table snapshot in parallel on the coordinator")
+    public IcebergConfig setManifestReaderThreads(int manifestReaderThreads)
+    {
+        this.manifestReaderThreads = manifestReaderThreads;
+        return this;
+    }
+
+    @NotNull
+    public DataSize getManifestCacheMaxSize()
+    {
+        return manifestCacheMaxSize;
+    }
+
+    @Config("iceberg.manifest-cache.max-size")
+    @ConfigDescription("Maximum estimated memory retained by the data files of parsed manifests cached on the coordinator, 0B disables the cache")
+    public IcebergConfig setManifestCacheMaxSize(DataSize manifestCacheMaxSize)
+    {
+        this.manifestCacheMaxSize = manifestCacheMaxSize;
+        return this;
+    }
 }
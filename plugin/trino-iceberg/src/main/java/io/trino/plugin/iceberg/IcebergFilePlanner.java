@@ -0,0 +1,255 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.iceberg;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import io.airlift.concurrent.BoundedExecutor;
+import io.airlift.units.DataSize;
+import io.trino.spi.TrinoException;
+import io.trino.spi.predicate.TupleDomain;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.ManifestFiles;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.InclusiveMetricsEvaluator;
+import org.apache.iceberg.expressions.ManifestEvaluator;
+import org.apache.iceberg.expressions.Projections;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileIO;
+import org.weakref.jmx.Managed;
+
+import javax.inject.Inject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+import static io.airlift.concurrent.MoreFutures.getFutureValue;
+import static io.airlift.slice.SizeOf.estimatedSizeOf;
+import static io.airlift.slice.SizeOf.sizeOfObjectArray;
+import static io.trino.plugin.iceberg.ExpressionConverter.toIcebergExpression;
+import static io.trino.plugin.iceberg.IcebergErrorCode.ICEBERG_INVALID_SNAPSHOT_ID;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Coordinator wide planner of the data files of Iceberg table snapshots.  The manifests of a
+ * snapshot are read in parallel on a bounded executor, and the data files of each manifest are
+ * cached by manifest path.  Manifests are never rewritten in place, so the cached entries stay
+ * valid for every snapshot that shares the manifest, and split generation, table statistics and
+ * metadata queries of the same snapshot plan from memory after the first pass.  The cache is
+ * bounded by the estimated memory retained by the cached data files, which is dominated by their
+ * column metrics and so varies widely with the number of columns of the table.
+ */
+public class IcebergFilePlanner
+{
+    // the data files read from manifests are backed by boxed values and hash maps
+    private static final int DATA_FILE_SIZE = 200;
+    private static final int MAP_ENTRY_SIZE = 80;
+    private static final int BOUND_ENTRY_SIZE = 120;
+    private static final int PARTITION_VALUE_SIZE = 32;
+
+    private final Executor executor;
+    private final Cache<String, List<DataFile>> cache;
+    private final boolean cacheEnabled;
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
+    @Inject
+    public IcebergFilePlanner(IcebergConfig config, @ForIcebergManifestReader ExecutorService executor)
+    {
+        this(new BoundedExecutor(executor, config.getManifestReaderThreads()), config.getManifestCacheMaxSize());
+    }
+
+    public IcebergFilePlanner(Executor executor, DataSize manifestCacheMaxSize)
+    {
+        this.executor = requireNonNull(executor, "executor is null");
+        this.cacheEnabled = manifestCacheMaxSize.toBytes() > 0;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(manifestCacheMaxSize.toBytes())
+                .weigher((Weigher<String, List<DataFile>>) (path, dataFiles) -> toIntExact(min(estimateRetainedSize(path, dataFiles), Integer.MAX_VALUE)))
+                .build();
+    }
+
+    /**
+     * Returns the data files of the table snapshot that may contain rows matching the predicate,
+     * judged by their partition values and column metrics.
+     */
+    public List<PlannedFile> planFiles(Table icebergTable, long snapshotId, TupleDomain<IcebergColumnHandle> predicate)
+    {
+        Snapshot snapshot = icebergTable.snapshot(snapshotId);
+        if (snapshot == null) {
+            throw new TrinoException(ICEBERG_INVALID_SNAPSHOT_ID, format("Invalid snapshot [%s] for table: %s", snapshotId, icebergTable));
+        }
+
+        Expression filter = toIcebergExpression(predicate);
+        Map<Integer, PartitionSpec> specs = icebergTable.specs();
+        Map<Integer, ManifestEvaluator> manifestEvaluators = new HashMap<>();
+        List<ManifestFile> manifests = snapshot.manifests().stream()
+                .filter(manifest -> manifest.hasAddedFiles() || manifest.hasExistingFiles())
+                .filter(manifest -> manifestEvaluators.computeIfAbsent(
+                        manifest.partitionSpecId(),
+                        specId -> ManifestEvaluator.forRowFilter(filter, specs.get(specId), true))
+                        .eval(manifest))
+                .collect(toImmutableList());
+
+        // start reading all manifests before consuming the first one
+        List<ListenableFuture<List<DataFile>>> manifestDataFiles = manifests.stream()
+                .map(manifest -> readDataFiles(icebergTable.io(), manifest, specs))
+                .collect(toImmutableList());
+
+        InclusiveMetricsEvaluator metricsEvaluator = new InclusiveMetricsEvaluator(icebergTable.schema(), filter);
+        Map<Integer, Evaluator> partitionEvaluators = new HashMap<>();
+        ImmutableList.Builder<PlannedFile> files = ImmutableList.builder();
+        for (int i = 0; i < manifests.size(); i++) {
+            PartitionSpec spec = specs.get(manifests.get(i).partitionSpecId());
+            Evaluator partitionEvaluator = partitionEvaluators.computeIfAbsent(
+                    spec.specId(),
+                    specId -> new Evaluator(spec.partitionType(), Projections.inclusive(spec).project(filter)));
+            for (DataFile dataFile : getFutureValue(manifestDataFiles.get(i))) {
+                if (partitionEvaluator.eval(dataFile.partition()) && metricsEvaluator.eval(dataFile)) {
+                    files.add(new PlannedFile(dataFile, spec));
+                }
+            }
+        }
+        return files.build();
+    }
+
+    private ListenableFuture<List<DataFile>> readDataFiles(FileIO io, ManifestFile manifest, Map<Integer, PartitionSpec> specs)
+    {
+        if (cacheEnabled) {
+            List<DataFile> dataFiles = cache.getIfPresent(manifest.path());
+            if (dataFiles != null) {
+                cacheHits.incrementAndGet();
+                return immediateFuture(dataFiles);
+            }
+            cacheMisses.incrementAndGet();
+        }
+
+        ListenableFutureTask<List<DataFile>> task = ListenableFutureTask.create(() -> {
+            List<DataFile> dataFiles = readManifest(io, manifest, specs);
+            if (cacheEnabled) {
+                cache.put(manifest.path(), dataFiles);
+            }
+            return dataFiles;
+        });
+        executor.execute(task);
+        return task;
+    }
+
+    private static List<DataFile> readManifest(FileIO io, ManifestFile manifest, Map<Integer, PartitionSpec> specs)
+    {
+        ImmutableList.Builder<DataFile> dataFiles = ImmutableList.builder();
+        try (CloseableIterable<DataFile> reader = ManifestFiles.read(manifest, io, specs)) {
+            for (DataFile dataFile : reader) {
+                // the reader reuses the data file it returns
+                dataFiles.add(dataFile.copy());
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return dataFiles.build();
+    }
+
+    private static long estimateRetainedSize(String path, List<DataFile> dataFiles)
+    {
+        long size = estimatedSizeOf(path) + sizeOfObjectArray(dataFiles.size());
+        for (DataFile dataFile : dataFiles) {
+            size += estimateRetainedSize(dataFile);
+        }
+        return size;
+    }
+
+    @VisibleForTesting
+    static long estimateRetainedSize(DataFile dataFile)
+    {
+        long size = DATA_FILE_SIZE + estimatedSizeOf(dataFile.path().toString());
+        size += (long) dataFile.partition().size() * PARTITION_VALUE_SIZE;
+        size += (long) entryCount(dataFile.columnSizes()) * MAP_ENTRY_SIZE;
+        size += (long) entryCount(dataFile.valueCounts()) * MAP_ENTRY_SIZE;
+        size += (long) entryCount(dataFile.nullValueCounts()) * MAP_ENTRY_SIZE;
+        size += boundsSize(dataFile.lowerBounds());
+        size += boundsSize(dataFile.upperBounds());
+        if (dataFile.splitOffsets() != null) {
+            size += (long) dataFile.splitOffsets().size() * MAP_ENTRY_SIZE;
+        }
+        if (dataFile.keyMetadata() != null) {
+            size += dataFile.keyMetadata().remaining();
+        }
+        return size;
+    }
+
+    private static int entryCount(Map<Integer, Long> values)
+    {
+        return values == null ? 0 : values.size();
+    }
+
+    private static long boundsSize(Map<Integer, ByteBuffer> bounds)
+    {
+        if (bounds == null) {
+            return 0;
+        }
+        long size = 0;
+        for (ByteBuffer bound : bounds.values()) {
+            size += BOUND_ENTRY_SIZE + bound.remaining();
+        }
+        return size;
+    }
+
+    @Managed
+    public void flushCache()
+    {
+        cache.invalidateAll();
+    }
+
+    @Managed
+    public long getCachedManifests()
+    {
+        return cache.size();
+    }
+
+    @Managed
+    public long getCacheHits()
+    {
+        return cacheHits.get();
+    }
+
+    @Managed
+    public long getCacheMisses()
+    {
+        return cacheMisses.get();
+    }
+}
@@ -33,8 +33,12 @@ import io.trino.plugin.hive.metastore.Database;
 import io.trino.plugin.hive.metastore.HiveMetastore;
 import io.trino.plugin.hive.metastore.HivePrincipal;
 import io.trino.plugin.hive.metastore.PrincipalPrivileges;
+import io.trino.plugin.hive.metastore.SortingColumn;
 import io.trino.plugin.hive.metastore.Table;
+import io.trino.plugin.hive.statistics.StatisticsAggregate;
 import io.trino.spi.TrinoException;
+import io.trino.spi.connector.AggregateFunction;
+import io.trino.spi.connector.AggregationApplicationResult;
 import io.trino.spi.connector.CatalogSchemaName;
 import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ColumnMetadata;
@@ -58,18 +62,19 @@ import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.connector.SchemaTablePrefix;
 import io.trino.spi.connector.SystemTable;
 import io.trino.spi.connector.TableNotFoundException;
+import io.trino.spi.expression.Constant;
 import io.trino.spi.predicate.Domain;
 import io.trino.spi.predicate.NullableValue;
 import io.trino.spi.predicate.TupleDomain;
 import io.trino.spi.security.TrinoPrincipal;
 import io.trino.spi.statistics.ComputedStatistics;
+import io.trino.spi.statistics.Estimate;
 import io.trino.spi.statistics.TableStatistics;
 import io.trino.spi.type.TypeManager;
 import org.apache.hadoop.fs.Path;
 import org.apache.iceberg.AppendFiles;
 import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.FileFormat;
-import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.PartitionField;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.PartitionSpecParser;
@@ -78,9 +83,7 @@ import org.apache.iceberg.SchemaParser;
 import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.TableOperations;
-import org.apache.iceberg.TableScan;
 import org.apache.iceberg.Transaction;
-import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
@@ -120,17 +123,24 @@ import static io.trino.plugin.hive.util.HiveWriteUtils.getTableDefaultLocation;
 import static io.trino.plugin.iceberg.ExpressionConverter.toIcebergExpression;
 import static io.trino.plugin.iceberg.IcebergErrorCode.ICEBERG_INVALID_METADATA;
 import static io.trino.plugin.iceberg.IcebergSchemaProperties.getSchemaLocation;
+import static io.trino.plugin.iceberg.IcebergSessionProperties.isStatisticsAggregationPushdownEnabled;
 import static io.trino.plugin.iceberg.IcebergTableProperties.FILE_FORMAT_PROPERTY;
 import static io.trino.plugin.iceberg.IcebergTableProperties.PARTITIONING_PROPERTY;
+import static io.trino.plugin.iceberg.IcebergTableProperties.SORTED_BY_PROPERTY;
+import static io.trino.plugin.iceberg.IcebergTableProperties.SORTED_BY_TABLE_PROPERTY;
+import static io.trino.plugin.iceberg.IcebergTableProperties.formatSortedBy;
 import static io.trino.plugin.iceberg.IcebergTableProperties.getFileFormat;
 import static io.trino.plugin.iceberg.IcebergTableProperties.getPartitioning;
+import static io.trino.plugin.iceberg.IcebergTableProperties.getSortedBy;
 import static io.trino.plugin.iceberg.IcebergTableProperties.getTableLocation;
 import static io.trino.plugin.iceberg.IcebergUtil.deserializePartitionValue;
 import static io.trino.plugin.iceberg.IcebergUtil.getColumns;
 import static io.trino.plugin.iceberg.IcebergUtil.getDataPath;
 import static io.trino.plugin.iceberg.IcebergUtil.getFileFormat;
 import static io.trino.plugin.iceberg.IcebergUtil.getIcebergTable;
+import static io.trino.plugin.iceberg.IcebergUtil.getIdentityPartitions;
 import static io.trino.plugin.iceberg.IcebergUtil.getPartitionKeys;
+import static io.trino.plugin.iceberg.IcebergUtil.getSortedBy;
 import static io.trino.plugin.iceberg.IcebergUtil.getTableComment;
 import static io.trino.plugin.iceberg.IcebergUtil.isIcebergTable;
 import static io.trino.plugin.iceberg.PartitionFields.parsePartitionFields;
@@ -140,9 +150,11 @@ import static io.trino.plugin.iceberg.TypeConverter.toIcebergType;
 import static io.trino.plugin.iceberg.TypeConverter.toTrinoType;
 import static io.trino.spi.StandardErrorCode.ALREADY_EXISTS;
 import static io.trino.spi.StandardErrorCode.INVALID_SCHEMA_PROPERTY;
+import static io.trino.spi.StandardErrorCode.INVALID_TABLE_PROPERTY;
 import static io.trino.spi.StandardErrorCode.NOT_SUPPORTED;
 import static io.trino.spi.StandardErrorCode.SCHEMA_NOT_EMPTY;
 import static io.trino.spi.type.BigintType.BIGINT;
+import static java.lang.String.format;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static java.util.function.Function.identity;
@@ -165,6 +177,7 @@ public class IcebergMetadata
     private final HdfsEnvironment hdfsEnvironment;
     private final TypeManager typeManager;
     private final JsonCodec<CommitTaskData> commitTaskCodec;
+    private final IcebergFilePlanner filePlanner;
 
     private final Map<String, Optional<Long>> snapshotIds = new ConcurrentHashMap<>();
 
@@ -174,12 +187,14 @@ public class IcebergMetadata
             HiveMetastore metastore,
             HdfsEnvironment hdfsEnvironment,
             TypeManager typeManager,
-            JsonCodec<CommitTaskData> commitTaskCodec)
+            JsonCodec<CommitTaskData> commitTaskCodec,
+            IcebergFilePlanner filePlanner)
     {
         this.metastore = requireNonNull(metastore, "metastore is null");
         this.hdfsEnvironment = requireNonNull(hdfsEnvironment, "hdfsEnvironment is null");
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
         this.commitTaskCodec = requireNonNull(commitTaskCodec, "commitTaskCodec is null");
+        this.filePlanner = requireNonNull(filePlanner, "filePlanner is null");
     }
 
     @Override
@@ -284,12 +299,8 @@ public class IcebergMetadata
 
         TupleDomain<IcebergColumnHandle> enforcedPredicate = table.getEnforcedPredicate();
 
-        TableScan tableScan = icebergTable.newScan()
-                .useSnapshot(table.getSnapshotId().get())
-                .filter(toIcebergExpression(enforcedPredicate))
-                .includeColumnStats();
-
-        CloseableIterable<FileScanTask> files = tableScan.planFiles();
+        // planned only once the discrete predicates are iterated
+        Iterable<PlannedFile> files = () -> filePlanner.planFiles(icebergTable, table.getSnapshotId().get(), enforcedPredicate).iterator();
 
         // Extract identity partition fields that are present in all partition specs, for creating the discrete predicates.
         Set<Integer> partitionSourceIds = identityPartitionColumnsInAllSpecs(icebergTable);
@@ -301,9 +312,9 @@ public class IcebergMetadata
                     .filter(column -> partitionSourceIds.contains(column.getId()))
                     .collect(toImmutableMap(IcebergColumnHandle::getId, Function.identity()));
 
-            Iterable<TupleDomain<ColumnHandle>> discreteTupleDomain = Iterables.transform(files, fileScan -> {
+            Iterable<TupleDomain<ColumnHandle>> discreteTupleDomain = Iterables.transform(files, file -> {
                 // Extract partition values in the data file
-                Map<Integer, String> partitionColumnValueStrings = getPartitionKeys(fileScan);
+                Map<Integer, String> partitionColumnValueStrings = getPartitionKeys(file);
                 Map<ColumnHandle, NullableValue> partitionValues = partitionSourceIds.stream()
                         .filter(partitionColumnValueStrings::containsKey)
                         .collect(toImmutableMap(
@@ -333,7 +344,7 @@ public class IcebergMetadata
                 // Using the predicate here directly avoids eagerly loading all partition values. Logically, this
                 // still keeps predicate and discretePredicates evaluation the same on every row of the table. This
                 // can be further optimized by intersecting with partition values at the cost of iterating
-                // over all tableScan.planFiles() and caching partition values in table handle.
+                // over all planned files and caching partition values in table handle.
                 enforcedPredicate.transform(ColumnHandle.class::cast),
                 // TODO: implement table partitioning
                 Optional.empty(),
@@ -477,6 +488,34 @@ public class IcebergMetadata
         }
     }
 
+    @Override
+    public Optional<ConnectorNewTableLayout> getNewTableLayout(ConnectorSession session, ConnectorTableMetadata tableMetadata)
+    {
+        Schema schema = toIcebergSchema(tableMetadata.getColumns());
+        return getWriteLayout(schema, parsePartitionFields(schema, getPartitioning(tableMetadata.getProperties())));
+    }
+
+    @Override
+    public Optional<ConnectorNewTableLayout> getInsertLayout(ConnectorSession session, ConnectorTableHandle tableHandle)
+    {
+        IcebergTableHandle table = (IcebergTableHandle) tableHandle;
+        org.apache.iceberg.Table icebergTable = getIcebergTable(metastore, hdfsEnvironment, session, table.getSchemaTableName());
+        return getWriteLayout(icebergTable.schema(), icebergTable.spec());
+    }
+
+    private static Optional<ConnectorNewTableLayout> getWriteLayout(Schema schema, PartitionSpec partitionSpec)
+    {
+        // return preferred layout which is partitioned by the identity partition columns, so that all
+        // rows of a partition, and therefore the whole sorted range of its values, reach a single writer
+        List<String> partitioningColumns = getIdentityPartitions(partitionSpec).keySet().stream()
+                .map(field -> schema.findColumnName(field.sourceId()))
+                .collect(toImmutableList());
+        if (partitioningColumns.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ConnectorNewTableLayout(partitioningColumns));
+    }
+
     @Override
     public ConnectorOutputTableHandle beginCreateTable(ConnectorSession session, ConnectorTableMetadata tableMetadata, Optional<ConnectorNewTableLayout> layout)
     {
@@ -503,12 +542,18 @@ public class IcebergMetadata
             throw new TableAlreadyExistsException(schemaTableName);
         }
 
-        ImmutableMap.Builder<String, String> propertiesBuilder = ImmutableMap.builderWithExpectedSize(2);
+        List<SortingColumn> sortedBy = getSortedBy(tableMetadata.getProperties());
+        validateSortedBy(schema, sortedBy);
+
+        ImmutableMap.Builder<String, String> propertiesBuilder = ImmutableMap.builderWithExpectedSize(3);
         FileFormat fileFormat = getFileFormat(tableMetadata.getProperties());
         propertiesBuilder.put(DEFAULT_FILE_FORMAT, fileFormat.toString());
         if (tableMetadata.getComment().isPresent()) {
             propertiesBuilder.put(TABLE_COMMENT, tableMetadata.getComment().get());
         }
+        if (!sortedBy.isEmpty()) {
+            propertiesBuilder.put(SORTED_BY_TABLE_PROPERTY, formatSortedBy(sortedBy));
+        }
 
         TableMetadata metadata = newTableMetadata(schema, partitionSpec, targetPath, propertiesBuilder.build());
 
@@ -521,7 +566,21 @@ public class IcebergMetadata
                 PartitionSpecParser.toJson(metadata.spec()),
                 getColumns(metadata.schema(), typeManager),
                 targetPath,
-                fileFormat);
+                fileFormat,
+                sortedBy);
+    }
+
+    private static void validateSortedBy(Schema schema, List<SortingColumn> sortedBy)
+    {
+        for (SortingColumn column : sortedBy) {
+            NestedField field = schema.asStruct().field(column.getColumnName());
+            if (field == null) {
+                throw new TrinoException(INVALID_TABLE_PROPERTY, format("Sorting column '%s' does not exist", column.getColumnName()));
+            }
+            if (!field.type().isPrimitiveType()) {
+                throw new TrinoException(INVALID_TABLE_PROPERTY, format("Sorting column '%s' must be of a primitive type", column.getColumnName()));
+            }
+        }
     }
 
     @Override
@@ -545,7 +604,8 @@ public class IcebergMetadata
                 PartitionSpecParser.toJson(icebergTable.spec()),
                 getColumns(icebergTable.schema(), typeManager),
                 getDataPath(icebergTable.location()),
-                getFileFormat(icebergTable));
+                getFileFormat(icebergTable),
+                getSortedBy(icebergTable));
     }
 
     @Override
@@ -630,6 +690,10 @@ public class IcebergMetadata
         IcebergTableHandle icebergTableHandle = (IcebergTableHandle) tableHandle;
         IcebergColumnHandle handle = (IcebergColumnHandle) column;
         org.apache.iceberg.Table icebergTable = getIcebergTable(metastore, hdfsEnvironment, session, icebergTableHandle.getSchemaTableName());
+        // the writers would not find the column to sort by
+        if (getSortedBy(icebergTable).stream().anyMatch(sortingColumn -> sortingColumn.getColumnName().equals(handle.getName()))) {
+            throw new TrinoException(NOT_SUPPORTED, format("Cannot drop sorting column '%s'", handle.getName()));
+        }
         icebergTable.updateSchema().deleteColumn(handle.getName()).commit();
     }
 
@@ -639,7 +703,20 @@ public class IcebergMetadata
         IcebergTableHandle icebergTableHandle = (IcebergTableHandle) tableHandle;
         IcebergColumnHandle columnHandle = (IcebergColumnHandle) source;
         org.apache.iceberg.Table icebergTable = getIcebergTable(metastore, hdfsEnvironment, session, icebergTableHandle.getSchemaTableName());
-        icebergTable.updateSchema().renameColumn(columnHandle.getName(), target).commit();
+        List<SortingColumn> sortedBy = getSortedBy(icebergTable);
+        if (sortedBy.stream().noneMatch(sortingColumn -> sortingColumn.getColumnName().equals(columnHandle.getName()))) {
+            icebergTable.updateSchema().renameColumn(columnHandle.getName(), target).commit();
+            return;
+        }
+
+        // the sorting columns are stored by name, so they are renamed along with the column
+        List<SortingColumn> renamedSortedBy = sortedBy.stream()
+                .map(sortingColumn -> sortingColumn.getColumnName().equals(columnHandle.getName()) ? new SortingColumn(target, sortingColumn.getOrder()) : sortingColumn)
+                .collect(toImmutableList());
+        Transaction transaction = icebergTable.newTransaction();
+        transaction.updateSchema().renameColumn(columnHandle.getName(), target).commit();
+        transaction.updateProperties().set(SORTED_BY_TABLE_PROPERTY, formatSortedBy(renamedSortedBy)).commit();
+        transaction.commitTransaction();
     }
 
     private ConnectorTableMetadata getTableMetadata(ConnectorSession session, SchemaTableName table)
@@ -657,6 +734,10 @@ public class IcebergMetadata
         if (!icebergTable.spec().fields().isEmpty()) {
             properties.put(PARTITIONING_PROPERTY, toPartitionFields(icebergTable.spec()));
         }
+        List<SortingColumn> sortedBy = getSortedBy(icebergTable);
+        if (!sortedBy.isEmpty()) {
+            properties.put(SORTED_BY_PROPERTY, sortedBy);
+        }
 
         return new ConnectorTableMetadata(table, columns, properties.build(), getTableComment(icebergTable));
     }
@@ -741,6 +822,9 @@ public class IcebergMetadata
     public Optional<ConstraintApplicationResult<ConnectorTableHandle>> applyFilter(ConnectorSession session, ConnectorTableHandle handle, Constraint constraint)
     {
         IcebergTableHandle table = (IcebergTableHandle) handle;
+        if (table.isAggregatedFromStatistics()) {
+            return Optional.empty();
+        }
         org.apache.iceberg.Table icebergTable = getIcebergTable(metastore, hdfsEnvironment, session, table.getSchemaTableName());
 
         Set<Integer> partitionSourceIds = identityPartitionColumnsInAllSpecs(icebergTable);
@@ -783,12 +867,62 @@ public class IcebergMetadata
                 .collect(toImmutableSet());
     }
 
+    @Override
+    public Optional<AggregationApplicationResult<ConnectorTableHandle>> applyAggregation(
+            ConnectorSession session,
+            ConnectorTableHandle handle,
+            List<AggregateFunction> aggregates,
+            Map<String, ColumnHandle> assignments,
+            List<List<ColumnHandle>> groupingSets)
+    {
+        IcebergTableHandle table = (IcebergTableHandle) handle;
+        // predicates on columns other than identity partitions are not enforced by the files being aggregated
+        if (!isStatisticsAggregationPushdownEnabled(session) ||
+                table.isAggregatedFromStatistics() ||
+                table.getTableType() != DATA ||
+                !table.getUnenforcedPredicate().isAll() ||
+                !groupingSets.equals(ImmutableList.of(ImmutableList.of()))) {
+            return Optional.empty();
+        }
+
+        ImmutableList.Builder<StatisticsAggregate> statisticsAggregates = ImmutableList.builder();
+        for (AggregateFunction aggregate : aggregates) {
+            Optional<StatisticsAggregate> statisticsAggregate = StatisticsAggregate.fromAggregateFunction(aggregate, assignments);
+            if (statisticsAggregate.isEmpty()) {
+                return Optional.empty();
+            }
+            statisticsAggregates.add(statisticsAggregate.get());
+        }
+
+        List<StatisticsAggregate> results = statisticsAggregates.build();
+        // a table without a snapshot has no rows
+        if (table.getSnapshotId().isPresent()) {
+            org.apache.iceberg.Table icebergTable = getIcebergTable(metastore, hdfsEnvironment, session, table.getSchemaTableName());
+            if (!IcebergStatisticsAggregator.aggregate(filePlanner, icebergTable, table, results)) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(new AggregationApplicationResult<>(
+                table.withAggregatedFromStatistics(),
+                results.stream()
+                        .map(result -> new Constant(result.getResult(), result.getType()))
+                        .collect(toImmutableList()),
+                ImmutableList.of(),
+                ImmutableMap.of()));
+    }
+
     @Override
     public TableStatistics getTableStatistics(ConnectorSession session, ConnectorTableHandle tableHandle, Constraint constraint)
     {
         IcebergTableHandle handle = (IcebergTableHandle) tableHandle;
+        if (handle.isAggregatedFromStatistics()) {
+            return TableStatistics.builder()
+                    .setRowCount(Estimate.of(1))
+                    .build();
+        }
         org.apache.iceberg.Table icebergTable = getIcebergTable(metastore, hdfsEnvironment, session, handle.getSchemaTableName());
-        return TableStatisticsMaker.getTableStatistics(typeManager, constraint, handle, icebergTable);
+        return TableStatisticsMaker.getTableStatistics(typeManager, filePlanner, constraint, handle, icebergTable);
     }
 
     private Optional<Long> getSnapshotId(org.apache.iceberg.Table table, Optional<Long> snapshotId)
@@ -900,7 +1034,8 @@ public class IcebergMetadata
             PartitionSpecParser.toJson(icebergTable.spec()),
             getColumns(icebergTable.schema(), typeManager),
             getDataPath(icebergTable.location()),
-            getFileFormat(icebergTable));
+            getFileFormat(icebergTable),
+            getSortedBy(icebergTable));
     }
 
     @Override
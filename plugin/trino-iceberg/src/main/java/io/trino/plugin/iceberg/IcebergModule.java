@@ -15,8 +15,11 @@ package io.trino.plugin.iceberg;
 
 import com.google.inject.Binder;
 import com.google.inject.Module;
+import com.google.inject.Provides;
 import com.google.inject.Scopes;
 import com.google.inject.multibindings.Multibinder;
+import io.trino.plugin.base.CatalogName;
+import io.trino.plugin.hive.FileFooterCache;
 import io.trino.plugin.hive.FileFormatDataSourceStats;
 import io.trino.plugin.hive.HiveConfig;
 import io.trino.plugin.hive.HiveHdfsModule;
@@ -32,9 +35,15 @@ import io.trino.spi.connector.ConnectorPageSourceProvider;
 import io.trino.spi.connector.ConnectorSplitManager;
 import io.trino.spi.procedure.Procedure;
 
+import javax.inject.Singleton;
+
+import java.util.concurrent.ExecutorService;
+
 import static com.google.inject.multibindings.Multibinder.newSetBinder;
+import static io.airlift.concurrent.Threads.daemonThreadsNamed;
 import static io.airlift.configuration.ConfigBinder.configBinder;
 import static io.airlift.json.JsonCodecBinder.jsonCodecBinder;
+import static java.util.concurrent.Executors.newCachedThreadPool;
 import static org.weakref.jmx.guice.ExportBinder.newExporter;
 
 public class IcebergModule
@@ -55,6 +64,7 @@ public class IcebergModule
         binder.bind(IcebergTableProperties.class).in(Scopes.SINGLETON);
 
         binder.bind(ConnectorSplitManager.class).to(IcebergSplitManager.class).in(Scopes.SINGLETON);
+        newExporter(binder).export(ConnectorSplitManager.class).as(generator -> generator.generatedNameOf(IcebergSplitManager.class));
         binder.bind(ConnectorPageSourceProvider.class).to(IcebergPageSourceProvider.class).in(Scopes.SINGLETON);
         binder.bind(ConnectorPageSinkProvider.class).to(IcebergPageSinkProvider.class).in(Scopes.SINGLETON);
         binder.bind(ConnectorNodePartitioningProvider.class).to(HiveNodePartitioningProvider.class).in(Scopes.SINGLETON);
@@ -67,15 +77,29 @@ public class IcebergModule
 
         binder.bind(IcebergMetadataFactory.class).in(Scopes.SINGLETON);
 
+        binder.bind(IcebergFilePlanner.class).in(Scopes.SINGLETON);
+        newExporter(binder).export(IcebergFilePlanner.class).withGeneratedName();
+
         jsonCodecBinder(binder).bindJsonCodec(CommitTaskData.class);
 
         binder.bind(FileFormatDataSourceStats.class).in(Scopes.SINGLETON);
         newExporter(binder).export(FileFormatDataSourceStats.class).withGeneratedName();
 
+        binder.bind(FileFooterCache.class).in(Scopes.SINGLETON);
+        newExporter(binder).export(FileFooterCache.class).withGeneratedName();
+
         binder.bind(IcebergFileWriterFactory.class).in(Scopes.SINGLETON);
         newExporter(binder).export(IcebergFileWriterFactory.class).withGeneratedName();
 
         Multibinder<Procedure> procedures = newSetBinder(binder, Procedure.class);
         procedures.addBinding().toProvider(RollbackToSnapshotProcedure.class).in(Scopes.SINGLETON);
     }
+
+    @ForIcebergManifestReader
+    @Singleton
+    @Provides
+    public ExecutorService createManifestReaderExecutor(CatalogName catalogName)
+    {
+        return newCachedThreadPool(daemonThreadsNamed("iceberg-manifest-reader-" + catalogName + "-%s"));
+    }
 }
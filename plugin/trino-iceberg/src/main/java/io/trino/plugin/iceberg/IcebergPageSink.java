@@ -16,16 +16,20 @@ package io.trino.plugin.iceberg;
 import com.google.common.collect.ImmutableList;
 import io.airlift.json.JsonCodec;
 import io.airlift.slice.Slice;
+import io.airlift.units.DataSize;
 import io.trino.plugin.hive.HdfsEnvironment;
 import io.trino.plugin.hive.HdfsEnvironment.HdfsContext;
+import io.trino.plugin.hive.metastore.SortingColumn;
 import io.trino.plugin.iceberg.PartitionTransforms.ColumnTransform;
 import io.trino.spi.Page;
 import io.trino.spi.PageIndexer;
 import io.trino.spi.PageIndexerFactory;
+import io.trino.spi.PageSorter;
 import io.trino.spi.TrinoException;
 import io.trino.spi.block.Block;
 import io.trino.spi.connector.ConnectorPageSink;
 import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.connector.SortOrder;
 import io.trino.spi.type.BigintType;
 import io.trino.spi.type.BooleanType;
 import io.trino.spi.type.DateType;
@@ -36,8 +40,10 @@ import io.trino.spi.type.RealType;
 import io.trino.spi.type.SmallintType;
 import io.trino.spi.type.TinyintType;
 import io.trino.spi.type.Type;
+import io.trino.spi.type.TypeOperators;
 import io.trino.spi.type.VarbinaryType;
 import io.trino.spi.type.VarcharType;
+import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.iceberg.FileFormat;
@@ -46,6 +52,7 @@ import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.transforms.Transform;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -60,7 +67,9 @@ import static com.google.common.base.Verify.verify;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.airlift.slice.Slices.wrappedBuffer;
 import static io.trino.plugin.hive.util.ConfigurationUtils.toJobConf;
+import static io.trino.plugin.iceberg.IcebergErrorCode.ICEBERG_INVALID_METADATA;
 import static io.trino.plugin.iceberg.IcebergErrorCode.ICEBERG_TOO_MANY_OPEN_PARTITIONS;
+import static io.trino.plugin.iceberg.IcebergErrorCode.ICEBERG_WRITER_OPEN_ERROR;
 import static io.trino.plugin.iceberg.PartitionTransforms.getColumnTransform;
 import static io.trino.plugin.iceberg.util.Timestamps.getTimestampTz;
 import static io.trino.plugin.iceberg.util.Timestamps.timestampTzToMicros;
@@ -94,6 +103,13 @@ public class IcebergPageSink
     private final ConnectorSession session;
     private final FileFormat fileFormat;
     private final PagePartitioner pagePartitioner;
+    private final List<Type> types;
+    private final List<Integer> sortFields;
+    private final List<SortOrder> sortOrders;
+    private final PageSorter pageSorter;
+    private final TypeOperators typeOperators;
+    private final DataSize sortBufferSize;
+    private final int maxOpenSortFiles;
 
     private final List<WriteContext> writers = new ArrayList<>();
 
@@ -112,7 +128,12 @@ public class IcebergPageSink
             List<IcebergColumnHandle> inputColumns,
             JsonCodec<CommitTaskData> jsonCodec,
             ConnectorSession session,
-            FileFormat fileFormat)
+            FileFormat fileFormat,
+            List<SortingColumn> sortedBy,
+            PageSorter pageSorter,
+            TypeOperators typeOperators,
+            DataSize sortBufferSize,
+            int maxOpenSortFiles)
     {
         requireNonNull(inputColumns, "inputColumns is null");
         this.outputSchema = requireNonNull(outputSchema, "outputSchema is null");
@@ -126,6 +147,17 @@ public class IcebergPageSink
         this.session = requireNonNull(session, "session is null");
         this.fileFormat = requireNonNull(fileFormat, "fileFormat is null");
         this.pagePartitioner = new PagePartitioner(pageIndexerFactory, toPartitionColumns(inputColumns, partitionSpec));
+        this.types = inputColumns.stream()
+                .map(IcebergColumnHandle::getType)
+                .collect(toImmutableList());
+        this.sortFields = toSortFields(inputColumns, sortedBy);
+        this.sortOrders = sortedBy.stream()
+                .map(column -> column.getOrder().getSortOrder())
+                .collect(toImmutableList());
+        this.pageSorter = requireNonNull(pageSorter, "pageSorter is null");
+        this.typeOperators = requireNonNull(typeOperators, "typeOperators is null");
+        this.sortBufferSize = requireNonNull(sortBufferSize, "sortBufferSize is null");
+        this.maxOpenSortFiles = maxOpenSortFiles;
     }
 
     @Override
@@ -314,6 +346,28 @@ public class IcebergPageSink
                 hdfsContext,
                 fileFormat);
 
+        if (!sortFields.isEmpty()) {
+            Path tempFilePath = new Path(outputPath.getParent(), ".tmp-sort." + outputPath.getName());
+            FileSystem fileSystem;
+            try {
+                fileSystem = hdfsEnvironment.getFileSystem(hdfsContext, tempFilePath);
+            }
+            catch (IOException e) {
+                throw new TrinoException(ICEBERG_WRITER_OPEN_ERROR, e);
+            }
+            writer = new IcebergSortingFileWriter(
+                    fileSystem,
+                    tempFilePath,
+                    writer,
+                    sortBufferSize,
+                    maxOpenSortFiles,
+                    types,
+                    sortFields,
+                    sortOrders,
+                    pageSorter,
+                    typeOperators);
+        }
+
         return new WriteContext(writer, outputPath, partitionData);
     }
 
@@ -381,6 +435,24 @@ public class IcebergPageSink
         throw new UnsupportedOperationException("Type not supported as partition column: " + type.getDisplayName());
     }
 
+    private static List<Integer> toSortFields(List<IcebergColumnHandle> handles, List<SortingColumn> sortedBy)
+    {
+        Map<String, Integer> nameChannels = new HashMap<>();
+        for (int i = 0; i < handles.size(); i++) {
+            nameChannels.put(handles.get(i).getName(), i);
+        }
+
+        return sortedBy.stream()
+                .map(column -> {
+                    Integer channel = nameChannels.get(column.getColumnName());
+                    if (channel == null) {
+                        throw new TrinoException(ICEBERG_INVALID_METADATA, format("Sorting column '%s' does not exist", column.getColumnName()));
+                    }
+                    return channel;
+                })
+                .collect(toImmutableList());
+    }
+
     private static List<PartitionColumn> toPartitionColumns(List<IcebergColumnHandle> handles, PartitionSpec partitionSpec)
     {
         Map<Integer, Integer> idChannels = new HashMap<>();
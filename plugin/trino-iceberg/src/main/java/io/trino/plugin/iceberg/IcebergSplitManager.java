@@ -14,6 +14,7 @@
 package io.trino.plugin.iceberg;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import io.trino.plugin.base.classloader.ClassLoaderSafeConnectorSplitSource;
 import io.trino.plugin.hive.HdfsEnvironment;
 import io.trino.plugin.hive.metastore.HiveMetastore;
@@ -24,12 +25,15 @@ import io.trino.spi.connector.ConnectorTableHandle;
 import io.trino.spi.connector.ConnectorTransactionHandle;
 import io.trino.spi.connector.DynamicFilter;
 import io.trino.spi.connector.FixedSplitSource;
+import io.trino.spi.predicate.TupleDomain;
 import org.apache.iceberg.Table;
-import org.apache.iceberg.TableScan;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
 
 import javax.inject.Inject;
 
-import static io.trino.plugin.iceberg.ExpressionConverter.toIcebergExpression;
+import static io.trino.plugin.iceberg.IcebergSessionProperties.getDynamicFilteringWaitTimeout;
+import static io.trino.plugin.iceberg.IcebergUtil.getFileFormat;
 import static io.trino.plugin.iceberg.IcebergUtil.getIcebergTable;
 import static java.util.Objects.requireNonNull;
 
@@ -40,12 +44,22 @@ public class IcebergSplitManager
 
     private final IcebergTransactionManager transactionManager;
     private final HdfsEnvironment hdfsEnvironment;
+    private final IcebergFilePlanner filePlanner;
+    private final IcebergSplitSourceStats splitSourceStats = new IcebergSplitSourceStats();
 
     @Inject
-    public IcebergSplitManager(IcebergTransactionManager transactionManager, HdfsEnvironment hdfsEnvironment)
+    public IcebergSplitManager(IcebergTransactionManager transactionManager, HdfsEnvironment hdfsEnvironment, IcebergFilePlanner filePlanner)
     {
         this.transactionManager = requireNonNull(transactionManager, "transactionManager is null");
         this.hdfsEnvironment = requireNonNull(hdfsEnvironment, "hdfsEnvironment is null");
+        this.filePlanner = requireNonNull(filePlanner, "filePlanner is null");
+    }
+
+    @Managed
+    @Nested
+    public IcebergSplitSourceStats getSplitSourceStats()
+    {
+        return splitSourceStats;
     }
 
     @Override
@@ -58,6 +72,12 @@ public class IcebergSplitManager
     {
         IcebergTableHandle table = (IcebergTableHandle) handle;
 
+        if (table.isAggregatedFromStatistics()) {
+            // the aggregation was answered from manifest metrics during planning, a single split produces the row it is projected from
+            Table icebergTable = getIcebergTable(transactionManager.get(transaction).getMetastore(), hdfsEnvironment, session, table.getSchemaTableName());
+            return new FixedSplitSource(ImmutableList.of(new IcebergSplit(icebergTable.location(), 0, 0, 0, getFileFormat(icebergTable), ImmutableList.of(), ImmutableMap.of())));
+        }
+
         if (table.getSnapshotId().isEmpty()) {
             return new FixedSplitSource(ImmutableList.of());
         }
@@ -65,19 +85,24 @@ public class IcebergSplitManager
         HiveMetastore metastore = transactionManager.get(transaction).getMetastore();
         Table icebergTable = getIcebergTable(metastore, hdfsEnvironment, session, table.getSchemaTableName());
 
-        TableScan tableScan = icebergTable.newScan()
-                .filter(toIcebergExpression(
-                        table.getEnforcedPredicate()
-                                // TODO: Remove TupleDomain#simplify once Iceberg supports IN expression. Currently this
-                                // is required for IN predicates on non-partition columns with large value list. Such
-                                // predicates on partition columns are not supported.
-                                // (See AbstractTestIcebergSmoke#testLargeInFailureOnPartitionedColumns)
-                                .intersect(table.getUnenforcedPredicate().simplify(ICEBERG_DOMAIN_COMPACTION_THRESHOLD))))
-                .useSnapshot(table.getSnapshotId().get());
+        // TODO: Remove TupleDomain#simplify once Iceberg supports IN expression. Currently this
+        // is required for IN predicates on non-partition columns with large value list. Such
+        // predicates on partition columns are not supported.
+        // (See AbstractTestIcebergSmoke#testLargeInFailureOnPartitionedColumns)
+        TupleDomain<IcebergColumnHandle> predicate = table.getEnforcedPredicate()
+                .intersect(table.getUnenforcedPredicate().simplify(ICEBERG_DOMAIN_COMPACTION_THRESHOLD));
 
         // TODO Use residual. Right now there is no way to propagate residual to presto but at least we can
         //      propagate it at split level so the parquet pushdown can leverage it.
-        IcebergSplitSource splitSource = new IcebergSplitSource(tableScan.planTasks());
+        // The split source adds the dynamic filter to the predicate when it plans the files
+        IcebergSplitSource splitSource = new IcebergSplitSource(
+                filePlanner,
+                icebergTable,
+                table.getSnapshotId().get(),
+                predicate,
+                dynamicFilter,
+                getDynamicFilteringWaitTimeout(session),
+                splitSourceStats);
 
         return new ClassLoaderSafeConnectorSplitSource(splitSource, Thread.currentThread().getContextClassLoader());
     }
@@ -13,75 +13,208 @@
  */
 package io.trino.plugin.iceberg;
 
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Streams;
+import io.airlift.units.Duration;
 import io.trino.spi.connector.ConnectorPartitionHandle;
 import io.trino.spi.connector.ConnectorSplit;
 import io.trino.spi.connector.ConnectorSplitSource;
-import org.apache.iceberg.CombinedScanTask;
-import org.apache.iceberg.FileScanTask;
-import org.apache.iceberg.io.CloseableIterable;
-
-import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.util.ArrayList;
-import java.util.Collection;
+import io.trino.spi.connector.DynamicFilter;
+import io.trino.spi.predicate.TupleDomain;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.InclusiveMetricsEvaluator;
+import org.apache.iceberg.expressions.Projections;
+
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import static com.google.common.collect.Iterators.concat;
+import static com.google.common.collect.Iterators.filter;
 import static com.google.common.collect.Iterators.limit;
+import static com.google.common.collect.Iterators.transform;
+import static io.trino.plugin.iceberg.ExpressionConverter.toIcebergExpression;
+import static io.trino.plugin.iceberg.IcebergSplitManager.ICEBERG_DOMAIN_COMPACTION_THRESHOLD;
 import static io.trino.plugin.iceberg.IcebergUtil.getPartitionKeys;
+import static java.lang.Math.min;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.iceberg.TableProperties.SPLIT_SIZE;
+import static org.apache.iceberg.TableProperties.SPLIT_SIZE_DEFAULT;
+import static org.apache.iceberg.util.PropertyUtil.propertyAsLong;
 
 public class IcebergSplitSource
         implements ConnectorSplitSource
 {
-    private final CloseableIterable<CombinedScanTask> combinedScanIterable;
-    private final Iterator<FileScanTask> fileScanIterator;
+    private static final ConnectorSplitBatch EMPTY_BATCH = new ConnectorSplitBatch(ImmutableList.of(), false);
+    private static final ConnectorSplitBatch NO_MORE_SPLITS_BATCH = new ConnectorSplitBatch(ImmutableList.of(), true);
 
-    public IcebergSplitSource(CloseableIterable<CombinedScanTask> combinedScanIterable)
-    {
-        this.combinedScanIterable = requireNonNull(combinedScanIterable, "combinedScanIterable is null");
+    private final IcebergFilePlanner filePlanner;
+    private final Table icebergTable;
+    private final long snapshotId;
+    private final TupleDomain<IcebergColumnHandle> predicate;
+    private final long targetSplitSize;
+    private final DynamicFilter dynamicFilter;
+    private final long dynamicFilteringWaitTimeoutMillis;
+    private final Stopwatch dynamicFilterWaitStopwatch;
+    private final IcebergSplitSourceStats stats;
+
+    private Iterator<ConnectorSplit> splitIterator;
+    private boolean finished;
 
-        this.fileScanIterator = Streams.stream(combinedScanIterable)
-                .map(CombinedScanTask::files)
-                .flatMap(Collection::stream)
-                .iterator();
+    // dynamic filter the files were planned with
+    private TupleDomain<IcebergColumnHandle> plannedDynamicFilterPredicate;
+    // dynamic filter of the batch being generated
+    private TupleDomain<IcebergColumnHandle> currentDynamicFilterPredicate;
+    // dynamic filter the evaluators below were created for
+    private TupleDomain<IcebergColumnHandle> evaluatedDynamicFilterPredicate;
+    private Expression dynamicFilterExpression;
+    private InclusiveMetricsEvaluator metricsEvaluator;
+    private final Map<Integer, Evaluator> partitionEvaluators = new HashMap<>();
+
+    public IcebergSplitSource(
+            IcebergFilePlanner filePlanner,
+            Table icebergTable,
+            long snapshotId,
+            TupleDomain<IcebergColumnHandle> predicate,
+            DynamicFilter dynamicFilter,
+            Duration dynamicFilteringWaitTimeout,
+            IcebergSplitSourceStats stats)
+    {
+        this.filePlanner = requireNonNull(filePlanner, "filePlanner is null");
+        this.icebergTable = requireNonNull(icebergTable, "icebergTable is null");
+        this.snapshotId = snapshotId;
+        this.predicate = requireNonNull(predicate, "predicate is null");
+        this.targetSplitSize = propertyAsLong(icebergTable.properties(), SPLIT_SIZE, SPLIT_SIZE_DEFAULT);
+        this.dynamicFilter = requireNonNull(dynamicFilter, "dynamicFilter is null");
+        this.dynamicFilteringWaitTimeoutMillis = requireNonNull(dynamicFilteringWaitTimeout, "dynamicFilteringWaitTimeout is null").toMillis();
+        this.dynamicFilterWaitStopwatch = Stopwatch.createStarted();
+        this.stats = requireNonNull(stats, "stats is null");
     }
 
     @Override
     public CompletableFuture<ConnectorSplitBatch> getNextBatch(ConnectorPartitionHandle partitionHandle, int maxSize)
     {
-        // TODO: move this to a background thread
-        List<ConnectorSplit> splits = new ArrayList<>();
-        Iterator<FileScanTask> iterator = limit(fileScanIterator, maxSize);
-        while (iterator.hasNext()) {
-            FileScanTask task = iterator.next();
-            splits.add(toIcebergSplit(task));
+        if (finished) {
+            return completedFuture(NO_MORE_SPLITS_BATCH);
+        }
+
+        if (splitIterator == null) {
+            // Wait for the dynamic filter before planning, so that it prunes manifests and files right away
+            long timeLeft = dynamicFilteringWaitTimeoutMillis - dynamicFilterWaitStopwatch.elapsed(MILLISECONDS);
+            if (dynamicFilter.isAwaitable() && timeLeft > 0) {
+                return dynamicFilter.isBlocked()
+                        .thenApply(ignored -> EMPTY_BATCH)
+                        .completeOnTimeout(EMPTY_BATCH, timeLeft, MILLISECONDS);
+            }
         }
+
+        TupleDomain<IcebergColumnHandle> dynamicFilterPredicate = dynamicFilter.getCurrentPredicate()
+                .transform(IcebergColumnHandle.class::cast);
+        if (dynamicFilterPredicate.isNone()) {
+            // the build side of the join is empty, no file can match
+            finished = true;
+            return completedFuture(NO_MORE_SPLITS_BATCH);
+        }
+
+        if (splitIterator == null) {
+            planFiles(dynamicFilterPredicate);
+        }
+
+        currentDynamicFilterPredicate = dynamicFilterPredicate;
+        List<ConnectorSplit> splits = ImmutableList.copyOf(limit(splitIterator, maxSize));
         return completedFuture(new ConnectorSplitBatch(splits, isFinished()));
     }
 
+    private void planFiles(TupleDomain<IcebergColumnHandle> dynamicFilterPredicate)
+    {
+        TupleDomain<IcebergColumnHandle> filePredicate = predicate;
+        if (!dynamicFilterPredicate.isAll()) {
+            // TODO: Remove TupleDomain#simplify once Iceberg supports IN expression, see IcebergSplitManager
+            filePredicate = filePredicate.intersect(dynamicFilterPredicate.simplify(ICEBERG_DOMAIN_COMPACTION_THRESHOLD));
+            stats.dynamicallyFilteredScan();
+        }
+        plannedDynamicFilterPredicate = dynamicFilterPredicate;
+
+        // TODO: move this to a background thread
+        List<PlannedFile> files = filePlanner.planFiles(icebergTable, snapshotId, filePredicate);
+        splitIterator = concat(transform(filter(files.iterator(), this::matchesCurrentDynamicFilter), this::toIcebergSplits));
+    }
+
+    private boolean matchesCurrentDynamicFilter(PlannedFile file)
+    {
+        if (currentDynamicFilterPredicate.equals(plannedDynamicFilterPredicate) || matchesDynamicFilter(file, currentDynamicFilterPredicate)) {
+            return true;
+        }
+        stats.dynamicFilterPrunedFile(file.getFile().fileSizeInBytes());
+        return false;
+    }
+
+    private boolean matchesDynamicFilter(PlannedFile file, TupleDomain<IcebergColumnHandle> dynamicFilterPredicate)
+    {
+        if (!dynamicFilterPredicate.equals(evaluatedDynamicFilterPredicate)) {
+            evaluatedDynamicFilterPredicate = dynamicFilterPredicate;
+            dynamicFilterExpression = toIcebergExpression(dynamicFilterPredicate.simplify(ICEBERG_DOMAIN_COMPACTION_THRESHOLD));
+            metricsEvaluator = new InclusiveMetricsEvaluator(icebergTable.schema(), dynamicFilterExpression);
+            partitionEvaluators.clear();
+        }
+
+        PartitionSpec spec = file.getSpec();
+        Evaluator partitionEvaluator = partitionEvaluators.computeIfAbsent(
+                spec.specId(),
+                ignored -> new Evaluator(spec.partitionType(), Projections.inclusive(spec).project(dynamicFilterExpression)));
+        return partitionEvaluator.eval(file.getFile().partition()) && metricsEvaluator.eval(file.getFile());
+    }
+
     @Override
     public boolean isFinished()
     {
-        return !fileScanIterator.hasNext();
+        return finished || (splitIterator != null && !splitIterator.hasNext());
     }
 
     @Override
     public void close()
     {
-        try {
-            combinedScanIterable.close();
+        splitIterator = null;
+    }
+
+    private Iterator<ConnectorSplit> toIcebergSplits(PlannedFile plannedFile)
+    {
+        DataFile file = plannedFile.getFile();
+        long fileSize = file.fileSizeInBytes();
+        if (!file.format().isSplittable()) {
+            return ImmutableList.of(toIcebergSplit(plannedFile, 0, fileSize)).iterator();
+        }
+
+        ImmutableList.Builder<ConnectorSplit> splits = ImmutableList.builder();
+        List<Long> splitOffsets = file.splitOffsets();
+        if (splitOffsets == null || splitOffsets.isEmpty()) {
+            for (long start = 0; start < fileSize; start += targetSplitSize) {
+                splits.add(toIcebergSplit(plannedFile, start, min(targetSplitSize, fileSize - start)));
+            }
+            return splits.build().iterator();
         }
-        catch (IOException e) {
-            throw new UncheckedIOException(e);
+
+        // split at the stripe or row group boundaries recorded by the writer, combining adjacent ones up to the target size
+        long start = splitOffsets.get(0);
+        for (long offset : splitOffsets.subList(1, splitOffsets.size())) {
+            if (offset - start >= targetSplitSize) {
+                splits.add(toIcebergSplit(plannedFile, start, offset - start));
+                start = offset;
+            }
         }
+        splits.add(toIcebergSplit(plannedFile, start, fileSize - start));
+        return splits.build().iterator();
     }
 
-    private ConnectorSplit toIcebergSplit(FileScanTask task)
+    private static ConnectorSplit toIcebergSplit(PlannedFile file, long start, long length)
     {
         // TODO: We should leverage residual expression and convert that to TupleDomain.
         //       The predicate here is used by readers for predicate push down at reader level,
@@ -89,12 +222,12 @@ public class IcebergSplitSource
         //       on reader side evaluating a condition that we know will always be true.
 
         return new IcebergSplit(
-                task.file().path().toString(),
-                task.start(),
-                task.length(),
-                task.file().fileSizeInBytes(),
-                task.file().format(),
+                file.getFile().path().toString(),
+                start,
+                length,
+                file.getFile().fileSizeInBytes(),
+                file.getFile().format(),
                 ImmutableList.of(),
-                getPartitionKeys(task));
+                getPartitionKeys(file));
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.iceberg;
+
+import org.weakref.jmx.Managed;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class IcebergSplitSourceStats
+{
+    private final AtomicLong dynamicallyFilteredScans = new AtomicLong();
+    private final AtomicLong dynamicFilterPrunedFiles = new AtomicLong();
+    private final AtomicLong dynamicFilterPrunedBytes = new AtomicLong();
+
+    /**
+     * Split sources that planned their files with a dynamic filter narrower than the whole table.
+     */
+    @Managed
+    public long getDynamicallyFilteredScans()
+    {
+        return dynamicallyFilteredScans.get();
+    }
+
+    /**
+     * Files skipped during split generation because their partition values or column metrics
+     * do not match a dynamic filter that narrowed after the files were planned. Files
+     * excluded by a dynamic filter already known when planning are never planned, and are
+     * counted in {@link #getDynamicallyFilteredScans()} per split source instead.
+     */
+    @Managed
+    public long getDynamicFilterPrunedFiles()
+    {
+        return dynamicFilterPrunedFiles.get();
+    }
+
+    @Managed
+    public long getDynamicFilterPrunedBytes()
+    {
+        return dynamicFilterPrunedBytes.get();
+    }
+
+    void dynamicallyFilteredScan()
+    {
+        dynamicallyFilteredScans.incrementAndGet();
+    }
+
+    void dynamicFilterPrunedFile(long fileSize)
+    {
+        dynamicFilterPrunedFiles.incrementAndGet();
+        dynamicFilterPrunedBytes.addAndGet(fileSize);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.iceberg;
+
+import io.trino.plugin.hive.statistics.StatisticsAggregate;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers {@link StatisticsAggregate}s from the data file metrics stored in the Iceberg manifests.
+ */
+public final class IcebergStatisticsAggregator
+{
+    private IcebergStatisticsAggregator() {}
+
+    /**
+     * Adds the metrics of all data files of the table snapshot that match the enforced predicate to the aggregates.
+     *
+     * @return false if a data file lacks the metrics needed to answer the aggregates exactly, in which
+     * case their values must be discarded
+     */
+    public static boolean aggregate(IcebergFilePlanner filePlanner, Table icebergTable, IcebergTableHandle tableHandle, List<StatisticsAggregate> aggregates)
+    {
+        for (StatisticsAggregate aggregate : aggregates) {
+            if (aggregate.getColumn().isPresent()) {
+                Type type = icebergTable.schema().findType(((IcebergColumnHandle) aggregate.getColumn().get()).getId());
+                if (type == null || !type.isPrimitiveType()) {
+                    return false;
+                }
+            }
+        }
+
+        for (PlannedFile file : filePlanner.planFiles(icebergTable, tableHandle.getSnapshotId().orElseThrow(), tableHandle.getEnforcedPredicate())) {
+            if (!addDataFile(icebergTable, file.getFile(), aggregates)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean addDataFile(Table icebergTable, DataFile dataFile, List<StatisticsAggregate> aggregates)
+    {
+        long recordCount = dataFile.recordCount();
+        for (StatisticsAggregate aggregate : aggregates) {
+            if (aggregate.getColumn().isEmpty()) {
+                aggregate.add(recordCount, 0, 0, 0);
+                continue;
+            }
+            int fieldId = ((IcebergColumnHandle) aggregate.getColumn().get()).getId();
+            Long nullCount = getMetric(dataFile.nullValueCounts(), fieldId);
+            if (nullCount == null) {
+                return false;
+            }
+            long nonNullCount = recordCount - nullCount;
+            if (aggregate.getKind() == StatisticsAggregate.Kind.COUNT || nonNullCount == 0) {
+                aggregate.add(recordCount, nonNullCount, 0, 0);
+                continue;
+            }
+
+            // bounds of other types may be truncated, so they are never used
+            Type type = icebergTable.schema().findType(fieldId);
+            if (!isExactBoundType(type)) {
+                return false;
+            }
+            ByteBuffer lowerBound = getMetric(dataFile.lowerBounds(), fieldId);
+            ByteBuffer upperBound = getMetric(dataFile.upperBounds(), fieldId);
+            if (lowerBound == null || upperBound == null) {
+                return false;
+            }
+            aggregate.add(recordCount, nonNullCount, toLong(type, lowerBound), toLong(type, upperBound));
+        }
+        return true;
+    }
+
+    private static <T> T getMetric(Map<Integer, T> metrics, int fieldId)
+    {
+        return metrics == null ? null : metrics.get(fieldId);
+    }
+
+    private static boolean isExactBoundType(Type type)
+    {
+        switch (type.typeId()) {
+            case INTEGER:
+            case LONG:
+            case DATE:
+                return true;
+            case DECIMAL:
+                return ((Types.DecimalType) type).precision() <= 18;
+            default:
+                return false;
+        }
+    }
+
+    private static long toLong(Type type, ByteBuffer bound)
+    {
+        Object value = Conversions.fromByteBuffer(type, bound);
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).unscaledValue().longValueExact();
+        }
+        return ((Number) value).longValue();
+    }
+}
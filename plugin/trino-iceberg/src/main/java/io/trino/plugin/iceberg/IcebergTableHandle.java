@@ -39,6 +39,19 @@ public class IcebergTableHandle
     // Filter guaranteed to be enforced by Iceberg connector
     private final TupleDomain<IcebergColumnHandle> enforcedPredicate;
 
+    private final boolean aggregatedFromStatistics;
+
+    public IcebergTableHandle(
+            String schemaName,
+            String tableName,
+            TableType tableType,
+            Optional<Long> snapshotId,
+            TupleDomain<IcebergColumnHandle> unenforcedPredicate,
+            TupleDomain<IcebergColumnHandle> enforcedPredicate)
+    {
+        this(schemaName, tableName, tableType, snapshotId, unenforcedPredicate, enforcedPredicate, false);
+    }
+
     @JsonCreator
     public IcebergTableHandle(
             @JsonProperty("schemaName") String schemaName,
@@ -46,7 +59,8 @@ public class IcebergTableHandle
             @JsonProperty("tableType") TableType tableType,
             @JsonProperty("snapshotId") Optional<Long> snapshotId,
             @JsonProperty("unenforcedPredicate") TupleDomain<IcebergColumnHandle> unenforcedPredicate,
-            @JsonProperty("enforcedPredicate") TupleDomain<IcebergColumnHandle> enforcedPredicate)
+            @JsonProperty("enforcedPredicate") TupleDomain<IcebergColumnHandle> enforcedPredicate,
+            @JsonProperty("aggregatedFromStatistics") boolean aggregatedFromStatistics)
     {
         this.schemaName = requireNonNull(schemaName, "schemaName is null");
         this.tableName = requireNonNull(tableName, "tableName is null");
@@ -54,6 +68,12 @@ public class IcebergTableHandle
         this.snapshotId = requireNonNull(snapshotId, "snapshotId is null");
         this.unenforcedPredicate = requireNonNull(unenforcedPredicate, "unenforcedPredicate is null");
         this.enforcedPredicate = requireNonNull(enforcedPredicate, "enforcedPredicate is null");
+        this.aggregatedFromStatistics = aggregatedFromStatistics;
+    }
+
+    public IcebergTableHandle withAggregatedFromStatistics()
+    {
+        return new IcebergTableHandle(schemaName, tableName, tableType, snapshotId, unenforcedPredicate, enforcedPredicate, true);
     }
 
     @JsonProperty
@@ -92,6 +112,16 @@ public class IcebergTableHandle
         return enforcedPredicate;
     }
 
+    /**
+     * The aggregation over this table was answered from manifest metrics during planning, so the
+     * table reads as a single row without columns.
+     */
+    @JsonProperty
+    public boolean isAggregatedFromStatistics()
+    {
+        return aggregatedFromStatistics;
+    }
+
     public SchemaTableName getSchemaTableName()
     {
         return new SchemaTableName(schemaName, tableName);
@@ -118,13 +148,14 @@ public class IcebergTableHandle
                 tableType == that.tableType &&
                 Objects.equals(snapshotId, that.snapshotId) &&
                 Objects.equals(unenforcedPredicate, that.unenforcedPredicate) &&
-                Objects.equals(enforcedPredicate, that.enforcedPredicate);
+                Objects.equals(enforcedPredicate, that.enforcedPredicate) &&
+                aggregatedFromStatistics == that.aggregatedFromStatistics;
     }
 
     @Override
     public int hashCode()
     {
-        return Objects.hash(schemaName, tableName, tableType, snapshotId, unenforcedPredicate, enforcedPredicate);
+        return Objects.hash(schemaName, tableName, tableType, snapshotId, unenforcedPredicate, enforcedPredicate, aggregatedFromStatistics);
     }
 
     @Override
@@ -13,7 +13,10 @@
  */
 package io.trino.plugin.iceberg;
 
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
+import io.trino.plugin.hive.metastore.SortingColumn;
 import io.trino.spi.session.PropertyMetadata;
 import io.trino.spi.type.ArrayType;
 import org.apache.iceberg.FileFormat;
@@ -25,6 +28,8 @@ import java.util.List;
 import java.util.Map;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.trino.plugin.hive.metastore.SortingColumn.Order.ASCENDING;
+import static io.trino.plugin.hive.metastore.SortingColumn.Order.DESCENDING;
 import static io.trino.spi.session.PropertyMetadata.enumProperty;
 import static io.trino.spi.session.PropertyMetadata.stringProperty;
 import static io.trino.spi.type.VarcharType.VARCHAR;
@@ -35,6 +40,10 @@ public class IcebergTableProperties
     public static final String FILE_FORMAT_PROPERTY = "format";
     public static final String PARTITIONING_PROPERTY = "partitioning";
     public static final String LOCATION_PROPERTY = "location";
+    public static final String SORTED_BY_PROPERTY = "sorted_by";
+
+    // Iceberg table property the sort columns are stored in, written as a comma separated list of the sorted_by values
+    public static final String SORTED_BY_TABLE_PROPERTY = "trino.sorted-by";
 
     private final List<PropertyMetadata<?>> tableProperties;
 
@@ -59,6 +68,21 @@ public class IcebergTableProperties
                                 .map(name -> ((String) name).toLowerCase(ENGLISH))
                                 .collect(toImmutableList()),
                         value -> value))
+                .add(new PropertyMetadata<>(
+                        SORTED_BY_PROPERTY,
+                        "Columns the rows of each data file are sorted by",
+                        new ArrayType(VARCHAR),
+                        List.class,
+                        ImmutableList.of(),
+                        false,
+                        value -> ((Collection<?>) value).stream()
+                                .map(String.class::cast)
+                                .map(IcebergTableProperties::sortingColumnFromString)
+                                .collect(toImmutableList()),
+                        value -> ((Collection<?>) value).stream()
+                                .map(SortingColumn.class::cast)
+                                .map(IcebergTableProperties::sortingColumnToString)
+                                .collect(toImmutableList())))
                 .add(stringProperty(
                         LOCATION_PROPERTY,
                         "File system location URI for the table",
@@ -88,4 +112,44 @@ public class IcebergTableProperties
     {
         return (String) tableProperties.get(LOCATION_PROPERTY);
     }
+
+    @SuppressWarnings("unchecked")
+    public static List<SortingColumn> getSortedBy(Map<String, Object> tableProperties)
+    {
+        List<SortingColumn> sortedBy = (List<SortingColumn>) tableProperties.get(SORTED_BY_PROPERTY);
+        return sortedBy == null ? ImmutableList.of() : ImmutableList.copyOf(sortedBy);
+    }
+
+    public static List<SortingColumn> parseSortedBy(String value)
+    {
+        return Splitter.on(',').trimResults().omitEmptyStrings().splitToList(value).stream()
+                .map(IcebergTableProperties::sortingColumnFromString)
+                .collect(toImmutableList());
+    }
+
+    public static String formatSortedBy(List<SortingColumn> sortedBy)
+    {
+        return Joiner.on(',').join(sortedBy.stream()
+                .map(IcebergTableProperties::sortingColumnToString)
+                .iterator());
+    }
+
+    private static SortingColumn sortingColumnFromString(String name)
+    {
+        SortingColumn.Order order = ASCENDING;
+        String upper = name.toUpperCase(ENGLISH);
+        if (upper.endsWith(" ASC")) {
+            name = name.substring(0, name.length() - 4).trim();
+        }
+        else if (upper.endsWith(" DESC")) {
+            name = name.substring(0, name.length() - 5).trim();
+            order = DESCENDING;
+        }
+        return new SortingColumn(name.toLowerCase(ENGLISH), order);
+    }
+
+    private static String sortingColumnToString(SortingColumn column)
+    {
+        return column.getColumnName() + ((column.getOrder() == DESCENDING) ? " DESC" : "");
+    }
 }
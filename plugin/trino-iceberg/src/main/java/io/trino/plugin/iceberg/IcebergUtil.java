@@ -13,6 +13,7 @@
  */
 package io.trino.plugin.iceberg;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import io.airlift.slice.Slice;
 import io.airlift.slice.SliceUtf8;
@@ -20,6 +21,7 @@ import io.trino.plugin.hive.HdfsEnvironment;
 import io.trino.plugin.hive.HdfsEnvironment.HdfsContext;
 import io.trino.plugin.hive.authentication.HiveIdentity;
 import io.trino.plugin.hive.metastore.HiveMetastore;
+import io.trino.plugin.hive.metastore.SortingColumn;
 import io.trino.spi.TrinoException;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.SchemaTableName;
@@ -32,7 +34,6 @@ import io.trino.spi.type.VarbinaryType;
 import io.trino.spi.type.VarcharType;
 import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.FileFormat;
-import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.HistoryEntry;
 import org.apache.iceberg.PartitionField;
 import org.apache.iceberg.PartitionSpec;
@@ -58,6 +59,8 @@ import static io.airlift.slice.Slices.utf8Slice;
 import static io.trino.plugin.hive.HiveMetadata.TABLE_COMMENT;
 import static io.trino.plugin.iceberg.IcebergErrorCode.ICEBERG_INVALID_PARTITION_VALUE;
 import static io.trino.plugin.iceberg.IcebergErrorCode.ICEBERG_INVALID_SNAPSHOT_ID;
+import static io.trino.plugin.iceberg.IcebergTableProperties.SORTED_BY_TABLE_PROPERTY;
+import static io.trino.plugin.iceberg.IcebergTableProperties.parseSortedBy;
 import static io.trino.plugin.iceberg.TypeConverter.toTrinoType;
 import static io.trino.plugin.iceberg.util.Timestamps.timestampTzFromMicros;
 import static io.trino.spi.StandardErrorCode.GENERIC_INTERNAL_ERROR;
@@ -157,6 +160,12 @@ final class IcebergUtil
                 .toUpperCase(Locale.ENGLISH));
     }
 
+    public static List<SortingColumn> getSortedBy(Table table)
+    {
+        String sortedBy = table.properties().get(SORTED_BY_TABLE_PROPERTY);
+        return sortedBy == null ? ImmutableList.of() : parseSortedBy(sortedBy);
+    }
+
     public static Optional<String> getTableComment(Table table)
     {
         return Optional.ofNullable(table.properties().get(TABLE_COMMENT));
@@ -248,10 +257,10 @@ final class IcebergUtil
         throw new TrinoException(GENERIC_INTERNAL_ERROR, "Invalid partition type " + type.toString());
     }
 
-    public static Map<Integer, String> getPartitionKeys(FileScanTask scanTask)
+    public static Map<Integer, String> getPartitionKeys(PlannedFile file)
     {
-        StructLike partition = scanTask.file().partition();
-        PartitionSpec spec = scanTask.spec();
+        StructLike partition = file.getFile().partition();
+        PartitionSpec spec = file.getSpec();
         Map<PartitionField, Integer> fieldToIndex = getIdentityPartitions(spec);
         Map<Integer, String> partitionKeys = new HashMap<>();
 
@@ -16,6 +16,7 @@ package io.trino.plugin.iceberg;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableList;
+import io.trino.plugin.hive.metastore.SortingColumn;
 import io.trino.spi.connector.ConnectorInsertTableHandle;
 import io.trino.spi.connector.ConnectorOutputTableHandle;
 import org.apache.iceberg.FileFormat;
@@ -34,6 +35,7 @@ public class IcebergWritableTableHandle
     private final List<IcebergColumnHandle> inputColumns;
     private final String outputPath;
     private final FileFormat fileFormat;
+    private final List<SortingColumn> sortedBy;
 
     @JsonCreator
     public IcebergWritableTableHandle(
@@ -43,7 +45,8 @@ public class IcebergWritableTableHandle
             @JsonProperty("partitionSpecAsJson") String partitionSpecAsJson,
             @JsonProperty("inputColumns") List<IcebergColumnHandle> inputColumns,
             @JsonProperty("outputPath") String outputPath,
-            @JsonProperty("fileFormat") FileFormat fileFormat)
+            @JsonProperty("fileFormat") FileFormat fileFormat,
+            @JsonProperty("sortedBy") List<SortingColumn> sortedBy)
     {
         this.schemaName = requireNonNull(schemaName, "schemaName is null");
         this.tableName = requireNonNull(tableName, "tableName is null");
@@ -52,6 +55,7 @@ public class IcebergWritableTableHandle
         this.inputColumns = ImmutableList.copyOf(requireNonNull(inputColumns, "inputColumns is null"));
         this.outputPath = requireNonNull(outputPath, "filePrefix is null");
         this.fileFormat = requireNonNull(fileFormat, "fileFormat is null");
+        this.sortedBy = ImmutableList.copyOf(requireNonNull(sortedBy, "sortedBy is null"));
     }
 
     @JsonProperty
@@ -96,6 +100,12 @@ public class IcebergWritableTableHandle
         return fileFormat;
     }
 
+    @JsonProperty
+    public List<SortingColumn> getSortedBy()
+    {
+        return sortedBy;
+    }
+
     @Override
     public String toString()
     {
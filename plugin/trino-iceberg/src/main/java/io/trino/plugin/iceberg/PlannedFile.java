@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.iceberg;
+
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.PartitionSpec;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A data file of a table snapshot, together with the partition spec it was written with.
+ */
+public class PlannedFile
+{
+    private final DataFile file;
+    private final PartitionSpec spec;
+
+    public PlannedFile(DataFile file, PartitionSpec spec)
+    {
+        this.file = requireNonNull(file, "file is null");
+        this.spec = requireNonNull(spec, "spec is null");
+    }
+
+    public DataFile getFile()
+    {
+        return file;
+    }
+
+    public PartitionSpec getSpec()
+    {
+        return spec;
+    }
+
+    @Override
+    public String toString()
+    {
+        return toStringHelper(this)
+                .add("path", file.path())
+                .add("specId", spec.specId())
+                .toString();
+    }
+}
@@ -26,17 +26,12 @@ import io.trino.spi.statistics.Estimate;
 import io.trino.spi.statistics.TableStatistics;
 import io.trino.spi.type.TypeManager;
 import org.apache.iceberg.DataFile;
-import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.PartitionField;
 import org.apache.iceberg.Table;
-import org.apache.iceberg.TableScan;
-import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.types.Comparators;
 import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -46,7 +41,6 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
-import static io.trino.plugin.iceberg.ExpressionConverter.toIcebergExpression;
 import static io.trino.plugin.iceberg.IcebergUtil.getColumns;
 import static io.trino.plugin.iceberg.IcebergUtil.getIdentityPartitions;
 import static io.trino.plugin.iceberg.Partition.toMap;
@@ -59,17 +53,19 @@ import static java.util.stream.Collectors.toUnmodifiableMap;
 public class TableStatisticsMaker
 {
     private final TypeManager typeManager;
+    private final IcebergFilePlanner filePlanner;
     private final Table icebergTable;
 
-    private TableStatisticsMaker(TypeManager typeManager, Table icebergTable)
+    private TableStatisticsMaker(TypeManager typeManager, IcebergFilePlanner filePlanner, Table icebergTable)
     {
         this.typeManager = typeManager;
+        this.filePlanner = filePlanner;
         this.icebergTable = icebergTable;
     }
 
-    public static TableStatistics getTableStatistics(TypeManager typeManager, Constraint constraint, IcebergTableHandle tableHandle, Table icebergTable)
+    public static TableStatistics getTableStatistics(TypeManager typeManager, IcebergFilePlanner filePlanner, Constraint constraint, IcebergTableHandle tableHandle, Table icebergTable)
     {
-        return new TableStatisticsMaker(typeManager, icebergTable).makeTableStatistics(tableHandle, constraint);
+        return new TableStatisticsMaker(typeManager, filePlanner, icebergTable).makeTableStatistics(tableHandle, constraint);
     }
 
     private TableStatistics makeTableStatistics(IcebergTableHandle tableHandle, Constraint constraint)
@@ -119,49 +115,39 @@ public class TableStatisticsMaker
         }
         Map<Integer, ColumnFieldDetails> idToDetails = idToDetailsBuilder.build();
 
-        TableScan tableScan = icebergTable.newScan()
-                .filter(toIcebergExpression(intersection))
-                .useSnapshot(tableHandle.getSnapshotId().get())
-                .includeColumnStats();
-
         Partition summary = null;
-        try (CloseableIterable<FileScanTask> fileScanTasks = tableScan.planFiles()) {
-            for (FileScanTask fileScanTask : fileScanTasks) {
-                DataFile dataFile = fileScanTask.file();
-                if (!dataFileMatches(
-                        dataFile,
-                        constraint,
-                        idToTypeMapping,
-                        partitionFields,
-                        idToDetails)) {
-                    continue;
-                }
+        for (PlannedFile file : filePlanner.planFiles(icebergTable, tableHandle.getSnapshotId().get(), intersection)) {
+            DataFile dataFile = file.getFile();
+            if (!dataFileMatches(
+                    dataFile,
+                    constraint,
+                    idToTypeMapping,
+                    partitionFields,
+                    idToDetails)) {
+                continue;
+            }
 
-                if (summary == null) {
-                    summary = new Partition(
-                            idToTypeMapping,
-                            nonPartitionPrimitiveColumns,
-                            dataFile.partition(),
-                            dataFile.recordCount(),
-                            dataFile.fileSizeInBytes(),
-                            toMap(idToTypeMapping, dataFile.lowerBounds()),
-                            toMap(idToTypeMapping, dataFile.upperBounds()),
-                            dataFile.nullValueCounts(),
-                            dataFile.columnSizes());
-                }
-                else {
-                    summary.incrementFileCount();
-                    summary.incrementRecordCount(dataFile.recordCount());
-                    summary.incrementSize(dataFile.fileSizeInBytes());
-                    updateSummaryMin(summary, partitionFields, toMap(idToTypeMapping, dataFile.lowerBounds()), dataFile.nullValueCounts(), dataFile.recordCount());
-                    updateSummaryMax(summary, partitionFields, toMap(idToTypeMapping, dataFile.upperBounds()), dataFile.nullValueCounts(), dataFile.recordCount());
-                    summary.updateNullCount(dataFile.nullValueCounts());
-                    updateColumnSizes(summary, dataFile.columnSizes());
-                }
+            if (summary == null) {
+                summary = new Partition(
+                        idToTypeMapping,
+                        nonPartitionPrimitiveColumns,
+                        dataFile.partition(),
+                        dataFile.recordCount(),
+                        dataFile.fileSizeInBytes(),
+                        toMap(idToTypeMapping, dataFile.lowerBounds()),
+                        toMap(idToTypeMapping, dataFile.upperBounds()),
+                        dataFile.nullValueCounts(),
+                        dataFile.columnSizes());
+            }
+            else {
+                summary.incrementFileCount();
+                summary.incrementRecordCount(dataFile.recordCount());
+                summary.incrementSize(dataFile.fileSizeInBytes());
+                updateSummaryMin(summary, partitionFields, toMap(idToTypeMapping, dataFile.lowerBounds()), dataFile.nullValueCounts(), dataFile.recordCount());
+                updateSummaryMax(summary, partitionFields, toMap(idToTypeMapping, dataFile.upperBounds()), dataFile.nullValueCounts(), dataFile.recordCount());
+                summary.updateNullCount(dataFile.nullValueCounts());
+                updateColumnSizes(summary, dataFile.columnSizes());
             }
-        }
-        catch (IOException e) {
-            throw new UncheckedIOException(e);
         }
 
         if (summary == null) {
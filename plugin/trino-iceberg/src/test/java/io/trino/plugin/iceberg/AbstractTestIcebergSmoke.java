@@ -16,6 +16,8 @@ package io.trino.plugin.iceberg;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import io.trino.Session;
+import io.trino.execution.QueryStats;
+import io.trino.execution.warnings.WarningCollector;
 import io.trino.metadata.Metadata;
 import io.trino.metadata.QualifiedObjectName;
 import io.trino.metadata.TableHandle;
@@ -29,10 +31,12 @@ import io.trino.spi.predicate.TupleDomain;
 import io.trino.spi.statistics.ColumnStatistics;
 import io.trino.spi.statistics.DoubleRange;
 import io.trino.spi.statistics.TableStatistics;
+import io.trino.sql.planner.plan.AggregationNode;
 import io.trino.testing.AbstractTestIntegrationSmokeTest;
 import io.trino.testing.MaterializedResult;
 import io.trino.testing.MaterializedRow;
 import io.trino.testing.QueryRunner;
+import io.trino.testing.ResultWithQueryId;
 import io.trino.testng.services.Flaky;
 import io.trino.transaction.TransactionBuilder;
 import org.apache.iceberg.FileFormat;
@@ -53,6 +57,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static io.trino.SystemSessionProperties.USE_PREFERRED_WRITE_PARTITIONING;
 import static io.trino.plugin.iceberg.IcebergQueryRunner.createIcebergQueryRunner;
 import static io.trino.plugin.iceberg.IcebergSplitManager.ICEBERG_DOMAIN_COMPACTION_THRESHOLD;
 import static io.trino.spi.predicate.Domain.multipleValues;
@@ -60,7 +65,10 @@ import static io.trino.spi.predicate.Domain.singleValue;
 import static io.trino.spi.type.BigintType.BIGINT;
 import static io.trino.spi.type.DoubleType.DOUBLE;
 import static io.trino.spi.type.VarcharType.VARCHAR;
+import static io.trino.sql.analyzer.FeaturesConfig.JoinDistributionType.BROADCAST;
+import static io.trino.sql.planner.optimizations.PlanNodeSearcher.searchFrom;
 import static io.trino.testing.MaterializedResult.resultBuilder;
+import static io.trino.testing.QueryAssertions.assertEqualsIgnoreOrder;
 import static io.trino.testing.assertions.Assert.assertEquals;
 import static io.trino.transaction.TransactionBuilder.transaction;
 import static java.lang.String.format;
@@ -1358,6 +1366,88 @@ public abstract class AbstractTestIcebergSmoke
         dropTable(tableName.getObjectName());
     }
 
+    @Test
+    public void testDynamicFilterPrunesPartitions()
+    {
+        assertUpdate("CREATE TABLE test_dynamic_filter_fact WITH (partitioning = ARRAY['orderstatus']) AS SELECT orderkey, orderstatus FROM orders", 15000);
+        assertUpdate("CREATE TABLE test_dynamic_filter_dimension (orderstatus VARCHAR, selected BOOLEAN)");
+        assertUpdate("INSERT INTO test_dynamic_filter_dimension VALUES ('F', false), ('O', false), ('P', true)", 3);
+
+        Session session = Session.builder(noJoinReordering(BROADCAST))
+                .setCatalogSessionProperty("iceberg", "dynamic_filtering_wait_timeout", "1m")
+                .build();
+        @Language("SQL") String query = "SELECT f.orderkey FROM test_dynamic_filter_fact f JOIN test_dynamic_filter_dimension d ON f.orderstatus = d.orderstatus WHERE d.selected";
+        ResultWithQueryId<MaterializedResult> result = getDistributedQueryRunner().executeWithQueryId(session, query);
+        assertEqualsIgnoreOrder(result.getResult(), computeExpected("SELECT orderkey FROM orders WHERE orderstatus = 'P'", result.getResult().getTypes()));
+
+        // only the files of the selected partition are scanned on the probe side
+        QueryStats queryStats = getDistributedQueryRunner().getCoordinator()
+                .getQueryManager()
+                .getFullQueryInfo(result.getQueryId())
+                .getQueryStats();
+        assertEquals(queryStats.getPhysicalInputPositions(), result.getResult().getRowCount() + 3L);
+
+        dropTable("test_dynamic_filter_fact");
+        dropTable("test_dynamic_filter_dimension");
+    }
+
+    @Test
+    public void testSortedBy()
+    {
+        Session session = Session.builder(getSession())
+                .setSystemProperty(USE_PREFERRED_WRITE_PARTITIONING, "true")
+                .build();
+        assertUpdate(
+                session,
+                "CREATE TABLE test_sorted_by WITH (partitioning = ARRAY['orderstatus'], sorted_by = ARRAY['custkey', 'orderkey DESC']) " +
+                        "AS SELECT orderkey, custkey, orderstatus FROM orders",
+                15000);
+        assertThat((String) computeActual("SHOW CREATE TABLE test_sorted_by").getOnlyValue())
+                .contains("sorted_by = ARRAY['custkey','orderkey DESC']");
+        assertQuery("SELECT * FROM test_sorted_by", "SELECT orderkey, custkey, orderstatus FROM orders");
+
+        // each partition is written by a single writer, into a single sorted file
+        assertQuery("SELECT count(*) FROM \"test_sorted_by$files\"", "SELECT count(DISTINCT orderstatus) FROM orders");
+        List<MaterializedRow> rows = computeActual("SELECT custkey, orderkey FROM test_sorted_by WHERE orderstatus = 'F'").getMaterializedRows();
+        for (int i = 1; i < rows.size(); i++) {
+            long previousCustkey = (long) rows.get(i - 1).getField(0);
+            long custkey = (long) rows.get(i).getField(0);
+            assertTrue(previousCustkey < custkey || (previousCustkey == custkey && (long) rows.get(i - 1).getField(1) > (long) rows.get(i).getField(1)));
+        }
+
+        // inserted rows are sorted as well
+        assertUpdate(session, "INSERT INTO test_sorted_by SELECT orderkey, custkey, orderstatus FROM orders WHERE orderstatus = 'P'", "SELECT count(*) FROM orders WHERE orderstatus = 'P'");
+        assertQuery("SELECT count(*) FROM test_sorted_by", "SELECT (SELECT count(*) FROM orders) + (SELECT count(*) FROM orders WHERE orderstatus = 'P')");
+
+        assertQueryFails("CREATE TABLE test_sorted_by_missing (a bigint) WITH (sorted_by = ARRAY['b'])", "Sorting column 'b' does not exist");
+
+        dropTable("test_sorted_by");
+    }
+
+    @Test
+    public void testAlterSortingColumn()
+    {
+        assertUpdate("CREATE TABLE test_alter_sorting_column (a bigint, b bigint, c varchar) WITH (sorted_by = ARRAY['b DESC'])");
+        assertUpdate("INSERT INTO test_alter_sorting_column VALUES (1, 10, 'x'), (2, 20, 'y')", 2);
+
+        assertQueryFails("ALTER TABLE test_alter_sorting_column DROP COLUMN b", "Cannot drop sorting column 'b'");
+        assertUpdate("ALTER TABLE test_alter_sorting_column DROP COLUMN c");
+
+        // the sorted_by property follows the renamed column
+        assertUpdate("ALTER TABLE test_alter_sorting_column RENAME COLUMN b TO d");
+        assertThat((String) computeActual("SHOW CREATE TABLE test_alter_sorting_column").getOnlyValue())
+                .contains("sorted_by = ARRAY['d DESC']");
+        assertUpdate("INSERT INTO test_alter_sorting_column VALUES (3, 30), (4, 40)", 2);
+        assertQuery("SELECT a, d FROM test_alter_sorting_column", "VALUES (1, 10), (2, 20), (3, 30), (4, 40)");
+
+        // other columns are renamed without touching the property
+        assertUpdate("ALTER TABLE test_alter_sorting_column RENAME COLUMN a TO e");
+        assertUpdate("INSERT INTO test_alter_sorting_column VALUES (5, 50)", 1);
+        assertQuery("SELECT e, d FROM test_alter_sorting_column", "VALUES (1, 10), (2, 20), (3, 30), (4, 40), (5, 50)");
+
+        dropTable("test_alter_sorting_column");
+    }
+
     private void assertFilterPushdown(
             QualifiedObjectName tableName,
             Map<String, Domain> filter,
@@ -1573,6 +1663,69 @@ public abstract class AbstractTestIcebergSmoke
         dropTable("test_read_isolation");
     }
 
+    @Test
+    public void testStatisticsAggregationPushdown()
+    {
+        assertUpdate("CREATE TABLE test_statistics_aggregation (b bigint, i integer, d date, dec decimal(10, 2), dbl double, v varchar, r row(x bigint), p varchar) " +
+                "WITH (partitioning = ARRAY['p'])");
+
+        // a table without a snapshot has no rows
+        assertStatisticsAggregation("SELECT count(*), count(b), min(b), max(b) FROM test_statistics_aggregation", true);
+
+        // each insert writes separate files, some of them with only nulls in a column
+        assertUpdate("INSERT INTO test_statistics_aggregation VALUES (1, 10, DATE '2020-01-01', 1.25, 1.5, 'a', ROW(1), 'x'), (NULL, 20, NULL, NULL, NULL, NULL, NULL, 'x')", 2);
+        assertUpdate("INSERT INTO test_statistics_aggregation VALUES (-5, NULL, DATE '2019-06-30', -3.50, -0.5, 'B', ROW(2), 'y'), (7, -2, DATE '2021-12-31', 0.01, 2.5, 'c', NULL, 'y')", 2);
+        assertUpdate("INSERT INTO test_statistics_aggregation VALUES (NULL, NULL, NULL, NULL, NULL, NULL, NULL, 'z')", 1);
+
+        // integer, date and short decimal bounds are exact
+        assertStatisticsAggregation("SELECT count(*), count(b), count(i), count(d) FROM test_statistics_aggregation", true);
+        assertStatisticsAggregation("SELECT min(b), max(b), min(i), max(i), min(d), max(d), min(dec), max(dec) FROM test_statistics_aggregation", true);
+        assertStatisticsAggregation("SELECT count(*), min(b), max(d) FROM test_statistics_aggregation WHERE p = 'y'", true);
+        assertStatisticsAggregation("SELECT count(b), max(i) FROM test_statistics_aggregation WHERE p = 'z'", true);
+
+        // count of any primitive column only needs null counts, but bounds of floating point and varchar columns are not exact
+        assertStatisticsAggregation("SELECT count(dbl), count(v) FROM test_statistics_aggregation", true);
+        assertStatisticsAggregation("SELECT min(dbl), max(dbl) FROM test_statistics_aggregation", false);
+        assertStatisticsAggregation("SELECT min(v), max(v) FROM test_statistics_aggregation", false);
+        assertStatisticsAggregation("SELECT count(*), min(v) FROM test_statistics_aggregation", false);
+
+        // nested columns have no null counts of their own
+        assertStatisticsAggregation("SELECT count(r) FROM test_statistics_aggregation", false);
+
+        // predicates on data columns are not enforced by the files being aggregated
+        assertStatisticsAggregation("SELECT count(*), min(b) FROM test_statistics_aggregation WHERE b > 0", false);
+        assertStatisticsAggregation("SELECT count(*) FROM test_statistics_aggregation WHERE p = 'x' AND i = 10", false);
+
+        // other aggregations and grouping
+        assertStatisticsAggregation("SELECT sum(b) FROM test_statistics_aggregation", false);
+        assertStatisticsAggregation("SELECT count(DISTINCT b) FROM test_statistics_aggregation", false);
+        assertStatisticsAggregation("SELECT p, count(*) FROM test_statistics_aggregation GROUP BY p", false);
+
+        // files written before a column was added have no metrics for it
+        assertUpdate("ALTER TABLE test_statistics_aggregation ADD COLUMN added bigint");
+        assertStatisticsAggregation("SELECT count(*), count(b) FROM test_statistics_aggregation", true);
+        assertStatisticsAggregation("SELECT count(added), min(added) FROM test_statistics_aggregation", false);
+
+        dropTable("test_statistics_aggregation");
+    }
+
+    private void assertStatisticsAggregation(@Language("SQL") String sql, boolean pushedDown)
+    {
+        Session pushdownEnabled = Session.builder(getSession())
+                .setCatalogSessionProperty("iceberg", "statistics_aggregation_pushdown_enabled", "true")
+                .build();
+        Session pushdownDisabled = Session.builder(getSession())
+                .setCatalogSessionProperty("iceberg", "statistics_aggregation_pushdown_enabled", "false")
+                .build();
+
+        QueryRunner.MaterializedResultWithPlan result = getDistributedQueryRunner().executeWithPlan(pushdownEnabled, sql, WarningCollector.NOOP);
+        assertEqualsIgnoreOrder(result.getMaterializedResult(), computeActual(pushdownDisabled, sql), sql);
+        boolean aggregated = searchFrom(result.getQueryPlan().getRoot())
+                .where(AggregationNode.class::isInstance)
+                .matches();
+        assertEquals(aggregated, !pushedDown, sql);
+    }
+
     private void withTransaction(Consumer<Session> consumer)
     {
         transaction(getQueryRunner().getTransactionManager(), getQueryRunner().getAccessControl())
@@ -14,6 +14,8 @@
 package io.trino.plugin.iceberg;
 
 import com.google.common.collect.ImmutableMap;
+import io.airlift.units.DataSize;
+import io.airlift.units.Duration;
 import io.trino.plugin.hive.HiveCompressionCodec;
 import org.testng.annotations.Test;
 
@@ -22,9 +24,13 @@ import java.util.Map;
 import static io.airlift.configuration.testing.ConfigAssertions.assertFullMapping;
 import static io.airlift.configuration.testing.ConfigAssertions.assertRecordedDefaults;
 import static io.airlift.configuration.testing.ConfigAssertions.recordDefaults;
+import static io.airlift.units.DataSize.Unit.GIGABYTE;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
 import static io.trino.plugin.hive.HiveCompressionCodec.GZIP;
 import static io.trino.plugin.iceberg.IcebergFileFormat.ORC;
 import static io.trino.plugin.iceberg.IcebergFileFormat.PARQUET;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 public class TestIcebergConfig
 {
@@ -33,7 +39,11 @@ public class TestIcebergConfig
     {
         assertRecordedDefaults(recordDefaults(IcebergConfig.class)
                 .setFileFormat(ORC)
-                .setCompressionCodec(GZIP));
+                .setCompressionCodec(GZIP)
+                .setStatisticsAggregationPushdownEnabled(false)
+                .setDynamicFilteringWaitTimeout(new Duration(0, SECONDS))
+                .setManifestReaderThreads(8)
+                .setManifestCacheMaxSize(DataSize.of(256, MEGABYTE)));
     }
 
     @Test
@@ -42,11 +52,19 @@ public class TestIcebergConfig
         Map<String, String> properties = new ImmutableMap.Builder<String, String>()
                 .put("iceberg.file-format", "Parquet")
                 .put("iceberg.compression-codec", "NONE")
+                .put("iceberg.statistics-aggregation-pushdown-enabled", "true")
+                .put("iceberg.dynamic-filtering.wait-timeout", "1m")
+                .put("iceberg.manifest-reader-threads", "16")
+                .put("iceberg.manifest-cache.max-size", "1GB")
                 .build();
 
         IcebergConfig expected = new IcebergConfig()
                 .setFileFormat(PARQUET)
-                .setCompressionCodec(HiveCompressionCodec.NONE);
+                .setCompressionCodec(HiveCompressionCodec.NONE)
+                .setStatisticsAggregationPushdownEnabled(true)
+                .setDynamicFilteringWaitTimeout(new Duration(1, MINUTES))
+                .setManifestReaderThreads(16)
+                .setManifestCacheMaxSize(DataSize.of(1, GIGABYTE));
 
         assertFullMapping(properties, expected);
     }
@@ -0,0 +1,194 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.iceberg;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.airlift.units.DataSize;
+import io.trino.spi.predicate.TupleDomain;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.types.Types;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.google.common.io.MoreFiles.deleteRecursively;
+import static com.google.common.io.RecursiveDeleteOption.ALLOW_INSECURE;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static io.airlift.units.DataSize.Unit.BYTE;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+import static io.trino.plugin.iceberg.IcebergFilePlanner.estimateRetainedSize;
+import static java.nio.file.Files.createTempDirectory;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TestIcebergFilePlanner
+{
+    private static final Schema SCHEMA = new Schema(
+            required(1, "id", Types.LongType.get()),
+            required(2, "part", Types.StringType.get()));
+    private static final PartitionSpec SPEC = PartitionSpec.builderFor(SCHEMA).identity("part").build();
+
+    private Path directory;
+    private Table table;
+
+    @BeforeMethod
+    public void setUp()
+            throws IOException
+    {
+        directory = createTempDirectory("iceberg-file-planner");
+        table = new HadoopTables(new Configuration()).create(SCHEMA, SPEC, directory.resolve("table").toUri().toString());
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown()
+            throws IOException
+    {
+        deleteRecursively(directory, ALLOW_INSECURE);
+    }
+
+    @Test
+    public void testCacheHit()
+    {
+        appendFile("a");
+        long snapshotId = table.currentSnapshot().snapshotId();
+        IcebergFilePlanner planner = new IcebergFilePlanner(directExecutor(), DataSize.of(1, MEGABYTE));
+
+        assertEquals(planFiles(planner, snapshotId), ImmutableSet.of(dataFilePath("a")));
+        assertEquals(planner.getCacheMisses(), 1);
+        assertEquals(planner.getCacheHits(), 0);
+
+        assertEquals(planFiles(planner, snapshotId), ImmutableSet.of(dataFilePath("a")));
+        assertEquals(planner.getCacheMisses(), 1);
+        assertEquals(planner.getCacheHits(), 1);
+        assertEquals(planner.getCachedManifests(), 1);
+    }
+
+    @Test
+    public void testNewSnapshot()
+    {
+        appendFile("a");
+        long firstSnapshotId = table.currentSnapshot().snapshotId();
+        IcebergFilePlanner planner = new IcebergFilePlanner(directExecutor(), DataSize.of(1, MEGABYTE));
+        assertEquals(planFiles(planner, firstSnapshotId), ImmutableSet.of(dataFilePath("a")));
+
+        // the manifest of the first append is shared by the new snapshot, only the new manifest is read
+        appendFile("b");
+        long secondSnapshotId = table.currentSnapshot().snapshotId();
+        assertEquals(planFiles(planner, secondSnapshotId), ImmutableSet.of(dataFilePath("a"), dataFilePath("b")));
+        assertEquals(planner.getCacheMisses(), 2);
+        assertEquals(planner.getCacheHits(), 1);
+
+        // deleting a file writes a new manifest, so the cached data files of the old manifest are not used for the new snapshot
+        table.newDelete()
+                .deleteFile(dataFilePath("a"))
+                .commit();
+        long thirdSnapshotId = table.currentSnapshot().snapshotId();
+        assertEquals(planFiles(planner, thirdSnapshotId), ImmutableSet.of(dataFilePath("b")));
+
+        // older snapshots are still planned from their own manifests
+        assertEquals(planFiles(planner, secondSnapshotId), ImmutableSet.of(dataFilePath("a"), dataFilePath("b")));
+    }
+
+    @Test
+    public void testEviction()
+    {
+        appendFile("a");
+        appendFile("b");
+        long snapshotId = table.currentSnapshot().snapshotId();
+        // smaller than the data files of a single manifest
+        IcebergFilePlanner planner = new IcebergFilePlanner(directExecutor(), DataSize.of(100, BYTE));
+
+        assertEquals(planFiles(planner, snapshotId), ImmutableSet.of(dataFilePath("a"), dataFilePath("b")));
+        assertEquals(planFiles(planner, snapshotId), ImmutableSet.of(dataFilePath("a"), dataFilePath("b")));
+        assertEquals(planner.getCacheMisses(), 4);
+        assertEquals(planner.getCacheHits(), 0);
+        assertEquals(planner.getCachedManifests(), 0);
+    }
+
+    @Test
+    public void testDisabledCache()
+    {
+        appendFile("a");
+        long snapshotId = table.currentSnapshot().snapshotId();
+        IcebergFilePlanner planner = new IcebergFilePlanner(directExecutor(), DataSize.of(0, BYTE));
+
+        assertEquals(planFiles(planner, snapshotId), ImmutableSet.of(dataFilePath("a")));
+        assertEquals(planFiles(planner, snapshotId), ImmutableSet.of(dataFilePath("a")));
+        assertEquals(planner.getCacheMisses(), 0);
+        assertEquals(planner.getCacheHits(), 0);
+        assertEquals(planner.getCachedManifests(), 0);
+    }
+
+    @Test
+    public void testEstimateRetainedSize()
+    {
+        DataFile withoutMetrics = dataFile("a", new Metrics(10L, null, null, null));
+        DataFile withMetrics = dataFile("a", new Metrics(
+                10L,
+                ImmutableMap.of(1, 100L, 2, 100L),
+                ImmutableMap.of(1, 10L, 2, 10L),
+                ImmutableMap.of(1, 0L, 2, 0L),
+                ImmutableMap.of(1, ByteBuffer.allocate(8), 2, ByteBuffer.allocate(1000)),
+                ImmutableMap.of(1, ByteBuffer.allocate(8), 2, ByteBuffer.allocate(1000))));
+
+        // the bounds alone retain more than 2000 bytes
+        assertTrue(estimateRetainedSize(withMetrics) > estimateRetainedSize(withoutMetrics) + 2000);
+    }
+
+    private Set<String> planFiles(IcebergFilePlanner planner, long snapshotId)
+    {
+        return planner.planFiles(table, snapshotId, TupleDomain.all()).stream()
+                .map(file -> file.getFile().path().toString())
+                .collect(toImmutableSet());
+    }
+
+    private void appendFile(String name)
+    {
+        table.newAppend()
+                .appendFile(dataFile(name, new Metrics(10L, null, null, null)))
+                .commit();
+    }
+
+    private DataFile dataFile(String name, Metrics metrics)
+    {
+        return DataFiles.builder(SPEC)
+                .withPath(dataFilePath(name))
+                .withFormat(FileFormat.ORC)
+                .withFileSizeInBytes(1000)
+                .withPartitionPath("part=" + name)
+                .withMetrics(metrics)
+                .build();
+    }
+
+    private String dataFilePath(String name)
+    {
+        return directory.resolve("table/data/part=" + name + "/" + name + ".orc").toUri().toString();
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.kafka;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Multimap;
+import io.airlift.slice.Slice;
+import io.trino.decoder.DecoderColumnHandle;
+import io.trino.decoder.FieldValueProvider;
+import io.trino.decoder.RowDecoder;
+import io.trino.spi.Page;
+import io.trino.spi.PageBuilder;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.type.MapType;
+import io.trino.spi.type.Type;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.airlift.slice.Slices.wrappedBuffer;
+import static io.trino.plugin.kafka.KafkaInternalFieldManager.HEADERS_FIELD;
+import static io.trino.plugin.kafka.KafkaInternalFieldManager.KEY_CORRUPT_FIELD;
+import static io.trino.plugin.kafka.KafkaInternalFieldManager.KEY_FIELD;
+import static io.trino.plugin.kafka.KafkaInternalFieldManager.KEY_LENGTH_FIELD;
+import static io.trino.plugin.kafka.KafkaInternalFieldManager.MESSAGE_CORRUPT_FIELD;
+import static io.trino.plugin.kafka.KafkaInternalFieldManager.MESSAGE_FIELD;
+import static io.trino.plugin.kafka.KafkaInternalFieldManager.MESSAGE_LENGTH_FIELD;
+import static io.trino.plugin.kafka.KafkaInternalFieldManager.OFFSET_TIMESTAMP_FIELD;
+import static io.trino.plugin.kafka.KafkaInternalFieldManager.PARTITION_ID_FIELD;
+import static io.trino.plugin.kafka.KafkaInternalFieldManager.PARTITION_OFFSET_FIELD;
+import static io.trino.spi.type.Timestamps.MICROSECONDS_PER_MILLISECOND;
+import static io.trino.spi.type.TypeUtils.writeNativeValue;
+import static java.lang.Math.max;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads the messages of a split one {@code poll()} batch at a time, decoding each batch
+ * directly into the blocks of a page.
+ */
+public class KafkaPageSource
+        implements ConnectorPageSource
+{
+    private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
+    private static final Duration CONSUMER_POLL_TIMEOUT = Duration.ofMillis(100);
+
+    private final KafkaSplit split;
+    private final TopicPartition topicPartition;
+    private final Consumer<byte[], byte[]> kafkaConsumer;
+    private final RowDecoder keyDecoder;
+    private final RowDecoder messageDecoder;
+    private final List<KafkaColumnHandle> columnHandles;
+    private final List<Type> columnTypes;
+    private final PageBuilder pageBuilder;
+
+    private long completedBytes;
+    private long readTimeNanos;
+    private boolean finished;
+
+    public KafkaPageSource(
+            KafkaSplit split,
+            Consumer<byte[], byte[]> kafkaConsumer,
+            List<KafkaColumnHandle> columnHandles,
+            RowDecoder keyDecoder,
+            RowDecoder messageDecoder)
+    {
+        this.split = requireNonNull(split, "split is null");
+        this.kafkaConsumer = requireNonNull(kafkaConsumer, "kafkaConsumer is null");
+        this.keyDecoder = requireNonNull(keyDecoder, "keyDecoder is null");
+        this.messageDecoder = requireNonNull(messageDecoder, "messageDecoder is null");
+        this.columnHandles = ImmutableList.copyOf(requireNonNull(columnHandles, "columnHandles is null"));
+        this.columnTypes = columnHandles.stream()
+                .map(DecoderColumnHandle::getType)
+                .collect(toImmutableList());
+        this.pageBuilder = new PageBuilder(columnTypes);
+
+        topicPartition = new TopicPartition(split.getTopicName(), split.getPartitionId());
+        kafkaConsumer.assign(ImmutableList.of(topicPartition));
+        kafkaConsumer.seek(topicPartition, split.getMessagesRange().getBegin());
+    }
+
+    @Override
+    public long getCompletedBytes()
+    {
+        return completedBytes;
+    }
+
+    @Override
+    public long getReadTimeNanos()
+    {
+        return readTimeNanos;
+    }
+
+    @Override
+    public boolean isFinished()
+    {
+        return finished;
+    }
+
+    @Override
+    public Page getNextPage()
+    {
+        if (finished) {
+            return null;
+        }
+
+        long end = split.getMessagesRange().getEnd();
+        if (kafkaConsumer.position(topicPartition) >= end) {
+            finished = true;
+            return null;
+        }
+
+        long start = System.nanoTime();
+        ConsumerRecords<byte[], byte[]> records = kafkaConsumer.poll(CONSUMER_POLL_TIMEOUT);
+        readTimeNanos += System.nanoTime() - start;
+
+        for (ConsumerRecord<byte[], byte[]> record : records.records(topicPartition)) {
+            if (record.offset() >= end) {
+                finished = true;
+                break;
+            }
+            appendRecord(record);
+        }
+
+        if (pageBuilder.isEmpty()) {
+            return null;
+        }
+        Page page = pageBuilder.build();
+        pageBuilder.reset();
+        return page;
+    }
+
+    private void appendRecord(ConsumerRecord<byte[], byte[]> record)
+    {
+        completedBytes += max(record.serializedKeySize(), 0) + max(record.serializedValueSize(), 0);
+
+        byte[] keyData = EMPTY_BYTE_ARRAY;
+        if (record.key() != null) {
+            keyData = record.key();
+        }
+
+        byte[] messageData = EMPTY_BYTE_ARRAY;
+        if (record.value() != null) {
+            messageData = record.value();
+        }
+
+        Optional<Map<DecoderColumnHandle, FieldValueProvider>> decodedKey = keyDecoder.decodeRow(keyData);
+        Optional<Map<DecoderColumnHandle, FieldValueProvider>> decodedValue = messageDecoder.decodeRow(messageData);
+
+        pageBuilder.declarePosition();
+        for (int channel = 0; channel < columnHandles.size(); channel++) {
+            KafkaColumnHandle columnHandle = columnHandles.get(channel);
+            Type type = columnTypes.get(channel);
+            BlockBuilder output = pageBuilder.getBlockBuilder(channel);
+
+            if (!columnHandle.isInternal()) {
+                Optional<Map<DecoderColumnHandle, FieldValueProvider>> decoded = columnHandle.isKeyCodec() ? decodedKey : decodedValue;
+                writeValue(type, output, decoded.map(values -> values.get(columnHandle)).orElse(null));
+                continue;
+            }
+
+            switch (columnHandle.getName()) {
+                case PARTITION_OFFSET_FIELD:
+                    type.writeLong(output, record.offset());
+                    break;
+                case MESSAGE_FIELD:
+                    type.writeSlice(output, wrappedBuffer(messageData));
+                    break;
+                case MESSAGE_LENGTH_FIELD:
+                    type.writeLong(output, messageData.length);
+                    break;
+                case KEY_FIELD:
+                    type.writeSlice(output, wrappedBuffer(keyData));
+                    break;
+                case KEY_LENGTH_FIELD:
+                    type.writeLong(output, keyData.length);
+                    break;
+                case OFFSET_TIMESTAMP_FIELD:
+                    type.writeLong(output, record.timestamp() * MICROSECONDS_PER_MILLISECOND);
+                    break;
+                case KEY_CORRUPT_FIELD:
+                    type.writeBoolean(output, decodedKey.isEmpty());
+                    break;
+                case HEADERS_FIELD:
+                    writeHeaders((MapType) type, output, record.headers());
+                    break;
+                case MESSAGE_CORRUPT_FIELD:
+                    type.writeBoolean(output, decodedValue.isEmpty());
+                    break;
+                case PARTITION_ID_FIELD:
+                    type.writeLong(output, record.partition());
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown internal field " + columnHandle.getName());
+            }
+        }
+    }
+
+    private static void writeValue(Type type, BlockBuilder output, FieldValueProvider value)
+    {
+        if (value == null || value.isNull()) {
+            output.appendNull();
+            return;
+        }
+
+        Class<?> javaType = type.getJavaType();
+        if (javaType == boolean.class) {
+            type.writeBoolean(output, value.getBoolean());
+        }
+        else if (javaType == long.class) {
+            type.writeLong(output, value.getLong());
+        }
+        else if (javaType == double.class) {
+            type.writeDouble(output, value.getDouble());
+        }
+        else if (javaType == Slice.class) {
+            type.writeSlice(output, value.getSlice());
+        }
+        else {
+            type.writeObject(output, value.getBlock());
+        }
+    }
+
+    private static void writeHeaders(MapType varcharMapType, BlockBuilder output, Headers headers)
+    {
+        Type keyType = varcharMapType.getTypeParameters().get(0);
+        Type valueArrayType = varcharMapType.getTypeParameters().get(1);
+        Type valueType = valueArrayType.getTypeParameters().get(0);
+
+        // Group by keys and collect values as array.
+        Multimap<String, byte[]> headerMap = ArrayListMultimap.create();
+        for (Header header : headers) {
+            headerMap.put(header.key(), header.value());
+        }
+
+        BlockBuilder builder = output.beginBlockEntry();
+        for (String headerKey : headerMap.keySet()) {
+            writeNativeValue(keyType, builder, headerKey);
+            BlockBuilder arrayBuilder = builder.beginBlockEntry();
+            for (byte[] value : headerMap.get(headerKey)) {
+                writeNativeValue(valueType, arrayBuilder, value);
+            }
+            builder.closeEntry();
+        }
+        output.closeEntry();
+    }
+
+    @Override
+    public long getSystemMemoryUsage()
+    {
+        return pageBuilder.getRetainedSizeInBytes();
+    }
+
+    @Override
+    public void close()
+    {
+        finished = true;
+        kafkaConsumer.close();
+    }
+}
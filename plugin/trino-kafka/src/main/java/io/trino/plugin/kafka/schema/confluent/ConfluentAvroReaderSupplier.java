@@ -85,5 +85,12 @@ public class ConfluentAvroReaderSupplier<T>
         {
             return new ConfluentAvroReaderSupplier<>(schema, schemaRegistryClient);
         }
+
+        @Override
+        public <T> AvroReaderSupplier<T> create(Schema schema, Schema projectedSchema)
+        {
+            // records are resolved from the registered writer schema, so the projection can be used directly as the target
+            return new ConfluentAvroReaderSupplier<>(projectedSchema, schemaRegistryClient);
+        }
     }
 }
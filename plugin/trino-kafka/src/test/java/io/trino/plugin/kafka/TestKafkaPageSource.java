@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.kafka;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Longs;
+import io.trino.decoder.RowDecoder;
+import io.trino.decoder.dummy.DummyRowDecoderFactory;
+import io.trino.decoder.raw.RawRowDecoderFactory;
+import io.trino.spi.HostAddress;
+import io.trino.spi.Page;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.testng.annotations.Test;
+
+import java.util.Optional;
+
+import static io.trino.plugin.kafka.KafkaInternalFieldManager.MESSAGE_CORRUPT_FIELD;
+import static io.trino.plugin.kafka.KafkaInternalFieldManager.PARTITION_OFFSET_FIELD;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.BooleanType.BOOLEAN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestKafkaPageSource
+{
+    private static final String TOPIC = "test";
+
+    @Test
+    public void testReadMessagesRange()
+    {
+        KafkaColumnHandle offsetColumn = new KafkaColumnHandle(PARTITION_OFFSET_FIELD, BIGINT, null, null, null, false, false, true);
+        KafkaColumnHandle corruptColumn = new KafkaColumnHandle(MESSAGE_CORRUPT_FIELD, BOOLEAN, null, null, null, false, false, true);
+        KafkaColumnHandle valueColumn = new KafkaColumnHandle("value", BIGINT, "0", "LONG", null, false, false, false);
+
+        RowDecoder keyDecoder = DummyRowDecoderFactory.DECODER_INSTANCE;
+        RowDecoder messageDecoder = new RawRowDecoderFactory().create(ImmutableMap.of(), ImmutableSet.of(valueColumn));
+
+        KafkaSplit split = new KafkaSplit(TOPIC, "dummy", "raw", Optional.empty(), Optional.empty(), 0, new Range(1, 4), HostAddress.fromParts("localhost", 9092));
+
+        MockConsumer<byte[], byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        KafkaPageSource pageSource = new KafkaPageSource(split, consumer, ImmutableList.of(offsetColumn, valueColumn, corruptColumn), keyDecoder, messageDecoder);
+        for (long offset = 0; offset < 6; offset++) {
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, offset, null, Longs.toByteArray(offset * 10)));
+        }
+
+        ImmutableList.Builder<Long> offsets = ImmutableList.builder();
+        ImmutableList.Builder<Long> values = ImmutableList.builder();
+        while (!pageSource.isFinished()) {
+            Page page = pageSource.getNextPage();
+            if (page == null) {
+                continue;
+            }
+            for (int position = 0; position < page.getPositionCount(); position++) {
+                offsets.add(BIGINT.getLong(page.getBlock(0), position));
+                values.add(BIGINT.getLong(page.getBlock(1), position));
+                assertThat(BOOLEAN.getBoolean(page.getBlock(2), position)).isFalse();
+            }
+        }
+        pageSource.close();
+
+        assertThat(offsets.build()).containsExactly(1L, 2L, 3L);
+        assertThat(values.build()).containsExactly(10L, 20L, 30L);
+    }
+}
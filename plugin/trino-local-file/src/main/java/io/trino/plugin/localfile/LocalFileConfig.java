@@ -17,11 +17,20 @@ import io.airlift.configuration.Config;
 import io.airlift.configuration.ConfigDescription;
 import io.airlift.configuration.LegacyConfig;
 import io.airlift.configuration.validation.FileExists;
+import io.airlift.units.DataSize;
+import io.airlift.units.MinDataSize;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
 
 public class LocalFileConfig
 {
     private String httpRequestLogLocation = "var/log/http-request.log";
     private String httpRequestLogFileNamePattern;
+    private int splitsPerNode = Runtime.getRuntime().availableProcessors();
+    private DataSize maxSplitSize = DataSize.of(64, MEGABYTE);
 
     @FileExists
     public String getHttpRequestLogLocation()
@@ -51,4 +60,33 @@ public class LocalFileConfig
         this.httpRequestLogFileNamePattern = pattern;
         return this;
     }
+
+    @Min(1)
+    public int getSplitsPerNode()
+    {
+        return splitsPerNode;
+    }
+
+    @Config("trino-logs.splits-per-node")
+    @ConfigDescription("Number of splits that read the log files of a node in parallel")
+    public LocalFileConfig setSplitsPerNode(int splitsPerNode)
+    {
+        this.splitsPerNode = splitsPerNode;
+        return this;
+    }
+
+    @NotNull
+    @MinDataSize("1kB")
+    public DataSize getMaxSplitSize()
+    {
+        return maxSplitSize;
+    }
+
+    @Config("trino-logs.max-split-size")
+    @ConfigDescription("Uncompressed log files larger than this are read in several byte ranges")
+    public LocalFileConfig setMaxSplitSize(DataSize maxSplitSize)
+    {
+        this.maxSplitSize = maxSplitSize;
+        return this;
+    }
 }
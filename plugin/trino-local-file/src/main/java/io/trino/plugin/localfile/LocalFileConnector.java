@@ -16,7 +16,7 @@ package io.trino.plugin.localfile;
 import io.airlift.bootstrap.LifeCycleManager;
 import io.trino.spi.connector.Connector;
 import io.trino.spi.connector.ConnectorMetadata;
-import io.trino.spi.connector.ConnectorRecordSetProvider;
+import io.trino.spi.connector.ConnectorPageSourceProvider;
 import io.trino.spi.connector.ConnectorSplitManager;
 import io.trino.spi.connector.ConnectorTransactionHandle;
 import io.trino.spi.transaction.IsolationLevel;
@@ -33,16 +33,16 @@ public class LocalFileConnector
     private final LifeCycleManager lifeCycleManager;
     private final LocalFileMetadata metadata;
     private final LocalFileSplitManager splitManager;
-    private final LocalFileRecordSetProvider recordSetProvider;
+    private final LocalFilePageSourceProvider pageSourceProvider;
 
     @Inject
     public LocalFileConnector(
             LifeCycleManager lifeCycleManager,
             LocalFileMetadata metadata,
             LocalFileSplitManager splitManager,
-            LocalFileRecordSetProvider recordSetProvider)
+            LocalFilePageSourceProvider pageSourceProvider)
     {
-        this.recordSetProvider = requireNonNull(recordSetProvider, "recordSetProvider is null");
+        this.pageSourceProvider = requireNonNull(pageSourceProvider, "pageSourceProvider is null");
         this.lifeCycleManager = requireNonNull(lifeCycleManager, "lifeCycleManager is null");
         this.metadata = requireNonNull(metadata, "metadata is null");
         this.splitManager = requireNonNull(splitManager, "splitManager is null");
@@ -68,9 +68,9 @@ public class LocalFileConnector
     }
 
     @Override
-    public ConnectorRecordSetProvider getRecordSetProvider()
+    public ConnectorPageSourceProvider getPageSourceProvider()
     {
-        return recordSetProvider;
+        return pageSourceProvider;
     }
 
     @Override
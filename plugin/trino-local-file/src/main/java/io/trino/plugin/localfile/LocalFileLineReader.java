@@ -0,0 +1,181 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.localfile;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static java.lang.System.arraycopy;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads the lines of a byte range of a log file straight from a large buffer, without decoding them into strings.
+ * <p>
+ * Lines end with {@code \n} or {@code \r\n}. Unlike a {@link java.io.BufferedReader}, a lone {@code \r} does not
+ * end a line, as the log writers never emit one. A range owns the lines that start in it: the line that crosses
+ * the start of the range is left to the previous range, and the last line is read to its end even if that lies
+ * after the end of the range.
+ */
+class LocalFileLineReader
+        implements Closeable
+{
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private final InputStream input;
+    private final long end;
+
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    private int bufferPosition;
+    private int bufferLength;
+    // offset in the range of the first byte in the buffer
+    private long bufferOffset;
+    private boolean endOfInput;
+
+    private int lineStart;
+    private int lineEnd;
+
+    private long readBytes;
+    private long readTimeNanos;
+
+    /**
+     * @param input the content of the file, positioned at {@code start - 1} if {@code start} is not zero
+     * @param start offset of the range in the file
+     * @param end offset of the end of the range in the file
+     */
+    public LocalFileLineReader(InputStream input, long start, long end)
+            throws IOException
+    {
+        this.input = requireNonNull(input, "input is null");
+        this.end = end;
+        if (start > 0) {
+            bufferOffset = start - 1;
+            // skips only the preceding line terminator when the range starts at the beginning of a line
+            readLine();
+        }
+    }
+
+    /**
+     * Advances to the next line of the range. The line is then available between
+     * {@link #getLineStart()} and {@link #getLineEnd()} of {@link #getBuffer()}.
+     */
+    public boolean nextLine()
+            throws IOException
+    {
+        if (bufferOffset + bufferPosition >= end) {
+            return false;
+        }
+        return readLine();
+    }
+
+    public byte[] getBuffer()
+    {
+        return buffer;
+    }
+
+    public int getLineStart()
+    {
+        return lineStart;
+    }
+
+    public int getLineEnd()
+    {
+        return lineEnd;
+    }
+
+    public long getReadBytes()
+    {
+        return readBytes;
+    }
+
+    public long getReadTimeNanos()
+    {
+        return readTimeNanos;
+    }
+
+    public long getRetainedSizeInBytes()
+    {
+        return buffer.length;
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        input.close();
+    }
+
+    private boolean readLine()
+            throws IOException
+    {
+        int searchPosition = bufferPosition;
+        while (true) {
+            for (int position = searchPosition; position < bufferLength; position++) {
+                if (buffer[position] == '\n') {
+                    setLine(bufferPosition, position);
+                    bufferPosition = position + 1;
+                    return true;
+                }
+            }
+
+            if (endOfInput) {
+                if (bufferPosition == bufferLength) {
+                    return false;
+                }
+                setLine(bufferPosition, bufferLength);
+                bufferPosition = bufferLength;
+                return true;
+            }
+
+            searchPosition = bufferLength - bufferPosition;
+            fillBuffer();
+        }
+    }
+
+    private void setLine(int start, int end)
+    {
+        lineStart = start;
+        lineEnd = (end > start && buffer[end - 1] == '\r') ? end - 1 : end;
+    }
+
+    private void fillBuffer()
+            throws IOException
+    {
+        // keep the part of the current line that was already read at the start of the buffer
+        int remaining = bufferLength - bufferPosition;
+        if (remaining == buffer.length) {
+            byte[] newBuffer = new byte[buffer.length * 2];
+            arraycopy(buffer, 0, newBuffer, 0, remaining);
+            buffer = newBuffer;
+        }
+        else {
+            arraycopy(buffer, bufferPosition, buffer, 0, remaining);
+        }
+        bufferOffset += bufferPosition;
+        bufferPosition = 0;
+        bufferLength = remaining;
+
+        long start = System.nanoTime();
+        int read = input.read(buffer, bufferLength, buffer.length - bufferLength);
+        readTimeNanos += System.nanoTime() - start;
+
+        if (read < 0) {
+            endOfInput = true;
+        }
+        else {
+            bufferLength += read;
+            readBytes += read;
+        }
+    }
+}
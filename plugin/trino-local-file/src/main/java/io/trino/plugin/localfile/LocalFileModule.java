@@ -30,7 +30,7 @@ public class LocalFileModule
         binder.bind(LocalFileConnector.class).in(Scopes.SINGLETON);
         binder.bind(LocalFileMetadata.class).in(Scopes.SINGLETON);
         binder.bind(LocalFileSplitManager.class).in(Scopes.SINGLETON);
-        binder.bind(LocalFileRecordSetProvider.class).in(Scopes.SINGLETON);
+        binder.bind(LocalFilePageSourceProvider.class).in(Scopes.SINGLETON);
         binder.bind(LocalFileHandleResolver.class).in(Scopes.SINGLETON);
 
         binder.bind(LocalFileTables.class).in(Scopes.SINGLETON);
@@ -0,0 +1,398 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.localfile;
+
+import com.google.common.collect.ImmutableList;
+import io.airlift.slice.Slice;
+import io.airlift.slice.Slices;
+import io.trino.spi.HostAddress;
+import io.trino.spi.Page;
+import io.trino.spi.PageBuilder;
+import io.trino.spi.TrinoException;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.type.Type;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.trino.plugin.localfile.LocalFileColumnHandle.SERVER_ADDRESS_ORDINAL_POSITION;
+import static io.trino.plugin.localfile.LocalFileErrorCode.LOCAL_FILE_READ_ERROR;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.BooleanType.BOOLEAN;
+import static io.trino.spi.type.DateTimeEncoding.packDateTimeWithZone;
+import static io.trino.spi.type.DoubleType.DOUBLE;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.TimestampWithTimeZoneType.createTimestampWithTimeZoneType;
+import static io.trino.spi.type.VarcharType.createUnboundedVarcharType;
+import static java.lang.Math.toIntExact;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Reads tab separated log lines into pages. Lines are split in place in the read buffer, and only the fields
+ * of the projected columns are located and converted.
+ */
+public class LocalFilePageSource
+        implements ConnectorPageSource
+{
+    // TODO This should be a config option as it may be different for different log files
+    public static final DateTimeFormatter ISO_FORMATTER = ISO_OFFSET_DATE_TIME;
+
+    private static final Type TIMESTAMP_TYPE = createTimestampWithTimeZoneType(3);
+    private static final byte[] NULL_VALUE = "null".getBytes(UTF_8);
+
+    private final List<Type> types;
+    private final int[] fieldIndexes;
+    private final int fieldCount;
+    private final Slice address;
+    private final Iterator<FileRange> ranges;
+    private final PageBuilder pageBuilder;
+
+    private final int[] fieldStarts;
+    private final int[] fieldEnds;
+
+    private LocalFileLineReader reader;
+    private long completedBytes;
+    private long readTimeNanos;
+    private boolean finished;
+
+    public LocalFilePageSource(List<LocalFileColumnHandle> columns, HostAddress address, List<FileRange> ranges)
+    {
+        requireNonNull(columns, "columns is null");
+        this.types = columns.stream()
+                .map(LocalFileColumnHandle::getColumnType)
+                .collect(toImmutableList());
+        for (Type type : types) {
+            if (!isSupportedType(type)) {
+                throw new IllegalArgumentException("Unsupported column type: " + type);
+            }
+        }
+        this.fieldIndexes = columns.stream()
+                .mapToInt(LocalFileColumnHandle::getOrdinalPosition)
+                .toArray();
+        // fields after the last projected one are never looked at
+        this.fieldCount = 1 + columns.stream()
+                .mapToInt(LocalFileColumnHandle::getOrdinalPosition)
+                .max()
+                .orElse(SERVER_ADDRESS_ORDINAL_POSITION);
+        this.fieldStarts = new int[fieldCount];
+        this.fieldEnds = new int[fieldCount];
+        this.address = Slices.utf8Slice(requireNonNull(address, "address is null").toString());
+        this.ranges = ImmutableList.copyOf(requireNonNull(ranges, "ranges is null")).iterator();
+        this.pageBuilder = new PageBuilder(types);
+    }
+
+    private static boolean isSupportedType(Type type)
+    {
+        return type.equals(BOOLEAN) ||
+                type.equals(BIGINT) ||
+                type.equals(INTEGER) ||
+                type.equals(DOUBLE) ||
+                type.equals(createUnboundedVarcharType()) ||
+                type.equals(TIMESTAMP_TYPE);
+    }
+
+    @Override
+    public long getCompletedBytes()
+    {
+        return completedBytes + (reader == null ? 0 : reader.getReadBytes());
+    }
+
+    @Override
+    public long getReadTimeNanos()
+    {
+        return readTimeNanos + (reader == null ? 0 : reader.getReadTimeNanos());
+    }
+
+    @Override
+    public boolean isFinished()
+    {
+        return finished && pageBuilder.isEmpty();
+    }
+
+    @Override
+    public long getSystemMemoryUsage()
+    {
+        return pageBuilder.getSizeInBytes() + (reader == null ? 0 : reader.getRetainedSizeInBytes());
+    }
+
+    @Override
+    public Page getNextPage()
+    {
+        try {
+            while (!finished && !pageBuilder.isFull()) {
+                if (reader == null && !openNextRange()) {
+                    finished = true;
+                    break;
+                }
+                if (!reader.nextLine()) {
+                    closeReader();
+                    continue;
+                }
+                appendLine(reader.getBuffer(), reader.getLineStart(), reader.getLineEnd());
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (pageBuilder.isEmpty()) {
+            return null;
+        }
+        Page page = pageBuilder.build();
+        pageBuilder.reset();
+        return page;
+    }
+
+    @Override
+    public void close()
+    {
+        finished = true;
+        try {
+            closeReader();
+        }
+        catch (IOException ignored) {
+        }
+    }
+
+    private boolean openNextRange()
+            throws IOException
+    {
+        if (!ranges.hasNext()) {
+            return false;
+        }
+        FileRange range = ranges.next();
+        FileInputStream fileInput = new FileInputStream(range.getFile());
+        try {
+            InputStream input;
+            if (range.isCompressed()) {
+                input = new GZIPInputStream(fileInput, 64 * 1024);
+            }
+            else {
+                if (range.getStart() > 0) {
+                    fileInput.getChannel().position(range.getStart() - 1);
+                }
+                input = fileInput;
+            }
+            reader = new LocalFileLineReader(input, range.getStart(), range.getEnd());
+            return true;
+        }
+        catch (IOException | RuntimeException e) {
+            fileInput.close();
+            throw new TrinoException(LOCAL_FILE_READ_ERROR, "Error reading file: " + range.getFile().getName(), e);
+        }
+    }
+
+    private void closeReader()
+            throws IOException
+    {
+        if (reader != null) {
+            completedBytes += reader.getReadBytes();
+            readTimeNanos += reader.getReadTimeNanos();
+            LocalFileLineReader closing = reader;
+            reader = null;
+            closing.close();
+        }
+    }
+
+    private void appendLine(byte[] line, int lineStart, int lineEnd)
+    {
+        int fields = splitFields(line, lineStart, lineEnd);
+
+        pageBuilder.declarePosition();
+        for (int column = 0; column < types.size(); column++) {
+            BlockBuilder output = pageBuilder.getBlockBuilder(column);
+            int field = fieldIndexes[column];
+            if (field == SERVER_ADDRESS_ORDINAL_POSITION) {
+                types.get(column).writeSlice(output, address);
+                continue;
+            }
+            if (field >= fields || isNull(line, fieldStarts[field], fieldEnds[field])) {
+                output.appendNull();
+                continue;
+            }
+            writeValue(types.get(column), output, line, fieldStarts[field], fieldEnds[field]);
+        }
+    }
+
+    /**
+     * Locates the tab separated fields of the line up to the last projected one, with surrounding whitespace trimmed.
+     *
+     * @return the number of fields located
+     */
+    private int splitFields(byte[] line, int lineStart, int lineEnd)
+    {
+        int fields = 0;
+        int start = lineStart;
+        while (fields < fieldCount) {
+            int end = start;
+            while (end < lineEnd && line[end] != '\t') {
+                end++;
+            }
+
+            int trimmedStart = start;
+            int trimmedEnd = end;
+            while (trimmedStart < trimmedEnd && isWhitespace(line[trimmedStart])) {
+                trimmedStart++;
+            }
+            while (trimmedEnd > trimmedStart && isWhitespace(line[trimmedEnd - 1])) {
+                trimmedEnd--;
+            }
+            fieldStarts[fields] = trimmedStart;
+            fieldEnds[fields] = trimmedEnd;
+            fields++;
+
+            if (end == lineEnd) {
+                break;
+            }
+            start = end + 1;
+        }
+        return fields;
+    }
+
+    private static boolean isWhitespace(byte value)
+    {
+        return value == ' ' || (value >= '\t' && value <= '\r');
+    }
+
+    private static boolean isNull(byte[] line, int start, int end)
+    {
+        if (start == end) {
+            return true;
+        }
+        if (end - start != NULL_VALUE.length) {
+            return false;
+        }
+        for (int i = 0; i < NULL_VALUE.length; i++) {
+            if (line[start + i] != NULL_VALUE[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeValue(Type type, BlockBuilder output, byte[] line, int start, int end)
+    {
+        if (type.equals(TIMESTAMP_TYPE)) {
+            type.writeLong(output, parseTimestamp(new String(line, start, end - start, UTF_8)));
+        }
+        else if (type.equals(BIGINT) || type.equals(INTEGER)) {
+            type.writeLong(output, parseLong(line, start, end));
+        }
+        else if (type.equals(DOUBLE)) {
+            type.writeDouble(output, Double.parseDouble(new String(line, start, end - start, UTF_8)));
+        }
+        else if (type.equals(BOOLEAN)) {
+            type.writeBoolean(output, Boolean.parseBoolean(new String(line, start, end - start, UTF_8)));
+        }
+        else {
+            type.writeSlice(output, Slices.wrappedBuffer(line, start, end - start));
+        }
+    }
+
+    private static long parseLong(byte[] line, int start, int end)
+    {
+        boolean negative = line[start] == '-';
+        int position = negative ? start + 1 : start;
+        // larger values may overflow, leave them to the slow path
+        if (position == end || end - position > 18) {
+            return Long.parseLong(new String(line, start, end - start, UTF_8));
+        }
+        long value = 0;
+        for (; position < end; position++) {
+            int digit = line[position] - '0';
+            if (digit < 0 || digit > 9) {
+                // let the JDK report the malformed value
+                return Long.parseLong(new String(line, start, end - start, UTF_8));
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    static long parseTimestamp(String value)
+    {
+        OffsetDateTime time = OffsetDateTime.parse(value, ISO_FORMATTER)
+                .plus(500, ChronoUnit.MICROS)
+                .truncatedTo(ChronoUnit.MILLIS);
+        long epochMillis = time.toInstant().toEpochMilli();
+        int offsetMinutes = toIntExact(SECONDS.toMinutes(time.getOffset().getTotalSeconds()));
+        return packDateTimeWithZone(epochMillis, offsetMinutes);
+    }
+
+    public static class FileRange
+    {
+        private final File file;
+        private final long start;
+        private final long end;
+        private final boolean compressed;
+
+        public FileRange(File file, long start, long end, boolean compressed)
+        {
+            this.file = requireNonNull(file, "file is null");
+            this.start = start;
+            this.end = end;
+            this.compressed = compressed;
+            if (compressed && (start != 0 || end != Long.MAX_VALUE)) {
+                throw new IllegalArgumentException(format("Compressed file %s can only be read as a whole", file));
+            }
+        }
+
+        public File getFile()
+        {
+            return file;
+        }
+
+        public long getStart()
+        {
+            return start;
+        }
+
+        public long getEnd()
+        {
+            return end;
+        }
+
+        public boolean isCompressed()
+        {
+            return compressed;
+        }
+
+        @Override
+        public String toString()
+        {
+            return toStringHelper(this)
+                    .add("file", file)
+                    .add("start", start)
+                    .add("end", end)
+                    .add("compressed", compressed)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.localfile;
+
+import com.google.common.collect.ImmutableList;
+import io.airlift.slice.Slices;
+import io.trino.plugin.localfile.LocalFilePageSource.FileRange;
+import io.trino.spi.HostAddress;
+import io.trino.spi.TrinoException;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.connector.ConnectorPageSourceProvider;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.connector.ConnectorSplit;
+import io.trino.spi.connector.ConnectorTableHandle;
+import io.trino.spi.connector.ConnectorTransactionHandle;
+import io.trino.spi.predicate.Domain;
+import io.trino.spi.predicate.Range;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.predicate.ValueSet;
+import io.trino.spi.type.Type;
+
+import javax.inject.Inject;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.trino.plugin.localfile.LocalFileErrorCode.LOCAL_FILE_READ_ERROR;
+import static io.trino.spi.type.DateTimeEncoding.packDateTimeWithZone;
+import static io.trino.spi.type.TimeZoneKey.UTC_KEY;
+import static java.lang.Math.floorMod;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.zip.GZIPInputStream.GZIP_MAGIC;
+
+public class LocalFilePageSourceProvider
+        implements ConnectorPageSourceProvider
+{
+    // modification times may only have a precision of seconds
+    private static final long MODIFICATION_TIME_PRECISION_MILLIS = SECONDS.toMillis(1);
+
+    private final LocalFileTables localFileTables;
+    private final long maxSplitSize;
+
+    @Inject
+    public LocalFilePageSourceProvider(LocalFileTables localFileTables, LocalFileConfig config)
+    {
+        this.localFileTables = requireNonNull(localFileTables, "localFileTables is null");
+        this.maxSplitSize = config.getMaxSplitSize().toBytes();
+    }
+
+    @Override
+    public ConnectorPageSource createPageSource(
+            ConnectorTransactionHandle transaction,
+            ConnectorSession session,
+            ConnectorSplit split,
+            ConnectorTableHandle table,
+            List<ColumnHandle> columns,
+            TupleDomain<ColumnHandle> dynamicFilter)
+    {
+        LocalFileSplit localFileSplit = (LocalFileSplit) split;
+        LocalFileTableHandle localFileTable = (LocalFileTableHandle) table;
+
+        List<LocalFileColumnHandle> handles = columns.stream()
+                .map(LocalFileColumnHandle.class::cast)
+                .collect(toImmutableList());
+        TupleDomain<LocalFileColumnHandle> predicate = localFileTable.getConstraint()
+                .transform(LocalFileColumnHandle.class::cast);
+
+        List<FileRange> ranges = ImmutableList.of();
+        if (isThisServerIncluded(localFileSplit.getAddress(), predicate, localFileTable)) {
+            ranges = getFileRanges(localFileTables.getFiles(localFileTable.getSchemaTableName()), localFileSplit, localFileTable, predicate);
+        }
+        return new LocalFilePageSource(handles, localFileSplit.getAddress(), ranges);
+    }
+
+    /**
+     * Divides the files of the table into ranges and returns the ones read by the split. Compressed files
+     * are read as a whole, while other files are cut into ranges of the max split size.
+     * <p>
+     * The splits of a query list and measure the files at different times, while the files may still be
+     * written to. The split reading a range therefore depends only on the path of the file and the position
+     * of the range, so that each range is read by exactly one split. Lines that exist when the query starts
+     * are read exactly once, while lines appended later are read only if the split reading their range sees them.
+     * A file that is renamed while the query runs, e.g. by log rotation, may still be read under both names.
+     */
+    private List<FileRange> getFileRanges(List<File> files, LocalFileSplit split, LocalFileTableHandle table, TupleDomain<LocalFileColumnHandle> predicate)
+    {
+        Optional<Domain> timestampDomain = getColumnDomain(predicate, table.getTimestampColumn());
+
+        ImmutableList.Builder<FileRange> ranges = ImmutableList.builder();
+        for (File file : files) {
+            if (timestampDomain.isPresent() && !mayContainMatchingTimestamps(file.lastModified(), timestampDomain.get())) {
+                continue;
+            }
+
+            // the ranges of a file are spread over the splits starting from a split chosen by its path
+            long firstPart = file.getPath().hashCode();
+            if (isGZipped(file)) {
+                if (floorMod(firstPart, split.getTotalParts()) == split.getPartNumber()) {
+                    ranges.add(new FileRange(file, 0, Long.MAX_VALUE, true));
+                }
+                continue;
+            }
+
+            long length = file.length();
+            for (long rangeIndex = 0; rangeIndex == 0 || rangeIndex * maxSplitSize < length; rangeIndex++) {
+                if (floorMod(firstPart + rangeIndex, split.getTotalParts()) == split.getPartNumber()) {
+                    long start = rangeIndex * maxSplitSize;
+                    ranges.add(new FileRange(file, start, start + maxSplitSize, false));
+                }
+            }
+        }
+        return ranges.build();
+    }
+
+    /**
+     * Log lines are written after the time they record, so a file cannot contain timestamps after it was last modified.
+     */
+    private static boolean mayContainMatchingTimestamps(long lastModified, Domain domain)
+    {
+        if (lastModified == 0) {
+            // the modification time is not available
+            return true;
+        }
+        Type type = domain.getType();
+        Domain fileDomain = Domain.create(
+                ValueSet.ofRanges(Range.lessThanOrEqual(type, packDateTimeWithZone(lastModified + MODIFICATION_TIME_PRECISION_MILLIS, UTC_KEY))),
+                true);
+        return domain.overlaps(fileDomain);
+    }
+
+    private static boolean isThisServerIncluded(HostAddress address, TupleDomain<LocalFileColumnHandle> predicate, LocalFileTableHandle table)
+    {
+        Optional<Domain> domain = getColumnDomain(predicate, table.getServerAddressColumn());
+        return domain.isEmpty() || domain.get().includesNullableValue(Slices.utf8Slice(address.toString()));
+    }
+
+    private static Optional<Domain> getColumnDomain(TupleDomain<LocalFileColumnHandle> predicate, OptionalInt ordinalPosition)
+    {
+        if (ordinalPosition.isEmpty() || predicate.getDomains().isEmpty()) {
+            return Optional.empty();
+        }
+        return predicate.getDomains().get().entrySet().stream()
+                .filter(entry -> entry.getKey().getOrdinalPosition() == ordinalPosition.getAsInt())
+                .map(Map.Entry::getValue)
+                .findFirst();
+    }
+
+    private static boolean isGZipped(File file)
+    {
+        try (RandomAccessFile inputFile = new RandomAccessFile(file, "r")) {
+            int magic = inputFile.read() & 0xff | ((inputFile.read() << 8) & 0xff00);
+            return magic == GZIP_MAGIC;
+        }
+        catch (IOException e) {
+            throw new TrinoException(LOCAL_FILE_READ_ERROR, "Error reading file: " + file.getName(), e);
+        }
+    }
+}
@@ -22,17 +22,29 @@ import io.trino.spi.connector.ConnectorSplit;
 import java.util.List;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 public class LocalFileSplit
         implements ConnectorSplit
 {
     private final HostAddress address;
+    private final int partNumber;
+    private final int totalParts;
 
     @JsonCreator
-    public LocalFileSplit(@JsonProperty("address") HostAddress address)
+    public LocalFileSplit(
+            @JsonProperty("address") HostAddress address,
+            @JsonProperty("partNumber") int partNumber,
+            @JsonProperty("totalParts") int totalParts)
     {
+        checkArgument(partNumber >= 0, "partNumber must be >= 0");
+        checkArgument(totalParts >= 1, "totalParts must be >= 1");
+        checkArgument(totalParts > partNumber, "totalParts must be > partNumber");
+
         this.address = requireNonNull(address, "address is null");
+        this.partNumber = partNumber;
+        this.totalParts = totalParts;
     }
 
     @JsonProperty
@@ -41,6 +53,18 @@ public class LocalFileSplit
         return address;
     }
 
+    @JsonProperty
+    public int getPartNumber()
+    {
+        return partNumber;
+    }
+
+    @JsonProperty
+    public int getTotalParts()
+    {
+        return totalParts;
+    }
+
     @Override
     public boolean isRemotelyAccessible()
     {
@@ -64,6 +88,8 @@ public class LocalFileSplit
     {
         return toStringHelper(this)
                 .add("address", address)
+                .add("partNumber", partNumber)
+                .add("totalParts", totalParts)
                 .toString();
     }
 }
@@ -13,6 +13,8 @@
  */
 package io.trino.plugin.localfile;
 
+import com.google.common.collect.ImmutableList;
+import io.trino.spi.Node;
 import io.trino.spi.NodeManager;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplit;
@@ -25,20 +27,19 @@ import io.trino.spi.connector.FixedSplitSource;
 
 import javax.inject.Inject;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 import static java.util.Objects.requireNonNull;
 
 public class LocalFileSplitManager
         implements ConnectorSplitManager
 {
     private final NodeManager nodeManager;
+    private final int splitsPerNode;
 
     @Inject
-    public LocalFileSplitManager(NodeManager nodeManager)
+    public LocalFileSplitManager(NodeManager nodeManager, LocalFileConfig config)
     {
         this.nodeManager = requireNonNull(nodeManager, "nodeManager is null");
+        this.splitsPerNode = config.getSplitsPerNode();
     }
 
     @Override
@@ -49,10 +50,13 @@ public class LocalFileSplitManager
             SplitSchedulingStrategy splitSchedulingStrategy,
             DynamicFilter dynamicFilter)
     {
-        List<ConnectorSplit> splits = nodeManager.getAllNodes().stream()
-                .map(node -> new LocalFileSplit(node.getHostAndPort()))
-                .collect(Collectors.toList());
-
-        return new FixedSplitSource(splits);
+        // the files are only visible to the node that owns them, so each node divides its own files between its splits
+        ImmutableList.Builder<ConnectorSplit> splits = ImmutableList.builder();
+        for (Node node : nodeManager.getAllNodes()) {
+            for (int part = 0; part < splitsPerNode; part++) {
+                splits.add(new LocalFileSplit(node.getHostAndPort(), part, splitsPerNode));
+            }
+        }
+        return new FixedSplitSource(splits.build());
     }
 }
@@ -14,6 +14,7 @@
 package io.trino.plugin.localfile;
 
 import com.google.common.collect.ImmutableMap;
+import io.airlift.units.DataSize;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -24,6 +25,7 @@ import java.util.Map;
 import static io.airlift.configuration.testing.ConfigAssertions.assertFullMapping;
 import static io.airlift.configuration.testing.ConfigAssertions.assertRecordedDefaults;
 import static io.airlift.configuration.testing.ConfigAssertions.recordDefaults;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
 
 public class TestLocalFileConfig
 {
@@ -32,7 +34,9 @@ public class TestLocalFileConfig
     {
         assertRecordedDefaults(recordDefaults(LocalFileConfig.class)
                 .setHttpRequestLogLocation("var/log/http-request.log")
-                .setHttpRequestLogFileNamePattern(null));
+                .setHttpRequestLogFileNamePattern(null)
+                .setSplitsPerNode(Runtime.getRuntime().availableProcessors())
+                .setMaxSplitSize(DataSize.of(64, MEGABYTE)));
     }
 
     @Test
@@ -44,11 +48,15 @@ public class TestLocalFileConfig
         Map<String, String> properties = new ImmutableMap.Builder<String, String>()
                 .put("trino-logs.http-request-log.location", httpRequestLogFile.toString())
                 .put("trino-logs.http-request-log.pattern", "bar")
+                .put("trino-logs.splits-per-node", "3")
+                .put("trino-logs.max-split-size", "1MB")
                 .build();
 
         LocalFileConfig expected = new LocalFileConfig()
                 .setHttpRequestLogLocation(httpRequestLogFile.toString())
-                .setHttpRequestLogFileNamePattern("bar");
+                .setHttpRequestLogFileNamePattern("bar")
+                .setSplitsPerNode(3)
+                .setMaxSplitSize(DataSize.of(1, MEGABYTE));
 
         assertFullMapping(properties, expected);
     }
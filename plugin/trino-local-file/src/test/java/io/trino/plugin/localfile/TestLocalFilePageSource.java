@@ -0,0 +1,294 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.localfile;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.airlift.units.DataSize;
+import io.trino.spi.HostAddress;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.predicate.Domain;
+import io.trino.spi.predicate.Range;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.predicate.ValueSet;
+import io.trino.spi.type.Type;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.google.common.io.MoreFiles.deleteRecursively;
+import static com.google.common.io.RecursiveDeleteOption.ALLOW_INSECURE;
+import static io.airlift.units.DataSize.Unit.KILOBYTE;
+import static io.trino.plugin.localfile.LocalFileTables.HttpRequestLogTable.getSchemaTableName;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.DateTimeEncoding.packDateTimeWithZone;
+import static io.trino.spi.type.TimeZoneKey.UTC_KEY;
+import static io.trino.spi.type.TimestampWithTimeZoneType.createTimestampWithTimeZoneType;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static io.trino.testing.TestingConnectorSession.SESSION;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TestLocalFilePageSource
+{
+    private static final HostAddress address = HostAddress.fromParts("localhost", 1234);
+
+    @Test
+    public void testSimplePageSource()
+    {
+        String location = "example-data";
+        LocalFileConfig config = new LocalFileConfig().setHttpRequestLogLocation(getResourceFilePath(location));
+        LocalFileTables localFileTables = new LocalFileTables(config);
+        LocalFileMetadata metadata = new LocalFileMetadata(localFileTables);
+
+        assertData(localFileTables, metadata, config);
+    }
+
+    @Test
+    public void testGzippedData()
+    {
+        String location = "example-gzipped-data";
+        LocalFileConfig config = new LocalFileConfig().setHttpRequestLogLocation(getResourceFilePath(location));
+        LocalFileTables localFileTables = new LocalFileTables(config);
+        LocalFileMetadata metadata = new LocalFileMetadata(localFileTables);
+
+        assertData(localFileTables, metadata, config);
+    }
+
+    @Test
+    public void testSplitRanges()
+            throws IOException
+    {
+        Path directory = Files.createTempDirectory("local-file");
+        try {
+            // lines of varying length, so that range boundaries fall at the start, in the middle and at the end of lines
+            StringBuilder data = new StringBuilder();
+            for (int i = 0; i < 1000; i++) {
+                data.append("2016-05-02T10:35:17.424-07:00\t127.0.0.1\tGET\t/v1/").append("x".repeat(i % 37))
+                        .append("\tnull\tnull\t200\t0\t").append(i).append("\t10\tnull\n");
+            }
+            Files.write(directory.resolve("http-request.log"), data.toString().getBytes(UTF_8));
+
+            LocalFileConfig config = new LocalFileConfig()
+                    .setHttpRequestLogLocation(directory.toString())
+                    .setHttpRequestLogFileNamePattern("*.log")
+                    .setMaxSplitSize(DataSize.of(1, KILOBYTE));
+            LocalFileTables localFileTables = new LocalFileTables(config);
+            LocalFilePageSourceProvider pageSourceProvider = new LocalFilePageSourceProvider(localFileTables, config);
+            LocalFileTableHandle tableHandle = new LocalFileTableHandle(getSchemaTableName(), OptionalInt.of(0), OptionalInt.of(-1));
+            List<ColumnHandle> columns = ImmutableList.of(new LocalFileColumnHandle("response_size", BIGINT, 8));
+
+            List<Long> values = new ArrayList<>();
+            for (int part = 0; part < 3; part++) {
+                LocalFileSplit split = new LocalFileSplit(address, part, 3);
+                for (List<Object> row : readRows(pageSourceProvider.createPageSource(null, SESSION, split, tableHandle, columns, TupleDomain.all()), ImmutableList.of(BIGINT))) {
+                    values.add((Long) row.get(0));
+                }
+            }
+            values.sort(Long::compare);
+
+            List<Long> expected = new ArrayList<>();
+            for (long i = 0; i < 1000; i++) {
+                expected.add(i);
+            }
+            assertEquals(values, expected);
+        }
+        finally {
+            deleteRecursively(directory, ALLOW_INSECURE);
+        }
+    }
+
+    @Test
+    public void testFileGrowsBetweenSplits()
+            throws IOException
+    {
+        Path directory = Files.createTempDirectory("local-file");
+        try {
+            Path file = directory.resolve("http-request.log");
+            Files.write(file, logLines(0, 100).getBytes(UTF_8));
+
+            LocalFileConfig config = new LocalFileConfig()
+                    .setHttpRequestLogLocation(directory.toString())
+                    .setHttpRequestLogFileNamePattern("*.log")
+                    .setMaxSplitSize(DataSize.of(1, KILOBYTE));
+            LocalFileTableHandle tableHandle = new LocalFileTableHandle(getSchemaTableName(), OptionalInt.of(0), OptionalInt.of(-1));
+            List<ColumnHandle> columns = ImmutableList.of(new LocalFileColumnHandle("response_size", BIGINT, 8));
+
+            List<ConnectorPageSource> pageSources = new ArrayList<>();
+            for (int part = 0; part < 3; part++) {
+                // the splits do not share any state, each one lists the files anew
+                LocalFilePageSourceProvider pageSourceProvider = new LocalFilePageSourceProvider(new LocalFileTables(config), config);
+                pageSources.add(pageSourceProvider.createPageSource(null, SESSION, new LocalFileSplit(address, part, 3), tableHandle, columns, TupleDomain.all()));
+                // the file grows by several ranges while the splits of the query are started
+                Files.write(file, logLines(100 * (part + 1), 100).getBytes(UTF_8), APPEND);
+            }
+
+            List<Long> values = new ArrayList<>();
+            for (ConnectorPageSource pageSource : pageSources) {
+                for (List<Object> row : readRows(pageSource, ImmutableList.of(BIGINT))) {
+                    values.add((Long) row.get(0));
+                }
+            }
+
+            // the lines written before the query started are read, and no line is read twice
+            assertEquals(ImmutableSet.copyOf(values).size(), values.size());
+            assertTrue(values.containsAll(LongStream.range(0, 100).boxed().collect(Collectors.toList())));
+            assertTrue(values.stream().allMatch(value -> value < 400));
+        }
+        finally {
+            deleteRecursively(directory, ALLOW_INSECURE);
+        }
+    }
+
+    @Test
+    public void testTimestampPredicateSkipsFiles()
+            throws IOException
+    {
+        Path directory = Files.createTempDirectory("local-file");
+        try {
+            File file = directory.resolve("http-request.log").toFile();
+            Files.write(file.toPath(), "2016-05-02T10:35:17.424-07:00\t127.0.0.1\tGET\t/v1/info\tnull\tnull\t200\t0\t1\t10\tnull\n".getBytes(UTF_8));
+            long lastModified = 1_500_000_000_000L;
+            assertTrue(file.setLastModified(lastModified));
+
+            LocalFileConfig config = new LocalFileConfig()
+                    .setHttpRequestLogLocation(directory.toString())
+                    .setHttpRequestLogFileNamePattern("*.log");
+            LocalFileTables localFileTables = new LocalFileTables(config);
+            LocalFilePageSourceProvider pageSourceProvider = new LocalFilePageSourceProvider(localFileTables, config);
+            LocalFileSplit split = new LocalFileSplit(address, 0, 1);
+
+            Type timestampType = createTimestampWithTimeZoneType(3);
+            LocalFileColumnHandle timestampColumn = new LocalFileColumnHandle("timestamp", timestampType, 0);
+            List<ColumnHandle> columns = ImmutableList.of(new LocalFileColumnHandle("response_size", BIGINT, 8));
+
+            TupleDomain<ColumnHandle> before = timestampConstraint(timestampColumn, Range.lessThan(timestampType, packDateTimeWithZone(lastModified, UTC_KEY)));
+            LocalFileTableHandle tableHandle = new LocalFileTableHandle(getSchemaTableName(), OptionalInt.of(0), OptionalInt.of(-1), before);
+            assertEquals(readRows(pageSourceProvider.createPageSource(null, SESSION, split, tableHandle, columns, TupleDomain.all()), ImmutableList.of(BIGINT)).size(), 1);
+
+            // the file was last written before the constrained range starts
+            TupleDomain<ColumnHandle> after = timestampConstraint(timestampColumn, Range.greaterThan(timestampType, packDateTimeWithZone(lastModified + 60_000, UTC_KEY)));
+            tableHandle = new LocalFileTableHandle(getSchemaTableName(), OptionalInt.of(0), OptionalInt.of(-1), after);
+            assertEquals(readRows(pageSourceProvider.createPageSource(null, SESSION, split, tableHandle, columns, TupleDomain.all()), ImmutableList.of(BIGINT)).size(), 0);
+        }
+        finally {
+            deleteRecursively(directory, ALLOW_INSECURE);
+        }
+    }
+
+    private static TupleDomain<ColumnHandle> timestampConstraint(LocalFileColumnHandle timestampColumn, Range range)
+    {
+        return TupleDomain.withColumnDomains(ImmutableMap.of(timestampColumn, Domain.create(ValueSet.ofRanges(range), false)));
+    }
+
+    private static String logLines(int start, int count)
+    {
+        StringBuilder data = new StringBuilder();
+        for (int i = start; i < start + count; i++) {
+            data.append("2016-05-02T10:35:17.424-07:00\t127.0.0.1\tGET\t/v1/info\tnull\tnull\t200\t0\t").append(i).append("\t10\tnull\n");
+        }
+        return data.toString();
+    }
+
+    private static void assertData(LocalFileTables localFileTables, LocalFileMetadata metadata, LocalFileConfig config)
+    {
+        LocalFileTableHandle tableHandle = new LocalFileTableHandle(getSchemaTableName(), OptionalInt.of(0), OptionalInt.of(-1));
+        List<ColumnHandle> columnHandles = ImmutableList.copyOf(metadata.getColumnHandles(SESSION, tableHandle).values());
+        List<Type> types = columnHandles.stream()
+                .map(column -> ((LocalFileColumnHandle) column).getColumnType())
+                .collect(Collectors.toList());
+
+        LocalFileSplit split = new LocalFileSplit(address, 0, 1);
+        ConnectorPageSource pageSource = new LocalFilePageSourceProvider(localFileTables, config)
+                .createPageSource(null, SESSION, split, tableHandle, columnHandles, TupleDomain.all());
+        List<List<Object>> rows = readRows(pageSource, types);
+
+        // test one row
+        List<Object> row = rows.get(0);
+        assertEquals(row.get(0), address.toString());
+        assertEquals(row.get(2), "127.0.0.1");
+        assertEquals(row.get(3), "POST");
+        assertEquals(row.get(4), "/v1/memory");
+        assertEquals(row.get(5), null);
+        assertEquals(row.get(6), null);
+        assertEquals(row.get(7), 200L);
+        assertEquals(row.get(8), 0L);
+        assertEquals(row.get(9), 1000L);
+        assertEquals(row.get(10), 10L);
+        assertEquals(row.get(11), null);
+
+        row = rows.get(1);
+        assertEquals(row.get(0), address.toString());
+        assertEquals(row.get(2), "127.0.0.1");
+        assertEquals(row.get(3), "GET");
+        assertEquals(row.get(4), "/v1/service/presto/general");
+        assertEquals(row.get(5), "foo");
+        assertEquals(row.get(6), "ffffffff-ffff-ffff-ffff-ffffffffffff");
+        assertEquals(row.get(7), 200L);
+        assertEquals(row.get(8), 0L);
+        assertEquals(row.get(9), 37L);
+        assertEquals(row.get(10), 1094L);
+        assertEquals(row.get(11), "a7229d56-5cbd-4e23-81ff-312ba6be0f12");
+    }
+
+    private static List<List<Object>> readRows(ConnectorPageSource pageSource, List<Type> types)
+    {
+        List<List<Object>> rows = new ArrayList<>();
+        while (!pageSource.isFinished()) {
+            Page page = pageSource.getNextPage();
+            if (page == null) {
+                continue;
+            }
+            for (int position = 0; position < page.getPositionCount(); position++) {
+                List<Object> row = new ArrayList<>();
+                for (int channel = 0; channel < types.size(); channel++) {
+                    row.add(getValue(page.getBlock(channel), types.get(channel), position));
+                }
+                rows.add(row);
+            }
+        }
+        pageSource.close();
+        return rows;
+    }
+
+    private static Object getValue(Block block, Type type, int position)
+    {
+        if (block.isNull(position)) {
+            return null;
+        }
+        if (type.equals(VARCHAR)) {
+            return type.getSlice(block, position).toStringUtf8();
+        }
+        return type.getLong(block, position);
+    }
+
+    private String getResourceFilePath(String fileName)
+    {
+        return this.getClass().getClassLoader().getResource(fileName).getPath();
+    }
+}
@@ -24,7 +24,7 @@ import static org.testng.Assert.assertEquals;
 public class TestLocalFileSplit
 {
     private final HostAddress address = HostAddress.fromParts("localhost", 1234);
-    private final LocalFileSplit split = new LocalFileSplit(address);
+    private final LocalFileSplit split = new LocalFileSplit(address, 1, 3);
 
     @Test
     public void testJsonRoundTrip()
@@ -34,6 +34,8 @@ public class TestLocalFileSplit
         LocalFileSplit copy = codec.fromJson(json);
 
         assertEquals(copy.getAddress(), split.getAddress());
+        assertEquals(copy.getPartNumber(), split.getPartNumber());
+        assertEquals(copy.getTotalParts(), split.getTotalParts());
 
         assertEquals(copy.getAddresses(), ImmutableList.of(address));
         assertEquals(copy.isRemotelyAccessible(), false);
@@ -0,0 +1,133 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.memory;
+
+import io.airlift.slice.Slice;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.block.DictionaryBlock;
+import io.trino.spi.block.RunLengthEncodedBlock;
+import io.trino.spi.type.FixedWidthType;
+import io.trino.spi.type.Type;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Re-encodes the columns of stored pages to use less memory: columns holding a single value are run-length encoded,
+ * and variable width columns with few distinct values are dictionary encoded.
+ */
+final class ColumnCompression
+{
+    private ColumnCompression() {}
+
+    public static Page compress(List<Type> columnTypes, Page page)
+    {
+        Block[] blocks = new Block[page.getChannelCount()];
+        for (int channel = 0; channel < blocks.length; channel++) {
+            blocks[channel] = compress(columnTypes.get(channel), page.getBlock(channel));
+        }
+        return new Page(page.getPositionCount(), blocks);
+    }
+
+    private static Block compress(Type type, Block block)
+    {
+        if (block.getPositionCount() < 2 || block instanceof RunLengthEncodedBlock || block instanceof DictionaryBlock) {
+            return block;
+        }
+        Class<?> javaType = type.getJavaType();
+        if (javaType != boolean.class && javaType != long.class && javaType != double.class && javaType != Slice.class) {
+            return block;
+        }
+
+        if (isSingleValue(type, block)) {
+            return new RunLengthEncodedBlock(block.getSingleValueBlock(0), block.getPositionCount());
+        }
+        if (javaType == Slice.class && !(type instanceof FixedWidthType)) {
+            return dictionaryEncode(type, block);
+        }
+        return block;
+    }
+
+    private static boolean isSingleValue(Type type, Block block)
+    {
+        boolean firstIsNull = block.isNull(0);
+        Object first = firstIsNull ? null : readValue(type, block, 0);
+        for (int position = 1; position < block.getPositionCount(); position++) {
+            if (block.isNull(position) != firstIsNull) {
+                return false;
+            }
+            if (!firstIsNull && !Objects.equals(first, readValue(type, block, position))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Block dictionaryEncode(Type type, Block block)
+    {
+        int positionCount = block.getPositionCount();
+        // the dictionary must save at least half of the values to be worth the ids
+        int maxDictionarySize = positionCount / 2;
+
+        Map<Slice, Integer> dictionaryIds = new HashMap<>();
+        BlockBuilder dictionary = type.createBlockBuilder(null, maxDictionarySize);
+        int nullId = -1;
+        int[] ids = new int[positionCount];
+        for (int position = 0; position < positionCount; position++) {
+            if (block.isNull(position)) {
+                if (nullId < 0) {
+                    nullId = dictionary.getPositionCount();
+                    dictionary.appendNull();
+                }
+                ids[position] = nullId;
+            }
+            else {
+                Slice value = type.getSlice(block, position);
+                Integer id = dictionaryIds.get(value);
+                if (id == null) {
+                    id = dictionary.getPositionCount();
+                    dictionaryIds.put(value, id);
+                    type.appendTo(block, position, dictionary);
+                }
+                ids[position] = id;
+            }
+            if (dictionary.getPositionCount() > maxDictionarySize) {
+                return block;
+            }
+        }
+
+        Block encoded = new DictionaryBlock(dictionary.build(), ids);
+        return encoded.getRetainedSizeInBytes() < block.getRetainedSizeInBytes() ? encoded : block;
+    }
+
+    private static Object readValue(Type type, Block block, int position)
+    {
+        Class<?> javaType = type.getJavaType();
+        if (javaType == boolean.class) {
+            return type.getBoolean(block, position);
+        }
+        if (javaType == long.class) {
+            return type.getLong(block, position);
+        }
+        if (javaType == double.class) {
+            // compare the bits, so that distinct NaN and zero values are kept apart
+            return Double.doubleToRawLongBits(type.getDouble(block, position));
+        }
+        return type.getSlice(block, position);
+    }
+}
@@ -42,6 +42,11 @@ public class ColumnInfo
         return name;
     }
 
+    public Type getType()
+    {
+        return type;
+    }
+
     public ColumnMetadata getMetadata()
     {
         return new ColumnMetadata(name, type);
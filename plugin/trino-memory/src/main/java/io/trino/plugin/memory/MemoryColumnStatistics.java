@@ -0,0 +1,270 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.memory;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.airlift.slice.Slice;
+import io.airlift.stats.cardinality.HyperLogLog;
+import io.trino.spi.block.Block;
+import io.trino.spi.statistics.ColumnStatistics;
+import io.trino.spi.statistics.DoubleRange;
+import io.trino.spi.statistics.Estimate;
+import io.trino.spi.type.DecimalType;
+import io.trino.spi.type.FixedWidthType;
+import io.trino.spi.type.Type;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.DoubleBinaryOperator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.airlift.slice.Slices.wrappedBuffer;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.DateType.DATE;
+import static io.trino.spi.type.DoubleType.DOUBLE;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.RealType.REAL;
+import static io.trino.spi.type.SmallintType.SMALLINT;
+import static io.trino.spi.type.TinyintType.TINYINT;
+import static java.lang.Float.intBitsToFloat;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.pow;
+import static java.lang.Math.toIntExact;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Statistics of a column collected by the page sinks of a worker. They are reported to the coordinator
+ * in {@link MemoryDataFragment}s, so every field can be merged with the statistics of other writers.
+ */
+public class MemoryColumnStatistics
+{
+    private static final int HYPER_LOG_LOG_BUCKETS = 2048;
+
+    private final long nullsCount;
+    private final long dataSize;
+    private final OptionalDouble min;
+    private final OptionalDouble max;
+    private final Optional<byte[]> distinctValues;
+
+    @JsonCreator
+    public MemoryColumnStatistics(
+            @JsonProperty("nullsCount") long nullsCount,
+            @JsonProperty("dataSize") long dataSize,
+            @JsonProperty("min") OptionalDouble min,
+            @JsonProperty("max") OptionalDouble max,
+            @JsonProperty("distinctValues") Optional<byte[]> distinctValues)
+    {
+        checkArgument(nullsCount >= 0, "nullsCount is negative");
+        checkArgument(dataSize >= 0, "dataSize is negative");
+        this.nullsCount = nullsCount;
+        this.dataSize = dataSize;
+        this.min = requireNonNull(min, "min is null");
+        this.max = requireNonNull(max, "max is null");
+        this.distinctValues = requireNonNull(distinctValues, "distinctValues is null");
+    }
+
+    @JsonProperty
+    public long getNullsCount()
+    {
+        return nullsCount;
+    }
+
+    @JsonProperty
+    public long getDataSize()
+    {
+        return dataSize;
+    }
+
+    @JsonProperty
+    public OptionalDouble getMin()
+    {
+        return min;
+    }
+
+    @JsonProperty
+    public OptionalDouble getMax()
+    {
+        return max;
+    }
+
+    /**
+     * Serialized {@link HyperLogLog} of the non-null values, present for the types the sinks can hash.
+     */
+    @JsonProperty
+    public Optional<byte[]> getDistinctValues()
+    {
+        return distinctValues;
+    }
+
+    public ColumnStatistics toColumnStatistics(Type type, long rowCount)
+    {
+        ColumnStatistics.Builder builder = ColumnStatistics.builder();
+        if (rowCount == 0) {
+            return builder
+                    .setNullsFraction(Estimate.zero())
+                    .setDistinctValuesCount(Estimate.zero())
+                    .setDataSize(Estimate.zero())
+                    .build();
+        }
+
+        long nonNullsCount = rowCount - nullsCount;
+        builder.setNullsFraction(Estimate.of((double) nullsCount / rowCount));
+        distinctValues.ifPresent(serialized -> builder.setDistinctValuesCount(
+                Estimate.of(min(HyperLogLog.newInstance(wrappedBuffer(serialized)).cardinality(), nonNullsCount))));
+        if (isVariableWidth(type)) {
+            builder.setDataSize(Estimate.of(dataSize));
+        }
+        if (min.isPresent() && max.isPresent()) {
+            builder.setRange(new DoubleRange(min.getAsDouble(), max.getAsDouble()));
+        }
+        return builder.build();
+    }
+
+    public static MemoryColumnStatistics merge(MemoryColumnStatistics a, MemoryColumnStatistics b)
+    {
+        return new MemoryColumnStatistics(
+                a.nullsCount + b.nullsCount,
+                a.dataSize + b.dataSize,
+                mergeDouble(a.min, b.min, Math::min),
+                mergeDouble(a.max, b.max, Math::max),
+                a.distinctValues.flatMap(first -> b.distinctValues.map(second -> {
+                    HyperLogLog merged = HyperLogLog.newInstance(wrappedBuffer(first));
+                    merged.mergeWith(HyperLogLog.newInstance(wrappedBuffer(second)));
+                    return merged.serialize().getBytes();
+                })));
+    }
+
+    private static OptionalDouble mergeDouble(OptionalDouble a, OptionalDouble b, DoubleBinaryOperator operator)
+    {
+        if (a.isEmpty()) {
+            return b;
+        }
+        if (b.isEmpty()) {
+            return a;
+        }
+        return OptionalDouble.of(operator.applyAsDouble(a.getAsDouble(), b.getAsDouble()));
+    }
+
+    private static boolean isVariableWidth(Type type)
+    {
+        return type.getJavaType() == Slice.class && !(type instanceof FixedWidthType);
+    }
+
+    /**
+     * Collects the statistics of the values a page sink writes to a column.
+     */
+    public static class Collector
+    {
+        private final Type type;
+        private final Optional<HyperLogLog> distinctValues;
+        private final boolean collectRange;
+        private long nullsCount;
+        private long dataSize;
+        private double min = Double.NaN;
+        private double max = Double.NaN;
+
+        public Collector(Type type)
+        {
+            this.type = requireNonNull(type, "type is null");
+            this.distinctValues = isHashable(type) ? Optional.of(HyperLogLog.newInstance(HYPER_LOG_LOG_BUCKETS)) : Optional.empty();
+            this.collectRange = hasDoubleRepresentation(type);
+        }
+
+        public void add(Block block)
+        {
+            for (int position = 0; position < block.getPositionCount(); position++) {
+                if (block.isNull(position)) {
+                    nullsCount++;
+                    continue;
+                }
+                if (isVariableWidth(type)) {
+                    dataSize += block.getSliceLength(position);
+                }
+                if (distinctValues.isPresent()) {
+                    addDistinctValue(distinctValues.get(), block, position);
+                }
+                if (collectRange) {
+                    double value = toDouble(block, position);
+                    // NaN is not part of the range
+                    if (!Double.isNaN(value)) {
+                        min = Double.isNaN(min) ? value : min(min, value);
+                        max = Double.isNaN(max) ? value : max(max, value);
+                    }
+                }
+            }
+        }
+
+        public MemoryColumnStatistics build()
+        {
+            return new MemoryColumnStatistics(
+                    nullsCount,
+                    dataSize,
+                    Double.isNaN(min) ? OptionalDouble.empty() : OptionalDouble.of(min),
+                    Double.isNaN(max) ? OptionalDouble.empty() : OptionalDouble.of(max),
+                    distinctValues.map(hyperLogLog -> hyperLogLog.serialize().getBytes()));
+        }
+
+        private void addDistinctValue(HyperLogLog hyperLogLog, Block block, int position)
+        {
+            Class<?> javaType = type.getJavaType();
+            if (javaType == long.class) {
+                hyperLogLog.add(type.getLong(block, position));
+            }
+            else if (javaType == double.class) {
+                hyperLogLog.add(Double.doubleToLongBits(type.getDouble(block, position)));
+            }
+            else if (javaType == boolean.class) {
+                hyperLogLog.add(type.getBoolean(block, position) ? 1 : 0);
+            }
+            else {
+                hyperLogLog.add(type.getSlice(block, position));
+            }
+        }
+
+        private double toDouble(Block block, int position)
+        {
+            if (type == REAL) {
+                return intBitsToFloat(toIntExact(type.getLong(block, position)));
+            }
+            if (type == DOUBLE) {
+                return type.getDouble(block, position);
+            }
+            if (type instanceof DecimalType) {
+                return type.getLong(block, position) / pow(10, ((DecimalType) type).getScale());
+            }
+            return type.getLong(block, position);
+        }
+
+        private static boolean isHashable(Type type)
+        {
+            Class<?> javaType = type.getJavaType();
+            // structural types are stored as blocks, and long decimals or timestamps as objects
+            return javaType == long.class || javaType == double.class || javaType == boolean.class || javaType == Slice.class;
+        }
+
+        private static boolean hasDoubleRepresentation(Type type)
+        {
+            return type == TINYINT ||
+                    type == SMALLINT ||
+                    type == INTEGER ||
+                    type == BIGINT ||
+                    type == DATE ||
+                    type == REAL ||
+                    type == DOUBLE ||
+                    (type instanceof DecimalType && ((DecimalType) type).isShort());
+        }
+    }
+}
@@ -23,6 +23,7 @@ public class MemoryConfig
     private int splitsPerNode = Runtime.getRuntime().availableProcessors();
     private DataSize maxDataPerNode = DataSize.of(128, DataSize.Unit.MEGABYTE);
     private boolean enableLazyDynamicFiltering = true;
+    private boolean enableCompression;
 
     @NotNull
     public int getSplitsPerNode()
@@ -61,4 +62,16 @@ public class MemoryConfig
         this.enableLazyDynamicFiltering = enableLazyDynamicFiltering;
         return this;
     }
+
+    public boolean isEnableCompression()
+    {
+        return enableCompression;
+    }
+
+    @Config("memory.enable-compression")
+    public MemoryConfig setEnableCompression(boolean enableCompression)
+    {
+        this.enableCompression = enableCompression;
+        return this;
+    }
 }
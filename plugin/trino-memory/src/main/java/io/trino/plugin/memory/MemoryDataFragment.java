@@ -15,11 +15,14 @@ package io.trino.plugin.memory;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
 import io.airlift.json.JsonCodec;
 import io.airlift.slice.Slice;
 import io.airlift.slice.Slices;
 import io.trino.spi.HostAddress;
 
+import java.util.List;
+
 import static com.google.common.base.Preconditions.checkArgument;
 import static io.airlift.json.JsonCodec.jsonCodec;
 import static java.util.Objects.requireNonNull;
@@ -30,15 +33,18 @@ public class MemoryDataFragment
 
     private final HostAddress hostAddress;
     private final long rows;
+    private final List<MemoryColumnStatistics> columnStatistics;
 
     @JsonCreator
     public MemoryDataFragment(
             @JsonProperty("hostAddress") HostAddress hostAddress,
-            @JsonProperty("rows") long rows)
+            @JsonProperty("rows") long rows,
+            @JsonProperty("columnStatistics") List<MemoryColumnStatistics> columnStatistics)
     {
         this.hostAddress = requireNonNull(hostAddress, "hostAddress is null");
         checkArgument(rows >= 0, "Rows number cannot be negative");
         this.rows = rows;
+        this.columnStatistics = ImmutableList.copyOf(requireNonNull(columnStatistics, "columnStatistics is null"));
     }
 
     @JsonProperty
@@ -53,6 +59,12 @@ public class MemoryDataFragment
         return rows;
     }
 
+    @JsonProperty
+    public List<MemoryColumnStatistics> getColumnStatistics()
+    {
+        return columnStatistics;
+    }
+
     public Slice toSlice()
     {
         return Slices.wrappedBuffer(MEMORY_DATA_FRAGMENT_CODEC.toJsonBytes(this));
@@ -66,6 +78,22 @@ public class MemoryDataFragment
     public static MemoryDataFragment merge(MemoryDataFragment a, MemoryDataFragment b)
     {
         checkArgument(a.getHostAddress().equals(b.getHostAddress()), "Cannot merge fragments from different hosts");
-        return new MemoryDataFragment(a.getHostAddress(), a.getRows() + b.getRows());
+        return new MemoryDataFragment(a.getHostAddress(), a.getRows() + b.getRows(), mergeColumnStatistics(a.getColumnStatistics(), b.getColumnStatistics()));
+    }
+
+    public static List<MemoryColumnStatistics> mergeColumnStatistics(List<MemoryColumnStatistics> a, List<MemoryColumnStatistics> b)
+    {
+        if (a.isEmpty()) {
+            return b;
+        }
+        if (b.isEmpty()) {
+            return a;
+        }
+        checkArgument(a.size() == b.size(), "Cannot merge statistics of different columns");
+        ImmutableList.Builder<MemoryColumnStatistics> merged = ImmutableList.builder();
+        for (int i = 0; i < a.size(); i++) {
+            merged.add(MemoryColumnStatistics.merge(a.get(i), b.get(i)));
+        }
+        return merged.build();
     }
 }
@@ -15,8 +15,11 @@ package io.trino.plugin.memory;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
 import io.trino.spi.connector.ConnectorInsertTableHandle;
+import io.trino.spi.type.Type;
 
+import java.util.List;
 import java.util.Set;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
@@ -27,14 +30,17 @@ public class MemoryInsertTableHandle
 {
     private final long table;
     private final Set<Long> activeTableIds;
+    private final List<Type> columnTypes;
 
     @JsonCreator
     public MemoryInsertTableHandle(
             @JsonProperty("table") long table,
-            @JsonProperty("activeTableIds") Set<Long> activeTableIds)
+            @JsonProperty("activeTableIds") Set<Long> activeTableIds,
+            @JsonProperty("columnTypes") List<Type> columnTypes)
     {
         this.table = requireNonNull(table, "table is null");
         this.activeTableIds = requireNonNull(activeTableIds, "activeTableIds is null");
+        this.columnTypes = ImmutableList.copyOf(requireNonNull(columnTypes, "columnTypes is null"));
     }
 
     @JsonProperty
@@ -49,6 +55,12 @@ public class MemoryInsertTableHandle
         return activeTableIds;
     }
 
+    @JsonProperty
+    public List<Type> getColumnTypes()
+    {
+        return columnTypes;
+    }
+
     @Override
     public String toString()
     {
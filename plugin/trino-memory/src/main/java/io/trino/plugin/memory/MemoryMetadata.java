@@ -35,14 +35,19 @@ import io.trino.spi.connector.ConnectorTableHandle;
 import io.trino.spi.connector.ConnectorTableMetadata;
 import io.trino.spi.connector.ConnectorTableProperties;
 import io.trino.spi.connector.ConnectorViewDefinition;
+import io.trino.spi.connector.Constraint;
+import io.trino.spi.connector.ConstraintApplicationResult;
 import io.trino.spi.connector.LimitApplicationResult;
 import io.trino.spi.connector.SampleType;
 import io.trino.spi.connector.SchemaNotFoundException;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.connector.SchemaTablePrefix;
 import io.trino.spi.connector.ViewNotFoundException;
+import io.trino.spi.predicate.TupleDomain;
 import io.trino.spi.security.TrinoPrincipal;
 import io.trino.spi.statistics.ComputedStatistics;
+import io.trino.spi.statistics.Estimate;
+import io.trino.spi.statistics.TableStatistics;
 
 import javax.annotation.concurrent.ThreadSafe;
 import javax.inject.Inject;
@@ -250,7 +255,12 @@ public class MemoryMetadata
                 columns.build(),
                 new HashMap<>()));
 
-        return new MemoryOutputTableHandle(tableId, ImmutableSet.copyOf(tableIds.values()));
+        return new MemoryOutputTableHandle(
+                tableId,
+                ImmutableSet.copyOf(tableIds.values()),
+                tableMetadata.getColumns().stream()
+                        .map(ColumnMetadata::getType)
+                        .collect(toImmutableList()));
     }
 
     private void checkSchemaExists(String schemaName)
@@ -284,7 +294,12 @@ public class MemoryMetadata
     public synchronized MemoryInsertTableHandle beginInsert(ConnectorSession session, ConnectorTableHandle tableHandle, List<ColumnHandle> columns)
     {
         MemoryTableHandle memoryTableHandle = (MemoryTableHandle) tableHandle;
-        return new MemoryInsertTableHandle(memoryTableHandle.getId(), ImmutableSet.copyOf(tableIds.values()));
+        return new MemoryInsertTableHandle(
+                memoryTableHandle.getId(),
+                ImmutableSet.copyOf(tableIds.values()),
+                tables.get(memoryTableHandle.getId()).getColumns().stream()
+                        .map(ColumnInfo::getType)
+                        .collect(toImmutableList()));
     }
 
     @Override
@@ -402,7 +417,7 @@ public class MemoryMetadata
         }
 
         return Optional.of(new LimitApplicationResult<>(
-                new MemoryTableHandle(table.getId(), OptionalLong.of(limit), OptionalDouble.empty()),
+                new MemoryTableHandle(table.getId(), OptionalLong.of(limit), OptionalDouble.empty(), table.getConstraint()),
                 true));
     }
 
@@ -415,6 +430,54 @@ public class MemoryMetadata
             return Optional.empty();
         }
 
-        return Optional.of(new MemoryTableHandle(table.getId(), table.getLimit(), OptionalDouble.of(table.getSampleRatio().orElse(1) * sampleRatio)));
+        return Optional.of(new MemoryTableHandle(table.getId(), table.getLimit(), OptionalDouble.of(table.getSampleRatio().orElse(1) * sampleRatio), table.getConstraint()));
+    }
+
+    @Override
+    public Optional<ConstraintApplicationResult<ConnectorTableHandle>> applyFilter(ConnectorSession session, ConnectorTableHandle handle, Constraint constraint)
+    {
+        MemoryTableHandle table = (MemoryTableHandle) handle;
+
+        if (table.getLimit().isPresent()) {
+            // the limit must be applied before the filter
+            return Optional.empty();
+        }
+
+        TupleDomain<ColumnHandle> newConstraint = table.getConstraint().intersect(constraint.getSummary());
+        if (newConstraint.equals(table.getConstraint())) {
+            return Optional.empty();
+        }
+
+        // the constraint only prunes pages, so the engine still filters the rows
+        return Optional.of(new ConstraintApplicationResult<>(
+                new MemoryTableHandle(table.getId(), table.getLimit(), table.getSampleRatio(), newConstraint),
+                constraint.getSummary()));
+    }
+
+    @Override
+    public synchronized TableStatistics getTableStatistics(ConnectorSession session, ConnectorTableHandle tableHandle, Constraint constraint)
+    {
+        MemoryTableHandle handle = (MemoryTableHandle) tableHandle;
+        TableInfo info = tables.get(handle.getId());
+        if (info == null) {
+            return TableStatistics.empty();
+        }
+
+        long rows = 0;
+        List<MemoryColumnStatistics> columnStatistics = ImmutableList.of();
+        for (MemoryDataFragment fragment : info.getDataFragments().values()) {
+            rows += fragment.getRows();
+            columnStatistics = MemoryDataFragment.mergeColumnStatistics(columnStatistics, fragment.getColumnStatistics());
+        }
+
+        TableStatistics.Builder statistics = TableStatistics.builder()
+                .setRowCount(Estimate.of(rows));
+        if (columnStatistics.size() == info.getColumns().size()) {
+            for (int i = 0; i < columnStatistics.size(); i++) {
+                ColumnInfo column = info.getColumns().get(i);
+                statistics.setColumnStatistics(column.getHandle(), columnStatistics.get(i).toColumnStatistics(column.getType(), rows));
+            }
+        }
+        return statistics.build();
     }
 }
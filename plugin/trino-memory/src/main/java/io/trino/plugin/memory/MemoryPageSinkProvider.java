@@ -16,6 +16,7 @@ package io.trino.plugin.memory;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import io.airlift.slice.Slice;
+import io.trino.plugin.memory.MemoryPagesStore.StoredPage;
 import io.trino.spi.HostAddress;
 import io.trino.spi.NodeManager;
 import io.trino.spi.Page;
@@ -25,13 +26,17 @@ import io.trino.spi.connector.ConnectorPageSink;
 import io.trino.spi.connector.ConnectorPageSinkProvider;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorTransactionHandle;
+import io.trino.spi.type.Type;
 
 import javax.inject.Inject;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
@@ -62,8 +67,8 @@ public class MemoryPageSinkProvider
         checkState(memoryOutputTableHandle.getActiveTableIds().contains(tableId));
 
         pagesStore.cleanUp(memoryOutputTableHandle.getActiveTableIds());
-        pagesStore.initialize(tableId);
-        return new MemoryPageSink(pagesStore, currentHostAddress, tableId);
+        pagesStore.initialize(tableId, memoryOutputTableHandle.getColumnTypes());
+        return new MemoryPageSink(pagesStore, currentHostAddress, tableId, memoryOutputTableHandle.getColumnTypes());
     }
 
     @Override
@@ -74,8 +79,8 @@ public class MemoryPageSinkProvider
         checkState(memoryInsertTableHandle.getActiveTableIds().contains(tableId));
 
         pagesStore.cleanUp(memoryInsertTableHandle.getActiveTableIds());
-        pagesStore.initialize(tableId);
-        return new MemoryPageSink(pagesStore, currentHostAddress, tableId);
+        pagesStore.initialize(tableId, memoryInsertTableHandle.getColumnTypes());
+        return new MemoryPageSink(pagesStore, currentHostAddress, tableId, memoryInsertTableHandle.getColumnTypes());
     }
 
     private static class MemoryPageSink
@@ -84,19 +89,27 @@ public class MemoryPageSinkProvider
         private final MemoryPagesStore pagesStore;
         private final HostAddress currentHostAddress;
         private final long tableId;
+        private final List<MemoryColumnStatistics.Collector> statisticsCollectors;
+        private final List<StoredPage> storedPages = new ArrayList<>();
         private long addedRows;
 
-        public MemoryPageSink(MemoryPagesStore pagesStore, HostAddress currentHostAddress, long tableId)
+        public MemoryPageSink(MemoryPagesStore pagesStore, HostAddress currentHostAddress, long tableId, List<Type> columnTypes)
         {
             this.pagesStore = requireNonNull(pagesStore, "pagesStore is null");
             this.currentHostAddress = requireNonNull(currentHostAddress, "currentHostAddress is null");
             this.tableId = tableId;
+            this.statisticsCollectors = requireNonNull(columnTypes, "columnTypes is null").stream()
+                    .map(MemoryColumnStatistics.Collector::new)
+                    .collect(toImmutableList());
         }
 
         @Override
         public CompletableFuture<?> appendPage(Page page)
         {
-            pagesStore.add(tableId, page);
+            storedPages.add(pagesStore.add(tableId, page));
+            for (int channel = 0; channel < statisticsCollectors.size(); channel++) {
+                statisticsCollectors.get(channel).add(page.getBlock(channel));
+            }
             addedRows += page.getPositionCount();
             return NOT_BLOCKED;
         }
@@ -104,12 +117,18 @@ public class MemoryPageSinkProvider
         @Override
         public CompletableFuture<Collection<Slice>> finish()
         {
-            return completedFuture(ImmutableList.of(new MemoryDataFragment(currentHostAddress, addedRows).toSlice()));
+            pagesStore.commit(tableId, storedPages);
+            List<MemoryColumnStatistics> columnStatistics = statisticsCollectors.stream()
+                    .map(MemoryColumnStatistics.Collector::build)
+                    .collect(toImmutableList());
+            return completedFuture(ImmutableList.of(new MemoryDataFragment(currentHostAddress, addedRows, columnStatistics).toSlice()));
         }
 
         @Override
         public void abort()
         {
+            pagesStore.release(storedPages);
+            storedPages.clear();
         }
     }
 }
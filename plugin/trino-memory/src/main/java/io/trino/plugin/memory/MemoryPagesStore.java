@@ -17,68 +17,107 @@ import com.google.common.collect.ImmutableList;
 import io.trino.spi.Page;
 import io.trino.spi.TrinoException;
 import io.trino.spi.block.Block;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.type.Type;
 
-import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import javax.inject.Inject;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalDouble;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.trino.plugin.memory.MemoryErrorCode.MEMORY_LIMIT_EXCEEDED;
 import static io.trino.plugin.memory.MemoryErrorCode.MISSING_DATA;
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 
+/**
+ * Stores the pages of the memory tables on a worker. Page sinks write into private segments which are
+ * published to their table with a single atomic update once the sink finishes, so that writers and
+ * readers of a table never wait on each other.
+ */
 @ThreadSafe
 public class MemoryPagesStore
 {
     private final long maxBytes;
+    private final boolean enableCompression;
 
-    @GuardedBy("this")
-    private long currentBytes;
+    private final AtomicLong currentBytes = new AtomicLong();
 
-    private final Map<Long, TableData> tables = new HashMap<>();
+    private final ConcurrentMap<Long, TableData> tables = new ConcurrentHashMap<>();
 
     @Inject
     public MemoryPagesStore(MemoryConfig config)
     {
         this.maxBytes = config.getMaxDataPerNode().toBytes();
+        this.enableCompression = config.isEnableCompression();
     }
 
-    public synchronized void initialize(long tableId)
+    public void initialize(long tableId, List<Type> columnTypes)
     {
-        if (!tables.containsKey(tableId)) {
-            tables.put(tableId, new TableData());
-        }
+        tables.putIfAbsent(tableId, new TableData(columnTypes));
     }
 
-    public synchronized void add(Long tableId, Page page)
+    /**
+     * Prepares a page to be stored, and reserves the memory it uses. The page is not visible
+     * until its segment is {@link #commit committed}.
+     */
+    public StoredPage add(Long tableId, Page page)
     {
-        if (!contains(tableId)) {
+        TableData tableData = tables.get(tableId);
+        if (tableData == null) {
             throw new TrinoException(MISSING_DATA, "Failed to find table on a worker.");
         }
 
         page.compact();
+        if (enableCompression) {
+            page = ColumnCompression.compress(tableData.getColumnTypes(), page);
+        }
 
-        long newSize = currentBytes + page.getRetainedSizeInBytes();
-        if (maxBytes < newSize) {
-            throw new TrinoException(MEMORY_LIMIT_EXCEEDED, format("Memory limit [%d] for memory connector exceeded", maxBytes));
+        long retainedBytes = page.getRetainedSizeInBytes();
+        long current;
+        do {
+            current = currentBytes.get();
+            if (maxBytes < current + retainedBytes) {
+                throw new TrinoException(MEMORY_LIMIT_EXCEEDED, format("Memory limit [%d] for memory connector exceeded", maxBytes));
+            }
         }
-        currentBytes = newSize;
+        while (!currentBytes.compareAndSet(current, current + retainedBytes));
 
+        return new StoredPage(page, ZoneMap.create(tableData.getColumnTypes(), page), retainedBytes);
+    }
+
+    /**
+     * Makes the pages written by a sink visible to readers of the table.
+     */
+    public void commit(Long tableId, List<StoredPage> pages)
+    {
         TableData tableData = tables.get(tableId);
-        tableData.add(page);
+        if (tableData == null || !tableData.append(new Segment(pages))) {
+            release(pages);
+            throw new TrinoException(MISSING_DATA, "Failed to find table on a worker.");
+        }
+    }
+
+    /**
+     * Frees the memory reserved for pages which will not be committed.
+     */
+    public void release(List<StoredPage> pages)
+    {
+        currentBytes.addAndGet(-pages.stream().mapToLong(StoredPage::getRetainedBytes).sum());
     }
 
-    public synchronized List<Page> getPages(
+    public List<Page> getPages(
             Long tableId,
             int partNumber,
             int totalParts,
@@ -87,42 +126,72 @@ public class MemoryPagesStore
             OptionalLong limit,
             OptionalDouble sampleRatio)
     {
-        if (!contains(tableId)) {
+        return getPages(tableId, partNumber, totalParts, columnIndexes, expectedRows, limit, sampleRatio, TupleDomain.all());
+    }
+
+    /**
+     * @param constraint predicate on the columns of the table, keyed by column index; pages whose
+     * zone maps show that none of their rows can match it are skipped
+     */
+    public List<Page> getPages(
+            Long tableId,
+            int partNumber,
+            int totalParts,
+            List<Integer> columnIndexes,
+            long expectedRows,
+            OptionalLong limit,
+            OptionalDouble sampleRatio,
+            TupleDomain<Integer> constraint)
+    {
+        TableData tableData = tables.get(tableId);
+        if (tableData == null) {
             throw new TrinoException(MISSING_DATA, "Failed to find table on a worker.");
         }
-        TableData tableData = tables.get(tableId);
-        if (tableData.getRows() < expectedRows) {
+        List<Segment> segments = tableData.getSegments();
+        long rows = segments.stream()
+                .mapToLong(Segment::getRows)
+                .sum();
+        if (rows < expectedRows) {
             throw new TrinoException(MISSING_DATA,
-                    format("Expected to find [%s] rows on a worker, but found [%s].", expectedRows, tableData.getRows()));
+                    format("Expected to find [%s] rows on a worker, but found [%s].", expectedRows, rows));
         }
 
         ImmutableList.Builder<Page> partitionedPages = ImmutableList.builder();
 
-        boolean done = false;
         long totalRows = 0;
-        for (int i = partNumber; i < tableData.getPages().size() && !done; i += totalParts) {
-            if (sampleRatio.isPresent() && ThreadLocalRandom.current().nextDouble() >= sampleRatio.getAsDouble()) {
-                continue;
-            }
+        int pageIndex = 0;
+        for (Segment segment : segments) {
+            for (StoredPage storedPage : segment.getPages()) {
+                if (pageIndex++ % totalParts != partNumber) {
+                    continue;
+                }
+                if (sampleRatio.isPresent() && ThreadLocalRandom.current().nextDouble() >= sampleRatio.getAsDouble()) {
+                    continue;
+                }
+                if (!storedPage.getZoneMap().mayMatch(constraint)) {
+                    continue;
+                }
 
-            Page page = tableData.getPages().get(i);
-            totalRows += page.getPositionCount();
-            if (limit.isPresent() && totalRows > limit.getAsLong()) {
-                page = page.getRegion(0, (int) (page.getPositionCount() - (totalRows - limit.getAsLong())));
-                done = true;
+                Page page = storedPage.getPage();
+                totalRows += page.getPositionCount();
+                if (limit.isPresent() && totalRows > limit.getAsLong()) {
+                    page = page.getRegion(0, (int) (page.getPositionCount() - (totalRows - limit.getAsLong())));
+                    partitionedPages.add(getColumns(page, columnIndexes));
+                    return partitionedPages.build();
+                }
+                partitionedPages.add(getColumns(page, columnIndexes));
             }
-            partitionedPages.add(getColumns(page, columnIndexes));
         }
 
         return partitionedPages.build();
     }
 
-    public synchronized boolean contains(Long tableId)
+    public boolean contains(Long tableId)
     {
         return tables.containsKey(tableId);
     }
 
-    public synchronized void cleanUp(Set<Long> activeTableIds)
+    public void cleanUp(Set<Long> activeTableIds)
     {
         // We have to remember that there might be some race conditions when there are two tables created at once.
         // That can lead to a situation when MemoryPagesStore already knows about a newer second table on some worker
@@ -141,11 +210,11 @@ public class MemoryPagesStore
         for (Iterator<Map.Entry<Long, TableData>> tableDataIterator = tables.entrySet().iterator(); tableDataIterator.hasNext(); ) {
             Map.Entry<Long, TableData> tablePagesEntry = tableDataIterator.next();
             Long tableId = tablePagesEntry.getKey();
-            if (tableId < latestTableId && !activeTableIds.contains(tableId)) {
-                for (Page removedPage : tablePagesEntry.getValue().getPages()) {
-                    currentBytes -= removedPage.getRetainedSizeInBytes();
+            // only the thread which removes the table frees its memory
+            if (tableId < latestTableId && !activeTableIds.contains(tableId) && tables.remove(tableId, tablePagesEntry.getValue())) {
+                for (Segment segment : tablePagesEntry.getValue().close()) {
+                    release(segment.getPages());
                 }
-                tableDataIterator.remove();
             }
         }
     }
@@ -161,18 +230,49 @@ public class MemoryPagesStore
         return new Page(page.getPositionCount(), outputBlocks);
     }
 
-    private static final class TableData
+    public static final class StoredPage
     {
-        private final List<Page> pages = new ArrayList<>();
-        private long rows;
+        private final Page page;
+        private final ZoneMap zoneMap;
+        private final long retainedBytes;
 
-        public void add(Page page)
+        private StoredPage(Page page, ZoneMap zoneMap, long retainedBytes)
         {
-            pages.add(page);
-            rows += page.getPositionCount();
+            this.page = requireNonNull(page, "page is null");
+            this.zoneMap = requireNonNull(zoneMap, "zoneMap is null");
+            this.retainedBytes = retainedBytes;
         }
 
-        private List<Page> getPages()
+        private Page getPage()
+        {
+            return page;
+        }
+
+        private ZoneMap getZoneMap()
+        {
+            return zoneMap;
+        }
+
+        private long getRetainedBytes()
+        {
+            return retainedBytes;
+        }
+    }
+
+    private static final class Segment
+    {
+        private final List<StoredPage> pages;
+        private final long rows;
+
+        private Segment(List<StoredPage> pages)
+        {
+            this.pages = ImmutableList.copyOf(requireNonNull(pages, "pages is null"));
+            this.rows = pages.stream()
+                    .mapToLong(storedPage -> storedPage.getPage().getPositionCount())
+                    .sum();
+        }
+
+        private List<StoredPage> getPages()
         {
             return pages;
         }
@@ -182,4 +282,50 @@ public class MemoryPagesStore
             return rows;
         }
     }
+
+    private static final class TableData
+    {
+        private final List<Type> columnTypes;
+        // null once the table is removed, so that segments can no longer be appended
+        private final AtomicReference<List<Segment>> segments = new AtomicReference<>(ImmutableList.of());
+
+        private TableData(List<Type> columnTypes)
+        {
+            this.columnTypes = ImmutableList.copyOf(requireNonNull(columnTypes, "columnTypes is null"));
+        }
+
+        private List<Type> getColumnTypes()
+        {
+            return columnTypes;
+        }
+
+        private boolean append(Segment segment)
+        {
+            while (true) {
+                List<Segment> current = segments.get();
+                if (current == null) {
+                    return false;
+                }
+                List<Segment> updated = ImmutableList.<Segment>builder()
+                        .addAll(current)
+                        .add(segment)
+                        .build();
+                if (segments.compareAndSet(current, updated)) {
+                    return true;
+                }
+            }
+        }
+
+        private List<Segment> getSegments()
+        {
+            List<Segment> current = segments.get();
+            return current == null ? ImmutableList.of() : current;
+        }
+
+        private List<Segment> close()
+        {
+            List<Segment> removed = segments.getAndSet(null);
+            return removed == null ? ImmutableList.of() : removed;
+        }
+    }
 }
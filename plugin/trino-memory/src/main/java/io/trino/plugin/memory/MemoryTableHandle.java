@@ -15,7 +15,9 @@ package io.trino.plugin.memory;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ConnectorTableHandle;
+import io.trino.spi.predicate.TupleDomain;
 
 import java.util.Objects;
 import java.util.OptionalDouble;
@@ -29,21 +31,24 @@ public final class MemoryTableHandle
     private final long id;
     private final OptionalLong limit;
     private final OptionalDouble sampleRatio;
+    private final TupleDomain<ColumnHandle> constraint;
 
     public MemoryTableHandle(long id)
     {
-        this(id, OptionalLong.empty(), OptionalDouble.empty());
+        this(id, OptionalLong.empty(), OptionalDouble.empty(), TupleDomain.all());
     }
 
     @JsonCreator
     public MemoryTableHandle(
             @JsonProperty("id") long id,
             @JsonProperty("limit") OptionalLong limit,
-            @JsonProperty("sampleRatio") OptionalDouble sampleRatio)
+            @JsonProperty("sampleRatio") OptionalDouble sampleRatio,
+            @JsonProperty("constraint") TupleDomain<ColumnHandle> constraint)
     {
         this.id = id;
         this.limit = requireNonNull(limit, "limit is null");
         this.sampleRatio = requireNonNull(sampleRatio, "sampleRatio is null");
+        this.constraint = requireNonNull(constraint, "constraint is null");
     }
 
     @JsonProperty
@@ -64,6 +69,15 @@ public final class MemoryTableHandle
         return sampleRatio;
     }
 
+    /**
+     * Predicate used to skip stored pages which cannot match it. It is not enforced on the rows which are read.
+     */
+    @JsonProperty
+    public TupleDomain<ColumnHandle> getConstraint()
+    {
+        return constraint;
+    }
+
     @Override
     public boolean equals(Object o)
     {
@@ -76,13 +90,14 @@ public final class MemoryTableHandle
         MemoryTableHandle that = (MemoryTableHandle) o;
         return id == that.id &&
                 limit.equals(that.limit) &&
-                sampleRatio.equals(that.sampleRatio);
+                sampleRatio.equals(that.sampleRatio) &&
+                constraint.equals(that.constraint);
     }
 
     @Override
     public int hashCode()
     {
-        return Objects.hash(id, limit, sampleRatio);
+        return Objects.hash(id, limit, sampleRatio, constraint);
     }
 
     @Override
@@ -92,6 +107,9 @@ public final class MemoryTableHandle
         builder.append(id);
         limit.ifPresent(value -> builder.append("(limit:" + value + ")"));
         sampleRatio.ifPresent(value -> builder.append("(sampleRatio:" + value + ")"));
+        if (!constraint.isAll()) {
+            builder.append("(constraint:" + constraint + ")");
+        }
         return builder.toString();
     }
 }
@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.memory;
+
+import com.google.common.collect.ImmutableList;
+import io.airlift.slice.Slice;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.predicate.Domain;
+import io.trino.spi.predicate.Range;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.predicate.ValueSet;
+import io.trino.spi.type.DecimalType;
+import io.trino.spi.type.TimestampType;
+import io.trino.spi.type.Type;
+import io.trino.spi.type.VarcharType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.BooleanType.BOOLEAN;
+import static io.trino.spi.type.DateType.DATE;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.SmallintType.SMALLINT;
+import static io.trino.spi.type.TinyintType.TINYINT;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Minimum and maximum values of every column of a stored page, used to skip pages which cannot match a predicate.
+ */
+final class ZoneMap
+{
+    // domain covering the values of each column, empty when the column cannot be summarized
+    private final List<Optional<Domain>> columnDomains;
+
+    private ZoneMap(List<Optional<Domain>> columnDomains)
+    {
+        this.columnDomains = ImmutableList.copyOf(requireNonNull(columnDomains, "columnDomains is null"));
+    }
+
+    public static ZoneMap create(List<Type> columnTypes, Page page)
+    {
+        ImmutableList.Builder<Optional<Domain>> columnDomains = ImmutableList.builder();
+        for (int channel = 0; channel < columnTypes.size(); channel++) {
+            columnDomains.add(summarize(columnTypes.get(channel), page.getBlock(channel)));
+        }
+        return new ZoneMap(columnDomains.build());
+    }
+
+    /**
+     * Returns false if no row of the page can match the predicate, which is keyed by column index.
+     */
+    public boolean mayMatch(TupleDomain<Integer> predicate)
+    {
+        if (predicate.isNone()) {
+            return false;
+        }
+        for (Map.Entry<Integer, Domain> entry : predicate.getDomains().get().entrySet()) {
+            Optional<Domain> columnDomain = columnDomains.get(entry.getKey());
+            if (columnDomain.isPresent() && columnDomain.get().intersect(entry.getValue()).isNone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // the types whose native values are ordered the same way as Trino orders them;
+    // floating point columns are not summarized, as NaN and negative zero are ordered differently
+    static boolean isSupportedType(Type type)
+    {
+        return type == BOOLEAN ||
+                type == TINYINT ||
+                type == SMALLINT ||
+                type == INTEGER ||
+                type == BIGINT ||
+                type == DATE ||
+                (type instanceof DecimalType && ((DecimalType) type).isShort()) ||
+                (type instanceof TimestampType && ((TimestampType) type).isShort()) ||
+                type instanceof VarcharType;
+    }
+
+    private static Optional<Domain> summarize(Type type, Block block)
+    {
+        if (!isSupportedType(type)) {
+            return Optional.empty();
+        }
+
+        boolean hasNull = false;
+        Object min = null;
+        Object max = null;
+        for (int position = 0; position < block.getPositionCount(); position++) {
+            if (block.isNull(position)) {
+                hasNull = true;
+                continue;
+            }
+            Object value = readValue(type, block, position);
+            if (min == null || compare(type, value, min) < 0) {
+                min = value;
+            }
+            if (max == null || compare(type, value, max) > 0) {
+                max = value;
+            }
+        }
+
+        if (min == null) {
+            return Optional.of(hasNull ? Domain.onlyNull(type) : Domain.none(type));
+        }
+        return Optional.of(Domain.create(ValueSet.ofRanges(Range.range(type, min, true, max, true)), hasNull));
+    }
+
+    private static Object readValue(Type type, Block block, int position)
+    {
+        if (type == BOOLEAN) {
+            return type.getBoolean(block, position);
+        }
+        if (type.getJavaType() == Slice.class) {
+            return type.getSlice(block, position);
+        }
+        return type.getLong(block, position);
+    }
+
+    private static int compare(Type type, Object left, Object right)
+    {
+        if (type == BOOLEAN) {
+            return Boolean.compare((boolean) left, (boolean) right);
+        }
+        if (type.getJavaType() == Slice.class) {
+            return ((Slice) left).compareTo((Slice) right);
+        }
+        return Long.compare((long) left, (long) right);
+    }
+}
@@ -16,15 +16,24 @@ package io.trino.plugin.memory;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import io.trino.spi.HostAddress;
 import io.trino.spi.TrinoException;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.ColumnMetadata;
 import io.trino.spi.connector.ConnectorOutputTableHandle;
 import io.trino.spi.connector.ConnectorTableHandle;
 import io.trino.spi.connector.ConnectorTableMetadata;
 import io.trino.spi.connector.ConnectorViewDefinition;
 import io.trino.spi.connector.ConnectorViewDefinition.ViewColumn;
+import io.trino.spi.connector.Constraint;
 import io.trino.spi.connector.SchemaNotFoundException;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.security.TrinoPrincipal;
+import io.trino.spi.statistics.ColumnStatistics;
+import io.trino.spi.statistics.DoubleRange;
+import io.trino.spi.statistics.Estimate;
+import io.trino.spi.statistics.TableStatistics;
 import io.trino.testing.TestingNodeManager;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -348,6 +357,46 @@ public class TestMemoryMetadata
         assertEquals(metadata.listTables(SESSION, Optional.of("test_different_schema")), ImmutableList.of(differentSchemaTableName));
     }
 
+    @Test
+    public void testTableStatistics()
+    {
+        SchemaTableName schemaTableName = new SchemaTableName("default", "test_statistics");
+        ConnectorOutputTableHandle table = metadata.beginCreateTable(
+                SESSION,
+                new ConnectorTableMetadata(schemaTableName, ImmutableList.of(new ColumnMetadata("value", BIGINT)), ImmutableMap.of()),
+                Optional.empty());
+
+        BlockBuilder blockBuilder = BIGINT.createBlockBuilder(null, 4);
+        BIGINT.writeLong(blockBuilder, 3);
+        BIGINT.writeLong(blockBuilder, 7);
+        BIGINT.writeLong(blockBuilder, 7);
+        blockBuilder.appendNull();
+        MemoryColumnStatistics.Collector collector = new MemoryColumnStatistics.Collector(BIGINT);
+        collector.add(blockBuilder.build());
+
+        // the statistics of two writers on the same host are merged
+        HostAddress host = HostAddress.fromString("localhost:8080");
+        metadata.finishCreateTable(
+                SESSION,
+                table,
+                ImmutableList.of(
+                        new MemoryDataFragment(host, 4, ImmutableList.of(collector.build())).toSlice(),
+                        new MemoryDataFragment(host, 0, ImmutableList.of(new MemoryColumnStatistics.Collector(BIGINT).build())).toSlice()),
+                ImmutableList.of());
+
+        ConnectorTableHandle tableHandle = metadata.getTableHandle(SESSION, schemaTableName);
+        TableStatistics statistics = metadata.getTableStatistics(SESSION, tableHandle, Constraint.alwaysTrue());
+        assertEquals(statistics.getRowCount(), Estimate.of(4));
+        ColumnHandle column = metadata.getColumnHandles(SESSION, tableHandle).get("value");
+        assertEquals(
+                statistics.getColumnStatistics().get(column),
+                ColumnStatistics.builder()
+                        .setNullsFraction(Estimate.of(0.25))
+                        .setDistinctValuesCount(Estimate.of(2))
+                        .setRange(new DoubleRange(3, 7))
+                        .build());
+    }
+
     private void assertNoTables()
     {
         assertEquals(metadata.listTables(SESSION, Optional.empty()), ImmutableList.of(), "No table was expected");
@@ -14,6 +14,7 @@
 package io.trino.plugin.memory;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import io.airlift.units.DataSize;
 import io.trino.spi.HostAddress;
@@ -23,9 +24,14 @@ import io.trino.spi.block.BlockBuilder;
 import io.trino.spi.connector.ConnectorInsertTableHandle;
 import io.trino.spi.connector.ConnectorOutputTableHandle;
 import io.trino.spi.connector.ConnectorPageSink;
+import io.trino.spi.predicate.Domain;
+import io.trino.spi.predicate.Range;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.predicate.ValueSet;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.List;
 import java.util.OptionalDouble;
 import java.util.OptionalLong;
 
@@ -118,6 +124,58 @@ public class TestMemoryPagesStore
         insertToTable(0L, createOneMegaBytePage(), 0L);
     }
 
+    @Test
+    public void testAbortReleasesMemory()
+    {
+        createTable(0L, 0L);
+        ConnectorPageSink pageSink = pageSinkProvider.createPageSink(
+                MemoryTransactionHandle.INSTANCE,
+                SESSION,
+                createMemoryInsertTableHandle(0L, new Long[] {0L}));
+        pageSink.appendPage(createOneMegaBytePage());
+        pageSink.abort();
+
+        insertToTable(0L, createOneMegaBytePage(), 0L);
+    }
+
+    @Test
+    public void testPagesVisibleAfterFinish()
+    {
+        createTable(0L, 0L);
+        ConnectorPageSink pageSink = pageSinkProvider.createPageSink(
+                MemoryTransactionHandle.INSTANCE,
+                SESSION,
+                createMemoryInsertTableHandle(0L, new Long[] {0L}));
+        pageSink.appendPage(createSequencePage(0, 10));
+        assertEquals(pagesStore.getPages(0L, 0, 1, ImmutableList.of(0), 0, OptionalLong.empty(), OptionalDouble.empty()), ImmutableList.of());
+
+        pageSink.finish();
+        assertEquals(pagesStore.getPages(0L, 0, 1, ImmutableList.of(0), 10, OptionalLong.empty(), OptionalDouble.empty()).size(), 1);
+    }
+
+    @Test
+    public void testPruneWithZoneMaps()
+    {
+        createTable(0L, 0L);
+        insertToTable(0L, createSequencePage(0, 10), 0L);
+        insertToTable(0L, createSequencePage(10, 10), 0L);
+
+        assertEquals(getPages(TupleDomain.all()).size(), 2);
+        assertEquals(getPages(TupleDomain.none()).size(), 0);
+
+        List<Page> pages = getPages(TupleDomain.withColumnDomains(ImmutableMap.of(0, Domain.singleValue(BIGINT, 15L))));
+        assertEquals(pages.size(), 1);
+        assertEquals(BIGINT.getLong(pages.get(0).getBlock(0), 0), 10L);
+
+        pages = getPages(TupleDomain.withColumnDomains(ImmutableMap.of(0, Domain.create(ValueSet.ofRanges(Range.greaterThan(BIGINT, 42L)), true))));
+        assertEquals(pages.size(), 0);
+    }
+
+    private List<Page> getPages(TupleDomain<Integer> constraint)
+    {
+        return pagesStore.getPages(0L, 0, 1, ImmutableList.of(0), 20, OptionalLong.empty(), OptionalDouble.empty(), constraint);
+    }
+
     private void insertToTable(long tableId, Long... activeTableIds)
     {
         insertToTable(tableId, createPage(), activeTableIds);
@@ -144,12 +202,12 @@ public class TestMemoryPagesStore
 
     private static ConnectorOutputTableHandle createMemoryOutputTableHandle(long tableId, Long... activeTableIds)
     {
-        return new MemoryOutputTableHandle(tableId, ImmutableSet.copyOf(activeTableIds));
+        return new MemoryOutputTableHandle(tableId, ImmutableSet.copyOf(activeTableIds), ImmutableList.of(BIGINT));
     }
 
     private static ConnectorInsertTableHandle createMemoryInsertTableHandle(long tableId, Long[] activeTableIds)
     {
-        return new MemoryInsertTableHandle(tableId, ImmutableSet.copyOf(activeTableIds));
+        return new MemoryInsertTableHandle(tableId, ImmutableSet.copyOf(activeTableIds), ImmutableList.of(BIGINT));
     }
 
     private static Page createPage()
@@ -159,6 +217,15 @@ public class TestMemoryPagesStore
         return new Page(0, blockBuilder.build());
     }
 
+    private static Page createSequencePage(long start, int positions)
+    {
+        BlockBuilder blockBuilder = BIGINT.createFixedSizeBlockBuilder(positions);
+        for (long value = start; value < start + positions; value++) {
+            BIGINT.writeLong(blockBuilder, value);
+        }
+        return new Page(blockBuilder.build());
+    }
+
     private static Page createOneMegaBytePage()
     {
         BlockBuilder blockBuilder = BIGINT.createFixedSizeBlockBuilder(POSITIONS_PER_PAGE);
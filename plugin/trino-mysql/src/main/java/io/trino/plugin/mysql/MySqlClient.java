@@ -21,9 +21,17 @@ import io.trino.plugin.jdbc.ColumnMapping;
 import io.trino.plugin.jdbc.ConnectionFactory;
 import io.trino.plugin.jdbc.JdbcColumnHandle;
 import io.trino.plugin.jdbc.JdbcExpression;
+import io.trino.plugin.jdbc.JdbcJoinCondition;
+import io.trino.plugin.jdbc.JdbcOutputTableHandle;
+import io.trino.plugin.jdbc.JdbcPageWriter;
+import io.trino.plugin.jdbc.JdbcSortItem;
 import io.trino.plugin.jdbc.JdbcTableHandle;
 import io.trino.plugin.jdbc.JdbcTypeHandle;
+import io.trino.plugin.jdbc.MultiRowInsertPageWriter;
 import io.trino.plugin.jdbc.PredicatePushdownController;
+import io.trino.plugin.jdbc.RemoteTableName;
+import io.trino.plugin.jdbc.TopNFunction;
+import io.trino.plugin.jdbc.WriteFunction;
 import io.trino.plugin.jdbc.WriteMapping;
 import io.trino.plugin.jdbc.expression.AggregateFunctionRewriter;
 import io.trino.plugin.jdbc.expression.AggregateFunctionRule;
@@ -38,7 +46,13 @@ import io.trino.spi.connector.AggregateFunction;
 import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorTableMetadata;
+import io.trino.spi.connector.JoinCondition;
+import io.trino.spi.connector.JoinType;
 import io.trino.spi.connector.SchemaTableName;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.statistics.ColumnStatistics;
+import io.trino.spi.statistics.Estimate;
+import io.trino.spi.statistics.TableStatistics;
 import io.trino.spi.type.CharType;
 import io.trino.spi.type.DecimalType;
 import io.trino.spi.type.Decimals;
@@ -61,8 +75,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 import static com.google.common.base.Verify.verify;
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static com.mysql.jdbc.SQLError.SQL_STATE_ER_TABLE_EXISTS_ERROR;
 import static com.mysql.jdbc.SQLError.SQL_STATE_SYNTAX_ERROR;
@@ -120,10 +136,17 @@ import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Locale.ENGLISH;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.joining;
 
 public class MySqlClient
         extends BaseJdbcClient
 {
+    // the protocol counts prepared statement parameters with a 16-bit integer
+    private static final int MAX_BIND_PARAMETERS = 65535;
+    // the values are sent as literals in the statement text, which quoting and escaping may make up to twice as large
+    private static final int STATEMENT_BYTES_PER_VALUE_BYTE = 2;
+
     private final Type jsonType;
     private final AggregateFunctionRewriter aggregateFunctionRewriter;
 
@@ -154,6 +177,86 @@ public class MySqlClient
         return aggregateFunctionRewriter.rewrite(session, aggregate, assignments);
     }
 
+    @Override
+    protected boolean isSupportedJoinType(ConnectorSession session, JoinType joinType)
+    {
+        // MySQL does not support FULL JOIN
+        return joinType != JoinType.FULL_OUTER;
+    }
+
+    @Override
+    protected boolean isSupportedJoinCondition(ConnectorSession session, JdbcJoinCondition joinCondition)
+    {
+        if (joinCondition.getOperator() == JoinCondition.Operator.IS_DISTINCT_FROM) {
+            // Not supported in MySQL
+            return false;
+        }
+        // Remote database can be case insensitive
+        return Stream.of(joinCondition.getLeftColumn(), joinCondition.getRightColumn())
+                .map(JdbcColumnHandle::getColumnType)
+                .noneMatch(type -> type instanceof CharType || type instanceof VarcharType);
+    }
+
+    @Override
+    public TableStatistics getTableStatistics(ConnectorSession session, JdbcTableHandle handle, TupleDomain<ColumnHandle> tupleDomain)
+    {
+        if (!handle.isNamedRelation() || handle.getGroupingSets().isPresent() || handle.getLimit().isPresent()) {
+            return TableStatistics.empty();
+        }
+        RemoteTableName remoteTableName = handle.getRemoteTableName();
+        // for MySQL, the remote catalog is the database
+        String databaseName = remoteTableName.getCatalogName().orElse(null);
+        try (Connection connection = connectionFactory.openConnection(session)) {
+            long rowCount;
+            try (PreparedStatement statement = connection.prepareStatement("" +
+                    "SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES " +
+                    "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?")) {
+                statement.setString(1, databaseName);
+                statement.setString(2, remoteTableName.getTableName());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        return TableStatistics.empty();
+                    }
+                    rowCount = resultSet.getLong(1);
+                    if (resultSet.wasNull() || rowCount <= 0) {
+                        return TableStatistics.empty();
+                    }
+                }
+            }
+
+            TableStatistics.Builder tableStatistics = TableStatistics.builder()
+                    .setRowCount(Estimate.of(rowCount));
+
+            // index cardinality is the only per-column statistic MySQL exposes; use the leading column of each index
+            Map<String, JdbcColumnHandle> columns = getColumns(session, handle).stream()
+                    .collect(toImmutableMap(JdbcColumnHandle::getColumnName, identity()));
+            try (PreparedStatement statement = connection.prepareStatement("" +
+                    "SELECT COLUMN_NAME, MAX(CARDINALITY) " +
+                    "FROM INFORMATION_SCHEMA.STATISTICS " +
+                    "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND SEQ_IN_INDEX = 1 " +
+                    "GROUP BY COLUMN_NAME")) {
+                statement.setString(1, databaseName);
+                statement.setString(2, remoteTableName.getTableName());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        JdbcColumnHandle column = columns.get(resultSet.getString(1));
+                        long cardinality = resultSet.getLong(2);
+                        if (column == null || resultSet.wasNull()) {
+                            continue;
+                        }
+                        tableStatistics.setColumnStatistics(column, ColumnStatistics.builder()
+                                .setDistinctValuesCount(Estimate.of(min(cardinality, rowCount)))
+                                .build());
+                    }
+                }
+            }
+            return tableStatistics.build();
+        }
+        catch (SQLException e) {
+            throw new TrinoException(JDBC_ERROR, e);
+        }
+    }
+
     private static Optional<JdbcTypeHandle> toTypeHandle(DecimalType decimalType)
     {
         return Optional.of(new JdbcTypeHandle(Types.NUMERIC, Optional.of("decimal"), Optional.of(decimalType.getPrecision()), Optional.of(decimalType.getScale()), Optional.empty(), Optional.empty()));
@@ -457,6 +560,67 @@ public class MySqlClient
         return true;
     }
 
+    @Override
+    public boolean supportsTopN(ConnectorSession session, JdbcTableHandle handle, List<JdbcSortItem> sortOrder)
+    {
+        for (JdbcSortItem sortItem : sortOrder) {
+            Type sortItemType = sortItem.getColumn().getColumnType();
+            if (sortItemType instanceof CharType || sortItemType instanceof VarcharType) {
+                // Remote database can be case insensitive.
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Optional<TopNFunction> topNFunction()
+    {
+        return Optional.of((query, sortItems, limit) -> {
+            String orderBy = sortItems.stream()
+                    .flatMap(sortItem -> {
+                        String ordering = sortItem.getSortOrder().isAscending() ? "ASC" : "DESC";
+                        String expression = sortItem.getColumn().toSqlExpression(this::quoted);
+                        // MySQL has no NULLS FIRST/LAST and always orders NULLs as the lowest values, so order by nullness first
+                        String nullsHandling = format("ISNULL(%s) %s", expression, sortItem.getSortOrder().isNullsFirst() ? "DESC" : "ASC");
+                        return Stream.of(nullsHandling, expression + " " + ordering);
+                    })
+                    .collect(joining(", "));
+            return format("%s ORDER BY %s LIMIT %s", query, orderBy, limit);
+        });
+    }
+
+    @Override
+    public boolean isTopNGuaranteed(ConnectorSession session)
+    {
+        return true;
+    }
+
+    @Override
+    public JdbcPageWriter createPageWriter(ConnectorSession session, Connection connection, JdbcOutputTableHandle handle, List<WriteFunction> columnWriters, int batchSize)
+            throws SQLException
+    {
+        return new MultiRowInsertPageWriter(
+                connection,
+                rows -> buildMultiRowInsertSql(handle, columnWriters, rows),
+                handle.getColumnTypes(),
+                columnWriters,
+                batchSize,
+                MAX_BIND_PARAMETERS,
+                // a statement larger than max_allowed_packet is rejected by the server
+                getMaxAllowedPacket(connection) / STATEMENT_BYTES_PER_VALUE_BYTE);
+    }
+
+    private static long getMaxAllowedPacket(Connection connection)
+            throws SQLException
+    {
+        try (java.sql.Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT @@max_allowed_packet")) {
+            verify(resultSet.next(), "max_allowed_packet is not set");
+            return resultSet.getLong(1);
+        }
+    }
+
     private ColumnMapping jsonColumnMapping()
     {
         return ColumnMapping.sliceMapping(
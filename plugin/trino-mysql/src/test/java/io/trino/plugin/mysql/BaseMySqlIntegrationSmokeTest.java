@@ -14,8 +14,11 @@
 package io.trino.plugin.mysql;
 
 import io.trino.Session;
+import io.trino.sql.planner.assertions.PlanMatchPattern;
 import io.trino.sql.planner.plan.AggregationNode;
 import io.trino.sql.planner.plan.FilterNode;
+import io.trino.sql.planner.plan.JoinNode;
+import io.trino.sql.planner.plan.TableScanNode;
 import io.trino.testing.AbstractTestIntegrationSmokeTest;
 import io.trino.testing.MaterializedResult;
 import io.trino.testing.MaterializedRow;
@@ -23,14 +26,21 @@ import org.intellij.lang.annotations.Language;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.Test;
 
+import java.util.Objects;
+
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.google.common.collect.MoreCollectors.onlyElement;
 import static io.trino.spi.type.VarcharType.VARCHAR;
+import static io.trino.sql.planner.assertions.PlanMatchPattern.anyTree;
+import static io.trino.sql.planner.assertions.PlanMatchPattern.node;
 import static io.trino.testing.MaterializedResult.resultBuilder;
 import static io.trino.testing.TestingSession.testSessionBuilder;
 import static io.trino.testing.assertions.Assert.assertEquals;
+import static io.trino.testing.sql.TestTable.randomTableSuffix;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 abstract class BaseMySqlIntegrationSmokeTest
@@ -276,6 +286,72 @@ abstract class BaseMySqlIntegrationSmokeTest
         assertThat(query("SELECT regionkey, count(*) FROM nation WHERE name < 'EGYPT' GROUP BY regionkey LIMIT 3")).isNotFullyPushedDown(FilterNode.class);
     }
 
+    @Test
+    public void testJoinPushdown()
+    {
+        Session session = joinPushdownEnabled(getSession());
+
+        // equi-join on bigint collapses into a single table scan
+        assertThat(query(session, "SELECT r.name, n.name FROM nation n JOIN region r ON n.regionkey = r.regionkey")).isFullyPushedDown();
+        assertThat(query(session, "SELECT r.name, n.name FROM nation n LEFT JOIN region r ON n.regionkey = r.regionkey")).isFullyPushedDown();
+        assertThat(query(session, "SELECT r.name, n.name FROM nation n RIGHT JOIN region r ON n.regionkey = r.regionkey")).isFullyPushedDown();
+
+        // join with a pushed down filter
+        assertThat(query(session, "SELECT n.name FROM nation n JOIN region r ON n.regionkey = r.regionkey WHERE n.nationkey < 10")).isFullyPushedDown();
+
+        // comparison of bigint columns in join filter
+        assertThat(query(session, "SELECT n.name, c.name FROM nation n JOIN customer c ON n.nationkey = c.nationkey AND n.regionkey < c.custkey")).isFullyPushedDown();
+
+        // MySQL does not support FULL JOIN
+        assertThat(query(session, "SELECT r.name, n.name FROM nation n FULL JOIN region r ON n.regionkey = r.regionkey")).isNotFullyPushedDown(joinOverTableScans());
+
+        // varchar comparison depends on the remote collation, which can be case insensitive
+        assertThat(query(session, "SELECT n.name, n2.regionkey FROM nation n JOIN nation n2 ON n.name = n2.name")).isNotFullyPushedDown(joinOverTableScans());
+
+        // join pushdown disabled
+        assertThat(query("SELECT r.name, n.name FROM nation n JOIN region r ON n.regionkey = r.regionkey")).isNotFullyPushedDown(joinOverTableScans());
+    }
+
+    @Test
+    public void testTableStatistics()
+            throws Exception
+    {
+        String tableName = "test_stats" + randomTableSuffix();
+        try (AutoCloseable ignored = withTable("tpch." + tableName, " AS SELECT nationkey, regionkey, name FROM tpch.nation")) {
+            execute(format("CREATE INDEX %1$s_regionkey ON tpch.%1$s (regionkey)", tableName));
+            execute(format("ANALYZE TABLE tpch.%s", tableName));
+
+            // MySQL only exposes the row count and the cardinality of indexed columns
+            MaterializedResult statistics = computeActual("SHOW STATS FOR " + tableName);
+            assertEquals(getColumnStatistics(statistics, null).getField(4), 25.0);
+            assertEquals(getColumnStatistics(statistics, "regionkey").getField(2), 5.0);
+            assertNull(getColumnStatistics(statistics, "nationkey").getField(2));
+            assertNull(getColumnStatistics(statistics, "name").getField(2));
+        }
+    }
+
+    private static Session joinPushdownEnabled(Session session)
+    {
+        return Session.builder(session)
+                .setCatalogSessionProperty(session.getCatalog().orElseThrow(), "join_pushdown_enabled", "true")
+                .setCatalogSessionProperty(session.getCatalog().orElseThrow(), "join_pushdown_strategy", "EAGER")
+                .build();
+    }
+
+    private static PlanMatchPattern joinOverTableScans()
+    {
+        return node(JoinNode.class,
+                anyTree(node(TableScanNode.class)),
+                anyTree(node(TableScanNode.class)));
+    }
+
+    private static MaterializedRow getColumnStatistics(MaterializedResult statistics, String columnName)
+    {
+        return statistics.getMaterializedRows().stream()
+                .filter(row -> Objects.equals(row.getField(0), columnName))
+                .collect(onlyElement());
+    }
+
     @Test
     public void testColumnComment()
     {
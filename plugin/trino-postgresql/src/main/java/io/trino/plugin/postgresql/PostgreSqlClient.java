@@ -27,16 +27,24 @@ import io.trino.plugin.jdbc.ConnectionFactory;
 import io.trino.plugin.jdbc.DoubleReadFunction;
 import io.trino.plugin.jdbc.JdbcColumnHandle;
 import io.trino.plugin.jdbc.JdbcExpression;
+import io.trino.plugin.jdbc.JdbcJoinCondition;
+import io.trino.plugin.jdbc.JdbcOutputTableHandle;
+import io.trino.plugin.jdbc.JdbcPageWriter;
+import io.trino.plugin.jdbc.JdbcSortItem;
 import io.trino.plugin.jdbc.JdbcTableHandle;
 import io.trino.plugin.jdbc.JdbcTypeHandle;
 import io.trino.plugin.jdbc.LongReadFunction;
 import io.trino.plugin.jdbc.LongWriteFunction;
+import io.trino.plugin.jdbc.MultiRowInsertPageWriter;
 import io.trino.plugin.jdbc.ObjectReadFunction;
 import io.trino.plugin.jdbc.ObjectWriteFunction;
 import io.trino.plugin.jdbc.ReadFunction;
+import io.trino.plugin.jdbc.RemoteTableName;
 import io.trino.plugin.jdbc.SliceReadFunction;
 import io.trino.plugin.jdbc.SliceWriteFunction;
+import io.trino.plugin.jdbc.TopNFunction;
 import io.trino.plugin.jdbc.UnsupportedTypeHandling;
+import io.trino.plugin.jdbc.WriteFunction;
 import io.trino.plugin.jdbc.WriteMapping;
 import io.trino.plugin.jdbc.expression.AggregateFunctionRewriter;
 import io.trino.plugin.jdbc.expression.AggregateFunctionRule;
@@ -55,8 +63,14 @@ import io.trino.spi.connector.AggregateFunction;
 import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorTableMetadata;
+import io.trino.spi.connector.JoinCondition;
+import io.trino.spi.connector.JoinType;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.connector.TableNotFoundException;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.statistics.ColumnStatistics;
+import io.trino.spi.statistics.Estimate;
+import io.trino.spi.statistics.TableStatistics;
 import io.trino.spi.type.ArrayType;
 import io.trino.spi.type.CharType;
 import io.trino.spi.type.DecimalType;
@@ -99,9 +113,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Verify.verify;
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static io.airlift.slice.SizeOf.SIZE_OF_LONG;
 import static io.airlift.slice.Slices.utf8Slice;
 import static io.airlift.slice.Slices.wrappedLongArray;
@@ -186,6 +202,8 @@ import static java.math.RoundingMode.UNNECESSARY;
 import static java.sql.DatabaseMetaData.columnNoNulls;
 import static java.util.Collections.addAll;
 import static java.util.Objects.requireNonNull;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.joining;
 
 public class PostgreSqlClient
         extends BaseJdbcClient
@@ -198,6 +216,8 @@ public class PostgreSqlClient
     private static final int ARRAY_RESULT_SET_VALUE_COLUMN = 2;
     private static final String DUPLICATE_TABLE_SQLSTATE = "42P07";
     private static final int POSTGRESQL_MAX_SUPPORTED_TIMESTAMP_PRECISION = 6;
+    // the wire protocol counts bind parameters with a 16-bit integer
+    private static final int MAX_BIND_PARAMETERS = 32767;
 
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSS");
 
@@ -634,6 +654,95 @@ public class PostgreSqlClient
         return aggregateFunctionRewriter.rewrite(session, aggregate, assignments);
     }
 
+    @Override
+    protected boolean isSupportedJoinType(ConnectorSession session, JoinType joinType)
+    {
+        return true;
+    }
+
+    @Override
+    protected boolean isSupportedJoinCondition(ConnectorSession session, JdbcJoinCondition joinCondition)
+    {
+        boolean isVarchar = Stream.of(joinCondition.getLeftColumn(), joinCondition.getRightColumn())
+                .map(JdbcColumnHandle::getColumnType)
+                .anyMatch(type -> type instanceof CharType || type instanceof VarcharType);
+        if (isVarchar) {
+            // PostgreSQL compares text using collation rules, so only (in)equality is consistent with Trino semantics
+            JoinCondition.Operator operator = joinCondition.getOperator();
+            return operator == JoinCondition.Operator.EQUAL ||
+                    operator == JoinCondition.Operator.NOT_EQUAL ||
+                    operator == JoinCondition.Operator.IS_DISTINCT_FROM;
+        }
+        return true;
+    }
+
+    @Override
+    public TableStatistics getTableStatistics(ConnectorSession session, JdbcTableHandle handle, TupleDomain<ColumnHandle> tupleDomain)
+    {
+        if (!handle.isNamedRelation() || handle.getGroupingSets().isPresent() || handle.getLimit().isPresent()) {
+            return TableStatistics.empty();
+        }
+        RemoteTableName remoteTableName = handle.getRemoteTableName();
+        try (Connection connection = connectionFactory.openConnection(session)) {
+            long rowCount;
+            try (PreparedStatement statement = connection.prepareStatement("" +
+                    "SELECT c.reltuples " +
+                    "FROM pg_class c " +
+                    "JOIN pg_namespace n ON c.relnamespace = n.oid " +
+                    "WHERE n.nspname = ? AND c.relname = ?")) {
+                statement.setString(1, remoteTableName.getSchemaName().orElse(null));
+                statement.setString(2, remoteTableName.getTableName());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        return TableStatistics.empty();
+                    }
+                    rowCount = (long) resultSet.getDouble(1);
+                }
+            }
+            if (rowCount <= 0) {
+                // reltuples is 0 or -1 for tables that were never analyzed
+                return TableStatistics.empty();
+            }
+
+            TableStatistics.Builder tableStatistics = TableStatistics.builder()
+                    .setRowCount(Estimate.of(rowCount));
+
+            Map<String, JdbcColumnHandle> columns = getColumns(session, handle).stream()
+                    .collect(toImmutableMap(JdbcColumnHandle::getColumnName, identity()));
+            try (PreparedStatement statement = connection.prepareStatement("" +
+                    "SELECT attname, null_frac, n_distinct, avg_width " +
+                    "FROM pg_stats " +
+                    "WHERE schemaname = ? AND tablename = ?")) {
+                statement.setString(1, remoteTableName.getSchemaName().orElse(null));
+                statement.setString(2, remoteTableName.getTableName());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        JdbcColumnHandle column = columns.get(resultSet.getString("attname"));
+                        if (column == null) {
+                            continue;
+                        }
+                        double nullsFraction = resultSet.getDouble("null_frac");
+                        double distinctValues = resultSet.getDouble("n_distinct");
+                        if (distinctValues < 0) {
+                            // negative n_distinct is the fraction of rows that are distinct
+                            distinctValues = -distinctValues * rowCount;
+                        }
+                        double averageWidth = resultSet.getDouble("avg_width");
+                        tableStatistics.setColumnStatistics(column, ColumnStatistics.builder()
+                                .setNullsFraction(Estimate.of(nullsFraction))
+                                .setDistinctValuesCount(Estimate.of(distinctValues))
+                                .setDataSize(Estimate.of(averageWidth * rowCount * (1 - nullsFraction)))
+                                .build());
+                    }
+                }
+            }
+            return tableStatistics.build();
+        }
+        catch (SQLException e) {
+            throw new TrinoException(JDBC_ERROR, e);
+        }
+    }
+
     private static Optional<JdbcTypeHandle> toTypeHandle(DecimalType decimalType)
     {
         return Optional.of(new JdbcTypeHandle(Types.NUMERIC, Optional.of("decimal"), Optional.of(decimalType.getPrecision()), Optional.of(decimalType.getScale()), Optional.empty(), Optional.empty()));
@@ -651,6 +760,79 @@ public class PostgreSqlClient
         return true;
     }
 
+    @Override
+    public boolean supportsTopN(ConnectorSession session, JdbcTableHandle handle, List<JdbcSortItem> sortOrder)
+    {
+        for (JdbcSortItem sortItem : sortOrder) {
+            Type sortItemType = sortItem.getColumn().getColumnType();
+            if (sortItemType instanceof CharType || sortItemType instanceof VarcharType) {
+                // only textual columns of the remote database accept the COLLATE clause used to match Trino's ordering
+                switch (sortItem.getColumn().getJdbcTypeHandle().getJdbcType()) {
+                    case Types.CHAR:
+                    case Types.VARCHAR:
+                        break;
+                    default:
+                        return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Optional<TopNFunction> topNFunction()
+    {
+        return Optional.of((query, sortItems, limit) -> {
+            String orderBy = sortItems.stream()
+                    .map(sortItem -> {
+                        String expression = sortItem.getColumn().toSqlExpression(this::quoted);
+                        Type sortItemType = sortItem.getColumn().getColumnType();
+                        if (sortItemType instanceof CharType || sortItemType instanceof VarcharType) {
+                            // the "C" collation compares UTF-8 bytes, which is the order Trino uses for strings
+                            expression += " COLLATE \"C\"";
+                        }
+                        return format(
+                                "%s %s NULLS %s",
+                                expression,
+                                sortItem.getSortOrder().isAscending() ? "ASC" : "DESC",
+                                sortItem.getSortOrder().isNullsFirst() ? "FIRST" : "LAST");
+                    })
+                    .collect(joining(", "));
+            return format("%s ORDER BY %s LIMIT %s", query, orderBy, limit);
+        });
+    }
+
+    @Override
+    public boolean isTopNGuaranteed(ConnectorSession session)
+    {
+        return true;
+    }
+
+    @Override
+    public JdbcPageWriter createPageWriter(ConnectorSession session, Connection connection, JdbcOutputTableHandle handle, List<WriteFunction> columnWriters, int batchSize)
+            throws SQLException
+    {
+        boolean copySupported = connection.isWrapperFor(PgConnection.class) &&
+                handle.getColumnTypes().stream().allMatch(PostgreSqlCopyPageWriter::isSupportedType) &&
+                columnWriters.stream().allMatch(writeFunction -> writeFunction.getBindExpression().equals("?"));
+        if (copySupported) {
+            String copySql = format(
+                    "COPY %s (%s) FROM STDIN WITH (FORMAT csv)",
+                    quoted(handle.getCatalogName(), handle.getSchemaName(), handle.getTemporaryTableName()),
+                    handle.getColumnNames().stream()
+                            .map(this::quoted)
+                            .collect(joining(", ")));
+            return new PostgreSqlCopyPageWriter(connection.unwrap(PgConnection.class).getCopyAPI(), copySql, handle.getColumnTypes());
+        }
+        return new MultiRowInsertPageWriter(
+                connection,
+                rows -> buildMultiRowInsertSql(handle, columnWriters, rows),
+                handle.getColumnTypes(),
+                columnWriters,
+                batchSize,
+                MAX_BIND_PARAMETERS);
+    }
+
     private static ColumnMapping timeColumnMapping(int precision)
     {
         verify(precision <= 6, "Unsupported precision: %s", precision); // PostgreSQL limit but also assumption within this method
@@ -0,0 +1,206 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.postgresql;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import io.airlift.slice.DynamicSliceOutput;
+import io.airlift.slice.Slice;
+import io.trino.plugin.jdbc.JdbcPageWriter;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.type.CharType;
+import io.trino.spi.type.DecimalType;
+import io.trino.spi.type.Type;
+import io.trino.spi.type.VarcharType;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.BooleanType.BOOLEAN;
+import static io.trino.spi.type.Decimals.readBigDecimal;
+import static io.trino.spi.type.DoubleType.DOUBLE;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.RealType.REAL;
+import static io.trino.spi.type.SmallintType.SMALLINT;
+import static io.trino.spi.type.TinyintType.TINYINT;
+import static java.lang.Float.intBitsToFloat;
+import static java.lang.Math.toIntExact;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Streams rows into PostgreSQL with {@code COPY ... FROM STDIN}, which avoids parsing and planning
+ * an INSERT statement for every batch. Rows are encoded as CSV, where an unquoted empty field is NULL.
+ */
+public class PostgreSqlCopyPageWriter
+        implements JdbcPageWriter
+{
+    private static final Set<Type> SUPPORTED_TYPES = ImmutableSet.of(BOOLEAN, TINYINT, SMALLINT, INTEGER, BIGINT, REAL, DOUBLE);
+    private static final byte[] TRUE = "t".getBytes(UTF_8);
+    private static final byte[] FALSE = "f".getBytes(UTF_8);
+    // bytes encoded before they are handed to the driver
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    // rows after which the COPY is ended, so that its rows are committed and a failure does not lose the whole write
+    private static final long MAX_ROWS_PER_COPY = 1_000_000;
+
+    private final CopyInFactory copyInFactory;
+    private final List<Type> columnTypes;
+    private final DynamicSliceOutput buffer = new DynamicSliceOutput(BUFFER_SIZE);
+
+    private CopyIn copyIn;
+    private long copiedRows;
+
+    public PostgreSqlCopyPageWriter(CopyManager copyManager, String copySql, List<Type> columnTypes)
+    {
+        this(() -> copyManager.copyIn(copySql), columnTypes);
+        requireNonNull(copyManager, "copyManager is null");
+        requireNonNull(copySql, "copySql is null");
+    }
+
+    @VisibleForTesting
+    PostgreSqlCopyPageWriter(CopyInFactory copyInFactory, List<Type> columnTypes)
+    {
+        this.copyInFactory = requireNonNull(copyInFactory, "copyInFactory is null");
+        this.columnTypes = ImmutableList.copyOf(requireNonNull(columnTypes, "columnTypes is null"));
+    }
+
+    public static boolean isSupportedType(Type type)
+    {
+        return SUPPORTED_TYPES.contains(type) || type instanceof VarcharType || type instanceof CharType || type instanceof DecimalType;
+    }
+
+    @Override
+    public long appendPage(Page page)
+            throws SQLException
+    {
+        long writtenRows = 0;
+        for (int position = 0; position < page.getPositionCount(); position++) {
+            for (int channel = 0; channel < columnTypes.size(); channel++) {
+                if (channel > 0) {
+                    buffer.appendByte(',');
+                }
+                appendValue(columnTypes.get(channel), page.getBlock(channel), position);
+            }
+            buffer.appendByte('\n');
+            copiedRows++;
+
+            if (buffer.size() >= BUFFER_SIZE) {
+                writeBuffer();
+            }
+            if (copiedRows == MAX_ROWS_PER_COPY) {
+                writtenRows += flush();
+            }
+        }
+        return writtenRows;
+    }
+
+    @Override
+    public long flush()
+            throws SQLException
+    {
+        if (copiedRows == 0) {
+            return 0;
+        }
+        writeBuffer();
+        long writtenRows = copyIn.endCopy();
+        copyIn = null;
+        copiedRows = 0;
+        return writtenRows;
+    }
+
+    @Override
+    public void close()
+            throws SQLException
+    {
+        if (copyIn != null && copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+    private void writeBuffer()
+            throws SQLException
+    {
+        if (buffer.size() == 0) {
+            return;
+        }
+        if (copyIn == null) {
+            copyIn = copyInFactory.copyIn();
+        }
+        Slice encoded = buffer.slice();
+        copyIn.writeToCopy(encoded.byteArray(), encoded.byteArrayOffset(), encoded.length());
+        buffer.reset();
+    }
+
+    private void appendValue(Type type, Block block, int position)
+    {
+        if (block.isNull(position)) {
+            // an unquoted empty field
+            return;
+        }
+        if (type == BOOLEAN) {
+            buffer.appendBytes(type.getBoolean(block, position) ? TRUE : FALSE);
+        }
+        else if (type == TINYINT || type == SMALLINT || type == INTEGER || type == BIGINT) {
+            appendAscii(Long.toString(type.getLong(block, position)));
+        }
+        else if (type == REAL) {
+            appendAscii(Float.toString(intBitsToFloat(toIntExact(type.getLong(block, position)))));
+        }
+        else if (type == DOUBLE) {
+            appendAscii(Double.toString(type.getDouble(block, position)));
+        }
+        else if (type instanceof DecimalType) {
+            appendAscii(readBigDecimal((DecimalType) type, block, position).toPlainString());
+        }
+        else if (type instanceof VarcharType || type instanceof CharType) {
+            appendQuoted(type.getSlice(block, position));
+        }
+        else {
+            throw new IllegalArgumentException("Unsupported type: " + type);
+        }
+    }
+
+    private void appendAscii(String value)
+    {
+        buffer.appendBytes(value.getBytes(UTF_8));
+    }
+
+    private void appendQuoted(Slice value)
+    {
+        buffer.appendByte('"');
+        int start = 0;
+        for (int index = 0; index < value.length(); index++) {
+            // a quote is escaped by doubling it; UTF-8 continuation bytes never match it
+            if (value.getByte(index) == '"') {
+                buffer.appendBytes(value, start, index - start + 1);
+                start = index;
+            }
+        }
+        buffer.appendBytes(value, start, value.length() - start);
+        buffer.appendByte('"');
+    }
+
+    @VisibleForTesting
+    interface CopyInFactory
+    {
+        CopyIn copyIn()
+                throws SQLException;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.postgresql;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.spi.Page;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.type.DecimalType;
+import org.postgresql.copy.CopyIn;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.reflect.Reflection.newProxy;
+import static io.airlift.slice.Slices.utf8Slice;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.BooleanType.BOOLEAN;
+import static io.trino.spi.type.DecimalType.createDecimalType;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class TestPostgreSqlCopyPageWriter
+{
+    private static final DecimalType DECIMAL = createDecimalType(10, 2);
+
+    @Test
+    public void testEncoding()
+            throws Exception
+    {
+        RecordingCopies copies = new RecordingCopies();
+        PostgreSqlCopyPageWriter pageWriter = new PostgreSqlCopyPageWriter(copies::copyIn, ImmutableList.of(BIGINT, VARCHAR, BOOLEAN, DECIMAL));
+
+        BlockBuilder ids = BIGINT.createBlockBuilder(null, 4);
+        BlockBuilder names = VARCHAR.createBlockBuilder(null, 4);
+        BlockBuilder flags = BOOLEAN.createBlockBuilder(null, 4);
+        BlockBuilder amounts = DECIMAL.createBlockBuilder(null, 4);
+
+        BIGINT.writeLong(ids, 1);
+        VARCHAR.writeSlice(names, utf8Slice("a\"b"));
+        BOOLEAN.writeBoolean(flags, true);
+        DECIMAL.writeLong(amounts, 12345);
+
+        BIGINT.writeLong(ids, -2);
+        VARCHAR.writeSlice(names, utf8Slice(""));
+        BOOLEAN.writeBoolean(flags, false);
+        DECIMAL.writeLong(amounts, -5);
+
+        BIGINT.writeLong(ids, 3);
+        names.appendNull();
+        flags.appendNull();
+        amounts.appendNull();
+
+        BIGINT.writeLong(ids, 4);
+        VARCHAR.writeSlice(names, utf8Slice("\"\",żółw"));
+        BOOLEAN.writeBoolean(flags, true);
+        DECIMAL.writeLong(amounts, 0);
+
+        // the rows are buffered until the copy is flushed
+        assertEquals(pageWriter.appendPage(new Page(ids.build(), names.build(), flags.build(), amounts.build())), 0);
+        assertTrue(copies.getCopies().isEmpty());
+
+        assertEquals(pageWriter.flush(), 4);
+        assertEquals(copies.getCopies(), ImmutableList.of(
+                "1,\"a\"\"b\",t,123.45\n" +
+                        // an empty string is quoted, so that it is not read as NULL
+                        "-2,\"\",f,-0.05\n" +
+                        "3,,,\n" +
+                        "4,\"\"\"\"\",żółw\",t,0.00\n"));
+
+        // nothing is copied after a flush without new rows
+        assertEquals(pageWriter.flush(), 0);
+        assertEquals(copies.getCopies().size(), 1);
+        pageWriter.close();
+    }
+
+    @Test
+    public void testCopyRestartedAfterMaxRows()
+            throws Exception
+    {
+        RecordingCopies copies = new RecordingCopies();
+        PostgreSqlCopyPageWriter pageWriter = new PostgreSqlCopyPageWriter(copies::copyIn, ImmutableList.of(BIGINT));
+
+        int rows = 1_000_001;
+        BlockBuilder ids = BIGINT.createBlockBuilder(null, rows);
+        for (int id = 0; id < rows; id++) {
+            BIGINT.writeLong(ids, id);
+        }
+
+        // the first million rows are committed by ending the copy while the page is appended
+        assertEquals(pageWriter.appendPage(new Page(ids.build())), 1_000_000);
+        assertEquals(copies.getCopies().size(), 1);
+        assertFalse(copies.isActive());
+
+        assertEquals(pageWriter.flush(), 1);
+        assertEquals(copies.getCopies().size(), 2);
+        assertEquals(copies.getCopies().get(1), "1000000\n");
+        pageWriter.close();
+    }
+
+    @Test
+    public void testCloseCancelsActiveCopy()
+            throws Exception
+    {
+        RecordingCopies copies = new RecordingCopies();
+        PostgreSqlCopyPageWriter pageWriter = new PostgreSqlCopyPageWriter(copies::copyIn, ImmutableList.of(BIGINT));
+
+        // a page larger than the buffer is handed to the copy before it is flushed
+        int rows = 200_000;
+        BlockBuilder ids = BIGINT.createBlockBuilder(null, rows);
+        for (int id = 0; id < rows; id++) {
+            BIGINT.writeLong(ids, id);
+        }
+        assertEquals(pageWriter.appendPage(new Page(ids.build())), 0);
+        assertTrue(copies.isActive());
+
+        pageWriter.close();
+        assertFalse(copies.isActive());
+        assertTrue(copies.getCopies().isEmpty());
+    }
+
+    private static class RecordingCopies
+    {
+        private final List<String> copies = new ArrayList<>();
+        private ByteArrayOutputStream activeCopy;
+
+        public CopyIn copyIn()
+        {
+            assertFalse(isActive(), "previous copy is not ended");
+            activeCopy = new ByteArrayOutputStream();
+            return newProxy(CopyIn.class, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "writeToCopy":
+                        activeCopy.write((byte[]) args[0], (int) args[1], (int) args[2]);
+                        return null;
+                    case "endCopy":
+                        String copy = activeCopy.toString(UTF_8);
+                        activeCopy = null;
+                        copies.add(copy);
+                        return copy.chars().filter(character -> character == '\n').count();
+                    case "isActive":
+                        return isActive();
+                    case "cancelCopy":
+                        activeCopy = null;
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+
+        public boolean isActive()
+        {
+            return activeCopy != null;
+        }
+
+        public List<String> getCopies()
+        {
+            return copies;
+        }
+    }
+}
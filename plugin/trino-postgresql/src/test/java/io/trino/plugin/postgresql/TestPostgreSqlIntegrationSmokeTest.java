@@ -14,9 +14,14 @@
 package io.trino.plugin.postgresql;
 
 import io.trino.Session;
+import io.trino.sql.planner.assertions.PlanMatchPattern;
 import io.trino.sql.planner.plan.AggregationNode;
 import io.trino.sql.planner.plan.FilterNode;
+import io.trino.sql.planner.plan.JoinNode;
+import io.trino.sql.planner.plan.TableScanNode;
 import io.trino.testing.AbstractTestIntegrationSmokeTest;
+import io.trino.testing.MaterializedResult;
+import io.trino.testing.MaterializedRow;
 import io.trino.testing.QueryRunner;
 import org.intellij.lang.annotations.Language;
 import org.testng.annotations.BeforeClass;
@@ -28,9 +33,13 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
+import static com.google.common.collect.MoreCollectors.onlyElement;
 import static io.trino.plugin.postgresql.PostgreSqlQueryRunner.createPostgreSqlQueryRunner;
+import static io.trino.sql.planner.assertions.PlanMatchPattern.anyTree;
+import static io.trino.sql.planner.assertions.PlanMatchPattern.node;
 import static io.trino.testing.sql.TestTable.randomTableSuffix;
 import static io.trino.tpch.TpchTable.CUSTOMER;
 import static io.trino.tpch.TpchTable.NATION;
@@ -431,6 +440,88 @@ public class TestPostgreSqlIntegrationSmokeTest
         assertThat(query("SELECT regionkey, count(*) FROM nation WHERE name < 'EGYPT' GROUP BY regionkey LIMIT 3")).isFullyPushedDown();
     }
 
+    @Test
+    public void testJoinPushdown()
+    {
+        Session session = joinPushdownEnabled(getSession());
+
+        // equi-join on bigint collapses into a single table scan
+        assertThat(query(session, "SELECT r.name, n.name FROM nation n JOIN region r ON n.regionkey = r.regionkey")).isFullyPushedDown();
+        assertThat(query(session, "SELECT r.name, n.name FROM nation n LEFT JOIN region r ON n.regionkey = r.regionkey")).isFullyPushedDown();
+        assertThat(query(session, "SELECT r.name, n.name FROM nation n RIGHT JOIN region r ON n.regionkey = r.regionkey")).isFullyPushedDown();
+        assertThat(query(session, "SELECT r.name, n.name FROM nation n FULL JOIN region r ON n.regionkey = r.regionkey")).isFullyPushedDown();
+
+        // join with a pushed down filter on each side
+        assertThat(query(session, "SELECT n.name FROM nation n JOIN region r ON n.regionkey = r.regionkey WHERE n.nationkey < 10 AND r.name = 'ASIA'")).isFullyPushedDown();
+
+        // comparison of bigint columns in join filter
+        assertThat(query(session, "SELECT n.name, c.name FROM nation n JOIN customer c ON n.nationkey = c.nationkey AND n.regionkey < c.custkey")).isFullyPushedDown();
+
+        // varchar equality is consistent with Trino semantics
+        assertThat(query(session, "SELECT n.name, n2.regionkey FROM nation n JOIN nation n2 ON n.name = n2.name")).isFullyPushedDown();
+
+        // varchar inequality depends on the remote collation
+        assertThat(query(session, "SELECT n.name, n2.name FROM nation n JOIN nation n2 ON n.nationkey = n2.nationkey AND n.name < n2.name")).isNotFullyPushedDown(joinOverTableScans());
+
+        // join pushdown disabled
+        assertThat(query("SELECT r.name, n.name FROM nation n JOIN region r ON n.regionkey = r.regionkey")).isNotFullyPushedDown(joinOverTableScans());
+    }
+
+    @Test
+    public void testTableStatistics()
+            throws Exception
+    {
+        String tableName = "test_stats" + randomTableSuffix();
+        try (AutoCloseable ignored = withTable("tpch." + tableName, " AS SELECT nationkey, regionkey, name, NULLIF(comment, comment) empty_comment FROM tpch.nation")) {
+            // statistics of a table that was never analyzed are unknown
+            assertQuery(
+                    "SHOW STATS FOR " + tableName,
+                    "VALUES " +
+                            "('nationkey', null, null, null, null, null, null), " +
+                            "('regionkey', null, null, null, null, null, null), " +
+                            "('name', null, null, null, null, null, null), " +
+                            "('empty_comment', null, null, null, null, null, null), " +
+                            "(null, null, null, null, null, null, null)");
+
+            execute("ANALYZE tpch." + tableName);
+            MaterializedResult statistics = computeActual("SHOW STATS FOR " + tableName);
+            assertEquals(getRowCount(statistics), 25.0);
+            assertEquals(getColumnStatistics(statistics, "nationkey").getField(2), 25.0);
+            assertEquals(getColumnStatistics(statistics, "nationkey").getField(3), 0.0);
+            // PostgreSQL keeps the distinct count as a real fraction of the row count
+            assertEquals((double) getColumnStatistics(statistics, "regionkey").getField(2), 5.0, 0.01);
+            assertEquals(getColumnStatistics(statistics, "empty_comment").getField(3), 1.0);
+            assertTrue((double) getColumnStatistics(statistics, "name").getField(1) > 0);
+        }
+    }
+
+    private static Session joinPushdownEnabled(Session session)
+    {
+        return Session.builder(session)
+                .setCatalogSessionProperty(session.getCatalog().orElseThrow(), "join_pushdown_enabled", "true")
+                .setCatalogSessionProperty(session.getCatalog().orElseThrow(), "join_pushdown_strategy", "EAGER")
+                .build();
+    }
+
+    private static PlanMatchPattern joinOverTableScans()
+    {
+        return node(JoinNode.class,
+                anyTree(node(TableScanNode.class)),
+                anyTree(node(TableScanNode.class)));
+    }
+
+    private static double getRowCount(MaterializedResult statistics)
+    {
+        return (double) getColumnStatistics(statistics, null).getField(4);
+    }
+
+    private static MaterializedRow getColumnStatistics(MaterializedResult statistics, String columnName)
+    {
+        return statistics.getMaterializedRows().stream()
+                .filter(row -> Objects.equals(row.getField(0), columnName))
+                .collect(onlyElement());
+    }
+
     /**
      * This test helps to tune TupleDomain simplification threshold.
      */
@@ -226,7 +226,9 @@ public class DatabaseShardManager
             shardDao.dropShardNodes(tableId);
             shardDao.dropShards(tableId);
 
-            handle.attach(ShardOrganizerDao.class).dropOrganizerJobs(tableId);
+            ShardOrganizerDao organizerDao = handle.attach(ShardOrganizerDao.class);
+            organizerDao.dropPendingJobs(tableId);
+            organizerDao.dropOrganizerJobs(tableId);
 
             MetadataDao dao = handle.attach(MetadataDao.class);
             dao.dropColumns(tableId);
@@ -160,4 +160,16 @@ public interface SchemaDao
             "  FOREIGN KEY (table_id) REFERENCES tables (table_id)\n" +
             ")")
     void createTableShardOrganizerJobs();
+
+    @SqlUpdate("CREATE TABLE IF NOT EXISTS shard_organizer_pending_shards (\n" +
+            "  job_uuid BINARY(16) NOT NULL,\n" +
+            "  shard_uuid BINARY(16) NOT NULL,\n" +
+            "  node_identifier VARCHAR(255) NOT NULL,\n" +
+            "  table_id BIGINT NOT NULL,\n" +
+            "  bucket_number INT,\n" +
+            "  PRIMARY KEY (job_uuid, shard_uuid),\n" +
+            "  UNIQUE (node_identifier, job_uuid, shard_uuid),\n" +
+            "  FOREIGN KEY (table_id) REFERENCES tables (table_id)\n" +
+            ")")
+    void createTableShardOrganizerPendingShards();
 }
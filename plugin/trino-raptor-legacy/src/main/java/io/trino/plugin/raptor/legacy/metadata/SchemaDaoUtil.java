@@ -57,6 +57,7 @@ public final class SchemaDaoUtil
         dao.createTableDeletedShards();
         dao.createTableBuckets();
         dao.createTableShardOrganizerJobs();
+        dao.createTableShardOrganizerPendingShards();
     }
 
     private static void sleep(Duration duration)
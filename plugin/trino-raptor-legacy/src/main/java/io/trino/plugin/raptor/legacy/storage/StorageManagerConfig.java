@@ -29,6 +29,7 @@ import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
 import java.io.File;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import static io.airlift.units.DataSize.Unit.MEGABYTE;
@@ -52,6 +53,7 @@ public class StorageManagerConfig
     private int deletionThreads = max(1, getRuntime().availableProcessors() / 2);
     private int recoveryThreads = 10;
     private int organizationThreads = 5;
+    private DataSize organizationReadRate;
     private boolean organizationEnabled = true;
     private Duration organizationDiscoveryInterval = new Duration(6, TimeUnit.HOURS);
     private Duration organizationInterval = new Duration(7, TimeUnit.DAYS);
@@ -305,6 +307,19 @@ public class StorageManagerConfig
         return organizationThreads;
     }
 
+    public Optional<DataSize> getOrganizationReadRate()
+    {
+        return Optional.ofNullable(organizationReadRate);
+    }
+
+    @Config("storage.max-organization-read-rate")
+    @ConfigDescription("Maximum rate, per second, at which all organization jobs on a node together read shard data")
+    public StorageManagerConfig setOrganizationReadRate(DataSize organizationReadRate)
+    {
+        this.organizationReadRate = organizationReadRate;
+        return this;
+    }
+
     @Min(1)
     @Max(1_000_000_000)
     public long getMaxShardRows()
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.raptor.legacy.storage.organization;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimaps;
+import io.trino.plugin.raptor.legacy.metadata.ShardManager;
+import io.trino.plugin.raptor.legacy.metadata.ShardMetadata;
+import org.skife.jdbi.v2.IDBI;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static io.trino.plugin.raptor.legacy.util.DatabaseUtil.onDemandDao;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Records the shards of every organization job enqueued on this node, so that
+ * jobs interrupted by a restart can be resumed instead of waiting for the next discovery.
+ */
+public class PendingOrganizationJobs
+{
+    private final ShardOrganizerDao dao;
+    private final String currentNodeIdentifier;
+    private final ShardManager shardManager;
+
+    public PendingOrganizationJobs(IDBI dbi, String currentNodeIdentifier, ShardManager shardManager)
+    {
+        this.dao = onDemandDao(requireNonNull(dbi, "dbi is null"), ShardOrganizerDao.class);
+        this.currentNodeIdentifier = requireNonNull(currentNodeIdentifier, "currentNodeIdentifier is null");
+        this.shardManager = requireNonNull(shardManager, "shardManager is null");
+    }
+
+    public void add(UUID jobUuid, OrganizationSet organizationSet)
+    {
+        Integer bucketNumber = organizationSet.getBucketNumber().isPresent() ? organizationSet.getBucketNumber().getAsInt() : null;
+        dao.insertPendingJob(jobUuid, currentNodeIdentifier, organizationSet.getTableId(), bucketNumber, organizationSet.getShards());
+    }
+
+    public void remove(UUID jobUuid)
+    {
+        dao.deletePendingJob(jobUuid);
+    }
+
+    /**
+     * Removes the pending jobs of this node and returns the organization sets that are still worth running.
+     * A job that committed before the node stopped no longer owns its shards, so only the shards
+     * that are still assigned to this node are kept, and jobs left with fewer than two shards are dropped.
+     */
+    public List<OrganizationSet> recover()
+    {
+        ListMultimap<UUID, PendingOrganizationShard> jobs = Multimaps.index(dao.getNodePendingShards(currentNodeIdentifier), PendingOrganizationShard::getJobUuid);
+
+        Map<Long, Set<UUID>> nodeShards = new HashMap<>();
+        ImmutableList.Builder<OrganizationSet> organizationSets = ImmutableList.builder();
+        for (Map.Entry<UUID, List<PendingOrganizationShard>> job : Multimaps.asMap(jobs).entrySet()) {
+            PendingOrganizationShard first = job.getValue().get(0);
+            Set<UUID> tableShards = nodeShards.computeIfAbsent(first.getTableId(), tableId ->
+                    shardManager.getNodeShards(currentNodeIdentifier, tableId).stream()
+                            .map(ShardMetadata::getShardUuid)
+                            .collect(toImmutableSet()));
+
+            Set<UUID> shards = job.getValue().stream()
+                    .map(PendingOrganizationShard::getShardUuid)
+                    .filter(tableShards::contains)
+                    .collect(toImmutableSet());
+            if (shards.size() > 1) {
+                organizationSets.add(new OrganizationSet(first.getTableId(), shards, first.getBucketNumber()));
+            }
+            dao.deletePendingJob(job.getKey());
+        }
+        return organizationSets.build();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.raptor.legacy.storage.organization;
+
+import org.skife.jdbi.v2.StatementContext;
+import org.skife.jdbi.v2.tweak.ResultSetMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+import static io.trino.plugin.raptor.legacy.util.DatabaseUtil.getOptionalInt;
+import static io.trino.plugin.raptor.legacy.util.UuidUtil.uuidFromBytes;
+import static java.util.Objects.requireNonNull;
+
+public class PendingOrganizationShard
+{
+    private final UUID jobUuid;
+    private final UUID shardUuid;
+    private final long tableId;
+    private final OptionalInt bucketNumber;
+
+    public PendingOrganizationShard(UUID jobUuid, UUID shardUuid, long tableId, OptionalInt bucketNumber)
+    {
+        this.jobUuid = requireNonNull(jobUuid, "jobUuid is null");
+        this.shardUuid = requireNonNull(shardUuid, "shardUuid is null");
+        this.tableId = tableId;
+        this.bucketNumber = requireNonNull(bucketNumber, "bucketNumber is null");
+    }
+
+    public UUID getJobUuid()
+    {
+        return jobUuid;
+    }
+
+    public UUID getShardUuid()
+    {
+        return shardUuid;
+    }
+
+    public long getTableId()
+    {
+        return tableId;
+    }
+
+    public OptionalInt getBucketNumber()
+    {
+        return bucketNumber;
+    }
+
+    public static class Mapper
+            implements ResultSetMapper<PendingOrganizationShard>
+    {
+        @Override
+        public PendingOrganizationShard map(int index, ResultSet r, StatementContext ctx)
+                throws SQLException
+        {
+            return new PendingOrganizationShard(
+                    uuidFromBytes(r.getBytes("job_uuid")),
+                    uuidFromBytes(r.getBytes("shard_uuid")),
+                    r.getLong("table_id"),
+                    getOptionalInt(r, "bucket_number"));
+        }
+    }
+}
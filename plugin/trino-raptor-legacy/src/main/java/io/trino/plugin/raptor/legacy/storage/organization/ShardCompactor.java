@@ -14,12 +14,13 @@
 package io.trino.plugin.raptor.legacy.storage.organization;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.RateLimiter;
 import io.airlift.stats.CounterStat;
 import io.airlift.stats.DistributionStat;
+import io.airlift.units.DataSize;
 import io.trino.orc.OrcReaderOptions;
 import io.trino.plugin.raptor.legacy.metadata.ColumnInfo;
 import io.trino.plugin.raptor.legacy.metadata.ShardInfo;
-import io.trino.plugin.raptor.legacy.storage.Row;
 import io.trino.plugin.raptor.legacy.storage.StorageManager;
 import io.trino.plugin.raptor.legacy.storage.StorageManagerConfig;
 import io.trino.plugin.raptor.legacy.storage.StoragePageSink;
@@ -40,29 +41,34 @@ import javax.inject.Inject;
 import java.io.Closeable;
 import java.io.IOException;
 import java.lang.invoke.MethodHandle;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Throwables.throwIfUnchecked;
 import static io.airlift.concurrent.MoreFutures.getFutureValue;
 import static io.airlift.units.Duration.nanosSince;
-import static io.trino.plugin.raptor.legacy.storage.Row.extractRow;
 import static io.trino.spi.StandardErrorCode.GENERIC_INTERNAL_ERROR;
 import static io.trino.spi.function.InvocationConvention.InvocationArgumentConvention.BLOCK_POSITION;
 import static io.trino.spi.function.InvocationConvention.InvocationReturnConvention.FAIL_ON_NULL;
 import static io.trino.spi.function.InvocationConvention.simpleConvention;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
 public final class ShardCompactor
 {
+    private static final int MERGE_BATCH_POSITIONS = 1024;
+
     private final StorageManager storageManager;
 
     private final CounterStat inputShards = new CounterStat();
@@ -71,22 +77,35 @@ public final class ShardCompactor
     private final DistributionStat outputShardsPerCompaction = new DistributionStat();
     private final DistributionStat compactionLatencyMillis = new DistributionStat();
     private final DistributionStat sortedCompactionLatencyMillis = new DistributionStat();
+    private final CounterStat inputRows = new CounterStat();
+    private final CounterStat inputBytes = new CounterStat();
+    private final CounterStat outputRows = new CounterStat();
+    private final AtomicInteger activeCompactions = new AtomicInteger();
     private final OrcReaderOptions orcReaderOptions;
     private final TypeOperators typeOperators;
+    // shared by all organization jobs, so that together they stay within the configured read budget
+    private final Optional<RateLimiter> readRateLimiter;
 
     @Inject
     public ShardCompactor(StorageManager storageManager, StorageManagerConfig config, TypeManager typeManager)
     {
         this(storageManager,
                 requireNonNull(config, "config is null").toOrcReaderOptions(),
-                requireNonNull(typeManager, "typeManager is null").getTypeOperators());
+                requireNonNull(typeManager, "typeManager is null").getTypeOperators(),
+                config.getOrganizationReadRate());
     }
 
     public ShardCompactor(StorageManager storageManager, OrcReaderOptions orcReaderOptions, TypeOperators typeOperators)
+    {
+        this(storageManager, orcReaderOptions, typeOperators, Optional.empty());
+    }
+
+    public ShardCompactor(StorageManager storageManager, OrcReaderOptions orcReaderOptions, TypeOperators typeOperators, Optional<DataSize> readRate)
     {
         this.storageManager = requireNonNull(storageManager, "storageManager is null");
         this.orcReaderOptions = requireNonNull(orcReaderOptions, "orcReaderOptions is null");
         this.typeOperators = requireNonNull(typeOperators, "typeOperators is null");
+        this.readRateLimiter = requireNonNull(readRate, "readRate is null").map(rate -> RateLimiter.create(rate.toBytes()));
     }
 
     public List<ShardInfo> compact(long transactionId, OptionalInt bucketNumber, Set<UUID> uuids, List<ColumnInfo> columns)
@@ -99,6 +118,7 @@ public final class ShardCompactor
         StoragePageSink storagePageSink = storageManager.createStoragePageSink(transactionId, bucketNumber, columnIds, columnTypes, false);
 
         List<ShardInfo> shardInfos;
+        activeCompactions.incrementAndGet();
         try {
             shardInfos = compact(storagePageSink, bucketNumber, uuids, columnIds, columnTypes);
         }
@@ -106,8 +126,11 @@ public final class ShardCompactor
             storagePageSink.rollback();
             throw e;
         }
+        finally {
+            activeCompactions.decrementAndGet();
+        }
 
-        updateStats(uuids.size(), shardInfos.size(), nanosSince(start).toMillis());
+        updateStats(uuids.size(), shardInfos.size(), nanosSince(start).toMillis(), compactionLatencyMillis);
         return shardInfos;
     }
 
@@ -117,11 +140,12 @@ public final class ShardCompactor
         for (UUID uuid : uuids) {
             try (ConnectorPageSource pageSource = storageManager.getPageSource(uuid, bucketNumber, columnIds, columnTypes, TupleDomain.all(), orcReaderOptions)) {
                 while (!pageSource.isFinished()) {
-                    Page page = pageSource.getNextPage();
+                    Page page = getNextPage(pageSource);
                     if (isNullOrEmptyPage(page)) {
                         continue;
                     }
                     storagePageSink.appendPages(ImmutableList.of(page));
+                    outputRows.update(page.getPositionCount());
                     if (storagePageSink.isFull()) {
                         storagePageSink.flush();
                     }
@@ -147,34 +171,49 @@ public final class ShardCompactor
                 .map(columnIds::indexOf)
                 .collect(toList());
 
-        Queue<SortedRowSource> rowSources = new PriorityQueue<>();
+        ImmutableList.Builder<MethodHandle> orderingOperatorsBuilder = ImmutableList.builder();
+        for (int index = 0; index < sortIndexes.size(); index++) {
+            Type type = columnTypes.get(sortIndexes.get(index));
+            orderingOperatorsBuilder.add(typeOperators.getOrderingOperator(type, sortOrders.get(index), simpleConvention(FAIL_ON_NULL, BLOCK_POSITION, BLOCK_POSITION)));
+        }
+        List<MethodHandle> orderingOperators = orderingOperatorsBuilder.build();
+
+        List<SortedPageSource> pageSources = new ArrayList<>();
         StoragePageSink outputPageSink = storageManager.createStoragePageSink(transactionId, bucketNumber, columnIds, columnTypes, false);
+        activeCompactions.incrementAndGet();
         try {
+            Queue<SortedPageSource> queue = new PriorityQueue<>();
             for (UUID uuid : uuids) {
                 ConnectorPageSource pageSource = storageManager.getPageSource(uuid, bucketNumber, columnIds, columnTypes, TupleDomain.all(), orcReaderOptions);
-                SortedRowSource rowSource = new SortedRowSource(pageSource, columnTypes, sortIndexes, sortOrders, typeOperators);
-                rowSources.add(rowSource);
-            }
-            while (!rowSources.isEmpty()) {
-                SortedRowSource rowSource = rowSources.poll();
-                if (!rowSource.hasNext()) {
-                    // rowSource is empty, close it
-                    rowSource.close();
-                    continue;
+                SortedPageSource sortedPageSource = new SortedPageSource(pageSource, sortIndexes, orderingOperators);
+                pageSources.add(sortedPageSource);
+                if (sortedPageSource.advance()) {
+                    queue.add(sortedPageSource);
                 }
+            }
 
-                outputPageSink.appendRow(rowSource.next());
+            MergeBatch batch = new MergeBatch(outputPageSink);
+            while (!queue.isEmpty()) {
+                SortedPageSource pageSource = queue.poll();
+                SortedPageSource next = queue.peek();
 
-                if (outputPageSink.isFull()) {
-                    outputPageSink.flush();
+                // copy the run of positions that sort before the next source without going through the queue
+                boolean hasMore;
+                do {
+                    batch.append(pageSource);
+                    hasMore = pageSource.advance();
                 }
+                while (hasMore && (next == null || pageSource.compareTo(next) <= 0));
 
-                rowSources.add(rowSource);
+                if (hasMore) {
+                    queue.add(pageSource);
+                }
             }
+            batch.flush();
             outputPageSink.flush();
             List<ShardInfo> shardInfos = getFutureValue(outputPageSink.commit());
 
-            updateStats(uuids.size(), shardInfos.size(), nanosSince(start).toMillis());
+            updateStats(uuids.size(), shardInfos.size(), nanosSince(start).toMillis(), sortedCompactionLatencyMillis);
 
             return shardInfos;
         }
@@ -183,103 +222,93 @@ public final class ShardCompactor
             throw e;
         }
         finally {
-            rowSources.forEach(SortedRowSource::closeQuietly);
+            pageSources.forEach(SortedPageSource::closeQuietly);
+            activeCompactions.decrementAndGet();
+        }
+    }
+
+    private Page getNextPage(ConnectorPageSource pageSource)
+    {
+        Page page = pageSource.getNextPage();
+        if (page == null) {
+            return null;
         }
+        page = page.getLoadedPage();
+        recordRead(page);
+        return page;
     }
 
-    private static class SortedRowSource
-            implements Iterator<Row>, Comparable<SortedRowSource>, Closeable
+    private void recordRead(Page page)
+    {
+        long sizeInBytes = page.getSizeInBytes();
+        inputRows.update(page.getPositionCount());
+        inputBytes.update(sizeInBytes);
+        if (sizeInBytes > 0) {
+            readRateLimiter.ifPresent(limiter -> limiter.acquire(toIntExact(min(sizeInBytes, Integer.MAX_VALUE))));
+        }
+    }
+
+    /**
+     * Cursor over the positions of a shard that is already sorted on the sort columns.
+     */
+    private class SortedPageSource
+            implements Comparable<SortedPageSource>, Closeable
     {
         private final ConnectorPageSource pageSource;
-        private final List<Type> columnTypes;
         private final List<Integer> sortIndexes;
         private final List<MethodHandle> orderingOperators;
 
         private Page currentPage;
         private int currentPosition;
 
-        public SortedRowSource(ConnectorPageSource pageSource, List<Type> columnTypes, List<Integer> sortIndexes, List<SortOrder> sortOrders, TypeOperators typeOperators)
+        // location of the current page in the merge batch it was last appended to
+        private long batchGeneration = -1;
+        private int batchPageIndex;
+
+        public SortedPageSource(ConnectorPageSource pageSource, List<Integer> sortIndexes, List<MethodHandle> orderingOperators)
         {
             this.pageSource = requireNonNull(pageSource, "pageSource is null");
-            this.columnTypes = ImmutableList.copyOf(requireNonNull(columnTypes, "columnTypes is null"));
-            this.sortIndexes = ImmutableList.copyOf(requireNonNull(sortIndexes, "sortIndexes is null"));
-            requireNonNull(sortOrders, "sortOrders is null");
-
-            ImmutableList.Builder<MethodHandle> orderingOperators = ImmutableList.builder();
-            for (int index = 0; index < sortIndexes.size(); index++) {
-                Type type = columnTypes.get(sortIndexes.get(index));
-                SortOrder sortOrder = sortOrders.get(index);
-                orderingOperators.add(typeOperators.getOrderingOperator(type, sortOrder, simpleConvention(FAIL_ON_NULL, BLOCK_POSITION, BLOCK_POSITION)));
-            }
-            this.orderingOperators = orderingOperators.build();
-
-            currentPage = pageSource.getNextPage();
-            currentPosition = 0;
+            this.sortIndexes = requireNonNull(sortIndexes, "sortIndexes is null");
+            this.orderingOperators = requireNonNull(orderingOperators, "orderingOperators is null");
         }
 
-        @Override
-        public boolean hasNext()
+        /**
+         * Moves to the next position, loading the next non-empty page when the current one is exhausted.
+         *
+         * @return false when the shard has no more positions
+         */
+        public boolean advance()
         {
-            if (hasMorePositions(currentPage, currentPosition)) {
+            if (currentPage != null && currentPosition + 1 < currentPage.getPositionCount()) {
+                currentPosition++;
                 return true;
             }
 
-            Page page = getNextPage(pageSource);
-            if (isNullOrEmptyPage(page)) {
-                return false;
-            }
-            currentPage = page.getLoadedPage();
-            currentPosition = 0;
-            return true;
-        }
-
-        private static Page getNextPage(ConnectorPageSource pageSource)
-        {
-            Page page = null;
-            while (isNullOrEmptyPage(page) && !pageSource.isFinished()) {
-                page = pageSource.getNextPage();
-                if (page != null) {
-                    page = page.getLoadedPage();
+            currentPage = null;
+            while (!pageSource.isFinished()) {
+                Page page = getNextPage(pageSource);
+                if (!isNullOrEmptyPage(page)) {
+                    currentPage = page;
+                    currentPosition = 0;
+                    batchGeneration = -1;
+                    return true;
                 }
             }
-            return page;
-        }
-
-        @Override
-        public Row next()
-        {
-            if (!hasNext()) {
-                throw new NoSuchElementException();
-            }
-
-            Row row = extractRow(currentPage, currentPosition, columnTypes);
-            currentPosition++;
-            return row;
+            return false;
         }
 
         @Override
-        public int compareTo(SortedRowSource other)
+        public int compareTo(SortedPageSource other)
         {
-            if (!hasNext()) {
-                return 1;
-            }
-
-            if (!other.hasNext()) {
-                return -1;
-            }
-
             try {
                 for (int i = 0; i < sortIndexes.size(); i++) {
                     int channel = sortIndexes.get(i);
 
                     Block leftBlock = currentPage.getBlock(channel);
-                    int leftBlockPosition = currentPosition;
-
                     Block rightBlock = other.currentPage.getBlock(channel);
-                    int rightBlockPosition = other.currentPosition;
 
                     MethodHandle comparator = orderingOperators.get(i);
-                    int compare = (int) comparator.invokeExact(leftBlock, leftBlockPosition, rightBlock, rightBlockPosition);
+                    int compare = (int) comparator.invokeExact(leftBlock, currentPosition, rightBlock, other.currentPosition);
                     if (compare != 0) {
                         return compare;
                     }
@@ -292,11 +321,6 @@ public final class ShardCompactor
             }
         }
 
-        private static boolean hasMorePositions(Page currentPage, int currentPosition)
-        {
-            return currentPage != null && currentPosition < currentPage.getPositionCount();
-        }
-
         void closeQuietly()
         {
             try {
@@ -314,12 +338,65 @@ public final class ShardCompactor
         }
     }
 
+    /**
+     * Collects merged positions as page and position indexes, so that they are written
+     * to the output in bulk rather than materialized one row at a time.
+     */
+    private class MergeBatch
+    {
+        private final StoragePageSink outputPageSink;
+
+        private List<Page> pages = new ArrayList<>();
+        private final int[] pageIndexes = new int[MERGE_BATCH_POSITIONS];
+        private final int[] positionIndexes = new int[MERGE_BATCH_POSITIONS];
+        private int positionCount;
+        private long generation;
+
+        public MergeBatch(StoragePageSink outputPageSink)
+        {
+            this.outputPageSink = requireNonNull(outputPageSink, "outputPageSink is null");
+        }
+
+        public void append(SortedPageSource pageSource)
+        {
+            if (pageSource.batchGeneration != generation) {
+                pageSource.batchGeneration = generation;
+                pageSource.batchPageIndex = pages.size();
+                pages.add(pageSource.currentPage);
+            }
+            pageIndexes[positionCount] = pageSource.batchPageIndex;
+            positionIndexes[positionCount] = pageSource.currentPosition;
+            positionCount++;
+
+            if (positionCount == MERGE_BATCH_POSITIONS) {
+                flush();
+            }
+        }
+
+        public void flush()
+        {
+            if (positionCount == 0) {
+                return;
+            }
+            outputPageSink.appendPages(pages, Arrays.copyOf(pageIndexes, positionCount), Arrays.copyOf(positionIndexes, positionCount));
+            outputRows.update(positionCount);
+
+            pages = new ArrayList<>();
+            positionCount = 0;
+            generation++;
+
+            if (outputPageSink.isFull()) {
+                outputPageSink.flush();
+            }
+        }
+    }
+
     private static boolean isNullOrEmptyPage(Page nextPage)
     {
         return nextPage == null || nextPage.getPositionCount() == 0;
     }
 
-    private void updateStats(int inputShardsCount, int outputShardsCount, long latency)
+    private void updateStats(int inputShardsCount, int outputShardsCount, long latency, DistributionStat latencyMillis)
     {
         inputShards.update(inputShardsCount);
         outputShards.update(outputShardsCount);
@@ -327,7 +404,7 @@ public final class ShardCompactor
         inputShardsPerCompaction.add(inputShardsCount);
         outputShardsPerCompaction.add(outputShardsCount);
 
-        compactionLatencyMillis.add(latency);
+        latencyMillis.add(latency);
     }
 
     @Managed
@@ -371,4 +448,31 @@ public final class ShardCompactor
     {
         return sortedCompactionLatencyMillis;
     }
+
+    @Managed
+    @Nested
+    public CounterStat getInputRows()
+    {
+        return inputRows;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getInputBytes()
+    {
+        return inputBytes;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getOutputRows()
+    {
+        return outputRows;
+    }
+
+    @Managed
+    public int getActiveCompactions()
+    {
+        return activeCompactions.get();
+    }
 }
@@ -16,13 +16,19 @@ package io.trino.plugin.raptor.legacy.storage.organization;
 import io.airlift.concurrent.ThreadPoolExecutorMBean;
 import io.airlift.log.Logger;
 import io.airlift.stats.CounterStat;
+import io.trino.plugin.raptor.legacy.metadata.ForMetadata;
+import io.trino.plugin.raptor.legacy.metadata.ShardManager;
 import io.trino.plugin.raptor.legacy.storage.StorageManagerConfig;
+import io.trino.spi.NodeManager;
+import org.skife.jdbi.v2.IDBI;
 import org.weakref.jmx.Managed;
 import org.weakref.jmx.Nested;
 
+import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -49,23 +55,51 @@ public class ShardOrganizer
     // Tracks shards that are scheduled for compaction so that we do not schedule them more than once
     private final Set<UUID> shardsInProgress = newConcurrentHashSet();
     private final JobFactory jobFactory;
+    private final Optional<PendingOrganizationJobs> pendingJobs;
     private final CounterStat successCount = new CounterStat();
     private final CounterStat failureCount = new CounterStat();
+    private final CounterStat resumedCount = new CounterStat();
 
     @Inject
-    public ShardOrganizer(JobFactory jobFactory, StorageManagerConfig config)
+    public ShardOrganizer(JobFactory jobFactory, StorageManagerConfig config, @ForMetadata IDBI dbi, NodeManager nodeManager, ShardManager shardManager)
     {
-        this(jobFactory, config.getOrganizationThreads());
+        this(jobFactory,
+                config.getOrganizationThreads(),
+                Optional.of(new PendingOrganizationJobs(dbi, nodeManager.getCurrentNode().getNodeIdentifier(), shardManager)));
     }
 
     public ShardOrganizer(JobFactory jobFactory, int threads)
+    {
+        this(jobFactory, threads, Optional.empty());
+    }
+
+    public ShardOrganizer(JobFactory jobFactory, int threads, Optional<PendingOrganizationJobs> pendingJobs)
     {
         checkArgument(threads > 0, "threads must be > 0");
         this.jobFactory = requireNonNull(jobFactory, "jobFactory is null");
+        this.pendingJobs = requireNonNull(pendingJobs, "pendingJobs is null");
         this.executorService = newFixedThreadPool(threads, daemonThreadsNamed("shard-organizer-%s"));
         this.executorMBean = new ThreadPoolExecutorMBean((ThreadPoolExecutor) executorService);
     }
 
+    @PostConstruct
+    public void start()
+    {
+        if (pendingJobs.isEmpty()) {
+            return;
+        }
+        try {
+            for (OrganizationSet organizationSet : pendingJobs.get().recover()) {
+                log.info("Resuming organization job for shards %s", organizationSet.getShards());
+                enqueue(organizationSet);
+                resumedCount.update(1);
+            }
+        }
+        catch (RuntimeException e) {
+            log.warn(e, "Error resuming pending organization jobs");
+        }
+    }
+
     @PreDestroy
     public void shutdown()
     {
@@ -76,10 +110,17 @@ public class ShardOrganizer
 
     public CompletableFuture<?> enqueue(OrganizationSet organizationSet)
     {
+        UUID jobUuid = UUID.randomUUID();
+        pendingJobs.ifPresent(jobs -> recordPendingJob(jobs, jobUuid, organizationSet));
+
         shardsInProgress.addAll(organizationSet.getShards());
         return runAsync(jobFactory.create(organizationSet), executorService)
                 .whenComplete((none, throwable) -> {
                     shardsInProgress.removeAll(organizationSet.getShards());
+                    // jobs interrupted by shutdown stay recorded so that they are resumed on restart
+                    if (!shutdown.get()) {
+                        pendingJobs.ifPresent(jobs -> removePendingJob(jobs, jobUuid));
+                    }
                     if (throwable == null) {
                         successCount.update(1);
                     }
@@ -95,6 +136,27 @@ public class ShardOrganizer
         return shardsInProgress.contains(shardUuid);
     }
 
+    private static void recordPendingJob(PendingOrganizationJobs pendingJobs, UUID jobUuid, OrganizationSet organizationSet)
+    {
+        try {
+            pendingJobs.add(jobUuid, organizationSet);
+        }
+        catch (RuntimeException e) {
+            // the job still runs, it just cannot be resumed if the node stops before it completes
+            log.warn(e, "Error recording organization job for shards %s", organizationSet.getShards());
+        }
+    }
+
+    private static void removePendingJob(PendingOrganizationJobs pendingJobs, UUID jobUuid)
+    {
+        try {
+            pendingJobs.remove(jobUuid);
+        }
+        catch (RuntimeException e) {
+            log.warn(e, "Error removing organization job %s", jobUuid);
+        }
+    }
+
     @Managed
     @Nested
     public ThreadPoolExecutorMBean getExecutor()
@@ -121,4 +183,11 @@ public class ShardOrganizer
     {
         return failureCount;
     }
+
+    @Managed
+    @Nested
+    public CounterStat getResumedCount()
+    {
+        return resumedCount;
+    }
 }
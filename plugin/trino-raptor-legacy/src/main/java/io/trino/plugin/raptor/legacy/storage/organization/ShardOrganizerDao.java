@@ -13,13 +13,19 @@
  */
 package io.trino.plugin.raptor.legacy.storage.organization;
 
+import io.trino.plugin.raptor.legacy.util.UuidUtil.UuidArgumentFactory;
 import org.skife.jdbi.v2.sqlobject.Bind;
+import org.skife.jdbi.v2.sqlobject.SqlBatch;
 import org.skife.jdbi.v2.sqlobject.SqlQuery;
 import org.skife.jdbi.v2.sqlobject.SqlUpdate;
 import org.skife.jdbi.v2.sqlobject.customizers.Mapper;
+import org.skife.jdbi.v2.sqlobject.customizers.RegisterArgumentFactory;
 
+import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
+@RegisterArgumentFactory(UuidArgumentFactory.class)
 public interface ShardOrganizerDao
 {
     @SqlUpdate("INSERT INTO shard_organizer_jobs (node_identifier, table_id, last_start_time)\n" +
@@ -42,4 +48,25 @@ public interface ShardOrganizerDao
 
     @SqlUpdate("DELETE FROM shard_organizer_jobs WHERE table_id = :tableId")
     void dropOrganizerJobs(@Bind("tableId") long tableId);
+
+    @SqlBatch("INSERT INTO shard_organizer_pending_shards (job_uuid, shard_uuid, node_identifier, table_id, bucket_number)\n" +
+            "VALUES (:jobUuid, :shardUuid, :nodeIdentifier, :tableId, :bucketNumber)")
+    void insertPendingJob(
+            @Bind("jobUuid") UUID jobUuid,
+            @Bind("nodeIdentifier") String nodeIdentifier,
+            @Bind("tableId") long tableId,
+            @Bind("bucketNumber") Integer bucketNumber,
+            @Bind("shardUuid") Iterable<UUID> shardUuids);
+
+    @SqlUpdate("DELETE FROM shard_organizer_pending_shards WHERE job_uuid = :jobUuid")
+    void deletePendingJob(@Bind("jobUuid") UUID jobUuid);
+
+    @SqlQuery("SELECT job_uuid, shard_uuid, table_id, bucket_number\n" +
+            "   FROM shard_organizer_pending_shards\n" +
+            "   WHERE node_identifier = :nodeIdentifier")
+    @Mapper(PendingOrganizationShard.Mapper.class)
+    List<PendingOrganizationShard> getNodePendingShards(@Bind("nodeIdentifier") String nodeIdentifier);
+
+    @SqlUpdate("DELETE FROM shard_organizer_pending_shards WHERE table_id = :tableId")
+    void dropPendingJobs(@Bind("tableId") long tableId);
 }
@@ -58,6 +58,7 @@ public class TestStorageManagerConfig
                 .setShardEjectorInterval(new Duration(4, HOURS))
                 .setRecoveryThreads(10)
                 .setOrganizationThreads(5)
+                .setOrganizationReadRate(null)
                 .setCompactionEnabled(true)
                 .setOrganizationEnabled(true)
                 .setOrganizationInterval(new Duration(7, DAYS))
@@ -91,6 +92,7 @@ public class TestStorageManagerConfig
                 .put("storage.ejector-interval", "9h")
                 .put("storage.max-recovery-threads", "12")
                 .put("storage.max-organization-threads", "12")
+                .put("storage.max-organization-read-rate", "64MB")
                 .put("storage.max-shard-rows", "10000")
                 .put("storage.max-shard-size", "10MB")
                 .put("storage.max-buffer-size", "512MB")
@@ -117,6 +119,7 @@ public class TestStorageManagerConfig
                 .setShardEjectorInterval(new Duration(9, HOURS))
                 .setRecoveryThreads(12)
                 .setOrganizationThreads(12)
+                .setOrganizationReadRate(DataSize.of(64, MEGABYTE))
                 .setMaxShardRows(10_000)
                 .setMaxShardSize(DataSize.of(10, MEGABYTE))
                 .setMaxBufferSize(DataSize.of(512, MEGABYTE))
@@ -13,15 +13,30 @@
  */
 package io.trino.plugin.raptor.legacy.storage.organization;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import io.trino.plugin.raptor.legacy.metadata.ColumnInfo;
+import io.trino.plugin.raptor.legacy.metadata.MetadataDao;
+import io.trino.plugin.raptor.legacy.metadata.ShardManager;
+import org.skife.jdbi.v2.DBI;
+import org.skife.jdbi.v2.Handle;
 import org.testng.annotations.Test;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.google.common.util.concurrent.Uninterruptibles.sleepUninterruptibly;
+import static io.trino.plugin.raptor.legacy.metadata.SchemaDaoUtil.createTablesWithRetry;
+import static io.trino.plugin.raptor.legacy.metadata.TestDatabaseShardManager.createShardManager;
+import static io.trino.plugin.raptor.legacy.metadata.TestDatabaseShardManager.shardInfo;
+import static io.trino.spi.type.BigintType.BIGINT;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -51,6 +66,50 @@ public class TestShardOrganizer
         organizer.shutdown();
     }
 
+    @Test(timeOut = 5_000)
+    public void testResumePendingJobs()
+            throws Exception
+    {
+        DBI dbi = new DBI("jdbc:h2:mem:test" + System.nanoTime() + ThreadLocalRandom.current().nextLong());
+        try (Handle dummyHandle = dbi.open()) {
+            createTablesWithRetry(dbi);
+
+            long tableId = dbi.onDemand(MetadataDao.class).insertTable("schema", "table1", false, false, null, 0);
+            List<ColumnInfo> columns = ImmutableList.of(new ColumnInfo(1, BIGINT));
+            ShardManager shardManager = createShardManager(dbi);
+            shardManager.createTable(tableId, columns, false, OptionalLong.empty());
+
+            UUID shard1 = UUID.randomUUID();
+            UUID shard2 = UUID.randomUUID();
+            UUID shard3 = UUID.randomUUID();
+            long transactionId = shardManager.beginTransaction();
+            shardManager.commitShards(
+                    transactionId,
+                    tableId,
+                    columns,
+                    ImmutableList.of(shardInfo(shard1, "node1"), shardInfo(shard2, "node1"), shardInfo(shard3, "node1")),
+                    Optional.empty(),
+                    0);
+
+            // the second job already replaced one of its shards before the node stopped, so nothing is left to merge
+            PendingOrganizationJobs pendingJobs = new PendingOrganizationJobs(dbi, "node1", shardManager);
+            pendingJobs.add(UUID.randomUUID(), new OrganizationSet(tableId, ImmutableSet.of(shard1, shard2, UUID.randomUUID()), OptionalInt.empty()));
+            pendingJobs.add(UUID.randomUUID(), new OrganizationSet(tableId, ImmutableSet.of(shard3, UUID.randomUUID()), OptionalInt.empty()));
+
+            RecordingJobFactory jobFactory = new RecordingJobFactory();
+            ShardOrganizer organizer = new ShardOrganizer(jobFactory, 1, Optional.of(pendingJobs));
+            organizer.start();
+
+            while (organizer.getSuccessCount().getTotalCount() < 1) {
+                MILLISECONDS.sleep(10);
+            }
+            assertEquals(jobFactory.getOrganizationSets(), ImmutableList.of(new OrganizationSet(tableId, ImmutableSet.of(shard1, shard2), OptionalInt.empty())));
+            assertEquals(organizer.getResumedCount().getTotalCount(), 1);
+            assertTrue(dbi.onDemand(ShardOrganizerDao.class).getNodePendingShards("node1").isEmpty());
+            organizer.shutdown();
+        }
+    }
+
     private static class MockJobFactory
             implements JobFactory
     {
@@ -61,6 +120,24 @@ public class TestShardOrganizer
         }
     }
 
+    private static class RecordingJobFactory
+            implements JobFactory
+    {
+        private final List<OrganizationSet> organizationSets = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Runnable create(OrganizationSet organizationSet)
+        {
+            organizationSets.add(organizationSet);
+            return () -> {};
+        }
+
+        public List<OrganizationSet> getOrganizationSets()
+        {
+            return organizationSets;
+        }
+    }
+
     static ShardOrganizer createShardOrganizer()
     {
         return new ShardOrganizer(new MockJobFactory(), 1);
@@ -24,12 +24,18 @@ import io.trino.plugin.jdbc.ColumnMapping;
 import io.trino.plugin.jdbc.ConnectionFactory;
 import io.trino.plugin.jdbc.JdbcColumnHandle;
 import io.trino.plugin.jdbc.JdbcExpression;
+import io.trino.plugin.jdbc.JdbcJoinCondition;
 import io.trino.plugin.jdbc.JdbcOutputTableHandle;
+import io.trino.plugin.jdbc.JdbcPageWriter;
+import io.trino.plugin.jdbc.JdbcSortItem;
 import io.trino.plugin.jdbc.JdbcSplit;
 import io.trino.plugin.jdbc.JdbcTableHandle;
 import io.trino.plugin.jdbc.JdbcTypeHandle;
+import io.trino.plugin.jdbc.MultiRowInsertPageWriter;
 import io.trino.plugin.jdbc.RemoteTableName;
 import io.trino.plugin.jdbc.SliceWriteFunction;
+import io.trino.plugin.jdbc.TopNFunction;
+import io.trino.plugin.jdbc.WriteFunction;
 import io.trino.plugin.jdbc.WriteMapping;
 import io.trino.plugin.jdbc.expression.AggregateFunctionRewriter;
 import io.trino.plugin.jdbc.expression.AggregateFunctionRule;
@@ -44,7 +50,13 @@ import io.trino.spi.connector.AggregateFunction;
 import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorTableMetadata;
+import io.trino.spi.connector.JoinCondition;
+import io.trino.spi.connector.JoinType;
 import io.trino.spi.connector.SchemaTableName;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.statistics.ColumnStatistics;
+import io.trino.spi.statistics.Estimate;
+import io.trino.spi.statistics.TableStatistics;
 import io.trino.spi.type.CharType;
 import io.trino.spi.type.DecimalType;
 import io.trino.spi.type.Decimals;
@@ -64,8 +76,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+import static com.google.common.collect.Maps.immutableEntry;
 import static com.microsoft.sqlserver.jdbc.SQLServerConnection.TRANSACTION_SNAPSHOT;
 import static io.airlift.slice.Slices.wrappedBuffer;
 import static io.trino.plugin.jdbc.JdbcErrorCode.JDBC_ERROR;
@@ -108,9 +123,11 @@ import static io.trino.spi.type.TimestampType.TIMESTAMP;
 import static io.trino.spi.type.TinyintType.TINYINT;
 import static io.trino.spi.type.VarbinaryType.VARBINARY;
 import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.lang.String.join;
 import static java.math.RoundingMode.UNNECESSARY;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.joining;
 
 public class SqlServerClient
@@ -120,6 +137,8 @@ public class SqlServerClient
     public static final int SQL_SERVER_MAX_LIST_EXPRESSIONS = 500;
 
     private static final Joiner DOT_JOINER = Joiner.on(".");
+    private static final int MAX_BIND_PARAMETERS = 2100;
+    private static final int MAX_VALUES_ROWS = 1000;
 
     private final AggregateFunctionRewriter aggregateFunctionRewriter;
 
@@ -340,6 +359,89 @@ public class SqlServerClient
         return aggregateFunctionRewriter.rewrite(session, aggregate, assignments);
     }
 
+    @Override
+    protected boolean isSupportedJoinType(ConnectorSession session, JoinType joinType)
+    {
+        return true;
+    }
+
+    @Override
+    protected boolean isSupportedJoinCondition(ConnectorSession session, JdbcJoinCondition joinCondition)
+    {
+        if (joinCondition.getOperator() == JoinCondition.Operator.IS_DISTINCT_FROM) {
+            // Not supported in SQL Server
+            return false;
+        }
+        // Remote database can be case insensitive
+        return Stream.of(joinCondition.getLeftColumn(), joinCondition.getRightColumn())
+                .map(JdbcColumnHandle::getColumnType)
+                .noneMatch(type -> type instanceof CharType || type instanceof VarcharType);
+    }
+
+    @Override
+    public TableStatistics getTableStatistics(ConnectorSession session, JdbcTableHandle handle, TupleDomain<ColumnHandle> tupleDomain)
+    {
+        if (!handle.isNamedRelation() || handle.getGroupingSets().isPresent() || handle.getLimit().isPresent()) {
+            return TableStatistics.empty();
+        }
+        try (Connection connection = connectionFactory.openConnection(session);
+                Handle jdbiHandle = Jdbi.open(connection)) {
+            return readTableStatistics(session, jdbiHandle, handle);
+        }
+        catch (SQLException exception) {
+            throw new TrinoException(JDBC_ERROR, exception);
+        }
+    }
+
+    private TableStatistics readTableStatistics(ConnectorSession session, Handle jdbiHandle, JdbcTableHandle table)
+    {
+        RemoteTableName remoteTableName = table.getRemoteTableName();
+        String objectName = "QUOTENAME(:schema) + '.' + QUOTENAME(:table_name)";
+        Optional<Long> rowCount = jdbiHandle.createQuery("" +
+                "SELECT sum(rows) FROM sys.partitions " +
+                "WHERE object_id = OBJECT_ID(" + objectName + ") " +
+                "AND index_id IN (0, 1)") // Heap or clustered index
+                .bind("schema", remoteTableName.getSchemaName().orElse(null))
+                .bind("table_name", remoteTableName.getTableName())
+                .mapTo(Long.class)
+                .findOne();
+        if (rowCount.isEmpty() || rowCount.get() <= 0) {
+            return TableStatistics.empty();
+        }
+
+        TableStatistics.Builder tableStatistics = TableStatistics.builder()
+                .setRowCount(Estimate.of(rowCount.get()));
+
+        // histograms are available for the leading column of each statistics object only
+        Map<String, JdbcColumnHandle> columns = getColumns(session, table).stream()
+                .collect(toImmutableMap(JdbcColumnHandle::getColumnName, identity()));
+        jdbiHandle.createQuery("" +
+                "SELECT c.name AS column_name, " +
+                "sum(h.distinct_range_rows) + count(h.range_high_key) AS distinct_values, " +
+                "sum(CASE WHEN h.range_high_key IS NULL THEN h.equal_rows ELSE 0 END) AS null_rows " +
+                "FROM sys.stats s " +
+                "INNER JOIN sys.stats_columns sc ON s.object_id = sc.object_id AND s.stats_id = sc.stats_id AND sc.stats_column_id = 1 " +
+                "INNER JOIN sys.columns c ON sc.object_id = c.object_id AND sc.column_id = c.column_id " +
+                "CROSS APPLY sys.dm_db_stats_histogram(s.object_id, s.stats_id) h " +
+                "WHERE s.object_id = OBJECT_ID(" + objectName + ") " +
+                "GROUP BY c.name, s.stats_id")
+                .bind("schema", remoteTableName.getSchemaName().orElse(null))
+                .bind("table_name", remoteTableName.getTableName())
+                .map((resultSet, context) -> immutableEntry(
+                        resultSet.getString("column_name"),
+                        ColumnStatistics.builder()
+                                .setDistinctValuesCount(Estimate.of(resultSet.getDouble("distinct_values")))
+                                .setNullsFraction(Estimate.of(min(1.0, resultSet.getDouble("null_rows") / rowCount.get())))
+                                .build()))
+                .forEach(entry -> {
+                    JdbcColumnHandle column = columns.get(entry.getKey());
+                    if (column != null) {
+                        tableStatistics.setColumnStatistics(column, entry.getValue());
+                    }
+                });
+        return tableStatistics.build();
+    }
+
     private static Optional<JdbcTypeHandle> toTypeHandle(DecimalType decimalType)
     {
         return Optional.of(new JdbcTypeHandle(Types.NUMERIC, Optional.of("decimal"), Optional.of(decimalType.getPrecision()), Optional.of(decimalType.getScale()), Optional.empty(), Optional.empty()));
@@ -361,6 +463,57 @@ public class SqlServerClient
         return true;
     }
 
+    @Override
+    public boolean supportsTopN(ConnectorSession session, JdbcTableHandle handle, List<JdbcSortItem> sortOrder)
+    {
+        for (JdbcSortItem sortItem : sortOrder) {
+            Type sortItemType = sortItem.getColumn().getColumnType();
+            if (sortItemType instanceof CharType || sortItemType instanceof VarcharType) {
+                // Remote database can be case insensitive.
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Optional<TopNFunction> topNFunction()
+    {
+        return Optional.of((query, sortItems, limit) -> {
+            String start = "SELECT ";
+            checkArgument(query.startsWith(start));
+            String orderBy = sortItems.stream()
+                    .flatMap(sortItem -> {
+                        String ordering = sortItem.getSortOrder().isAscending() ? "ASC" : "DESC";
+                        String expression = sortItem.getColumn().toSqlExpression(this::quoted);
+                        // SQL Server has no NULLS FIRST/LAST and always orders NULLs as the lowest values, so order by nullness first
+                        String nullsHandling = format("(CASE WHEN %s IS NULL THEN 1 ELSE 0 END) %s", expression, sortItem.getSortOrder().isNullsFirst() ? "DESC" : "ASC");
+                        return Stream.of(nullsHandling, expression + " " + ordering);
+                    })
+                    .collect(joining(", "));
+            return format("SELECT TOP %s %s ORDER BY %s", limit, query.substring(start.length()), orderBy);
+        });
+    }
+
+    @Override
+    public boolean isTopNGuaranteed(ConnectorSession session)
+    {
+        return true;
+    }
+
+    @Override
+    public JdbcPageWriter createPageWriter(ConnectorSession session, Connection connection, JdbcOutputTableHandle handle, List<WriteFunction> columnWriters, int batchSize)
+    {
+        // a table value constructor is limited in rows as well as in parameters
+        return new MultiRowInsertPageWriter(
+                connection,
+                rows -> buildMultiRowInsertSql(handle, columnWriters, rows),
+                handle.getColumnTypes(),
+                columnWriters,
+                min(batchSize, MAX_VALUES_ROWS),
+                MAX_BIND_PARAMETERS);
+    }
+
     @Override
     protected String createTableSql(RemoteTableName remoteTableName, List<String> columns, ConnectorTableMetadata tableMetadata)
     {
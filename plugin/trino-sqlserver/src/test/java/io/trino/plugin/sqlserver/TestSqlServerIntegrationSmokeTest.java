@@ -16,19 +16,29 @@ package io.trino.plugin.sqlserver;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import io.trino.Session;
+import io.trino.sql.planner.assertions.PlanMatchPattern;
 import io.trino.sql.planner.plan.AggregationNode;
+import io.trino.sql.planner.plan.JoinNode;
 import io.trino.sql.planner.plan.ProjectNode;
+import io.trino.sql.planner.plan.TableScanNode;
 import io.trino.testing.AbstractTestIntegrationSmokeTest;
+import io.trino.testing.MaterializedResult;
+import io.trino.testing.MaterializedRow;
 import io.trino.testing.QueryRunner;
 import io.trino.testing.sql.TestTable;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Objects;
+
+import static com.google.common.collect.MoreCollectors.onlyElement;
 import static io.trino.plugin.sqlserver.DataCompression.NONE;
 import static io.trino.plugin.sqlserver.DataCompression.PAGE;
 import static io.trino.plugin.sqlserver.DataCompression.ROW;
 import static io.trino.plugin.sqlserver.SqlServerQueryRunner.createSqlServerQueryRunner;
+import static io.trino.sql.planner.assertions.PlanMatchPattern.anyTree;
+import static io.trino.sql.planner.assertions.PlanMatchPattern.node;
 import static io.trino.testing.sql.TestTable.randomTableSuffix;
 import static io.trino.tpch.TpchTable.CUSTOMER;
 import static io.trino.tpch.TpchTable.NATION;
@@ -39,6 +49,7 @@ import static java.util.stream.Collectors.joining;
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 @Test
@@ -305,6 +316,53 @@ public class TestSqlServerIntegrationSmokeTest
         assertThat(query("SELECT regionkey, count(*) FROM nation WHERE name < 'EGYPT' GROUP BY regionkey LIMIT 3")).isFullyPushedDown();
     }
 
+    @Test
+    public void testJoinPushdown()
+    {
+        Session session = joinPushdownEnabled(getSession());
+
+        // equi-join on bigint collapses into a single table scan
+        assertThat(query(session, "SELECT r.name, n.name FROM nation n JOIN region r ON n.regionkey = r.regionkey")).isFullyPushedDown();
+        assertThat(query(session, "SELECT r.name, n.name FROM nation n LEFT JOIN region r ON n.regionkey = r.regionkey")).isFullyPushedDown();
+        assertThat(query(session, "SELECT r.name, n.name FROM nation n RIGHT JOIN region r ON n.regionkey = r.regionkey")).isFullyPushedDown();
+        assertThat(query(session, "SELECT r.name, n.name FROM nation n FULL JOIN region r ON n.regionkey = r.regionkey")).isFullyPushedDown();
+
+        // join with a pushed down filter on each side
+        assertThat(query(session, "SELECT n.name FROM nation n JOIN region r ON n.regionkey = r.regionkey WHERE n.nationkey < 10 AND r.name = 'ASIA'")).isFullyPushedDown();
+
+        // comparison of bigint columns in join filter
+        assertThat(query(session, "SELECT n.name, c.name FROM nation n JOIN customer c ON n.nationkey = c.nationkey AND n.regionkey < c.custkey")).isFullyPushedDown();
+
+        // varchar comparison depends on the remote collation, which can be case insensitive
+        assertThat(query(session, "SELECT n.name, n2.regionkey FROM nation n JOIN nation n2 ON n.name = n2.name")).isNotFullyPushedDown(joinOverTableScans());
+
+        // join pushdown disabled
+        assertThat(query("SELECT r.name, n.name FROM nation n JOIN region r ON n.regionkey = r.regionkey")).isNotFullyPushedDown(joinOverTableScans());
+    }
+
+    @Test
+    public void testTableStatistics()
+    {
+        String tableName = "test_stats" + randomTableSuffix();
+        sqlServer.execute(format("SELECT nationkey, regionkey, name INTO %s FROM nation", tableName));
+        try {
+            // row count is maintained by SQL Server, column statistics only exist once created
+            MaterializedResult statistics = computeActual("SHOW STATS FOR " + tableName);
+            assertEquals(getColumnStatistics(statistics, null).getField(4), 25.0);
+            assertNull(getColumnStatistics(statistics, "regionkey").getField(2));
+
+            sqlServer.execute(format("CREATE STATISTICS %1$s_regionkey ON %1$s (regionkey) WITH FULLSCAN", tableName));
+            statistics = computeActual("SHOW STATS FOR " + tableName);
+            assertEquals(getColumnStatistics(statistics, null).getField(4), 25.0);
+            assertEquals(getColumnStatistics(statistics, "regionkey").getField(2), 5.0);
+            assertEquals(getColumnStatistics(statistics, "regionkey").getField(3), 0.0);
+            assertNull(getColumnStatistics(statistics, "nationkey").getField(2));
+        }
+        finally {
+            sqlServer.execute("DROP TABLE " + tableName);
+        }
+    }
+
     @Test
     public void testTooLargeDomainCompactionThreshold()
     {
@@ -475,6 +533,28 @@ public class TestSqlServerIntegrationSmokeTest
         assertUpdate("DROP TABLE test_show_unique_constraint_table");
     }
 
+    private static Session joinPushdownEnabled(Session session)
+    {
+        return Session.builder(session)
+                .setCatalogSessionProperty(session.getCatalog().orElseThrow(), "join_pushdown_enabled", "true")
+                .setCatalogSessionProperty(session.getCatalog().orElseThrow(), "join_pushdown_strategy", "EAGER")
+                .build();
+    }
+
+    private static PlanMatchPattern joinOverTableScans()
+    {
+        return node(JoinNode.class,
+                anyTree(node(TableScanNode.class)),
+                anyTree(node(TableScanNode.class)));
+    }
+
+    private static MaterializedRow getColumnStatistics(MaterializedResult statistics, String columnName)
+    {
+        return statistics.getMaterializedRows().stream()
+                .filter(row -> Objects.equals(row.getField(0), columnName))
+                .collect(onlyElement());
+    }
+
     private String getLongInClause(int start, int length)
     {
         String longValues = range(start, start + length)
@@ -0,0 +1,225 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.tpch;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.spi.Page;
+import io.trino.spi.PageBuilder;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.block.LazyBlock;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.predicate.Domain;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.type.Type;
+import io.trino.tpch.TpchColumn;
+import io.trino.tpch.TpchColumnType;
+import io.trino.tpch.TpchEntity;
+import io.trino.tpch.TpchTable;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.airlift.slice.Slices.utf8Slice;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Generates the rows of a TPC-H table part straight into the blocks of the projected columns.
+ * Rows are filtered against the pushed down predicate by looking only at the constrained columns,
+ * before any of the projected values are written.
+ * <p>
+ * Pages are wrapped into lazy blocks. This enables counting of materialized bytes
+ * for testing purposes.
+ */
+class TpchPageSource<E extends TpchEntity>
+        implements ConnectorPageSource
+{
+    private static final int ROWS_PER_REQUEST = 4096;
+
+    private final int maxRowsPerPage;
+    private final Iterator<E> rows;
+    private final List<TpchColumn<E>> columns;
+    private final List<Type> types;
+    private final List<ColumnFilter<E>> filters;
+    private final PageBuilder pageBuilder;
+    private boolean closed;
+
+    TpchPageSource(int maxRowsPerPage, TpchTable<E> table, List<TpchColumn<E>> columns, double scaleFactor, int part, int partCount, TupleDomain<ColumnHandle> predicate)
+    {
+        requireNonNull(table, "table is null");
+        requireNonNull(predicate, "predicate is null");
+
+        this.maxRowsPerPage = maxRowsPerPage;
+        this.columns = ImmutableList.copyOf(requireNonNull(columns, "columns is null"));
+        this.types = columns.stream()
+                .map(TpchMetadata::getPrestoType)
+                .collect(toImmutableList());
+        this.pageBuilder = new PageBuilder(types);
+
+        if (predicate.isNone()) {
+            // nothing can match, so do not start the generator at all
+            this.rows = null;
+            this.filters = ImmutableList.of();
+            this.closed = true;
+            return;
+        }
+
+        this.rows = table.createGenerator(scaleFactor, part, partCount).iterator();
+        ImmutableList.Builder<ColumnFilter<E>> filters = ImmutableList.builder();
+        for (Map.Entry<ColumnHandle, Domain> entry : predicate.getDomains().get().entrySet()) {
+            TpchColumnHandle column = (TpchColumnHandle) entry.getKey();
+            filters.add(new ColumnFilter<>(table.getColumn(column.getColumnName()), entry.getValue()));
+        }
+        this.filters = filters.build();
+    }
+
+    @Override
+    public long getCompletedBytes()
+    {
+        return 0;
+    }
+
+    @Override
+    public long getReadTimeNanos()
+    {
+        return 0;
+    }
+
+    @Override
+    public long getSystemMemoryUsage()
+    {
+        return pageBuilder.getSizeInBytes();
+    }
+
+    @Override
+    public void close()
+    {
+        closed = true;
+    }
+
+    @Override
+    public boolean isFinished()
+    {
+        return closed && pageBuilder.isEmpty();
+    }
+
+    @Override
+    public Page getNextPage()
+    {
+        if (!closed) {
+            int generatedRows = 0;
+            while (generatedRows < ROWS_PER_REQUEST && !pageBuilder.isFull() && pageBuilder.getPositionCount() < maxRowsPerPage) {
+                if (!rows.hasNext()) {
+                    closed = true;
+                    break;
+                }
+                E row = rows.next();
+                generatedRows++;
+                if (!matches(row)) {
+                    continue;
+                }
+
+                pageBuilder.declarePosition();
+                for (int column = 0; column < columns.size(); column++) {
+                    writeValue(columns.get(column), types.get(column), row, pageBuilder.getBlockBuilder(column));
+                }
+            }
+        }
+
+        if ((closed && !pageBuilder.isEmpty()) || pageBuilder.isFull() || pageBuilder.getPositionCount() >= maxRowsPerPage) {
+            Page page = pageBuilder.build();
+            pageBuilder.reset();
+            return lazyWrapper(page);
+        }
+
+        return null;
+    }
+
+    private boolean matches(E row)
+    {
+        for (ColumnFilter<E> filter : filters) {
+            if (!filter.matches(row)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <E extends TpchEntity> void writeValue(TpchColumn<E> column, Type type, E row, BlockBuilder output)
+    {
+        switch (column.getType().getBase()) {
+            case IDENTIFIER:
+                type.writeLong(output, column.getIdentifier(row));
+                return;
+            case INTEGER:
+                type.writeLong(output, column.getInteger(row));
+                return;
+            case DATE:
+                type.writeLong(output, column.getDate(row));
+                return;
+            case DOUBLE:
+                type.writeDouble(output, column.getDouble(row));
+                return;
+            case VARCHAR:
+                type.writeSlice(output, utf8Slice(column.getString(row)));
+                return;
+        }
+        throw new IllegalArgumentException("Unsupported type " + column.getType());
+    }
+
+    private static Page lazyWrapper(Page page)
+    {
+        Block[] lazyBlocks = new Block[page.getChannelCount()];
+        for (int i = 0; i < page.getChannelCount(); ++i) {
+            Block block = page.getBlock(i);
+            lazyBlocks[i] = new LazyBlock(page.getPositionCount(), () -> block);
+        }
+
+        return new Page(page.getPositionCount(), lazyBlocks);
+    }
+
+    private static class ColumnFilter<E extends TpchEntity>
+    {
+        private final TpchColumn<E> column;
+        private final Domain domain;
+        private final TpchColumnType.Base base;
+
+        public ColumnFilter(TpchColumn<E> column, Domain domain)
+        {
+            this.column = requireNonNull(column, "column is null");
+            this.domain = requireNonNull(domain, "domain is null");
+            this.base = column.getType().getBase();
+        }
+
+        public boolean matches(E row)
+        {
+            switch (base) {
+                case IDENTIFIER:
+                    return domain.includesNullableValue(column.getIdentifier(row));
+                case INTEGER:
+                    return domain.includesNullableValue((long) column.getInteger(row));
+                case DATE:
+                    return domain.includesNullableValue((long) column.getDate(row));
+                case DOUBLE:
+                    return domain.includesNullableValue(column.getDouble(row));
+                case VARCHAR:
+                    return domain.includesNullableValue(utf8Slice(column.getString(row)));
+            }
+            throw new IllegalArgumentException("Unsupported type " + column.getType());
+        }
+    }
+}
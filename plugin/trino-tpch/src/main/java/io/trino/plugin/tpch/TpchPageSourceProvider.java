@@ -21,13 +21,16 @@ import io.trino.spi.connector.ConnectorSplit;
 import io.trino.spi.connector.ConnectorTableHandle;
 import io.trino.spi.connector.ConnectorTransactionHandle;
 import io.trino.spi.predicate.TupleDomain;
+import io.trino.tpch.TpchEntity;
+import io.trino.tpch.TpchTable;
 
 import java.util.List;
 
+import static io.trino.plugin.tpch.TpchRecordSetProvider.getTpchColumns;
+
 public class TpchPageSourceProvider
         implements ConnectorPageSourceProvider
 {
-    private final TpchRecordSetProvider tpchRecordSetProvider = new TpchRecordSetProvider();
     private final int maxRowsPerPage;
 
     TpchPageSourceProvider(int maxRowsPerPage)
@@ -44,6 +47,26 @@ public class TpchPageSourceProvider
             List<ColumnHandle> columns,
             TupleDomain<ColumnHandle> dynamicFilter)
     {
-        return new LazyRecordPageSource(maxRowsPerPage, tpchRecordSetProvider.getRecordSet(transaction, session, split, table, columns));
+        TpchSplit tpchSplit = (TpchSplit) split;
+        TpchTableHandle tpchTable = (TpchTableHandle) table;
+
+        return createPageSource(
+                TpchTable.getTable(tpchTable.getTableName()),
+                columns,
+                tpchTable.getScaleFactor(),
+                tpchSplit.getPartNumber(),
+                tpchSplit.getTotalParts(),
+                tpchTable.getConstraint());
+    }
+
+    private <E extends TpchEntity> ConnectorPageSource createPageSource(
+            TpchTable<E> table,
+            List<ColumnHandle> columns,
+            double scaleFactor,
+            int partNumber,
+            int totalParts,
+            TupleDomain<ColumnHandle> predicate)
+    {
+        return new TpchPageSource<>(maxRowsPerPage, table, getTpchColumns(table, columns), scaleFactor, partNumber + 1, totalParts, predicate);
     }
 }
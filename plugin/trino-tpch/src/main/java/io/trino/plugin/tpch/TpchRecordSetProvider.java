@@ -57,6 +57,11 @@ public class TpchRecordSetProvider
             int partNumber,
             int totalParts,
             TupleDomain<ColumnHandle> predicate)
+    {
+        return createTpchRecordSet(table, getTpchColumns(table, columns), scaleFactor, partNumber + 1, totalParts, predicate);
+    }
+
+    static <E extends TpchEntity> List<TpchColumn<E>> getTpchColumns(TpchTable<E> table, List<? extends ColumnHandle> columns)
     {
         ImmutableList.Builder<TpchColumn<E>> builder = ImmutableList.builder();
         for (ColumnHandle column : columns) {
@@ -68,8 +73,7 @@ public class TpchRecordSetProvider
                 builder.add(table.getColumn(columnName));
             }
         }
-
-        return createTpchRecordSet(table, builder.build(), scaleFactor, partNumber + 1, totalParts, predicate);
+        return builder.build();
     }
 
     private static class RowNumberTpchColumn<E extends TpchEntity>
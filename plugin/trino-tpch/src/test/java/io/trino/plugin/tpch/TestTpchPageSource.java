@@ -0,0 +1,140 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.tpch;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.connector.RecordCursor;
+import io.trino.spi.predicate.Domain;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.type.Type;
+import io.trino.tpch.TpchColumn;
+import io.trino.tpch.TpchEntity;
+import io.trino.tpch.TpchTable;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.airlift.slice.Slices.utf8Slice;
+import static io.trino.plugin.tpch.TpchMetadata.getPrestoType;
+import static io.trino.plugin.tpch.TpchRecordSet.createTpchRecordSet;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.tpch.OrderColumn.ORDER_KEY;
+import static io.trino.tpch.OrderColumn.ORDER_STATUS;
+import static io.trino.tpch.TpchTable.LINE_ITEM;
+import static io.trino.tpch.TpchTable.NATION;
+import static io.trino.tpch.TpchTable.ORDERS;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestTpchPageSource
+{
+    private static final double SCALE_FACTOR = 0.01;
+
+    @Test
+    public void testMatchesRecordSet()
+    {
+        assertSameRows(NATION, NATION.getColumns(), 1, 1, TupleDomain.all());
+        assertSameRows(ORDERS, ORDERS.getColumns(), 2, 3, TupleDomain.all());
+        assertSameRows(LINE_ITEM, LINE_ITEM.getColumns(), 1, 4, TupleDomain.all());
+    }
+
+    @Test
+    public void testProjection()
+    {
+        assertSameRows(ORDERS, ImmutableList.of(ORDER_STATUS, ORDER_KEY), 1, 2, TupleDomain.all());
+        assertSameRows(ORDERS, ImmutableList.of(), 1, 2, TupleDomain.all());
+    }
+
+    @Test
+    public void testPredicate()
+    {
+        TpchColumnHandle orderStatus = new TpchColumnHandle(ORDER_STATUS.getSimplifiedColumnName(), getPrestoType(ORDER_STATUS));
+        TpchColumnHandle orderKey = new TpchColumnHandle(ORDER_KEY.getSimplifiedColumnName(), BIGINT);
+
+        assertSameRows(ORDERS, ImmutableList.of(ORDER_KEY), 1, 2, TupleDomain.withColumnDomains(ImmutableMap.of(
+                orderStatus, Domain.singleValue(getPrestoType(ORDER_STATUS), utf8Slice("F")))));
+        assertSameRows(ORDERS, ImmutableList.of(ORDER_STATUS), 1, 2, TupleDomain.withColumnDomains(ImmutableMap.of(
+                orderStatus, Domain.singleValue(getPrestoType(ORDER_STATUS), utf8Slice("P")),
+                orderKey, Domain.multipleValues(BIGINT, ImmutableList.of(7L, 32L, 33L, 65L)))));
+        assertSameRows(ORDERS, ImmutableList.of(ORDER_KEY), 1, 2, TupleDomain.none());
+    }
+
+    private static <E extends TpchEntity> void assertSameRows(TpchTable<E> table, List<TpchColumn<E>> columns, int part, int partCount, TupleDomain<ColumnHandle> predicate)
+    {
+        List<Type> types = columns.stream()
+                .map(TpchMetadata::getPrestoType)
+                .collect(toImmutableList());
+
+        List<List<Object>> expected = new ArrayList<>();
+        RecordCursor cursor = createTpchRecordSet(table, columns, SCALE_FACTOR, part, partCount, predicate).cursor();
+        while (cursor.advanceNextPosition()) {
+            List<Object> row = new ArrayList<>();
+            for (int column = 0; column < types.size(); column++) {
+                row.add(getValue(cursor, types.get(column), column));
+            }
+            expected.add(row);
+        }
+
+        List<List<Object>> actual = new ArrayList<>();
+        // a small page size makes the rows span many pages
+        ConnectorPageSource pageSource = new TpchPageSource<>(100, table, columns, SCALE_FACTOR, part, partCount, predicate);
+        while (!pageSource.isFinished()) {
+            Page page = pageSource.getNextPage();
+            if (page == null) {
+                continue;
+            }
+            assertTrue(page.getPositionCount() <= 100);
+            for (int position = 0; position < page.getPositionCount(); position++) {
+                List<Object> row = new ArrayList<>();
+                for (int column = 0; column < types.size(); column++) {
+                    row.add(getValue(page.getBlock(column), types.get(column), position));
+                }
+                actual.add(row);
+            }
+        }
+        assertNull(pageSource.getNextPage());
+
+        assertEquals(actual, expected);
+    }
+
+    private static Object getValue(RecordCursor cursor, Type type, int field)
+    {
+        if (type.getJavaType() == long.class) {
+            return cursor.getLong(field);
+        }
+        if (type.getJavaType() == double.class) {
+            return cursor.getDouble(field);
+        }
+        return cursor.getSlice(field);
+    }
+
+    private static Object getValue(Block block, Type type, int position)
+    {
+        if (type.getJavaType() == long.class) {
+            return type.getLong(block, position);
+        }
+        if (type.getJavaType() == double.class) {
+            return type.getDouble(block, position);
+        }
+        return type.getSlice(block, position);
+    }
+}